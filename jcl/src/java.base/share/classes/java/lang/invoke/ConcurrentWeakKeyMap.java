@@ -0,0 +1,152 @@
+/*[INCLUDE-IF Sidecar17 & !OPENJDK_METHODHANDLES]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package java.lang.invoke;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A concurrent map whose keys are weakly held, used in place of
+ * Collections.synchronizedMap(new WeakHashMap()) for the MethodType intern
+ * table and the per-class HandleCache tables.
+ * <p>
+ * Lookups take no lock.  Entries whose keys have been collected are removed
+ * from the map the next time an entry is added.  Values are strongly held,
+ * as they are in a WeakHashMap, so callers that must not keep the key alive
+ * through the value wrap the value in a WeakReference.
+ */
+final class ConcurrentWeakKeyMap<K, V> {
+	private final ConcurrentHashMap<Object, V> table = new ConcurrentHashMap<>();
+	private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+	/* Weakly held key stored in the table.  The hash code is cached so the entry
+	 * can still be found and removed once the referent has been collected.
+	 */
+	private static final class WeakKey<K> extends WeakReference<K> {
+		private final int hash;
+
+		WeakKey(K key, ReferenceQueue<K> queue) {
+			super(key, queue);
+			hash = key.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o instanceof WeakKey) {
+				Object key = get();
+				return (key != null) && key.equals(((WeakKey<?>) o).get());
+			}
+			return false;
+		}
+	}
+
+	/* Strongly held key used to probe the table without allocating a WeakReference. */
+	private static final class LookupKey {
+		private final Object key;
+		private final int hash;
+
+		LookupKey(Object key) {
+			this.key = key;
+			hash = key.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof WeakKey) {
+				return key.equals(((WeakKey<?>) o).get());
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the value mapped to key, or null if there is none.
+	 *
+	 * @param key - the key to look up, must not be null
+	 * @return the value mapped to key or null
+	 */
+	V get(Object key) {
+		return table.get(new LookupKey(key));
+	}
+
+	/**
+	 * Maps key to value, replacing any existing mapping.
+	 *
+	 * @param key - the key, must not be null
+	 * @param value - the value, must not be null
+	 * @return the previous value mapped to key or null
+	 */
+	V put(K key, V value) {
+		expungeStaleEntries();
+		return table.put(new WeakKey<K>(key, queue), value);
+	}
+
+	/**
+	 * Maps key to value unless key is already mapped.
+	 *
+	 * @param key - the key, must not be null
+	 * @param value - the value, must not be null
+	 * @return the value already mapped to key, or null if value was added
+	 */
+	V putIfAbsent(K key, V value) {
+		expungeStaleEntries();
+		return table.putIfAbsent(new WeakKey<K>(key, queue), value);
+	}
+
+	/**
+	 * Replaces the mapping for key only if it is currently mapped to oldValue.
+	 *
+	 * @param key - the key, must not be null
+	 * @param oldValue - the value expected to be mapped to key
+	 * @param newValue - the value to map to key
+	 * @return true if the value was replaced
+	 */
+	boolean replace(K key, V oldValue, V newValue) {
+		return table.replace(new LookupKey(key), oldValue, newValue);
+	}
+
+	/* Remove the entries whose keys have been collected.  A cleared WeakKey is
+	 * only equal to itself, so removal can only match its own entry.
+	 */
+	private void expungeStaleEntries() {
+		Reference<? extends K> ref;
+		while ((ref = queue.poll()) != null) {
+			table.remove(ref);
+		}
+	}
+}
@@ -48,7 +48,6 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 /*[ENDIF] JAVA_SPEC_VERSION >= 12 */
 import java.util.Set;
-import java.util.WeakHashMap;
 
 import com.ibm.oti.util.Msg;
 import com.ibm.oti.vm.VM;
@@ -80,10 +79,7 @@ public final class MethodType implements Serializable
 	private MethodTypeForm form;
 /*[ENDIF]*/	
 
-	private static Map<MethodType, WeakReference<MethodType>> internTable = Collections.synchronizedMap(new WeakHashMap<MethodType, WeakReference<MethodType>>());
-	// lock object to control insertion of new MTs
-	static final class InternTableAddLock { }
-	private static InternTableAddLock internTableAddLock = new InternTableAddLock();
+	private static final ConcurrentWeakKeyMap<MethodType, WeakReference<MethodType>> internTable = new ConcurrentWeakKeyMap<>();
 	
 	@VMCONSTANTPOOL_FIELD
 	final Class<?> rtype;
@@ -623,44 +619,49 @@ public final class MethodType implements Serializable
 			return type;
 		}
 	
-		/* Check for the item under lock to prevent multiple threads from 
-		 * successfully interning the same MethodType.  Use a lock object
-		 * other than the intern table so other threads can continue to
-		 * probe the table without waiting for unrelated MTs to be interned.
+		/* The intern table is probed without locking.  Threads that miss on the
+		 * same MethodType may each compute its state, but only the first one to
+		 * insert its tenured copy wins and all others return that copy.
 		 */
-		synchronized(internTableAddLock) {
-			type = probeTable();
+		int stackSlots = ptypes.length;
+		
+		for(Class<?> c : ptypes) {
+			/*[IF ]*/
+			/* getClass() gets compiled to just a NULLCHK and consumes fewer bytecodes than 'if (c == null) throw ...' */
+			/*[ENDIF]*/
+			c.getClass();	// Implicit nullcheck
+			if ((c == double.class) || (c == long.class)) {
+				stackSlots++;
+			} else if (c == void.class){
+				/*[MSG "K05d9", "invalid parameter: {}"]*/
+				throw new IllegalArgumentException(Msg.getString("K05d9", void.class)); //$NON-NLS-1$
+			}
+		}
+		if (stackSlots > 255) {
+			/*[MSG "K05d8", "MethodType would consume more than 255 argument slots: {0}"]*/
+			throw new IllegalArgumentException(Msg.getString("K05d8", stackSlots)); //$NON-NLS-1$
+		}
+		argSlots = stackSlots;
+
+		/* initialize expensive state */
+		stackDescriptionBits = stackDescriptionBits(ptypes, argSlots);
+		methodDescriptor = createMethodDescriptorString();
+
+		MethodType tenured = makeTenured(this);
+		WeakReference<MethodType> newRef = new WeakReference<MethodType>(tenured);
+		for (;;) {
+			WeakReference<MethodType> oldRef = internTable.putIfAbsent(tenured, newRef);
+			if (oldRef == null) {
+				return tenured;
+			}
+			type = oldRef.get();
 			if (type != null) {
 				return type;
 			}
-			
-			int stackSlots = ptypes.length;
-			
-			for(Class<?> c : ptypes) {
-				/*[IF ]*/
-				/* getClass() gets compiled to just a NULLCHK and consumes fewer bytecodes than 'if (c == null) throw ...' */
-				/*[ENDIF]*/
-				c.getClass();	// Implicit nullcheck
-				if ((c == double.class) || (c == long.class)) {
-					stackSlots++;
-				} else if (c == void.class){
-					/*[MSG "K05d9", "invalid parameter: {}"]*/
-					throw new IllegalArgumentException(Msg.getString("K05d9", void.class)); //$NON-NLS-1$
-				}
+			/* The existing entry has been cleared but not yet expunged. */
+			if (internTable.replace(tenured, oldRef, newRef)) {
+				return tenured;
 			}
-			if (stackSlots > 255) {
-				/*[MSG "K05d8", "MethodType would consume more than 255 argument slots: {0}"]*/
-				throw new IllegalArgumentException(Msg.getString("K05d8", stackSlots)); //$NON-NLS-1$
-			}
-			argSlots = stackSlots;
-
-			/* initialize expensive state */
-			stackDescriptionBits = stackDescriptionBits(ptypes, argSlots);
-			methodDescriptor = createMethodDescriptorString();
-
-			MethodType tenured = makeTenured(this);
-			internTable.put(tenured, new WeakReference<MethodType>(tenured));
-			return tenured;
 		}
 	}
 	
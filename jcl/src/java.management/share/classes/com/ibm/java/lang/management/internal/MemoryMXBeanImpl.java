@@ -864,6 +864,51 @@ public class MemoryMXBeanImpl extends LazyDelegatingNotifier implements MemoryMX
 		return getCurrentGCThreadsImpl();
 	}
 
+	/**
+	 * Returns the number of finalizer worker threads.
+	 *
+	 * @return number of finalizer worker threads
+	 * @see #getFinalizerWorkerThreads()
+	 */
+	private native int getFinalizerWorkerThreadsImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getFinalizerWorkerThreads() {
+		return getFinalizerWorkerThreadsImpl();
+	}
+
+	/**
+	 * Returns the number of finalization jobs completed since the virtual machine started.
+	 *
+	 * @return number of completed finalization jobs
+	 * @see #getFinalizerCompletedCount()
+	 */
+	private native long getFinalizerCompletedCountImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getFinalizerCompletedCount() {
+		return getFinalizerCompletedCountImpl();
+	}
+
+	/**
+	 * Returns the rate at which finalization jobs were completed during the last sample window kept by the virtual machine.
+	 *
+	 * @return finalization queue drain rate in jobs per second
+	 * @see #getFinalizerDrainRate()
+	 */
+	private native double getFinalizerDrainRateImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double getFinalizerDrainRate() {
+		return getFinalizerDrainRateImpl();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
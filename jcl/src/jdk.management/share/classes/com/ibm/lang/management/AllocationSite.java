@@ -0,0 +1,319 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.AllocationSiteUtil;
+
+/**
+ * This represents a snapshot of the statistics gathered by the allocation site
+ * profiler for a single allocation site. An allocation site is the method and
+ * bytecode (reported as a source line) that allocated the sampled objects, together
+ * with the class of those objects.
+ * <ul>
+ *     <li>Allocation sites are only profiled when the virtual machine is started
+ *     with <code>-Xgc:allocationSiteProfiler</code> and the gencon or balanced GC policy.
+ * </ul>
+ * @since 1.8
+ */
+public class AllocationSite {
+
+	private static final int HASHMASK = 0x0FFFFFFF;
+
+	private final String className;
+	private final String methodName;
+	private final int lineNumber;
+	private final String allocatedClassName;
+	private final long sampledBytes;
+	private final long samples;
+	private final long survivedSamples;
+	private final long diedSamples;
+
+	/**
+	 * Creates a new {@link AllocationSite} instance.
+	 *
+	 * @param className				The name of the class declaring the allocating method.
+	 * @param methodName			The name of the allocating method.
+	 * @param lineNumber			The source line of the allocation or -1 if not available.
+	 * @param allocatedClassName	The name of the class of the allocated objects.
+	 * @param sampledBytes			The number of bytes allocated by all threads that is attributed to this site.
+	 * @param samples				The number of allocations sampled at this site.
+	 * @param survivedSamples		The number of sampled objects that survived a garbage collection.
+	 * @param diedSamples			The number of sampled objects that did not survive a garbage collection.
+	 *
+	 * @throws IllegalArgumentException if
+	 * <ul><li>Any of the names is null; or
+	 * <li>The value of lineNumber is negative but not -1; or
+	 * <li>The values of sampledBytes or samples or survivedSamples or diedSamples are negative.
+	 * </ul>
+	 */
+	public AllocationSite(String className, String methodName, int lineNumber, String allocatedClassName,
+			long sampledBytes, long samples, long survivedSamples, long diedSamples) throws IllegalArgumentException {
+		super();
+		if ((null == className) || (null == methodName) || (null == allocatedClassName)) {
+			throw new IllegalArgumentException("null name"); //$NON-NLS-1$
+		}
+		if (lineNumber < -1) {
+			throw new IllegalArgumentException("lineNumber(" + lineNumber + ") < -1"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		if ((sampledBytes < 0) || (samples < 0) || (survivedSamples < 0) || (diedSamples < 0)) {
+			throw new IllegalArgumentException("For " + className + "." + methodName + ", negative sample count"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		this.className = className;
+		this.methodName = methodName;
+		this.lineNumber = lineNumber;
+		this.allocatedClassName = allocatedClassName;
+		this.sampledBytes = sampledBytes;
+		this.samples = samples;
+		this.survivedSamples = survivedSamples;
+		this.diedSamples = diedSamples;
+	}
+
+	/**
+	 * The name of the class declaring the allocating method.
+	 *
+	 * @return The fully qualified class name.
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * The name of the allocating method.
+	 *
+	 * @return The method name.
+	 */
+	public String getMethodName() {
+		return this.methodName;
+	}
+
+	/**
+	 * The source line of the allocation.
+	 *
+	 * @return The line number or -1 if not available.
+	 */
+	public int getLineNumber() {
+		return this.lineNumber;
+	}
+
+	/**
+	 * The name of the class of the objects allocated at this site.
+	 *
+	 * @return The fully qualified class name.
+	 */
+	public String getAllocatedClassName() {
+		return this.allocatedClassName;
+	}
+
+	/**
+	 * An estimate of the bytes allocated at this site: each sample is charged
+	 * the sampling interval.
+	 *
+	 * @return The sampled bytes.
+	 */
+	public long getSampledBytes() {
+		return this.sampledBytes;
+	}
+
+	/**
+	 * The number of allocations sampled at this site.
+	 *
+	 * @return The number of samples.
+	 */
+	public long getSamples() {
+		return this.samples;
+	}
+
+	/**
+	 * The number of sampled objects that were still live after the first
+	 * garbage collection following their allocation.
+	 *
+	 * @return The number of surviving samples.
+	 */
+	public long getSurvivedSamples() {
+		return this.survivedSamples;
+	}
+
+	/**
+	 * The number of sampled objects that were collected by the first
+	 * garbage collection following their allocation.
+	 *
+	 * @return The number of dead samples.
+	 */
+	public long getDiedSamples() {
+		return this.diedSamples;
+	}
+
+	/**
+	 * The fraction of followed samples that survived their first garbage collection.
+	 *
+	 * @return A value between 0 and 1 or -1 if no sample has been through a garbage collection yet.
+	 */
+	public double getSurvivalRate() {
+		long evaluated = this.survivedSamples + this.diedSamples;
+		double rate = -1.0;
+
+		if (0 != evaluated) {
+			rate = (double) this.survivedSamples / evaluated;
+		}
+		return rate;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing an {@link AllocationSite}
+	 * object and attempts to return the root {@link AllocationSite}
+	 * instance.
+	 *
+	 * @param cd	A {@link javax.management.openmbean.CompositeData} that represents an {@link AllocationSite}
+	 *
+	 * @return	if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link AllocationSite}, If <code>cd</code>
+	 * 		is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException	if argument <code>cd</code> does not correspond to an
+	 * 		{@link AllocationSite} with the following attributes:
+	 * 		<ul>
+	 * 		<li><code>className</code>(<code>java.lang.String</code>)</li>
+	 * 		<li><code>methodName</code>(<code>java.lang.String</code>)</li>
+	 * 		<li><code>lineNumber</code>(<code>java.lang.Integer</code>)</li>
+	 * 		<li><code>allocatedClassName</code>(<code>java.lang.String</code>)</li>
+	 * 		<li><code>sampledBytes</code>(<code>java.lang.Long</code>)</li>
+	 * 		<li><code>samples</code>(<code>java.lang.Long</code>)</li>
+	 * 		<li><code>survivedSamples</code>(<code>java.lang.Long</code>)</li>
+	 * 		<li><code>diedSamples</code>(<code>java.lang.Long</code>)</li>
+	 * 		<li><code>survivalRate</code>(<code>java.lang.Double</code>)</li>
+	 * 		</ul>
+	 */
+	public static AllocationSite from(CompositeData cd) {
+		AllocationSite result = null;
+
+		if (null != cd) {
+			// Is the new received CompositeData of the required type to create
+			// a new AllocationSite ?
+			if (!AllocationSiteUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			String className;
+			String methodName;
+			int lineNumber;
+			String allocatedClassName;
+			long sampledBytes;
+			long samples;
+			long survivedSamples;
+			long diedSamples;
+
+			try {
+				className = (String) cd.get("className"); //$NON-NLS-1$
+				methodName = (String) cd.get("methodName"); //$NON-NLS-1$
+				lineNumber = ((Integer) cd.get("lineNumber")).intValue(); //$NON-NLS-1$
+				allocatedClassName = (String) cd.get("allocatedClassName"); //$NON-NLS-1$
+				sampledBytes = ((Long) cd.get("sampledBytes")).longValue(); //$NON-NLS-1$
+				samples = ((Long) cd.get("samples")).longValue(); //$NON-NLS-1$
+				survivedSamples = ((Long) cd.get("survivedSamples")).longValue(); //$NON-NLS-1$
+				diedSamples = ((Long) cd.get("diedSamples")).longValue(); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+
+			result = new AllocationSite(className, methodName, lineNumber, allocatedClassName,
+					sampledBytes, samples, survivedSamples, diedSamples);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link AllocationSite} object.
+	 *
+	 * @return Text description of this {@link AllocationSite} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(this.className);
+		sb.append('.');
+		sb.append(this.methodName);
+		sb.append('(');
+		if (-1 == this.lineNumber) {
+			sb.append("Unknown Source"); //$NON-NLS-1$
+		} else {
+			sb.append(this.lineNumber);
+		}
+		sb.append(") "); //$NON-NLS-1$
+		sb.append(this.allocatedClassName);
+		sb.append(": sampledBytes = "); //$NON-NLS-1$
+		sb.append(this.sampledBytes);
+		sb.append(", samples = "); //$NON-NLS-1$
+		sb.append(this.samples);
+		sb.append(", survivalRate = "); //$NON-NLS-1$
+		sb.append(getSurvivalRate());
+
+		return sb.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof AllocationSite)) {
+			return false;
+		}
+
+		AllocationSite site = (AllocationSite) obj;
+
+		return this.className.equals(site.className)
+				&& this.methodName.equals(site.methodName)
+				&& (this.lineNumber == site.lineNumber)
+				&& this.allocatedClassName.equals(site.allocatedClassName)
+				&& (this.sampledBytes == site.sampledBytes)
+				&& (this.samples == site.samples)
+				&& (this.survivedSamples == site.survivedSamples)
+				&& (this.diedSamples == site.diedSamples);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		long sHash = this.className.hashCode()
+				+ this.methodName.hashCode()
+				+ this.lineNumber
+				+ this.allocatedClassName.hashCode()
+				+ this.sampledBytes
+				+ this.samples
+				+ this.survivedSamples
+				+ this.diedSamples;
+		return (int) ((((sHash >> 32) + sHash) & HASHMASK) * 23);
+	}
+
+}
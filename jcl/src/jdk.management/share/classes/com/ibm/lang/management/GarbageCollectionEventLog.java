@@ -0,0 +1,339 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.lang.management;
+
+import java.io.Closeable;
+import java.io.IOException;
+/*[IF JAVA_SPEC_VERSION >= 9]*/
+import java.lang.invoke.VarHandle;
+/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Reads the binary garbage collection event log written by a VM started with
+ * <code>-Xgc:verboseBinaryLog=&lt;file&gt;</code>. The VM stores fixed size records
+ * into a memory mapped ring in the file, so the log can be followed while the VM runs,
+ * from the same or another process, without parsing verbose GC XML.
+ * <p>
+ * The ring holds <code>-Xgc:verboseBinaryLogRecords=&lt;n&gt;</code> records (65536 by default).
+ * A reader that falls behind by more than that loses the oldest records; the number lost
+ * is reported by {@link #getLostEventCount()}.
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @since 1.8
+ */
+public final class GarbageCollectionEventLog implements Closeable {
+
+	/* "J9GE" as written by a little endian VM */
+	private static final int MAGIC = 0x45474A39;
+	private static final int SUPPORTED_VERSION = 1;
+
+	/* header layout, see J9GCBinaryEventLogHeader */
+	private static final int HEADER_MAGIC = 0;
+	private static final int HEADER_VERSION = 4;
+	private static final int HEADER_SIZE = 6;
+	private static final int HEADER_RECORD_SIZE = 8;
+	private static final int HEADER_CAPACITY = 12;
+	private static final int HEADER_NEXT_SEQUENCE = 16;
+	private static final int HEADER_START_TIME_MILLIS = 32;
+	private static final int MINIMUM_HEADER_SIZE = 40;
+
+	/* record layout, see J9GCBinaryEventRecord */
+	private static final int RECORD_SEQUENCE = 0;
+	private static final int RECORD_TIMESTAMP = 8;
+	private static final int RECORD_TYPE = 16;
+	private static final int RECORD_WORKER_ID = 18;
+	private static final int RECORD_CYCLE_ID = 20;
+	private static final int RECORD_PAYLOAD = 24;
+	private static final int PAYLOAD_SLOTS = 5;
+	private static final int MINIMUM_RECORD_SIZE = RECORD_PAYLOAD + (PAYLOAD_SLOTS * 8);
+
+	/*[IF JAVA_SPEC_VERSION < 9]*/
+	private static final sun.misc.Unsafe unsafe = sun.misc.Unsafe.getUnsafe();
+	/*[ENDIF] JAVA_SPEC_VERSION < 9 */
+
+	/**
+	 * A single record of the log. The instance passed to the consumer given to
+	 * {@link GarbageCollectionEventLog#poll(Consumer)} is reused for every record,
+	 * so consumers must copy any values they want to keep.
+	 */
+	public static final class Event {
+		/** A garbage collection cycle started. Payload: the cycle type. */
+		public static final int CYCLE_START = 1;
+		/** A garbage collection cycle ended. Payload: the cycle type, the cycle time in nanoseconds. */
+		public static final int CYCLE_END = 2;
+		/** The garbage collector acquired exclusive access, stopping application threads. No payload. */
+		public static final int PAUSE_START = 3;
+		/** The garbage collector released exclusive access. Payload: the pause time in nanoseconds. */
+		public static final int PAUSE_END = 4;
+		/**
+		 * A scavenge ended. Payload: bytes flipped, flip bytes discarded, bytes tenured,
+		 * tenure bytes discarded, the scavenge time in microseconds.
+		 */
+		public static final int SCAVENGE_END = 5;
+		/**
+		 * A copy forward ended. Payload: eden objects copied, eden bytes copied, non-eden objects copied,
+		 * non-eden bytes copied, 1 if the copy forward was aborted or 0 otherwise.
+		 */
+		public static final int COPY_FORWARD_END = 6;
+		/**
+		 * Memory pool sizes, recorded after every cycle start and end. Payload: nursery free bytes,
+		 * nursery total bytes, tenure free bytes, tenure total bytes, large object area free bytes.
+		 */
+		public static final int MEMORY_POOLS = 7;
+
+		long sequence;
+		long timestamp;
+		int type;
+		int workerID;
+		int cycleID;
+		final long[] payload = new long[PAYLOAD_SLOTS];
+
+		Event() {
+			super();
+		}
+
+		/**
+		 * @return the position of this record in the log, starting at 0
+		 */
+		public long getSequence() {
+			return sequence;
+		}
+
+		/**
+		 * @return the time of the event in nanoseconds since the log was created
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * @return one of the record type constants of this class
+		 */
+		public int getType() {
+			return type;
+		}
+
+		/**
+		 * @return the garbage collection worker that reported the event, 0 for the main thread
+		 */
+		public int getWorkerID() {
+			return workerID;
+		}
+
+		/**
+		 * Answer the ID of the garbage collection cycle this event belongs to. Cycles are numbered
+		 * from 1 in the order they start. A cycle can start inside another one, for example a scavenge
+		 * during a concurrent global cycle; events are then given the ID of the innermost open cycle.
+		 * The {@link #CYCLE_START} and {@link #CYCLE_END} events of a cycle always have its ID.
+		 *
+		 * @return the ID of the cycle of this event
+		 */
+		public int getCycleID() {
+			return cycleID;
+		}
+
+		/**
+		 * Answer a value of the record payload. The meaning of each value depends on the record type.
+		 *
+		 * @param index the payload value to answer, from 0 to 4
+		 * @return the payload value
+		 * @throws IndexOutOfBoundsException if the index is out of range
+		 */
+		public long getPayload(int index) {
+			return payload[index];
+		}
+	}
+
+	private ByteBuffer buffer;
+	private final int headerSize;
+	private final int recordSize;
+	private final int capacity;
+	private final long startTimeMillis;
+	private final Event event = new Event();
+	private long nextSequence;
+	private long lostEventCount;
+
+	private GarbageCollectionEventLog(ByteBuffer buffer) throws IOException {
+		super();
+		int magic = buffer.getInt(HEADER_MAGIC);
+		if (MAGIC != magic) {
+			if (Integer.reverseBytes(MAGIC) != magic) {
+				throw new IOException("Not a garbage collection event log"); //$NON-NLS-1$
+			}
+			ByteOrder order = (ByteOrder.LITTLE_ENDIAN == buffer.order()) ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+			buffer.order(order);
+		}
+		int version = buffer.getShort(HEADER_VERSION);
+		if (SUPPORTED_VERSION != version) {
+			throw new IOException("Unsupported garbage collection event log version " + version); //$NON-NLS-1$
+		}
+		headerSize = buffer.getShort(HEADER_SIZE) & 0xFFFF;
+		recordSize = buffer.getInt(HEADER_RECORD_SIZE);
+		capacity = buffer.getInt(HEADER_CAPACITY);
+		if ((headerSize < MINIMUM_HEADER_SIZE) || (recordSize < MINIMUM_RECORD_SIZE) || (capacity <= 0)
+				|| ((headerSize + ((long) recordSize * capacity)) > buffer.capacity())) {
+			throw new IOException("Corrupt garbage collection event log header"); //$NON-NLS-1$
+		}
+		startTimeMillis = buffer.getLong(HEADER_START_TIME_MILLIS);
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Open an event log for reading. Reading starts with the oldest record still held in the log.
+	 *
+	 * @param file the file named by <code>-Xgc:verboseBinaryLog</code>
+	 * @return a reader for the log
+	 * @throws IOException if the file cannot be mapped or is not a garbage collection event log
+	 */
+	public static GarbageCollectionEventLog open(Path file) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if ((size < MINIMUM_HEADER_SIZE) || (size > Integer.MAX_VALUE)) {
+				throw new IOException("Not a garbage collection event log"); //$NON-NLS-1$
+			}
+			/* the mapping remains valid after the channel is closed */
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		GarbageCollectionEventLog log = new GarbageCollectionEventLog(buffer);
+		log.nextSequence = Math.max(0, log.getWrittenEventCount() - log.capacity);
+		return log;
+	}
+
+	/**
+	 * @return the number of records the log can hold before the oldest records are overwritten
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the wall clock time in milliseconds at which the log was created; event timestamps
+	 * are relative to this time
+	 */
+	public long getStartTimeMillis() {
+		return startTimeMillis;
+	}
+
+	/**
+	 * @return the total number of records the VM has started to write to the log
+	 */
+	public long getWrittenEventCount() {
+		return checkOpen().getLong(HEADER_NEXT_SEQUENCE);
+	}
+
+	/**
+	 * @return the number of records that were overwritten before this reader could consume them
+	 */
+	public long getLostEventCount() {
+		return lostEventCount;
+	}
+
+	/**
+	 * Pass every record written since the last call to the consumer, in the order the records
+	 * were reserved. Records still being written are left for the next call. The same
+	 * {@link Event} instance is passed for every record.
+	 *
+	 * @param consumer the consumer of the records
+	 * @return the number of records passed to the consumer
+	 * @throws IllegalStateException if the log has been closed
+	 */
+	public int poll(Consumer<? super Event> consumer) {
+		ByteBuffer log = checkOpen();
+		long written = log.getLong(HEADER_NEXT_SEQUENCE);
+		int count = 0;
+
+		while (nextSequence < written) {
+			if ((written - nextSequence) > capacity) {
+				/* the writer has lapped this reader */
+				long oldest = written - capacity;
+				lostEventCount += oldest - nextSequence;
+				nextSequence = oldest;
+			}
+			int offset = headerSize + (int) (nextSequence % capacity) * recordSize;
+			long sequence = log.getLong(offset + RECORD_SEQUENCE);
+			if ((0 == sequence) || (sequence <= nextSequence)) {
+				/* not yet published, or still holding an older record; try again on the next poll */
+				break;
+			}
+			if (sequence == (nextSequence + 1)) {
+				loadFence();
+				event.sequence = nextSequence;
+				event.timestamp = log.getLong(offset + RECORD_TIMESTAMP);
+				event.type = log.getShort(offset + RECORD_TYPE) & 0xFFFF;
+				event.workerID = log.getShort(offset + RECORD_WORKER_ID) & 0xFFFF;
+				event.cycleID = log.getInt(offset + RECORD_CYCLE_ID);
+				for (int i = 0; i < PAYLOAD_SLOTS; i++) {
+					event.payload[i] = log.getLong(offset + RECORD_PAYLOAD + (i * 8));
+				}
+				loadFence();
+				if (sequence == log.getLong(offset + RECORD_SEQUENCE)) {
+					consumer.accept(event);
+					count += 1;
+				} else {
+					/* overwritten while being read */
+					lostEventCount += 1;
+				}
+			} else {
+				/* the slot already holds a newer record */
+				lostEventCount += 1;
+			}
+			nextSequence += 1;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Stop reading the log. The mapping of the file is released when this object is collected.
+	 */
+	@Override
+	public void close() {
+		buffer = null;
+	}
+
+	private ByteBuffer checkOpen() {
+		ByteBuffer log = buffer;
+		if (null == log) {
+			throw new IllegalStateException("Garbage collection event log is closed"); //$NON-NLS-1$
+		}
+		return log;
+	}
+
+	private static void loadFence() {
+		/*[IF JAVA_SPEC_VERSION >= 9]*/
+		VarHandle.acquireFence();
+		/*[ELSE] JAVA_SPEC_VERSION >= 9 */
+		unsafe.loadFence();
+		/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+	}
+}
@@ -310,4 +310,53 @@ public interface MemoryMXBean extends java.lang.management.MemoryMXBean {
      * @return number of active GC worker threads
      */
 	public int getCurrentGCThreads();
+
+	/**
+	 * Returns the number of threads that run finalizers and enqueue references.
+	 * The number of objects waiting for these threads is reported by
+	 * {@link #getObjectPendingFinalizationCount()}.
+	 *
+	 * @return number of finalizer worker threads
+	 */
+	public int getFinalizerWorkerThreads();
+
+	/**
+	 * Returns the number of finalization jobs (finalizers run and references
+	 * enqueued) completed by the finalizer worker threads since the virtual
+	 * machine started.
+	 *
+	 * @return number of completed finalization jobs
+	 */
+	public long getFinalizerCompletedCount();
+
+	/**
+	 * Returns the rate, in jobs per second, at which the finalizer worker threads
+	 * drained the finalization queue during the last sample window. The window is
+	 * kept by the virtual machine and lasts at least one second, so reading this
+	 * attribute does not change it and all callers see the same value until the
+	 * next window closes.
+	 *
+	 * @return finalization queue drain rate in jobs per second
+	 */
+	public double getFinalizerDrainRate();
+
+	/**
+	 * Returns the allocation sites with the most sampled bytes, in descending
+	 * order of sampled bytes. Allocations are only sampled when the virtual
+	 * machine is started with <code>-Xgc:allocationSiteProfiler</code>; otherwise
+	 * an empty array is returned.
+	 *
+	 * @param maxSites the maximum number of sites to return
+	 * @return the allocation sites, never null
+	 * @throws IllegalArgumentException if <code>maxSites</code> is negative
+	 */
+	public AllocationSite[] getAllocationSites(int maxSites);
+
+	/**
+	 * Returns the number of bytes each thread allocates between two samples of
+	 * the allocation site profiler.
+	 *
+	 * @return the sampling interval in bytes or 0 if the allocation site profiler is disabled
+	 */
+	public long getAllocationSiteSampleInterval();
 }
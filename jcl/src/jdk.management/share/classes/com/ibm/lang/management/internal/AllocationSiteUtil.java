@@ -0,0 +1,111 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+package com.ibm.lang.management.internal;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+
+import com.ibm.java.lang.management.internal.ManagementUtils;
+import com.ibm.lang.management.AllocationSite;
+
+/**
+ * Support for the {@link AllocationSite} class.
+ */
+public final class AllocationSiteUtil {
+
+	private static CompositeType compositeType;
+
+	/**
+	 * @return an instance of (@link CompositeType} for the {@link AllocationSite} class
+	 */
+	public static CompositeType getCompositeType() {
+		if (null == compositeType) {
+			try {
+				String[] names = { "className", "methodName", "lineNumber", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						"allocatedClassName", "sampledBytes", "samples", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						"survivedSamples", "diedSamples", "survivalRate" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				String[] dscs = { "className", "methodName", "lineNumber", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						"allocatedClassName", "sampledBytes", "samples", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						"survivedSamples", "diedSamples", "survivalRate" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				OpenType<?>[] types = {
+						SimpleType.STRING, SimpleType.STRING, SimpleType.INTEGER,
+						SimpleType.STRING, SimpleType.LONG, SimpleType.LONG,
+						SimpleType.LONG, SimpleType.LONG, SimpleType.DOUBLE };
+
+				compositeType = new CompositeType(
+						AllocationSite.class.getName(),
+						AllocationSite.class.getName(),
+						names, dscs, types);
+			} catch (OpenDataException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+
+		return compositeType;
+	}
+
+	/**
+	 * @param site an {@link AllocationSite} object
+	 * @return a {@link CompositeData} object that represents the supplied <code>site</code> object
+	 */
+	public static CompositeData toCompositeData(AllocationSite site) {
+		CompositeData result = null;
+
+		if (null != site) {
+			CompositeType type = getCompositeType();
+			String[] names = { "className", "methodName", "lineNumber", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					"allocatedClassName", "sampledBytes", "samples", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					"survivedSamples", "diedSamples", "survivalRate" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			Object[] values = {
+					site.getClassName(),
+					site.getMethodName(),
+					Integer.valueOf(site.getLineNumber()),
+					site.getAllocatedClassName(),
+					Long.valueOf(site.getSampledBytes()),
+					Long.valueOf(site.getSamples()),
+					Long.valueOf(site.getSurvivedSamples()),
+					Long.valueOf(site.getDiedSamples()),
+					Double.valueOf(site.getSurvivalRate()) };
+
+			try {
+				result = new CompositeDataSupport(type, names, values);
+			} catch (OpenDataException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private AllocationSiteUtil() {
+		super();
+	}
+
+}
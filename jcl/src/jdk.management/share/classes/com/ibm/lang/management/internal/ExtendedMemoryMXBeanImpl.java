@@ -33,6 +33,7 @@ import javax.management.NotificationFilter;
 import javax.management.NotificationListener;
 
 import com.ibm.java.lang.management.internal.MemoryMXBeanImpl;
+import com.ibm.lang.management.AllocationSite;
 import com.ibm.lang.management.MemoryMXBean;
 import com.ibm.oti.vm.VM;
 
@@ -112,6 +113,47 @@ public final class ExtendedMemoryMXBeanImpl extends MemoryMXBeanImpl implements
 		return osinstance.getTotalPhysicalMemorySize() - osinstance.getFreePhysicalMemorySize();
 	}
 
+	/**
+	 * Copies the top allocation sites of the allocation site profiler into the supplied arrays,
+	 * which must all have the same length. Each site uses four consecutive entries of
+	 * <code>stats</code>: sampled bytes, samples, survived samples and died samples.
+	 *
+	 * @return the number of sites copied
+	 */
+	private native int getAllocationSitesImpl(String[] classNames, String[] methodNames, int[] lineNumbers,
+			String[] allocatedClassNames, long[] stats);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public AllocationSite[] getAllocationSites(int maxSites) {
+		if (maxSites < 0) {
+			throw new IllegalArgumentException("maxSites(" + maxSites + ") < 0"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		String[] classNames = new String[maxSites];
+		String[] methodNames = new String[maxSites];
+		int[] lineNumbers = new int[maxSites];
+		String[] allocatedClassNames = new String[maxSites];
+		long[] stats = new long[maxSites * 4];
+		int count = getAllocationSitesImpl(classNames, methodNames, lineNumbers, allocatedClassNames, stats);
+		AllocationSite[] sites = new AllocationSite[count];
+
+		for (int i = 0; i < count; ++i) {
+			sites[i] = new AllocationSite(classNames[i], methodNames[i], lineNumbers[i], allocatedClassNames[i],
+					stats[(i * 4)], stats[(i * 4) + 1], stats[(i * 4) + 2], stats[(i * 4) + 3]);
+		}
+		return sites;
+	}
+
+	private native long getAllocationSiteSampleIntervalImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getAllocationSiteSampleInterval() {
+		return getAllocationSiteSampleIntervalImpl();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -97,6 +97,18 @@ public class SharedClassStatistics {
     	return maxJitDataBytesImpl();
     }
 
+	/**
+	 * Returns the number of jar and jimage timestamp checks that the JVM answered without
+	 * querying the file system, because the file was checked less than
+	 * -Xshareclasses:timestampCheckInterval=&lt;ms&gt; ago and, with -Xshareclasses:timestampWatch,
+	 * has not been reported as changed since.
+	 * <p>
+	 * @return the number of file system checks avoided, or 0 if they are not being avoided
+	 */
+	public static long timestampChecksAvoided() {
+		return timestampChecksAvoidedImpl();
+	}
+
 	
 	private static native long maxSizeBytesImpl();
 
@@ -111,4 +123,6 @@ public class SharedClassStatistics {
 	private static native long minJitDataBytesImpl();
 	
 	private static native long maxJitDataBytesImpl();
+
+	private static native long timestampChecksAvoidedImpl();
 }
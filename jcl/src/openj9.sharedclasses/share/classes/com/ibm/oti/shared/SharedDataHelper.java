@@ -24,6 +24,7 @@ package com.ibm.oti.shared;
  *******************************************************************************/
 
 import java.nio.ByteBuffer;
+import java.util.Map;
 
 /**
  * <p>SharedDataHelper API that stores and finds byte data using String tokens.</p>
@@ -45,6 +46,11 @@ import java.nio.ByteBuffer;
  * Tokens have no meaning to the cache, so effectively turn it into a dictionary of classes.</p>
  * <p>Eg. A token may be the location where the class was found, combined with some type of versioning data.</p>
  * <p>If an application stores multiple versions of the same data using the same token, only the most recent will be returned by findSharedData.</p>
+ * <p>replaceSharedData can be used to store a new version only if the version the application last found is still the most recent.</p>
+ * <h3>Batches</h3>
+ * <p>Many tokens can be found or stored in one call to findSharedData or storeSharedData, and all of the tokens starting with a
+ * prefix can be found in one call to findSharedDataWithPrefix. A batch is checked for permissions once, rather than once per token.
+ * The ByteBuffers returned map directly onto the data in the cache, so no data is copied when it is found.</p>
  * 
  * @see SharedHelper
  * @see SharedDataHelperFactory
@@ -87,4 +93,79 @@ public interface SharedDataHelper extends SharedHelper {
 	 */
 	public ByteBuffer storeSharedData(String token, ByteBuffer data);
 
+	/**
+	 * Find data in the shared cache for each of a number of tokens.<p>
+	 * Each element of the array returned is the data that findSharedData(String) would return for the token
+	 * at the same index, or null if there is no data for the token or the token is null.<br>
+	 * The ByteBuffers returned are read-only and cannot be modified.<br>
+	 * If a SecurityManager is installed, findSharedData can only be called by code whose caller-classloader
+	 * has been granted <q>read</q> permissions to the shared class cache.
+	 * <p>
+	 * @param 		tokens String[].
+	 * 					The String tokens to be used as keys
+	 *
+	 * @return		ByteBuffer[].
+	 * 					An array of read-only ByteBuffers containing the cached data, or null if the data could not be found.
+	 */
+	public ByteBuffer[] findSharedData(String[] tokens);
+
+	/**
+	 * Find the data in the shared cache for every token which starts with a prefix.<p>
+	 * The map returned holds, for each token found, the data that findSharedData(String) would return for it.
+	 * A zero length prefix finds the data stored against every token.<br>
+	 * The ByteBuffers returned are read-only and cannot be modified.<br>
+	 * If a SecurityManager is installed, findSharedDataWithPrefix can only be called by code whose caller-classloader
+	 * has been granted <q>read</q> permissions to the shared class cache.
+	 * <p>
+	 * @param 		prefix String.
+	 * 					The prefix of the tokens to be found
+	 *
+	 * @return		Map&lt;String, ByteBuffer&gt;.
+	 * 					A map from each token found to a read-only ByteBuffer containing its cached data, or null.
+	 */
+	public Map<String, ByteBuffer> findSharedDataWithPrefix(String prefix);
+
+	/**
+	 * Store data in the shared cache for each of a number of tokens.<p>
+	 * Each element of the data array is stored against the token at the same index, as storeSharedData(String, ByteBuffer) would
+	 * store it. Each element of the array returned is the shared read-only copy of the data, or null if the data was not stored.<br>
+	 * Tokens which are null are ignored.<br>
+	 * If a SecurityManager is installed, storeSharedData can only be called by code whose caller-classloader
+	 * has been granted <q>write</q> permissions to the shared class cache.
+	 * <p>
+	 * @param 		tokens String[].
+	 * 					The String tokens to be used as keys
+	 *
+	 * @param 		data ByteBuffer[].
+	 * 					The ByteBuffers of data to copy to the cache. Must be the same length as tokens.
+	 *
+	 * @return		ByteBuffer[].
+	 * 					An array of read-only ByteBuffers containing the cached data, or null if nothing could be stored.
+	 */
+	public ByteBuffer[] storeSharedData(String[] tokens, ByteBuffer[] data);
+
+	/**
+	 * Replace the data in the shared cache for a token, only if the data currently stored against the token is expectedData.<p>
+	 * expectedData must be a ByteBuffer returned by findSharedData or storeSharedData for the same token, or null if no data
+	 * should currently be stored against the token. The check and the store are made while holding the cache write lock,
+	 * so the data is not replaced if another thread or JVM has stored a newer version since expectedData was found.<br>
+	 * If the data is replaced, the old data is marked <q>stale</q> and the shared read-only copy of the new data is returned.
+	 * Otherwise, null is returned.<br>
+	 * If a SecurityManager is installed, replaceSharedData can only be called by code whose caller-classloader
+	 * has been granted <q>write</q> permissions to the shared class cache.
+	 * <p>
+	 * @param 		token String.
+	 * 					A String token to be used as a key
+	 *
+	 * @param 		expectedData ByteBuffer.
+	 * 					The cached data that is expected to be stored against the token, or null
+	 *
+	 * @param 		data ByteBuffer.
+	 * 					A ByteBuffer of data to copy to the cache
+	 *
+	 * @return		ByteBuffer.
+	 * 					A read-only ByteBuffer containing the cached data, or null.
+	 */
+	public ByteBuffer replaceSharedData(String token, ByteBuffer expectedData, ByteBuffer data);
+
 }
@@ -24,6 +24,8 @@ package com.ibm.oti.shared;
  *******************************************************************************/
 
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.ibm.oti.util.Msg;
 
@@ -43,8 +45,28 @@ final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedD
 
 	private native ByteBuffer storeSharedDataImpl(ClassLoader loader, int loaderId, String token, ByteBuffer data);
 
-	@Override
-	public ByteBuffer findSharedData(String token) {
+	/* The ByteBuffers returned by the batch natives are not read-only, and must be made read-only before they are returned */
+	private native ByteBuffer[] findSharedDataBatchImpl(int loaderId, String[] tokens);
+
+	private native ByteBuffer[] storeSharedDataBatchImpl(ClassLoader loader, int loaderId, String[] tokens, ByteBuffer[] data);
+
+	/* Returns an array which alternates between a token and its data */
+	private native Object[] findSharedDataForPrefixImpl(int loaderId, String prefix);
+
+	private native ByteBuffer replaceSharedDataImpl(ClassLoader loader, int loaderId, String token, ByteBuffer expectedData, ByteBuffer data);
+
+	private static ByteBuffer[] asReadOnlyBuffers(ByteBuffer[] buffers) {
+		if (buffers != null) {
+			for (int i = 0; i < buffers.length; i++) {
+				if (buffers[i] != null) {
+					buffers[i] = buffers[i].asReadOnlyBuffer();
+				}
+			}
+		}
+		return buffers;
+	}
+
+	private ClassLoader getLoaderForFind() {
 		ClassLoader loader = getClassLoader();
 		if (loader == null) {
 			/*[MSG "K059f", "ClassLoader has been garbage collected. Returning null."]*/
@@ -59,16 +81,10 @@ final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedD
 			printVerboseError(Msg.getString("K05b5")); //$NON-NLS-1$
 			return null;
 		}
-		if (token==null) {
-			/*[MSG "K05b6", "Cannot call findSharedData with null token. Returning null."]*/
-			printVerboseError(Msg.getString("K05b6")); //$NON-NLS-1$
-			return null;
-		}
-		return findSharedDataImpl(this.id, token);
+		return loader;
 	}
 
-	@Override
-	public ByteBuffer storeSharedData(String token, ByteBuffer data) {
+	private ClassLoader getLoaderForStore() {
 		ClassLoader loader = getClassLoader();
 		if (loader == null) {
 			/*[MSG "K059f", "ClassLoader has been garbage collected. Returning null."]*/
@@ -83,6 +99,28 @@ final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedD
 			printVerboseError(Msg.getString("K05b7")); //$NON-NLS-1$
 			return null;
 		}
+		return loader;
+	}
+
+	@Override
+	public ByteBuffer findSharedData(String token) {
+		if (getLoaderForFind() == null) {
+			return null;
+		}
+		if (token==null) {
+			/*[MSG "K05b6", "Cannot call findSharedData with null token. Returning null."]*/
+			printVerboseError(Msg.getString("K05b6")); //$NON-NLS-1$
+			return null;
+		}
+		return findSharedDataImpl(this.id, token);
+	}
+
+	@Override
+	public ByteBuffer storeSharedData(String token, ByteBuffer data) {
+		ClassLoader loader = getLoaderForStore();
+		if (loader == null) {
+			return null;
+		}
 		if (token==null) {
 			/*[MSG "K05b8", "Cannot call storeSharedData with null token. Returning null."]*/
 			printVerboseError(Msg.getString("K05b8")); //$NON-NLS-1$
@@ -96,6 +134,90 @@ final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedD
 		return storeSharedDataImpl(loader, this.id, token, data);
 	}
 
+	@Override
+	public ByteBuffer[] findSharedData(String[] tokens) {
+		if (getLoaderForFind() == null) {
+			return null;
+		}
+		if (tokens == null) {
+			/*[MSG "K05b6", "Cannot call findSharedData with null token. Returning null."]*/
+			printVerboseError(Msg.getString("K05b6")); //$NON-NLS-1$
+			return null;
+		}
+		return asReadOnlyBuffers(findSharedDataBatchImpl(this.id, tokens));
+	}
+
+	@Override
+	public Map<String, ByteBuffer> findSharedDataWithPrefix(String prefix) {
+		if (getLoaderForFind() == null) {
+			return null;
+		}
+		if (prefix == null) {
+			/*[MSG "K0E01", "Cannot call findSharedData with null prefix. Returning null."]*/
+			printVerboseError(Msg.getString("K0E01")); //$NON-NLS-1$
+			return null;
+		}
+		Object[] found = findSharedDataForPrefixImpl(this.id, prefix);
+		if (found == null) {
+			return null;
+		}
+		Map<String, ByteBuffer> result = new HashMap<>((found.length / 2) * 4 / 3 + 1);
+		for (int i = 0; i < found.length; i += 2) {
+			result.put((String)found[i], ((ByteBuffer)found[i + 1]).asReadOnlyBuffer());
+		}
+		return result;
+	}
+
+	@Override
+	public ByteBuffer[] storeSharedData(String[] tokens, ByteBuffer[] data) {
+		ClassLoader loader = getLoaderForStore();
+		if (loader == null) {
+			return null;
+		}
+		if (tokens == null) {
+			/*[MSG "K05b8", "Cannot call storeSharedData with null token. Returning null."]*/
+			printVerboseError(Msg.getString("K05b8")); //$NON-NLS-1$
+			return null;
+		}
+		if (data == null || data.length != tokens.length) {
+			/*[MSG "K0E00", "Cannot call storeSharedData with {0} tokens and {1} ByteBuffers. Returning null."]*/
+			printVerboseError(Msg.getString("K0E00", tokens.length, (data == null) ? 0 : data.length)); //$NON-NLS-1$
+			return null;
+		}
+		for (ByteBuffer buffer : data) {
+			if (buffer != null && !buffer.isDirect()) {
+				/*[MSG "K05b9", "Cannot call storeSharedData with a non-direct ByteBuffer. Returning null."]*/
+				printVerboseError(Msg.getString("K05b9")); //$NON-NLS-1$
+				return null;
+			}
+		}
+		return asReadOnlyBuffers(storeSharedDataBatchImpl(loader, this.id, tokens, data));
+	}
+
+	@Override
+	public ByteBuffer replaceSharedData(String token, ByteBuffer expectedData, ByteBuffer data) {
+		ClassLoader loader = getLoaderForStore();
+		if (loader == null) {
+			return null;
+		}
+		if (token == null) {
+			/*[MSG "K05b8", "Cannot call storeSharedData with null token. Returning null."]*/
+			printVerboseError(Msg.getString("K05b8")); //$NON-NLS-1$
+			return null;
+		}
+		if (data == null) {
+			/*[MSG "K0E02", "Cannot call replaceSharedData with null data. Returning null."]*/
+			printVerboseError(Msg.getString("K0E02")); //$NON-NLS-1$
+			return null;
+		}
+		if (!data.isDirect() || (expectedData != null && !expectedData.isDirect())) {
+			/*[MSG "K0E03", "Cannot call replaceSharedData with a non-direct ByteBuffer. Returning null."]*/
+			printVerboseError(Msg.getString("K0E03")); //$NON-NLS-1$
+			return null;
+		}
+		return replaceSharedDataImpl(loader, this.id, token, expectedData, data);
+	}
+
 	@Override
 	String getHelperType() {
 		return "SharedDataHelper"; //$NON-NLS-1$
@@ -401,9 +401,12 @@ JIT_PRODUCT_SOURCE_FILES+=\
     compiler/net/LoadSSLLibs.cpp \
     compiler/net/MessageBuffer.cpp \
     compiler/net/Message.cpp \
+    compiler/net/MessageStatistics.cpp \
     compiler/net/ServerStream.cpp \
     compiler/runtime/CompileService.cpp \
     compiler/runtime/JITClientSession.cpp \
+    compiler/runtime/JITServerAOTCache.cpp \
+    compiler/runtime/JITServerCompilationCapture.cpp \
     compiler/runtime/JITServerIProfiler.cpp \
     compiler/runtime/JITServerStatisticsThread.cpp \
     compiler/runtime/Listener.cpp
@@ -77,6 +77,7 @@ template <typename T> class TR_PersistentArray;
 typedef J9JITExceptionTable TR_MethodMetaData;
 #if defined(J9VM_OPT_JITSERVER)
 class ClientSessionHT;
+class JITServerAOTCache;
 #endif /* defined(J9VM_OPT_JITSERVER) */
 
 struct TR_SignatureCountPair
@@ -120,6 +121,7 @@ class TR_LowPriorityCompQueue
       void enqueueCompReqToLPQ(TR_MethodToBeCompiled *compReq);
       bool createLowPriorityCompReqAndQueueIt(TR::IlGeneratorMethodDetails &details, void *startPC, uint8_t reason);
       bool addFirstTimeCompReqToLPQ(J9Method *j9method, uint8_t reason);
+      bool addAOTPreloadReqToLPQ(J9Method *j9method);
       bool addUpgradeReqToLPQ(TR_MethodToBeCompiled*);
       int32_t getLowPriorityQueueSize() const { return _sizeLPQ; }
       int32_t getLPQWeight() const { return _LPQWeight; }
@@ -173,9 +175,11 @@ class TR_LowPriorityCompQueue
       uint32_t _STAT_LPQcompFromIprofiler; // first time compilations coming from LPQ
       uint32_t _STAT_LPQcompFromInterpreter;
       uint32_t _STAT_LPQcompUpgrade;
+      uint32_t _STAT_LPQcompFromAOTPreload;
       // stats written by application threads
       uint32_t _STAT_compReqQueuedByInterpreter;
       uint32_t _STAT_numFailedToEnqueueInLPQ;
+      uint32_t _STAT_compReqQueuedByAOTPreload;
    }; // TR_LowPriorityCompQueue
 
 
@@ -212,6 +216,74 @@ class TR_JProfilingQueue
    };
 
 
+// Policy deciding the priorities of the requests in the main compilation queue.
+// CompilationInfo owns the queue, which stays a single list sorted by priority.
+// The scheduler is consulted when a new request is added and before a compilation
+// thread takes the next request, always with the compilation queue monitor in hand.
+// It may change the priority of a new request and may move queued requests, as
+// long as the queue stays sorted. With no scheduler the queue is ordered by the
+// priorities given by the callers of addMethodToBeCompiled alone.
+class TR_CompQueueScheduler
+   {
+   public:
+      TR_PERSISTENT_ALLOC(TR_Memory::PersistentInfo); // TODO: define its own category
+      virtual ~TR_CompQueueScheduler() {}
+
+      // Class loader whose queued first time compilations addMethodToBeCompiled must
+      // count while it searches the queue for a new request; NULL if counts are not needed
+      virtual J9ClassLoader *loaderToCount(TR::IlGeneratorMethodDetails &details, void *startPC,
+                                           CompilationPriority priority, bool async) { return NULL; }
+      // Called for a new request before it is inserted in the queue. numEntries requests are
+      // already queued, numEntriesFromLoader of them first time compilations from loader.
+      virtual void newRequest(J9VMThread *vmThread, TR_MethodToBeCompiled *entry, J9ClassLoader *loader,
+                              int32_t numEntries, int32_t numEntriesFromLoader) {}
+      // Called before a compilation thread takes the next request from the non empty queue
+      virtual void beforeDequeue(TR_MethodToBeCompiled *&queue, uint64_t crtTime) {}
+      virtual void printStats() const {}
+   };
+
+// Scheduler for -Xjit:compQueueAgingThreshold and -Xjit:compQueueMaxSharePerClassLoader
+//  - aging: an async request is promoted by one priority level, up to CP_ASYNC_ABOVE_NORMAL,
+//    for every agingThreshold ms it waits in the queue
+//  - fairness: a new first time compilation is demoted to CP_ASYNC_BELOW_NORMAL when its
+//    class loader already owns more than maxSharePerClassLoader percent of the queue
+// Either policy is off when its parameter is 0.
+class TR_AgingFairShareCompQueueScheduler : public TR_CompQueueScheduler
+   {
+   public:
+      TR_PERSISTENT_ALLOC(TR_Memory::PersistentInfo); // TODO: define its own category
+      static const int32_t MIN_QUEUE_SIZE_FOR_LOADER_FAIRNESS = 16; // small queues are drained quickly anyway
+
+      TR_AgingFairShareCompQueueScheduler(uint64_t agingThreshold, int32_t maxSharePerClassLoader) :
+         _agingThreshold(agingThreshold), _maxSharePerClassLoader(maxSharePerClassLoader),
+         _lastAgingTime(0), _numAgingPromotions(0), _numClassLoaderDemotions(0) {}
+
+      virtual J9ClassLoader *loaderToCount(TR::IlGeneratorMethodDetails &details, void *startPC,
+                                           CompilationPriority priority, bool async);
+      virtual void newRequest(J9VMThread *vmThread, TR_MethodToBeCompiled *entry, J9ClassLoader *loader,
+                              int32_t numEntries, int32_t numEntriesFromLoader);
+      virtual void beforeDequeue(TR_MethodToBeCompiled *&queue, uint64_t crtTime);
+      virtual void printStats() const;
+
+      uint32_t getNumAgingPromotions() const { return _numAgingPromotions; }
+      uint32_t getNumClassLoaderDemotions() const { return _numClassLoaderDemotions; }
+
+      // The decisions, kept apart from the queue walks
+      static bool exceedsFairShare(int32_t numEntries, int32_t numEntriesFromLoader, int32_t maxSharePerClassLoader);
+      static bool shouldAge(const TR_MethodToBeCompiled *entry, uint64_t crtTime, uint64_t agingThreshold);
+      static uint16_t agedPriority(uint16_t priority);
+
+   private:
+      uint32_t ageQueue(TR_MethodToBeCompiled *&queue, uint64_t crtTime);
+
+      uint64_t _agingThreshold; // ms; 0 means disabled
+      int32_t  _maxSharePerClassLoader; // percentage; 0 means disabled
+      uint64_t _lastAgingTime; // ms
+      uint32_t _numAgingPromotions; // requests promoted because they waited too long in the queue
+      uint32_t _numClassLoaderDemotions; // requests demoted because their class loader took too much of the queue
+   };
+
+
 // Supporting class for getting information on density of samples
 class TR_JitSampleInfo
    {
@@ -883,8 +955,13 @@ public:
    double getGuestCpuEntitlement() const { return _cpuEntitlement.getGuestCpuEntitlement(); }
    void computeAndCacheCpuEntitlement() { _cpuEntitlement.computeAndCacheCpuEntitlement(); }
    double getJvmCpuEntitlement() const { return _cpuEntitlement.getJvmCpuEntitlement(); }
+   double getContainerCpuQuota() const { return _cpuEntitlement.getContainerCpuQuota(); }
+   void applyContainerCpuBudget(uint64_t crtTime);
+   bool isCompCpuBudgetFromContainerQuota() const { return _compCpuBudgetFromContainerQuota > 0; }
 
    bool importantMethodForStartup(J9Method *method);
+   bool hasPersistedProfileForWarmStart(J9VMThread *vmThread, J9Method *method);
+   bool startWarmWithPersistedProfile(TR_MethodToBeCompiled *entry);
    bool shouldDowngradeCompReq(TR_MethodToBeCompiled *entry);
 
 
@@ -999,6 +1076,8 @@ public:
    TR_CompilationErrorCode scheduleLPQAndBumpCount(TR::IlGeneratorMethodDetails &details, TR_J9VMBase *fe);
 
    TR_JProfilingQueue &getJProfilingCompQueue() { return _JProfilingQueue; }
+   TR_CompQueueScheduler *getCompQueueScheduler() const { return _compQueueScheduler; }
+   void setCompQueueScheduler(TR_CompQueueScheduler *scheduler) { _compQueueScheduler = scheduler; }
 
    TR_JitSampleInfo &getJitSampleInfoRef() { return _jitSampleInfo; }
    TR_InterpreterSamplingTracking *getInterpSamplTrackingInfo() const { return _interpSamplTrackingInfo; }
@@ -1018,6 +1097,8 @@ public:
 #if defined(J9VM_OPT_JITSERVER)
    ClientSessionHT *getClientSessionHT() const { return _clientSessionHT; }
    void setClientSessionHT(ClientSessionHT *ht) { _clientSessionHT = ht; }
+   JITServerAOTCache *getJITServerAOTCache() const { return _JITServerAOTCache; }
+   void setJITServerAOTCache(JITServerAOTCache *cache) { _JITServerAOTCache = cache; }
 
    PersistentVector<TR_OpaqueClassBlock*> *getUnloadedClassesTempList() const { return _unloadedClassesTempList; }
    void setUnloadedClassesTempList(PersistentVector<TR_OpaqueClassBlock*> *it) { _unloadedClassesTempList = it; }
@@ -1156,6 +1237,7 @@ private:
    int32_t                _queueWeight; // approximation on overhead to process the entire queue
    CpuUtilization*        _cpuUtil; // object to compute cpu utilization
    int32_t                _overallCompCpuUtilization; // In percentage points. Valid only if TR::Options::_compThreadCPUEntitlement has a positive value
+   int32_t                _compCpuBudgetFromContainerQuota; // value we wrote into TR::Options::_compThreadCPUEntitlement; 0 if none
    int32_t                _idleThreshold; // % of entire machine CPU
    int32_t                _compilationBudget;
    TR_YesNoMaybe          _warmSCC; // shared class cache has methods, so this could be second run
@@ -1194,6 +1276,7 @@ private:
    uint32_t               _statNumJProfilingBodies;
    uint32_t               _statNumRecompilationForBodiesWithJProfiling;
    uint32_t               _statNumMethodsFromJProfilingQueue;
+   uint32_t               _statNumWarmStartsFromPersistedProfile;
    uint32_t               _statTotalAotQueryTime;
    uint32_t               _statTotalAotRelocationTime;
 
@@ -1238,6 +1321,7 @@ private:
    //--------------
    TR_LowPriorityCompQueue _lowPriorityCompilationScheduler;
    TR_JProfilingQueue      _JProfilingQueue;
+   TR_CompQueueScheduler  *_compQueueScheduler; // NULL if the queue is ordered by priority alone
 
    TR::CompilationTracingFacility _compilationTracingFacility; // Must be initialized before using
    TR_CpuEntitlement _cpuEntitlement;
@@ -1259,6 +1343,7 @@ private:
 
 #if defined(J9VM_OPT_JITSERVER)
    ClientSessionHT               *_clientSessionHT; // JITServer hashtable that holds session information about JITClients
+   JITServerAOTCache             *_JITServerAOTCache; // JITServer cache of AOT bodies shared by all clients; NULL if not enabled
    PersistentUnorderedSet<J9Class*> _classesCachedAtServer;
    TR::Monitor *_classesCachedAtServerMonitor;
    PersistentVector<TR_OpaqueClassBlock*> *_unloadedClassesTempList; // JITServer list of classes unloaded
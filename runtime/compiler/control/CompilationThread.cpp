@@ -609,6 +609,47 @@ bool TR::CompilationInfo::importantMethodForStartup(J9Method *method)
    }
 
 
+// Warm start from the profile of a previous run. A method that was compiled hot or scorching
+// during the startup of a previous run (as recorded by the SCC hints) had its IProfiler profile
+// refreshed in the SCC by that compilation. Such a method is not downgraded to cold just because
+// the VM is starting up with a SCC: its first compilation is done at warm and inlines and
+// specializes with last run's branch, call-target and instanceof profiles, instead of going
+// through a cold body and a recompilation.
+// The SCC lookups are done by the application thread before it acquires the compilation monitor;
+// the answer is kept in the compilation request.
+bool TR::CompilationInfo::hasPersistedProfileForWarmStart(J9VMThread *vmThread, J9Method *method)
+   {
+#if defined(J9VM_OPT_SHARED_CLASSES) && (defined(TR_HOST_X86) || defined(TR_HOST_POWER) || defined(TR_HOST_S390) || defined(TR_HOST_ARM) || defined(TR_HOST_ARM64))
+   static char *disableWarmStart = feGetEnv("TR_DisablePersistedProfileWarmStart");
+   if (disableWarmStart ||
+       !TR::Options::sharedClassCache() ||
+       TR::Options::getCmdLineOptions()->getOption(TR_DisablePersistIProfile) ||
+       TR::Options::getCmdLineOptions()->getOption(TR_DisableDowngradeToColdOnVMPhaseStartup) ||
+       _jitConfig->javaVM->phase == J9VM_PHASE_NOT_STARTUP)
+      return false;
+
+   TR_J9SharedCache *sc = TR_J9VMBase::get(_jitConfig, vmThread, TR_J9VMBase::AOT_VM)->sharedCache();
+   TR_IProfiler *iProfiler = TR_J9VMBase::get(_jitConfig, vmThread)->getIProfiler();
+   return sc && iProfiler &&
+          (sc->getAllEnabledHints(method) & (TR_HintHot | TR_HintScorching)) &&
+          iProfiler->hasPersistedProfile(method, vmThread);
+#else
+   return false;
+#endif
+   }
+
+// Needs compilation monitor in hand
+bool TR::CompilationInfo::startWarmWithPersistedProfile(TR_MethodToBeCompiled *entry)
+   {
+   if (!entry->_persistedProfileWarmStart)
+      return false;
+
+   _statNumWarmStartsFromPersistedProfile++;
+   if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseCompileRequest))
+      TR_VerboseLog::writeLineLocked(TR_Vlog_CR, "j9m=%p     Not downgraded: warm start with the profile persisted by a previous run", entry->getMethodDetails().getMethod());
+   return true;
+   }
+
 bool TR::CompilationInfo::shouldDowngradeCompReq(TR_MethodToBeCompiled *entry)
    {
    bool doDowngrade = false;
@@ -672,14 +713,15 @@ bool TR::CompilationInfo::shouldDowngradeCompReq(TR_MethodToBeCompiled *entry)
                  // Downgrade if compilation queue grows too much during startup
                 (_jitConfig->javaVM->phase != J9VM_PHASE_NOT_STARTUP &&
                  getMethodQueueSize() >= TR::Options::_qszThresholdToDowngradeOptLevelDuringStartup) ||
-                 // Downgrade if AOT and startup,
+                 // Downgrade if AOT and startup, unless the previous run left a profile to start warm with
                 (TR::Options::getCmdLineOptions()->sharedClassCache() &&
 #if defined(TR_TARGET_POWER) // temporary hack until PPC AOT bug is found
                  _jitConfig->javaVM->phase == J9VM_PHASE_STARTUP &&
 #else
                  _jitConfig->javaVM->phase != J9VM_PHASE_NOT_STARTUP &&
 #endif
-                 !TR::Options::getCmdLineOptions()->getOption(TR_DisableDowngradeToColdOnVMPhaseStartup))
+                 !TR::Options::getCmdLineOptions()->getOption(TR_DisableDowngradeToColdOnVMPhaseStartup) &&
+                 !startWarmWithPersistedProfile(entry))
                )
                {
                doDowngrade = true;
@@ -1163,9 +1205,12 @@ TR::CompilationInfo::CompilationInfo(J9JITConfig *jitConfig) :
    _cpuEntitlement.init(jitConfig);
    _lowPriorityCompilationScheduler.setCompInfo(this);
    _JProfilingQueue.setCompInfo(this);
+   _compQueueScheduler = NULL; // This will be set later when options are processed
+   _statNumWarmStartsFromPersistedProfile = 0;
    _interpSamplTrackingInfo = new (PERSISTENT_NEW) TR_InterpreterSamplingTracking(this);
 #if defined(J9VM_OPT_JITSERVER)
    _clientSessionHT = NULL; // This will be set later when options are processed
+   _JITServerAOTCache = NULL; // This will be set later when options are processed
    _unloadedClassesTempList = NULL;
    _illegalFinalFieldModificationList = NULL;
    _newlyExtendedClasses = NULL;
@@ -1718,6 +1763,24 @@ bool TR_LowPriorityCompQueue::addFirstTimeCompReqToLPQ(J9Method *j9method, uint8
    return createLowPriorityCompReqAndQueueIt(details, NULL, reason);
    }
 
+//------------------------ addAOTPreloadReqToLPQ ---------------------
+// Queue an AOT load for a method whose class was just initialized, ahead of
+// the first invocation of the method. The caller must have checked that
+// the SCC has a valid AOT body for this method.
+// Needs compilation monitor in hand
+//------------------------------------------------------------------
+bool TR_LowPriorityCompQueue::addAOTPreloadReqToLPQ(J9Method *j9method)
+   {
+   if (!addFirstTimeCompReqToLPQ(j9method, TR_MethodToBeCompiled::REASON_AOT_PRELOAD))
+      return false;
+   // The new request is at the end of the queue
+   _lastLPQentry->_methodIsInSharedCache = TR_yes;
+   decreaseLPQWeightBy(_lastLPQentry->_weight);
+   _lastLPQentry->_weight = TR::CompilationInfo::AOT_LOAD_WEIGHT;
+   increaseLPQWeightBy(_lastLPQentry->_weight);
+   return true;
+   }
+
 
 //------------------------ addUpgradeReqToLPQ ----------------------
 // This method is used when the JIT performs a low optimized compilation
@@ -1744,6 +1807,30 @@ bool TR::CompilationInfo::canProcessLowPriorityRequest()
    if (getMethodQueueSize() != 0)
       return false;
 
+   // AOT preloads are cheap relocations that are needed soon, so up to
+   // _aotPreloadThreads compilation threads can work on them at the same time.
+   // Like other LPQ requests they are only processed when there is idle CPU.
+   TR_MethodToBeCompiled *firstLPQRequest = getLowPriorityCompQueue().getFirstLPQRequest();
+   if (firstLPQRequest && firstLPQRequest->_reqFromSecondaryQueue == TR_MethodToBeCompiled::REASON_AOT_PRELOAD)
+      {
+      int32_t numPreloadsInProgress = 0;
+      for (uint8_t i = 0; i < getNumUsableCompilationThreads(); i++)
+         {
+         TR_MethodToBeCompiled *entry = _arrayOfCompilationInfoPerThread[i]->getMethodBeingCompiled();
+         if (entry)
+            {
+            if (entry->_reqFromSecondaryQueue != TR_MethodToBeCompiled::REASON_AOT_PRELOAD)
+               return false;
+            numPreloadsInProgress++;
+            }
+         }
+      if (numPreloadsInProgress >= TR::Options::_aotPreloadThreads)
+         return false;
+      return (getCpuUtil() && getCpuUtil()->isFunctional() &&
+              getCpuUtil()->getAvgCpuIdle() > idleThreshold() &&
+              getJvmCpuEntitlement() - getCpuUtil()->getVmCpuUsage() > 50);
+      }
+
    // To process a request from the low priority queue we need to have
    // (1) no other compilation in progress (not required if TR_ConcurrentLPQ is enabled)
    // (2) some idle CPU
@@ -3201,6 +3288,8 @@ void TR::CompilationInfo::stopCompilationThreads()
          fprintf(stderr, "Jprofiling bodies=%u\n", _statNumJProfilingBodies);
       if (_statNumMethodsFromJProfilingQueue != 0)
          fprintf(stderr, "Recompilation for bodies with JProfiling=%u\n", _statNumMethodsFromJProfilingQueue);
+      if (_statNumWarmStartsFromPersistedProfile != 0)
+         fprintf(stderr, "NumWarmStartsFromPersistedProfile=%u\n", _statNumWarmStartsFromPersistedProfile);
       if (_statNumRecompilationForBodiesWithJProfiling != 0)
          fprintf(stderr, "Methods taken from the queue with JProfiling requests=%u\n", _statNumRecompilationForBodiesWithJProfiling);
 
@@ -3408,6 +3497,9 @@ void TR::CompilationInfo::stopCompilationThreads()
       fprintf(stderr, "NumQueuePromotions=%u\n", _statNumQueuePromotions);
       }
 
+   if (printCompStats && _compQueueScheduler)
+      _compQueueScheduler->printStats();
+
 #if defined(J9VM_OPT_JITSERVER)
    static char *printJITServerIPMsgStats = feGetEnv("TR_PrintJITServerIPMsgStats");
    if (printJITServerIPMsgStats)
@@ -4613,6 +4705,10 @@ TR::CompilationInfo::addMethodToBeCompiled(TR::IlGeneratorMethodDetails & detail
    J9VMThread *vmThread = _jitConfig->javaVM->internalVMFunctions->currentVMThread(_jitConfig->javaVM);
    TR_J9VMBase * fe = TR_J9VMBase::get(_jitConfig, vmThread);
 
+   // The scheduler may want to know how many of the queued requests come from the class loader of this method
+   J9ClassLoader *loaderToBalance = _compQueueScheduler ? _compQueueScheduler->loaderToCount(details, pc, priority, async) : NULL;
+   int32_t numEntriesFromSameLoader = 0;
+
    // search among the threads
    for (uint8_t i = 0; i < getNumTotalCompilationThreads(); i++)
       {
@@ -4643,6 +4739,9 @@ TR::CompilationInfo::addMethodToBeCompiled(TR::IlGeneratorMethodDetails & detail
       queueWeight += cur->_weight;
       if (cur->getMethodDetails().sameAs(details, fe))
          break;
+      if (loaderToBalance && !cur->_oldStartPC && cur->getMethodDetails().isOrdinaryMethod() &&
+          J9_CLASS_FROM_METHOD(cur->getMethodDetails().getMethod())->classLoader == loaderToBalance)
+         numEntriesFromSameLoader++;
       }
 
    // NOTE: we do not need to search the methodPool since we cannot reach here if an entry
@@ -4715,6 +4814,9 @@ TR::CompilationInfo::addMethodToBeCompiled(TR::IlGeneratorMethodDetails & detail
       cur->initialize(details, pc, priority, optimizationPlan);
       cur->_jitStateWhenQueued = getPersistentInfo()->getJitState();
 
+      if (_compQueueScheduler)
+         _compQueueScheduler->newRequest(vmThread, cur, loaderToBalance, numEntries, numEntriesFromSameLoader);
+
       bool isJNINativeMethodRequest = false;
       if (pc)
          {
@@ -4918,6 +5020,148 @@ void TR::CompilationInfo::queueEntry(TR_MethodToBeCompiled *entry)
       }
    }
 
+//---------------------- TR_AgingFairShareCompQueueScheduler ----------------------
+// When a single class loader floods the queue with first time compilations
+// (e.g. a framework loading a large application) its new requests get a lower
+// priority, so that other loaders still get their methods compiled.
+// Only normal async first time compilations are candidates; in server mode
+// the J9Method belongs to the client and cannot be dereferenced.
+//----------------------------------------------------------------------------
+J9ClassLoader *
+TR_AgingFairShareCompQueueScheduler::loaderToCount(TR::IlGeneratorMethodDetails &details, void *startPC,
+                                                   CompilationPriority priority, bool async)
+   {
+   if (_maxSharePerClassLoader <= 0 ||
+       !async || startPC || !details.isOrdinaryMethod() ||
+       priority <= CP_ASYNC_BELOW_NORMAL || priority > CP_ASYNC_NORMAL)
+      return NULL;
+#if defined(J9VM_OPT_JITSERVER)
+   if (TR::CompilationInfo::get()->getPersistentInfo()->getRemoteCompilationMode() == JITServer::SERVER)
+      return NULL;
+#endif
+   return J9_CLASS_FROM_METHOD(details.getMethod())->classLoader;
+   }
+
+bool
+TR_AgingFairShareCompQueueScheduler::exceedsFairShare(int32_t numEntries, int32_t numEntriesFromLoader, int32_t maxSharePerClassLoader)
+   {
+   return numEntries >= MIN_QUEUE_SIZE_FOR_LOADER_FAIRNESS &&
+          numEntriesFromLoader * 100 > numEntries * maxSharePerClassLoader;
+   }
+
+// Demote the request if its class loader already has more than its share of the queue
+void
+TR_AgingFairShareCompQueueScheduler::newRequest(J9VMThread *vmThread, TR_MethodToBeCompiled *entry, J9ClassLoader *loader,
+                                                int32_t numEntries, int32_t numEntriesFromLoader)
+   {
+   if (loader && exceedsFairShare(numEntries, numEntriesFromLoader, _maxSharePerClassLoader))
+      {
+      entry->_priority = CP_ASYNC_BELOW_NORMAL;
+      _numClassLoaderDemotions++;
+      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseCompileRequest))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_CR, "%p     Demoted entry %p: class loader %p has %d of the %d queued requests",
+            vmThread, entry, loader, numEntriesFromLoader, numEntries);
+      }
+   }
+
+// Each promotion raises the priority by one level, up to CP_ASYNC_ABOVE_NORMAL,
+// and the next promotion requires waiting for another aging threshold
+bool
+TR_AgingFairShareCompQueueScheduler::shouldAge(const TR_MethodToBeCompiled *entry, uint64_t crtTime, uint64_t agingThreshold)
+   {
+   return entry->_priority < CP_ASYNC_ABOVE_NORMAL &&
+          crtTime - entry->_entryTime >= agingThreshold * (entry->_numAgingPromotions + 1);
+   }
+
+uint16_t
+TR_AgingFairShareCompQueueScheduler::agedPriority(uint16_t priority)
+   {
+   if (priority < CP_ASYNC_ABOVE_MIN)
+      return CP_ASYNC_ABOVE_MIN;
+   if (priority < CP_ASYNC_BELOW_NORMAL)
+      return CP_ASYNC_BELOW_NORMAL;
+   if (priority < CP_ASYNC_NORMAL)
+      return CP_ASYNC_NORMAL;
+   return CP_ASYNC_ABOVE_NORMAL;
+   }
+
+void
+TR_AgingFairShareCompQueueScheduler::beforeDequeue(TR_MethodToBeCompiled *&queue, uint64_t crtTime)
+   {
+   // Don't walk the queue every time a compilation thread looks for work
+   if (_agingThreshold == 0 || crtTime < _lastAgingTime + _agingThreshold / 4)
+      return;
+   _lastAgingTime = crtTime;
+   _numAgingPromotions += ageQueue(queue, crtTime);
+   }
+
+// Promote async requests that have been waiting in the queue for too long,
+// so that a steady stream of higher priority requests cannot starve them.
+// A promoted entry is placed ahead of the younger entries of its new priority.
+// Returns the number of promoted entries.
+uint32_t
+TR_AgingFairShareCompQueueScheduler::ageQueue(TR_MethodToBeCompiled *&queue, uint64_t crtTime)
+   {
+   // Detach the entries that need promotion, preserving their relative order
+   TR_MethodToBeCompiled *promoted = NULL, *promotedTail = NULL;
+   TR_MethodToBeCompiled *prev = NULL, *cur = queue;
+   while (cur)
+      {
+      TR_MethodToBeCompiled *next = cur->_next;
+      if (shouldAge(cur, crtTime, _agingThreshold))
+         {
+         if (prev)
+            prev->_next = next;
+         else
+            queue = next;
+         cur->_next = NULL;
+         if (promotedTail)
+            promotedTail->_next = cur;
+         else
+            promoted = cur;
+         promotedTail = cur;
+         }
+      else
+         {
+         prev = cur;
+         }
+      cur = next;
+      }
+
+   uint32_t numPromoted = 0;
+   while (promoted)
+      {
+      TR_MethodToBeCompiled *entry = promoted;
+      promoted = promoted->_next;
+
+      uint16_t oldPriority = entry->_priority;
+      entry->_priority = agedPriority(oldPriority);
+      if (entry->_numAgingPromotions < 0xff)
+         entry->_numAgingPromotions++;
+      numPromoted++;
+
+      // Find the first entry with lower priority or with the same priority but younger
+      TR_MethodToBeCompiled **link = &queue;
+      while (*link && ((*link)->_priority > entry->_priority ||
+                       ((*link)->_priority == entry->_priority && (*link)->_entryTime <= entry->_entryTime)))
+         link = &(*link)->_next;
+      entry->_next = *link;
+      *link = entry;
+
+      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseCompileRequest))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_CR, "t=%6u Aged entry %p: waited %u ms, priority %x -> %x",
+            (uint32_t)crtTime, entry, (uint32_t)(crtTime - entry->_entryTime), oldPriority, entry->_priority);
+      }
+   return numPromoted;
+   }
+
+void
+TR_AgingFairShareCompQueueScheduler::printStats() const
+   {
+   fprintf(stderr, "NumAgingPromotions=%u\n", _numAgingPromotions);
+   fprintf(stderr, "NumClassLoaderDemotions=%u\n", _numClassLoaderDemotions);
+   }
+
 //--------------------------------- requeue ----------------------------------
 // Put the request that is currently being compiled, back into the queue
 // and increment the number of queued methods
@@ -5170,6 +5414,8 @@ TR::CompilationInfo::getNextMethodToBeCompiled(TR::CompilationInfoPerThread *com
    {
    TR_MethodToBeCompiled *m = NULL;
    *compThreadAction = PROCESS_ENTRY;
+   if (_methodQueue && _compQueueScheduler)
+      _compQueueScheduler->beforeDequeue(_methodQueue, getPersistentInfo()->getElapsedTime());
    if (_methodQueue)
       {
       // If the request is sync or AOT load or InstantReplay, take it now
@@ -5356,6 +5602,44 @@ int32_t TR::CompilationInfo::computeCompThreadSleepTime(int32_t compilationTimeM
    return sleepTimeMs;
    }
 
+//----------------------------- applyContainerCpuBudget -------------------------
+// Derive the CPU entitlement of the compilation threads from the CPU quota of the
+// container, as a percentage given by TR::Options::_compThreadCPUBudgetOfContainerQuota.
+// The entitlement then drives the existing throttling logic: comp threads are not
+// activated, or get suspended, when their CPU utilization exceeds the budget.
+// An entitlement given explicitly by the user takes precedence.
+// Called at startup and whenever the CPU entitlement is re-evaluated, because the
+// quota of a container can be changed while it runs.
+//-------------------------------------------------------------------------------
+void TR::CompilationInfo::applyContainerCpuBudget(uint64_t crtTime)
+   {
+   if (TR::Options::_compThreadCPUBudgetOfContainerQuota <= 0)
+      return;
+   if (TR::Options::_compThreadCPUEntitlement > 0 &&
+       TR::Options::_compThreadCPUEntitlement != _compCpuBudgetFromContainerQuota)
+      return; // set by the user
+
+   double quota = getContainerCpuQuota();
+   int32_t budget = 0;
+   if (quota > 0)
+      {
+      budget = (int32_t)(quota * TR::Options::_compThreadCPUBudgetOfContainerQuota / 100);
+      if (budget < 1)
+         budget = 1;
+      }
+   if (budget == _compCpuBudgetFromContainerQuota)
+      return;
+
+   TR::Options::_compThreadCPUEntitlement = budget;
+   _compCpuBudgetFromContainerQuota = budget;
+   if (budget == 0)
+      setExceedsCompCpuEntitlement(TR_no); // the quota was removed
+
+   if (TR::Options::isAnyVerboseOptionSet(TR_VerbosePerformance, TR_VerboseCompilationThreads))
+      TR_VerboseLog::writeLineLocked(TR_Vlog_INFO, "t=%6u Compilation thread CPU budget set to %d%% (%d%% of container CPU quota of %d%%)",
+         (uint32_t)crtTime, budget, TR::Options::_compThreadCPUBudgetOfContainerQuota, (int32_t)quota);
+   }
+
 // FIXME: this should be called only when running async - i have not yet figured
 // out how to figure this info out for interpreted methods scheduled for their
 // first compilation
@@ -5760,6 +6044,10 @@ void *TR::CompilationInfo::compileOnSeparateThread(J9VMThread * vmThread, TR::Il
    J9Method *method = details.getMethod();
    TR_J9VMBase *fe = TR_J9VMBase::get(_jitConfig, vmThread);
 
+   // Only first time compilations of ordinary methods can start warm with a persisted profile
+   bool persistedProfileWarmStart = !oldStartPC && details.isOrdinaryMethod() &&
+                                    hasPersistedProfileForWarmStart(vmThread, method);
+
    // Grab the compilation monitor
    //
    debugPrint(vmThread, "\tapplication thread acquiring compilation monitor\n");
@@ -6113,6 +6401,8 @@ void *TR::CompilationInfo::compileOnSeparateThread(J9VMThread * vmThread, TR::Il
          *compErrCode = compilationFailure;
       return 0;  // We couldn't add a method entry to be compiled.
       }
+   if (*queued)
+      entry->_persistedProfileWarmStart = persistedProfileWarmStart;
 
 #if defined(J9VM_JIT_DYNAMIC_LOOP_TRANSFER)
    if (details.isMethodInProgress() &&
@@ -11912,8 +12202,8 @@ TR_LowPriorityCompQueue::TR_LowPriorityCompQueue()
    : _firstLPQentry(NULL), _lastLPQentry(NULL), _sizeLPQ(0), _LPQWeight(0),
      _trackingEnabled(false), _spine(NULL), _STAT_compReqQueuedByIProfiler(0), _STAT_conflict(0),
      _STAT_staleScrubbed(0), _STAT_bypass(0), _STAT_compReqQueuedByJIT(0), _STAT_LPQcompFromIprofiler(0),
-     _STAT_LPQcompFromInterpreter(0), _STAT_LPQcompUpgrade(0), _STAT_compReqQueuedByInterpreter(0),
-     _STAT_numFailedToEnqueueInLPQ(0)
+     _STAT_LPQcompFromInterpreter(0), _STAT_LPQcompUpgrade(0), _STAT_LPQcompFromAOTPreload(0),
+     _STAT_compReqQueuedByInterpreter(0), _STAT_numFailedToEnqueueInLPQ(0), _STAT_compReqQueuedByAOTPreload(0)
    {
    }
 
@@ -12170,6 +12460,8 @@ void TR_LowPriorityCompQueue::incStatsCompFromLPQ(uint8_t reason)
          _STAT_LPQcompFromInterpreter++; break;
       case TR_MethodToBeCompiled::REASON_UPGRADE:
          _STAT_LPQcompUpgrade++; break;
+      case TR_MethodToBeCompiled::REASON_AOT_PRELOAD:
+         _STAT_LPQcompFromAOTPreload++; break;
       default:
          TR_ASSERT(false, "No other known reason for LPQ compilations\n");
       }
@@ -12184,6 +12476,8 @@ void TR_LowPriorityCompQueue::incStatsReqQueuedToLPQ(uint8_t reason)
          _STAT_compReqQueuedByInterpreter++; break;
       case TR_MethodToBeCompiled::REASON_UPGRADE:
          _STAT_compReqQueuedByJIT++; break;
+      case TR_MethodToBeCompiled::REASON_AOT_PRELOAD:
+         _STAT_compReqQueuedByAOTPreload++; break;
       default:
          TR_ASSERT(false, "No other known reason for LPQ compilations\n");
       }
@@ -12193,12 +12487,12 @@ void TR_LowPriorityCompQueue::printStats() const
    {
    fprintf(stderr, "Stats for LPQ:\n");
 
-   fprintf(stderr, "   Requests for LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u)\n",
-      _STAT_compReqQueuedByIProfiler + _STAT_compReqQueuedByInterpreter + _STAT_compReqQueuedByJIT,
-      _STAT_compReqQueuedByIProfiler, _STAT_compReqQueuedByInterpreter, _STAT_compReqQueuedByJIT);
-   fprintf(stderr, "   Comps.  from LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u)\n",
-      _STAT_LPQcompFromIprofiler + _STAT_LPQcompFromInterpreter + _STAT_LPQcompUpgrade,
-      _STAT_LPQcompFromIprofiler, _STAT_LPQcompFromInterpreter, _STAT_LPQcompUpgrade);
+   fprintf(stderr, "   Requests for LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u AOTPreload=%3u)\n",
+      _STAT_compReqQueuedByIProfiler + _STAT_compReqQueuedByInterpreter + _STAT_compReqQueuedByJIT + _STAT_compReqQueuedByAOTPreload,
+      _STAT_compReqQueuedByIProfiler, _STAT_compReqQueuedByInterpreter, _STAT_compReqQueuedByJIT, _STAT_compReqQueuedByAOTPreload);
+   fprintf(stderr, "   Comps.  from LPQ = %4u (Sources: IProfiler=%3u Interpreter=%3u JIT=%3u AOTPreload=%3u)\n",
+      _STAT_LPQcompFromIprofiler + _STAT_LPQcompFromInterpreter + _STAT_LPQcompUpgrade + _STAT_LPQcompFromAOTPreload,
+      _STAT_LPQcompFromIprofiler, _STAT_LPQcompFromInterpreter, _STAT_LPQcompUpgrade, _STAT_LPQcompFromAOTPreload);
 
    fprintf(stderr, "   Conflicts        = %4u (tried to cache j9method that didn't have space)\n", _STAT_conflict);
    fprintf(stderr, "   Stale entries    = %4u\n", _STAT_staleScrubbed); // we want very few of these, hopefully 0
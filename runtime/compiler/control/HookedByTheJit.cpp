@@ -80,8 +80,11 @@
 #include "env/SystemSegmentProvider.hpp"
 #if defined(J9VM_OPT_JITSERVER)
 #include "control/JITServerHelpers.hpp"
+#include "runtime/JITClientSession.hpp"
+#include "runtime/JITServerAOTCache.hpp"
 #include "runtime/JITServerIProfiler.hpp"
 #include "runtime/JITServerStatisticsThread.hpp"
+#include "net/MessageStatistics.hpp"
 #include "runtime/Listener.hpp"
 #endif
 
@@ -3685,6 +3688,53 @@ static void jitHookClassPreinitialize(J9HookInterface * * hookInterface, UDATA e
    jitReleaseClassTableMutex(vmThread);
    }
 
+#if defined(J9VM_INTERP_AOT_RUNTIME_SUPPORT) && defined(J9VM_OPT_SHARED_CLASSES) && (defined(TR_HOST_X86) || defined(TR_HOST_POWER) || defined(TR_HOST_S390) || defined(TR_HOST_ARM) || defined(TR_HOST_ARM64))
+// During startup, queue AOT loads for the methods of a freshly initialized class that have
+// an AOT body in the SCC and were hot in a previous run (as recorded by SCC hints).
+// The loads are placed in the low priority queue, so idle compilation threads relocate
+// them ahead of the first invocation instead of when the invocation count expires.
+static void queueAOTPreloadsForClass(J9VMThread *vmThread, J9JITConfig *jitConfig, J9Class *cl)
+   {
+   if (static_cast<TR_JitPrivateConfig *>(jitConfig->privateConfig)->aotValidHeader != TR_yes ||
+       TR::Options::getAOTCmdLineOptions()->getOption(TR_NoLoadAOT))
+      return;
+
+   TR::CompilationInfo *compInfo = TR::CompilationInfo::get(jitConfig);
+   TR_J9SharedCache *sc = TR_J9VMBase::get(jitConfig, vmThread, TR_J9VMBase::AOT_VM)->sharedCache();
+   if (!sc || !sc->isROMClassInSharedCache(cl->romClass))
+      return;
+
+   bool queued = false;
+   J9Method *methods = cl->ramMethods;
+   for (uint32_t i = 0; i < cl->romClass->romMethodCount; i++)
+      {
+      J9Method *method = methods + i;
+      J9ROMMethod *romMethod = J9_ROM_METHOD_FROM_RAM_METHOD(method);
+      if ((romMethod->modifiers & (J9AccAbstract | J9AccNative)) ||
+          TR::CompilationInfo::getInvocationCount(method) <= 0 || // compiled or already queued
+          !(sc->getAllEnabledHints(method) & (TR_HintUpgrade | TR_HintHot | TR_HintScorching)) ||
+          !jitConfig->javaVM->sharedClassConfig->existsCachedCodeForROMMethod(vmThread, romMethod))
+         continue;
+
+      OMR::CriticalSection preloadCS(compInfo->getCompilationMonitor());
+      if (compInfo->getLowPriorityCompQueue().addAOTPreloadReqToLPQ(method))
+         {
+         queued = true;
+         if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseCompileRequest))
+            TR_VerboseLog::writeLineLocked(TR_Vlog_CR, "j9m=%p     Enqueued in LPQ for AOT preload. LPQ_SZ=%d",
+               method, compInfo->getLowPriorityCompQueue().getLowPriorityQueueSize());
+         }
+      }
+
+   if (queued)
+      {
+      OMR::CriticalSection preloadCS(compInfo->getCompilationMonitor());
+      if (compInfo->getNumCompThreadsJobless() > 0 && compInfo->canProcessLowPriorityRequest())
+         compInfo->getCompilationMonitor()->notifyAll();
+      }
+   }
+#endif
+
 static void jitHookClassInitialize(J9HookInterface * * hookInterface, UDATA eventNum, void * eventData, void * userData)
    {
    J9VMClassInitializeEvent * classInitializeEvent = (J9VMClassInitializeEvent *)eventData;
@@ -3696,6 +3746,14 @@ static void jitHookClassInitialize(J9HookInterface * * hookInterface, UDATA even
       return; // if a hook gets called after freeJitConfig then not much else we can do
 
    loadingClasses = false;
+
+#if defined(J9VM_INTERP_AOT_RUNTIME_SUPPORT) && defined(J9VM_OPT_SHARED_CLASSES) && (defined(TR_HOST_X86) || defined(TR_HOST_POWER) || defined(TR_HOST_S390) || defined(TR_HOST_ARM) || defined(TR_HOST_ARM64))
+   if (TR::Options::_aotPreloadThreads > 0 &&
+       TR::Options::sharedClassCache() &&
+       vmThread->javaVM->phase != J9VM_PHASE_NOT_STARTUP &&
+       !(jitConfig->runtimeFlags & J9JIT_DEFER_JIT))
+      queueAOTPreloadsForClass(vmThread, jitConfig, cl);
+#endif
    }
 
 int32_t returnIprofilerState()
@@ -3959,6 +4017,7 @@ void printIprofilerStats(TR::Options *options, J9JITConfig * jitConfig, TR_IProf
          j9tty_printf(PORTLIB, "Total records: %d\n", TEST_records);
          j9tty_printf(PORTLIB, "Total method persistence opportunities: %d\n", TR_IProfiler::_STATS_methodPersistenceAttempts);
          j9tty_printf(PORTLIB, "Total jitprofile entries: %d\n", TR_IProfiler::_STATS_methodPersisted);
+         j9tty_printf(PORTLIB, "Total jitprofile entries refreshed by hot compilations: %d\n", TR_IProfiler::_STATS_methodPersistedRefreshed);
          j9tty_printf(PORTLIB, "Total IProfiler persistence aborted due to locked entry:                %d\n", TR_IProfiler::_STATS_abortedPersistence);
          j9tty_printf(PORTLIB, "Total IProfiler persistence failed:                                     %d\n", TR_IProfiler::_STATS_persistError);
          j9tty_printf(PORTLIB, "Total IProfiler persistence aborted because SCC full:                   %d\n", TR_IProfiler::_STATS_methodNotPersisted_SCCfull);
@@ -4180,9 +4239,23 @@ void JitShutdown(J9JITConfig * jitConfig)
    static char * isPrintJITServerMsgStats = feGetEnv("TR_PrintJITServerMsgStats");
    if (isPrintJITServerMsgStats)
       JITServerHelpers::printJITServerMsgStats(jitConfig, compInfo);
+   else if (JITServer::MessageStatistics::isEnabled() && TR::Options::getVerboseOption(TR_VerboseJITServer))
+      JITServer::MessageStatistics::printStats(true);
    static char * isPrintJITServerCHTableStats = feGetEnv("TR_PrintJITServerCHTableStats");
    if (isPrintJITServerCHTableStats)
       JITServerHelpers::printJITServerCHTableStats(jitConfig, compInfo);
+   static char * isPrintJITServerAOTCacheStats = feGetEnv("TR_PrintJITServerAOTCacheStats");
+   if (isPrintJITServerAOTCacheStats && compInfo->getJITServerAOTCache())
+      compInfo->getJITServerAOTCache()->printStats();
+
+   // Save the client session caches so that a restarted server does not start cold
+   if (compInfo->getPersistentInfo()->getRemoteCompilationMode() == JITServer::SERVER &&
+       !compInfo->getPersistentInfo()->getJITServerSessionSnapshotFile().empty() &&
+       compInfo->getClientSessionHT())
+      {
+      OMR::CriticalSection saveSessionSnapshot(compInfo->getCompilationMonitor());
+      compInfo->getClientSessionHT()->saveSnapshot(compInfo->getPersistentInfo()->getJITServerSessionSnapshotFile().c_str());
+      }
 #endif
 
    TRC_JIT_ShutDownEnd(vmThread, "end of JitShutdown function");
@@ -4906,8 +4979,11 @@ bool CPUThrottleEnabled(TR::CompilationInfo *compInfo, uint64_t crtTime)
    if (TR::Options::_compThreadCPUEntitlement <= 0)
       return false;
 
-   // During startup we apply throttling only if enabled
+   // During startup we apply throttling only if enabled. A budget derived from the
+   // container CPU quota is meant to protect the application during ramp-up,
+   // so it applies during startup as well.
    if (!TR::Options::getCmdLineOptions()->getOption(TR_EnableCompThreadThrottlingDuringStartup) &&
+      !compInfo->isCompCpuBudgetFromContainerQuota() &&
       compInfo->getJITConfig()->javaVM->phase != J9VM_PHASE_NOT_STARTUP)
       return false;
 
@@ -5627,6 +5703,7 @@ static int32_t J9THREAD_PROC samplerThreadProc(void * entryarg)
    uint64_t lastProcNumCheck = 0;
    bool idleMode = false;
    uint64_t lastMinuteCheck = 0; // for activities that need to be done rarely (every minute)
+   uint64_t lastCodeCacheFragmentationReport = 0;
    // initialize the startTime and elapsedTime here
    PORT_ACCESS_FROM_JAVAVM(vm);
 
@@ -5927,6 +6004,7 @@ static int32_t J9THREAD_PROC samplerThreadProc(void * entryarg)
 
             // time to reevaluate the number of processors
             compInfo->computeAndCacheCpuEntitlement();
+            compInfo->applyContainerCpuBudget(crtTime);
             uint32_t tempProc = compInfo->getNumTargetCPUs(); // TODO is this needed?
             //compInfo->setNumTargetCPUs((tempProc = j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_TARGET)) > 0 ? tempProc : 1);
 
@@ -5967,6 +6045,14 @@ static int32_t J9THREAD_PROC samplerThreadProc(void * entryarg)
 #endif
             lastProcNumCheck = crtTime;
             }
+
+         if (TR::Options::_codeCacheFragmentationReportPeriod > 0 &&
+             TR::Options::getVerboseOption(TR_VerboseCodeCache) &&
+             crtTime >= lastCodeCacheFragmentationReport + TR::Options::_codeCacheFragmentationReportPeriod)
+            {
+            TR::CodeCacheManager::instance()->printFragmentationStats(crtTime);
+            lastCodeCacheFragmentationReport = crtTime;
+            }
          uint32_t loadFactor = (uint32_t) ((numActiveThreads==0?1:numActiveThreads)*loadFactorAdjustment);
          persistentInfo->setLoadFactor(loadFactor);
          // if the loadfactor is 0, set a default of 1. This will allow us to
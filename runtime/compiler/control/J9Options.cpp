@@ -54,6 +54,7 @@
 #if defined(J9VM_OPT_JITSERVER)
 #include "env/j9methodServer.hpp"
 #include "control/JITServerCompilationThread.hpp"
+#include "net/MessageStatistics.hpp"
 #endif /* defined(J9VM_OPT_JITSERVER) */
 
 #if defined(J9VM_OPT_SHARED_CLASSES)
@@ -126,6 +127,7 @@ uintptr_t J9::Options::_compThreadAffinityMask = 0;
 int64_t J9::Options::_oldAge = 1000*60*1000; // 1000 minutes
 int64_t J9::Options::_oldAgeUnderLowMemory = 1000*60*5; // 5 minute
 int64_t J9::Options::_timeBetweenPurges = 1000*60*1; // 1 minute
+int32_t J9::Options::_jitserverAOTCacheSizeInKB = 64*1024; // 64 MB
 #endif /* defined(J9VM_OPT_JITSERVER) */
 
 int32_t J9::Options::_interpreterSamplingThreshold = 300;
@@ -195,12 +197,17 @@ int32_t J9::Options::_waitTimeToExitStartupMode = DEFAULT_WAIT_TIME_TO_EXIT_STAR
 int32_t J9::Options::_waitTimeToGCR = 10000; // ms
 int32_t J9::Options::_waitTimeToStartIProfiler = 1000; // ms
 int32_t J9::Options::_compilationDelayTime = 0; // sec; 0 means disabled
+int32_t J9::Options::_compQueueAgingThreshold = 0; // ms; 0 means disabled
+int32_t J9::Options::_compQueueMaxSharePerClassLoader = 0; // percentage; 0 means disabled
+int32_t J9::Options::_compThreadCPUBudgetOfContainerQuota = 0; // percentage; 0 means disabled
+int32_t J9::Options::_codeCacheFragmentationReportPeriod = 0; // ms; 0 means disabled
 
 int32_t J9::Options::_invocationThresholdToTriggerLowPriComp = 250;
 
 int32_t J9::Options::_aotMethodThreshold = 200;
 int32_t J9::Options::_aotMethodCompilesThreshold = 200;
 int32_t J9::Options::_aotWarmSCCThreshold = 200;
+int32_t J9::Options::_aotPreloadThreads = 0; // disabled by default
 
 int32_t J9::Options::_largeTranslationTime = -1; // usec
 int32_t J9::Options::_weightOfAOTLoad = 1; // must be between 0 and 256
@@ -676,6 +683,9 @@ TR::OptionTable OMR::Options::_feOptions[] = {
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_aotMethodCompilesThreshold, 0, " %d", NOT_IN_SUBSET},
    {"aotMethodThreshold=", "R<nnn>\tNumber of methods found in shared cache after which we stop AOTing",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_aotMethodThreshold, 0, " %d", NOT_IN_SUBSET},
+   {"aotPreloadThreads=", "R<nnn>\tDuring startup, use up to this many compilation threads to load in the background "
+                          "the AOT bodies of methods that were hot in previous runs. 0 disables the preloading",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_aotPreloadThreads, 0, " %d", NOT_IN_SUBSET },
    {"aotWarmSCCThreshold=", "R<nnn>\tNumber of methods found in shared cache at startup to declare SCC as warm",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_aotWarmSCCThreshold, 0, " %d", NOT_IN_SUBSET },
    {"availableCPUPercentage=", "M<nnn>\tUse it when java process has a fraction of a CPU. Number 1..99 ",
@@ -707,6 +717,9 @@ TR::OptionTable OMR::Options::_feOptions[] = {
    {"clinit",             "D\tforce compilation of <clinit> methods", SET_JITCONFIG_RUNTIME_FLAG(J9JIT_COMPILE_CLINIT) },
    {"code=",              "C<nnn>\tcode cache size, in KB",
         TR::Options::setJitConfigNumericValue, offsetof(J9JITConfig, codeCacheKB), 0, " %d (KB)"},
+   {"codeCacheFragmentationReportPeriod=", "M<nnn>\tperiod in ms for printing the fragmentation of each code cache "
+                                           "to the verbose log, with -Xjit:verbose={codecache}. 0 disables the report",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_codeCacheFragmentationReportPeriod, 0, "F%d", NOT_IN_SUBSET},
    {"codepad=",              "C<nnn>\ttotal code cache pad size, in KB",
         TR::Options::setJitConfigNumericValue, offsetof(J9JITConfig, codeCachePadKB), 0, " %d (KB)"},
    {"codetotal=",              "C<nnn>\ttotal code memory limit, in KB",
@@ -730,6 +743,17 @@ TR::OptionTable OMR::Options::_feOptions[] = {
    {"compilationYieldStatsThreshold=", "M<nnn>\tprint stats about compilation yield points if the "
                                        "threshold is exceeded. Default 1000 usec. ",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compYieldStatsThreshold, 0, "F%d", NOT_IN_SUBSET},
+   {"compQueueAgingThreshold=", "M<nnn>\tnumber of ms after which an async request waiting in the "
+                                "compilation queue is promoted to the next priority level. 0 disables aging",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compQueueAgingThreshold, 0, "F%d", NOT_IN_SUBSET},
+   {"compQueueMaxSharePerClassLoader=", "M<nnn>\tpercentage of the compilation queue that first time compilations "
+                                        "from a single class loader can take before its new requests get a lower priority. "
+                                        "Use an integer 1..100; 0 disables the mechanism",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compQueueMaxSharePerClassLoader, 0, "F%d", NOT_IN_SUBSET},
+   {"compThreadCPUBudgetOfContainerQuota=", "M<nnn>\tpercentage of the container CPU quota that all compilation "
+                                            "threads together can use. Sets compThreadCPUEntitlement and enables throttling "
+                                            "during startup. Use an integer 1..100; 0 disables the mechanism",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compThreadCPUBudgetOfContainerQuota, 0, "F%d", NOT_IN_SUBSET},
    {"compThreadPriority=",    "M<nnn>\tThe priority of the compilation thread. "
                               "Use an integer between 0 and 4. Default is 4 (highest priority)",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compilationThreadPriorityCode, 0, "F%d", NOT_IN_SUBSET},
@@ -868,6 +892,10 @@ TR::OptionTable OMR::Options::_feOptions[] = {
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_iprofilerSamplesBeforeTurningOff, 0, "P%d", NOT_IN_SUBSET},
    {"itFileNamePrefix=",  "L<filename>\tprefix for itrace filename",
         TR::Options::setStringForPrivateBase, offsetof(TR_JitPrivateConfig,itraceFileNamePrefix), 0, "P%s"},
+#if defined(J9VM_OPT_JITSERVER)
+   {"jitserverAOTCacheSizeInKB=", "M<nnn>\tmaximum amount of memory (KB) used by the JITServer AOT cache",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_jitserverAOTCacheSizeInKB, 0, "F%d", NOT_IN_SUBSET},
+#endif /* defined(J9VM_OPT_JITSERVER) */
    {"jProfilingEnablementSampleThreshold=", "M<nnn>\tNumber of global samples to allow generation of JProfiling bodies",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_jProfilingEnablementSampleThreshold, 0, "F%d", NOT_IN_SUBSET },
    {"kcaoffsets",         "I\tGenerate a header file with offset data for use with KCA", TR::Options::kcaOffsets, 0, 0, "F" },
@@ -1090,12 +1118,14 @@ static void JITServerParseCommonOptions(J9JavaVM *vm, TR::CompilationInfo *compI
    const char *xxJITServerSSLKeyOption = "-XX:JITServerSSLKey=";
    const char *xxJITServerSSLCertOption = "-XX:JITServerSSLCert=";
    const char *xxJITServerSSLRootCertsOption = "-XX:JITServerSSLRootCerts=";
+   const char *xxJITServerUnixSocketOption = "-XX:JITServerUnixSocket=";
 
    int32_t xxJITServerPortArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerPortOption, 0);
    int32_t xxJITServerTimeoutArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerTimeoutOption, 0);
    int32_t xxJITServerSSLKeyArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerSSLKeyOption, 0);
    int32_t xxJITServerSSLCertArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerSSLCertOption, 0);
    int32_t xxJITServerSSLRootCertsArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerSSLRootCertsOption, 0);
+   int32_t xxJITServerUnixSocketArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerUnixSocketOption, 0);
 
    if (xxJITServerPortArgIndex >= 0)
       {
@@ -1138,6 +1168,23 @@ static void JITServerParseCommonOptions(J9JavaVM *vm, TR::CompilationInfo *compI
       if (!cert.empty())
          compInfo->setJITServerSslRootCerts(cert);
       }
+
+   // A Unix domain socket replaces the TCP connection when client and server run on the same machine
+   if (xxJITServerUnixSocketArgIndex >= 0)
+      {
+      char *path = NULL;
+      GET_OPTION_VALUE(xxJITServerUnixSocketArgIndex, '=', &path);
+      if (path && path[0])
+         compInfo->getPersistentInfo()->setJITServerUnixSocketPath(path);
+      }
+
+   // Collect per message type counters and latency histograms
+   const char *xxJITServerMessageStatisticsOption = "-XX:+JITServerMessageStatistics";
+   const char *xxDisableJITServerMessageStatisticsOption = "-XX:-JITServerMessageStatistics";
+   int32_t xxJITServerMessageStatisticsArgIndex = FIND_ARG_IN_VMARGS(EXACT_MATCH, xxJITServerMessageStatisticsOption, 0);
+   int32_t xxDisableJITServerMessageStatisticsArgIndex = FIND_ARG_IN_VMARGS(EXACT_MATCH, xxDisableJITServerMessageStatisticsOption, 0);
+   if (xxJITServerMessageStatisticsArgIndex > xxDisableJITServerMessageStatisticsArgIndex)
+      JITServer::MessageStatistics::setEnabled(true);
    }
 #endif /* defined(J9VM_OPT_JITSERVER) */
 
@@ -1999,6 +2046,63 @@ J9::Options::fePreProcess(void * base)
          // Increase the default timeout value for JITServer.
          // It can be overridden with -XX:JITServerTimeout= option in JITServerParseCommonOptions().
          compInfo->getPersistentInfo()->setSocketTimeout(30000);
+
+         // Check option -XX:+JITServerUseAOTCache
+         // AOT bodies are shared between clients only when explicitly requested
+         const char *xxJITServerUseAOTCacheOption = "-XX:+JITServerUseAOTCache";
+         const char *xxDisableJITServerUseAOTCacheOption = "-XX:-JITServerUseAOTCache";
+
+         int32_t xxJITServerUseAOTCacheArgIndex = FIND_ARG_IN_VMARGS(EXACT_MATCH, xxJITServerUseAOTCacheOption, 0);
+         int32_t xxDisableJITServerUseAOTCacheArgIndex = FIND_ARG_IN_VMARGS(EXACT_MATCH, xxDisableJITServerUseAOTCacheOption, 0);
+
+         if (xxJITServerUseAOTCacheArgIndex > xxDisableJITServerUseAOTCacheArgIndex)
+            compInfo->getPersistentInfo()->setJITServerUseAOTCache(true);
+
+         // Check option -XX:JITServerSessionSnapshotFile=
+         // The ROM class caches of all client sessions are written to this file at shutdown
+         // and read back at startup, so that a restarted server does not start cold
+         const char *xxJITServerSessionSnapshotFileOption = "-XX:JITServerSessionSnapshotFile=";
+         int32_t xxJITServerSessionSnapshotFileArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerSessionSnapshotFileOption, 0);
+
+         if (xxJITServerSessionSnapshotFileArgIndex >= 0)
+            {
+            char *fileName = NULL;
+            GET_OPTION_VALUE(xxJITServerSessionSnapshotFileArgIndex, '=', &fileName);
+            if (fileName && fileName[0])
+               compInfo->getPersistentInfo()->setJITServerSessionSnapshotFile(fileName);
+            }
+
+         // Check options -XX:JITServerReplayFile=, -XX:JITServerReplayCount= and -XX:JITServerReplayThreads=
+         // The compilation recorded by a client with -XX:JITServerCaptureDir= is replayed
+         // at startup, to measure the compilation time and the protocol overhead offline
+         const char *xxJITServerReplayFileOption = "-XX:JITServerReplayFile=";
+         const char *xxJITServerReplayCountOption = "-XX:JITServerReplayCount=";
+         const char *xxJITServerReplayThreadsOption = "-XX:JITServerReplayThreads=";
+         int32_t xxJITServerReplayFileArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerReplayFileOption, 0);
+         int32_t xxJITServerReplayCountArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerReplayCountOption, 0);
+         int32_t xxJITServerReplayThreadsArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerReplayThreadsOption, 0);
+
+         if (xxJITServerReplayFileArgIndex >= 0)
+            {
+            char *fileName = NULL;
+            GET_OPTION_VALUE(xxJITServerReplayFileArgIndex, '=', &fileName);
+            if (fileName && fileName[0])
+               compInfo->getPersistentInfo()->setJITServerReplayFile(fileName);
+            }
+         if (xxJITServerReplayCountArgIndex >= 0)
+            {
+            uint32_t count = 0;
+            IDATA ret = GET_INTEGER_VALUE(xxJITServerReplayCountArgIndex, xxJITServerReplayCountOption, count);
+            if (ret == OPTION_OK && count > 0)
+               compInfo->getPersistentInfo()->setJITServerReplayCount(count);
+            }
+         if (xxJITServerReplayThreadsArgIndex >= 0)
+            {
+            uint32_t numThreads = 0;
+            IDATA ret = GET_INTEGER_VALUE(xxJITServerReplayThreadsArgIndex, xxJITServerReplayThreadsOption, numThreads);
+            if (ret == OPTION_OK && numThreads > 0)
+               compInfo->getPersistentInfo()->setJITServerReplayThreads(numThreads);
+            }
          }
       else
          {
@@ -2036,6 +2140,20 @@ J9::Options::fePreProcess(void * base)
                GET_OPTION_VALUE(xxJITServerAddressArgIndex, '=', &address);
                compInfo->getPersistentInfo()->setJITServerAddress(address);
                }
+
+            // Check option -XX:JITServerCaptureDir=
+            // Every remote compilation is recorded to a file in this directory so that it
+            // can be replayed by a server started with -XX:JITServerReplayFile=
+            const char *xxJITServerCaptureDirOption = "-XX:JITServerCaptureDir=";
+            int32_t xxJITServerCaptureDirArgIndex = FIND_ARG_IN_VMARGS(STARTSWITH_MATCH, xxJITServerCaptureDirOption, 0);
+
+            if (xxJITServerCaptureDirArgIndex >= 0)
+               {
+               char *dir = NULL;
+               GET_OPTION_VALUE(xxJITServerCaptureDirArgIndex, '=', &dir);
+               if (dir && dir[0])
+                  compInfo->getPersistentInfo()->setJITServerCaptureDir(dir);
+               }
             }
          }
       JITServerParseCommonOptions(vm, compInfo);
@@ -2145,12 +2263,18 @@ J9::Options::setupJITServerOptions()
          {
          TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "JITServer Server Mode. Port: %d. Connection Timeout %ums",
                persistentInfo->getJITServerPort(), persistentInfo->getSocketTimeout());
+         if (!persistentInfo->getJITServerUnixSocketPath().empty())
+            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "JITServer listening on Unix socket %s instead of TCP port",
+                  persistentInfo->getJITServerUnixSocketPath().c_str());
          }
       else if (persistentInfo->getRemoteCompilationMode() == JITServer::CLIENT)
          {
          TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "JITServer Client Mode. Server address: %s port: %d. Connection Timeout %ums",
                persistentInfo->getJITServerAddress().c_str(), persistentInfo->getJITServerPort(),
                persistentInfo->getSocketTimeout());
+         if (!persistentInfo->getJITServerUnixSocketPath().empty())
+            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "JITServer Client connecting through Unix socket %s",
+                  persistentInfo->getJITServerUnixSocketPath().c_str());
          TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Identifier for current client JVM: %llu\n",
                (unsigned long long) compInfo->getPersistentInfo()->getClientUID());
          }
@@ -2242,6 +2366,12 @@ J9::Options::fePostProcessJIT(void * base)
    //
    TR::Options::setVerboseOptions(privateConfig->verboseFlags);
 
+   // Needs the verbose options to report the budget
+   compInfo->applyContainerCpuBudget(0);
+
+   if (_compQueueAgingThreshold > 0 || _compQueueMaxSharePerClassLoader > 0)
+      compInfo->setCompQueueScheduler(new (PERSISTENT_NEW) TR_AgingFairShareCompQueueScheduler(_compQueueAgingThreshold, _compQueueMaxSharePerClassLoader));
+
    if (TR::Options::getVerboseOption(TR_VerboseFilters))
       {
       if (TR::Options::getDebug() && TR::Options::getDebug()->getCompilationFilters())
@@ -261,6 +261,7 @@ class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
    static int64_t _oldAge;
    static int64_t _oldAgeUnderLowMemory;
    static int64_t _timeBetweenPurges;
+   static int32_t _jitserverAOTCacheSizeInKB; // memory limit for the AOT bodies shared between clients
 #endif /* defined(J9VM_OPT_JITSERVER) */
 
    static int32_t _waitTimeToEnterIdleMode;
@@ -269,6 +270,11 @@ class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
    static int32_t _waitTimeToGCR;
    static int32_t _waitTimeToStartIProfiler;
    static int32_t _compilationDelayTime;
+   static int32_t _compQueueAgingThreshold; // ms; an async request waiting in the queue this long is promoted; 0 means disabled
+   static int32_t _compQueueMaxSharePerClassLoader; // percentage of the queue that first time compilations from one class loader
+                                                    // can take before new requests from it are demoted; 0 means disabled
+   static int32_t _compThreadCPUBudgetOfContainerQuota; // percentage of the container CPU quota that compilation threads can use; 0 means disabled
+   static int32_t _codeCacheFragmentationReportPeriod; // ms; 0 means disabled
 
    static int32_t _invocationThresholdToTriggerLowPriComp; // we trigger an LPQ comp req only if the method
                                                            // was invoked at least this many times
@@ -278,6 +284,8 @@ class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
                                                //   complication due to zOS trade scenario: two JVMs share a cache
    static int32_t _aotWarmSCCThreshold; // if there are at least that many AOT bodies in SCC at startup
                                         // then we declare the SCC to be warm
+   static int32_t _aotPreloadThreads; // max number of compilation threads that can relocate AOT bodies of
+                                      // hot methods ahead of their first invocation; 0 means disabled
    static int32_t _largeTranslationTime; // usec
    static int32_t _weightOfAOTLoad;
    static int32_t _weightOfJSR292;
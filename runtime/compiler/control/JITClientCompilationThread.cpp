@@ -34,11 +34,14 @@
 #include "env/VMAccessCriticalSection.hpp"
 #include "env/VMJ9.h"
 #include "env/VerboseLog.hpp"
+#include "ilgen/J9ByteCodeIterator.hpp"
 #include "net/ClientStream.hpp"
 #include "optimizer/J9TransformUtil.hpp"
 #include "runtime/CodeCacheExceptions.hpp"
 #include "runtime/J9VMAccess.hpp"
 #include "runtime/JITClientSession.hpp"
+#include "runtime/JITServerAOTCache.hpp"
+#include "runtime/JITServerCompilationCapture.hpp"
 #include "runtime/JITServerIProfiler.hpp"
 #include "runtime/RelocationTarget.hpp"
 #include "env/TypeLayout.hpp"
@@ -102,6 +105,136 @@ findField(J9VMThread *vmStruct, J9ConstantPool *constantPool, UDATA index, BOOLE
    return result;
    }
 
+// Answer the VM_getFields query of the server
+static void
+getFields(TR_J9VM *fe, TR_ResolvedJ9Method *owningMethod, const std::vector<int32_t> &cpIndices, const std::vector<uint8_t> &isStatic,
+          std::vector<J9Class *> &declaringClasses, std::vector<UDATA> &fields)
+   {
+   int32_t numFields = cpIndices.size();
+   declaringClasses.reserve(numFields);
+   fields.reserve(numFields);
+
+   J9ConstantPool *cp = reinterpret_cast<J9ConstantPool *>(owningMethod->ramConstantPool());
+   for (int32_t i = 0; i < numFields; ++i)
+      {
+      J9Class *declaringClass;
+      // do we need to check if the field is resolved?
+      UDATA field = findField(fe->vmThread(), cp, cpIndices[i], isStatic[i], &declaringClass);
+      declaringClasses.push_back(declaringClass);
+      fields.push_back(field);
+      }
+   }
+
+// Answer the ResolvedMethod_getMultipleResolvedMethods query of the server
+static void
+getMultipleResolvedMethods(TR_J9VM *fe, TR::Compilation *comp, TR_Memory *trMemory, TR_ResolvedJ9Method *owningMethod,
+                           const std::vector<TR_ResolvedMethodType> &methodTypes, const std::vector<int32_t> &cpIndices,
+                           std::vector<J9Method *> &ramMethods, std::vector<uint32_t> &vTableOffsets,
+                           std::vector<TR_ResolvedJ9JITServerMethodInfo> &methodInfos)
+   {
+   int32_t numMethods = methodTypes.size();
+   ramMethods.resize(numMethods);
+   vTableOffsets.resize(numMethods);
+   methodInfos.resize(numMethods);
+   for (int32_t i = 0; i < numMethods; ++i)
+      {
+      int32_t cpIndex = cpIndices[i];
+      TR_ResolvedMethodType type = methodTypes[i];
+      J9Method *ramMethod = NULL;
+      uint32_t vTableOffset = 0;
+      TR_ResolvedJ9JITServerMethodInfo methodInfo;
+      bool createMethod = false;
+      switch (type)
+         {
+         case TR_ResolvedMethodType::VirtualFromCP:
+            {
+            UDATA offset;
+            ramMethod = (J9Method *) TR_ResolvedJ9Method::getVirtualMethod(fe, owningMethod->cp(), cpIndex, &offset, NULL);
+            vTableOffset = offset;
+            if (ramMethod && vTableOffset) createMethod = true;
+            break;
+            }
+         case TR_ResolvedMethodType::Static:
+            {
+            TR::VMAccessCriticalSection resolveStaticMethodRef(fe);
+            ramMethod = jitResolveStaticMethodRef(fe->vmThread(), owningMethod->cp(), cpIndex, J9_RESOLVE_FLAG_JIT_COMPILE_TIME);
+            if (ramMethod) createMethod = true;
+            break;
+            }
+         case TR_ResolvedMethodType::Special:
+            {
+            if (!((fe->_jitConfig->runtimeFlags & J9JIT_RUNTIME_RESOLVE) &&
+                              comp->ilGenRequest().details().isMethodHandleThunk() &&
+                              performTransformation(comp, "Setting as unresolved special call cpIndex=%d\n",cpIndex)))
+               {
+               TR::VMAccessCriticalSection resolveSpecialMethodRef(fe);
+               ramMethod = jitResolveSpecialMethodRef(fe->vmThread(), owningMethod->cp(), cpIndex, J9_RESOLVE_FLAG_JIT_COMPILE_TIME);
+               }
+            if (ramMethod) createMethod = true;
+            break;
+            }
+         case TR_ResolvedMethodType::ImproperInterface:
+            {
+            TR::VMAccessCriticalSection getResolvedHandleMethod(fe);
+            UDATA offset;
+            ramMethod = jitGetImproperInterfaceMethodFromCP(
+               fe->vmThread(),
+               owningMethod->cp(),
+               cpIndex,
+               &offset);
+            vTableOffset = offset;
+            if (ramMethod) createMethod = true;
+            break;
+            }
+         default:
+            {
+            break;
+            }
+         }
+      if (createMethod)
+         TR_ResolvedJ9JITServerMethod::createResolvedMethodFromJ9MethodMirror(
+            methodInfo,
+            (TR_OpaqueMethodBlock *) ramMethod,
+            vTableOffset,
+            owningMethod,
+            fe,
+            trMemory);
+      ramMethods[i] = ramMethod;
+      vTableOffsets[i] = vTableOffset;
+      methodInfos[i] = methodInfo;
+      }
+   }
+
+// Answer the queries the server makes about the invokes and field accesses of the method being compiled
+// when its IL generation starts (see TR_ResolvedJ9JITServerMethod::cacheResolvedMethodsCallees and cacheFields),
+// so that they can be sent with the compilation request. Unlike the server, the client does not know which
+// answers the server has already cached, so it answers all of them.
+static void
+prefetchCompileeQueries(TR_J9VM *fe, TR::Compilation *comp, TR_ResolvedJ9Method *compileeMirror, TR_ResolvedJ9JITServerMethodQueries &queries)
+   {
+   std::vector<uint8_t> isStaticField;
+   TR_J9ByteCodeIterator bci(0, compileeMirror, fe, comp);
+   for (TR_J9ByteCode bc = bci.first(); bc != J9BCunknown; bc = bci.next())
+      {
+      int32_t cpIndex = bci.next2Bytes();
+      bool isStatic;
+      TR_ResolvedMethodType type = TR_ResolvedJ9JITServerMethod::getInvokeResolvedMethodType(bc, cpIndex);
+      if (type != TR_ResolvedMethodType::NoType)
+         {
+         std::get<0>(queries).push_back(type);
+         std::get<1>(queries).push_back(cpIndex);
+         }
+      else if (TR_ResolvedJ9JITServerMethod::isFieldAccess(bc, isStatic))
+         {
+         std::get<5>(queries).push_back(cpIndex);
+         isStaticField.push_back(isStatic);
+         }
+      }
+   getMultipleResolvedMethods(fe, comp, comp->trMemory(), compileeMirror, std::get<0>(queries), std::get<1>(queries),
+                              std::get<2>(queries), std::get<3>(queries), std::get<4>(queries));
+   getFields(fe, compileeMirror, std::get<5>(queries), isStaticField, std::get<6>(queries), std::get<7>(queries));
+   }
+
 static void
 handler_IProfiler_profilingSample(JITServer::ClientStream *client, TR_J9VM *fe, TR::Compilation *comp)
    {
@@ -1125,21 +1258,9 @@ handleServerMessage(JITServer::ClientStream *client, TR_J9VM *fe, JITServer::Mes
          auto &cpIndices = std::get<1>(recv);
          auto &isStatic = std::get<2>(recv);
 
-         int32_t numFields = cpIndices.size();
          std::vector<J9Class *> declaringClasses;
          std::vector<UDATA> fields;
-         declaringClasses.reserve(numFields);
-         fields.reserve(numFields);
-
-         J9ConstantPool *cp = reinterpret_cast<J9ConstantPool *>(owningMethod->ramConstantPool());
-         for (int32_t i = 0; i < numFields; ++i)
-            {
-            J9Class *declaringClass;
-            // do we need to check if the field is resolved?
-            UDATA field = findField(fe->vmThread(), cp, cpIndices[i], isStatic[i], &declaringClass);
-            declaringClasses.push_back(declaringClass);
-            fields.push_back(field);
-            }
+         getFields(fe, owningMethod, cpIndices, isStatic, declaringClasses, fields);
          client->write(response, declaringClasses, fields);
          }
          break;
@@ -1756,79 +1877,12 @@ handleServerMessage(JITServer::ClientStream *client, TR_J9VM *fe, JITServer::Mes
          {
          auto recv = client->getRecvData<TR_ResolvedJ9Method *, std::vector<TR_ResolvedMethodType>, std::vector<int32_t>>();
          auto owningMethod = std::get<0>(recv);
-         auto methodTypes = std::get<1>(recv);
-         auto cpIndices = std::get<2>(recv);
-         int32_t numMethods = methodTypes.size();
-         std::vector<J9Method *> ramMethods(numMethods);
-         std::vector<uint32_t> vTableOffsets(numMethods);
-         std::vector<TR_ResolvedJ9JITServerMethodInfo> methodInfos(numMethods);
-         for (int32_t i = 0; i < numMethods; ++i)
-            {
-            int32_t cpIndex = cpIndices[i];
-            TR_ResolvedMethodType type = methodTypes[i];
-            J9Method *ramMethod = NULL;
-            uint32_t vTableOffset = 0;
-            TR_ResolvedJ9JITServerMethodInfo methodInfo;
-            bool createMethod = false;
-            switch (type)
-               {
-               case TR_ResolvedMethodType::VirtualFromCP:
-                  {
-                  UDATA offset;
-                  ramMethod = (J9Method *) TR_ResolvedJ9Method::getVirtualMethod(fe, owningMethod->cp(), cpIndex, &offset, NULL);
-                  vTableOffset = offset;
-                  if (ramMethod && vTableOffset) createMethod = true;
-                  break;
-                  }
-               case TR_ResolvedMethodType::Static:
-                  {
-                  TR::VMAccessCriticalSection resolveStaticMethodRef(fe);
-                  ramMethod = jitResolveStaticMethodRef(fe->vmThread(), owningMethod->cp(), cpIndex, J9_RESOLVE_FLAG_JIT_COMPILE_TIME);
-                  if (ramMethod) createMethod = true;
-                  break;
-                  }
-               case TR_ResolvedMethodType::Special:
-                  {
-                  if (!((fe->_jitConfig->runtimeFlags & J9JIT_RUNTIME_RESOLVE) &&
-                                    comp->ilGenRequest().details().isMethodHandleThunk() &&
-                                    performTransformation(comp, "Setting as unresolved special call cpIndex=%d\n",cpIndex)))
-                     {
-                     TR::VMAccessCriticalSection resolveSpecialMethodRef(fe);
-                     ramMethod = jitResolveSpecialMethodRef(fe->vmThread(), owningMethod->cp(), cpIndex, J9_RESOLVE_FLAG_JIT_COMPILE_TIME);
-                     }
-                  if (ramMethod) createMethod = true;
-                  break;
-                  }
-               case TR_ResolvedMethodType::ImproperInterface:
-                  {
-                  TR::VMAccessCriticalSection getResolvedHandleMethod(fe);
-                  UDATA offset;
-                  ramMethod = jitGetImproperInterfaceMethodFromCP(
-                     fe->vmThread(),
-                     owningMethod->cp(),
-                     cpIndex,
-                     &offset);
-                  vTableOffset = offset;
-                  if (ramMethod) createMethod = true;
-                  break;
-                  }
-               default:
-                  {
-                  break;
-                  }
-               }
-            if (createMethod)
-               TR_ResolvedJ9JITServerMethod::createResolvedMethodFromJ9MethodMirror(
-                  methodInfo,
-                  (TR_OpaqueMethodBlock *) ramMethod,
-                  vTableOffset,
-                  owningMethod,
-                  fe,
-                  trMemory);
-            ramMethods[i] = ramMethod;
-            vTableOffsets[i] = vTableOffset;
-            methodInfos[i] = methodInfo;
-            }
+         auto &methodTypes = std::get<1>(recv);
+         auto &cpIndices = std::get<2>(recv);
+         std::vector<J9Method *> ramMethods;
+         std::vector<uint32_t> vTableOffsets;
+         std::vector<TR_ResolvedJ9JITServerMethodInfo> methodInfos;
+         getMultipleResolvedMethods(fe, comp, trMemory, owningMethod, methodTypes, cpIndices, ramMethods, vTableOffsets, methodInfos);
          client->write(response, ramMethods, vTableOffsets, methodInfos);
          }
          break;
@@ -2224,6 +2278,35 @@ handleServerMessage(JITServer::ClientStream *client, TR_J9VM *fe, JITServer::Mes
          client->write(response, ptr);
          }
          break;
+      case MessageType::AOTCache_getSCCContentHashes:
+         {
+         auto recv = client->getRecvData<std::vector<uint8_t>, std::vector<uintptr_t>>();
+         auto &kinds = std::get<0>(recv);
+         auto &offsets = std::get<1>(recv);
+         std::vector<uint64_t> hashes(offsets.size(), 0);
+         TR_J9SharedCache *sharedCache = fe->sharedCache();
+         if (sharedCache)
+            {
+            for (size_t i = 0; i < offsets.size(); ++i)
+               hashes[i] = sharedCache->hashContentAtOffset(kinds[i], offsets[i]);
+            }
+         client->write(response, hashes);
+         }
+         break;
+      case MessageType::ClientSession_getROMClassHashes:
+         {
+         auto &classes = std::get<0>(client->getRecvData<std::vector<J9Class *>>());
+         std::vector<uint64_t> hashes;
+         hashes.reserve(classes.size());
+         for (J9Class *clazz : classes)
+            {
+            // Hash the ROM class in the form the server caches it
+            std::string packedROMClass = JITServerHelpers::packROMClass(clazz->romClass, trMemory);
+            hashes.push_back(JITServerAOTCacheKey::hashBytes(packedROMClass.data(), packedROMClass.size()));
+            }
+         client->write(response, hashes);
+         }
+         break;
       case MessageType::runFEMacro_invokeILGenMacrosInvokeExactAndFixup:
          {
          auto recv = client->getRecvData<uintptr_t*, std::vector<uintptr_t> >();
@@ -3167,7 +3250,8 @@ remoteCompile(
    {
    TR_ASSERT(vmThread->publicFlags & J9_PUBLIC_FLAGS_VM_ACCESS, "Client must work with VM access");
    // JITServer: if TR_EnableJITServerPerCompConn is set, then each remote compilation establishes a new connection
-   // instead of re-using the connection shared within a compilation thread
+   // instead of re-using the connection shared within a compilation thread.
+   // Either way a connection carries one compilation at a time: requests are neither batched nor pipelined.
    static bool enableJITServerPerCompConn = feGetEnv("TR_EnableJITServerPerCompConn") ? true : false;
 
    // Prepare the parameters for the compilation request
@@ -3237,9 +3321,15 @@ remoteCompile(
    if (compiler->isOptServer())
       compiler->setOption(TR_Server);
 
+   // A captured compilation runs in a session of its own, so that the server
+   // requests everything it needs and the capture file can be replayed by itself
+   const std::string &captureDir = compInfo->getPersistentInfo()->getJITServerCaptureDir();
+   bool captureCompilation = !captureDir.empty();
+
       // Check the _classesCachedAtServer set to determine whether JITServer is likely to have this class already cached.
       // If so, do not send the ROMClass content to save network traffic.
-      bool serializeClass = false;
+      bool serializeClass = captureCompilation;
+      if (!captureCompilation)
       {
       OMR::CriticalSection romClassCache(compInfo->getclassesCachedAtServerMonitor());
       if (compInfo->getclassesCachedAtServer().find(clazz) == compInfo->getclassesCachedAtServer().end())
@@ -3254,25 +3344,54 @@ remoteCompile(
    std::string optionsStr = TR::Options::packOptions(compiler->getOptions());
    std::string recompMethodInfoStr = compiler->isRecompilationEnabled() ? std::string((char *) compiler->getRecompilationInfo()->getMethodInfo(), sizeof(TR_PersistentMethodInfo)) : std::string();
 
-   // TODO: make this a synchronized region to avoid bad_alloc exceptions
-   compInfo->getSequencingMonitor()->enter();
-   // Collect the list of unloaded classes
-   std::vector<TR_OpaqueClassBlock*> unloadedClasses(compInfo->getUnloadedClassesTempList()->begin(), compInfo->getUnloadedClassesTempList()->end());
-   compInfo->getUnloadedClassesTempList()->clear();
-   std::vector<TR_OpaqueClassBlock*> illegalModificationList(compInfo->getIllegalFinalFieldModificationList()->begin(),
-                                                             compInfo->getIllegalFinalFieldModificationList()->end());
-   compInfo->getIllegalFinalFieldModificationList()->clear();
-   // Collect and encode the CHTable updates; this will acquire CHTable mutex
-   auto table = (JITClientPersistentCHTable*)compInfo->getPersistentInfo()->getPersistentCHTable();
-   std::pair<std::string, std::string> chtableUpdates = table->serializeUpdates();
-   // Update the sequence number for these updates
-   uint32_t seqNo = compInfo->incCompReqSeqNo();
-   uint32_t lastCriticalSeqNo = compInfo->getLastCriticalSeqNo();
-   // If needed, update the seqNo of the last request that carried information that needed to be processed in order
-   if (!chtableUpdates.first.empty() || !chtableUpdates.second.empty() || !illegalModificationList.empty() || !unloadedClasses.empty())
-      compInfo->setLastCriticalSeqNo(seqNo);
-   
-   compInfo->getSequencingMonitor()->exit();
+   uint64_t clientUID = compiler->getPersistentInfo()->getClientUID();
+   std::vector<TR_OpaqueClassBlock*> unloadedClasses;
+   std::vector<TR_OpaqueClassBlock*> illegalModificationList;
+   std::pair<std::string, std::string> chtableUpdates;
+   uint32_t seqNo;
+   uint32_t lastCriticalSeqNo;
+   if (captureCompilation)
+      {
+      // The new session receives the whole CHTable, so pending updates are left for the next regular request
+      clientUID = JITServerCompilationCapture::generateClientUID();
+      seqNo = 1;
+      lastCriticalSeqNo = 0;
+      }
+   else
+      {
+      // TODO: make this a synchronized region to avoid bad_alloc exceptions
+      compInfo->getSequencingMonitor()->enter();
+      // Collect the list of unloaded classes
+      unloadedClasses.assign(compInfo->getUnloadedClassesTempList()->begin(), compInfo->getUnloadedClassesTempList()->end());
+      compInfo->getUnloadedClassesTempList()->clear();
+      illegalModificationList.assign(compInfo->getIllegalFinalFieldModificationList()->begin(),
+                                     compInfo->getIllegalFinalFieldModificationList()->end());
+      compInfo->getIllegalFinalFieldModificationList()->clear();
+      // Collect and encode the CHTable updates; this will acquire CHTable mutex
+      auto table = (JITClientPersistentCHTable*)compInfo->getPersistentInfo()->getPersistentCHTable();
+      chtableUpdates = table->serializeUpdates();
+      // Update the sequence number for these updates
+      seqNo = compInfo->incCompReqSeqNo();
+      lastCriticalSeqNo = compInfo->getLastCriticalSeqNo();
+      // If needed, update the seqNo of the last request that carried information that needed to be processed in order
+      if (!chtableUpdates.first.empty() || !chtableUpdates.second.empty() || !illegalModificationList.empty() || !unloadedClasses.empty())
+         compInfo->setLastCriticalSeqNo(seqNo);
+
+      compInfo->getSequencingMonitor()->exit();
+      }
+
+   // Every remote compilation starts by asking for the mirror of the method being compiled,
+   // then for the methods it invokes and the fields it accesses. Answer these queries now
+   // and send the answers with the compilation request to save three round trips.
+   static bool disablePrefetchCompileeMirror = feGetEnv("TR_DisableJITServerPrefetchCompileeMirror") ? true : false;
+   TR_ResolvedJ9JITServerMethodInfo compileeMethodInfo;
+   TR_ResolvedJ9JITServerMethodQueries compileeQueries;
+   std::get<0>(compileeMethodInfo).remoteMirror = NULL;
+   if (!disablePrefetchCompileeMirror && details.isOrdinaryMethod())
+      {
+      TR_ResolvedJ9JITServerMethod::createResolvedMethodMirror(compileeMethodInfo, (TR_OpaqueMethodBlock *)method, 0, NULL, compiler->fej9vm(), compiler->trMemory());
+      prefetchCompileeQueries(compiler->fej9vm(), compiler, std::get<0>(compileeMethodInfo).remoteMirror, compileeQueries);
+      }
 
    uint32_t statusCode = compilationFailure;
    std::string codeCacheStr;
@@ -3284,6 +3403,7 @@ remoteCompile(
    std::vector<TR_ResolvedJ9Method*> resolvedMirrorMethodsPersistIPInfo;
    TR_OptimizationPlan modifiedOptPlan;
    std::vector<SerializedRuntimeAssumption> serializedRuntimeAssumptions;
+   int captureFd = -1;
    try
       {
       // Release VM access just before sending the compilation request
@@ -3299,12 +3419,27 @@ remoteCompile(
 
       Trc_JITServerRemoteCompileRequest(vmThread, seqNo, compiler->signature(), compiler->getHotnessName());
 
-      client->buildCompileRequest(compiler->getPersistentInfo()->getClientUID(), seqNo, lastCriticalSeqNo, romMethodOffset, method,
+      PORT_ACCESS_FROM_JITCONFIG(compInfoPT->getJitConfig());
+      uint64_t requestStartTimeUs = j9time_usec_clock();
+      if (captureCompilation)
+         {
+         captureFd = JITServerCompilationCapture::openCaptureFile(captureDir.c_str(), clientUID, compiler->signature());
+         client->setCaptureFd(captureFd);
+         }
+      client->buildCompileRequest(clientUID, seqNo, lastCriticalSeqNo, romMethodOffset, method,
                                   clazz, *compInfoPT->getMethodBeingCompiled()->_optimizationPlan, detailsStr,
                                   details.getType(), unloadedClasses, illegalModificationList, classInfoTuple, optionsStr, recompMethodInfoStr,
-                                  chtableUpdates.first, chtableUpdates.second, useAotCompilation);
+                                  chtableUpdates.first, chtableUpdates.second, useAotCompilation, compileeMethodInfo, compileeQueries);
       JITServer::MessageType response;
       while(!handleServerMessage(client, compiler->fej9vm(), response));
+      if (captureFd != -1)
+         {
+         client->setCaptureFd(-1);
+         JITServerCompilationCapture::closeCaptureFile(captureFd);
+         }
+
+      // Printed with TR_PrintJITServerMsgStats
+      JITServerHelpers::recordRemoteCompileLatency(j9time_usec_clock() - requestStartTimeUs);
 
       // Re-acquire VM access
       // handleServerMessage will always acquire VM access after read() and release VM access at the end
@@ -3350,6 +3485,7 @@ remoteCompile(
       }
    catch (const JITServer::StreamFailure &e)
       {
+      JITServerCompilationCapture::closeCaptureFile(captureFd);
       JITServerHelpers::postStreamFailure(OMRPORT_FROM_J9PORT(compInfoPT->getJitConfig()->javaVM->portLibrary), compInfo);
 
       client->~ClientStream();
@@ -3367,6 +3503,7 @@ remoteCompile(
       }
    catch (const JITServer::StreamVersionIncompatible &e)
       {
+      JITServerCompilationCapture::closeCaptureFile(captureFd);
       client->~ClientStream();
       TR_Memory::jitPersistentFree(client);
       compInfoPT->setClientStream(NULL);
@@ -3383,6 +3520,7 @@ remoteCompile(
       }
    catch (const JITServer::StreamMessageTypeMismatch &e)
       {
+      JITServerCompilationCapture::closeCaptureFile(captureFd);
       client->~ClientStream();
       TR_Memory::jitPersistentFree(client);
       compInfoPT->setClientStream(NULL);
@@ -3399,6 +3537,7 @@ remoteCompile(
    catch (...)
       {
       // For any other type of exception disconnect the socket
+      JITServerCompilationCapture::closeCaptureFile(captureFd);
       client->~ClientStream();
       TR_Memory::jitPersistentFree(client);
       compInfoPT->setClientStream(NULL);
@@ -3430,6 +3569,12 @@ remoteCompile(
 
          // Relocate the received compiled code
          metaData = remoteCompilationEnd(vmThread, compiler, compilee, method, compInfoPT, codeCacheStr, dataCacheStr);
+         if (metaData && compiler->getOption(TR_UseSymbolValidationManager) && svmSymbolToIdStr.empty())
+            {
+            // The body was served from the JITServer AOT cache; the server has no symbols of this JVM,
+            // so recover them from the validation records that relocation just resolved
+            compiler->getSymbolValidationManager()->rebuildSymbolToIDMap();
+            }
          if (metaData)
             {
             // Must add the runtime assumptions received from the server to the RAT and
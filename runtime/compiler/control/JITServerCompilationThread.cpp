@@ -22,6 +22,7 @@
 
 #include "control/JITServerCompilationThread.hpp"
 
+#include <algorithm>
 #include "codegen/CodeGenerator.hpp"
 #include "control/CompilationRuntime.hpp"
 #include "control/MethodToBeCompiled.hpp"
@@ -110,6 +111,14 @@ outOfProcessCompilationEnd(
    bool serverHasLowMemory = (freePhysicalMemorySizeB != OMRPORT_MEMINFO_NOT_AVAILABLE &&
        freePhysicalMemorySizeB <= (uint64_t)TR::Options::getSafeReservePhysicalMemoryValue() + TR::Options::getScratchSpaceLowerBound());
 
+   // Share the AOT body with other clients, unless it carries information that only makes sense for this client.
+   // The SCC content hashes must be obtained before the client is told that the compilation is finished.
+   JITServerAOTCache *aotCache = compInfoPT->getCompilationInfo()->getJITServerAOTCache();
+   std::vector<JITServerAOTCacheSCCRecord> sccRecords;
+   bool canStoreInAOTCache = aotCache && compInfoPT->hasAOTCacheKey() &&
+                             serializedRuntimeAssumptions.empty() && classesThatShouldNotBeNewlyExtended->empty() &&
+                             compInfoPT->getSCCRecordsWithHashes(entry->_stream, sccRecords);
+
    entry->_stream->finishCompilation(codeCacheStr, dataCacheStr, chTableData,
                                      std::vector<TR_OpaqueClassBlock*>(classesThatShouldNotBeNewlyExtended->begin(), classesThatShouldNotBeNewlyExtended->end()),
                                      logFileStr, svmSymbolToIdStr,
@@ -118,6 +127,16 @@ outOfProcessCompilationEnd(
                                                          std::vector<TR_ResolvedJ9Method*>(),
                                      *entry->_optimizationPlan, serializedRuntimeAssumptions, serverHasLowMemory
                                      );
+
+   if (canStoreInAOTCache)
+      {
+      bool stored = aotCache->store(compInfoPT->getAOTCacheKey(), codeCacheStr, dataCacheStr, *entry->_optimizationPlan, sccRecords);
+      if (stored && TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d stored AOT body of %s in the AOT cache (%zu SCC records, %zu bodies, %zu bytes)",
+            compInfoPT->getCompThreadId(), comp->signature(), sccRecords.size(), aotCache->size(), aotCache->getBytesUsed());
+      }
+
+   compInfoPT->reportPrefetchedCompileeDataUse(comp);
    compInfoPT->clearPerCompilationCaches();
 
    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
@@ -141,9 +160,265 @@ TR::CompilationInfoPerThreadRemote::CompilationInfoPerThreadRemote(TR::Compilati
    _classOfStaticMap(NULL),
    _fieldAttributesCache(NULL),
    _staticAttributesCache(NULL),
-   _isUnresolvedStrCache(NULL)
+   _isUnresolvedStrCache(NULL),
+   _hasAOTCacheKey(false),
+   _sccRecords(NULL),
+   _sccClassChains(NULL),
+   _sccRecordsIncomplete(false),
+   _prefetchedCompileeMethod(NULL),
+   _prefetchedCompileeCalleesMethod(NULL),
+   _prefetchedCompileeFieldsMethod(NULL),
+   _prefetchedCompileeMirrorUsed(false),
+   _numPrefetchedCompileeCalleesUsed(-1),
+   _numPrefetchedCompileeFieldsUsed(-1)
    {}
 
+/**
+ * @brief Method executed by JITServer to compute the key under which the AOT body
+ *        for the current compilation can be found in the AOT cache shared by all clients.
+ *        The body can be shared only if the ROM class of the method resides in the client SCC.
+ * @return true if a key was computed; false if the compilation cannot use the AOT cache
+ */
+bool
+TR::CompilationInfoPerThreadRemote::computeAOTCacheKey(ClientSessionData *clientSession, J9Class *clazz, J9ROMClass *romClass,
+                                                       uint32_t romMethodOffset, const std::string &clientOptStr, int32_t optLevel)
+   {
+   JITServer::ServerStream *stream = getMethodBeingCompiled()->_stream;
+   ClientSessionData::VMInfo *vmInfo = clientSession->getOrCacheVMInfo(stream);
+   J9SharedClassCacheDescriptor *firstCache = vmInfo->_j9SharedClassCacheDescriptorList;
+   if (!firstCache)
+      return false;
+
+   J9ROMClass *remoteROMClass = NULL;
+   JITServerHelpers::getAndCacheRAMClassInfo(clazz, clientSession, stream, JITServerHelpers::CLASSINFO_REMOTE_ROM_CLASS, (void *)&remoteROMClass);
+
+   // Compute the offset of the ROM class relative to the beginning of the first layer
+   // as if all the layers were laid out contiguously, and the total size of the SCC
+   uintptr_t sccSize = 0;
+   uintptr_t romClassSCCOffset = 0;
+   bool romClassIsInSCC = false;
+   J9SharedClassCacheDescriptor *curCache = firstCache;
+   do
+      {
+      uintptr_t cacheStart = (uintptr_t)curCache->cacheStartAddress;
+      if (!romClassIsInSCC &&
+          (uintptr_t)remoteROMClass >= cacheStart && (uintptr_t)remoteROMClass < cacheStart + curCache->cacheSizeBytes)
+         {
+         romClassSCCOffset = sccSize + ((uintptr_t)remoteROMClass - cacheStart);
+         romClassIsInSCC = true;
+         }
+      sccSize += curCache->cacheSizeBytes;
+      curCache = curCache->next;
+      }
+   while (curCache && curCache != firstCache);
+
+   if (!romClassIsInSCC)
+      return false;
+
+   _aotCacheKey._romClassHash = JITServerAOTCacheKey::hashROMClass(romClass);
+   _aotCacheKey._romClassSCCOffset = romClassSCCOffset;
+   _aotCacheKey._sccSize = sccSize;
+   _aotCacheKey._optionsHash = JITServerAOTCacheKey::hashBytes(clientOptStr.data(), clientOptStr.size());
+   _aotCacheKey._processorHash = JITServerAOTCacheKey::hashBytes(&vmInfo->_processorDescription, sizeof(vmInfo->_processorDescription));
+   _aotCacheKey._romMethodOffset = romMethodOffset;
+   _aotCacheKey._optLevel = optLevel;
+   return true;
+   }
+
+/**
+ * @brief Method executed by JITServer to answer an AOT compilation request with a body
+ *        found in the AOT cache, instead of compiling the method again.
+ *        The client receives exactly what it would receive for a fresh AOT compilation
+ *        that does not produce runtime assumptions or CHTable data.
+ * @return true if the request was answered from the cache
+ */
+bool
+TR::CompilationInfoPerThreadRemote::sendCachedAOTBody(TR_MethodToBeCompiled &entry)
+   {
+   TR::CompilationInfo *compInfo = getCompilationInfo();
+   JITServerAOTCache *aotCache = compInfo->getJITServerAOTCache();
+   std::string codeCacheStr;
+   std::string dataCacheStr;
+   TR_OptimizationPlan cachedOptPlan;
+   std::vector<JITServerAOTCacheSCCRecord> sccRecords;
+   if (!aotCache->find(_aotCacheKey, codeCacheStr, dataCacheStr, cachedOptPlan, sccRecords))
+      return false;
+
+   // The body refers to classes through offsets into the SCC of the client it was compiled for.
+   // Send it only if this client stores the same classes at all those offsets.
+   std::vector<uint64_t> hashes;
+   try
+      {
+      if (!querySCCContentHashes(entry._stream, sccRecords, hashes))
+         return false;
+      }
+   catch (const JITServer::StreamFailure &e)
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d stream failed while validating a cached AOT body: %s",
+            getCompThreadId(), e.what());
+      entry._compErrCode = compilationStreamFailure;
+      return true;
+      }
+   for (size_t i = 0; i < sccRecords.size(); ++i)
+      {
+      if (hashes[i] != sccRecords[i]._contentHash)
+         {
+         aotCache->incNumSCCMismatches();
+         if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d cached AOT body not sent to clientUID=%llu: SCC content differs at offset %#llx (kind %d)",
+               getCompThreadId(), (unsigned long long)getClientData()->getClientUID(), (unsigned long long)sccRecords[i]._offset, (int)sccRecords[i]._kind);
+         return false;
+         }
+      }
+
+   bool incompleteInfo;
+   uint64_t freePhysicalMemorySizeB = compInfo->computeAndCacheFreePhysicalMemory(incompleteInfo);
+   bool serverHasLowMemory = (freePhysicalMemorySizeB != OMRPORT_MEMINFO_NOT_AVAILABLE &&
+       freePhysicalMemorySizeB <= (uint64_t)TR::Options::getSafeReservePhysicalMemoryValue() + TR::Options::getScratchSpaceLowerBound());
+
+   try
+      {
+      // The SVM symbol to ID map recorded by the server refers to symbols of the original client.
+      // It is sent empty; the client rebuilds it from the IDs its relocation resolved.
+      entry._stream->finishCompilation(codeCacheStr, dataCacheStr, CHTableCommitData(),
+                                       std::vector<TR_OpaqueClassBlock*>(), std::string(), std::string(),
+                                       std::vector<TR_ResolvedJ9Method*>(), cachedOptPlan,
+                                       std::vector<SerializedRuntimeAssumption>(), serverHasLowMemory);
+      entry._compErrCode = compilationOK;
+      }
+   catch (const JITServer::StreamFailure &e)
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d stream failed while sending a cached AOT body: %s",
+            getCompThreadId(), e.what());
+      entry._compErrCode = compilationStreamFailure;
+      }
+
+   if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+      TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d sent cached AOT body for clientUID=%llu seqNo=%u (romMethodOffset=%u)",
+         getCompThreadId(), (unsigned long long)getClientData()->getClientUID(), getSeqNo(), _aotCacheKey._romMethodOffset);
+   return true;
+   }
+
+/**
+ * @brief Method executed by JITServer to ask the client for the hashes of the content
+ *        stored at the given offsets of its SCC.
+ * @return true if the client answered with one hash for each record
+ */
+bool
+TR::CompilationInfoPerThreadRemote::querySCCContentHashes(JITServer::ServerStream *stream, const std::vector<JITServerAOTCacheSCCRecord> &records,
+                                                          std::vector<uint64_t> &hashes)
+   {
+   if (records.empty())
+      {
+      hashes.clear();
+      return true;
+      }
+   std::vector<uint8_t> kinds;
+   std::vector<uintptr_t> offsets;
+   kinds.reserve(records.size());
+   offsets.reserve(records.size());
+   for (const auto &record : records)
+      {
+      kinds.push_back(record._kind);
+      offsets.push_back(record._offset);
+      }
+   stream->write(JITServer::MessageType::AOTCache_getSCCContentHashes, kinds, offsets);
+   hashes = std::get<0>(stream->read<std::vector<uint64_t>>());
+   return hashes.size() == records.size();
+   }
+
+/**
+ * @brief Method executed by JITServer to remember that a pointer obtained from the client
+ *        during the current compilation points to a class chain in the client SCC
+ */
+void
+TR::CompilationInfoPerThreadRemote::recordSCCClassChain(const void *classChain)
+   {
+   if (!_hasAOTCacheKey || !classChain)
+      return;
+   cacheToPerCompilationMap(_sccClassChains, classChain, true);
+   }
+
+/**
+ * @brief Method executed by JITServer to record an offset into the client SCC that the
+ *        AOT body of the current compilation may depend on
+ */
+void
+TR::CompilationInfoPerThreadRemote::recordSCCOffset(JITServerAOTCacheSCCRecord::Kind kind, uintptr_t offset)
+   {
+   if (!_hasAOTCacheKey)
+      return;
+   if (!_sccRecords)
+      {
+      initializePerCompilationCache(_sccRecords);
+      if (!_sccRecords)
+         {
+         _sccRecordsIncomplete = true;
+         return;
+         }
+      }
+   JITServerAOTCacheSCCRecord record = { offset, 0, kind };
+   _sccRecords->push_back(record);
+   }
+
+/**
+ * @brief Method executed by JITServer to record the offset of a pointer into the metadata
+ *        section of the client SCC. Only class chains and the SVM well-known classes list are
+ *        expected; any other pointer prevents the body from being shared.
+ */
+void
+TR::CompilationInfoPerThreadRemote::recordSCCPointerOffset(const void *ptr, uintptr_t offset)
+   {
+   if (!_hasAOTCacheKey)
+      return;
+   bool isClassChain = false;
+   if (getCachedValueFromPerCompilationMap(_sccClassChains, ptr, isClassChain))
+      {
+      recordSCCOffset(JITServerAOTCacheSCCRecord::ClassChain, offset);
+      return;
+      }
+   TR::Compilation *comp = getCompilation();
+   if (comp && comp->getOption(TR_UseSymbolValidationManager) &&
+       ptr == comp->getSymbolValidationManager()->wellKnownClassChainOffsets())
+      {
+      recordSCCOffset(JITServerAOTCacheSCCRecord::WellKnownClasses, offset);
+      return;
+      }
+   _sccRecordsIncomplete = true;
+   }
+
+/**
+ * @brief Method executed by JITServer at the end of an AOT compilation to obtain the
+ *        SCC offsets the body depends on, with the hashes of their content at the client.
+ * @return true if the body can be stored in the AOT cache with these records
+ */
+bool
+TR::CompilationInfoPerThreadRemote::getSCCRecordsWithHashes(JITServer::ServerStream *stream, std::vector<JITServerAOTCacheSCCRecord> &records)
+   {
+   if (_sccRecordsIncomplete)
+      return false;
+   records.clear();
+   if (_sccRecords)
+      {
+      records.assign(_sccRecords->begin(), _sccRecords->end());
+      std::sort(records.begin(), records.end());
+      records.erase(std::unique(records.begin(), records.end()), records.end());
+      }
+
+   std::vector<uint64_t> hashes;
+   if (!querySCCContentHashes(stream, records, hashes))
+      return false;
+   for (size_t i = 0; i < records.size(); ++i)
+      {
+      if (!hashes[i])
+         return false; // The client could not describe what is stored at this offset
+      records[i]._contentHash = hashes[i];
+      }
+   return true;
+   }
+
 /**
  * @brief Method executed by JITServer to dequeue and notify all waiting threads 
  *        that the condition they were waiting for has been fulfilled. 
@@ -319,6 +594,8 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
    clearPerCompilationCaches();
 
    _recompilationMethodInfo = NULL;
+   _hasAOTCacheKey = false;
+   _sccRecordsIncomplete = false;
    // Release compMonitor before doing the blocking read
    compInfo->releaseCompMonitor(compThread);
 
@@ -343,7 +620,8 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
       auto req = stream->readCompileRequest<uint64_t, uint32_t, uint32_t, uint32_t, J9Method *, J9Class*,
          TR_OptimizationPlan, std::string, J9::IlGeneratorMethodDetailsType,
          std::vector<TR_OpaqueClassBlock*>, std::vector<TR_OpaqueClassBlock*>, 
-         JITServerHelpers::ClassInfoTuple, std::string, std::string, std::string, std::string, bool>();
+         JITServerHelpers::ClassInfoTuple, std::string, std::string, std::string, std::string, bool,
+         TR_ResolvedJ9JITServerMethodInfo, TR_ResolvedJ9JITServerMethodQueries>();
 
       clientId                           = std::get<0>(req);
       seqNo                              = std::get<1>(req); // Sequence number at the client
@@ -362,6 +640,8 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
       const std::string &chtableUnloads  = std::get<14>(req);
       const std::string &chtableMods     = std::get<15>(req);
       useAotCompilation                  = std::get<16>(req);
+      auto &compileeMethodInfo           = std::get<17>(req);
+      auto &compileeQueries              = std::get<18>(req);
 
       isCriticalRequest = !chtableMods.empty() || !chtableUnloads.empty() || !illegalModificationList.empty() || !unloadedClasses.empty();
 
@@ -384,6 +664,8 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
       //   throw JITServer::StreamFailure(); // stress testing
 
       stream->setClientId(clientId);
+      setPrefetchedCompileeMethodInfo(ramMethod, compileeMethodInfo);
+      setPrefetchedCompileeQueries(ramMethod, compileeQueries);
       setSeqNo(seqNo); // Memorize the sequence number of this request
       setExpectedSeqNo(criticalSeqNo); // Memorize the message I have to wait for
 
@@ -515,6 +797,23 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
             TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d will initialize CHTable for clientUID %llu size=%zu",
                getCompThreadId(), (unsigned long long)clientId, serializedCHTable.size());
          chTable->initializeCHTable(_vm, serializedCHTable);
+
+         // If this server was restarted, repopulate the ROM class cache of this client from
+         // the snapshot saved by the previous instance instead of fetching classes one by one
+         std::string sessionSnapshot;
+         bool hasSessionSnapshot = false;
+            {
+            OMR::CriticalSection compilationMonitorLock(compInfo->getCompilationMonitor());
+            hasSessionSnapshot = compInfo->getClientSessionHT()->consumeSessionSnapshot(clientId, sessionSnapshot);
+            }
+         if (hasSessionSnapshot)
+            {
+            size_t numChanged = 0;
+            size_t numRestored = clientSession->restoreROMClassCache(sessionSnapshot, _vm, stream, numChanged);
+            if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+               TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d restored %zu cached classes from session snapshot for clientUID %llu, rejected %zu changed classes",
+                  getCompThreadId(), numRestored, (unsigned long long)clientId, numChanged);
+            }
          clientSession->setCachesAreCleared(false);
          }
 
@@ -610,6 +909,14 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
       // If we want something then we need to increaseQueueWeightBy(weight) while holding compilation monitor
       entry._weight = 0;
       entry._useAotCompilation = useAotCompilation;
+
+      // Relocatable bodies of ordinary methods can be shared with other clients that use the same SCC.
+      // Recompilations are excluded because the body depends on the profiling info of this client.
+      if (useAotCompilation && compInfo->getJITServerAOTCache() &&
+          serverDetails->isOrdinaryMethod() && recompInfoStr.empty())
+         {
+         _hasAOTCacheKey = computeAOTCacheKey(clientSession, clazz, romClass, romMethodOffset, clientOptStr, optPlan->getOptLevel());
+         }
       }
    catch (const JITServer::StreamFailure &e)
       {
@@ -827,7 +1134,17 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
    stream->setClientData(clientSession);
    getClientData()->readAcquireClassUnloadRWMutex();
 
-   void *startPC = compile(compThread, &entry, scratchSegmentProvider);
+   void *startPC = NULL;
+   if (_hasAOTCacheKey && sendCachedAOTBody(entry))
+      {
+      // Emulate the state in which compile() returns
+      compInfo->acquireCompMonitor(compThread);
+      entry.acquireSlotMonitor(compThread);
+      }
+   else
+      {
+      startPC = compile(compThread, &entry, scratchSegmentProvider);
+      }
 
    getClientData()->readReleaseClassUnloadRWMutex();
    stream->setClientData(NULL);
@@ -1281,6 +1598,104 @@ TR::CompilationInfoPerThreadRemote::clearPerCompilationCaches()
    clearPerCompilationCache(_fieldAttributesCache);
    clearPerCompilationCache(_staticAttributesCache);
    clearPerCompilationCache(_isUnresolvedStrCache);
+   clearPerCompilationCache(_sccRecords);
+   clearPerCompilationCache(_sccClassChains);
+   _prefetchedCompileeMethod = NULL;
+   _prefetchedCompileeCalleesMethod = NULL;
+   _prefetchedCompileeFieldsMethod = NULL;
+   _prefetchedCompileeMirrorUsed = false;
+   _numPrefetchedCompileeCalleesUsed = -1;
+   _numPrefetchedCompileeFieldsUsed = -1;
+   }
+
+void
+TR::CompilationInfoPerThreadRemote::setPrefetchedCompileeMethodInfo(J9Method *method, const TR_ResolvedJ9JITServerMethodInfo &methodInfo)
+   {
+   // A NULL remote mirror means that the client did not create the mirror upfront
+   _prefetchedCompileeMethod = std::get<0>(methodInfo).remoteMirror ? method : NULL;
+   if (_prefetchedCompileeMethod)
+      _prefetchedCompileeMethodInfo = methodInfo;
+   }
+
+/**
+ * @brief Retrieve the methodInfo of the method being compiled if it was sent with the compilation request.
+ *        It can be used only once, because the mirror belongs to the top level resolved method.
+ */
+bool
+TR::CompilationInfoPerThreadRemote::consumePrefetchedCompileeMethodInfo(TR_OpaqueMethodBlock *method, TR_ResolvedJ9JITServerMethodInfo &methodInfo)
+   {
+   if (!_prefetchedCompileeMethod || (TR_OpaqueMethodBlock *)_prefetchedCompileeMethod != method)
+      return false;
+   methodInfo = _prefetchedCompileeMethodInfo;
+   _prefetchedCompileeMethod = NULL;
+   _prefetchedCompileeMirrorUsed = true;
+   return true;
+   }
+
+void
+TR::CompilationInfoPerThreadRemote::setPrefetchedCompileeQueries(J9Method *method, TR_ResolvedJ9JITServerMethodQueries &queries)
+   {
+   // The answers are only sent together with the mirror they were computed for
+   _prefetchedCompileeCalleesMethod = _prefetchedCompileeMethod ? method : NULL;
+   _prefetchedCompileeFieldsMethod = _prefetchedCompileeCalleesMethod;
+   if (_prefetchedCompileeCalleesMethod)
+      _prefetchedCompileeQueries = std::move(queries);
+   }
+
+/**
+ * @brief Retrieve the answers to the callee queries of the method being compiled if they were sent
+ *        with the compilation request. They can be used only once, like the mirror they belong to.
+ */
+bool
+TR::CompilationInfoPerThreadRemote::consumePrefetchedCompileeCallees(TR_OpaqueMethodBlock *method, std::vector<TR_ResolvedMethodType> &methodTypes,
+                                                                    std::vector<int32_t> &cpIndices, std::vector<J9Method *> &ramMethods,
+                                                                    std::vector<uint32_t> &vTableOffsets, std::vector<TR_ResolvedJ9JITServerMethodInfo> &methodInfos)
+   {
+   // The answers were computed for the prefetched mirror, they cannot be used with another one
+   if (!_prefetchedCompileeMirrorUsed || !_prefetchedCompileeCalleesMethod || (TR_OpaqueMethodBlock *)_prefetchedCompileeCalleesMethod != method)
+      return false;
+   methodTypes = std::move(std::get<0>(_prefetchedCompileeQueries));
+   cpIndices = std::move(std::get<1>(_prefetchedCompileeQueries));
+   ramMethods = std::move(std::get<2>(_prefetchedCompileeQueries));
+   vTableOffsets = std::move(std::get<3>(_prefetchedCompileeQueries));
+   methodInfos = std::move(std::get<4>(_prefetchedCompileeQueries));
+   _prefetchedCompileeCalleesMethod = NULL;
+   _numPrefetchedCompileeCalleesUsed = methodTypes.size();
+   return true;
+   }
+
+/**
+ * @brief Retrieve the answers to the field queries of the method being compiled if they were sent
+ *        with the compilation request. They can be used only once.
+ */
+bool
+TR::CompilationInfoPerThreadRemote::consumePrefetchedCompileeFields(TR_OpaqueMethodBlock *method, std::vector<int32_t> &cpIndices,
+                                                                   std::vector<J9Class *> &declaringClasses, std::vector<UDATA> &fields)
+   {
+   // The answers were computed for the prefetched mirror, they cannot be used with another one
+   if (!_prefetchedCompileeMirrorUsed || !_prefetchedCompileeFieldsMethod || (TR_OpaqueMethodBlock *)_prefetchedCompileeFieldsMethod != method)
+      return false;
+   cpIndices = std::move(std::get<5>(_prefetchedCompileeQueries));
+   declaringClasses = std::move(std::get<6>(_prefetchedCompileeQueries));
+   fields = std::move(std::get<7>(_prefetchedCompileeQueries));
+   _prefetchedCompileeFieldsMethod = NULL;
+   _numPrefetchedCompileeFieldsUsed = cpIndices.size();
+   return true;
+   }
+
+/**
+ * @brief Report in the verbose log how much of the data sent with the compilation request was used.
+ *        Must be called before clearPerCompilationCaches().
+ */
+void
+TR::CompilationInfoPerThreadRemote::reportPrefetchedCompileeDataUse(TR::Compilation *comp)
+   {
+   if (_prefetchedCompileeMirrorUsed && TR::Options::getVerboseOption(TR_VerboseJITServer))
+      {
+      TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
+         "compThreadID=%d used the prefetched mirror of %s, %d prefetched callees and %d prefetched fields",
+         getCompThreadId(), comp->signature(), _numPrefetchedCompileeCalleesUsed, _numPrefetchedCompileeFieldsUsed);
+      }
    }
 
 /**
@@ -26,6 +26,7 @@
 #include "control/CompilationThread.hpp"
 #include "env/j9methodServer.hpp"
 #include "runtime/JITClientSession.hpp"
+#include "runtime/JITServerAOTCache.hpp"
 
 class TR_IPBytecodeHashTableEntry;
 
@@ -79,10 +80,39 @@ class CompilationInfoPerThreadRemote : public TR::CompilationInfoPerThread
    bool getCachedIsUnresolvedStr(TR_OpaqueClassBlock *ramClass, int32_t cpIndex, TR_IsUnresolvedString &stringAttrs);
 
    void clearPerCompilationCaches();
+
+   // The client creates the mirror of the method being compiled before sending the compilation
+   // request and sends its methodInfo together with the request, saving one round trip
+   void setPrefetchedCompileeMethodInfo(J9Method *method, const TR_ResolvedJ9JITServerMethodInfo &methodInfo);
+   bool consumePrefetchedCompileeMethodInfo(TR_OpaqueMethodBlock *method, TR_ResolvedJ9JITServerMethodInfo &methodInfo);
+   // The client also answers the callee and field queries that cacheResolvedMethodsCallees and cacheFields
+   // make for the method being compiled, saving two more round trips
+   void setPrefetchedCompileeQueries(J9Method *method, TR_ResolvedJ9JITServerMethodQueries &queries);
+   bool consumePrefetchedCompileeCallees(TR_OpaqueMethodBlock *method, std::vector<TR_ResolvedMethodType> &methodTypes, std::vector<int32_t> &cpIndices,
+                                         std::vector<J9Method *> &ramMethods, std::vector<uint32_t> &vTableOffsets,
+                                         std::vector<TR_ResolvedJ9JITServerMethodInfo> &methodInfos);
+   bool consumePrefetchedCompileeFields(TR_OpaqueMethodBlock *method, std::vector<int32_t> &cpIndices,
+                                        std::vector<J9Class *> &declaringClasses, std::vector<UDATA> &fields);
+   void reportPrefetchedCompileeDataUse(TR::Compilation *comp);
+
+   bool hasAOTCacheKey() const { return _hasAOTCacheKey; }
+   const JITServerAOTCacheKey &getAOTCacheKey() const { return _aotCacheKey; }
+
+   // Record the client SCC offsets the AOT body being compiled depends on, for the AOT cache
+   void recordSCCClassChain(const void *classChain);
+   void recordSCCOffset(JITServerAOTCacheSCCRecord::Kind kind, uintptr_t offset);
+   void recordSCCPointerOffset(const void *ptr, uintptr_t offset);
+   bool getSCCRecordsWithHashes(JITServer::ServerStream *stream, std::vector<JITServerAOTCacheSCCRecord> &records);
    void deleteClientSessionData(uint64_t clientId, TR::CompilationInfo* compInfo, J9VMThread* compThread);
    virtual void freeAllResources() override;
 
    private:
+   bool computeAOTCacheKey(ClientSessionData *clientSession, J9Class *clazz, J9ROMClass *romClass, uint32_t romMethodOffset,
+                           const std::string &clientOptStr, int32_t optLevel);
+   bool sendCachedAOTBody(TR_MethodToBeCompiled &entry);
+   static bool querySCCContentHashes(JITServer::ServerStream *stream, const std::vector<JITServerAOTCacheSCCRecord> &records,
+                                     std::vector<uint64_t> &hashes);
+
    /* Template method for allocating a cache of type T on the heap.
     * Cache pointer must be NULL.
     */
@@ -149,6 +179,19 @@ class CompilationInfoPerThreadRemote : public TR::CompilationInfoPerThread
    FieldOrStaticAttrTable_t *_fieldAttributesCache;
    FieldOrStaticAttrTable_t *_staticAttributesCache;
    UnorderedMap<std::pair<TR_OpaqueClassBlock *, int32_t>, TR_IsUnresolvedString> *_isUnresolvedStrCache;
+   JITServerAOTCacheKey _aotCacheKey; // valid only if _hasAOTCacheKey is true
+   bool _hasAOTCacheKey; // true if the AOT body of the current compilation can be shared with other clients
+   Vector<JITServerAOTCacheSCCRecord> *_sccRecords; // client SCC offsets the current AOT body depends on
+   UnorderedMap<const void *, bool> *_sccClassChains; // client class chains handed out during the current compilation
+   bool _sccRecordsIncomplete; // an SCC offset of unknown kind was used; the body cannot be shared
+   J9Method *_prefetchedCompileeMethod; // NULL if there is no unused methodInfo sent with the compilation request
+   TR_ResolvedJ9JITServerMethodInfo _prefetchedCompileeMethodInfo;
+   J9Method *_prefetchedCompileeCalleesMethod; // NULL if there are no unused callee answers sent with the compilation request
+   J9Method *_prefetchedCompileeFieldsMethod; // NULL if there are no unused field answers sent with the compilation request
+   TR_ResolvedJ9JITServerMethodQueries _prefetchedCompileeQueries;
+   bool _prefetchedCompileeMirrorUsed;
+   int32_t _numPrefetchedCompileeCalleesUsed; // -1 if the callee answers were not used
+   int32_t _numPrefetchedCompileeFieldsUsed; // -1 if the field answers were not used
    }; // class CompilationInfoPerThreadRemote
 } // namespace TR
 
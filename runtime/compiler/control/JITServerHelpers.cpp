@@ -28,10 +28,15 @@
 #include "infra/CriticalSection.hpp"
 #include "infra/Statistics.hpp"
 #include "net/CommunicationStream.hpp"
+#include "net/MessageStatistics.hpp"
 #include "OMR/Bytes.hpp"// for OMR::alignNoCheck()
+#include "AtomicSupport.hpp"
 
 
 uint32_t     JITServerHelpers::serverMsgTypeCount[] = {};
+volatile uint64_t JITServerHelpers::remoteCompileLatencySumUs = 0;
+volatile uint64_t JITServerHelpers::remoteCompileLatencyMaxUs = 0;
+volatile uint32_t JITServerHelpers::remoteCompileLatencyCount = 0;
 uint64_t     JITServerHelpers::_waitTimeMs = 1000;
 bool         JITServerHelpers::_serverAvailable = true;
 uint64_t     JITServerHelpers::_nextConnectionRetryTime = 0;
@@ -75,8 +80,8 @@ packUTF8(uint8_t *curPos, const J9UTF8 *origStr, const J9ROMClass *origRomClass,
 // Some of the name and signature strings are interned and stored outside
 // of the ROMClass body. Such strings are appended to the end of the cloned
 // ROMClass body and the self referential pointers to them are updated.
-static std::string
-packROMClass(J9ROMClass *origRomClass, TR_Memory *trMemory)
+std::string
+JITServerHelpers::packROMClass(J9ROMClass *origRomClass, TR_Memory *trMemory)
    {
    size_t totalSize = origRomClass->romSize;
    J9UTF8 *className = J9ROMCLASS_CLASSNAME(origRomClass);
@@ -145,6 +150,21 @@ JITServerHelpers::insertIntoOOSequenceEntryList(ClientSessionData *clientData, T
       clientData->setOOSequenceEntryList(entry);
    }
 
+void
+JITServerHelpers::recordRemoteCompileLatency(uint64_t latencyUs)
+   {
+   VM_AtomicSupport::addU64(&remoteCompileLatencySumUs, latencyUs);
+   VM_AtomicSupport::addU32(&remoteCompileLatencyCount, 1);
+   uint64_t oldMaxUs = remoteCompileLatencyMaxUs;
+   while (latencyUs > oldMaxUs)
+      {
+      uint64_t seenMaxUs = VM_AtomicSupport::lockCompareExchangeU64(&remoteCompileLatencyMaxUs, oldMaxUs, latencyUs);
+      if (seenMaxUs == oldMaxUs)
+         break;
+      oldMaxUs = seenMaxUs;
+      }
+   }
+
 void
 JITServerHelpers::printJITServerMsgStats(J9JITConfig *jitConfig, TR::CompilationInfo *compInfo)
    {
@@ -174,6 +194,11 @@ JITServerHelpers::printJITServerMsgStats(J9JITConfig *jitConfig, TR::Compilation
          }
       if (JITServerHelpers::serverMsgTypeCount[0])
          j9tty_printf(PORTLIB, "Total number of messages: %d. Average number of messages per compilation:%f\n", totalMsgCount, totalMsgCount/float(JITServerHelpers::serverMsgTypeCount[0]));
+      if (JITServerHelpers::remoteCompileLatencyCount)
+         j9tty_printf(PORTLIB, "Remote compilations: %u. Average latency: %llu usec. Max latency: %llu usec\n",
+                      JITServerHelpers::remoteCompileLatencyCount,
+                      (unsigned long long)(JITServerHelpers::remoteCompileLatencySumUs / JITServerHelpers::remoteCompileLatencyCount),
+                      (unsigned long long)JITServerHelpers::remoteCompileLatencyMaxUs);
       }
    else if (compInfo->getPersistentInfo()->getRemoteCompilationMode() == JITServer::SERVER)
       {
@@ -196,6 +221,9 @@ JITServerHelpers::printJITServerMsgStats(J9JITConfig *jitConfig, TR::Compilation
       j9tty_printf(PORTLIB, "Total number of messages: %u\n", totalMsgCount);
 #endif // defined(MESSAGE_SIZE_STATS)
       }
+
+   if (JITServer::MessageStatistics::isEnabled())
+      JITServer::MessageStatistics::printStats(false);
    }
 
 void
@@ -77,6 +77,7 @@ class JITServerHelpers
    static J9ROMClass *getRemoteROMClassIfCached(ClientSessionData *clientSessionData, J9Class *clazz);
    static J9ROMClass *getRemoteROMClass(J9Class *, JITServer::ServerStream *stream, TR_Memory *trMemory, ClassInfoTuple *classInfoTuple);
    static J9ROMClass *getRemoteROMClass(J9Class *, JITServer::ServerStream *stream, TR_PersistentMemory *trMemory, ClassInfoTuple *classInfoTuple);
+   static std::string packROMClass(J9ROMClass *origRomClass, TR_Memory *trMemory);
    static J9ROMClass *romClassFromString(const std::string &romClassStr, TR_PersistentMemory *trMemory);
    static bool getAndCacheRAMClassInfo(J9Class *clazz, ClientSessionData *clientSessionData, JITServer::ServerStream *stream, ClassInfoDataType dataType, void *data);
    static bool getAndCacheRAMClassInfo(J9Class *clazz, ClientSessionData *clientSessionData, JITServer::ServerStream *stream, ClassInfoDataType dataType1, void *data1,
@@ -99,6 +100,12 @@ class JITServerHelpers
    static void printJITServerCacheStats(J9JITConfig *, TR::CompilationInfo *);
 
    static uint32_t serverMsgTypeCount[JITServer::MessageType_ARRAYSIZE];
+   // Time between sending a compilation request and receiving the final answer, as seen by the client.
+   // Updated atomically by recordRemoteCompileLatency(), because several compilation threads compile remotely at once.
+   static volatile uint64_t remoteCompileLatencySumUs;
+   static volatile uint64_t remoteCompileLatencyMaxUs;
+   static volatile uint32_t remoteCompileLatencyCount;
+   static void recordRemoteCompileLatency(uint64_t latencyUs);
 
    static bool isAddressInROMClass(const void *address, const J9ROMClass *romClass);
 
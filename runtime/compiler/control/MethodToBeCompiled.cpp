@@ -68,6 +68,7 @@ void TR_MethodToBeCompiled::initialize(TR::IlGeneratorMethodDetails & details, v
    _useAotCompilation = false;
    _doNotUseAotCodeFromSharedCache = false;
    _tryCompilingAgain = false;
+   _persistedProfileWarmStart = false;
    _compInfoPT = NULL;
    _aotCodeToBeRelocated = NULL;
    if (_optimizationPlan)
@@ -80,6 +81,7 @@ void TR_MethodToBeCompiled::initialize(TR::IlGeneratorMethodDetails & details, v
    _hasIncrementedNumCompThreadsCompilingHotterMethods = false;
    _weight = 0;
    _jitStateWhenQueued = UNDEFINED_STATE;
+   _numAgingPromotions = 0;
    _entryIsCountedAsInvRequest = false;
    _GCRrequest = false;
 
@@ -51,7 +51,7 @@ struct J9VMThread;
 
 struct TR_MethodToBeCompiled
    {
-   enum LPQ_REASON { REASON_NONE = 0, REASON_IPROFILER_CALLS, REASON_LOW_COUNT_EXPIRED, REASON_UPGRADE };
+   enum LPQ_REASON { REASON_NONE = 0, REASON_IPROFILER_CALLS, REASON_LOW_COUNT_EXPIRED, REASON_UPGRADE, REASON_AOT_PRELOAD };
    static int16_t _globalIndex;
    static TR_MethodToBeCompiled *allocate(J9JITConfig *jitConfig);
    void shutdown();
@@ -107,6 +107,7 @@ struct TR_MethodToBeCompiled
    bool                   _useAotCompilation;// used for AOT shared cache
    bool                   _doNotUseAotCodeFromSharedCache;
    bool                   _tryCompilingAgain;
+   bool                   _persistedProfileWarmStart; // the SCC holds the profile of a method hot in a previous run
 
    bool                   _async;           // flag for async compilation; used to print in vlog
    bool                   _changedFromAsyncToSync; // to prevent DLT compiling again and again we flag
@@ -133,6 +134,7 @@ struct TR_MethodToBeCompiled
    uint8_t                _weight; // Up to 256 levels of weight
    bool                   _hasIncrementedNumCompThreadsCompilingHotterMethods;
    uint8_t                _jitStateWhenQueued;
+   uint8_t                _numAgingPromotions; // number of times this request was promoted for waiting too long in the queue
 #if defined(J9VM_OPT_JITSERVER)
    bool                   _remoteCompReq; // Comp request should be sent remotely to JITServer
    JITServer::ServerStream  *_stream; // A non-NULL field denotes an out-of-process compilation request
@@ -113,6 +113,7 @@
 #include "net/ClientStream.hpp"
 #include "net/LoadSSLLibs.hpp"
 #include "runtime/JITClientSession.hpp"
+#include "runtime/JITServerAOTCache.hpp"
 #include "runtime/Listener.hpp"
 #include "runtime/JITServerStatisticsThread.hpp"
 #include "runtime/JITServerIProfiler.hpp"
@@ -1681,6 +1682,21 @@ onLoadInternal(
       // Allocate the hashtable that holds information about clients
       compInfo->setClientSessionHT(ClientSessionHT::allocate());
 
+      // Read the client session caches saved by a previous instance of this server
+      if (!compInfo->getPersistentInfo()->getJITServerSessionSnapshotFile().empty() && compInfo->getClientSessionHT())
+         compInfo->getClientSessionHT()->loadSnapshot(compInfo->getPersistentInfo()->getJITServerSessionSnapshotFile().c_str());
+
+      // Allocate the cache of AOT bodies shared between clients
+      if (compInfo->getPersistentInfo()->getJITServerUseAOTCache())
+         {
+         compInfo->setJITServerAOTCache(JITServerAOTCache::allocate());
+         if (!compInfo->getJITServerAOTCache())
+            {
+            j9tty_printf(PORTLIB, "JITServer AOT cache not allocated, abort.\n");
+            return -1;
+            }
+         }
+
       ((TR_JitPrivateConfig*)(jitConfig->privateConfig))->listener = TR_Listener::allocate();
       if (!((TR_JitPrivateConfig*)(jitConfig->privateConfig))->listener)
          {
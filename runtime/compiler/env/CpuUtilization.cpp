@@ -23,6 +23,9 @@
 #include "control/CompilationRuntime.hpp"
 
 #include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
 #include "jni.h"
 #include "j9.h"
 #include "j9port.h"
@@ -31,6 +34,8 @@
 #include "env/CpuUtilization.hpp"
 #include "env/VerboseLog.hpp"
 
+extern char *feGetEnv(const char *);
+
 /*
  * Relevant port library API:
  * 
@@ -381,6 +386,67 @@ double TR_CpuEntitlement::computeGuestCpuEntitlement() const
       return 0.0;
    }
 
+// Read the CPU quota of the cgroup the JVM runs in, as seen from inside the container.
+// The quota can be fractional (e.g. 1.5 CPUs) which is why it is returned in percentage
+// points rather than as a number of CPUs; J9PORT_CPU_TARGET rounds it to a whole number.
+// The values come from the metrics of the cgroup CPU subsystem reported by the port library:
+// with cgroup v1 the quota and the period are separate metrics (cpu.cfs_quota_us and
+// cpu.cfs_period_us), with cgroup v2 a single metric holds both ("<quota> <period>" from cpu.max).
+// Returns 0 if there is no quota, it cannot be read, or container support is disabled.
+// TR_ContainerCpuQuota=<percentage points> replaces the quota of the cgroup, so that the
+// budget derived from it can be tested outside of a container.
+double TR_CpuEntitlement::computeContainerCpuQuota() const
+   {
+   static char *quotaOverride = feGetEnv("TR_ContainerCpuQuota");
+   if (quotaOverride)
+      return atof(quotaOverride);
+
+#if defined(LINUX)
+   OMRPORT_ACCESS_FROM_J9PORT(_jitConfig->javaVM->portLibrary);
+   if (!omrsysinfo_cgroup_is_system_available() ||
+       OMR_CGROUP_SUBSYSTEM_CPU != omrsysinfo_cgroup_are_subsystems_enabled(OMR_CGROUP_SUBSYSTEM_CPU))
+      return 0.0;
+
+   long long quota = -1;
+   long long period = 0;
+   OMRCgroupMetricIteratorState cgroupState = {0};
+   if (0 == omrsysinfo_cgroup_subsystem_iterator_init(OMR_CGROUP_SUBSYSTEM_CPU, &cgroupState))
+      {
+      OMRCgroupMetricElement metricElement = {0};
+      while (0 != omrsysinfo_cgroup_subsystem_iterator_hasNext(&cgroupState))
+         {
+         const char *metricKey = NULL;
+         if (0 != omrsysinfo_cgroup_subsystem_iterator_metricKey(&cgroupState, &metricKey))
+            break;
+         if (0 != omrsysinfo_cgroup_subsystem_iterator_next(&cgroupState, &metricElement))
+            continue;
+         // A quota of "max" (v2) or -1 (v1) means unlimited
+         bool hasQuota = NULL != strstr(metricKey, "Quota");
+         bool hasPeriod = NULL != strstr(metricKey, "Period");
+         if (hasQuota && hasPeriod)
+            {
+            if (2 != sscanf(metricElement.value, "%lld %lld", &quota, &period))
+               quota = -1;
+            }
+         else if (hasQuota)
+            {
+            if (1 != sscanf(metricElement.value, "%lld", &quota))
+               quota = -1;
+            }
+         else if (hasPeriod)
+            {
+            if (1 != sscanf(metricElement.value, "%lld", &period))
+               period = 0;
+            }
+         }
+      omrsysinfo_cgroup_subsystem_iterator_destroy(&cgroupState);
+      }
+   if (quota > 0 && period > 0)
+      return (double)quota * 100 / period;
+#endif /* defined(LINUX) */
+   return 0.0;
+   }
+
 void TR_CpuEntitlement::computeAndCacheCpuEntitlement()
    {
    PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
@@ -401,5 +467,6 @@ void TR_CpuEntitlement::computeAndCacheCpuEntitlement()
       {
       _jvmCpuEntitlement = numTargetCpuEntitlement;
       }
+   _containerCpuQuota = computeContainerCpuQuota();
    }
 
@@ -208,14 +208,17 @@ public:
    uint32_t getNumTargetCPUs()     const { return _numTargetCpu; }  // num CPUs the JVM is pinned to. Guaranteed >= 1
    double getGuestCpuEntitlement() const { return _guestCpuEntitlement; } // as given by the hypervisor; 0 if error or no hypervisor
    double getJvmCpuEntitlement()   const { return _jvmCpuEntitlement; } // smallest of _numTargetCpu and _guestCpuEntitlement
+   double getContainerCpuQuota()   const { return _containerCpuQuota; } // cgroup CPU quota in percentage points; 0 if not limited or unknown
 
 private:
    double computeGuestCpuEntitlement() const; // this does not check for isHypervisorPresent, so don't call it directly
+   double computeContainerCpuQuota() const;
 
    TR_YesNoMaybe _hypervisorPresent;
    uint32_t      _numTargetCpu;
    double        _guestCpuEntitlement;
    double        _jvmCpuEntitlement;
+   double        _containerCpuQuota;
    J9JITConfig * _jitConfig;
    };
 
@@ -135,6 +135,13 @@ class PersistentInfo : public OMR::PersistentInfoConnector
          _JITServerPort(38400),
          _socketTimeoutMs(2000),
          _clientUID(0),
+         _JITServerUseAOTCache(false),
+         _JITServerSessionSnapshotFile(),
+         _JITServerUnixSocketPath(),
+         _JITServerCaptureDir(),
+         _JITServerReplayFile(),
+         _JITServerReplayCount(1),
+         _JITServerReplayThreads(1),
 #endif /* defined(J9VM_OPT_JITSERVER) */
       OMR::PersistentInfoConnector(pm)
       {}
@@ -307,6 +314,20 @@ class PersistentInfo : public OMR::PersistentInfoConnector
    void setJITServerPort(uint32_t port) { _JITServerPort = port; }
    uint64_t getClientUID() const { return _clientUID; }
    void setClientUID(uint64_t val) { _clientUID = val; }
+   bool getJITServerUseAOTCache() const { return _JITServerUseAOTCache; }
+   void setJITServerUseAOTCache(bool use) { _JITServerUseAOTCache = use; }
+   const std::string &getJITServerSessionSnapshotFile() const { return _JITServerSessionSnapshotFile; }
+   void setJITServerSessionSnapshotFile(char *fileName) { _JITServerSessionSnapshotFile = fileName; }
+   const std::string &getJITServerUnixSocketPath() const { return _JITServerUnixSocketPath; }
+   void setJITServerUnixSocketPath(char *path) { _JITServerUnixSocketPath = path; }
+   const std::string &getJITServerCaptureDir() const { return _JITServerCaptureDir; }
+   void setJITServerCaptureDir(char *dir) { _JITServerCaptureDir = dir; }
+   const std::string &getJITServerReplayFile() const { return _JITServerReplayFile; }
+   void setJITServerReplayFile(char *fileName) { _JITServerReplayFile = fileName; }
+   uint32_t getJITServerReplayCount() const { return _JITServerReplayCount; }
+   void setJITServerReplayCount(uint32_t count) { _JITServerReplayCount = count; }
+   uint32_t getJITServerReplayThreads() const { return _JITServerReplayThreads; }
+   void setJITServerReplayThreads(uint32_t numThreads) { _JITServerReplayThreads = numThreads; }
 #endif /* defined(J9VM_OPT_JITSERVER) */
 
    private:
@@ -397,6 +418,13 @@ class PersistentInfo : public OMR::PersistentInfoConnector
    uint32_t    _JITServerPort;
    uint32_t    _socketTimeoutMs; // timeout for communication sockets used in out-of-process JIT compilation
    uint64_t    _clientUID;
+   bool        _JITServerUseAOTCache; // share AOT bodies between clients at the server
+   std::string _JITServerSessionSnapshotFile; // file used to persist client session caches across server restarts; empty means disabled
+   std::string _JITServerUnixSocketPath; // if not empty, client and server communicate through this Unix domain socket instead of TCP
+   std::string _JITServerCaptureDir; // if not empty, the client records the messages of each remote compilation to a file in this directory
+   std::string _JITServerReplayFile; // if not empty, the server replays the compilation recorded in this file at startup
+   uint32_t    _JITServerReplayCount; // number of times the recorded compilation is replayed
+   uint32_t    _JITServerReplayThreads; // number of threads replaying the recorded compilation at the same time
 #endif /* defined(J9VM_OPT_JITSERVER) */
    };
 
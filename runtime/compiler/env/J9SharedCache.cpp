@@ -43,8 +43,10 @@
 #include "runtime/RuntimeAssumptions.hpp"
 #if defined(J9VM_OPT_JITSERVER)
 #include "control/CompilationThread.hpp" // for TR::compInfoPT
+#include "control/JITServerCompilationThread.hpp"
 #include "control/JITServerHelpers.hpp"
 #include "runtime/JITClientSession.hpp"
+#include "runtime/JITServerAOTCache.hpp"
 #endif
 
 #define LOG(logLevel, format, ...)               \
@@ -1335,6 +1337,64 @@ TR_J9SharedCache::getClassChainOffsetOfIdentifyingLoaderForClazzInSharedCacheNoF
 
    return classChainOffsetInSharedCache;
    }
+
+uint64_t
+TR_J9SharedCache::hashContentAtOffset(uint8_t kind, uintptr_t offset)
+   {
+   switch (kind)
+      {
+      case JITServerAOTCacheSCCRecord::ROMClass:
+         {
+         J9ROMClass *romClass = NULL;
+         if (!isOffsetFromStart(offset) || !isROMClassOffsetInSharedCache(offset, &romClass))
+            return 0;
+         return JITServerAOTCacheKey::hashROMClass(romClass);
+         }
+      case JITServerAOTCacheSCCRecord::ROMMethod:
+         {
+         J9ROMMethod *romMethod = NULL;
+         if (!isOffsetFromStart(offset) || !isROMMethodOffsetInSharedCache(offset, &romMethod))
+            return 0;
+         return JITServerAOTCacheKey::hashBytes(romMethod, (uintptr_t)nextROMMethod(romMethod) - (uintptr_t)romMethod);
+         }
+      case JITServerAOTCacheSCCRecord::ClassChain:
+         {
+         UDATA *classChain = NULL;
+         if (!isOffsetFromEnd(offset) || !isOffsetInSharedCache(offset, &classChain))
+            return 0;
+         // The first entry is the length of the chain in bytes; the others are offsets of ROM classes
+         UDATA numEntries = classChain[0] / sizeof(UDATA);
+         uint64_t hash = JITServerAOTCacheKey::hashBytes(&numEntries, sizeof(numEntries));
+         for (UDATA i = 1; i < numEntries; ++i)
+            {
+            uint64_t romClassHash = hashContentAtOffset(JITServerAOTCacheSCCRecord::ROMClass, classChain[i]);
+            if (!romClassHash)
+               return 0;
+            hash = JITServerAOTCacheKey::hashBytes(&romClassHash, sizeof(romClassHash), hash);
+            }
+         return hash;
+         }
+      case JITServerAOTCacheSCCRecord::WellKnownClasses:
+         {
+         uintptr_t *classChainOffsets = NULL;
+         if (!isOffsetFromEnd(offset) || !isOffsetInSharedCache(offset, &classChainOffsets))
+            return 0;
+         // The first entry is the number of well-known classes; the others are offsets of their class chains
+         uintptr_t numClasses = classChainOffsets[0];
+         uint64_t hash = JITServerAOTCacheKey::hashBytes(&numClasses, sizeof(numClasses));
+         for (uintptr_t i = 1; i <= numClasses; ++i)
+            {
+            uint64_t classChainHash = hashContentAtOffset(JITServerAOTCacheSCCRecord::ClassChain, classChainOffsets[i]);
+            if (!classChainHash)
+               return 0;
+            hash = JITServerAOTCacheKey::hashBytes(&classChainHash, sizeof(classChainHash), hash);
+            }
+         return hash;
+         }
+      default:
+         return 0;
+      }
+   }
 #endif // defined(J9VM_OPT_JITSERVER)
 
 const void *
@@ -1362,18 +1422,23 @@ UDATA *
 TR_J9JITServerSharedCache::rememberClass(J9Class *clazz, bool create)
    {
    TR_ASSERT(_stream, "stream must be initialized by now");
-   auto clientData = TR::compInfoPT->getClientData();
+   auto compInfoPT = static_cast<TR::CompilationInfoPerThreadRemote *>(TR::compInfoPT);
+   auto clientData = compInfoPT->getClientData();
    PersistentUnorderedMap<J9Class *, UDATA *> & cache = clientData->getClassChainDataCache();
       {
       OMR::CriticalSection classChainDataMapMonitor(clientData->getClassChainDataMapMonitor());
       auto it = cache.find(clazz);
       if (it != cache.end())
+         {
+         compInfoPT->recordSCCClassChain(it->second);
          return it->second;
+         }
       }
    _stream->write(JITServer::MessageType::SharedCache_rememberClass, clazz, create);
    UDATA * chainData = std::get<0>(_stream->read<UDATA *>());
    if (chainData)
       {
+      compInfoPT->recordSCCClassChain(chainData);
       if (!create)
          {
          if (TR::Options::getVerboseOption(TR_VerboseJITServer))
@@ -1388,6 +1453,42 @@ TR_J9JITServerSharedCache::rememberClass(J9Class *clazz, bool create)
    return chainData;
    }
 
+bool
+TR_J9JITServerSharedCache::isPointerInSharedCache(void *ptr, uintptr_t *cacheOffset)
+   {
+   uintptr_t offset = 0;
+   if (!TR_J9SharedCache::isPointerInSharedCache(ptr, &offset))
+      return false;
+   static_cast<TR::CompilationInfoPerThreadRemote *>(TR::compInfoPT)->recordSCCPointerOffset(ptr, offset);
+   if (cacheOffset)
+      *cacheOffset = offset;
+   return true;
+   }
+
+bool
+TR_J9JITServerSharedCache::isROMClassInSharedCache(J9ROMClass *romClass, uintptr_t *cacheOffset)
+   {
+   uintptr_t offset = 0;
+   if (!TR_J9SharedCache::isROMClassInSharedCache(romClass, &offset))
+      return false;
+   static_cast<TR::CompilationInfoPerThreadRemote *>(TR::compInfoPT)->recordSCCOffset(JITServerAOTCacheSCCRecord::ROMClass, offset);
+   if (cacheOffset)
+      *cacheOffset = offset;
+   return true;
+   }
+
+bool
+TR_J9JITServerSharedCache::isROMMethodInSharedCache(J9ROMMethod *romMethod, uintptr_t *cacheOffset)
+   {
+   uintptr_t offset = 0;
+   if (!TR_J9SharedCache::isROMMethodInSharedCache(romMethod, &offset))
+      return false;
+   static_cast<TR::CompilationInfoPerThreadRemote *>(TR::compInfoPT)->recordSCCOffset(JITServerAOTCacheSCCRecord::ROMMethod, offset);
+   if (cacheOffset)
+      *cacheOffset = offset;
+   return true;
+   }
+
 J9SharedClassCacheDescriptor *
 TR_J9JITServerSharedCache::getCacheDescriptorList()
    {
@@ -1421,6 +1522,8 @@ TR_J9JITServerSharedCache::getClassChainOffsetOfIdentifyingLoaderForClazzInShare
             }
          }
       }
+   if (classChainOffset)
+      static_cast<TR::CompilationInfoPerThreadRemote *>(TR::compInfoPT)->recordSCCOffset(JITServerAOTCacheSCCRecord::ClassChain, classChainOffset);
    return classChainOffset;
    }
 
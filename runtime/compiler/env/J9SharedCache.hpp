@@ -304,6 +304,17 @@ public:
      * \return Returns the offset of the class chain that identifies given class or 0 is such offset is not valid.
     */
    uintptr_t getClassChainOffsetOfIdentifyingLoaderForClazzInSharedCacheNoFail(TR_OpaqueClassBlock *clazz);
+
+   /**
+     * \brief Hashes the ROM classes reached through an offset into this SCC: the ROM class or the
+     *        ROM method at the offset, the ROM classes of the class chain at the offset, or the ROM
+     *        classes of all the chains in the well-known classes list at the offset.
+     *        The hash does not depend on where these ROM classes are stored in the SCC.
+     * \param kind JITServerAOTCacheSCCRecord::Kind describing what the offset refers to
+     * \param offset The offset into the SCC
+     * \return The hash, or 0 if the offset does not refer to an entity of the given kind.
+    */
+   uint64_t hashContentAtOffset(uint8_t kind, uintptr_t offset);
    #endif
 
    virtual const void *storeSharedData(J9VMThread *vmThread, char *key, J9SharedDataDescriptor *descriptor);
@@ -569,6 +580,11 @@ public:
 
    virtual UDATA *rememberClass(J9Class *clazz, bool create=true) override;
 
+   // Overridden to record the client SCC offsets that the AOT body being compiled depends on
+   virtual bool isPointerInSharedCache(void *ptr, uintptr_t *cacheOffset = NULL) override;
+   virtual bool isROMClassInSharedCache(J9ROMClass *romClass, uintptr_t *cacheOffset = NULL) override;
+   virtual bool isROMMethodInSharedCache(J9ROMMethod *romMethod, uintptr_t *cacheOffset = NULL) override;
+
    virtual UDATA rememberDebugCounterName(const char *name) override { TR_ASSERT_FATAL(false, "called"); return 0;}
    virtual const char *getDebugCounterName(UDATA offset) override { TR_ASSERT_FATAL(false, "called"); return NULL;}
 
@@ -5233,7 +5233,12 @@ TR_J9VMBase::getDesignatedCodeCache(TR::Compilation *comp) // MCT
    bool hadClassUnloadMonitor;
    bool hadVMAccess = releaseClassUnloadMonitorAndAcquireVMaccessIfNeeded(comp, &hadClassUnloadMonitor);
 
-   TR::CodeCache * result = TR::CodeCacheManager::instance()->reserveCodeCache(false, 0, compThreadID, &numReserved);
+   // The code caches of the server only hold a body until it is sent to the client
+   TR::CodeCache * result;
+   if (comp && !comp->isOutOfProcessCompilation())
+      result = TR::CodeCacheManager::instance()->reserveCodeCacheForBody(TR::CodeCacheManager::isHotBody(comp), 0, compThreadID, &numReserved);
+   else
+      result = TR::CodeCacheManager::instance()->reserveCodeCache(false, 0, compThreadID, &numReserved);
 
    acquireClassUnloadMonitorAndReleaseVMAccessIfNeeded(comp, hadVMAccess, hadClassUnloadMonitor);
    if (!result)
@@ -71,6 +71,16 @@ TR_ResolvedJ9JITServerMethod::TR_ResolvedJ9JITServerMethod(TR_OpaqueMethodBlock
    // Create client side mirror of this object to use for calls involving RAM data
    TR_ResolvedJ9Method* owningMethodMirror = owningMethod ? ((TR_ResolvedJ9JITServerMethod*) owningMethod)->_remoteMirror : NULL;
 
+   // The mirror of the method being compiled is normally created by the client
+   // before sending the compilation request, so there is no need to ask for it
+   TR_ResolvedJ9JITServerMethodInfo prefetchedMethodInfo;
+   if (!owningMethod && vTableSlot == 0 &&
+       static_cast<TR::CompilationInfoPerThreadRemote *>(threadCompInfo)->consumePrefetchedCompileeMethodInfo(aMethod, prefetchedMethodInfo))
+      {
+      unpackMethodInfo(aMethod, fe, trMemory, vTableSlot, threadCompInfo, prefetchedMethodInfo);
+      return;
+      }
+
    // If in AOT mode, will actually create relocatable version of resolved method on the client
    _stream->write(JITServer::MessageType::mirrorResolvedJ9Method, aMethod, owningMethodMirror, vTableSlot, fej9->isAOT_DEPRECATED_DO_NOT_USE());
    auto recv = _stream->read<TR_ResolvedJ9JITServerMethodInfo>();
@@ -1788,87 +1798,96 @@ TR_ResolvedJ9JITServerMethod::addValidationRecordForCachedResolvedMethod(const T
    return added;
    }
 
+TR_ResolvedMethodType
+TR_ResolvedJ9JITServerMethod::getInvokeResolvedMethodType(TR_J9ByteCode bc, int32_t &cpIndex)
+   {
+   switch (bc)
+      {
+      case J9BCinvokevirtual:
+         return TR_ResolvedMethodType::VirtualFromCP;
+      case J9BCinvokestaticsplit:
+         cpIndex |= J9_STATIC_SPLIT_TABLE_INDEX_FLAG;
+         // falling through on purpose
+      case J9BCinvokestatic:
+         return TR_ResolvedMethodType::Static;
+      case J9BCinvokespecialsplit:
+         cpIndex |= J9_SPECIAL_SPLIT_TABLE_INDEX_FLAG;
+         // falling through on purpose
+      case J9BCinvokespecial:
+         return TR_ResolvedMethodType::Special;
+      case J9BCinvokeinterface:
+         return TR_ResolvedMethodType::ImproperInterface;
+      default:
+         return TR_ResolvedMethodType::NoType;
+      }
+   }
+
+bool
+TR_ResolvedJ9JITServerMethod::isFieldAccess(TR_J9ByteCode bc, bool &isStatic)
+   {
+   if (bc == J9BCgetfield || bc == J9BCputfield)
+      {
+      isStatic = false;
+      return true;
+      }
+   if (bc == J9BCgetstatic || bc == J9BCputstatic)
+      {
+      isStatic = true;
+      return true;
+      }
+   return false;
+   }
+
 void
 TR_ResolvedJ9JITServerMethod::cacheResolvedMethodsCallees(int32_t ttlForUnresolved)
    {
-   // 1. Iterate through bytecodes and look for method invokes.
-   // If resolved method corresponding to an invoke is not cached, add it
-   // to the list of methods that will be sent to the client in one batch.
    auto compInfoPT = (TR::CompilationInfoPerThreadRemote *) _fe->_compInfoPT;
-   TR_J9ByteCodeIterator bci(0, this, fej9(), compInfoPT->getCompilation());
    std::vector<int32_t> cpIndices;
    std::vector<TR_ResolvedMethodType> methodTypes;
-   for(TR_J9ByteCode bc = bci.first(); bc != J9BCunknown; bc = bci.next())
-      {
-      // Identify all bytecodes that require a resolved method
-      int32_t cpIndex = bci.next2Bytes();
-      TR_ResolvedMethodType type = TR_ResolvedMethodType::NoType;
-      TR_ResolvedMethod *resolvedMethod;
-      switch (bc)
+   std::vector<J9Method *> ramMethods;
+   std::vector<uint32_t> vTableOffsets;
+   std::vector<TR_ResolvedJ9JITServerMethodInfo> methodInfos;
+
+   // The client may have answered the queries for the method being compiled with the compilation request
+   if (!compInfoPT->consumePrefetchedCompileeCallees(getPersistentIdentifier(), methodTypes, cpIndices, ramMethods, vTableOffsets, methodInfos))
+      {
+      // 1. Iterate through bytecodes and look for method invokes.
+      // If resolved method corresponding to an invoke is not cached, add it
+      // to the list of methods that will be sent to the client in one batch.
+      TR_J9ByteCodeIterator bci(0, this, fej9(), compInfoPT->getCompilation());
+      for(TR_J9ByteCode bc = bci.first(); bc != J9BCunknown; bc = bci.next())
          {
-         case J9BCinvokevirtual:
-            {
-            type = TR_ResolvedMethodType::VirtualFromCP;
-            break;
-            }
-         case J9BCinvokestaticsplit:
+         // Identify all bytecodes that require a resolved method
+         int32_t cpIndex = bci.next2Bytes();
+         TR_ResolvedMethodType type = getInvokeResolvedMethodType(bc, cpIndex);
+         TR_ResolvedMethod *resolvedMethod;
+         if (type != TR_ResolvedMethodType::NoType &&
+             !compInfoPT->getCachedResolvedMethod(
+                compInfoPT->getResolvedMethodKey(type, (TR_OpaqueClassBlock *) _ramClass, cpIndex),
+                this,
+                &resolvedMethod))
             {
-            // falling through on purpose
-            cpIndex |= J9_STATIC_SPLIT_TABLE_INDEX_FLAG;
-            }
-         case J9BCinvokestatic:
-            {
-            type = TR_ResolvedMethodType::Static;
-            break;
-            }
-         case J9BCinvokespecialsplit:
-            {
-            // falling through on purpose
-            cpIndex |= J9_SPECIAL_SPLIT_TABLE_INDEX_FLAG;
-            }
-         case J9BCinvokespecial:
-            {
-            type = TR_ResolvedMethodType::Special;
-            break;
-            }
-         case J9BCinvokeinterface:
-            {
-            type = TR_ResolvedMethodType::ImproperInterface;
-            break;
-            }
-         default:
-            {
-            // do nothing
-            break;
+            methodTypes.push_back(type);
+            cpIndices.push_back(cpIndex);
             }
          }
 
-      if (type != TR_ResolvedMethodType::NoType &&
-          !compInfoPT->getCachedResolvedMethod(
-             compInfoPT->getResolvedMethodKey(type, (TR_OpaqueClassBlock *) _ramClass, cpIndex),
-             this,
-             &resolvedMethod))
-         {
-         methodTypes.push_back(type);
-         cpIndices.push_back(cpIndex);
-         }
-      }
+      // If less than 2 methods, it's cheaper to create
+      // resolved method normally, because client won't
+      // have to deal with vectors
+      if (methodTypes.size() < 2)
+         return;
 
-   int32_t numMethods = methodTypes.size();
-   // If less than 2 methods, it's cheaper to create
-   // resolved method normally, because client won't
-   // have to deal with vectors
-   if (numMethods < 2)
-      return;
-
-   // 2. Send a remote query to mirror all uncached resolved methods
-   _stream->write(JITServer::MessageType::ResolvedMethod_getMultipleResolvedMethods, (TR_ResolvedJ9Method *) _remoteMirror, methodTypes, cpIndices);
-   auto recv = _stream->read<std::vector<J9Method *>, std::vector<uint32_t>, std::vector<TR_ResolvedJ9JITServerMethodInfo>>();
+      // 2. Send a remote query to mirror all uncached resolved methods
+      _stream->write(JITServer::MessageType::ResolvedMethod_getMultipleResolvedMethods, (TR_ResolvedJ9Method *) _remoteMirror, methodTypes, cpIndices);
+      auto recv = _stream->read<std::vector<J9Method *>, std::vector<uint32_t>, std::vector<TR_ResolvedJ9JITServerMethodInfo>>();
+      ramMethods = std::move(std::get<0>(recv));
+      vTableOffsets = std::move(std::get<1>(recv));
+      methodInfos = std::move(std::get<2>(recv));
+      }
 
    // 3. Cache all received resolved methods
-   auto &ramMethods = std::get<0>(recv);
-   auto &vTableOffsets = std::get<1>(recv);
-   auto &methodInfos = std::get<2>(recv);
+   int32_t numMethods = methodTypes.size();
    TR_ASSERT(numMethods == ramMethods.size(), "Number of received methods does not match the number of requested methods");
    for (int32_t i = 0; i < numMethods; ++i)
       {
@@ -1893,58 +1912,53 @@ TR_ResolvedJ9JITServerMethod::cacheResolvedMethodsCallees(int32_t ttlForUnresolv
 void
 TR_ResolvedJ9JITServerMethod::cacheFields()
    {
-   // 1. Iterate through bytecodes and look for loads/stores
-   // If the corresponding field or static is not cached, add it
-   // to the list of fields that will be sent to the client in one batch.
    auto serverVM = static_cast<TR_J9ServerVM *>(_fe);
-   auto compInfoPT = _fe->_compInfoPT;
-   TR_J9ByteCodeIterator bci(0, this, _fe, compInfoPT->getCompilation());
+   auto compInfoPT = static_cast<TR::CompilationInfoPerThreadRemote *>(_fe->_compInfoPT);
    std::vector<int32_t> cpIndices;
-   std::vector<uint8_t> isStaticField;
+   std::vector<J9Class *> declaringClasses;
+   std::vector<UDATA> fields;
    J9Class *ramClass = constantPoolHdr();
-   for(TR_J9ByteCode bc = bci.first(); bc != J9BCunknown; bc = bci.next())
-      {
-      bool isField = false;
-      bool isStatic;
-      if (bc == J9BCgetfield || bc == J9BCputfield)
-         {
-         isField = true;
-         isStatic = false;
-         }
-      else if (bc == J9BCgetstatic || bc == J9BCputstatic)
-         {
-         isField = true;
-         isStatic = true;
-         }
 
-      J9Class *declaringClass;
-      UDATA field;
-      int32_t cpIndex = bci.next2Bytes();
-      if (isField && !serverVM->getCachedField(ramClass, cpIndex, &declaringClass, &field))
+   // The client may have answered the queries for the method being compiled with the compilation request
+   if (!compInfoPT->consumePrefetchedCompileeFields(getPersistentIdentifier(), cpIndices, declaringClasses, fields))
+      {
+      // 1. Iterate through bytecodes and look for loads/stores
+      // If the corresponding field or static is not cached, add it
+      // to the list of fields that will be sent to the client in one batch.
+      TR_J9ByteCodeIterator bci(0, this, _fe, compInfoPT->getCompilation());
+      std::vector<uint8_t> isStaticField;
+      for(TR_J9ByteCode bc = bci.first(); bc != J9BCunknown; bc = bci.next())
          {
-         cpIndices.push_back(cpIndex);
-         isStaticField.push_back(isStatic);
+         bool isStatic;
+         J9Class *declaringClass;
+         UDATA field;
+         int32_t cpIndex = bci.next2Bytes();
+         if (isFieldAccess(bc, isStatic) && !serverVM->getCachedField(ramClass, cpIndex, &declaringClass, &field))
+            {
+            cpIndices.push_back(cpIndex);
+            isStaticField.push_back(isStatic);
+            }
          }
-      }
 
-   // If there's just one field, it's faster to get it through regular means,
-   // to avoid overhead of vectors
-   int32_t numFields = cpIndices.size();
-   if (numFields < 2)
-      return;
+      // If there's just one field, it's faster to get it through regular means,
+      // to avoid overhead of vectors
+      if (cpIndices.size() < 2)
+         return;
 
-   // 2. Send a message to get info for all fields
-   JITServer::ServerStream *stream = compInfoPT->getMethodBeingCompiled()->_stream;
-   stream->write(
-      JITServer::MessageType::VM_getFields,
-      getRemoteMirror(),
-      cpIndices,
-      isStaticField);
-   auto recv = stream->read<std::vector<J9Class *>, std::vector<UDATA>>();
+      // 2. Send a message to get info for all fields
+      JITServer::ServerStream *stream = compInfoPT->getMethodBeingCompiled()->_stream;
+      stream->write(
+         JITServer::MessageType::VM_getFields,
+         getRemoteMirror(),
+         cpIndices,
+         isStaticField);
+      auto recv = stream->read<std::vector<J9Class *>, std::vector<UDATA>>();
+      declaringClasses = std::move(std::get<0>(recv));
+      fields = std::move(std::get<1>(recv));
+      }
 
    // 3. Cache all received fields
-   auto &declaringClasses = std::get<0>(recv);
-   auto &fields = std::get<1>(recv);
+   int32_t numFields = cpIndices.size();
    TR_ASSERT(numFields == declaringClasses.size(), "Number of received fields does not match the requested number");
    OMR::CriticalSection getRemoteROMClass(compInfoPT->getClientData()->getROMMapMonitor());
    for (int32_t i = 0; i < numFields; ++i)
@@ -26,6 +26,7 @@
 #include "control/J9Recompilation.hpp"
 #include "env/j9method.h"
 #include "env/PersistentCollections.hpp"
+#include "ilgen/J9ByteCode.hpp"
 #include "runtime/JITServerIProfiler.hpp"
 #include "runtime/JITClientSession.hpp"
 
@@ -80,6 +81,13 @@ TR_ResolvedMethodKey
       }
    };
 
+// Answers to the queries the server makes about the invokes and the field accesses of the method being compiled
+// when its IL generation starts. The client sends them with the compilation request. The first 5 vectors describe
+// the callees (method types, cpIndices, RAM methods, vTable offsets and methodInfos), the last 3 describe
+// the fields (cpIndices, declaring classes and field offsets or static addresses).
+using TR_ResolvedJ9JITServerMethodQueries = std::tuple<std::vector<TR_ResolvedMethodType>, std::vector<int32_t>, std::vector<J9Method *>,
+                                                       std::vector<uint32_t>, std::vector<TR_ResolvedJ9JITServerMethodInfo>,
+                                                       std::vector<int32_t>, std::vector<J9Class *>, std::vector<UDATA>>;
 
 struct TR_IsUnresolvedString
    {
@@ -226,6 +234,10 @@ public:
    bool addValidationRecordForCachedResolvedMethod(const TR_ResolvedMethodKey &key, TR_OpaqueMethodBlock *method);
    void cacheResolvedMethodsCallees(int32_t ttlForUnresolved = 2);
    void cacheFields();
+   // Bytecodes whose resolved method or field is fetched by cacheResolvedMethodsCallees and cacheFields.
+   // They are also used by the client to answer these queries with the compilation request.
+   static TR_ResolvedMethodType getInvokeResolvedMethodType(TR_J9ByteCode bc, int32_t &cpIndex);
+   static bool isFieldAccess(TR_J9ByteCode bc, bool &isStatic);
    int32_t collectImplementorsCapped(TR_OpaqueClassBlock *topClass, int32_t maxCount, int32_t cpIndexOrOffset, TR_YesNoMaybe useGetResolvedInterfaceMethod, TR_ResolvedMethod **implArray);
    static void packMethodInfo(TR_ResolvedJ9JITServerMethodInfo &methodInfo, TR_ResolvedJ9Method *resolvedMethod, TR_FrontEnd *fe);
 
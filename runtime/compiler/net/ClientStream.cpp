@@ -187,6 +187,41 @@ int openConnection(const std::string &address, uint32_t port, uint32_t timeoutMs
    return sockfd;
    }
 
+int openUnixConnection(const std::string &path, uint32_t timeoutMs)
+   {
+   struct sockaddr_un servAddr;
+   if (path.size() >= sizeof(servAddr.sun_path))
+      throw StreamFailure("JITServer Unix socket path is too long");
+   memset(&servAddr, 0, sizeof(servAddr));
+   servAddr.sun_family = AF_UNIX;
+   memcpy(servAddr.sun_path, path.c_str(), path.size());
+
+   int sockfd = socket(AF_UNIX, SOCK_STREAM, 0);
+   if (sockfd < 0)
+      throw StreamFailure("Cannot create Unix socket for JITServer");
+
+   struct timeval timeout = {(timeoutMs / 1000), ((timeoutMs % 1000) * 1000)};
+   if (setsockopt(sockfd, SOL_SOCKET, SO_RCVTIMEO, (void *)&timeout, sizeof(timeout)) < 0)
+      {
+      close(sockfd);
+      throw StreamFailure("Cannot set option SO_RCVTIMEO on socket");
+      }
+
+   if (setsockopt(sockfd, SOL_SOCKET, SO_SNDTIMEO, (void *)&timeout, sizeof(timeout)) < 0)
+      {
+      close(sockfd);
+      throw StreamFailure("Cannot set option SO_SNDTIMEO on socket");
+      }
+
+   if (connect(sockfd, (struct sockaddr *) &servAddr, sizeof(servAddr)) < 0)
+      {
+      close(sockfd);
+      throw StreamFailure("Connect failed");
+      }
+
+   return sockfd;
+   }
+
 BIO *openSSLConnection(SSL_CTX *ctx, int connfd)
    {
    if (!ctx)
@@ -255,7 +290,9 @@ BIO *openSSLConnection(SSL_CTX *ctx, int connfd)
 ClientStream::ClientStream(TR::PersistentInfo *info)
    : CommunicationStream(), _versionCheckStatus(NOT_DONE)
    {
-   int connfd = openConnection(info->getJITServerAddress(), info->getJITServerPort(), info->getSocketTimeout());
+   int connfd = info->getJITServerUnixSocketPath().empty() ?
+      openConnection(info->getJITServerAddress(), info->getJITServerPort(), info->getSocketTimeout()) :
+      openUnixConnection(info->getJITServerUnixSocketPath(), info->getSocketTimeout());
    BIO *ssl = openSSLConnection(_sslCtx, connfd);
    initStream(connfd, ssl);
    _numConnectionsOpened++;
@@ -107,10 +107,11 @@ public:
    template <typename ...T>
    void write(MessageType type, T... args)
       {
+      uint64_t serializationStartTime = MessageStatistics::startTimer();
       _cMsg.setType(type);
       setArgsRaw<T...>(_cMsg, args...);
 
-      writeMessage(_cMsg);
+      writeMessage(_cMsg, serializationStartTime);
       }
 
    /**
@@ -145,6 +146,7 @@ public:
    template <typename ...T>
    void writeError(MessageType type, T... args)
       {
+      uint64_t serializationStartTime = MessageStatistics::startTimer();
       _cMsg.setType(type);
       if (type == MessageType::compilationInterrupted || type == MessageType::connectionTerminate)
          {
@@ -152,7 +154,7 @@ public:
          }
       else
          setArgsRaw<T...>(_cMsg, args...);
-      writeMessage(_cMsg);
+      writeMessage(_cMsg, serializationStartTime);
       }
 
    VersionCheckStatus getVersionCheckStatus()
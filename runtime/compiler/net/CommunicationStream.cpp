@@ -64,6 +64,7 @@ void
 CommunicationStream::readMessage2(Message &msg)
    {
    msg.clearForRead();
+   uint64_t ioStartTime = MessageStatistics::startTimer();
 
    // read message size
    uint32_t serializedSize;
@@ -76,8 +77,14 @@ CommunicationStream::readMessage2(Message &msg)
    uint32_t messageSize = serializedSize - sizeof(uint32_t);
    readBlocking(msg.getBufferStartForRead() + sizeof(uint32_t), messageSize);
 
+   if (_captureFd != -1)
+      captureMessage(msg.getBufferStartForRead(), serializedSize, CAPTURED_MESSAGE_READ);
+
    // rebuild the message
+   uint64_t deserializationStartTime = MessageStatistics::startTimer();
    msg.deserialize();
+   if (MessageStatistics::isEnabled())
+      recordReceivedMessage(msg, ioStartTime, deserializationStartTime);
 
    // collect message size
 #ifdef MESSAGE_SIZE_STATS
@@ -95,6 +102,7 @@ CommunicationStream::readMessage(Message &msg)
    char *buffer = msg.getBufferStartForRead();
    uint32_t bufferCapacity = msg.getBufferCapacity();
 
+   uint64_t ioStartTime = MessageStatistics::startTimer();
    int32_t bytesRead = readOnceBlocking(buffer, bufferCapacity);
 
    // bytesRead should be greater than 0 here, readOnceBlocking() throws
@@ -129,9 +137,14 @@ CommunicationStream::readMessage(Message &msg)
       }
 
    msg.setSerializedSize(serializedSize);
+   if (_captureFd != -1)
+      captureMessage(buffer, serializedSize, CAPTURED_MESSAGE_READ);
 
    // rebuild the message
+   uint64_t deserializationStartTime = MessageStatistics::startTimer();
    msg.deserialize();
+   if (MessageStatistics::isEnabled())
+      recordReceivedMessage(msg, ioStartTime, deserializationStartTime);
 
 #ifdef MESSAGE_SIZE_STATS
    collectMsgStat[int(msg.type())].update(serializedSize);
@@ -139,11 +152,69 @@ CommunicationStream::readMessage(Message &msg)
    }
 
 void
-CommunicationStream::writeMessage(Message &msg)
+CommunicationStream::writeMessage(Message &msg, uint64_t serializationStartTime)
    {
    char *serialMsg = msg.serialize();
+   if (_captureFd != -1)
+      captureMessage(serialMsg, msg.serializedSize(), CAPTURED_MESSAGE_WRITTEN);
+   uint64_t ioStartTime = MessageStatistics::startTimer();
    // write serialized message to the socket
    writeBlocking(serialMsg, msg.serializedSize());
+
+   if (MessageStatistics::isEnabled())
+      {
+      uint64_t endTime = MessageStatistics::currentTimeUs();
+      MessageType type = msg.type();
+      // Stats could have been enabled after the serialization started
+      if (serializationStartTime == 0)
+         serializationStartTime = ioStartTime;
+      MessageStatistics::recordSent(type, msg.serializedSize(), ioStartTime - serializationStartTime, endTime - ioStartTime);
+      // Writing the answer to the last message we read: record how long it took to handle it
+      if (type == _lastReadType)
+         MessageStatistics::recordLatency(type, endTime - _lastReadTimeUs);
+      _lastWriteType = type;
+      _lastWriteTimeUs = endTime;
+      _lastReadType = MessageType_MAXTYPE;
+      }
    msg.clearForWrite();
    }
+
+// Each captured message is the tag followed by the serialized message, which starts with its size.
+// A failed write stops the capture; the incomplete file is detected at replay time.
+void
+CommunicationStream::captureMessage(const char *serialMsg, uint32_t size, uint8_t tag)
+   {
+   if (write(_captureFd, &tag, sizeof(tag)) != sizeof(tag))
+      {
+      _captureFd = -1;
+      return;
+      }
+   uint32_t totalBytesWritten = 0;
+   while (totalBytesWritten < size)
+      {
+      ssize_t bytesWritten = write(_captureFd, serialMsg + totalBytesWritten, size - totalBytesWritten);
+      if (bytesWritten <= 0)
+         {
+         _captureFd = -1;
+         return;
+         }
+      totalBytesWritten += bytesWritten;
+      }
+   }
+
+void
+CommunicationStream::recordReceivedMessage(Message &msg, uint64_t ioStartTime, uint64_t deserializationStartTime)
+   {
+   uint64_t endTime = MessageStatistics::currentTimeUs();
+   MessageType type = msg.type();
+   if (ioStartTime == 0) // Stats were enabled while reading
+      ioStartTime = deserializationStartTime;
+   MessageStatistics::recordReceived(type, msg.serializedSize(), endTime - deserializationStartTime, deserializationStartTime - ioStartTime);
+   // Reading the answer to the last message we wrote: record the round trip time
+   if (type == _lastWriteType)
+      MessageStatistics::recordLatency(type, endTime - _lastWriteTimeUs);
+   _lastReadType = type;
+   _lastReadTimeUs = endTime;
+   _lastWriteType = MessageType_MAXTYPE;
+   }
 }
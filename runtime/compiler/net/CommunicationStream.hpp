@@ -28,6 +28,7 @@
 #include <openssl/err.h>
 #include "net/LoadSSLLibs.hpp"
 #include "net/Message.hpp"
+#include "net/MessageStatistics.hpp"
 #include "infra/Statistics.hpp"
 #include "env/VerboseLog.hpp"
 
@@ -68,10 +69,26 @@ public:
       TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "JITServer version: %u.%u.%u", MAJOR_NUMBER, MINOR_NUMBER, PATCH_NUMBER);
       }
 
+   // Tags that precede each message in a capture file (see JITServerCompilationCapture)
+   static const uint8_t CAPTURED_MESSAGE_WRITTEN = 0; // message sent by the capturing party
+   static const uint8_t CAPTURED_MESSAGE_READ = 1; // message received by the capturing party
+
+   /**
+      @brief Record every message exchanged on this stream, in serialized form, to a file
+
+      @param fd file descriptor of the capture file; -1 stops the recording
+   */
+   void setCaptureFd(int fd) { _captureFd = fd; }
+
 protected:
    CommunicationStream() :
       _ssl(NULL),
-      _connfd(-1)
+      _connfd(-1),
+      _captureFd(-1),
+      _lastReadType(MessageType_MAXTYPE),
+      _lastReadTimeUs(0),
+      _lastWriteType(MessageType_MAXTYPE),
+      _lastWriteTimeUs(0)
       {
       static_assert(
          sizeof(messageNames) / sizeof(messageNames[0]) == MessageType_ARRAYSIZE,
@@ -99,21 +116,33 @@ protected:
    // Build a message sent by a remote party by first reading the message
    // size and then reading the rest of the message
    void readMessage2(Message &msg);
-   void writeMessage(Message &msg);
+   // serializationStartTime is the value of MessageStatistics::startTimer()
+   // taken before the arguments were added to the message
+   void writeMessage(Message &msg, uint64_t serializationStartTime = 0);
 
    int getConnFD() const { return _connfd; }
    
    BIO *_ssl; // SSL connection, null if not using SSL
    int _connfd;
+   int _captureFd; // -1 if messages are not captured
    ServerMessage _sMsg;
    ClientMessage _cMsg;
 
    static const uint8_t MAJOR_NUMBER = 1;
-   static const uint16_t MINOR_NUMBER = 17;
+   static const uint16_t MINOR_NUMBER = 21;
    static const uint8_t PATCH_NUMBER = 0;
    static uint32_t CONFIGURATION_FLAGS;
 
 private:
+   void recordReceivedMessage(Message &msg, uint64_t ioStartTime, uint64_t deserializationStartTime);
+   void captureMessage(const char *serialMsg, uint32_t size, uint8_t tag);
+
+   // Used by MessageStatistics to match a query with its answer
+   MessageType _lastReadType;
+   uint64_t _lastReadTimeUs;
+   MessageType _lastWriteType;
+   uint64_t _lastWriteTimeUs;
+
    // readBlocking and writeBlocking are functions that directly read/write
    // passed object from/to the socket. For the object to be correctly written,
    // it needs to be contiguous.
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#include <chrono>
+#include <stdio.h>
+#include "net/MessageStatistics.hpp"
+#include "env/CompilerEnv.hpp"
+#include "env/VerboseLog.hpp"
+#include "j9.h"
+#include "AtomicSupport.hpp"
+
+namespace JITServer
+{
+bool MessageStatistics::_enabled = false;
+MessageStatistics::PerTypeStats MessageStatistics::_stats[];
+
+uint64_t
+MessageStatistics::currentTimeUs()
+   {
+   return std::chrono::duration_cast<std::chrono::microseconds>(
+      std::chrono::steady_clock::now().time_since_epoch()).count();
+   }
+
+void
+MessageStatistics::recordSent(MessageType type, uint32_t bytes, uint64_t serializationTimeUs, uint64_t ioTimeUs)
+   {
+   PerTypeStats &stats = _stats[type];
+   VM_AtomicSupport::addU64(&stats._numSent, 1);
+   VM_AtomicSupport::addU64(&stats._bytesSent, bytes);
+   VM_AtomicSupport::addU64(&stats._serializationTimeUs, serializationTimeUs);
+   VM_AtomicSupport::addU64(&stats._ioTimeUs, ioTimeUs);
+   }
+
+void
+MessageStatistics::recordReceived(MessageType type, uint32_t bytes, uint64_t deserializationTimeUs, uint64_t ioTimeUs)
+   {
+   PerTypeStats &stats = _stats[type];
+   VM_AtomicSupport::addU64(&stats._numReceived, 1);
+   VM_AtomicSupport::addU64(&stats._bytesReceived, bytes);
+   VM_AtomicSupport::addU64(&stats._serializationTimeUs, deserializationTimeUs);
+   VM_AtomicSupport::addU64(&stats._ioTimeUs, ioTimeUs);
+   }
+
+void
+MessageStatistics::recordLatency(MessageType type, uint64_t latencyUs)
+   {
+   int bucket = 0;
+   while (latencyUs && bucket < NUM_LATENCY_BUCKETS - 1)
+      {
+      latencyUs >>= 1;
+      bucket++;
+      }
+   VM_AtomicSupport::addU64(&_stats[type]._latencyHistogram[bucket], 1);
+   }
+
+// The counters are read without synchronization; the printed values
+// can be slightly inconsistent if messages are exchanged at the same time
+void
+MessageStatistics::printStats(bool toVlog)
+   {
+   PORT_ACCESS_FROM_PORT(TR::Compiler->portLib);
+   if (toVlog)
+      TR_VerboseLog::vlogAcquire();
+   else
+      j9tty_printf(PORTLIB, "JITServer message statistics (latency histogram buckets are upper bounds in usec):\n");
+
+   for (int i = 0; i < MessageType_ARRAYSIZE; ++i)
+      {
+      const PerTypeStats &stats = _stats[i];
+      if (stats._numSent == 0 && stats._numReceived == 0)
+         continue;
+
+      char histogram[NUM_LATENCY_BUCKETS * 24];
+      size_t len = 0;
+      histogram[0] = '\0';
+      for (int b = 0; b < NUM_LATENCY_BUCKETS && len < sizeof(histogram); ++b)
+         {
+         if (stats._latencyHistogram[b])
+            len += snprintf(histogram + len, sizeof(histogram) - len, " <%llu:%llu",
+                            1ULL << b, (unsigned long long)stats._latencyHistogram[b]);
+         }
+
+      const char *format = "%s: sent=%llu (%llu bytes) received=%llu (%llu bytes) serialization=%lluus I/O=%lluus latency:%s";
+      if (toVlog)
+         {
+         TR_VerboseLog::writeLine(TR_Vlog_JITServer, format, messageNames[i],
+            (unsigned long long)stats._numSent, (unsigned long long)stats._bytesSent,
+            (unsigned long long)stats._numReceived, (unsigned long long)stats._bytesReceived,
+            (unsigned long long)stats._serializationTimeUs, (unsigned long long)stats._ioTimeUs, histogram);
+         }
+      else
+         {
+         j9tty_printf(PORTLIB, format, messageNames[i],
+            (unsigned long long)stats._numSent, (unsigned long long)stats._bytesSent,
+            (unsigned long long)stats._numReceived, (unsigned long long)stats._bytesReceived,
+            (unsigned long long)stats._serializationTimeUs, (unsigned long long)stats._ioTimeUs, histogram);
+         j9tty_printf(PORTLIB, "\n");
+         }
+      }
+
+   if (toVlog)
+      TR_VerboseLog::vlogRelease();
+   }
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#ifndef MESSAGE_STATISTICS_H
+#define MESSAGE_STATISTICS_H
+
+#include <stdint.h>
+#include "net/MessageTypes.hpp"
+
+namespace JITServer
+{
+/**
+   @class MessageStatistics
+   @brief Per message type counters and latency histograms collected by ClientStream and ServerStream
+
+   Collection is disabled by default and enabled with -XX:+JITServerMessageStatistics.
+   Counters are updated with atomic adds, so compilation threads never block on each other.
+   For each message type we keep:
+   - the number of messages and bytes sent and received
+   - the time spent serializing/deserializing messages versus the time spent in socket I/O
+     (the latter includes waiting for the other party to send its message)
+   - a log2-scale histogram of latencies. At the server this is the round trip time of a
+     query (from writing the query until the answer is read). At the client this is the time
+     needed to handle a query (from reading the query until the answer is written).
+ */
+class MessageStatistics
+   {
+public:
+   static const int NUM_LATENCY_BUCKETS = 24; // bucket i counts latencies in [2^(i-1), 2^i) usec; the last one is open ended
+
+   static bool isEnabled() { return _enabled; }
+   static void setEnabled(bool enabled) { _enabled = enabled; }
+
+   // Returns the current time in usec if statistics are collected and 0 otherwise
+   static uint64_t startTimer() { return _enabled ? currentTimeUs() : 0; }
+   static uint64_t currentTimeUs();
+
+   static void recordSent(MessageType type, uint32_t bytes, uint64_t serializationTimeUs, uint64_t ioTimeUs);
+   static void recordReceived(MessageType type, uint32_t bytes, uint64_t deserializationTimeUs, uint64_t ioTimeUs);
+   static void recordLatency(MessageType type, uint64_t latencyUs);
+
+   /**
+      @brief Print the statistics of all message types that were used at least once
+      @param toVlog if true, print to the verbose log; otherwise print to stdout
+    */
+   static void printStats(bool toVlog);
+
+private:
+   struct PerTypeStats
+      {
+      volatile uint64_t _numSent;
+      volatile uint64_t _numReceived;
+      volatile uint64_t _bytesSent;
+      volatile uint64_t _bytesReceived;
+      volatile uint64_t _serializationTimeUs;
+      volatile uint64_t _ioTimeUs;
+      volatile uint64_t _latencyHistogram[NUM_LATENCY_BUCKETS];
+      };
+
+   static bool _enabled;
+   static PerTypeStats _stats[MessageType_ARRAYSIZE];
+   };
+}
+
+#endif // MESSAGE_STATISTICS_H
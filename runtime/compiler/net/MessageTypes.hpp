@@ -300,6 +300,12 @@ enum MessageType : uint16_t
    KnownObjectTable_getKnownObjectTableDumpInfo,
 
    ClassEnv_isClassRefValueType, // 249
+
+   // For JITServerAOTCache
+   AOTCache_getSCCContentHashes, // 250
+
+   // For restoring client sessions from a snapshot
+   ClientSession_getROMClassHashes, // 251
    MessageType_MAXTYPE
    };
 
@@ -556,6 +562,8 @@ static const char *messageNames[MessageType_ARRAYSIZE] =
    "KnownObjectTable_invokeDirectHandleDirectCall",
    "KnownObjectTable_getKnownObjectTableDumpInfo",
    "ClassEnv_isClassRefValueType", // 249
+   "AOTCache_getSCCContentHashes", // 250
+   "ClientSession_getROMClassHashes", // 251
    };
    }; // namespace JITServer
 #endif // MESSAGE_TYPES_HPP
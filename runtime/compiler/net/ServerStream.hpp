@@ -99,9 +99,10 @@ public:
          throw TR::CompilationInterrupted();
          }
 
+      uint64_t serializationStartTime = MessageStatistics::startTimer();
       _sMsg.setType(type);
       setArgsRaw<Args...>(_sMsg, args...);
-      writeMessage(_sMsg);
+      writeMessage(_sMsg, serializationStartTime);
       }
 
    /**
@@ -64,6 +64,7 @@
 #include "runtime/RelocationRuntime.hpp"
 #include "control/CompilationRuntime.hpp"
 #include "env/J9JitMemory.hpp"
+#include "env/J9SharedCache.hpp"
 #include "env/VMJ9.h"
 #include "env/j9method.h"
 #include "env/ut_j9jit.h"
@@ -156,6 +157,7 @@ int32_t TR_IProfiler::_STATS_cannotGetClassInfo             = 0;
 int32_t TR_IProfiler::_STATS_timestampHasExpired            = 0;
 int32_t TR_IProfiler::_STATS_abortedPersistence             = 0;
 int32_t TR_IProfiler::_STATS_methodPersisted                = 0;
+int32_t TR_IProfiler::_STATS_methodPersistedRefreshed       = 0;
 int32_t TR_IProfiler::_STATS_persistError                   = 0;
 int32_t TR_IProfiler::_STATS_methodPersistenceAttempts      = 0;
 int32_t TR_IProfiler::_STATS_methodNotPersisted_SCCfull     = 0;
@@ -355,6 +357,49 @@ TR_IProfiler::elgibleForPersistIprofileInfo(TR::Compilation *comp) const
              isIProfilingEnabled());
    }
 
+// The profile of a method is normally stored in the SCC by the first compilation of that method,
+// when the interpreter has seen only a few invocations. The next runs start from this early profile.
+// A hot or scorching compilation of the same method during startup sees the steady state behavior,
+// so it replaces the stored profile. Only the method being compiled is refreshed (not its inlined callees).
+// Each refresh adds a copy of the profile to the SCC, so a method is refreshed at most once per cache:
+// the compilation that refreshes it also records the hot/scorching (or EDO) hint, and a method that
+// already has one of these hints keeps its stored profile.
+bool
+TR_IProfiler::shouldRefreshPersistedProfile(TR_ResolvedMethod *resolvedMethod, TR::Compilation *comp) const
+   {
+   static char *disableRefresh = feGetEnv("TR_DisableRefreshPersistedIProfile");
+   const uint16_t refreshedHints = TR_HintHot | TR_HintScorching | TR_HintEDO;
+   if (disableRefresh ||
+       comp->getMethodHotness() < hot ||
+       comp->isDLT() ||
+       resolvedMethod->getPersistentIdentifier() != comp->getCurrentMethod()->getPersistentIdentifier() ||
+       // The hints are only recorded during startup; without them the refresh would be repeated by every run
+       _compInfo->getJITConfig()->javaVM->phase == J9VM_PHASE_NOT_STARTUP ||
+       (TR::Options::getAOTCmdLineOptions()->getEnableSCHintFlags() & (TR_HintHot | TR_HintScorching)) != (TR_HintHot | TR_HintScorching))
+      return false;
+
+   TR_J9SharedCache *sc = comp->fej9()->sharedCache();
+   return sc && !(sc->getAllEnabledHints((J9Method *)resolvedMethod->getPersistentIdentifier()) & refreshedHints);
+   }
+
+// True if the SCC holds a profile of method, stored by this or a previous run
+bool
+TR_IProfiler::hasPersistedProfile(J9Method *method, J9VMThread *vmThread)
+   {
+   if (!TR::Options::sharedClassCache())
+      return false;
+   J9SharedClassConfig * scConfig = _compInfo->getJITConfig()->javaVM->sharedClassConfig;
+   unsigned char storeBuffer[1000];
+   J9SharedDataDescriptor descriptor;
+   descriptor.address = storeBuffer;
+   descriptor.length = sizeof(storeBuffer);
+   descriptor.type = J9SHR_ATTACHED_DATA_TYPE_JITPROFILE;
+   descriptor.flags = J9SHR_ATTACHED_DATA_NO_FLAGS;
+   IDATA dataIsCorrupt;
+   const U_8 *found = scConfig->findAttachedData(vmThread, J9_ROM_METHOD_FROM_RAM_METHOD(method), &descriptor, &dataIsCorrupt);
+   return found == descriptor.address; // a stronger check, as found can be error value
+   }
+
 void
 TR_IProfiler::persistIprofileInfo(TR::ResolvedMethodSymbol *resolvedMethodSymbol, TR_ResolvedMethod *resolvedMethod, TR::Compilation *comp)
    {
@@ -413,7 +458,8 @@ TR_IProfiler::persistIprofileInfo(TR::ResolvedMethodSymbol *resolvedMethodSymbol
          J9VMThread *vmThread = ((TR_J9VM *)comp->fej9())->getCurrentVMThread();
          IDATA dataIsCorrupt;
          const U_8 *found = scConfig->findAttachedData(vmThread, romMethod, &descriptor, &dataIsCorrupt);
-         if (!found)
+         bool refresh = found && shouldRefreshPersistedProfile(resolvedMethod, comp);
+         if (!found || refresh)
             {
             if (traceIProfiling && resolvedMethodSymbol)
                comp->dumpMethodTrees("Pre Iprofiler Walk", resolvedMethodSymbol);
@@ -452,10 +498,13 @@ TR_IProfiler::persistIprofileInfo(TR::ResolvedMethodSymbol *resolvedMethodSymbol
                   // store in the shared cache
                   descriptor.address = (U_8 *) memChunk;
                   descriptor.length = bytesFootprint;
-                  UDATA store = scConfig->storeAttachedData(vmThread, romMethod, &descriptor, 0);
+                  UDATA store = scConfig->storeAttachedData(vmThread, romMethod, &descriptor, refresh ? 1 : 0);
                   if (store == 0)
                      {
-                     _STATS_methodPersisted++;
+                     if (refresh)
+                        _STATS_methodPersistedRefreshed++;
+                     else
+                        _STATS_methodPersisted++;
                      _STATS_entriesPersisted += numEntries;
 #ifdef PERSISTENCE_VERBOSE
                      fprintf(stderr, "\tPersisted %d entries\n", numEntries);
@@ -529,6 +529,8 @@ public:
    leave the TR_ResolvedMethodSymbol argument for debugging purpose when called from Ilgen
    */
    virtual void persistIprofileInfo(TR::ResolvedMethodSymbol *methodSymbol, TR_ResolvedMethod *method, TR::Compilation *comp); // JITServer: mark virtual
+   bool shouldRefreshPersistedProfile(TR_ResolvedMethod *method, TR::Compilation *comp) const;
+   bool hasPersistedProfile(J9Method *method, J9VMThread *vmThread);
    bool elgibleForPersistIprofileInfo(TR::Compilation *comp) const;
 
    void checkMethodHashTable();
@@ -730,6 +732,7 @@ private:
    static int32_t                  _STATS_timestampHasExpired;
    static int32_t                  _STATS_abortedPersistence;
    static int32_t                  _STATS_methodPersisted;
+   static int32_t                  _STATS_methodPersistedRefreshed;
    static int32_t                  _STATS_methodNotPersisted_SCCfull;
    static int32_t                  _STATS_methodNotPersisted_classNotInSCC;
    static int32_t                  _STATS_methodNotPersisted_delayed;
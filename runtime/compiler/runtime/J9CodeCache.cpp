@@ -134,6 +134,7 @@ J9::CodeCache::initialize(TR::CodeCacheManager *manager,
    if (!self()->OMR::CodeCache::initialize(manager, codeCacheSegment, allocatedCodeCacheSizeInBytes))
       return false;
    self()->setInitialAllocationPointers();
+   _holdsHotCode = TR_maybe;
 
    _manager->reportCodeLoadEvents();
 
@@ -685,6 +686,22 @@ J9::CodeCache::reserveUnresolvedTrampoline(void *cp, int32_t cpIndex)
 
 
 
+void
+J9::CodeCache::getFreeBlockStats(uint32_t &numFreeBlocks, size_t &freeBlockBytes, size_t &largestFreeBlock)
+   {
+   numFreeBlocks = 0;
+   freeBlockBytes = 0;
+   largestFreeBlock = 0;
+   CacheCriticalSection walkFreeBlocks(self());
+   for (OMR::CodeCacheFreeCacheBlock *block = _freeBlockList; block; block = block->_next)
+      {
+      numFreeBlocks++;
+      freeBlockBytes += block->_size;
+      if (block->_size > largestFreeBlock)
+         largestFreeBlock = block->_size;
+      }
+   }
+
 void
 J9::CodeCache::setInitialAllocationPointers()
    {
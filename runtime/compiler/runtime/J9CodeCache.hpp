@@ -100,11 +100,28 @@ public:
 
    OMR::CodeCacheHashEntry *  findUnresolvedMethod(void *constPool, int32_t constPoolIndex);
 
+  /**
+   * @brief Walk the list of reclaimed blocks of this code cache. Acquires the code cache mutex.
+   *
+   * @param[out] numFreeBlocks number of blocks in the free block list
+   * @param[out] freeBlockBytes total size of the blocks in the free block list
+   * @param[out] largestFreeBlock size of the largest block in the free block list
+   */
+   void getFreeBlockStats(uint32_t &numFreeBlocks, size_t &freeBlockBytes, size_t &largestFreeBlock);
+
   /**
    * @brief Restore warmCodeAlloc/coldCodeAlloc and trampoline pointers to their initial positions
    */
    void resetCodeCache();
 
+  /**
+   * @brief Whether this code cache holds bodies that are expected to run often (TR_yes), other
+   *        bodies (TR_no), or has not been designated yet (TR_maybe).
+   *        See J9::CodeCacheManager::reserveCodeCacheForBody()
+   */
+   TR_YesNoMaybe holdsHotCode() const { return _holdsHotCode; }
+   void setHoldsHotCode(bool hotCode) { _holdsHotCode = hotCode ? TR_yes : TR_no; }
+
    private:
    /**
     * @brief Restore trampoline pointers to their initial positions
@@ -121,6 +138,7 @@ public:
 
    uint8_t * _warmCodeAllocBase; // used to reset the allocation pointers to initial values
    uint8_t * _coldCodeAllocBase;
+   TR_YesNoMaybe _holdsHotCode; // accessed with codeCacheList.mutex in hand
    };
 
 
@@ -32,6 +32,9 @@
 #include "runtime/J9VMAccess.hpp"
 #include "vmaccess.h"
 #include "infra/Monitor.hpp"
+#include "compile/Compilation.hpp"
+#include "compile/ResolvedMethod.hpp"
+#include "control/CompilationRuntime.hpp"
 #include "control/Recompilation.hpp"
 #include "control/RecompilationInfo.hpp"
 #include "env/FrontEnd.hpp"
@@ -229,6 +232,52 @@ J9::CodeCacheManager::reserveCodeCache(bool compilationCodeAllocationsMustBeCont
    return codeCache;
    }
 
+TR::CodeCache *
+J9::CodeCacheManager::reserveCodeCacheForBody(bool hotCode,
+                                             size_t sizeEstimate,
+                                             int32_t compThreadID,
+                                             int32_t *numReserved)
+   {
+   static bool disableHotColdPlacement = feGetEnv("TR_DisableCodeCacheHotColdPlacement") ? true : false;
+   if (disableHotColdPlacement)
+      return self()->reserveCodeCache(false, sizeEstimate, compThreadID, numReserved);
+
+   TR_YesNoMaybe holdsHotCode = hotCode ? TR_yes : TR_no;
+   size_t minFreeSpace = std::max(sizeEstimate, (size_t)self()->codeCacheConfig().lowCodeCacheThreshold());
+      {
+      CacheListCriticalSection scanCacheList(self());
+      for (TR::CodeCache *codeCache = self()->getFirstCodeCache(); codeCache; codeCache = codeCache->next())
+         {
+         if (codeCache->holdsHotCode() == holdsHotCode &&
+             !codeCache->isReserved() &&
+             codeCache->getFreeContiguousSpace() >= minFreeSpace)
+            {
+            codeCache->reserve(compThreadID);
+            *numReserved = 0;
+            return codeCache;
+            }
+         }
+      }
+
+   // No code cache of the right kind is available; the first one that is not designated yet
+   // (possibly a new one) becomes one, otherwise a code cache of the other kind is used
+   TR::CodeCache *codeCache = self()->reserveCodeCache(false, sizeEstimate, compThreadID, numReserved);
+   if (codeCache)
+      {
+      CacheListCriticalSection designateCodeCache(self());
+      if (codeCache->holdsHotCode() == TR_maybe)
+         codeCache->setHoldsHotCode(hotCode);
+      }
+   return codeCache;
+   }
+
+bool
+J9::CodeCacheManager::isHotBody(TR::Compilation *comp)
+   {
+   return comp->getMethodHotness() >= hot ||
+          TR::CompilationInfo::isCompiled((J9Method *)comp->getMethodBeingCompiled()->getPersistentIdentifier());
+   }
+
 void
 J9::CodeCacheManager::reportCodeLoadEvents()
    {
@@ -714,6 +763,36 @@ J9::CodeCacheManager::printRemainingSpaceInCodeCaches()
    }
 
 
+void
+J9::CodeCacheManager::printFragmentationStats(uint64_t crtTime)
+   {
+   size_t totalFree = 0;
+   size_t totalFreeInBlocks = 0;
+   size_t totalLargest = 0;
+   CacheListCriticalSection scanCacheList(self());
+   for (TR::CodeCache *codeCache = self()->getFirstCodeCache(); codeCache; codeCache = codeCache->next())
+      {
+      uint32_t numFreeBlocks;
+      size_t freeBlockBytes, largestFreeBlock;
+      codeCache->getFreeBlockStats(numFreeBlocks, freeBlockBytes, largestFreeBlock);
+      size_t contiguous = codeCache->getFreeContiguousSpace();
+      size_t freeBytes = contiguous + freeBlockBytes;
+      size_t largest = contiguous > largestFreeBlock ? contiguous : largestFreeBlock;
+      totalFree += freeBytes;
+      totalFreeInBlocks += freeBlockBytes;
+      if (largest > totalLargest)
+         totalLargest = largest;
+      const char *bodies = codeCache->holdsHotCode() == TR_yes ? "hot" : (codeCache->holdsHotCode() == TR_no ? "cold" : "any");
+      TR_VerboseLog::writeLineLocked(TR_Vlog_CODECACHE, "t=%6u CodeCache %p (%s bodies): contiguous free=%lu bytes; %u free blocks=%lu bytes, largest=%lu bytes; fragmentation=%d%%",
+         (uint32_t)crtTime, codeCache, bodies, (unsigned long)contiguous, numFreeBlocks, (unsigned long)freeBlockBytes, (unsigned long)largestFreeBlock,
+         freeBytes ? (int32_t)((freeBytes - largest) * 100 / freeBytes) : 0);
+      }
+   TR_VerboseLog::writeLineLocked(TR_Vlog_CODECACHE, "t=%6u All code caches: free=%lu bytes, in free blocks=%lu bytes; fragmentation=%d%%",
+      (uint32_t)crtTime, (unsigned long)totalFree, (unsigned long)totalFreeInBlocks,
+      totalFree ? (int32_t)((totalFree - totalLargest) * 100 / totalFree) : 0);
+   }
+
+
 void
 J9::CodeCacheManager::printOccupancyStats()
    {
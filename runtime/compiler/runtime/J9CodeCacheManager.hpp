@@ -43,6 +43,7 @@ struct J9ClassLoader;
 
 namespace TR { class CodeCacheMemorySegment; }
 namespace TR { class CodeCache; }
+namespace TR { class Compilation; }
 
 namespace J9 {
 
@@ -89,6 +90,27 @@ public:
                                     int32_t compThreadID,
                                     int32_t *numReserved);
 
+   /**
+    * @brief Reserve a code cache for a body that is expected to run often (hotCode) or not.
+    *        Hot and cold bodies are placed in separate code caches, so that hot bodies
+    *        share fewer pages and cache lines with code that rarely runs. A code cache
+    *        holds the kind of bodies of the first compilation that reserved it through
+    *        this method. When no unreserved code cache of the right kind has room for
+    *        sizeEstimate bytes, any code cache is reserved as reserveCodeCache() does.
+    *        Setting the TR_DisableCodeCacheHotColdPlacement environment variable
+    *        makes this method the same as reserveCodeCache().
+    */
+   TR::CodeCache * reserveCodeCacheForBody(bool hotCode,
+                                           size_t sizeEstimate,
+                                           int32_t compThreadID,
+                                           int32_t *numReserved);
+
+   /**
+    * @brief Whether the body compiled by comp is expected to run often: it is compiled
+    *        at hot or above, or it replaces a body of the method that was compiled before
+    */
+   static bool isHotBody(TR::Compilation *comp);
+
    TR::CodeCacheMemorySegment *setupMemorySegmentFromRepository(uint8_t *start,
                                                                 uint8_t *end,
                                                                 size_t & codeCacheSizeToAllocate);
@@ -151,6 +173,20 @@ public:
     */
    void printOccupancyStats();
 
+   /**
+    * @brief Print to the verbose log how fragmented each code cache is.
+    *        Space freed by reclaimed or recompiled bodies can only be reused
+    *        by bodies that fit in it, so a code cache can run out of space
+    *        while having plenty of free memory. Fragmentation is reported as
+    *        the percentage of free space outside of the largest free region.
+    *        Acquires codeCacheList.mutex and the mutex of each code cache.
+    *        Called by the sampler thread every codeCacheFragmentationReportPeriod
+    *        ms when the codecache verbose option is set.
+    *
+    * @param crtTime elapsed time in ms, used to time stamp the report
+    */
+   void printFragmentationStats(uint64_t crtTime);
+
 private :
    TR_FrontEnd *_fe;
    static TR::CodeCacheManager *_codeCacheManager;
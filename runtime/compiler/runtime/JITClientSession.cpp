@@ -31,6 +31,8 @@
 #include "env/JITServerPersistentCHTable.hpp"
 #include "env/VerboseLog.hpp"
 #include "runtime/SymbolValidationManager.hpp"
+#include "runtime/JITServerAOTCache.hpp" // for JITServerAOTCacheKey::hashBytes
+#include "net/CommunicationStream.hpp" // for CommunicationStream::getJITServerFullVersion
 
 
 ClientSessionData::ClientSessionData(uint64_t clientUID, uint32_t seqNo) : 
@@ -717,6 +719,234 @@ ClientSessionData::cacheWellKnownClassChainOffsets(unsigned int includedClasses,
    }
 
 
+// Fixed-size part of a ROM class cache entry in a session snapshot.
+// It is followed by the interfaces of the class, the ROM class bytes and,
+// for each method of the class, the client-side ROM method pointer and the tracing flag.
+struct ROMClassSnapshotRecord
+   {
+   J9Class *_clazz;
+   J9ROMClass *_remoteRomClass;
+   J9Method *_methodsOfClass;
+   TR_OpaqueClassBlock *_baseComponentClass;
+   TR_OpaqueClassBlock *_parentClass;
+   TR_OpaqueClassBlock *_leafComponentClass;
+   void *_classLoader;
+   TR_OpaqueClassBlock *_hostClass;
+   TR_OpaqueClassBlock *_componentClass;
+   TR_OpaqueClassBlock *_arrayClass;
+   J9ConstantPool *_constantPool;
+   uintptr_t _classDepthAndFlags;
+   uintptr_t _totalInstanceSize;
+   uintptr_t _classFlags;
+   uintptr_t _classChainOffsetOfIdentifyingLoaderForClazz;
+   uint64_t _romClassHash; // detects truncated or corrupted snapshot files
+   uint32_t _romSize;
+   uint32_t _numInterfaces;
+   uint32_t _byteOffsetToLockword;
+   int32_t _numDimensions;
+   uint8_t _classHasFinalFields;
+   uint8_t _classInitialized;
+   };
+
+template <typename T> static void
+appendToSnapshot(std::string &snapshot, const T &value)
+   {
+   snapshot.append((const char *)&value, sizeof(value));
+   }
+
+template <typename T> static bool
+readFromSnapshot(const std::string &snapshot, size_t &pos, T &value)
+   {
+   if (pos + sizeof(value) > snapshot.size())
+      return false;
+   memcpy(&value, &snapshot[pos], sizeof(value));
+   pos += sizeof(value);
+   return true;
+   }
+
+void
+ClientSessionData::serializeROMClassCache(std::string &snapshot)
+   {
+   OMR::CriticalSection serializeROMClasses(getROMMapMonitor());
+   appendToSnapshot(snapshot, (uint64_t)_romClassMap.size());
+   for (auto &it : _romClassMap)
+      {
+      const ClassInfo &classInfo = it.second;
+      const J9ROMClass *romClass = classInfo._romClass;
+
+      ROMClassSnapshotRecord record;
+      memset(&record, 0, sizeof(record));
+      record._clazz = it.first;
+      record._remoteRomClass = classInfo._remoteRomClass;
+      record._methodsOfClass = classInfo._methodsOfClass;
+      record._baseComponentClass = classInfo._baseComponentClass;
+      record._parentClass = classInfo._parentClass;
+      record._leafComponentClass = classInfo._leafComponentClass;
+      record._classLoader = classInfo._classLoader;
+      record._hostClass = classInfo._hostClass;
+      record._componentClass = classInfo._componentClass;
+      record._arrayClass = classInfo._arrayClass;
+      record._constantPool = classInfo._constantPool;
+      record._classDepthAndFlags = classInfo._classDepthAndFlags;
+      record._totalInstanceSize = classInfo._totalInstanceSize;
+      record._classFlags = classInfo._classFlags;
+      record._classChainOffsetOfIdentifyingLoaderForClazz = classInfo._classChainOffsetOfIdentifyingLoaderForClazz;
+      record._romClassHash = JITServerAOTCacheKey::hashROMClass(romClass);
+      record._romSize = romClass->romSize;
+      record._numInterfaces = classInfo._interfaces->size();
+      record._byteOffsetToLockword = classInfo._byteOffsetToLockword;
+      record._numDimensions = classInfo._numDimensions;
+      record._classHasFinalFields = classInfo._classHasFinalFields;
+      record._classInitialized = classInfo._classInitialized;
+      appendToSnapshot(snapshot, record);
+
+      for (auto iface : *classInfo._interfaces)
+         appendToSnapshot(snapshot, iface);
+      snapshot.append((const char *)romClass, romClass->romSize);
+
+      // The J9Method entries of a class are created together with its ClassInfo
+      for (uint32_t i = 0; i < romClass->romMethodCount; ++i)
+         {
+         J9ROMMethod *origROMMethod = NULL;
+         uint8_t isMethodTracingEnabled = 0;
+         auto methodIt = _J9MethodMap.find(&classInfo._methodsOfClass[i]);
+         if (methodIt != _J9MethodMap.end())
+            {
+            origROMMethod = methodIt->second._origROMMethod;
+            isMethodTracingEnabled = methodIt->second._isMethodTracingEnabled;
+            }
+         appendToSnapshot(snapshot, origROMMethod);
+         appendToSnapshot(snapshot, isMethodTracingEnabled);
+         }
+      }
+   }
+
+size_t
+ClientSessionData::restoreROMClassCache(const std::string &snapshot, TR_J9VMBase *fej9, JITServer::ServerStream *stream, size_t &numChanged)
+   {
+   numChanged = 0;
+   auto chTable = static_cast<JITServerPersistentCHTable *>(getCHTable());
+   size_t pos = 0;
+   uint64_t numClasses = 0;
+   if (!readFromSnapshot(snapshot, pos, numClasses))
+      return 0;
+
+   // Entries whose class is still loaded by the client; the position of the record is kept
+   // because the snapshot bytes are not aligned for direct access
+   std::vector<size_t> candidates;
+   std::vector<J9Class *> candidateClasses;
+   size_t methodRecordSize = sizeof(J9ROMMethod *) + sizeof(uint8_t);
+   for (uint64_t c = 0; c < numClasses; ++c)
+      {
+      size_t recordPos = pos;
+      ROMClassSnapshotRecord record;
+      if (!readFromSnapshot(snapshot, pos, record))
+         break;
+      size_t romClassPos = pos + record._numInterfaces * sizeof(TR_OpaqueClassBlock *);
+      size_t methodsPos = romClassPos + record._romSize;
+      if (record._romSize < sizeof(J9ROMClass) || methodsPos > snapshot.size())
+         break;
+      const J9ROMClass *snapshotROMClass = (const J9ROMClass *)&snapshot[romClassPos];
+      pos = methodsPos + snapshotROMClass->romMethodCount * methodRecordSize;
+      if (pos > snapshot.size())
+         break;
+
+      // The ROM class bytes are not 8-byte aligned in the snapshot; hash them in place
+      if (JITServerAOTCacheKey::hashBytes(snapshotROMClass, record._romSize) != record._romClassHash)
+         break;
+
+      // A class can be reused only if the client still has it loaded. The CHTable and the unloaded
+      // class ranges were just received from the client and reflect its current state.
+      if (!chTable->findClassInfoAfterLocking((TR_OpaqueClassBlock *)record._clazz, fej9, true))
+         continue;
+      if (_unloadedClassAddresses && _unloadedClassAddresses->mayContain((uintptr_t)record._clazz))
+         continue;
+      candidates.push_back(recordPos);
+      candidateClasses.push_back(record._clazz);
+      }
+   if (candidates.empty())
+      return 0;
+
+   // The J9Class address may have been reused by the client for a different class since the
+   // snapshot was taken. Compare the current ROM class content of each class before reusing it.
+   stream->write(JITServer::MessageType::ClientSession_getROMClassHashes, candidateClasses);
+   auto clientHashes = std::get<0>(stream->read<std::vector<uint64_t>>());
+   if (clientHashes.size() != candidates.size())
+      return 0;
+
+   size_t numRestored = 0;
+   for (size_t c = 0; c < candidates.size(); ++c)
+      {
+      pos = candidates[c];
+      ROMClassSnapshotRecord record;
+      readFromSnapshot(snapshot, pos, record);
+      if (clientHashes[c] != record._romClassHash)
+         {
+         numChanged++;
+         continue;
+         }
+      size_t interfacesPos = pos;
+      size_t romClassPos = interfacesPos + record._numInterfaces * sizeof(TR_OpaqueClassBlock *);
+      size_t methodsPos = romClassPos + record._romSize;
+      const J9ROMClass *snapshotROMClass = (const J9ROMClass *)&snapshot[romClassPos];
+      uint32_t numMethods = snapshotROMClass->romMethodCount;
+
+      OMR::CriticalSection restoreROMClass(getROMMapMonitor());
+      if (_romClassMap.find(record._clazz) != _romClassMap.end())
+         continue; // Another compilation thread cached this class in the meantime
+
+      J9ROMClass *romClass = (J9ROMClass *)trPersistentMemory->allocatePersistentMemory(record._romSize, TR_Memory::ROMClass);
+      if (!romClass)
+         throw std::bad_alloc();
+      memcpy(romClass, snapshotROMClass, record._romSize);
+
+      ClassInfo classInfo;
+      classInfo._romClass = romClass;
+      classInfo._remoteRomClass = record._remoteRomClass;
+      classInfo._methodsOfClass = record._methodsOfClass;
+      classInfo._baseComponentClass = record._baseComponentClass;
+      classInfo._numDimensions = record._numDimensions;
+      classInfo._parentClass = record._parentClass;
+      classInfo._interfaces = new (PERSISTENT_NEW) PersistentVector<TR_OpaqueClassBlock *>
+         (PersistentVector<TR_OpaqueClassBlock *>::allocator_type(TR::Compiler->persistentAllocator()));
+      for (uint32_t i = 0; i < record._numInterfaces; ++i)
+         {
+         TR_OpaqueClassBlock *iface;
+         memcpy(&iface, &snapshot[interfacesPos + i * sizeof(iface)], sizeof(iface));
+         classInfo._interfaces->push_back(iface);
+         }
+      classInfo._classHasFinalFields = record._classHasFinalFields;
+      classInfo._classDepthAndFlags = record._classDepthAndFlags;
+      classInfo._classInitialized = record._classInitialized;
+      classInfo._byteOffsetToLockword = record._byteOffsetToLockword;
+      classInfo._leafComponentClass = record._leafComponentClass;
+      classInfo._classLoader = record._classLoader;
+      classInfo._hostClass = record._hostClass;
+      classInfo._componentClass = record._componentClass;
+      classInfo._arrayClass = record._arrayClass;
+      classInfo._totalInstanceSize = record._totalInstanceSize;
+      classInfo._constantPool = record._constantPool;
+      classInfo._classFlags = record._classFlags;
+      classInfo._classChainOffsetOfIdentifyingLoaderForClazz = record._classChainOffsetOfIdentifyingLoaderForClazz;
+      _romClassMap.insert({ record._clazz, classInfo });
+
+      J9ROMMethod *romMethod = J9ROMCLASS_ROMMETHODS(romClass);
+      for (uint32_t i = 0; i < numMethods; ++i)
+         {
+         J9ROMMethod *origROMMethod;
+         uint8_t isMethodTracingEnabled;
+         memcpy(&origROMMethod, &snapshot[methodsPos + i * methodRecordSize], sizeof(origROMMethod));
+         isMethodTracingEnabled = snapshot[methodsPos + i * methodRecordSize + sizeof(origROMMethod)];
+         _J9MethodMap.insert({&record._methodsOfClass[i],
+               {romMethod, origROMMethod, NULL, static_cast<bool>(isMethodTracingEnabled), (TR_OpaqueClassBlock *)record._clazz, false}});
+         romMethod = nextROMMethod(romMethod);
+         }
+      numRestored++;
+      }
+   return numRestored;
+   }
+
+
 ClientSessionHT*
 ClientSessionHT::allocate()
    {
@@ -724,6 +954,7 @@ ClientSessionHT::allocate()
    }
 
 ClientSessionHT::ClientSessionHT() : _clientSessionMap(decltype(_clientSessionMap)::allocator_type(TR::Compiler->persistentAllocator())),
+                                     _pendingSnapshots(decltype(_pendingSnapshots)::allocator_type(TR::Compiler->persistentAllocator())),
                                      TIME_BETWEEN_PURGES(TR::Options::_timeBetweenPurges),
                                      OLD_AGE(TR::Options::_oldAge), // 1000 minutes
                                      OLD_AGE_UNDER_LOW_MEMORY(TR::Options::_oldAgeUnderLowMemory), // 5 minutes
@@ -881,3 +1112,161 @@ ClientSessionHT::printStats()
       session.second->printStats();
       }
    }
+
+// Layout of the session snapshot file:
+//    magic, JITServer version, number of sessions, then for each session:
+//    clientUID, size of the session data, session data (see ClientSessionData::serializeROMClassCache)
+// Snapshots produced by a different JITServer version are ignored because
+// the layout of the cached data may have changed.
+static const uint64_t SESSION_SNAPSHOT_MAGIC = 0x4A49545353534E50ULL; // "JITSSSNP"
+
+static bool
+writeToSnapshotFile(J9PortLibrary *portLib, IDATA fileId, const void *data, size_t size)
+   {
+   PORT_ACCESS_FROM_PORT(portLib);
+   const char *bytes = (const char *)data;
+   while (size > 0)
+      {
+      IDATA written = j9file_write(fileId, (void *)bytes, size);
+      if (written <= 0)
+         return false;
+      bytes += written;
+      size -= written;
+      }
+   return true;
+   }
+
+static bool
+readFromSnapshotFile(J9PortLibrary *portLib, IDATA fileId, void *data, size_t size)
+   {
+   PORT_ACCESS_FROM_PORT(portLib);
+   char *bytes = (char *)data;
+   while (size > 0)
+      {
+      IDATA bytesRead = j9file_read(fileId, bytes, size);
+      if (bytesRead <= 0)
+         return false;
+      bytes += bytesRead;
+      size -= bytesRead;
+      }
+   return true;
+   }
+
+// Must be called at shutdown, when no compilation threads are active
+int32_t
+ClientSessionHT::saveSnapshot(const char *fileName)
+   {
+   PORT_ACCESS_FROM_PORT(TR::Compiler->portLib);
+   IDATA fileId = j9file_open(fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate, 0660);
+   if (fileId == -1)
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "ERROR: Server could not open session snapshot file %s for writing", fileName);
+      return 0;
+      }
+
+   uint64_t magic = SESSION_SNAPSHOT_MAGIC;
+   uint64_t version = JITServer::CommunicationStream::getJITServerFullVersion();
+   // Snapshots of clients that did not reconnect to this instance are saved again unchanged
+   uint64_t numPending = 0;
+   for (auto &pending : _pendingSnapshots)
+      {
+      if (_clientSessionMap.find(pending.first) == _clientSessionMap.end())
+         numPending++;
+      }
+   uint64_t numSessions = _clientSessionMap.size() + numPending;
+   bool ok = writeToSnapshotFile(PORTLIB, fileId, &magic, sizeof(magic)) &&
+             writeToSnapshotFile(PORTLIB, fileId, &version, sizeof(version)) &&
+             writeToSnapshotFile(PORTLIB, fileId, &numSessions, sizeof(numSessions));
+
+   int32_t numSaved = 0;
+   std::string sessionData;
+   for (auto it = _clientSessionMap.begin(); ok && it != _clientSessionMap.end(); ++it)
+      {
+      sessionData.clear();
+      it->second->serializeROMClassCache(sessionData);
+      uint64_t clientUID = it->first;
+      uint64_t size = sessionData.size();
+      ok = writeToSnapshotFile(PORTLIB, fileId, &clientUID, sizeof(clientUID)) &&
+           writeToSnapshotFile(PORTLIB, fileId, &size, sizeof(size)) &&
+           writeToSnapshotFile(PORTLIB, fileId, sessionData.data(), sessionData.size());
+      if (ok)
+         numSaved++;
+      }
+   for (auto it = _pendingSnapshots.begin(); ok && it != _pendingSnapshots.end(); ++it)
+      {
+      if (_clientSessionMap.find(it->first) != _clientSessionMap.end())
+         continue;
+      uint64_t clientUID = it->first;
+      uint64_t size = it->second.size();
+      ok = writeToSnapshotFile(PORTLIB, fileId, &clientUID, sizeof(clientUID)) &&
+           writeToSnapshotFile(PORTLIB, fileId, &size, sizeof(size)) &&
+           writeToSnapshotFile(PORTLIB, fileId, it->second.data(), it->second.size());
+      if (ok)
+         numSaved++;
+      }
+   j9file_close(fileId);
+
+   if (!ok)
+      {
+      // Do not leave a truncated snapshot behind
+      j9file_unlink(fileName);
+      numSaved = 0;
+      }
+   if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+      TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Server saved %d client session snapshots to %s", numSaved, fileName);
+   return numSaved;
+   }
+
+// Called once at startup, before any client can connect
+int32_t
+ClientSessionHT::loadSnapshot(const char *fileName)
+   {
+   PORT_ACCESS_FROM_PORT(TR::Compiler->portLib);
+   IDATA fileId = j9file_open(fileName, EsOpenRead, 0);
+   if (fileId == -1)
+      return -1; // Nothing saved by a previous instance
+
+   uint64_t magic = 0, version = 0, numSessions = 0;
+   if (!readFromSnapshotFile(PORTLIB, fileId, &magic, sizeof(magic)) ||
+       !readFromSnapshotFile(PORTLIB, fileId, &version, sizeof(version)) ||
+       !readFromSnapshotFile(PORTLIB, fileId, &numSessions, sizeof(numSessions)) ||
+       magic != SESSION_SNAPSHOT_MAGIC ||
+       version != JITServer::CommunicationStream::getJITServerFullVersion())
+      {
+      j9file_close(fileId);
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Server ignored incompatible session snapshot file %s", fileName);
+      return -1;
+      }
+
+   int32_t numLoaded = 0;
+   for (uint64_t i = 0; i < numSessions; ++i)
+      {
+      uint64_t clientUID = 0, size = 0;
+      if (!readFromSnapshotFile(PORTLIB, fileId, &clientUID, sizeof(clientUID)) ||
+          !readFromSnapshotFile(PORTLIB, fileId, &size, sizeof(size)))
+         break;
+      std::string sessionData(size, '\0');
+      if (size && !readFromSnapshotFile(PORTLIB, fileId, &sessionData[0], size))
+         break;
+      _pendingSnapshots[clientUID] = std::move(sessionData);
+      numLoaded++;
+      }
+   j9file_close(fileId);
+
+   if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+      TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Server loaded %d client session snapshots from %s", numLoaded, fileName);
+   return numLoaded;
+   }
+
+bool
+ClientSessionHT::consumeSessionSnapshot(uint64_t clientUID, std::string &snapshot)
+   {
+   auto it = _pendingSnapshots.find(clientUID);
+   if (it == _pendingSnapshots.end())
+      return false;
+   snapshot = std::move(it->second);
+   _pendingSnapshots.erase(it);
+   return true;
+   }
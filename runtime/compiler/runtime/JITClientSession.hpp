@@ -454,6 +454,16 @@ class ClientSessionData
    void cacheWellKnownClassChainOffsets(unsigned int includedClasses, size_t numClasses,
                                         const uintptr_t *classChainOffsets, const void *wellKnownClassChainOffsets);
 
+   // Append the content of the ROM class cache (and the J9Method entries of the cached classes) to `snapshot`
+   void serializeROMClassCache(std::string &snapshot);
+   // Re-populate the ROM class cache from a snapshot produced by serializeROMClassCache().
+   // Only classes that are still present in the client CHTable, have not been unloaded and whose
+   // ROM class content at the client still matches the snapshot (checked with one message) are restored.
+   // Must be called after the CHTable and the unloaded class ranges have been received from the client.
+   // Returns the number of classes restored; numChanged is set to the number of classes
+   // that the client still has loaded but whose ROM class changed (e.g. redefined).
+   size_t restoreROMClassCache(const std::string &snapshot, TR_J9VMBase *fej9, JITServer::ServerStream *stream, size_t &numChanged);
+
    private:
    const uint64_t _clientUID;
    int64_t  _timeOfLastAccess; // in ms
@@ -551,8 +561,20 @@ class ClientSessionHT
    void printStats();
    uint32_t size() const { return _clientSessionMap.size(); }
 
+   // Write the ROM class caches of all sessions, and the snapshots loaded at startup whose clients
+   // did not reconnect, to the given file; returns the number of sessions saved
+   int32_t saveSnapshot(const char *fileName);
+   // Read session snapshots from the given file. They are kept until the corresponding clients reconnect.
+   // Returns the number of session snapshots loaded or -1 if the file could not be used.
+   int32_t loadSnapshot(const char *fileName);
+   // Move the snapshot loaded for the given client (if any) into `snapshot`.
+   // Must have compilation monitor in hand when calling this function.
+   bool consumeSessionSnapshot(uint64_t clientUID, std::string &snapshot);
+
    private:
    PersistentUnorderedMap<uint64_t, ClientSessionData*> _clientSessionMap;
+   // Snapshots read at startup that wait for their clients to reconnect
+   PersistentUnorderedMap<uint64_t, std::string> _pendingSnapshots;
 
    uint64_t _timeOfLastPurge;
    TR::CompilationInfo *_compInfo;
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#include "runtime/JITServerAOTCache.hpp"
+#include "control/CompilationRuntime.hpp"
+#include "control/Options.hpp"
+#include "infra/CriticalSection.hpp"
+#include "env/VerboseLog.hpp"
+#include "j9nonbuilder.h"
+
+// FNV-1a; the hash only needs to be stable across compilations on this server
+uint64_t
+JITServerAOTCacheKey::hashBytes(const void *data, size_t size, uint64_t seed)
+   {
+   const uint8_t *bytes = (const uint8_t *)data;
+   uint64_t hash = seed;
+   for (size_t i = 0; i < size; ++i)
+      {
+      hash ^= bytes[i];
+      hash *= 1099511628211ULL;
+      }
+   return hash;
+   }
+
+uint64_t
+JITServerAOTCacheKey::hashROMClass(const J9ROMClass *romClass)
+   {
+   return hashBytes(romClass, romClass->romSize);
+   }
+
+
+JITServerAOTCache *
+JITServerAOTCache::allocate()
+   {
+   JITServerAOTCache *cache = new (PERSISTENT_NEW) JITServerAOTCache();
+   if (cache && !cache->_monitor)
+      {
+      cache->~JITServerAOTCache();
+      TR_Memory::jitPersistentFree(cache);
+      cache = NULL;
+      }
+   return cache;
+   }
+
+JITServerAOTCache::JITServerAOTCache() :
+   _map(decltype(_map)::allocator_type(TR::Compiler->persistentAllocator())),
+   _monitor(TR::Monitor::create("JIT-JITServerAOTCacheMonitor")),
+   _maxBytes((size_t)TR::Options::_jitserverAOTCacheSizeInKB << 10),
+   _bytesUsed(0),
+   _numHits(0),
+   _numMisses(0),
+   _numSCCMismatches(0),
+   _numCacheFullRejections(0),
+   _numAllocationFailures(0)
+   {
+   }
+
+bool
+JITServerAOTCache::find(const JITServerAOTCacheKey &key, std::string &codeCacheStr, std::string &dataCacheStr, TR_OptimizationPlan &optPlan,
+                        std::vector<JITServerAOTCacheSCCRecord> &sccRecords)
+   {
+   OMR::CriticalSection aotCacheLock(_monitor);
+   auto it = _map.find(key);
+   if (it == _map.end())
+      {
+      _numMisses++;
+      return false;
+      }
+   const CachedAOTBody &body = it->second;
+   codeCacheStr.assign(body._code, body._codeSize);
+   dataCacheStr.assign(body._data, body._dataSize);
+   optPlan = body._optPlan;
+   sccRecords.assign(body._sccRecords, body._sccRecords + body._numSCCRecords);
+   _numHits++;
+   return true;
+   }
+
+void
+JITServerAOTCache::incNumSCCMismatches()
+   {
+   OMR::CriticalSection aotCacheLock(_monitor);
+   _numSCCMismatches++;
+   }
+
+bool
+JITServerAOTCache::store(const JITServerAOTCacheKey &key, const std::string &codeCacheStr, const std::string &dataCacheStr, const TR_OptimizationPlan &optPlan,
+                         const std::vector<JITServerAOTCacheSCCRecord> &sccRecords)
+   {
+   size_t sccRecordsSize = sccRecords.size() * sizeof(JITServerAOTCacheSCCRecord);
+   size_t bodySize = codeCacheStr.size() + dataCacheStr.size() + sccRecordsSize;
+
+   OMR::CriticalSection aotCacheLock(_monitor);
+   if (_map.find(key) != _map.end())
+      return false; // Another compilation thread was faster
+
+   if (_bytesUsed + bodySize > _maxBytes)
+      {
+      _numCacheFullRejections++;
+      return false;
+      }
+
+   char *code = (char *)TR_Memory::jitPersistentAlloc(codeCacheStr.size());
+   char *data = (char *)TR_Memory::jitPersistentAlloc(dataCacheStr.size());
+   JITServerAOTCacheSCCRecord *records = NULL;
+   if (sccRecordsSize)
+      records = (JITServerAOTCacheSCCRecord *)TR_Memory::jitPersistentAlloc(sccRecordsSize);
+   if (!code || !data || (sccRecordsSize && !records))
+      {
+      if (code)
+         TR_Memory::jitPersistentFree(code);
+      if (data)
+         TR_Memory::jitPersistentFree(data);
+      if (records)
+         TR_Memory::jitPersistentFree(records);
+      _numAllocationFailures++;
+      return false;
+      }
+   memcpy(code, codeCacheStr.data(), codeCacheStr.size());
+   memcpy(data, dataCacheStr.data(), dataCacheStr.size());
+   if (sccRecordsSize)
+      memcpy(records, sccRecords.data(), sccRecordsSize);
+
+   CachedAOTBody body;
+   body._code = code;
+   body._codeSize = codeCacheStr.size();
+   body._data = data;
+   body._dataSize = dataCacheStr.size();
+   body._sccRecords = records;
+   body._numSCCRecords = sccRecords.size();
+   body._optPlan = optPlan;
+   _map.insert({ key, body });
+   _bytesUsed += bodySize;
+   return true;
+   }
+
+// to print these stats at shutdown,
+// set the env var `TR_PrintJITServerAOTCacheStats=1`
+void
+JITServerAOTCache::printStats()
+   {
+   PORT_ACCESS_FROM_PORT(TR::Compiler->portLib);
+   OMR::CriticalSection aotCacheLock(_monitor);
+   j9tty_printf(PORTLIB, "JITServer AOT cache:\n");
+   j9tty_printf(PORTLIB, "\tAOT bodies: %zu\n", _map.size());
+   j9tty_printf(PORTLIB, "\tBytes used: %zu of %zu\n", _bytesUsed, _maxBytes);
+   j9tty_printf(PORTLIB, "\tHits: %u Misses: %u\n", _numHits, _numMisses);
+   j9tty_printf(PORTLIB, "\tHits not sent because the client SCC did not match: %u\n", _numSCCMismatches);
+   j9tty_printf(PORTLIB, "\tBodies rejected because cache was full: %u\n", _numCacheFullRejections);
+   j9tty_printf(PORTLIB, "\tBodies not stored because of allocation failures: %u\n", _numAllocationFailures);
+   }
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#ifndef JITSERVER_AOT_CACHE_H
+#define JITSERVER_AOT_CACHE_H
+
+#include <string>
+#include <vector>
+#include "env/PersistentCollections.hpp" // for PersistentUnorderedMap
+#include "infra/Monitor.hpp"  // for TR::Monitor
+#include "control/OptimizationPlan.hpp"
+
+struct J9ROMClass;
+
+/**
+   @class JITServerAOTCacheKey
+   @brief Identifies an AOT body that can be shared between JITClients
+
+   An AOT body produced by the JITServer only refers to client-side entities through
+   offsets into the client's shared class cache (SCC) and through SymbolValidationManager
+   records. Two clients that store the same classes at the same SCC offsets (e.g. replicas
+   of a container image with a baked-in cache) will therefore accept the same relocatable body.
+   The key combines the content of the ROM class with the position of that ROM class in the
+   client SCC and the total SCC size; the other offsets a body depends on are checked against
+   the requesting client before the body is sent (see JITServerAOTCacheSCCRecord).
+   The client options and processor description are part of the key because they
+   influence code generation.
+ */
+struct JITServerAOTCacheKey
+   {
+   uint64_t _romClassHash; // hash of the entire ROM class content
+   uintptr_t _romClassSCCOffset; // offset of the client ROM class from the start of its SCC
+   uintptr_t _sccSize; // total size of all SCC layers on the client
+   uint64_t _optionsHash; // hash of the packed client options
+   uint64_t _processorHash; // hash of the client processor description
+   uint32_t _romMethodOffset;
+   int32_t _optLevel;
+
+   bool operator==(const JITServerAOTCacheKey &other) const
+      {
+      return _romClassHash == other._romClassHash &&
+             _romClassSCCOffset == other._romClassSCCOffset &&
+             _sccSize == other._sccSize &&
+             _optionsHash == other._optionsHash &&
+             _processorHash == other._processorHash &&
+             _romMethodOffset == other._romMethodOffset &&
+             _optLevel == other._optLevel;
+      }
+
+   static uint64_t hashBytes(const void *data, size_t size, uint64_t seed = 14695981039346656037ULL);
+   static uint64_t hashROMClass(const J9ROMClass *romClass);
+   };
+
+namespace std
+   {
+   template <> struct hash<JITServerAOTCacheKey>
+      {
+      std::size_t operator()(const JITServerAOTCacheKey &k) const noexcept
+         {
+         // Hash fields individually to avoid hashing padding bytes
+         return (std::size_t)(k._romClassHash ^ k._optionsHash ^ k._processorHash) ^
+                std::hash<uintptr_t>()(k._romClassSCCOffset) ^
+                (std::hash<uintptr_t>()(k._sccSize) << 8) ^
+                (std::hash<uint32_t>()(k._romMethodOffset) << 4) ^
+                std::hash<int32_t>()(k._optLevel);
+         }
+      };
+   }
+
+/**
+   @class JITServerAOTCacheSCCRecord
+   @brief An offset into the client SCC that an AOT body depends on, with a description
+          of what the client stores at that offset
+
+   The relocation and validation records of an AOT body refer to ROM classes, ROM methods,
+   class chains and the SVM well-known classes list through offsets into the SCC of the client
+   the body was compiled for. The content hash covers the ROM classes reached through the
+   offset (see TR_J9SharedCache::hashContentAtOffset()), and does not depend on where they are
+   stored in the SCC. A cached body is only sent to a client that stores the same classes
+   at every offset the body depends on; that client is then able to relocate it unchanged.
+ */
+struct JITServerAOTCacheSCCRecord
+   {
+   enum Kind : uint8_t
+      {
+      ROMClass,
+      ROMMethod,
+      ClassChain,
+      WellKnownClasses,
+      };
+
+   uintptr_t _offset;
+   uint64_t _contentHash; // 0 if not yet known
+   Kind _kind;
+
+   bool operator==(const JITServerAOTCacheSCCRecord &other) const
+      {
+      return _offset == other._offset && _kind == other._kind;
+      }
+   bool operator<(const JITServerAOTCacheSCCRecord &other) const
+      {
+      return (_offset != other._offset) ? (_offset < other._offset) : (_kind < other._kind);
+      }
+   };
+
+/**
+   @class JITServerAOTCache
+   @brief Server-wide cache of relocatable AOT bodies shared by all connected clients
+
+   When a client asks for an AOT compilation of a method that another client already received,
+   the JITServer sends back the stored code and data instead of compiling the method again,
+   provided that the SCC of the requesting client matches the SCC of the original client at
+   every offset the body depends on (see JITServerAOTCacheSCCRecord). Clients whose SCC has a
+   different layout get a fresh compilation. Only compilations whose output does not carry
+   client-specific state (runtime assumptions, CHTable commit data) are stored.
+   The amount of memory used by the cache is bounded by -Xjit:jitserverAOTCacheSizeInKB=
+   Once the limit is reached new bodies are no longer added.
+   The cache is enabled with -XX:+JITServerUseAOTCache at the server.
+ */
+class JITServerAOTCache
+   {
+   public:
+   static JITServerAOTCache *allocate();
+
+   /**
+      @brief Search the cache for an AOT body matching the given key.
+      @return true and fill the output parameters if found; false otherwise
+    */
+   bool find(const JITServerAOTCacheKey &key, std::string &codeCacheStr, std::string &dataCacheStr, TR_OptimizationPlan &optPlan,
+             std::vector<JITServerAOTCacheSCCRecord> &sccRecords);
+
+   /**
+      @brief Store an AOT body in the cache, unless an identical key already exists or the cache is full
+      @param sccRecords The client SCC offsets the body depends on, with their content hashes
+      @return true if the body was stored
+    */
+   bool store(const JITServerAOTCacheKey &key, const std::string &codeCacheStr, const std::string &dataCacheStr, const TR_OptimizationPlan &optPlan,
+              const std::vector<JITServerAOTCacheSCCRecord> &sccRecords);
+
+   // Called when a body was found but the SCC of the requesting client does not match
+   void incNumSCCMismatches();
+
+   size_t size() const { return _map.size(); }
+   size_t getBytesUsed() const { return _bytesUsed; }
+   uint32_t getNumHits() const { return _numHits; }
+   uint32_t getNumMisses() const { return _numMisses; }
+   void printStats();
+
+   private:
+   JITServerAOTCache();
+
+   struct CachedAOTBody
+      {
+      char *_code;
+      size_t _codeSize;
+      char *_data;
+      size_t _dataSize;
+      JITServerAOTCacheSCCRecord *_sccRecords;
+      size_t _numSCCRecords;
+      TR_OptimizationPlan _optPlan;
+      };
+
+   PersistentUnorderedMap<JITServerAOTCacheKey, CachedAOTBody> _map;
+   TR::Monitor *_monitor;
+   const size_t _maxBytes;
+   size_t _bytesUsed;
+   uint32_t _numHits;
+   uint32_t _numMisses;
+   uint32_t _numSCCMismatches; // bodies found but not sent because the client SCC did not match
+   uint32_t _numCacheFullRejections; // bodies rejected because the cache was full
+   uint32_t _numAllocationFailures; // bodies not stored because memory for them could not be allocated
+   }; // class JITServerAOTCache
+
+#endif // defined(JITSERVER_AOT_CACHE_H)
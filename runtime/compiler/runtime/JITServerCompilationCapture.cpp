@@ -0,0 +1,491 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#include <algorithm>
+#include <errno.h>
+#include <fcntl.h>
+#include <random>
+#include <stddef.h>
+#include <stdio.h>
+#include <string.h>
+#include <sys/socket.h>
+#include <sys/stat.h>
+#include <sys/time.h>
+#include <unistd.h>
+#include <vector>
+#include "runtime/JITServerCompilationCapture.hpp"
+#include "control/CompilationRuntime.hpp"
+#include "control/Options.hpp"
+#include "env/TRMemory.hpp"
+#include "env/VerboseLog.hpp"
+#include "infra/Monitor.hpp"
+#include "net/CommunicationStream.hpp"
+#include "net/ServerStream.hpp"
+#include "runtime/JITClientSession.hpp"
+#include "runtime/Listener.hpp"
+#include "AtomicSupport.hpp"
+
+uint32_t JITServerCompilationCapture::_numCaptureFiles = 0;
+
+uint64_t
+JITServerCompilationCapture::generateClientUID()
+   {
+   std::random_device rd;
+   std::mt19937_64 rng(rd());
+   std::uniform_int_distribution<uint64_t> dist;
+   uint64_t clientUID = dist(rng);
+   while (0 == clientUID)
+      clientUID = dist(rng);
+   return clientUID;
+   }
+
+static bool
+writeFully(int fd, const char *data, size_t size)
+   {
+   size_t totalBytesWritten = 0;
+   while (totalBytesWritten < size)
+      {
+      ssize_t bytesWritten = write(fd, data + totalBytesWritten, size - totalBytesWritten);
+      if (bytesWritten <= 0)
+         return false;
+      totalBytesWritten += bytesWritten;
+      }
+   return true;
+   }
+
+static bool
+readFully(int fd, char *data, size_t size)
+   {
+   size_t totalBytesRead = 0;
+   while (totalBytesRead < size)
+      {
+      ssize_t bytesRead = read(fd, data + totalBytesRead, size - totalBytesRead);
+      if (bytesRead <= 0)
+         return false;
+      totalBytesRead += bytesRead;
+      }
+   return true;
+   }
+
+int
+JITServerCompilationCapture::openCaptureFile(const char *dir, uint64_t clientUID, const char *methodSignature)
+   {
+   uint32_t fileIndex = VM_AtomicSupport::addU32(&_numCaptureFiles, 1);
+   char fileName[1024];
+   snprintf(fileName, sizeof(fileName), "%s/jitserver_capture.%d.%u.bin", dir, (int)getpid(), fileIndex);
+
+   int fd = open(fileName, O_WRONLY | O_CREAT | O_TRUNC, S_IRUSR | S_IWUSR | S_IRGRP | S_IROTH);
+   if (fd < 0)
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Cannot create capture file %s: errno=%d", fileName, errno);
+      return -1;
+      }
+
+   CaptureHeader header;
+   header._magic = CAPTURE_MAGIC;
+   header._fullVersion = JITServer::CommunicationStream::getJITServerFullVersion();
+   header._clientUID = clientUID;
+   if (!writeFully(fd, (const char *)&header, sizeof(header)))
+      {
+      close(fd);
+      return -1;
+      }
+
+   if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+      TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Capturing remote compilation of %s to %s", methodSignature, fileName);
+   return fd;
+   }
+
+void
+JITServerCompilationCapture::closeCaptureFile(int &fd)
+   {
+   if (fd != -1)
+      {
+      close(fd);
+      fd = -1;
+      }
+   }
+
+// What the client side of the replays saw, per message type
+struct ReplayMessageStats
+   {
+   uint64_t _numFromServer;
+   uint64_t _bytesFromServer;
+   uint64_t _numToServer;
+   uint64_t _bytesToServer;
+   };
+
+// State shared by the threads replaying a recording at the same time
+struct ReplayState
+   {
+   BaseCompileDispatcher *_compiler;
+   const char *_data;
+   size_t _size;
+   size_t _firstRecord;
+   uint32_t _timeoutMs;
+   uint32_t _count;
+   volatile uint32_t _numStarted; // replays handed out to the threads so far
+   volatile bool _failed; // a replay did not match the recording; no new replays are started
+   TR::Monitor *_monitor;
+   uint32_t _numThreadsRunning;
+   };
+
+// What one replay thread measured; merged into the report when all the threads are done
+struct ReplayThreadResults
+   {
+   ReplayState *_state;
+   std::vector<uint64_t> _latenciesUs;
+   uint64_t _numRoundTrips;
+   ReplayMessageStats _messageStats[JITServer::MessageType_ARRAYSIZE];
+   };
+
+// Play the client side of one recorded compilation against a compilation thread of this server.
+// Return true if the server sent the same sequence of message types as in the recording.
+static bool
+replayCompilation(BaseCompileDispatcher *compiler, const char *data, size_t size, size_t firstRecord, uint32_t timeoutMs,
+                  uint64_t &elapsedUs, ReplayThreadResults &results)
+   {
+   TR::CompilationInfo *compInfo = TR::CompilationInfo::get();
+   PORT_ACCESS_FROM_JITCONFIG(compInfo->getJITConfig());
+
+   int fds[2];
+   if (socketpair(AF_UNIX, SOCK_STREAM, 0, fds) < 0)
+      {
+      j9tty_printf(PORTLIB, "JITServer replay: cannot create socket pair: errno=%d\n", errno);
+      return false;
+      }
+   struct timeval timeout = {(timeoutMs / 1000), ((timeoutMs % 1000) * 1000)};
+   setsockopt(fds[1], SOL_SOCKET, SO_RCVTIMEO, (void *)&timeout, sizeof(timeout));
+
+   // The compilation thread owns the server end of the connection from now on
+   JITServer::ServerStream *stream = new (PERSISTENT_NEW) JITServer::ServerStream(fds[0], NULL);
+   compiler->compile(stream);
+
+   // A new client UID for every replay, so that the server does not reuse the caches built by the previous one
+   uint64_t clientUID = JITServerCompilationCapture::generateClientUID();
+   const size_t typeOffset = sizeof(uint32_t) + offsetof(JITServer::Message::MetaData, _type);
+   JITServer::ClientMessage request;
+   std::string reply;
+   bool firstMessage = true;
+   bool matched = true;
+   uint64_t startTime = j9time_usec_clock();
+   size_t offset = firstRecord;
+   while (offset < size)
+      {
+      uint8_t tag = data[offset++];
+      uint32_t msgSize = 0;
+      if (offset + sizeof(msgSize) <= size)
+         memcpy(&msgSize, data + offset, sizeof(msgSize));
+      if (msgSize < typeOffset + sizeof(JITServer::MessageType) || msgSize > size - offset)
+         {
+         j9tty_printf(PORTLIB, "JITServer replay: capture file is truncated\n");
+         matched = false;
+         break;
+         }
+      const char *msg = data + offset;
+      offset += msgSize;
+
+      JITServer::MessageType expectedType;
+      memcpy(&expectedType, msg + typeOffset, sizeof(expectedType));
+      if (expectedType >= JITServer::MessageType_ARRAYSIZE)
+         {
+         j9tty_printf(PORTLIB, "JITServer replay: capture file contains an unknown message type %d\n", (int)expectedType);
+         matched = false;
+         break;
+         }
+
+      if (tag == JITServer::CommunicationStream::CAPTURED_MESSAGE_WRITTEN)
+         {
+         if (firstMessage)
+            {
+            // The compilation request: substitute the client UID (the first data point)
+            request.clearForRead();
+            request.expandBufferIfNeeded(msgSize);
+            request.setSerializedSize(msgSize);
+            memcpy(request.getBufferStartForRead() + sizeof(uint32_t), msg + sizeof(uint32_t), msgSize - sizeof(uint32_t));
+            request.deserialize();
+            if (request.type() != JITServer::MessageType::compilationRequest)
+               {
+               j9tty_printf(PORTLIB, "JITServer replay: capture file does not start with a compilation request\n");
+               matched = false;
+               break;
+               }
+            memcpy(request.getDescriptor(0)->getDataStart(), &clientUID, sizeof(clientUID));
+            msg = request.getBufferStartForRead();
+            firstMessage = false;
+            }
+         if (!writeFully(fds[1], msg, msgSize))
+            {
+            j9tty_printf(PORTLIB, "JITServer replay: cannot send message to the compilation thread: errno=%d\n", errno);
+            matched = false;
+            break;
+            }
+         results._messageStats[expectedType]._numToServer++;
+         results._messageStats[expectedType]._bytesToServer += msgSize;
+         }
+      else
+         {
+         uint32_t replySize = 0;
+         if (!readFully(fds[1], (char *)&replySize, sizeof(replySize)) || replySize < typeOffset + sizeof(JITServer::MessageType))
+            {
+            j9tty_printf(PORTLIB, "JITServer replay: no answer from the compilation thread\n");
+            matched = false;
+            break;
+            }
+         reply.resize(replySize);
+         memcpy(&reply[0], &replySize, sizeof(replySize));
+         if (!readFully(fds[1], &reply[sizeof(replySize)], replySize - sizeof(replySize)))
+            {
+            j9tty_printf(PORTLIB, "JITServer replay: no answer from the compilation thread\n");
+            matched = false;
+            break;
+            }
+         JITServer::MessageType actualType;
+         memcpy(&actualType, &reply[typeOffset], sizeof(actualType));
+         if (expectedType != actualType)
+            {
+            j9tty_printf(PORTLIB, "JITServer replay: server diverged from the recording: expected %s, got %s\n",
+                         JITServer::messageNames[expectedType], JITServer::messageNames[actualType]);
+            matched = false;
+            break;
+            }
+         // Every message from the server completes a round trip: it answers the previous client message
+         results._numRoundTrips++;
+         results._messageStats[actualType]._numFromServer++;
+         results._messageStats[actualType]._bytesFromServer += replySize;
+         }
+      }
+   elapsedUs = j9time_usec_clock() - startTime;
+
+   // Let the compilation thread close its end of the connection and drop the session of the replay
+   JITServer::ClientMessage terminate;
+   terminate.setType(JITServer::MessageType::connectionTerminate);
+   writeFully(fds[1], terminate.serialize(), terminate.serializedSize());
+   close(fds[1]);
+
+   compInfo->getCompilationMonitor()->enter();
+   compInfo->getClientSessionHT()->deleteClientSession(clientUID, true);
+   compInfo->getCompilationMonitor()->exit();
+   return matched;
+   }
+
+// Replay the recording until all the replays requested were handed out to a thread or one of them failed
+static void
+runReplays(ReplayThreadResults &results)
+   {
+   ReplayState *state = results._state;
+   while (!state->_failed)
+      {
+      uint32_t replayIndex = VM_AtomicSupport::addU32(&state->_numStarted, 1) - 1;
+      if (replayIndex >= state->_count)
+         break;
+
+      uint64_t elapsedUs = 0;
+      if (!replayCompilation(state->_compiler, state->_data, state->_size, state->_firstRecord, state->_timeoutMs, elapsedUs, results))
+         {
+         state->_failed = true;
+         break;
+         }
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Replay %u took %llu usec", replayIndex + 1, (unsigned long long)elapsedUs);
+      results._latenciesUs.push_back(elapsedUs);
+      }
+   }
+
+static int32_t J9THREAD_PROC
+replayThreadProc(void *entryarg)
+   {
+   ReplayThreadResults *results = (ReplayThreadResults *)entryarg;
+   ReplayState *state = results->_state;
+
+   runReplays(*results);
+
+   state->_monitor->enter();
+   state->_numThreadsRunning--;
+   state->_monitor->notifyAll();
+   state->_monitor->exit();
+   return 0;
+   }
+
+// Value below which the given fraction of the sorted latencies fall
+static uint64_t
+latencyPercentile(const std::vector<uint64_t> &sortedLatenciesUs, double fraction)
+   {
+   size_t index = (size_t)(fraction * (sortedLatenciesUs.size() - 1) + 0.5);
+   return sortedLatenciesUs[index];
+   }
+
+bool
+JITServerCompilationCapture::replay(BaseCompileDispatcher *compiler, const char *fileName, uint32_t count, uint32_t numThreads)
+   {
+   TR::CompilationInfo *compInfo = TR::CompilationInfo::get();
+   J9JavaVM *javaVM = compInfo->getJITConfig()->javaVM;
+   PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+   FILE *file = fopen(fileName, "rb");
+   if (!file)
+      {
+      j9tty_printf(PORTLIB, "JITServer replay: cannot open %s\n", fileName);
+      return false;
+      }
+   std::string data;
+   char buffer[4096];
+   size_t bytesRead;
+   while ((bytesRead = fread(buffer, 1, sizeof(buffer), file)) > 0)
+      data.append(buffer, bytesRead);
+   fclose(file);
+
+   CaptureHeader header;
+   if (data.size() < sizeof(header))
+      {
+      j9tty_printf(PORTLIB, "JITServer replay: %s is not a capture file\n", fileName);
+      return false;
+      }
+   memcpy(&header, data.data(), sizeof(header));
+   if (header._magic != CAPTURE_MAGIC)
+      {
+      j9tty_printf(PORTLIB, "JITServer replay: %s is not a capture file\n", fileName);
+      return false;
+      }
+   if (header._fullVersion != JITServer::CommunicationStream::getJITServerFullVersion())
+      {
+      j9tty_printf(PORTLIB, "JITServer replay: %s was captured by an incompatible JITServer version\n", fileName);
+      return false;
+      }
+
+   ReplayState state;
+   state._compiler = compiler;
+   state._data = data.data();
+   state._size = data.size();
+   state._firstRecord = sizeof(header);
+   state._timeoutMs = compInfo->getPersistentInfo()->getSocketTimeout();
+   state._count = count;
+   state._numStarted = 0;
+   state._failed = false;
+   state._monitor = NULL;
+   state._numThreadsRunning = 0;
+
+   if (numThreads > count)
+      numThreads = count;
+   std::vector<ReplayThreadResults> results(numThreads);
+   for (uint32_t i = 0; i < numThreads; ++i)
+      {
+      results[i]._state = &state;
+      results[i]._latenciesUs.reserve(count / numThreads + 1);
+      results[i]._numRoundTrips = 0;
+      memset(results[i]._messageStats, 0, sizeof(results[i]._messageStats));
+      }
+
+   uint64_t startTime = j9time_usec_clock();
+   if (numThreads > 1)
+      {
+      // Each thread plays a client: the compilation threads of the server serve them concurrently,
+      // the same way they serve several client JVMs
+      state._monitor = TR::Monitor::create("JITServer-ReplayMonitor");
+      if (!state._monitor)
+         {
+         j9tty_printf(PORTLIB, "JITServer replay: cannot create the replay monitor\n");
+         return false;
+         }
+      state._monitor->enter();
+      uint32_t numThreadsRequested = numThreads;
+      for (uint32_t i = 0; i < numThreadsRequested; ++i)
+         {
+         omrthread_t osThread;
+         if (javaVM->internalVMFunctions->createThreadWithCategory(&osThread,
+                                                                  javaVM->defaultOSStackSize,
+                                                                  J9THREAD_PRIORITY_NORMAL,
+                                                                  0,
+                                                                  &replayThreadProc,
+                                                                  &results[i],
+                                                                  J9THREAD_CATEGORY_SYSTEM_JIT_THREAD))
+            {
+            j9tty_printf(PORTLIB, "JITServer replay: cannot create replay thread %u\n", i + 1);
+            break;
+            }
+         state._numThreadsRunning++;
+         }
+      numThreads = state._numThreadsRunning;
+      while (state._numThreadsRunning > 0)
+         state._monitor->wait();
+      state._monitor->exit();
+      TR::Monitor::destroy(state._monitor);
+
+      if (0 == numThreads)
+         {
+         numThreads = 1;
+         runReplays(results[0]);
+         }
+      }
+   else
+      {
+      runReplays(results[0]);
+      }
+   uint64_t wallTimeUs = j9time_usec_clock() - startTime;
+
+   std::vector<uint64_t> latenciesUs;
+   uint64_t numRoundTrips = 0;
+   ReplayMessageStats messageStats[JITServer::MessageType_ARRAYSIZE];
+   memset(messageStats, 0, sizeof(messageStats));
+   for (uint32_t i = 0; i < numThreads; ++i)
+      {
+      latenciesUs.insert(latenciesUs.end(), results[i]._latenciesUs.begin(), results[i]._latenciesUs.end());
+      numRoundTrips += results[i]._numRoundTrips;
+      for (int type = 0; type < JITServer::MessageType_ARRAYSIZE; ++type)
+         {
+         messageStats[type]._numFromServer += results[i]._messageStats[type]._numFromServer;
+         messageStats[type]._bytesFromServer += results[i]._messageStats[type]._bytesFromServer;
+         messageStats[type]._numToServer += results[i]._messageStats[type]._numToServer;
+         messageStats[type]._bytesToServer += results[i]._messageStats[type]._bytesToServer;
+         }
+      }
+
+   uint32_t numReplayed = (uint32_t)latenciesUs.size();
+   if (numReplayed > 0)
+      {
+      std::sort(latenciesUs.begin(), latenciesUs.end());
+      uint64_t sumUs = 0;
+      for (size_t i = 0; i < latenciesUs.size(); ++i)
+         sumUs += latenciesUs[i];
+
+      // The round trips and bytes include those of a replay that failed part way
+      j9tty_printf(PORTLIB, "JITServer replay of %s: %u/%u compilations on %u threads in %llu usec\n", fileName, numReplayed, count,
+                   numThreads, (unsigned long long)wallTimeUs);
+      j9tty_printf(PORTLIB, "Compilation latency (usec): min=%llu avg=%llu p50=%llu p90=%llu p99=%llu max=%llu\n",
+                   (unsigned long long)latenciesUs.front(), (unsigned long long)(sumUs / numReplayed),
+                   (unsigned long long)latencyPercentile(latenciesUs, 0.50), (unsigned long long)latencyPercentile(latenciesUs, 0.90),
+                   (unsigned long long)latencyPercentile(latenciesUs, 0.99), (unsigned long long)latenciesUs.back());
+      j9tty_printf(PORTLIB, "Round trips per compilation: %.1f\n", (double)numRoundTrips / numReplayed);
+      j9tty_printf(PORTLIB, "Messages per type: server->client count bytes, client->server count bytes\n");
+      for (int type = 0; type < JITServer::MessageType_ARRAYSIZE; ++type)
+         {
+         const ReplayMessageStats &stats = messageStats[type];
+         if (stats._numFromServer == 0 && stats._numToServer == 0)
+            continue;
+         j9tty_printf(PORTLIB, "   %s: %llu %llu, %llu %llu\n", JITServer::messageNames[type],
+                      (unsigned long long)stats._numFromServer, (unsigned long long)stats._bytesFromServer,
+                      (unsigned long long)stats._numToServer, (unsigned long long)stats._bytesToServer);
+         }
+      }
+   return numReplayed == count;
+   }
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#ifndef JITSERVER_COMPILATION_CAPTURE_H
+#define JITSERVER_COMPILATION_CAPTURE_H
+
+#include <stdint.h>
+
+class BaseCompileDispatcher;
+
+/**
+   @class JITServerCompilationCapture
+   @brief Records remote compilations at the client and replays them at the server
+
+   A client started with -XX:JITServerCaptureDir=<dir> writes every message exchanged
+   during a remote compilation to a file in <dir>. The capturing compilation runs as a
+   new client session, so the server asks for all the information it needs (ROMClasses,
+   CHTable, resolved method and IProfiler queries) and the file is self-contained.
+
+   A server started with -XX:JITServerReplayFile=<file> plays the client side of the
+   recorded conversation against its own compilation threads before it starts serving
+   clients, and reports how long each compilation took. The server's requests must match
+   the recorded ones; a difference (e.g. because the compiler changed the queries it
+   makes) ends the replay.
+*/
+class JITServerCompilationCapture
+   {
+public:
+   /**
+      @brief Create a capture file for one remote compilation and write its header
+
+      @param dir directory where the file is created
+      @param clientUID client identifier sent with the compilation request
+      @param methodSignature signature of the method being compiled; only used for logging
+      @return file descriptor of the capture file, or -1 if it could not be created
+   */
+   static int openCaptureFile(const char *dir, uint64_t clientUID, const char *methodSignature);
+   static void closeCaptureFile(int &fd);
+
+   /**
+      @brief Return a new random client identifier; never 0
+   */
+   static uint64_t generateClientUID();
+
+   /**
+      @brief Replay the compilation recorded in a capture file and print a benchmark report
+
+      Each replay thread stands in for a client JVM: it talks to the compilation threads of this
+      server through a socket pair, using the same message format as a remote client. The report
+      gives the compilation latency percentiles, the round trips per compilation and the number
+      of messages and bytes of each message type.
+
+      @param compiler dispatcher that hands the replayed connection to a compilation thread
+      @param fileName capture file
+      @param count number of times the compilation is replayed
+      @param numThreads number of threads replaying the compilation at the same time
+      @return true if all the replays matched the recording
+   */
+   static bool replay(BaseCompileDispatcher *compiler, const char *fileName, uint32_t count, uint32_t numThreads);
+
+private:
+   struct CaptureHeader
+      {
+      uint64_t _magic;
+      uint64_t _fullVersion; // JITServer version of the client that captured the compilation
+      uint64_t _clientUID;
+      };
+
+   static const uint64_t CAPTURE_MAGIC = 0x4a49544341505431ULL; // "JITCAPT1"
+
+   static uint32_t _numCaptureFiles;
+   };
+
+#endif // JITSERVER_COMPILATION_CAPTURE_H
@@ -25,6 +25,7 @@
 #include "env/VMJ9.h" // for TR_JitPrivateConfig
 #include "env/VerboseLog.hpp"
 #include "control/CompilationRuntime.hpp" // for CompilatonInfo
+#include "net/MessageStatistics.hpp"
 
 JITServerStatisticsThread::JITServerStatisticsThread()
    : _statisticsThread(NULL), _statisticsThreadMonitor(NULL), _statisticsOSThread(NULL),
@@ -121,6 +122,8 @@ static int32_t J9THREAD_PROC statisticsThreadProc(void * entryarg)
                TR_VerboseLog::writeLine(TR_Vlog_JITServer, "CpuLoad %d%% (AvgUsage %d%%) JvmCpu %d%%", cpuUsage, avgCpuUsage, vmCpuUsage);
                }
             TR_VerboseLog::vlogRelease();
+            if (JITServer::MessageStatistics::isEnabled())
+               JITServer::MessageStatistics::printStats(true);
             lastStatsTime = crtTime;
             }
          }
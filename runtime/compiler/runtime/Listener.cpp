@@ -30,6 +30,7 @@
 #include <poll.h>
 #include <sys/types.h>
 #include <sys/socket.h>
+#include <sys/stat.h>
 #include <sys/un.h>
 #include <stdio.h>
 #include <stdlib.h>
@@ -42,8 +43,49 @@
 #include "net/LoadSSLLibs.hpp"
 #include "net/ServerStream.hpp"
 #include "runtime/CompileService.hpp"
+#include "runtime/JITServerCompilationCapture.hpp"
 #include "runtime/Listener.hpp"
 
+/**
+   @brief Remove the socket file left behind at path by a server that is no longer running
+
+   Nothing is removed if the path is not a socket, or if another server still accepts connections on it.
+   @return true if path does not exist anymore and the server can bind to it
+ */
+static bool
+removeStaleUnixSocket(const struct sockaddr_un &addr)
+   {
+   struct stat statBuf;
+   if (lstat(addr.sun_path, &statBuf) < 0)
+      return ENOENT == errno;
+   if (!S_ISSOCK(statBuf.st_mode))
+      {
+      fprintf(stderr, "JITServer Unix socket path exists and is not a socket: %s\n", addr.sun_path);
+      return false;
+      }
+
+   int probefd = socket(AF_UNIX, SOCK_STREAM, 0);
+   if (probefd < 0)
+      {
+      perror("can't open socket to probe the existing Unix socket");
+      return false;
+      }
+   bool inUse = (0 == connect(probefd, (const struct sockaddr *)&addr, sizeof(addr)));
+   close(probefd);
+   if (inUse)
+      {
+      fprintf(stderr, "JITServer Unix socket is in use by another server: %s\n", addr.sun_path);
+      return false;
+      }
+
+   if (unlink(addr.sun_path) < 0)
+      {
+      perror("can't remove stale Unix socket");
+      return false;
+      }
+   return true;
+   }
+
 static SSL_CTX *
 createSSLContext(TR::PersistentInfo *info)
    {
@@ -201,10 +243,17 @@ TR_Listener::serveRemoteCompilationRequests(BaseCompileDispatcher *compiler)
       sslCtx = createSSLContext(info);
       }
 
+   // Replay a captured compilation before accepting clients, so that the measurements are not perturbed by them
+   const std::string &replayFile = info->getJITServerReplayFile();
+   if (!replayFile.empty())
+      JITServerCompilationCapture::replay(compiler, replayFile.c_str(), info->getJITServerReplayCount(), info->getJITServerReplayThreads());
+
    uint32_t port = info->getJITServerPort();
    uint32_t timeoutMs = info->getSocketTimeout();
+   const std::string &unixSocketPath = info->getJITServerUnixSocketPath();
+   bool useUnixSocket = !unixSocketPath.empty();
    struct pollfd pfd = {0};
-   int sockfd = socket(AF_INET, SOCK_STREAM | SOCK_NONBLOCK, 0);
+   int sockfd = socket(useUnixSocket ? AF_UNIX : AF_INET, SOCK_STREAM | SOCK_NONBLOCK, 0);
    if (sockfd < 0)
       {
       perror("can't open server socket");
@@ -213,27 +262,51 @@ TR_Listener::serveRemoteCompilationRequests(BaseCompileDispatcher *compiler)
 
    // see `man 7 socket` for option explanations
    int flag = true;
-   if (setsockopt(sockfd, SOL_SOCKET, SO_REUSEADDR, (void *)&flag, sizeof(flag)) < 0)
+   if (useUnixSocket)
       {
-      perror("Can't set SO_REUSEADDR");
-      exit(-1);
+      struct sockaddr_un serv_addr;
+      if (unixSocketPath.size() >= sizeof(serv_addr.sun_path))
+         {
+         fprintf(stderr, "JITServer Unix socket path is too long: %s\n", unixSocketPath.c_str());
+         exit(1);
+         }
+      memset((char *)&serv_addr, 0, sizeof(serv_addr));
+      serv_addr.sun_family = AF_UNIX;
+      memcpy(serv_addr.sun_path, unixSocketPath.c_str(), unixSocketPath.size());
+
+      // A server that did not shut down cleanly leaves its socket file behind, and bind() would fail
+      if (!removeStaleUnixSocket(serv_addr))
+         exit(1);
+      if (bind(sockfd, (struct sockaddr *)&serv_addr, sizeof(serv_addr)) < 0)
+         {
+         perror("can't bind server address");
+         exit(1);
+         }
       }
-   if (setsockopt(sockfd, SOL_SOCKET, SO_KEEPALIVE, (void *)&flag, sizeof(flag)) < 0)
+   else
       {
-      perror("Can't set SO_KEEPALIVE");
-      exit(-1);
-      }
+      if (setsockopt(sockfd, SOL_SOCKET, SO_REUSEADDR, (void *)&flag, sizeof(flag)) < 0)
+         {
+         perror("Can't set SO_REUSEADDR");
+         exit(-1);
+         }
+      if (setsockopt(sockfd, SOL_SOCKET, SO_KEEPALIVE, (void *)&flag, sizeof(flag)) < 0)
+         {
+         perror("Can't set SO_KEEPALIVE");
+         exit(-1);
+         }
 
-   struct sockaddr_in serv_addr;
-   memset((char *)&serv_addr, 0, sizeof(serv_addr));
-   serv_addr.sin_family = AF_INET;
-   serv_addr.sin_addr.s_addr = htonl(INADDR_ANY);
-   serv_addr.sin_port = htons(port);
+      struct sockaddr_in serv_addr;
+      memset((char *)&serv_addr, 0, sizeof(serv_addr));
+      serv_addr.sin_family = AF_INET;
+      serv_addr.sin_addr.s_addr = htonl(INADDR_ANY);
+      serv_addr.sin_port = htons(port);
 
-   if (bind(sockfd, (struct sockaddr *)&serv_addr, sizeof(serv_addr)) < 0)
-      {
-      perror("can't bind server address");
-      exit(1);
+      if (bind(sockfd, (struct sockaddr *)&serv_addr, sizeof(serv_addr)) < 0)
+         {
+         perror("can't bind server address");
+         exit(1);
+         }
       }
    if (listen(sockfd, SOMAXCONN) < 0)
       {
@@ -247,7 +320,7 @@ TR_Listener::serveRemoteCompilationRequests(BaseCompileDispatcher *compiler)
    while (!getListenerThreadExitFlag())
       {
       int32_t rc = 0;
-      struct sockaddr_in cli_addr;
+      struct sockaddr_storage cli_addr; // large enough for both TCP and Unix domain socket peers
       socklen_t clilen = sizeof(cli_addr);
       int connfd = -1;
 
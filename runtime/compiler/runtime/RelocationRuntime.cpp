@@ -1373,7 +1373,7 @@ TR_JITServerRelocationRuntime::allocateSpaceInCodeCache(UDATA codeSize)
       {
       int32_t numReserved;
 
-      _codeCache = manager->reserveCodeCache(false, codeSize, compThreadID, &numReserved);  // Acquire a cold/warm code cache.
+      _codeCache = manager->reserveCodeCacheForBody(TR::CodeCacheManager::isHotBody(comp()), codeSize, compThreadID, &numReserved);
       if (!codeCache())
          {
          // TODO: How do we pass back error codes to trigger retrial?
@@ -1543,6 +1543,23 @@ TR::SymbolValidationManager::deserializeSymbolToIDMap(const std::string &symbolT
       _symbolToIdMap.insert(std::make_pair(symbol, id));
       }
    }
+
+/**
+ * @brief Rebuild the symbol to ID map from the symbols that relocation validated in this JVM.
+ *        Used when the AOT body was not compiled for this JVM (it came from the JITServer AOT cache),
+ *        so the symbols recorded by the server belong to another JVM.
+ */
+void
+TR::SymbolValidationManager::rebuildSymbolToIDMap()
+   {
+   _symbolToIdMap.clear();
+   for (size_t id = 0; id < _idToSymbolTable.size(); id++)
+      {
+      const TypedSymbol &entry = _idToSymbolTable[id];
+      if (entry._hasValue && entry._symbol)
+         _symbolToIdMap.insert(std::make_pair(entry._symbol, (uint16_t)id));
+      }
+   }
 #endif /* defined(J9VM_OPT_JITSERVER) */
 
 namespace // file-local
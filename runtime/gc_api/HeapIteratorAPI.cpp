@@ -80,6 +80,8 @@ static jvmtiIterationControl
 iterateRegionObjects(
 	J9JavaVM *vm,
 	J9MM_IterateRegionDescriptor *region,
+	void *base,
+	void *top,
 	UDATA flags,
 	jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, void *userData),
 	void *userData);
@@ -272,7 +274,49 @@ j9mm_iterate_region_objects(
 
 	switch (privateRegion->type) {
 	case j9mm_region_type_region:
-		returnCode = iterateRegionObjects(vm, region, flags, func, userData);
+		returnCode = iterateRegionObjects(vm, region, NULL, NULL, flags, func, userData);
+		break;
+	default:
+		Assert_MM_unreachable();
+		break;
+	}
+
+	return returnCode;
+}
+
+/**
+ * Walk the objects of the given region that start in [base, top), call user provided function.
+ * The walk starts at base, so base must be the start of an object or hole of the region, as
+ * reported by j9mm_iterate_region_objects() with j9mm_iterator_flag_include_holes.
+ *
+ * @param region The descriptor for the region that should be walked
+ * @param base The first object to walk, or NULL to start at the bottom of the region
+ * @param top The address at which the walk stops, or NULL to walk to the top of the region
+ * @param flags The flags describing the walk (0 or j9mm_iterator_flag_include_holes)
+ * @param func The function to call on each object descriptor.
+ * @param userData Pointer to storage for userData.
+ */
+jvmtiIterationControl
+j9mm_iterate_region_objects_in_range(
+	J9JavaVM *vm,
+	J9PortLibrary *portLibrary,
+	J9MM_IterateRegionDescriptor *region,
+	void *base,
+	void *top,
+	UDATA flags,
+	jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, void *userData),
+	void *userData)
+{
+	J9MM_IterateRegionDescriptorPrivate *privateRegion = (J9MM_IterateRegionDescriptorPrivate *)region;
+	jvmtiIterationControl returnCode = JVMTI_ITERATION_CONTINUE;
+
+	if (NULL == privateRegion) {
+		return JVMTI_ITERATION_CONTINUE;
+	}
+
+	switch (privateRegion->type) {
+	case j9mm_region_type_region:
+		returnCode = iterateRegionObjects(vm, region, base, top, flags, func, userData);
 		break;
 	default:
 		Assert_MM_unreachable();
@@ -689,6 +733,8 @@ static jvmtiIterationControl
 iterateRegionObjects(
 	J9JavaVM *vm,
 	J9MM_IterateRegionDescriptor *region,
+	void *base,
+	void *top,
 	UDATA flags,
 	jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, void *userData),
 	void *userData)
@@ -698,7 +744,13 @@ iterateRegionObjects(
 	/* Iterate over live and dead objects */
 	MM_HeapRegionDescriptor* heapRegion = (MM_HeapRegionDescriptor*)region->id;
 	MM_GCExtensionsBase *extensions = MM_GCExtensionsBase::getExtensions(vm->omrVM);
-	HeapIteratorAPI_BufferedIterator objectHeapIterator(vm, PORTLIB, heapRegion, true);
+	if ((NULL == base) || (base < heapRegion->getLowAddress())) {
+		base = heapRegion->getLowAddress();
+	}
+	if ((NULL == top) || (top > heapRegion->getHighAddress())) {
+		top = heapRegion->getHighAddress();
+	}
+	HeapIteratorAPI_BufferedIterator objectHeapIterator(vm, PORTLIB, heapRegion, base, top, true);
 	J9Object* object = NULL;
 	while(NULL != (object = objectHeapIterator.nextObject())) {
 		J9MM_IterateObjectDescriptor objectDescriptor;
@@ -0,0 +1,424 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Base
+ */
+
+#include "j9.h"
+#include "j9cfg.h"
+#include "j9consts.h"
+#include "mmprivatehook.h"
+#include "vmhook.h"
+
+#include <string.h>
+
+#include "AllocationSiteProfiler.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+
+/* maximum number of entries inspected when looking up a site before the sample is dropped */
+#define ALLOCATION_SITE_MAX_PROBES 32
+
+extern "C" {
+
+static UDATA allocationSiteFrameIterator(J9VMThread *currentThread, J9StackWalkState *walkState);
+static void allocationSiteExclusiveRelease(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void allocationSiteClassesUnload(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+
+MM_AllocationSiteProfiler *
+MM_AllocationSiteProfiler::newInstance(MM_EnvironmentBase *env, UDATA sampleInterval, UDATA siteCount, UDATA trackedSampleCount)
+{
+	MM_AllocationSiteProfiler *profiler = (MM_AllocationSiteProfiler *)env->getForge()->allocate(sizeof(MM_AllocationSiteProfiler), MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if (NULL != profiler) {
+		new(profiler) MM_AllocationSiteProfiler(env, sampleInterval, siteCount, trackedSampleCount);
+		if (!profiler->initialize(env)) {
+			profiler->kill(env);
+			return NULL;
+		}
+	}
+	return profiler;
+}
+
+bool
+MM_AllocationSiteProfiler::initialize(MM_EnvironmentBase *env)
+{
+	/* round the table up to a power of two so that probing can mask */
+	UDATA siteCount = 1;
+	while (siteCount < _siteCount) {
+		siteCount <<= 1;
+	}
+	_siteCount = siteCount;
+
+	_sites = (Site *)env->getForge()->allocate(sizeof(Site) * _siteCount, MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if (NULL == _sites) {
+		return false;
+	}
+	memset(_sites, 0, sizeof(Site) * _siteCount);
+
+	_trackedSamples = (TrackedSample *)env->getForge()->allocate(sizeof(TrackedSample) * _trackedSampleCount, MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if (NULL == _trackedSamples) {
+		return false;
+	}
+	memset(_trackedSamples, 0, sizeof(TrackedSample) * _trackedSampleCount);
+
+	return true;
+}
+
+void
+MM_AllocationSiteProfiler::tearDown(MM_EnvironmentBase *env)
+{
+	/* the weak references of tracked samples are released with the JNI weak reference pool */
+	if (NULL != _trackedSamples) {
+		env->getForge()->free(_trackedSamples);
+		_trackedSamples = NULL;
+	}
+
+	if (NULL != _sites) {
+		env->getForge()->free(_sites);
+		_sites = NULL;
+	}
+}
+
+void
+MM_AllocationSiteProfiler::kill(MM_EnvironmentBase *env)
+{
+	tearDown(env);
+	env->getForge()->free(this);
+}
+
+bool
+MM_AllocationSiteProfiler::startup(MM_EnvironmentBase *env)
+{
+	J9HookInterface **mmPrivateHooks = J9_HOOK_INTERFACE(_extensions->privateHookInterface);
+	J9HookInterface **vmHooks = _javaVM->internalVMFunctions->getVMHookInterface(_javaVM);
+
+	if (0 != (*mmPrivateHooks)->J9HookRegisterWithCallSite(mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_RELEASE, allocationSiteExclusiveRelease, OMR_GET_CALLSITE(), (void *)this)) {
+		return false;
+	}
+	if (0 != (*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, allocationSiteClassesUnload, OMR_GET_CALLSITE(), (void *)this)) {
+		(*mmPrivateHooks)->J9HookUnregister(mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_RELEASE, allocationSiteExclusiveRelease, (void *)this);
+		return false;
+	}
+	_hooksRegistered = true;
+
+	return true;
+}
+
+void
+MM_AllocationSiteProfiler::shutdown(MM_EnvironmentBase *env)
+{
+	if (_hooksRegistered) {
+		J9HookInterface **mmPrivateHooks = J9_HOOK_INTERFACE(_extensions->privateHookInterface);
+		J9HookInterface **vmHooks = _javaVM->internalVMFunctions->getVMHookInterface(_javaVM);
+		(*mmPrivateHooks)->J9HookUnregister(mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_RELEASE, allocationSiteExclusiveRelease, (void *)this);
+		(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, allocationSiteClassesUnload, (void *)this);
+		_hooksRegistered = false;
+	}
+}
+
+void
+MM_AllocationSiteProfiler::sampleAllocation(J9VMThread *vmThread, j9object_t object, J9Class *clazz)
+{
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread);
+	GC_Environment *gcEnv = env->getGCEnvironment();
+	UDATA allocated = bytesAllocatedSinceLastCheck(env);
+
+	gcEnv->_allocationSiteBytesAllocated = env->_objectAllocationInterface->getAllocationStats()->bytesAllocated();
+
+	if (0 == gcEnv->_allocationSiteBytesUntilSample) {
+		/* first out-of-line allocation of this thread, start counting from here */
+		gcEnv->_allocationSiteBytesUntilSample = _sampleInterval;
+	} else if (allocated < gcEnv->_allocationSiteBytesUntilSample) {
+		gcEnv->_allocationSiteBytesUntilSample -= allocated;
+	} else {
+		/* a large object or TLH may cover several intervals, charge all of them to this sample */
+		UDATA excess = allocated - gcEnv->_allocationSiteBytesUntilSample;
+		UDATA samples = 1 + (excess / _sampleInterval);
+		gcEnv->_allocationSiteBytesUntilSample = _sampleInterval - (excess % _sampleInterval);
+		takeSample(vmThread, object, clazz, samples * _sampleInterval);
+	}
+}
+
+void
+MM_AllocationSiteProfiler::takeSample(J9VMThread *vmThread, j9object_t object, J9Class *clazz, UDATA bytes)
+{
+	J9StackWalkState walkState;
+	walkState.walkThread = vmThread;
+	walkState.skipCount = 0;
+	walkState.flags = J9_STACKWALK_ITERATE_FRAMES | J9_STACKWALK_VISIBLE_ONLY | J9_STACKWALK_INCLUDE_NATIVES;
+	walkState.frameWalkFunction = allocationSiteFrameIterator;
+	walkState.userData1 = NULL;
+	walkState.userData2 = (void *)(IDATA)-1;
+	_javaVM->walkStackFrames(vmThread, &walkState);
+
+	/* allocations with no visible Java frame (e.g. from VM startup) are not attributed */
+	Site *site = NULL;
+	if (NULL != walkState.userData1) {
+		site = findOrInsertSite((J9Method *)walkState.userData1, (IDATA)walkState.userData2, clazz);
+	}
+	if (NULL == site) {
+		MM_AtomicOperations::add(&_droppedSamples, 1);
+	} else {
+		MM_AtomicOperations::add(&site->_sampledBytes, bytes);
+		MM_AtomicOperations::add(&site->_samples, 1);
+		trackSample(vmThread, object, site);
+	}
+}
+
+MM_AllocationSiteProfiler::Site *
+MM_AllocationSiteProfiler::findOrInsertSite(J9Method *method, IDATA bytecodeOffset, J9Class *clazz)
+{
+	UDATA hash = (((UDATA)method >> 3) * 31) + (UDATA)bytecodeOffset;
+	hash = ((hash * 31) + ((UDATA)clazz >> 3)) * (UDATA)0x9E3779B9;
+	/* 0 marks an unused entry */
+	hash |= 1;
+
+	UDATA mask = _siteCount - 1;
+	UDATA index = (hash >> 4) & mask;
+	UDATA probes = OMR_MIN(_siteCount, ALLOCATION_SITE_MAX_PROBES);
+
+	for (UDATA probe = 0; probe < probes; probe++) {
+		Site *site = &_sites[index];
+		UDATA siteHash = site->_hash;
+
+		if (0 == siteHash) {
+			siteHash = MM_AtomicOperations::lockCompareExchange(&site->_hash, 0, hash);
+			if (0 == siteHash) {
+				/* claimed the entry, publish the key */
+				site->_method = method;
+				site->_bytecodeOffset = bytecodeOffset;
+				site->_clazz = clazz;
+				MM_AtomicOperations::storeSync();
+				site->_state = SITE_PUBLISHED;
+				return site;
+			}
+		}
+
+		if (siteHash == hash) {
+			/* the claiming thread holds VM access and publishes the key without blocking */
+			while (SITE_CLAIMED == site->_state) {
+				omrthread_yield();
+			}
+			MM_AtomicOperations::loadSync();
+			if ((SITE_PUBLISHED == site->_state) && (site->_method == method) && (site->_bytecodeOffset == bytecodeOffset) && (site->_clazz == clazz)) {
+				return site;
+			}
+		}
+
+		index = (index + 1) & mask;
+	}
+
+	return NULL;
+}
+
+void
+MM_AllocationSiteProfiler::trackSample(J9VMThread *vmThread, j9object_t object, Site *site)
+{
+	UDATA index = (MM_AtomicOperations::add(&_trackedSampleCursor, 1) - 1) % _trackedSampleCount;
+	TrackedSample *sample = &_trackedSamples[index];
+	UDATA state = sample->_state;
+
+	/* a slot still waiting for a collection is not reused, this sample is just not followed */
+	if ((SAMPLE_FREE != state) && (SAMPLE_EVALUATED != state)) {
+		return;
+	}
+	if (state != MM_AtomicOperations::lockCompareExchange(&sample->_state, state, SAMPLE_CLAIMED)) {
+		return;
+	}
+
+	J9InternalVMFunctions *vmFuncs = _javaVM->internalVMFunctions;
+	if (SAMPLE_EVALUATED == state) {
+		vmFuncs->j9jni_deleteGlobalRef((JNIEnv *)vmThread, sample->_weakRef, JNI_TRUE);
+	}
+	sample->_weakRef = vmFuncs->j9jni_createGlobalRef((JNIEnv *)vmThread, object, JNI_TRUE);
+	if (NULL == sample->_weakRef) {
+		MM_AtomicOperations::storeSync();
+		sample->_state = SAMPLE_FREE;
+	} else {
+		sample->_site = site;
+		/* stable: collections cannot run while this thread holds VM access */
+		sample->_gcCount = _gcCount;
+		MM_AtomicOperations::storeSync();
+		sample->_state = SAMPLE_PENDING;
+	}
+}
+
+void
+MM_AllocationSiteProfiler::collectionEnded(MM_EnvironmentBase *env)
+{
+	UDATA gcCount = _gcCount + 1;
+	_gcCount = gcCount;
+
+	for (UDATA index = 0; index < _trackedSampleCount; index++) {
+		TrackedSample *sample = &_trackedSamples[index];
+		if ((SAMPLE_PENDING == sample->_state) && (sample->_gcCount < gcCount)) {
+			if (NULL == J9_JNI_UNWRAP_REFERENCE(sample->_weakRef)) {
+				sample->_site->_diedSamples += 1;
+			} else {
+				sample->_site->_survivedSamples += 1;
+			}
+			sample->_state = SAMPLE_EVALUATED;
+		}
+	}
+
+	if (0 != _retiredSiteCount) {
+		reclaimRetiredSites();
+	}
+}
+
+void
+MM_AllocationSiteProfiler::classesUnloaded()
+{
+	for (UDATA index = 0; index < _siteCount; index++) {
+		Site *site = &_sites[index];
+		if (SITE_PUBLISHED == site->_state) {
+			bool dying = J9_ARE_ANY_BITS_SET(J9CLASS_FLAGS(site->_clazz), J9AccClassDying);
+			if (!dying) {
+				dying = J9_ARE_ANY_BITS_SET(J9CLASS_FLAGS(J9_CLASS_FROM_METHOD(site->_method)), J9AccClassDying);
+			}
+			if (dying) {
+				/* the entry stays claimed until reclaimRetiredSites() so that probe sequences through it are preserved */
+				site->_state = SITE_RETIRED;
+				_retiredSiteCount += 1;
+			}
+		}
+	}
+}
+
+void
+MM_AllocationSiteProfiler::reclaimRetiredSites()
+{
+	UDATA mask = _siteCount - 1;
+
+	/* followed samples of retired sites are dropped, their entries are about to be cleared or reused */
+	for (UDATA index = 0; index < _trackedSampleCount; index++) {
+		TrackedSample *sample = &_trackedSamples[index];
+		if ((SAMPLE_PENDING == sample->_state) && (SITE_RETIRED == sample->_site->_state)) {
+			sample->_state = SAMPLE_EVALUATED;
+		}
+	}
+
+	UDATA index = 0;
+	while ((0 != _retiredSiteCount) && (index < _siteCount)) {
+		if (SITE_RETIRED != _sites[index]._state) {
+			index += 1;
+			continue;
+		}
+
+		/* backward shift deletion: move later entries of the probe sequence into the hole, so that every
+		 * entry stays reachable from its home index without tombstones and no probe sequence gets longer.
+		 * The slot at index is looked at again, as an entry may have been shifted into it.
+		 */
+		UDATA hole = index;
+		UDATA next = (hole + 1) & mask;
+		memset(&_sites[hole], 0, sizeof(Site));
+		_retiredSiteCount -= 1;
+		while (0 != _sites[next]._hash) {
+			Site *site = &_sites[next];
+			UDATA home = (site->_hash >> 4) & mask;
+			/* the entry can move to the hole if the hole is cyclically in [home, next) */
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				moveSite(site, &_sites[hole]);
+				memset(site, 0, sizeof(Site));
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+	}
+}
+
+void
+MM_AllocationSiteProfiler::moveSite(Site *from, Site *to)
+{
+	memcpy(to, from, sizeof(Site));
+	/* retired entries have no pending samples left */
+	for (UDATA index = 0; index < _trackedSampleCount; index++) {
+		TrackedSample *sample = &_trackedSamples[index];
+		if ((SAMPLE_PENDING == sample->_state) && (from == sample->_site)) {
+			sample->_site = to;
+		}
+	}
+}
+
+UDATA
+MM_AllocationSiteProfiler::getTopSites(J9GCAllocationSite *sites, UDATA maxSites)
+{
+	UDATA count = 0;
+
+	for (UDATA index = 0; index < _siteCount; index++) {
+		Site *site = &_sites[index];
+		if ((SITE_PUBLISHED != site->_state) || (0 == maxSites)) {
+			continue;
+		}
+
+		UDATA sampledBytes = site->_sampledBytes;
+		if ((count == maxSites) && (sampledBytes <= sites[count - 1].sampledBytes)) {
+			continue;
+		}
+
+		/* insertion into the descending list, dropping the smallest entry when full */
+		UDATA insertAt = OMR_MIN(count, maxSites - 1);
+		while ((insertAt > 0) && (sites[insertAt - 1].sampledBytes < sampledBytes)) {
+			sites[insertAt] = sites[insertAt - 1];
+			insertAt -= 1;
+		}
+
+		J9GCAllocationSite *entry = &sites[insertAt];
+		entry->method = site->_method;
+		entry->bytecodeOffset = site->_bytecodeOffset;
+		entry->clazz = site->_clazz;
+		entry->sampledBytes = sampledBytes;
+		entry->samples = site->_samples;
+		entry->survivedSamples = site->_survivedSamples;
+		entry->diedSamples = site->_diedSamples;
+		if (count < maxSites) {
+			count += 1;
+		}
+	}
+
+	return count;
+}
+
+static UDATA
+allocationSiteFrameIterator(J9VMThread *currentThread, J9StackWalkState *walkState)
+{
+	walkState->userData1 = (void *)walkState->method;
+	walkState->userData2 = (void *)walkState->bytecodePCOffset;
+	return J9_STACKWALK_STOP_ITERATING;
+}
+
+static void
+allocationSiteExclusiveRelease(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	MM_ExclusiveAccessReleaseEvent *event = (MM_ExclusiveAccessReleaseEvent *)eventData;
+	((MM_AllocationSiteProfiler *)userData)->collectionEnded(MM_EnvironmentBase::getEnvironment(event->currentThread));
+}
+
+static void
+allocationSiteClassesUnload(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	((MM_AllocationSiteProfiler *)userData)->classesUnloaded();
+}
+
+} /* extern "C" */
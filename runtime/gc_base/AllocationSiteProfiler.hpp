@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Base
+ */
+
+#if !defined(ALLOCATION_SITE_PROFILER_HPP_)
+#define ALLOCATION_SITE_PROFILER_HPP_
+
+#include "j9.h"
+#include "j9cfg.h"
+
+#include "AtomicOperations.hpp"
+#include "BaseVirtual.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+#include "ObjectAllocationInterface.hpp"
+
+/**
+ * Sampling allocation-site profiler.
+ *
+ * Every thread takes one sample for each allocationSiteSampleInterval bytes it allocates. Bytes are
+ * counted from the thread's allocation statistics, which are only updated when a TLH is refreshed or an
+ * object is allocated outside of a TLH, so the check runs on the out-of-line allocation path and the
+ * inline (JIT and interpreter) allocation paths are untouched. A sample walks the allocating thread's
+ * stack to its top visible frame and charges the sampled bytes to the (method, bytecode offset, class)
+ * site in a fixed size, open addressed table which is updated with atomic operations only.
+ *
+ * A bounded number of sampled objects are followed with weak JNI references; at the end of the next
+ * collection each one is found either alive or cleared, which gives the per-site survival rate.
+ * Sites whose method or allocated class is unloaded are retired from the table, and their entries are
+ * reclaimed when the collection releases exclusive access.
+ * @ingroup GC_Base
+ */
+class MM_AllocationSiteProfiler : public MM_BaseVirtual {
+public:
+	/**
+	 * An allocation site and its sampled statistics.
+	 */
+	struct Site {
+		volatile UDATA _hash; /**< hash of the site key, 0 if the entry is unused */
+		volatile UDATA _state; /**< SITE_CLAIMED until the key is published, then SITE_PUBLISHED or SITE_RETIRED */
+		J9Method *_method; /**< the method at the top of the stack when the sample was taken, NULL if there was no Java frame */
+		IDATA _bytecodeOffset; /**< the bytecode offset in _method, -1 if unknown */
+		J9Class *_clazz; /**< the class of the sampled object */
+		volatile UDATA _sampledBytes; /**< bytes charged to this site (samples * sample interval) */
+		volatile UDATA _samples; /**< number of samples taken at this site */
+		volatile UDATA _survivedSamples; /**< followed samples found alive after a collection */
+		volatile UDATA _diedSamples; /**< followed samples found dead after a collection */
+	};
+
+	enum SiteState {
+		SITE_CLAIMED = 0,
+		SITE_PUBLISHED,
+		SITE_RETIRED
+	};
+
+private:
+	/**
+	 * A sampled object followed until the next collection.
+	 */
+	struct TrackedSample {
+		volatile UDATA _state; /**< see TrackedSampleState */
+		jobject _weakRef; /**< weak JNI reference to the sampled object */
+		Site *_site; /**< the site charged with the sample */
+		UDATA _gcCount; /**< value of _gcCount when the sample was taken */
+	};
+
+	enum TrackedSampleState {
+		SAMPLE_FREE = 0, /**< the slot has never been used */
+		SAMPLE_CLAIMED, /**< a thread is filling in the slot */
+		SAMPLE_PENDING, /**< the object has not yet been through a collection */
+		SAMPLE_EVALUATED /**< the survival of the object was recorded, the weak reference may be deleted */
+	};
+
+	J9JavaVM *_javaVM;
+	MM_GCExtensions *_extensions;
+
+	UDATA _sampleInterval; /**< bytes allocated by a thread between samples */
+	Site *_sites; /**< the site table */
+	UDATA _siteCount; /**< capacity of the site table (a power of two) */
+	TrackedSample *_trackedSamples; /**< sampled objects followed for survival */
+	UDATA _trackedSampleCount; /**< capacity of _trackedSamples */
+	volatile UDATA _trackedSampleCursor; /**< next tracked sample slot to try (modulo _trackedSampleCount) */
+	volatile UDATA _gcCount; /**< number of collections seen by the profiler */
+	volatile UDATA _droppedSamples; /**< samples which could not be attributed to a site in the table */
+	UDATA _retiredSiteCount; /**< entries retired since they were last reclaimed, only changed with exclusive access */
+	bool _hooksRegistered;
+
+public:
+
+private:
+	bool initialize(MM_EnvironmentBase *env);
+	void tearDown(MM_EnvironmentBase *env);
+
+	/**
+	 * Find or insert the entry for a site.
+	 * @return the entry, or NULL if the table is full
+	 */
+	Site *findOrInsertSite(J9Method *method, IDATA bytecodeOffset, J9Class *clazz);
+
+	/**
+	 * Follow a sampled object with a weak reference, if a tracking slot is available.
+	 */
+	void trackSample(J9VMThread *vmThread, j9object_t object, Site *site);
+
+	/**
+	 * Take a sample: find the allocation site on the stack and charge bytes to it.
+	 */
+	void takeSample(J9VMThread *vmThread, j9object_t object, J9Class *clazz, UDATA bytes);
+
+	/**
+	 * Clear the retired entries of the site table, shifting the entries that follow them in their probe
+	 * sequences back. Called with exclusive access.
+	 */
+	void reclaimRetiredSites();
+
+	/**
+	 * Move a site to another entry of the table, and redirect the followed samples charged to it.
+	 */
+	void moveSite(Site *from, Site *to);
+
+	MMINLINE UDATA
+	bytesAllocatedSinceLastCheck(MM_EnvironmentBase *env)
+	{
+		GC_Environment *gcEnv = env->getGCEnvironment();
+		UDATA bytesAllocated = env->_objectAllocationInterface->getAllocationStats()->bytesAllocated();
+		/* the allocation statistics may have been reset by a collection since the last check */
+		return (bytesAllocated >= gcEnv->_allocationSiteBytesAllocated) ? (bytesAllocated - gcEnv->_allocationSiteBytesAllocated) : bytesAllocated;
+	}
+
+public:
+	static MM_AllocationSiteProfiler *newInstance(MM_EnvironmentBase *env, UDATA sampleInterval, UDATA siteCount, UDATA trackedSampleCount);
+	virtual void kill(MM_EnvironmentBase *env);
+
+	/**
+	 * Register the hooks used to evaluate followed samples and to retire unloaded sites.
+	 * @return true on success, false otherwise
+	 */
+	bool startup(MM_EnvironmentBase *env);
+
+	/**
+	 * Unregister the hooks.
+	 */
+	void shutdown(MM_EnvironmentBase *env);
+
+	/**
+	 * @return true if the thread has allocated enough since its last sample that the next allocation should
+	 * be sampled. Used by the no-GC allocation paths to fall back to the out-of-line path, which can walk the stack.
+	 */
+	MMINLINE bool
+	isSampleDue(MM_EnvironmentBase *env)
+	{
+		return bytesAllocatedSinceLastCheck(env) >= env->getGCEnvironment()->_allocationSiteBytesUntilSample;
+	}
+
+	/**
+	 * Called on the out-of-line allocation path, with a resolve frame built, after an object was allocated.
+	 * Samples the allocation if the thread has allocated at least the sample interval since its last sample.
+	 * @param vmThread the allocating thread
+	 * @param object the new object
+	 * @param clazz the class of the new object
+	 */
+	void sampleAllocation(J9VMThread *vmThread, j9object_t object, J9Class *clazz);
+
+	/**
+	 * Record the survival of the followed samples and reclaim the retired sites. Called when a collection
+	 * releases exclusive access.
+	 */
+	void collectionEnded(MM_EnvironmentBase *env);
+
+	/**
+	 * Retire the sites of classes which are about to be unloaded (marked J9AccClassDying). Called with exclusive access.
+	 */
+	void classesUnloaded();
+
+	/**
+	 * Copy the sites with the most sampled bytes, in descending order. The caller must hold VM access
+	 * so that the methods and classes of the returned sites are not unloaded while they are in use.
+	 * @param[out] sites the array to fill
+	 * @param maxSites the length of sites
+	 * @return the number of sites copied
+	 */
+	UDATA getTopSites(J9GCAllocationSite *sites, UDATA maxSites);
+
+	UDATA getSampleInterval() { return _sampleInterval; }
+	UDATA getDroppedSamples() { return _droppedSamples; }
+
+	MM_AllocationSiteProfiler(MM_EnvironmentBase *env, UDATA sampleInterval, UDATA siteCount, UDATA trackedSampleCount) :
+		MM_BaseVirtual(),
+		_javaVM((J9JavaVM *)env->getLanguageVM()),
+		_extensions(MM_GCExtensions::getExtensions(env)),
+		_sampleInterval(sampleInterval),
+		_sites(NULL),
+		_siteCount(siteCount),
+		_trackedSamples(NULL),
+		_trackedSampleCount(trackedSampleCount),
+		_trackedSampleCursor(0),
+		_gcCount(0),
+		_droppedSamples(0),
+		_retiredSiteCount(0),
+		_hooksRegistered(false)
+	{
+		_typeId = __FUNCTION__;
+	}
+};
+
+#endif /* ALLOCATION_SITE_PROFILER_HPP_ */
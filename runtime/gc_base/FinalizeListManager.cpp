@@ -24,6 +24,7 @@
 #include "j9.h"
 #include "j9cfg.h"
 #include "j9port.h"
+#include "j9modron.h"
 #include "ModronAssertions.h"
 
 #if defined(J9VM_GC_FINALIZATION)
@@ -51,6 +52,33 @@ GC_FinalizeListManager::unlock() const
 	omrthread_monitor_exit(_mutex);
 }
 
+/**
+ * wait on the finalize list manager monitor
+ */
+void
+GC_FinalizeListManager::wait() const
+{
+	omrthread_monitor_wait(_mutex);
+}
+
+/**
+ * wait on the finalize list manager monitor with a timeout
+ */
+IDATA
+GC_FinalizeListManager::waitTimed(I_64 millis) const
+{
+	return omrthread_monitor_wait_timed(_mutex, millis, 0);
+}
+
+/**
+ * wake all threads waiting on the finalize list manager monitor
+ */
+void
+GC_FinalizeListManager::notifyAll() const
+{
+	omrthread_monitor_notify_all(_mutex);
+}
+
 /**
  * create and initialize with defaults new instance of FinalizeListManager
  * @return Pointer to FinalizeListmanager if initialisation successful, NULL otherwise
@@ -63,7 +91,7 @@ GC_FinalizeListManager::newInstance(MM_EnvironmentBase *env)
 	manager = (GC_FinalizeListManager *)env->getForge()->allocate(sizeof(GC_FinalizeListManager), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
 	if (manager) {
 		new(manager) GC_FinalizeListManager(MM_GCExtensions::getExtensions(env));
-		if (!manager->initialize()) {
+		if (!manager->initialize(env)) {
 			manager->kill(env);
 			return NULL;
 		}
@@ -78,7 +106,7 @@ GC_FinalizeListManager::newInstance(MM_EnvironmentBase *env)
 void
 GC_FinalizeListManager::kill(MM_EnvironmentBase *env)
 {
-	tearDown();
+	tearDown(env);
 	env->getForge()->free(this);
 } 
 
@@ -87,12 +115,24 @@ GC_FinalizeListManager::kill(MM_EnvironmentBase *env)
  * @return true if initialisation successful, false otherwise.
  */
 bool
-GC_FinalizeListManager::initialize()
+GC_FinalizeListManager::initialize(MM_EnvironmentBase *env)
 {
 	if (omrthread_monitor_init_with_name(&_mutex, 0, "FinalizeListManager")) {
 		_mutex = NULL;
 		return false;
 	}
+
+	_workerCount = _extensions->finalizeWorkerThreads;
+	/* one more slot than workers, for the replacement of an abandoned primary worker */
+	_workerSlotCount = _workerCount + 1;
+	_workerSlots = (GC_FinalizeWorkerSlot *)env->getForge()->allocate(sizeof(GC_FinalizeWorkerSlot) * _workerSlotCount, MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+	if (NULL == _workerSlots) {
+		return false;
+	}
+	memset(_workerSlots, 0, sizeof(GC_FinalizeWorkerSlot) * _workerSlotCount);
+
+	OMRPORT_ACCESS_FROM_OMRVM(_extensions->getOmrVM());
+	_drainRateWindowStart = omrtime_current_time_millis();
 	
 	return true;
 }
@@ -101,8 +141,12 @@ GC_FinalizeListManager::initialize()
  * deinitialize FinalizeListManager (destroy the mutex)
  */
 void
-GC_FinalizeListManager::tearDown()
+GC_FinalizeListManager::tearDown(MM_EnvironmentBase *env)
 {
+	if(NULL != _workerSlots) {
+		env->getForge()->free(_workerSlots);
+		_workerSlots = NULL;
+	}
 	if(NULL != _mutex) {
 		omrthread_monitor_destroy(_mutex);
 		_mutex = NULL;
@@ -285,4 +329,252 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 	return NULL;
 }
 
+UDATA
+GC_FinalizeListManager::consumeFinalizableObjects(J9VMThread *vmThread, UDATA workerIndex, j9object_t *listHead, UDATA *listCount, GC_FinalizeJob *jobs, UDATA maxJobs)
+{
+	J9JavaVM *javaVM = vmThread->javaVM;
+	MM_ObjectAccessBarrier *barrier = _extensions->accessBarrier;
+	/* bound the search so that a long run of objects owned by busy class loaders does not stall the caller */
+	UDATA scanLimit = maxJobs * _workerCount;
+	j9object_t previous = NULL;
+	j9object_t object = *listHead;
+	J9ClassLoader *classLoader = NULL;
+	UDATA count = 0;
+
+	while ((NULL != object) && (0 != scanLimit)) {
+		J9ClassLoader *candidate = J9GC_J9OBJECT_CLAZZ_VM(object, javaVM)->classLoader;
+		bool claimed = false;
+		for (UDATA i = 0; i < _workerSlotCount; i++) {
+			if ((i != workerIndex) && (candidate == _workerSlots[i].claimedClassLoader)) {
+				claimed = true;
+				break;
+			}
+		}
+		if (!claimed) {
+			classLoader = candidate;
+			break;
+		}
+		previous = object;
+		object = barrier->getFinalizeLink(object);
+		scanLimit -= 1;
+	}
+
+	if (NULL != classLoader) {
+		/* take the consecutive run of objects owned by the class loader, preserving their order */
+		while ((NULL != object) && (count < maxJobs) && (classLoader == J9GC_J9OBJECT_CLAZZ_VM(object, javaVM)->classLoader)) {
+			jobs[count].type = FINALIZE_JOB_TYPE_OBJECT;
+			jobs[count].object = object;
+			count += 1;
+			object = barrier->getFinalizeLink(object);
+		}
+		if (NULL == previous) {
+			*listHead = object;
+		} else {
+			barrier->setFinalizeLink(previous, object);
+		}
+		*listCount -= count;
+		_workerSlots[workerIndex].claimedClassLoader = classLoader;
+	}
+
+	return count;
+}
+
+UDATA
+GC_FinalizeListManager::acquireWorkerSlot(MM_Forge *forge, J9VMThread *vmThread, bool primary)
+{
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+
+	UDATA workerIndex = 0;
+	while ((workerIndex < _workerSlotCount) && _workerSlots[workerIndex].inUse) {
+		workerIndex += 1;
+	}
+
+	if (workerIndex == _workerSlotCount) {
+		/* every slot is held, some of them by abandoned workers which are still running a finalizer */
+		UDATA newSlotCount = _workerSlotCount * 2;
+		GC_FinalizeWorkerSlot *newSlots = (GC_FinalizeWorkerSlot *)forge->allocate(sizeof(GC_FinalizeWorkerSlot) * newSlotCount, MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+		if (NULL == newSlots) {
+			return UDATA_MAX;
+		}
+		memcpy(newSlots, _workerSlots, sizeof(GC_FinalizeWorkerSlot) * _workerSlotCount);
+		memset(newSlots + _workerSlotCount, 0, sizeof(GC_FinalizeWorkerSlot) * (newSlotCount - _workerSlotCount));
+		forge->free(_workerSlots);
+		_workerSlots = newSlots;
+		_workerSlotCount = newSlotCount;
+	}
+
+	GC_FinalizeWorkerSlot *slot = &_workerSlots[workerIndex];
+	memset(slot, 0, sizeof(GC_FinalizeWorkerSlot));
+	slot->vmThread = vmThread;
+	slot->inUse = true;
+	slot->primary = primary;
+
+	return workerIndex;
+}
+
+UDATA
+GC_FinalizeListManager::findWorkerSlot(J9VMThread *vmThread)
+{
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+
+	for (UDATA workerIndex = 0; workerIndex < _workerSlotCount; workerIndex++) {
+		if (_workerSlots[workerIndex].inUse && (vmThread == _workerSlots[workerIndex].vmThread)) {
+			return workerIndex;
+		}
+	}
+	return UDATA_MAX;
+}
+
+void
+GC_FinalizeListManager::releaseWorkerSlot(UDATA workerIndex)
+{
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+	Assert_MM_true(workerIndex < _workerSlotCount);
+
+	GC_FinalizeWorkerSlot *slot = &_workerSlots[workerIndex];
+	Assert_MM_true(slot->inUse);
+	Assert_MM_true(!slot->batchActive || slot->abandoned);
+	memset(slot, 0, sizeof(GC_FinalizeWorkerSlot));
+}
+
+void
+GC_FinalizeListManager::abandonWorkerSlot(UDATA workerIndex)
+{
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+	Assert_MM_true(workerIndex < _workerSlotCount);
+
+	GC_FinalizeWorkerSlot *slot = &_workerSlots[workerIndex];
+	Assert_MM_true(slot->inUse);
+	if (!slot->abandoned) {
+		if (slot->batchActive) {
+			/* the batch may never complete - stop waiting for it and let other workers run its class loader */
+			Assert_MM_true(0 != _activeBatchCount);
+			Assert_MM_true(slot->inFlightReferenceCount <= _inFlightReferenceCount);
+			_activeBatchCount -= 1;
+			_inFlightReferenceCount -= slot->inFlightReferenceCount;
+			slot->claimedClassLoader = NULL;
+			slot->inFlightReferenceCount = 0;
+		}
+		slot->abandoned = true;
+
+		/* wake workers waiting for the claimed class loader or for the batch to complete */
+		notifyAll();
+	}
+}
+
+UDATA
+GC_FinalizeListManager::consumeJobs(J9VMThread *vmThread, UDATA workerIndex, GC_FinalizeJob *jobs, UDATA maxJobs)
+{
+	Assert_MM_true(J9_PUBLIC_FLAGS_VM_ACCESS == (vmThread->publicFlags & J9_PUBLIC_FLAGS_VM_ACCESS));
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+	Assert_MM_true(workerIndex < _workerSlotCount);
+
+	GC_FinalizeWorkerSlot *slot = &_workerSlots[workerIndex];
+	Assert_MM_true(slot->inUse);
+	Assert_MM_true(!slot->batchActive);
+	Assert_MM_true(NULL == slot->claimedClassLoader);
+
+	UDATA count = 0;
+
+	if (slot->abandoned) {
+		/* the replacement of an abandoned worker owns its work now */
+		return 0;
+	}
+
+	/* reference enqueueing has no ordering requirement, so references are simply taken from the head */
+	while (count < maxJobs) {
+		j9object_t referenceObject = popReferenceObject();
+		if (NULL == referenceObject) {
+			break;
+		}
+		jobs[count].type = FINALIZE_JOB_TYPE_REFERENCE;
+		jobs[count].reference = referenceObject;
+		count += 1;
+	}
+	_inFlightReferenceCount += count;
+	slot->inFlightReferenceCount = count;
+
+	/* classloaders are freed by the primary worker only */
+	if ((0 == count) && slot->primary) {
+		J9ClassLoader *loader = popClassLoader();
+		if (NULL != loader) {
+			jobs[0].type = FINALIZE_JOB_TYPE_CLASSLOADER;
+			jobs[0].classLoader = loader;
+			count = 1;
+		}
+	}
+
+	if (0 == count) {
+		count = consumeFinalizableObjects(vmThread, workerIndex, &_defaultFinalizableObjects, &_defaultFinalizableObjectCount, jobs, maxJobs);
+	}
+
+	if (0 == count) {
+		count = consumeFinalizableObjects(vmThread, workerIndex, &_systemFinalizableObjects, &_systemFinalizableObjectCount, jobs, maxJobs);
+	}
+
+	if (0 != count) {
+		_activeBatchCount += 1;
+		slot->batchActive = true;
+	}
+
+	return count;
+}
+
+void
+GC_FinalizeListManager::completeJobs(UDATA workerIndex, GC_FinalizeJob *jobs, UDATA jobCount)
+{
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+	Assert_MM_true(workerIndex < _workerSlotCount);
+
+	GC_FinalizeWorkerSlot *slot = &_workerSlots[workerIndex];
+	Assert_MM_true(slot->batchActive);
+
+	if (!slot->abandoned) {
+		/* a batch holds only one type of job */
+		if (FINALIZE_JOB_TYPE_REFERENCE == jobs[0].type) {
+			Assert_MM_true(jobCount == slot->inFlightReferenceCount);
+			Assert_MM_true(jobCount <= _inFlightReferenceCount);
+			_inFlightReferenceCount -= jobCount;
+		}
+		Assert_MM_true(0 != _activeBatchCount);
+		_activeBatchCount -= 1;
+	}
+
+	slot->claimedClassLoader = NULL;
+	slot->inFlightReferenceCount = 0;
+	slot->batchActive = false;
+	_completedJobCount += jobCount;
+	updateDrainRate();
+
+	/* wake workers waiting for a claimed class loader or for outstanding batches to drain */
+	notifyAll();
+}
+
+void
+GC_FinalizeListManager::updateDrainRate()
+{
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+
+	OMRPORT_ACCESS_FROM_OMRVM(_extensions->getOmrVM());
+	I_64 now = omrtime_current_time_millis();
+	I_64 elapsed = now - _drainRateWindowStart;
+
+	if (elapsed >= J9_FINALIZE_DRAIN_RATE_WINDOW_MILLIS) {
+		_drainRate = (double)(_completedJobCount - _drainRateWindowStartCount) * 1000.0 / (double)elapsed;
+		_drainRateWindowStart = now;
+		_drainRateWindowStartCount = _completedJobCount;
+	}
+}
+
+double
+GC_FinalizeListManager::getDrainRate()
+{
+	lock();
+	/* an idle queue completes no jobs, so the window must also be closed by readers */
+	updateDrainRate();
+	double rate = _drainRate;
+	unlock();
+	return rate;
+}
+
 #endif /* J9VM_GC_FINALIZATION */
@@ -47,6 +47,21 @@ typedef enum GC_FinalizeJobType {
 	FINALIZE_JOB_TYPE_REFERENCE = 2,
 	FINALIZE_JOB_TYPE_CLASSLOADER = 4
 } GC_FinalizeJobType;
+/**
+ * Per worker state of the finalize workers. A slot belongs to one incarnation of a worker thread:
+ * a primary worker which is abandoned keeps its slot until its thread exits, and its replacement
+ * is given a new slot.
+ */
+typedef struct GC_FinalizeWorkerSlot {
+	J9VMThread *vmThread; /**< the worker thread */
+	J9ClassLoader *claimedClassLoader; /**< class loader whose finalizable objects the worker is currently running */
+	UDATA inFlightReferenceCount; /**< number of reference jobs in the worker's current batch */
+	bool inUse; /**< the slot belongs to a live worker */
+	bool primary; /**< the worker is the primary worker, which also frees class loaders */
+	bool batchActive; /**< the worker has consumed a batch and not yet completed it */
+	bool abandoned; /**< the worker was abandoned: its current batch is no longer accounted for and it takes no new work */
+} GC_FinalizeWorkerSlot;
+
 typedef struct GC_FinalizeJob {
 	GC_FinalizeJobType type;
 	union {
@@ -75,11 +90,29 @@ private:
     UDATA _referenceObjectCount; /** count of the reference object */
     J9ClassLoader *_classLoaders; /**< head of the linked list of unloaded classloaders which have open native libraries  */
     UDATA _classLoaderCount; /** count of the class loaders */
+
+    UDATA _workerCount; /**< number of finalize workers (primary worker plus helpers) which may consume jobs */
+    GC_FinalizeWorkerSlot *_workerSlots; /**< per worker incarnation state, see GC_FinalizeWorkerSlot */
+    UDATA _workerSlotCount; /**< number of entries in _workerSlots */
+    UDATA _activeBatchCount; /**< number of batches consumed by workers and not yet completed */
+    UDATA _inFlightReferenceCount; /**< number of reference jobs consumed by workers and not yet completed */
+    UDATA _completedJobCount; /**< cumulative number of jobs completed by all workers */
+    I_64 _drainRateWindowStart; /**< time, in milliseconds, at which the current drain rate window started */
+    UDATA _drainRateWindowStartCount; /**< value of _completedJobCount when the current drain rate window started */
+    double _drainRate; /**< jobs per second completed during the last closed drain rate window */
+    UDATA _helperThreadCount; /**< number of finalize helper threads currently alive */
+    bool _helperShutdownRequested; /**< set when the finalize helper threads must exit */
 protected:
 public:
     
 /* Methods */
 private:
+	/**
+	 * Close the current drain rate window if it has lasted at least J9_FINALIZE_DRAIN_RATE_WINDOW_MILLIS.
+	 * @note Must be called while holding this class' _mutex
+	 */
+	void updateDrainRate();
+
 protected:
     /**
      * Pop the head of the System finalizable list
@@ -117,9 +150,43 @@ protected:
      */
     J9ClassLoader *popClassLoader();
 
+    /**
+     * Remove a run of finalizable objects belonging to a single class loader from one of the finalizable lists.
+     * Objects whose class loader is claimed by another worker are skipped so that the finalizers of any one
+     * class loader are run by at most one worker at a time, in list order.
+     *
+     * @note Must be called while holding this class' _mutex
+     *
+     * @param vmThread[in] the calling thread
+     * @param workerIndex[in] index of the calling worker
+     * @param listHead[in/out] head of the list to consume from
+     * @param listCount[in/out] count of the list to consume from
+     * @param jobs[out] array receiving the jobs
+     * @param maxJobs[in] capacity of jobs
+     *
+     * @return the number of jobs stored in jobs
+     */
+    UDATA consumeFinalizableObjects(J9VMThread *vmThread, UDATA workerIndex, j9object_t *listHead, UDATA *listCount, GC_FinalizeJob *jobs, UDATA maxJobs);
+
 public:
 	void lock() const;
 	void unlock() const;
+	/**
+	 * Wait on the finalize list manager monitor.
+	 * @note Must be called while holding this class' _mutex
+	 */
+	void wait() const;
+	/**
+	 * Wait on the finalize list manager monitor for at most the given number of milliseconds.
+	 * @note Must be called while holding this class' _mutex
+	 * @return 0 if notified, J9THREAD_TIMED_OUT if the time elapsed
+	 */
+	IDATA waitTimed(I_64 millis) const;
+	/**
+	 * Wake all threads waiting on the finalize list manager monitor.
+	 * @note Must be called while holding this class' _mutex
+	 */
+	void notifyAll() const;
 	
 	/**
 	 * Gets the number of jobs on the queue.
@@ -137,11 +204,55 @@ public:
 	virtual UDATA getDefaultCount() {return _defaultFinalizableObjectCount;}
 	MMINLINE UDATA getClassloaderCount() {return _classLoaderCount;}
 	MMINLINE UDATA getReferenceCount() {return _referenceObjectCount;}
+	MMINLINE UDATA getWorkerCount() {return _workerCount;}
+
+	/**
+	 * Gets the number of jobs completed by the finalize workers since startup.
+	 * @return The cumulative number of completed jobs.
+	 */
+	UDATA getCompletedJobCount() const
+	{
+		lock();
+		UDATA count = _completedJobCount;
+		unlock();
+		return count;
+	}
+
+	/**
+	 * Gets the rate at which the finalize workers completed jobs during the last closed window of at least
+	 * J9_FINALIZE_DRAIN_RATE_WINDOW_MILLIS. The window is kept here, so every caller sees the same rate
+	 * until the next window closes.
+	 * @return The drain rate in jobs per second.
+	 */
+	double getDrainRate();
+
+	/**
+	 * Determine if any worker is still running a batch of jobs.
+	 * @note Must be called while holding this class' _mutex
+	 */
+	MMINLINE bool hasActiveBatches() {return 0 != _activeBatchCount;}
+
+	/**
+	 * Determine if all the reference objects handed to the finalize workers have been enqueued, i.e.
+	 * the reference list is empty and no worker is still processing a batch of references.
+	 * @note Must be called while holding this class' _mutex
+	 */
+	MMINLINE bool isReferenceProcessingComplete() {return (0 == _referenceObjectCount) && (0 == _inFlightReferenceCount);}
+
+	/**
+	 * Helper thread lifetime accounting.
+	 * @note Must be called while holding this class' _mutex
+	 */
+	MMINLINE void helperThreadStarted() {_helperThreadCount += 1;}
+	MMINLINE void helperThreadExited() {_helperThreadCount -= 1;}
+	MMINLINE UDATA getHelperThreadCount() {return _helperThreadCount;}
+	MMINLINE void requestHelperShutdown() {_helperShutdownRequested = true;}
+	MMINLINE bool isHelperShutdownRequested() {return _helperShutdownRequested;}
 
 	static GC_FinalizeListManager	*newInstance(MM_EnvironmentBase *env);
 	virtual void kill(MM_EnvironmentBase *env);
-	bool initialize();
-	void tearDown();
+	bool initialize(MM_EnvironmentBase *env);
+	void tearDown(MM_EnvironmentBase *env);
 
 	/**
 	 * Add the list of objects to the system finalizable list
@@ -331,6 +442,90 @@ public:
 	 */
 	virtual GC_FinalizeJob *consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job);
 
+	/**
+	 * Give a starting worker thread a slot of its own.
+	 *
+	 * @note Must be called while holding this class' _mutex
+	 *
+	 * @param forge[in] the forge used to grow the slot table
+	 * @param vmThread[in] the worker thread
+	 * @param primary[in] true for the primary worker, false for a helper
+	 *
+	 * @return the index of the slot, or UDATA_MAX if the slot table could not be grown
+	 */
+	UDATA acquireWorkerSlot(MM_Forge *forge, J9VMThread *vmThread, bool primary);
+
+	/**
+	 * Find the slot of a worker thread.
+	 *
+	 * @note Must be called while holding this class' _mutex
+	 *
+	 * @param vmThread[in] the thread to look for
+	 *
+	 * @return the index of the slot, or UDATA_MAX if vmThread is not a finalize worker
+	 */
+	UDATA findWorkerSlot(J9VMThread *vmThread);
+
+	/**
+	 * @note Must be called while holding this class' _mutex
+	 * @return true if the worker using the slot is the primary worker (or an abandoned primary worker)
+	 */
+	MMINLINE bool isPrimaryWorkerSlot(UDATA workerIndex) {return _workerSlots[workerIndex].primary;}
+
+	/**
+	 * @note Must be called while holding this class' _mutex
+	 * @return true if the worker using the slot has been abandoned
+	 */
+	MMINLINE bool isWorkerSlotAbandoned(UDATA workerIndex) {return _workerSlots[workerIndex].abandoned;}
+
+	/**
+	 * Return the slot of an exiting worker thread. The worker must not hold an active batch,
+	 * unless it was abandoned.
+	 *
+	 * @note Must be called while holding this class' _mutex
+	 *
+	 * @param workerIndex[in] the slot returned by acquireWorkerSlot()
+	 */
+	void releaseWorkerSlot(UDATA workerIndex);
+
+	/**
+	 * Stop accounting for a worker which is being abandoned, so that its replacement and the other
+	 * workers do not wait for it. The class loader claimed by its current batch is released, and any
+	 * later completeJobs() for that batch only clears the slot. An abandoned worker takes no new work.
+	 *
+	 * @note Must be called while holding this class' _mutex
+	 *
+	 * @param workerIndex[in] the slot of the abandoned worker
+	 */
+	void abandonWorkerSlot(UDATA workerIndex);
+
+	/**
+	 * Pop a batch of jobs for the given worker. A batch holds either reference objects, a single classloader
+	 * (primary worker only), or finalizable objects which all belong to one class loader. The class loader
+	 * of a finalizable batch stays claimed by the worker until completeJobs() is called.
+	 *
+	 * @note Must be called while holding this class' _mutex
+	 *
+	 * @param vmThread[in] the calling thread, which must hold VM access
+	 * @param workerIndex[in] the slot of the calling worker, as returned by acquireWorkerSlot()
+	 * @param jobs[out] array receiving the jobs
+	 * @param maxJobs[in] capacity of jobs
+	 *
+	 * @return the number of jobs stored in jobs, 0 if no work is currently available to this worker
+	 */
+	UDATA consumeJobs(J9VMThread *vmThread, UDATA workerIndex, GC_FinalizeJob *jobs, UDATA maxJobs);
+
+	/**
+	 * Report that a batch returned by consumeJobs() has been processed and release its class loader claim.
+	 *
+	 * @note Must be called while holding this class' _mutex
+	 *
+	 * @param workerIndex[in] the slot of the calling worker
+	 * @param jobs[in] the jobs of the completed batch
+	 * @param jobCount[in] number of jobs in the completed batch
+	 */
+	void completeJobs(UDATA workerIndex, GC_FinalizeJob *jobs, UDATA jobCount);
+
 
 	/**
 	 * Create a FinalizeListManager object
@@ -346,6 +541,17 @@ public:
 	    ,_referenceObjectCount(0)
 	    ,_classLoaders(NULL)
 	    ,_classLoaderCount(0)
+	    ,_workerCount(1)
+	    ,_workerSlots(NULL)
+	    ,_workerSlotCount(0)
+	    ,_activeBatchCount(0)
+	    ,_inFlightReferenceCount(0)
+	    ,_completedJobCount(0)
+	    ,_drainRateWindowStart(0)
+	    ,_drainRateWindowStartCount(0)
+	    ,_drainRate(0.0)
+	    ,_helperThreadCount(0)
+	    ,_helperShutdownRequested(false)
 	{
 		_typeId = __FUNCTION__;
 	};
@@ -175,12 +175,33 @@ struct finalizeWorkerData {
 	IDATA noWorkDone;
 	IDATA mode;
 	IDATA wakeUp;
+	UDATA workerIndex; /**< slot of this worker incarnation in the finalize list manager */
 };
 
 static int J9THREAD_PROC FinalizeWorkerThread(void *arg);
 IDATA FinalizeMainRunFinalization(J9JavaVM * vm, omrthread_t * indirectWorkerThreadHandle, struct finalizeWorkerData **indirectWorkerData, IDATA finalizeCycleLimit, IDATA mode);
 static int J9THREAD_PROC FinalizeMainThread(void *javaVM);
 static int  J9THREAD_PROC gpProtectedFinalizeWorkerThread(void *entryArg);
+static void startFinalizeHelperThreads(J9JavaVM *vm);
+static void stopFinalizeHelperThreads(J9JavaVM *vm);
+
+/**
+ * Abandon the primary worker, e.g. because it is stuck in a finalizer. The finalize list manager stops
+ * accounting for its current batch, so that the replacement worker neither waits for that batch nor
+ * collides with the class loader it claimed.
+ *
+ * @note Caller must hold workerData->monitor. The worker may free workerData as soon as the monitor is released.
+ */
+static void
+abandonFinalizeWorker(J9JavaVM *vm, struct finalizeWorkerData *workerData)
+{
+	GC_FinalizeListManager *finalizeListManager = MM_GCExtensions::getExtensions(vm)->finalizeListManager;
+
+	finalizeListManager->lock();
+	finalizeListManager->abandonWorkerSlot(workerData->workerIndex);
+	finalizeListManager->unlock();
+	workerData->die = FINALIZE_WORKER_ABANDONED;
+}
 
 static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 {
@@ -214,6 +235,8 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 	}
 #endif
 
+	startFinalizeHelperThreads(vm);
+
 	currentWaitTime = 0;
 	omrthread_monitor_enter(vm->finalizeMainMonitor);
 	vm->finalizeMainFlags |= J9_FINALIZE_FLAGS_ACTIVE;
@@ -300,7 +323,7 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 			}
 		} else {
 			/* The worker never finished during the allocated time - abandon it */
-			workerData->die = FINALIZE_WORKER_ABANDONED;
+			abandonFinalizeWorker(vm, workerData);
 			workerThreadHandle = NULL;
 		}
 		omrthread_monitor_exit(workerData->monitor);
@@ -329,13 +352,17 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 			if(!workerData->finished) {
 				/* The worker seems to be hung - just quit */
 				doneRunFinalizersOnExit = 1;
-				workerData->die = FINALIZE_WORKER_ABANDONED;
+				abandonFinalizeWorker(vm, workerData);
 				workerThreadHandle = NULL;
 			}
 			omrthread_monitor_exit(workerData->monitor);
 		}
 	}
 
+	omrthread_monitor_exit((omrthread_monitor_t)vm->finalizeMainMonitor);
+	stopFinalizeHelperThreads(vm);
+	omrthread_monitor_enter((omrthread_monitor_t)vm->finalizeMainMonitor);
+
 	/* We've been told to die */
 	if(NULL != workerThreadHandle) {
 		omrthread_monitor_exit((omrthread_monitor_t)vm->finalizeMainMonitor);
@@ -376,7 +403,7 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 }
 
 static void
-process_finalizable(J9VMThread *vmThread, j9object_t object, jclass j9VMInternalsClass, jmethodID runFinalizeMID)
+process_finalizable(J9VMThread *vmThread, jobject localRef, jclass j9VMInternalsClass, jmethodID runFinalizeMID)
 {
 	J9InternalVMFunctions* fns;
 	J9JavaVM *vm;
@@ -384,8 +411,6 @@ process_finalizable(J9VMThread *vmThread, j9object_t object, jclass j9VMInternal
 	vm = vmThread->javaVM;
 	fns = vm->internalVMFunctions;
 
-	jobject localRef = fns->j9jni_createLocalRef((JNIEnv *)vmThread, object);
-
 	fns->internalReleaseVMAccess(vmThread);
 
 	if((NULL != j9VMInternalsClass) && (NULL != runFinalizeMID)) {
@@ -405,7 +430,7 @@ process_finalizable(J9VMThread *vmThread, j9object_t object, jclass j9VMInternal
 }
 
 static void
-process_reference(J9VMThread *vmThread, j9object_t reference, jmethodID refMID)
+process_reference(J9VMThread *vmThread, jobject localRef, jmethodID refMID)
 {
 	J9InternalVMFunctions* fns;
 	J9JavaVM *vm;
@@ -413,8 +438,6 @@ process_reference(J9VMThread *vmThread, j9object_t reference, jmethodID refMID)
 	vm = vmThread->javaVM;
 	fns = vm->internalVMFunctions;
 
-	jobject localRef = fns->j9jni_createLocalRef((JNIEnv *)vmThread, reference);
-
 	fns->internalReleaseVMAccess(vmThread);
 
 	if (refMID) {
@@ -453,12 +476,12 @@ process_classloader(J9VMThread *vmThread, J9ClassLoader *classLoader)
 }
 
 static void
-process(J9VMThread *vmThread, const GC_FinalizeJob *finalizeJob, jclass j9VMInternalsClass, jmethodID runFinalizeMID, jmethodID referenceEnqueueImplMID)
+process(J9VMThread *vmThread, const GC_FinalizeJob *finalizeJob, jobject localRef, jclass j9VMInternalsClass, jmethodID runFinalizeMID, jmethodID referenceEnqueueImplMID)
 {
 	if (FINALIZE_JOB_TYPE_OBJECT == (finalizeJob->type & FINALIZE_JOB_TYPE_OBJECT)) {
-		process_finalizable(vmThread, finalizeJob->object, j9VMInternalsClass, runFinalizeMID);
+		process_finalizable(vmThread, localRef, j9VMInternalsClass, runFinalizeMID);
 	} else if (FINALIZE_JOB_TYPE_REFERENCE == (finalizeJob->type & FINALIZE_JOB_TYPE_REFERENCE)) {
-		process_reference(vmThread, finalizeJob->reference, referenceEnqueueImplMID);
+		process_reference(vmThread, localRef, referenceEnqueueImplMID);
 	} else if (FINALIZE_JOB_TYPE_CLASSLOADER == (finalizeJob->type & FINALIZE_JOB_TYPE_CLASSLOADER)) {
 		process_classloader(vmThread, finalizeJob->classLoader);
 	} else {
@@ -466,6 +489,92 @@ process(J9VMThread *vmThread, const GC_FinalizeJob *finalizeJob, jclass j9VMInte
 	}
 }
 
+/**
+ * Process a batch of jobs consumed from the Finalize List Manager.
+ * Processing releases VM access, after which the objects of the batch may move, so every
+ * object is held in a local reference before the first job runs.
+ *
+ * @note Caller must hold VM access and must reset the JNI stack references afterwards
+ */
+static void
+process_batch(J9VMThread *vmThread, const GC_FinalizeJob *finalizeJobs, jobject *localRefs, UDATA jobCount, jclass j9VMInternalsClass, jmethodID runFinalizeMID, jmethodID referenceEnqueueImplMID)
+{
+	J9InternalVMFunctions* fns = vmThread->javaVM->internalVMFunctions;
+
+	for (UDATA i = 0; i < jobCount; i++) {
+		localRefs[i] = NULL;
+		if (FINALIZE_JOB_TYPE_CLASSLOADER != (finalizeJobs[i].type & FINALIZE_JOB_TYPE_CLASSLOADER)) {
+			localRefs[i] = fns->j9jni_createLocalRef((JNIEnv *)vmThread, finalizeJobs[i].object);
+		}
+	}
+
+	for (UDATA i = 0; i < jobCount; i++) {
+		/* processing will release/acquire VM access */
+		process(vmThread, &finalizeJobs[i], localRefs[i], j9VMInternalsClass, runFinalizeMID, referenceEnqueueImplMID);
+	}
+}
+
+/**
+ * Notify waiters for reference processing that progress has been made.
+ * Must be called while holding the finalize list manager lock, after the batch just processed
+ * has been completed, so that references still held by other workers are accounted for.
+ */
+static void
+notify_reference_progress(J9JavaVM *vm, GC_FinalizeListManager *finalizeListManager)
+{
+	if ((NULL != vm->processReferenceMonitor) && (0 != vm->processReferenceActive)) {
+		omrthread_monitor_enter(vm->processReferenceMonitor);
+		if (finalizeListManager->isReferenceProcessingComplete()) {
+			/* There is no more pending reference, and no worker is still enqueueing one. */
+			vm->processReferenceActive = 0;
+		}
+		/*
+		 * Notify any waiters that progress has been made.
+		 * This improves latency for Reference.waitForReferenceProcessing() and try to
+		 * avoid the performance issue if there are many of pending references in the queue.
+		 */
+		omrthread_monitor_notify_all(vm->processReferenceMonitor);
+		omrthread_monitor_exit(vm->processReferenceMonitor);
+	}
+}
+
+/**
+ * Look up the Java methods used to run finalizers and enqueue references.
+ * The class reference returned in j9VMInternalsClass is a global reference owned by the caller.
+ */
+static void
+lookup_finalize_methods(J9VMThread *env, jclass *j9VMInternalsClassOut, jmethodID *runFinalizeMIDOut, jmethodID *referenceEnqueueImplMIDOut)
+{
+	jclass referenceClazz, j9VMInternalsClass = NULL;
+	jmethodID referenceEnqueueImplMID = NULL, runFinalizeMID = NULL;
+
+	if(env->javaVM->jclFlags & J9_JCL_FLAG_FINALIZATION) {
+		/* Only look up finalization methods if the class library supports them */
+		j9VMInternalsClass = ((JNIEnv *)env)->FindClass("java/lang/J9VMInternals");
+		if (j9VMInternalsClass) {
+			j9VMInternalsClass = (jclass)((JNIEnv *)env)->NewGlobalRef(j9VMInternalsClass);
+			if (j9VMInternalsClass) {
+				runFinalizeMID = ((JNIEnv *)env)->GetStaticMethodID(j9VMInternalsClass, "runFinalize", "(Ljava/lang/Object;)V");
+			}
+		}
+		if (!runFinalizeMID) {
+			((JNIEnv *)env)->ExceptionClear();
+		}
+	
+		referenceClazz = ((JNIEnv *)env)->FindClass("java/lang/ref/Reference");
+		if (referenceClazz) {
+			referenceEnqueueImplMID  = ((JNIEnv *)env)->GetMethodID(referenceClazz, "enqueueImpl", "()Z");
+		}
+		if (!referenceEnqueueImplMID) {
+			((JNIEnv *)env)->ExceptionClear();
+		}
+	}
+
+	*j9VMInternalsClassOut = j9VMInternalsClass;
+	*runFinalizeMIDOut = runFinalizeMID;
+	*referenceEnqueueImplMIDOut = referenceEnqueueImplMID;
+}
+
 /**
  * Worker thread consumes jobs from Finalize List Manager and process them
  */
@@ -473,9 +582,12 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 {
 	struct finalizeWorkerData *workerData = (struct finalizeWorkerData *)arg;
 	J9VMThread *env;
-	const GC_FinalizeJob *finalizeJob;
-	GC_FinalizeJob localJob;
-	jclass referenceClazz, j9VMInternalsClass = NULL;
+	GC_FinalizeJob *finalizeJobs;
+	jobject *localRefs;
+	UDATA jobCount;
+	UDATA workerIndex = UDATA_MAX;
+	bool batchConsumed;
+	jclass j9VMInternalsClass = NULL;
 	jmethodID referenceEnqueueImplMID = NULL, runFinalizeMID = NULL;
 	J9InternalVMFunctions* fns;
 	omrthread_monitor_t monitor;
@@ -483,14 +595,31 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 	J9JavaVM *vm = (J9JavaVM *)(workerData->vm);
 	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
 	MM_Forge *forge = extensions->getForge();
+	UDATA batchSize = extensions->finalizeWorkerBatchSize;
 
 	fns = vm->internalVMFunctions;
 	monitor = workerData->monitor;
 
 	finalizeListManager = extensions->finalizeListManager;
 
-	if (JNI_OK != vm->internalVMFunctions->attachSystemDaemonThread(vm, &env, "Finalizer thread")) {
+	finalizeJobs = (GC_FinalizeJob *)forge->allocate(sizeof(GC_FinalizeJob) * batchSize, MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+	localRefs = (jobject *)forge->allocate(sizeof(jobject) * batchSize, MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+
+	if ((NULL != finalizeJobs) && (NULL != localRefs)
+		&& (JNI_OK == vm->internalVMFunctions->attachSystemDaemonThread(vm, &env, "Finalizer thread"))
+	) {
+		finalizeListManager->lock();
+		workerIndex = finalizeListManager->acquireWorkerSlot(forge, env, true);
+		finalizeListManager->unlock();
+		if (UDATA_MAX == workerIndex) {
+			((JavaVM *)vm)->DetachCurrentThread();
+		}
+	}
+
+	if (UDATA_MAX == workerIndex) {
 		/* Failed to attach the thread - very bad, most likely out of memory */
+		forge->free(finalizeJobs);
+		forge->free(localRefs);
 		workerData->vmThread = (J9VMThread *)NULL;
 		omrthread_monitor_enter(monitor);
 		omrthread_monitor_notify_all(monitor);
@@ -512,27 +641,8 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 	/* Remember that the thread was gpProtected -- important for the JIT */
 	env->gpProtected = 1;
 
-	if(vm->jclFlags & J9_JCL_FLAG_FINALIZATION) {
-		/* Only look up finalization methods if the class library supports them */
-		j9VMInternalsClass = ((JNIEnv *)env)->FindClass("java/lang/J9VMInternals");
-		if (j9VMInternalsClass) {
-			j9VMInternalsClass = (jclass)((JNIEnv *)env)->NewGlobalRef(j9VMInternalsClass);
-			if (j9VMInternalsClass) {
-				runFinalizeMID = ((JNIEnv *)env)->GetStaticMethodID(j9VMInternalsClass, "runFinalize", "(Ljava/lang/Object;)V");
-			}
-		}
-		if (!runFinalizeMID) {
-			((JNIEnv *)env)->ExceptionClear();
-		}
-	
-		referenceClazz = ((JNIEnv *)env)->FindClass("java/lang/ref/Reference");
-		if (referenceClazz) {
-			referenceEnqueueImplMID  = ((JNIEnv *)env)->GetMethodID(referenceClazz, "enqueueImpl", "()Z");
-		}
-		if (!referenceEnqueueImplMID) {
-			((JNIEnv *)env)->ExceptionClear();
-		}
-	}		
+	lookup_finalize_methods(env, &j9VMInternalsClass, &runFinalizeMID, &referenceEnqueueImplMID);
+	workerData->workerIndex = workerIndex;
 	workerData->vmThread = env;
 
 	/* Notify that the worker has come on line (We should check the result from above) */
@@ -565,15 +675,16 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 		}
 
 		do {
+			batchConsumed = false;
 
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 			if(workerData->mode == FINALIZE_WORKER_MODE_CL_UNLOAD) {
 				
-				if (NULL == (localJob.classLoader = (J9ClassLoader *)finalizeForcedClassLoaderUnload((J9VMThread *)env))) {
+				if (NULL == (finalizeJobs[0].classLoader = (J9ClassLoader *)finalizeForcedClassLoaderUnload((J9VMThread *)env))) {
 					break;
 				} else {
-					localJob.type = FINALIZE_JOB_TYPE_CLASSLOADER;
-					finalizeJob = &localJob;
+					finalizeJobs[0].type = FINALIZE_JOB_TYPE_CLASSLOADER;
+					jobCount = 1;
 				}
 
 			} else {
@@ -582,17 +693,38 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 
 				finalizeListManager->lock();
 				
-				finalizeJob = finalizeListManager->consumeJob(env, &localJob);
-				if(finalizeJob == NULL) {
+				jobCount = finalizeListManager->consumeJobs(env, workerIndex, finalizeJobs, batchSize);
+				if(0 == jobCount) {
 					if(workerData->mode == FINALIZE_WORKER_MODE_FORCED) {
 						finalizeForcedUnfinalizedToFinalizable(env);
-						finalizeJob = finalizeListManager->consumeJob(env, &localJob);
+						jobCount = finalizeListManager->consumeJobs(env, workerIndex, finalizeJobs, batchSize);
+					} else if (finalizeListManager->hasActiveBatches()) {
+						/* Helpers are still running batches (possibly holding the remaining work behind a
+						 * claimed class loader) - wait for them so that finishing still means the lists are drained.
+						 */
+						fns->internalReleaseVMAccess(env);
+						finalizeListManager->wait();
+						finalizeListManager->unlock();
+						fns->internalEnterVMFromJNI(env);
+						if(FINALIZE_WORKER_STAY_ALIVE != workerData->die) {
+							/* We've been abandoned, finish up */
+							break;
+						}
+						continue;
+					}
+				}
+
+				if(0 != jobCount) {
+					batchConsumed = true;
+					if (1 < finalizeListManager->getWorkerCount()) {
+						/* Work is available - wake the helpers */
+						finalizeListManager->notifyAll();
 					}
 				}
 
 				finalizeListManager->unlock();
 				
-				if(NULL != finalizeJob) {
+				if(0 != jobCount) {
 					workerData->noWorkDone = 0;
 				} else {
 					workerData->noWorkDone = 1;
@@ -604,26 +736,18 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 
 			/* processing will release/acquire VM access */
-			process(env, finalizeJob, j9VMInternalsClass, runFinalizeMID, referenceEnqueueImplMID);
-
-			if ((NULL != vm->processReferenceMonitor) && (0 != vm->processReferenceActive)) {
-				omrthread_monitor_enter(vm->processReferenceMonitor);
-				if (0 == finalizeListManager->getReferenceCount()) {
-					/* There is no more pending reference. */
-					vm->processReferenceActive = 0;
-				}
-				/*
-				 * Notify any waiters that progress has been made.
-				 * This improves latency for Reference.waitForReferenceProcessing() and try to
-				 * avoid the performance issue if there are many of pending references in the queue.
-				 */
-				omrthread_monitor_notify_all(vm->processReferenceMonitor);
-				omrthread_monitor_exit(vm->processReferenceMonitor);
-			}
+			process_batch(env, finalizeJobs, localRefs, jobCount, j9VMInternalsClass, runFinalizeMID, referenceEnqueueImplMID);
 
 			fns->jniResetStackReferences((JNIEnv *)env);
 
-			if(FINALIZE_WORKER_SHOULD_ABANDON == workerData->die) {
+			finalizeListManager->lock();
+			if(batchConsumed) {
+				finalizeListManager->completeJobs(workerIndex, finalizeJobs, jobCount);
+			}
+			notify_reference_progress(vm, finalizeListManager);
+			finalizeListManager->unlock();
+
+			if(FINALIZE_WORKER_STAY_ALIVE != workerData->die) {
 				/* We've been abandoned, finish up */
 				break;
 			}
@@ -650,6 +774,9 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 	}
 #endif
 
+	forge->free(finalizeJobs);
+	forge->free(localRefs);
+
 	switch(workerData->die) {
 		case FINALIZE_WORKER_SHOULD_ABANDON:
 			/* Poke the main in case it missed the notify */
@@ -663,12 +790,21 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 			/* Fallthrough to the abandoned case */
 
 		case FINALIZE_WORKER_ABANDONED:
+			/* The main thread has stopped accounting for this worker, so its slot can be reused */
+			finalizeListManager->lock();
+			finalizeListManager->releaseWorkerSlot(workerIndex);
+			finalizeListManager->unlock();
+
 			/* Clean up communication data structures data structures */
 			omrthread_monitor_exit(workerData->monitor);
 			omrthread_monitor_destroy(workerData->monitor);
 			forge->free(workerData);
 			break;
 		case FINALIZE_WORKER_SHOULD_DIE:
+			finalizeListManager->lock();
+			finalizeListManager->releaseWorkerSlot(workerIndex);
+			finalizeListManager->unlock();
+
 			omrthread_monitor_notify_all(workerData->monitor);
 			omrthread_exit(workerData->monitor);		/* exit the monitor, and terminate the thread */
 			/* NO EXECUTION GUARANTEE BEYOND THIS POINT */
@@ -791,7 +927,7 @@ IDATA FinalizeMainRunFinalization(J9JavaVM * vm, omrthread_t * indirectWorkerThr
 
 		/* Let the abandoned worker know that it can clean up */
 		omrthread_monitor_enter(workerData->monitor);
-		workerData->die = FINALIZE_WORKER_ABANDONED;
+		abandonFinalizeWorker(vm, workerData);
 		omrthread_monitor_notify_all(workerData->monitor);
 		omrthread_monitor_exit(workerData->monitor);
 
@@ -822,6 +958,193 @@ gpProtectedFinalizeWorkerThread(void *entryArg)
 	return 0;
 }
 
+struct finalizeHelperData {
+	J9JavaVM *vm;
+};
+
+/**
+ * Helper thread consumes batches of jobs from Finalize List Manager alongside the primary worker.
+ * Helpers are not driven by the finalize main thread: they drain the lists whenever the primary
+ * worker reports that work is available, and exit when the finalizer shuts down.
+ */
+static int J9THREAD_PROC FinalizeHelperThread(void *arg)
+{
+	struct finalizeHelperData *helperData = (struct finalizeHelperData *)arg;
+	J9JavaVM *vm = helperData->vm;
+	UDATA workerIndex = UDATA_MAX;
+	J9VMThread *env = NULL;
+	jclass j9VMInternalsClass = NULL;
+	jmethodID referenceEnqueueImplMID = NULL, runFinalizeMID = NULL;
+	J9InternalVMFunctions* fns = vm->internalVMFunctions;
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	MM_Forge *forge = extensions->getForge();
+	GC_FinalizeListManager *finalizeListManager = extensions->finalizeListManager;
+	UDATA batchSize = extensions->finalizeWorkerBatchSize;
+	GC_FinalizeJob *finalizeJobs = (GC_FinalizeJob *)forge->allocate(sizeof(GC_FinalizeJob) * batchSize, MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+	jobject *localRefs = (jobject *)forge->allocate(sizeof(jobject) * batchSize, MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+
+	forge->free(helperData);
+
+	if ((NULL != finalizeJobs) && (NULL != localRefs)
+		&& (JNI_OK == fns->attachSystemDaemonThread(vm, &env, "Finalizer helper thread"))
+	) {
+		finalizeListManager->lock();
+		workerIndex = finalizeListManager->acquireWorkerSlot(forge, env, false);
+		finalizeListManager->unlock();
+		if (UDATA_MAX == workerIndex) {
+			((JavaVM *)vm)->DetachCurrentThread();
+		}
+	}
+
+	if (UDATA_MAX != workerIndex) {
+		fns->internalEnterVMFromJNI(env);
+		env->privateFlags |= (J9_PRIVATE_FLAGS_FINALIZE_WORKER | J9_PRIVATE_FLAGS_USE_BOOTSTRAP_LOADER);
+		fns->internalReleaseVMAccess(env);
+
+		/* Remember that the thread was gpProtected -- important for the JIT */
+		env->gpProtected = 1;
+
+		lookup_finalize_methods(env, &j9VMInternalsClass, &runFinalizeMID, &referenceEnqueueImplMID);
+
+		finalizeListManager->lock();
+		while (!finalizeListManager->isHelperShutdownRequested() && !finalizeListManager->isWorkerSlotAbandoned(workerIndex)) {
+			UDATA jobCount = 0;
+
+			if (finalizeListManager->isFinalizableObjectProcessingRequired()) {
+				/* Never block for VM access while holding the list lock - the collector takes it to add jobs */
+				finalizeListManager->unlock();
+				fns->internalEnterVMFromJNI(env);
+				finalizeListManager->lock();
+				jobCount = finalizeListManager->consumeJobs(env, workerIndex, finalizeJobs, batchSize);
+				finalizeListManager->unlock();
+
+				if (0 != jobCount) {
+					/* processing will release/acquire VM access */
+					process_batch(env, finalizeJobs, localRefs, jobCount, j9VMInternalsClass, runFinalizeMID, referenceEnqueueImplMID);
+					fns->jniResetStackReferences((JNIEnv *)env);
+				}
+
+				fns->internalReleaseVMAccess(env);
+				finalizeListManager->lock();
+
+				if (0 != jobCount) {
+					finalizeListManager->completeJobs(workerIndex, finalizeJobs, jobCount);
+					notify_reference_progress(vm, finalizeListManager);
+					continue;
+				}
+			}
+
+			/* Nothing available to this helper - wait for the primary worker or a completed batch */
+			finalizeListManager->wait();
+		}
+		finalizeListManager->unlock();
+
+		if (j9VMInternalsClass) {
+			((JNIEnv *)env)->DeleteGlobalRef(j9VMInternalsClass);
+		}
+
+		((JavaVM *)vm)->DetachCurrentThread();
+	}
+
+	forge->free(finalizeJobs);
+	forge->free(localRefs);
+
+	/* Let the finalize main thread know that this helper is gone. An abandoned helper was already discounted. */
+	finalizeListManager->lock();
+	if ((UDATA_MAX == workerIndex) || !finalizeListManager->isWorkerSlotAbandoned(workerIndex)) {
+		finalizeListManager->helperThreadExited();
+	}
+	if (UDATA_MAX != workerIndex) {
+		finalizeListManager->releaseWorkerSlot(workerIndex);
+	}
+	finalizeListManager->notifyAll();
+	finalizeListManager->unlock();
+
+	return 0;
+}
+
+static UDATA
+FinalizeHelperThreadGlue(J9PortLibrary* portLib, void* userData)
+{
+	return FinalizeHelperThread(userData);
+}
+
+static int J9THREAD_PROC
+gpProtectedFinalizeHelperThread(void *entryArg)
+{
+	struct finalizeHelperData *helperData = (struct finalizeHelperData *) entryArg;
+	J9JavaVM *vm = helperData->vm;
+	PORT_ACCESS_FROM_PORT(vm->portLibrary);
+	UDATA rc;
+
+	j9sig_protect(FinalizeHelperThreadGlue, helperData,
+		vm->internalVMFunctions->structuredSignalHandlerVM, vm,
+		J9PORT_SIG_FLAG_SIGALLSYNC | J9PORT_SIG_FLAG_MAY_CONTINUE_EXECUTION,
+		&rc);
+
+	return 0;
+}
+
+/**
+ * Fork the finalize helper threads requested with -Xgc:finalizeWorkerThreads=.
+ * Failing to create a helper is not fatal: the remaining workers drain the lists.
+ */
+static void
+startFinalizeHelperThreads(J9JavaVM *vm)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	MM_Forge *forge = extensions->getForge();
+	GC_FinalizeListManager *finalizeListManager = extensions->finalizeListManager;
+
+	for (UDATA helperIndex = 1; helperIndex < finalizeListManager->getWorkerCount(); helperIndex++) {
+		struct finalizeHelperData *helperData = (struct finalizeHelperData *) forge->allocate(sizeof(struct finalizeHelperData), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+		if (NULL == helperData) {
+			break;
+		}
+		helperData->vm = vm;
+
+		finalizeListManager->lock();
+		finalizeListManager->helperThreadStarted();
+		finalizeListManager->unlock();
+
+		IDATA result = vm->internalVMFunctions->createThreadWithCategory(
+							NULL,
+							vm->defaultOSStackSize,
+							extensions->finalizeWorkerPriority,
+							0,
+							&gpProtectedFinalizeHelperThread,
+							helperData,
+							J9THREAD_CATEGORY_APPLICATION_THREAD);
+		if (0 != result) {
+			forge->free(helperData);
+			finalizeListManager->lock();
+			finalizeListManager->helperThreadExited();
+			finalizeListManager->unlock();
+			break;
+		}
+	}
+}
+
+/**
+ * Ask the finalize helper threads to exit and wait for them. As for the primary worker, a helper
+ * stuck in a finalizer is only given up on when a finalize cycle limit is set.
+ */
+static void
+stopFinalizeHelperThreads(J9JavaVM *vm)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	GC_FinalizeListManager *finalizeListManager = extensions->finalizeListManager;
+	IDATA waitResult = 0;
+
+	finalizeListManager->lock();
+	finalizeListManager->requestHelperShutdown();
+	finalizeListManager->notifyAll();
+	while ((0 != finalizeListManager->getHelperThreadCount()) && (J9THREAD_TIMED_OUT != waitResult)) {
+		waitResult = finalizeListManager->waitTimed(extensions->finalizeCycleLimit);
+	}
+	finalizeListManager->unlock();
+}
+
 void
 j9gc_finalizer_completeFinalizersOnExit(J9VMThread* vmThread)
 {
@@ -832,6 +1155,21 @@ j9gc_finalizer_completeFinalizersOnExit(J9VMThread* vmThread)
 		return;
 	}
 
+	if (J9_ARE_ANY_BITS_SET(vmThread->privateFlags, J9_PRIVATE_FLAGS_FINALIZE_WORKER)) {
+		/* A finalizer running on a helper thread is exiting the VM. The helper blocks below until the finalizer
+		 * has shut down, so abandon it: the other workers must not wait for its batch or its class loader, and
+		 * the main thread must not wait for it to exit. The primary worker is abandoned by the main thread.
+		 */
+		GC_FinalizeListManager *finalizeListManager = MM_GCExtensions::getExtensions(vm)->finalizeListManager;
+		finalizeListManager->lock();
+		UDATA workerIndex = finalizeListManager->findWorkerSlot(vmThread);
+		if ((UDATA_MAX != workerIndex) && !finalizeListManager->isPrimaryWorkerSlot(workerIndex) && !finalizeListManager->isWorkerSlotAbandoned(workerIndex)) {
+			finalizeListManager->abandonWorkerSlot(workerIndex);
+			finalizeListManager->helperThreadExited();
+		}
+		finalizeListManager->unlock();
+	}
+
 	/* Set the run finalizers on exit flag and initiate finalizer shutdown. */
 	omrthread_monitor_enter(vm->finalizeMainMonitor);
 	vm->finalizeMainFlags |= J9_FINALIZE_FLAGS_RUN_FINALIZERS_ON_EXIT;
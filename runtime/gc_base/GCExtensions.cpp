@@ -165,7 +165,13 @@ MM_GCExtensions::tearDown(MM_EnvironmentBase *env)
 		wildcard = nextWildcard;
 	}
 	numaCommonThreadClassNamePatterns = NULL;
-	
+
+	if (NULL != verboseBinaryLogFileName) {
+		PORT_ACCESS_FROM_JAVAVM(getJavaVM());
+		j9mem_free_memory(verboseBinaryLogFileName);
+		verboseBinaryLogFileName = NULL;
+	}
+
 	J9HookInterface** tmpHookInterface = getHookInterface();
 	if((NULL != tmpHookInterface) && (NULL != *tmpHookInterface)){
 		(*tmpHookInterface)->J9HookShutdownInterface(tmpHookInterface);
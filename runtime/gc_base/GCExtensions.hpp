@@ -51,14 +51,17 @@
 #include "ScavengerJavaStats.hpp"
 #endif /* J9VM_GC_MODRON_SCAVENGER */
 
+class MM_AllocationSiteProfiler;
 class MM_ClassLoaderManager;
 class MM_EnvironmentBase;
 class MM_HeapMap;
 class MM_MemorySubSpace;
 class MM_ObjectAccessBarrier;
 class MM_OwnableSynchronizerObjectList;
+class MM_StringDeduplicator;
 class MM_StringTable;
 class MM_UnfinalizedObjectList;
+class MM_VerboseBinaryEventLog;
 class MM_Wildcard;
 
 #if defined(J9VM_GC_FINALIZATION)
@@ -82,11 +85,23 @@ private:
 	MM_OwnableSynchronizerObjectList* ownableSynchronizerObjectLists; /**< The global linked list of ownable synchronizer object lists. */
 public:
 	MM_StringTable* stringTable; /**< top level String Table structure (internally organized as a set of hash sub-tables */
+	bool stringDeduplication; /**< true if -Xgc:stringDeduplication was specified */
+	UDATA stringDeduplicationQueueSize; /**< number of String candidates that can be queued for deduplication by a single collection (-Xgc:stringDeduplicationQueueSize=) */
+	MM_StringDeduplicator* stringDeduplicator; /**< GC-time String deduplication support, NULL when deduplication is disabled */
+	bool allocationSiteProfiling; /**< true if -Xgc:allocationSiteProfiler was specified */
+	UDATA allocationSiteSampleInterval; /**< bytes allocated by a thread between allocation site samples (-Xgc:allocationSiteSampleInterval=) */
+	UDATA allocationSiteTableSize; /**< maximum number of distinct allocation sites recorded (-Xgc:allocationSiteTableSize=) */
+	UDATA allocationSiteTrackedSamples; /**< maximum number of samples followed for survival at a time (-Xgc:allocationSiteTrackedSamples=) */
+	MM_AllocationSiteProfiler* allocationSiteProfiler; /**< sampling allocation site profiler, NULL when profiling is disabled */
 
 	void* gcchkExtensions;
 
 	void* tgcExtensions;
 	J9MemoryManagerVerboseInterface verboseFunctionTable;
+	char *verboseBinaryLogFileName; /**< file named by -Xgc:verboseBinaryLog=, NULL when the binary event log is disabled */
+	UDATA verboseBinaryLogRecords; /**< number of records in the binary event log ring (-Xgc:verboseBinaryLogRecords=) */
+	MM_VerboseBinaryEventLog *verboseBinaryEventLog; /**< the binary event log, owned by the verbose library */
+	bool verboseRootScanTimes; /**< true if -Xgc:verboseRootScanTimes was specified: verbose GC reports the root scan time of each GC thread */
 
 #if defined(J9VM_GC_FINALIZATION)
 	IDATA finalizeCycleInterval;
@@ -142,8 +157,15 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 	UDATA finalizeMainPriority; /**< cmd line option to set finalize main thread priority */
 	UDATA finalizeWorkerPriority; /**< cmd line option to set finalize worker thread priority */
+	UDATA finalizeWorkerThreads; /**< number of threads draining the finalize lists (primary worker plus helpers) */
+	UDATA finalizeWorkerBatchSize; /**< maximum number of jobs a finalize worker takes from the lists at once */
 #endif /* J9VM_GC_FINALIZATION */
 
+#if defined(J9VM_GC_VLHGC)
+	bool tarokEnableCoarseRememberedSets; /**< true if a RememberedSetCardList crossing tarokRememberedSetCardListMaxSize switches to a coarse per-region bitmap instead of overflowing */
+	UDATA tarokCoarseRememberedSetMaxCount; /**< maximum number of RememberedSetCardLists that may be coarse at once (0 means one eighth of the region count) */
+#endif /* J9VM_GC_VLHGC */
+
 	MM_ClassLoaderManager* classLoaderManager; /**< Pointer to the gc's classloader manager to process classloaders/classes */
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 	UDATA deadClassLoaderCacheSize;
@@ -281,8 +303,20 @@ public:
 		: MM_GCExtensionsBase()
 		, ownableSynchronizerObjectLists(NULL)
 		, stringTable(NULL)
+		, stringDeduplication(false)
+		, stringDeduplicationQueueSize(16384)
+		, stringDeduplicator(NULL)
+		, allocationSiteProfiling(false)
+		, allocationSiteSampleInterval(512 * 1024)
+		, allocationSiteTableSize(4096)
+		, allocationSiteTrackedSamples(1024)
+		, allocationSiteProfiler(NULL)
 		, gcchkExtensions(NULL)
 		, tgcExtensions(NULL)
+		, verboseBinaryLogFileName(NULL)
+		, verboseBinaryLogRecords(0)
+		, verboseBinaryEventLog(NULL)
+		, verboseRootScanTimes(false)
 #if defined(J9VM_GC_FINALIZATION)
 		, finalizeCycleInterval(J9_FINALIZABLE_INTERVAL)  /* 1/2 second */
 		, finalizeCycleLimit(0)  /* 0 seconds (i.e. no time limit) */
@@ -300,7 +334,13 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 		, finalizeMainPriority(J9THREAD_PRIORITY_NORMAL)
 		, finalizeWorkerPriority(J9THREAD_PRIORITY_NORMAL)
+		, finalizeWorkerThreads(1)
+		, finalizeWorkerBatchSize(32)
 #endif /* J9VM_GC_FINALIZATION */
+#if defined(J9VM_GC_VLHGC)
+		, tarokEnableCoarseRememberedSets(false)
+		, tarokCoarseRememberedSetMaxCount(0)
+#endif /* J9VM_GC_VLHGC */
 		, classLoaderManager(NULL)
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 		, deadClassLoaderCacheSize(1024 * 1024) /* default is one MiB */
@@ -60,6 +60,7 @@
 #include "ParallelDispatcher.hpp"
 #include "PointerArrayIterator.hpp"
 #include "SlotObject.hpp"
+#include "StringDeduplicator.hpp"
 #include "StringTable.hpp"
 #include "StringTableIncrementalIterator.hpp"
 #include "Task.hpp"
@@ -583,7 +584,7 @@ void
 MM_RootScanner::scanJNIGlobalReferences(MM_EnvironmentBase *env)
 {
 	/* JNI Global References */
-	if(_singleThread || J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
+	if (_singleThread) {
 		reportScanningStarted(RootScannerEntity_JNIGlobalReferences);
 
 		GC_JNIGlobalReferenceIterator jniGlobalReferenceIterator(static_cast<J9JavaVM*>(_omrVM->_language_vm)->jniGlobalReferences);
@@ -593,6 +594,25 @@ MM_RootScanner::scanJNIGlobalReferences(MM_EnvironmentBase *env)
 			doJNIGlobalReferenceSlot(slot, &jniGlobalReferenceIterator);
 		}
 
+		reportScanningEnded(RootScannerEntity_JNIGlobalReferences);
+	} else {
+		/* One work unit per pool puddle, so that a large pool is shared by all GC threads */
+		reportScanningStarted(RootScannerEntity_JNIGlobalReferences);
+
+		J9Pool *pool = static_cast<J9JavaVM*>(_omrVM->_language_vm)->jniGlobalReferences;
+		J9PoolPuddle *puddle = J9POOLPUDDLELIST_NEXTPUDDLE(J9POOL_PUDDLELIST(pool));
+		while (NULL != puddle) {
+			if (J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
+				pool_state state;
+				J9Object **slot = (J9Object **)poolPuddle_startDo(pool, puddle, &state, FALSE);
+				while (NULL != slot) {
+					doJNIGlobalReferenceSlot(slot, NULL);
+					slot = (J9Object **)poolPuddle_nextDo(&state);
+				}
+			}
+			puddle = J9POOLPUDDLE_NEXTPUDDLE(puddle);
+		}
+
 		reportScanningEnded(RootScannerEntity_JNIGlobalReferences);
 	}
 }
@@ -643,6 +663,33 @@ MM_RootScanner::scanStringTable(MM_EnvironmentBase *env)
 		}
 	}
 
+	/* String deduplication table and candidate queue hold weak references, handled like the intern cache */
+	MM_StringDeduplicator *stringDeduplicator = _extensions->stringDeduplicator;
+	if (NULL != stringDeduplicator) {
+		for (UDATA tableIndex = 0; tableIndex < stringDeduplicator->getTableCount(); tableIndex++) {
+			if(_singleThread || J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
+				GC_HashTableIterator deduplicationTableIterator(stringDeduplicator->getTable(tableIndex));
+				J9Object **slot = NULL;
+				while (NULL != (slot = (J9Object **)deduplicationTableIterator.nextSlot())) {
+					doStringCacheTableSlot(slot);
+					if (NULL == *slot) {
+						deduplicationTableIterator.removeSlot();
+					}
+				}
+			}
+		}
+
+		if(_singleThread || J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
+			j9object_t *candidateQueue = stringDeduplicator->getCandidateQueue();
+			UDATA candidateCount = stringDeduplicator->getCandidateCount();
+			for (UDATA candidateIndex = 0; candidateIndex < candidateCount; candidateIndex++) {
+				if (NULL != candidateQueue[candidateIndex]) {
+					doStringCacheTableSlot(&candidateQueue[candidateIndex]);
+				}
+			}
+		}
+	}
+
 	reportScanningEnded(RootScannerEntity_StringTable);
 }
 
@@ -786,18 +833,24 @@ MM_RootScanner::scanMonitorReferences(MM_EnvironmentBase *env)
 void
 MM_RootScanner::scanJNIWeakGlobalReferences(MM_EnvironmentBase *env)
 {
-	if (_singleThread || J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
-		reportScanningStarted(RootScannerEntity_JNIWeakGlobalReferences);
-
-		GC_JNIWeakGlobalReferenceIterator jniWeakGlobalReferenceIterator(static_cast<J9JavaVM*>(_omrVM->_language_vm)->jniWeakGlobalReferences);
-		J9Object **slot;
+	reportScanningStarted(RootScannerEntity_JNIWeakGlobalReferences);
 
-		while((slot = (J9Object **)jniWeakGlobalReferenceIterator.nextSlot()) != NULL) {
-			doJNIWeakGlobalReference(slot);
+	/* One work unit per pool puddle, so that a large pool is shared by all GC threads */
+	J9Pool *pool = static_cast<J9JavaVM*>(_omrVM->_language_vm)->jniWeakGlobalReferences;
+	J9PoolPuddle *puddle = J9POOLPUDDLELIST_NEXTPUDDLE(J9POOL_PUDDLELIST(pool));
+	while (NULL != puddle) {
+		if (_singleThread || J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
+			pool_state state;
+			J9Object **slot = (J9Object **)poolPuddle_startDo(pool, puddle, &state, FALSE);
+			while (NULL != slot) {
+				doJNIWeakGlobalReference(slot);
+				slot = (J9Object **)poolPuddle_nextDo(&state);
+			}
 		}
-
-		reportScanningEnded(RootScannerEntity_JNIWeakGlobalReferences);
+		puddle = J9POOLPUDDLE_NEXTPUDDLE(puddle);
 	}
+
+	reportScanningEnded(RootScannerEntity_JNIWeakGlobalReferences);
 }
 
 #if defined(J9VM_GC_MODRON_SCAVENGER)
@@ -199,7 +199,7 @@ protected:
 		assume0(RootScannerEntity_None == _scanningEntity);
 		_scanningEntity = scanningEntity;
 		
-		if (_extensions->rootScannerStatsEnabled) {
+		if (_extensions->rootScannerStatsEnabled || _extensions->verboseRootScanTimes) {
 			OMRPORT_ACCESS_FROM_OMRVM(_omrVM);
 			_entityStartScanTime = omrtime_hires_clock();	
 			_entityIncrementStartTime = _entityStartScanTime;
@@ -232,14 +232,25 @@ protected:
 		/* Ensures scanning ended for the currently scanned entity. */
 		Assert_MM_true(_scanningEntity == scannedEntity);
 		
-		if (_extensions->rootScannerStatsEnabled) {
+		if (_extensions->rootScannerStatsEnabled || _extensions->verboseRootScanTimes) {
  			OMRPORT_ACCESS_FROM_OMRVM(_omrVM);
  			uint64_t entityEndScanTime = omrtime_hires_clock();
-			
-			_env->_rootScannerStats._statsUsed = true;
-			_extensions->rootScannerStatsUsed = true;
-							
-			updateScanStats(entityEndScanTime);
+
+			if (_extensions->verboseRootScanTimes && (entityEndScanTime > _entityStartScanTime)) {
+				GC_Environment *gcEnv = _env->getGCEnvironment();
+				uint64_t duration = entityEndScanTime - _entityStartScanTime;
+				gcEnv->_rootScanTime += duration;
+				if (RootScannerEntity_Threads == _scanningEntity) {
+					gcEnv->_rootScanThreadsTime += duration;
+				}
+			}
+
+			if (_extensions->rootScannerStatsEnabled) {
+				_env->_rootScannerStats._statsUsed = true;
+				_extensions->rootScannerStatsUsed = true;
+
+				updateScanStats(entityEndScanTime);
+			}
  			
  			_entityStartScanTime = 0;
  			/* In theory, it would be cleaner to reset _entityIncrementStartTime to 0, but sometimes increments could be dis-associated from any entity.
@@ -492,6 +503,10 @@ public:
 	virtual void doMonitorLookupCacheSlot(j9objectmonitor_t* slotPtr);
 
 	virtual void doJNIWeakGlobalReference(J9Object **slotPtr);
+	/**
+	 * @param jniGlobalReferenceIterator the iterator over the JNI global reference pool in single threaded
+	 * mode, NULL when the pool is scanned in parallel (one work unit per puddle)
+	 */
 	virtual void doJNIGlobalReferenceSlot(J9Object **slotPtr, GC_JNIGlobalReferenceIterator *jniGlobalReferenceIterator);
 
 #if defined(J9VM_GC_MODRON_SCAVENGER)
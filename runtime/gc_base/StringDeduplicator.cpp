@@ -0,0 +1,374 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#include "j9.h"
+#include "j9cfg.h"
+#include "j9consts.h"
+#include "hashtable_api.h"
+#include "mmprivatehook.h"
+#include "modron.h"
+
+#include <string.h>
+
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+#include "StringDeduplicator.hpp"
+
+/* number of candidates processed before VM access is released to let collections proceed */
+#define STRING_DEDUPLICATION_BATCH_SIZE 256
+
+extern "C" {
+
+/**
+ * Deduplication table entry. The array must remain the first field, root scanners treat
+ * the entry as a J9Object slot.
+ */
+typedef struct J9StringDeduplicationEntry {
+	j9object_t array; /**< the canonical value array */
+	UDATA hash; /**< hash of the array contents */
+} J9StringDeduplicationEntry;
+
+static UDATA stringDeduplicationHashFn(void *key, void *userData);
+static UDATA stringDeduplicationHashEqualFn(void *leftKey, void *rightKey, void *userData);
+static void stringDeduplicationExclusiveAcquire(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void stringDeduplicationExclusiveRelease(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+
+MM_StringDeduplicator *
+MM_StringDeduplicator::newInstance(MM_EnvironmentBase *env, UDATA tableCount, UDATA queueSize)
+{
+	MM_StringDeduplicator *stringDeduplicator = (MM_StringDeduplicator *)env->getForge()->allocate(sizeof(MM_StringDeduplicator), MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
+	if (NULL != stringDeduplicator) {
+		new(stringDeduplicator) MM_StringDeduplicator(env, tableCount, queueSize);
+		if (!stringDeduplicator->initialize(env)) {
+			stringDeduplicator->kill(env);
+			return NULL;
+		}
+	}
+	return stringDeduplicator;
+}
+
+bool
+MM_StringDeduplicator::initialize(MM_EnvironmentBase *env)
+{
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+	U_32 initialSize = 128;
+
+	_table = (J9HashTable **)j9mem_allocate_memory(sizeof(J9HashTable *) * _tableCount, OMRMEM_CATEGORY_MM);
+	if (NULL == _table) {
+		return false;
+	}
+	memset(_table, 0, sizeof(J9HashTable *) * _tableCount);
+
+	for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
+		_table[tableIndex] = hashTableNew(OMRPORT_FROM_J9PORT(PORTLIB), J9_GET_CALLSITE(), initialSize, sizeof(J9StringDeduplicationEntry), 0, 0, OMRMEM_CATEGORY_MM, stringDeduplicationHashFn, stringDeduplicationHashEqualFn, NULL, _javaVM);
+		if (NULL == _table[tableIndex]) {
+			return false;
+		}
+	}
+
+	_queue = (j9object_t *)j9mem_allocate_memory(sizeof(j9object_t) * _queueSize, OMRMEM_CATEGORY_MM);
+	if (NULL == _queue) {
+		return false;
+	}
+	memset(_queue, 0, sizeof(j9object_t) * _queueSize);
+
+	if (0 != omrthread_monitor_init_with_name(&_monitor, 0, "GC string deduplicator")) {
+		return false;
+	}
+
+	return true;
+}
+
+void
+MM_StringDeduplicator::tearDown(MM_EnvironmentBase *env)
+{
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+
+	if (NULL != _table) {
+		for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
+			if (NULL != _table[tableIndex]) {
+				hashTableFree(_table[tableIndex]);
+				_table[tableIndex] = NULL;
+			}
+		}
+		j9mem_free_memory(_table);
+		_table = NULL;
+	}
+
+	if (NULL != _queue) {
+		j9mem_free_memory(_queue);
+		_queue = NULL;
+	}
+
+	if (NULL != _monitor) {
+		omrthread_monitor_destroy(_monitor);
+		_monitor = NULL;
+	}
+}
+
+void
+MM_StringDeduplicator::kill(MM_EnvironmentBase *env)
+{
+	tearDown(env);
+	env->getForge()->free(this);
+}
+
+bool
+MM_StringDeduplicator::startupThread(MM_EnvironmentBase *env)
+{
+	bool result = false;
+
+	omrthread_monitor_enter(_monitor);
+	IDATA rc = _javaVM->internalVMFunctions->createThreadWithCategory(
+				NULL,
+				_javaVM->defaultOSStackSize,
+				J9THREAD_PRIORITY_NORMAL,
+				0,
+				&deduplicationThreadEntryPoint,
+				this,
+				J9THREAD_CATEGORY_SYSTEM_GC_THREAD);
+	if (0 == rc) {
+		while (STATE_INACTIVE == _threadState) {
+			omrthread_monitor_wait(_monitor);
+		}
+		result = (STATE_ACTIVE == _threadState);
+	}
+	omrthread_monitor_exit(_monitor);
+
+	if (result) {
+		J9HookInterface **mmPrivateHooks = J9_HOOK_INTERFACE(_extensions->privateHookInterface);
+		(*mmPrivateHooks)->J9HookRegisterWithCallSite(mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_ACQUIRE, stringDeduplicationExclusiveAcquire, OMR_GET_CALLSITE(), (void *)this);
+		(*mmPrivateHooks)->J9HookRegisterWithCallSite(mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_RELEASE, stringDeduplicationExclusiveRelease, OMR_GET_CALLSITE(), (void *)this);
+	}
+
+	return result;
+}
+
+void
+MM_StringDeduplicator::shutdownThread(MM_EnvironmentBase *env)
+{
+	J9HookInterface **mmPrivateHooks = J9_HOOK_INTERFACE(_extensions->privateHookInterface);
+	(*mmPrivateHooks)->J9HookUnregister(mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_ACQUIRE, stringDeduplicationExclusiveAcquire, (void *)this);
+	(*mmPrivateHooks)->J9HookUnregister(mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_RELEASE, stringDeduplicationExclusiveRelease, (void *)this);
+
+	omrthread_monitor_enter(_monitor);
+	if (STATE_ACTIVE == _threadState) {
+		_threadState = STATE_SHUTDOWN_REQUESTED;
+		omrthread_monitor_notify_all(_monitor);
+		while (STATE_TERMINATED != _threadState) {
+			omrthread_monitor_wait(_monitor);
+		}
+	}
+	omrthread_monitor_exit(_monitor);
+}
+
+int J9THREAD_PROC
+MM_StringDeduplicator::deduplicationThreadEntryPoint(void *userData)
+{
+	MM_StringDeduplicator *stringDeduplicator = (MM_StringDeduplicator *)userData;
+	J9JavaVM *javaVM = stringDeduplicator->_javaVM;
+	J9VMThread *vmThread = NULL;
+
+	if (JNI_OK == javaVM->internalVMFunctions->attachSystemDaemonThread(javaVM, &vmThread, "GC String deduplication")) {
+		stringDeduplicator->deduplicationThread(vmThread);
+		((JavaVM *)javaVM)->DetachCurrentThread();
+	}
+
+	omrthread_monitor_enter(stringDeduplicator->_monitor);
+	stringDeduplicator->_threadState = STATE_TERMINATED;
+	omrthread_monitor_notify_all(stringDeduplicator->_monitor);
+	omrthread_exit(stringDeduplicator->_monitor); /* exit the monitor and terminate the thread */
+
+	/* NO EXECUTION GUARANTEE BEYOND THIS POINT */
+	return 0;
+}
+
+void
+MM_StringDeduplicator::deduplicationThread(J9VMThread *vmThread)
+{
+	omrthread_monitor_enter(_monitor);
+	_threadState = STATE_ACTIVE;
+	omrthread_monitor_notify_all(_monitor);
+
+	while (STATE_ACTIVE == _threadState) {
+		if (_workPending) {
+			_workPending = false;
+			omrthread_monitor_exit(_monitor);
+			processCandidates(vmThread);
+			omrthread_monitor_enter(_monitor);
+		} else {
+			omrthread_monitor_wait(_monitor);
+		}
+	}
+
+	omrthread_monitor_exit(_monitor);
+}
+
+void
+MM_StringDeduplicator::processCandidates(J9VMThread *vmThread)
+{
+	J9InternalVMFunctions *vmFuncs = _javaVM->internalVMFunctions;
+
+	/* the queue and the table are only read or written by GC threads while this thread is out of the VM */
+	vmFuncs->internalEnterVMFromJNI(vmThread);
+	while ((STATE_ACTIVE == _threadState) && (_queueConsumed < _queueTop)) {
+		UDATA batchEnd = OMR_MIN(_queueConsumed + STRING_DEDUPLICATION_BATCH_SIZE, (UDATA)_queueTop);
+		for (UDATA index = _queueConsumed; index < batchEnd; index++) {
+			j9object_t string = _queue[index];
+			/* slots of candidates that died since they were queued have been cleared by the collector */
+			if (NULL != string) {
+				_queue[index] = NULL;
+				_stats._inspected += 1;
+				deduplicate(vmThread, string);
+			}
+		}
+		_queueConsumed = batchEnd;
+
+		/* let a waiting collection proceed before the next batch */
+		vmFuncs->internalReleaseVMAccess(vmThread);
+		vmFuncs->internalEnterVMFromJNI(vmThread);
+	}
+	vmFuncs->internalReleaseVMAccess(vmThread);
+}
+
+void
+MM_StringDeduplicator::deduplicate(J9VMThread *vmThread, j9object_t string)
+{
+	j9object_t value = J9VMJAVALANGSTRING_VALUE(vmThread, string);
+	if (NULL == value) {
+		return;
+	}
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+	/* the scavenger does not visit the table, so it may only reference tenured arrays */
+	if (_extensions->scavengerEnabled && !_extensions->isOld(value)) {
+		return;
+	}
+#endif /* J9VM_GC_MODRON_SCAVENGER */
+	if (!_extensions->indexableObjectModel.isInlineContiguousArraylet((J9IndexableObject *)value)) {
+		return;
+	}
+
+	J9StringDeduplicationEntry query;
+	query.array = value;
+	query.hash = hashArrayContents(value);
+
+	J9HashTable *table = _table[query.hash % _tableCount];
+	J9StringDeduplicationEntry *entry = (J9StringDeduplicationEntry *)hashTableFind(table, &query);
+	if (NULL == entry) {
+		/* first array seen with these contents becomes the canonical one; if the add fails the String is simply left alone */
+		hashTableAdd(table, &query);
+	} else if (entry->array != value) {
+		J9VMJAVALANGSTRING_SET_VALUE(vmThread, string, entry->array);
+		_stats._deduplicated += 1;
+		_stats._bytesSaved += _extensions->objectModel.getConsumedSizeInBytesWithHeader(value);
+	}
+}
+
+UDATA
+MM_StringDeduplicator::hashArrayContents(j9object_t array)
+{
+	J9IndexableObject *indexable = (J9IndexableObject *)array;
+	UDATA size = _extensions->indexableObjectModel.getDataSizeInBytes(indexable);
+	U_8 *data = (U_8 *)_extensions->indexableObjectModel.getDataPointerForContiguous(indexable);
+	UDATA hash = size;
+
+	for (UDATA i = 0; i < size; i++) {
+		hash = (hash * 31) + data[i];
+	}
+
+	return hash;
+}
+
+void
+MM_StringDeduplicator::collectionStarted(MM_EnvironmentBase *env)
+{
+	/* unprocessed candidates stay valid across collections, the root scanners clear or update their slots */
+	if (_queueConsumed == _queueTop) {
+		_queueTop = 0;
+		_queueConsumed = 0;
+	}
+	_queueTopAtStart = _queueTop;
+}
+
+void
+MM_StringDeduplicator::collectionEnded(MM_EnvironmentBase *env)
+{
+	_stats._candidates += _queueTop - _queueTopAtStart;
+	if (_queueTop > _queueSize) {
+		_stats._dropped += _queueTop - _queueSize;
+		_queueTop = _queueSize;
+	}
+
+	if (_queueConsumed < _queueTop) {
+		omrthread_monitor_enter(_monitor);
+		_workPending = true;
+		omrthread_monitor_notify_all(_monitor);
+		omrthread_monitor_exit(_monitor);
+	}
+}
+
+static UDATA
+stringDeduplicationHashFn(void *key, void *userData)
+{
+	return ((J9StringDeduplicationEntry *)key)->hash;
+}
+
+static UDATA
+stringDeduplicationHashEqualFn(void *leftKey, void *rightKey, void *userData)
+{
+	J9StringDeduplicationEntry *left = (J9StringDeduplicationEntry *)leftKey;
+	J9StringDeduplicationEntry *right = (J9StringDeduplicationEntry *)rightKey;
+	J9JavaVM *javaVM = (J9JavaVM *)userData;
+
+	if (left->array == right->array) {
+		return TRUE;
+	}
+	if ((left->hash != right->hash) || (J9GC_J9OBJECT_CLAZZ_VM(left->array, javaVM) != J9GC_J9OBJECT_CLAZZ_VM(right->array, javaVM))) {
+		return FALSE;
+	}
+
+	GC_ArrayObjectModel *indexableObjectModel = &MM_GCExtensions::getExtensions(javaVM)->indexableObjectModel;
+	J9IndexableObject *leftArray = (J9IndexableObject *)left->array;
+	J9IndexableObject *rightArray = (J9IndexableObject *)right->array;
+	UDATA size = indexableObjectModel->getDataSizeInBytes(leftArray);
+	if (size != indexableObjectModel->getDataSizeInBytes(rightArray)) {
+		return FALSE;
+	}
+
+	return 0 == memcmp(indexableObjectModel->getDataPointerForContiguous(leftArray), indexableObjectModel->getDataPointerForContiguous(rightArray), size);
+}
+
+static void
+stringDeduplicationExclusiveAcquire(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	MM_ExclusiveAccessAcquireEvent *event = (MM_ExclusiveAccessAcquireEvent *)eventData;
+	((MM_StringDeduplicator *)userData)->collectionStarted(MM_EnvironmentBase::getEnvironment(event->currentThread));
+}
+
+static void
+stringDeduplicationExclusiveRelease(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	MM_ExclusiveAccessReleaseEvent *event = (MM_ExclusiveAccessReleaseEvent *)eventData;
+	((MM_StringDeduplicator *)userData)->collectionEnded(MM_EnvironmentBase::getEnvironment(event->currentThread));
+}
+
+} /* extern "C" */
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Base
+ */
+
+#if !defined(STRING_DEDUPLICATOR_HPP_)
+#define STRING_DEDUPLICATOR_HPP_
+
+#include "j9.h"
+#include "j9cfg.h"
+
+#include <string.h>
+
+#include "AtomicOperations.hpp"
+#include "BaseVirtual.hpp"
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+
+/**
+ * GC-time String deduplication.
+ *
+ * While copying, the collectors hand every java.lang.String that leaves the nursery (tenured by the
+ * scavenger, or copied out of eden by the copy-forward scheme) to enqueueCandidate(). After the
+ * collection a single background thread hashes the value array of each candidate, looks it up in
+ * the deduplication table and, if an equal array is already known, points the String at it.
+ *
+ * Both the table and the candidate queue hold weak references and are visited by the root scanners
+ * together with the String table, so the collectors clear and fix them up like the intern cache.
+ * The deduplication thread only touches them while holding VM access, so no locking is needed.
+ * @ingroup GC_Base
+ */
+class MM_StringDeduplicator : public MM_BaseVirtual {
+public:
+	/**
+	 * Cumulative deduplication statistics, reported by verbose GC.
+	 */
+	struct Stats {
+		UDATA _candidates; /**< number of Strings queued by the collectors */
+		UDATA _dropped; /**< number of Strings that did not fit in the candidate queue */
+		UDATA _inspected; /**< number of candidates processed by the deduplication thread */
+		UDATA _deduplicated; /**< number of Strings pointed at an existing value array */
+		UDATA _bytesSaved; /**< heap bytes made unreachable by deduplication */
+	};
+
+private:
+	J9JavaVM *_javaVM;
+	MM_GCExtensions *_extensions;
+
+	UDATA _tableCount; /**< count of hash sub-tables */
+	J9HashTable **_table; /**< pointer to an array of hash sub-tables of canonical value arrays */
+
+	j9object_t *_queue; /**< Strings queued for deduplication by the last collection */
+	UDATA _queueSize; /**< capacity of the candidate queue */
+	volatile UDATA _queueTop; /**< number of candidate slots claimed (may exceed _queueSize) */
+	UDATA _queueConsumed; /**< number of candidates already processed by the deduplication thread */
+	UDATA _queueTopAtStart; /**< value of _queueTop when the current collection started */
+
+	omrthread_monitor_t _monitor; /**< monitor used to wake up and shut down the deduplication thread */
+	volatile UDATA _threadState; /**< lifecycle of the deduplication thread, see ThreadState */
+	bool _workPending; /**< true if a collection queued candidates since the thread last ran */
+
+	Stats _stats;
+
+	enum ThreadState {
+		STATE_INACTIVE = 0,
+		STATE_ACTIVE,
+		STATE_SHUTDOWN_REQUESTED,
+		STATE_TERMINATED
+	};
+
+public:
+
+private:
+	bool initialize(MM_EnvironmentBase *env);
+	void tearDown(MM_EnvironmentBase *env);
+
+	static int J9THREAD_PROC deduplicationThreadEntryPoint(void *userData);
+	void deduplicationThread(J9VMThread *vmThread);
+
+	/**
+	 * Process queued candidates in batches, releasing VM access between batches so that
+	 * collections are not held off.
+	 * @param vmThread the deduplication thread
+	 */
+	void processCandidates(J9VMThread *vmThread);
+
+	/**
+	 * Deduplicate the value array of a single String.
+	 * @param vmThread the deduplication thread, holding VM access
+	 * @param string the candidate String
+	 */
+	void deduplicate(J9VMThread *vmThread, j9object_t string);
+
+	/**
+	 * Compute the hash of the contents of a contiguous value array.
+	 */
+	UDATA hashArrayContents(j9object_t array);
+
+public:
+	static MM_StringDeduplicator *newInstance(MM_EnvironmentBase *env, UDATA tableCount, UDATA queueSize);
+	virtual void kill(MM_EnvironmentBase *env);
+
+	/**
+	 * Start the deduplication thread and register the GC hooks that drive it.
+	 * @return true on success, false otherwise
+	 */
+	bool startupThread(MM_EnvironmentBase *env);
+
+	/**
+	 * Stop the deduplication thread and unregister the GC hooks. Blocks until the thread has exited.
+	 */
+	void shutdownThread(MM_EnvironmentBase *env);
+
+	/**
+	 * Called by the GC hooks when a collection acquires exclusive access. Any queued candidates
+	 * left from a previous collection are discarded.
+	 */
+	void collectionStarted(MM_EnvironmentBase *env);
+
+	/**
+	 * Called by the GC hooks when a collection releases exclusive access. Wakes up the
+	 * deduplication thread if candidates were queued.
+	 */
+	void collectionEnded(MM_EnvironmentBase *env);
+
+	/**
+	 * Queue a String for deduplication. Called by GC threads during a collection; the String must
+	 * not move again before the end of the collection unless a root scanner fixes up the queue.
+	 * @param string the String object
+	 */
+	MMINLINE void
+	enqueueCandidate(j9object_t string)
+	{
+		UDATA index = MM_AtomicOperations::add(&_queueTop, 1) - 1;
+		if (index < _queueSize) {
+			_queue[index] = string;
+		}
+	}
+
+	/**
+	 * Queue an object for deduplication if it is a String.
+	 * @param object the object being tenured
+	 * @param clazz the class of the object
+	 */
+	MMINLINE void
+	enqueueIfString(j9object_t object, J9Class *clazz)
+	{
+		if (clazz == J9VMJAVALANGSTRING_OR_NULL(_javaVM)) {
+			enqueueCandidate(object);
+		}
+	}
+
+	/**
+	 * @return hash sub-table count
+	 */
+	UDATA getTableCount() { return _tableCount; }
+
+	/**
+	 * @param tableIndex index of hash table into the array of sub-tables
+	 * @return pointer to hash sub-table with provided index
+	 */
+	J9HashTable *getTable(UDATA tableIndex) { return _table[tableIndex]; }
+
+	/**
+	 * @return the candidate queue, for use by root scanners
+	 */
+	j9object_t *getCandidateQueue() { return _queue; }
+
+	/**
+	 * @return the number of valid slots in the candidate queue
+	 */
+	UDATA getCandidateCount() { return OMR_MIN(_queueTop, _queueSize); }
+
+	/**
+	 * @return the cumulative deduplication statistics
+	 */
+	Stats *getStats() { return &_stats; }
+
+	MM_StringDeduplicator(MM_EnvironmentBase *env, UDATA tableCount, UDATA queueSize) :
+		MM_BaseVirtual(),
+		_javaVM((J9JavaVM *)env->getLanguageVM()),
+		_extensions(MM_GCExtensions::getExtensions(env)),
+		_tableCount(tableCount),
+		_table(NULL),
+		_queue(NULL),
+		_queueSize(queueSize),
+		_queueTop(0),
+		_queueConsumed(0),
+		_queueTopAtStart(0),
+		_monitor(NULL),
+		_threadState(STATE_INACTIVE),
+		_workPending(false)
+	{
+		_typeId = __FUNCTION__;
+		memset(&_stats, 0, sizeof(_stats));
+	}
+};
+
+#endif /* STRING_DEDUPLICATOR_HPP_ */
@@ -31,6 +31,7 @@
 #include "modronapi.hpp"
 #include "modronopt.h"
 
+#include "AllocationSiteProfiler.hpp"
 #include "EnvironmentBase.hpp"
 #include "GCExtensions.hpp"
 #include "HeapMemorySnapshot.hpp"
@@ -931,6 +932,31 @@ j9gc_get_bytes_allocated_by_thread(J9VMThread *vmThread)
 	return MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread)->_objectAllocationInterface->getAllocationStats()->bytesAllocated();
 }
 
+/**
+ * Copy the allocation sites with the most sampled bytes, in descending order.
+ * The caller must hold VM access while it uses the methods and classes of the returned sites.
+ *
+ * @param[in] vmThread the current thread
+ * @param[out] sites the array to fill
+ * @param[in] maxSites the length of sites
+ * @param[out] sampleInterval the sampling interval in bytes, 0 if the allocation site profiler is disabled
+ * @return the number of sites copied
+ */
+UDATA
+j9gc_get_allocation_sites(J9VMThread *vmThread, J9GCAllocationSite *sites, UDATA maxSites, UDATA *sampleInterval)
+{
+	MM_AllocationSiteProfiler *profiler = MM_GCExtensions::getExtensions(vmThread->javaVM)->allocationSiteProfiler;
+	UDATA count = 0;
+
+	if (NULL == profiler) {
+		*sampleInterval = 0;
+	} else {
+		*sampleInterval = profiler->getSampleInterval();
+		count = profiler->getTopSites(sites, maxSites);
+	}
+	return count;
+}
+
 /**
  * Return information about the total CPU time consumed by GC threads, as well
  * as the number of GC threads. The time for the main and worker threads is
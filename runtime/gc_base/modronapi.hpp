@@ -92,6 +92,7 @@ void j9gc_set_memoryController(J9VMThread *vmThread, j9object_t objectPtr, j9obj
 void j9gc_set_allocation_sampling_interval(J9JavaVM *vm, UDATA samplingInterval);
 void j9gc_set_allocation_threshold(J9VMThread *vmThread, UDATA low, UDATA high);
 UDATA j9gc_get_bytes_allocated_by_thread(J9VMThread *vmThread);
+UDATA j9gc_get_allocation_sites(J9VMThread *vmThread, J9GCAllocationSite *sites, UDATA maxSites, UDATA *sampleInterval);
 void j9gc_get_CPU_times(J9JavaVM *javaVM, U_64 *mainCpuMillis, U_64 *workerCpuMillis, U_32 *maxThreads, U_32 *currentThreads);
 J9HookInterface** j9gc_get_private_hook_interface(J9JavaVM *javaVM);
 /**
@@ -21,7 +21,11 @@
  *******************************************************************************/
 
 #include "Check.hpp"
+#include "CheckCycle.hpp"
 #include "CheckEngine.hpp"
+#include "CheckParallelTask.hpp"
+#include "EnvironmentBase.hpp"
+#include "ParallelDispatcher.hpp"
 
 void
 GC_Check::run(bool shouldCheck, bool shouldPrint)
@@ -29,10 +33,53 @@ GC_Check::run(bool shouldCheck, bool shouldPrint)
 	_engine->startNewCheck(this);
 	
 	if(shouldCheck) {
-		check();
+		MM_EnvironmentBase *env = NULL;
+		if (shouldRunParallel(&env)) {
+			GC_CheckParallelTask checkTask(env, _extensions->dispatcher, this, _engine);
+			_extensions->dispatcher->run(env, &checkTask);
+		} else {
+			check();
+		}
 	}
 
 	if(shouldPrint) {
 		print();
 	}
 }
+
+/**
+ * Determine whether this check should be split across the GC worker threads.
+ * Parallel checking must be requested with the "parallel" option, be supported by the
+ * check, and be invoked by the main GC thread (so the dispatcher's workers are idle and
+ * available).  Debugger and out-of-GC invocations always run serially.
+ *
+ * @param[out] envOut The environment of the dispatching thread, when returning true
+ * @return true if the check should be run with a GC_CheckParallelTask
+ */
+bool
+GC_Check::shouldRunParallel(MM_EnvironmentBase **envOut)
+{
+	GC_CheckCycle *cycle = _engine->getCycle();
+
+	if ((NULL == cycle)
+		|| (J9MODRON_GCCHK_MISC_PARALLEL != (cycle->getMiscFlags() & J9MODRON_GCCHK_MISC_PARALLEL))
+		|| (invocation_debugger == cycle->getInvoker())
+		|| !isParallelizable()
+		|| (NULL == _extensions->dispatcher)
+	) {
+		return false;
+	}
+
+	J9VMThread *vmThread = _javaVM->internalVMFunctions->currentVMThread(_javaVM);
+	if (NULL == vmThread) {
+		return false;
+	}
+
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(vmThread->omrVMThread);
+	if (!env->isMainThread()) {
+		return false;
+	}
+
+	*envOut = env;
+	return true;
+}
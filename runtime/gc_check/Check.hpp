@@ -35,6 +35,7 @@
 #include "GCExtensions.hpp"
 
 class GC_CheckEngine;
+class MM_EnvironmentBase;
 
 /**
  * GC_Check - abstract class for defining types of check
@@ -71,6 +72,21 @@ protected:
 	virtual void check() = 0; /**< run the check */
 	virtual void print() = 0; /**< dump the check structure to tty */
 
+	/**
+	 * @return true if the check can be split across the GC worker threads using #checkParallel()
+	 */
+	virtual bool isParallelizable() { return false; }
+
+	/**
+	 * Run this thread's share of the check.  Called on every GC worker thread participating
+	 * in a parallel check; work is divided with J9MODRON_HANDLE_NEXT_WORK_UNIT.
+	 * @param env The environment of the worker thread
+	 * @param engine The engine private to the worker thread
+	 */
+	virtual void checkParallel(MM_EnvironmentBase *env, GC_CheckEngine *engine) {}
+
+	bool shouldRunParallel(MM_EnvironmentBase **envOut);
+
 public:
 	virtual void kill() = 0;
 	
@@ -80,6 +96,7 @@ public:
 	UDATA getBitId() { return _bitId; }
 	
 	void run(bool shouldCheck, bool shouldPrint);   /**< run gc_check on the structure */
+	void runParallel(MM_EnvironmentBase *env, GC_CheckEngine *engine) { checkParallel(env, engine); } /**< run a worker thread's share of a parallel check */
 	virtual const char *getCheckName() = 0; /**< get a string representing this check-type */
 
 	GC_Check(J9JavaVM *javaVM, GC_CheckEngine *engine)
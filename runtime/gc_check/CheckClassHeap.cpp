@@ -22,6 +22,7 @@
 
 #include "CheckEngine.hpp"
 #include "CheckClassHeap.hpp"
+#include "EnvironmentBase.hpp"
 #include "ModronTypes.hpp"
 #include "ScanFormatter.hpp"
 
@@ -64,6 +65,28 @@ GC_CheckClassHeap::check()
 	}
 }
 
+void
+GC_CheckClassHeap::checkParallel(MM_EnvironmentBase *env, GC_CheckEngine *engine)
+{
+	GC_SegmentIterator segmentIterator(_javaVM->classMemorySegments, MEMORY_TYPE_RAM_CLASS);
+	J9MemorySegment *segment;
+	J9Class *clazz;
+
+	while((segment = segmentIterator.nextSegment()) != NULL) {
+		if (J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
+			engine->clearPreviousObjects();
+
+			GC_ClassHeapIterator classHeapIterator(_javaVM, segment);
+			while((clazz = classHeapIterator.nextClass()) != NULL) {
+				if (engine->checkClassHeap(_javaVM, clazz, segment) != J9MODRON_SLOT_ITERATOR_OK ){
+					return;
+				}
+				engine->pushPreviousClass(clazz);
+			}
+		}
+	}
+}
+
 void
 GC_CheckClassHeap::print()
 {
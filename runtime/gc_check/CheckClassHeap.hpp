@@ -41,6 +41,8 @@ class GC_CheckClassHeap : public GC_Check
 private:
 	virtual void check(); /**< run the check */
 	virtual void print(); /**< dump the check structure to tty */
+	virtual bool isParallelizable() { return true; }
+	virtual void checkParallel(MM_EnvironmentBase *env, GC_CheckEngine *engine); /**< check the class segments claimed by this worker thread */
 
 public:
 	static GC_Check *newInstance(J9JavaVM *javaVM, GC_CheckEngine *engine);
@@ -117,6 +117,8 @@ GC_CheckCycle::printHelp(J9PortLibrary *portLib)
 	j9tty_printf(PORTLIB, "  noabort\n");
 	j9tty_printf(PORTLIB, "  dumpstack\n");
 	j9tty_printf(PORTLIB, "  nodumpstack\n");
+	j9tty_printf(PORTLIB, "  parallel          split object and class heaps across GC worker threads\n");
+	j9tty_printf(PORTLIB, "  noparallel\n");
 	j9tty_printf(PORTLIB, "  interval=X\n");
 	j9tty_printf(PORTLIB, "  globalinterval=X\n");
 #if defined(J9VM_GC_MODRON_SCAVENGER)
@@ -325,6 +327,16 @@ top:
 							continue;
 						}
 
+						if (try_scan(&scan_start, "parallel")) {
+							miscFlags |= J9MODRON_GCCHK_MISC_PARALLEL;
+							continue;
+						}
+
+						if (try_scan(&scan_start, "noparallel")) {
+							miscFlags &= ~J9MODRON_GCCHK_MISC_PARALLEL;
+							continue;
+						}
+
 						if (try_scan(&scan_start, "interval=")) {
 							scan_udata(&scan_start, &extensions->gcInterval);
 							miscFlags |= J9MODRON_GCCHK_INTERVAL;
@@ -32,6 +32,7 @@
 #include "j9.h"
 #include "j9cfg.h"
 
+#include "AtomicOperations.hpp"
 #include "Base.hpp"
 #include "CheckBase.hpp"
 
@@ -56,7 +57,7 @@ private:
 	UDATA _miscFlags;
 	GCCheckInvokedBy _invokedBy; /**< What stage of GC invoked the check */
 	UDATA _manualCheckInvocation; /**< Allow user to identify which installed GCCheck triggered message */
-	UDATA _errorCount; /**< Number of errors encountered  */
+	volatile UDATA _errorCount; /**< Number of errors encountered (updated atomically, since parallel checks report from several threads) */
 	
 	GC_Check *_checks; /**< Pointer to head of linked list of checks to run in this cycle */
 	
@@ -85,7 +86,7 @@ public:
 	GCCheckInvokedBy getInvoker() { return _invokedBy; };
 	UDATA getManualCheckNumber() { return _manualCheckInvocation; };
 	
-	UDATA nextErrorCount() { return ++_errorCount; };
+	UDATA nextErrorCount() { return MM_AtomicOperations::add(&_errorCount, 1); };
 	
 	/**
 	 * Run the checks
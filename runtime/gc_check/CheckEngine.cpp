@@ -37,6 +37,7 @@
 #endif
 
 #include "ArrayletLeafIterator.hpp"
+#include "AtomicOperations.hpp"
 #include "CheckEngine.hpp"
 #include "Base.hpp"
 #include "CheckBase.hpp"
@@ -1346,6 +1347,45 @@ GC_CheckEngine::startNewCheck(GC_Check *check)
 	clearPreviousObjects();
 }
 
+/**
+ * Prepare a worker engine to run part of the parent's current check.
+ * Each parallel check thread walks with its own engine so that the previous object
+ * history and the checked caches stay private to the thread; the cycle and reporter
+ * are shared with the parent.  The heap walk start hook is not triggered again.
+ *
+ * @param parent The engine which started the check cycle
+ */
+void
+GC_CheckEngine::startWorkerCheck(GC_CheckEngine *parent)
+{
+	_cycle = parent->_cycle;
+	_currentCheck = parent->_currentCheck;
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+	_scavengerBackout = parent->_scavengerBackout;
+	_rsOverflowState = parent->_rsOverflowState;
+#endif /* J9VM_GC_MODRON_SCAVENGER */
+	clearPreviousObjects();
+	clearRegionDescription(&_regionDesc);
+	clearCheckedCache();
+
+	_ownableSynchronizerObjectCountOnList = UNINITIALIZED_SIZE_FOR_OWNABLESYNCHRONIER;
+	_ownableSynchronizerObjectCountOnHeap = 0;
+}
+
+/**
+ * Fold the results of a worker engine back into this engine once the worker has
+ * finished its share of the current check.  May be called concurrently by several workers.
+ *
+ * @param worker The engine used by the parallel check thread
+ */
+void
+GC_CheckEngine::mergeWorkerCheck(GC_CheckEngine *worker)
+{
+	if ((UNINITIALIZED_SIZE_FOR_OWNABLESYNCHRONIER != _ownableSynchronizerObjectCountOnHeap) && (0 != worker->_ownableSynchronizerObjectCountOnHeap)) {
+		MM_AtomicOperations::add(&_ownableSynchronizerObjectCountOnHeap, worker->_ownableSynchronizerObjectCountOnHeap);
+	}
+}
+
 /**
  * Ensure the GC internal scope pointers refer to objects within the scope.
  *
@@ -123,6 +123,8 @@ protected:
 
 public:
 	MMINLINE J9JavaVM *getJavaVM() { return _javaVM; };
+	MMINLINE GC_CheckReporter *getReporter() { return _reporter; };
+	MMINLINE GC_CheckCycle *getCycle() { return _cycle; };
 
 	void clearPreviousObjects();
 	void pushPreviousObject(J9Object *objectPtr);
@@ -161,6 +163,8 @@ public:
 	void startCheckCycle(J9JavaVM *javaVM, GC_CheckCycle *checkCycle);
 	void endCheckCycle(J9JavaVM *javaVM);
 	void startNewCheck(GC_Check *check);	
+	void startWorkerCheck(GC_CheckEngine *parent);
+	void mergeWorkerCheck(GC_CheckEngine *worker);
 	bool isStackDumpAlwaysDisplayed();
 	void copyRegionDescription(J9MM_IterateRegionDescriptor* from, J9MM_IterateRegionDescriptor* to);
 	void clearRegionDescription(J9MM_IterateRegionDescriptor* toClear);
@@ -22,6 +22,7 @@
 
 #include "CheckEngine.hpp"
 #include "CheckObjectHeap.hpp"
+#include "EnvironmentBase.hpp"
 #include "MemorySubSpace.hpp"
 #include "ModronTypes.hpp"
 #include "ScanFormatter.hpp"
@@ -32,6 +33,7 @@
  * by the region iterator callback.
  */
 typedef struct ObjectIteratorCallbackUserData {
+	MM_EnvironmentBase* env; /* Input - the worker thread when checking in parallel, otherwise NULL */
 	GC_CheckEngine* engine; /* Input */
 	J9PortLibrary* portLibrary; /* Input */
 	J9MM_IterateRegionDescriptor* regionDesc; /* Temp - used internally by iterator functions */
@@ -66,10 +68,29 @@ GC_CheckObjectHeap::kill()
 
 void
 GC_CheckObjectHeap::check()
+{
+	checkHeap(NULL, _engine);
+}
+
+void
+GC_CheckObjectHeap::checkParallel(MM_EnvironmentBase *env, GC_CheckEngine *engine)
+{
+	checkHeap(env, engine);
+}
+
+/**
+ * Walk the object heap, checking every object.
+ * @param env The worker thread environment when checking in parallel, in which case only the regions
+ * claimed by the worker are walked, or NULL to walk every region
+ * @param engine The engine to check the objects with
+ */
+void
+GC_CheckObjectHeap::checkHeap(MM_EnvironmentBase *env, GC_CheckEngine *engine)
 {
 	/* Check by using the HeapIteratorAPI */
 	ObjectIteratorCallbackUserData userData;
-	userData.engine = _engine;
+	userData.env = env;
+	userData.engine = engine;
 	userData.portLibrary = _portLibrary;
 	userData.regionDesc = NULL;
 	_javaVM->memoryManagerFunctions->j9mm_iterate_heaps(_javaVM, _portLibrary, 0, check_heapIteratorCallback, &userData);
@@ -102,6 +123,14 @@ static jvmtiIterationControl
 check_regionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDesc, void* userData)
 {
 	ObjectIteratorCallbackUserData* castUserData = (ObjectIteratorCallbackUserData*)userData;
+	MM_EnvironmentBase* env = castUserData->env;
+	if (NULL != env) {
+		/* every worker walks the same region list, each region is checked by the worker that claims it */
+		if (!J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
+			return JVMTI_ITERATION_CONTINUE;
+		}
+		castUserData->engine->clearPreviousObjects();
+	}
 	castUserData->regionDesc = regionDesc;
 	vm->memoryManagerFunctions->j9mm_iterate_region_objects(vm, castUserData->portLibrary, regionDesc, j9mm_iterator_flag_include_holes, check_objectIteratorCallback, castUserData);
 	return JVMTI_ITERATION_CONTINUE;
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Check
+ */
+
+#include "CheckParallelTask.hpp"
+
+#include "Check.hpp"
+#include "CheckEngine.hpp"
+#include "EnvironmentBase.hpp"
+#include "ParallelDispatcher.hpp"
+
+GC_CheckParallelTask::GC_CheckParallelTask(MM_EnvironmentBase *env, MM_ParallelDispatcher *dispatcher, GC_Check *check, GC_CheckEngine *engine)
+	: MM_ParallelTask(env, dispatcher)
+	, _check(check)
+	, _engine(engine)
+	, _vmStateID(env->getOmrVMThread()->vmState)
+{
+	_typeId = __FUNCTION__;
+}
+
+void
+GC_CheckParallelTask::run(MM_EnvironmentBase *env)
+{
+	GC_CheckEngine workerEngine(_engine->getJavaVM(), _engine->getReporter());
+
+	workerEngine.startWorkerCheck(_engine);
+	_check->runParallel(env, &workerEngine);
+	_engine->mergeWorkerCheck(&workerEngine);
+}
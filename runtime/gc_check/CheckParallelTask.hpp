@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Check
+ */
+
+#if !defined(CHECKPARALLELTASK_HPP_)
+#define CHECKPARALLELTASK_HPP_
+
+#include "j9.h"
+#include "j9cfg.h"
+
+#include "ParallelTask.hpp"
+
+class GC_Check;
+class GC_CheckEngine;
+class MM_EnvironmentBase;
+class MM_ParallelDispatcher;
+
+/**
+ * Run a single GC_Check across all GC worker threads.
+ * Each worker walks with a private GC_CheckEngine sharing the dispatching engine's
+ * cycle and reporter, and merges its results back once its share of the work is done.
+ * @ingroup GC_Check
+ */
+class GC_CheckParallelTask : public MM_ParallelTask
+{
+	/*
+	 * Data members
+	 */
+private:
+	GC_Check *_check; /**< The check being split across the worker threads */
+	GC_CheckEngine *_engine; /**< The engine of the dispatching thread, which owns the check cycle */
+	UDATA _vmStateID; /**< The vmState of the dispatching thread (before or after GC check) */
+
+protected:
+public:
+
+	/*
+	 * Function members
+	 */
+private:
+protected:
+public:
+	virtual UDATA getVMStateID() { return _vmStateID; }
+	virtual void run(MM_EnvironmentBase *env);
+
+	GC_CheckParallelTask(MM_EnvironmentBase *env, MM_ParallelDispatcher *dispatcher, GC_Check *check, GC_CheckEngine *engine);
+};
+
+#endif /* CHECKPARALLELTASK_HPP_ */
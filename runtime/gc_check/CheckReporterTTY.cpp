@@ -114,10 +114,23 @@ GC_CheckReporterTTY::newInstance(J9JavaVM *javaVM)
 	GC_CheckReporterTTY *reporter = (GC_CheckReporterTTY *)forge->allocate(sizeof(GC_CheckReporterTTY), MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
 	if (reporter) {
 		reporter = new(reporter) GC_CheckReporterTTY(javaVM);
+		if (!reporter->initialize()) {
+			reporter->kill();
+			reporter = NULL;
+		}
 	}
 	return reporter;
 }
 
+/**
+ * Initialize the reporter.
+ */
+bool
+GC_CheckReporterTTY::initialize()
+{
+	return 0 == omrthread_monitor_init_with_name(&_reportMonitor, 0, "GC check reporter");
+}
+
 /**
  * Destroy the instance of the reporter.
  */
@@ -125,9 +138,22 @@ void
 GC_CheckReporterTTY::kill()
 {
 	MM_Forge *forge = MM_GCExtensions::getExtensions(_javaVM)->getForge();
+	tearDown();
 	forge->free(this);
 }
 
+/**
+ * Free the resources held by the reporter.
+ */
+void
+GC_CheckReporterTTY::tearDown()
+{
+	if (NULL != _reportMonitor) {
+		omrthread_monitor_destroy(_reportMonitor);
+		_reportMonitor = NULL;
+	}
+}
+
 /**
  * Report an error to the terminal.
  * 
@@ -143,6 +169,9 @@ GC_CheckReporterTTY::report(GC_CheckError *error)
 		return;
 	}
 
+	/* Reports are made up of several lines, and parallel checks may report concurrently */
+	omrthread_monitor_enter(_reportMonitor);
+
 	/* If slot is NULL, we are not scanning the slots of an object, but looking directly at an object/class on the heap. */
 	if (error->_slot) {
 		const void *slot = error->_slot;
@@ -184,6 +213,8 @@ GC_CheckReporterTTY::report(GC_CheckError *error)
 			reportObjectHeader(error, (J9Object*)error->_object, "");
 		}	
 	}	
+
+	omrthread_monitor_exit(_reportMonitor);
 }
 
 /**
@@ -205,6 +236,8 @@ GC_CheckReporterTTY::reportObjectHeader(GC_CheckError *error, J9Object *objectPt
 		return;
 	}
 
+	omrthread_monitor_enter(_reportMonitor);
+
 	if (extensions->objectModel.isIndexable(objectPtr)) {
 		j9tty_printf(PORTLIB, "  <gc check (%zu): %sIObject %p header:", error->_errorNumber, prefixString, objectPtr);
 	} else {
@@ -219,6 +252,8 @@ GC_CheckReporterTTY::reportObjectHeader(GC_CheckError *error, J9Object *objectPt
 	}
 	
 	j9tty_printf(PORTLIB, ">\n");
+
+	omrthread_monitor_exit(_reportMonitor);
 }
 
 /**
@@ -252,7 +287,9 @@ GC_CheckReporterTTY::reportFatalError(GC_CheckError *error)
 {
 	PORT_ACCESS_FROM_PORT(_portLibrary);
 
+	omrthread_monitor_enter(_reportMonitor);
 	j9tty_printf(PORTLIB, "  <gc check (%zu): Cannot resolve problem detected on heap, aborting check>\n", error->_errorNumber);
+	omrthread_monitor_exit(_reportMonitor);
 }
 
 /**
@@ -263,6 +300,7 @@ GC_CheckReporterTTY::reportHeapWalkError(GC_CheckError *error, GC_CheckElement p
 {
 	PORT_ACCESS_FROM_PORT(_portLibrary);
 
+	omrthread_monitor_enter(_reportMonitor);
 	reportFatalError(error);
 	if (previousObjectPtr1.type != GC_CheckElement::type_none) {
 		reportGenericType(error, previousObjectPtr1, "Previous ");
@@ -275,5 +313,6 @@ GC_CheckReporterTTY::reportHeapWalkError(GC_CheckError *error, GC_CheckElement p
 	} else {
 		j9tty_printf(PORTLIB, "  <gc check (%zu): %p was first object encountered on heap>\n", error->_errorNumber, error->_object);
 	}
+	omrthread_monitor_exit(_reportMonitor);
 }
 
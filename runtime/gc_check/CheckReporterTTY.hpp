@@ -44,6 +44,10 @@ class GC_CheckError;
 class GC_CheckReporterTTY : public GC_CheckReporter
 {
 private:
+	omrthread_monitor_t _reportMonitor; /**< Serializes multi-line reports emitted by parallel check threads */
+
+	bool initialize();
+	void tearDown();
 
 public:
 	static GC_CheckReporterTTY *newInstance(J9JavaVM *javaVM);
@@ -59,6 +63,7 @@ public:
 	 */
 	GC_CheckReporterTTY(J9JavaVM *javaVM) :
 		GC_CheckReporter(javaVM)
+		, _reportMonitor(NULL)
 	{}
 };
 
@@ -51,6 +51,10 @@ public:
 	MM_ReferenceObjectBuffer *_referenceObjectBuffer; /**< The thread-specific buffer of recently discovered reference objects */
 	MM_UnfinalizedObjectBuffer *_unfinalizedObjectBuffer; /**< The thread-specific buffer of recently allocated unfinalized objects */
 	MM_OwnableSynchronizerObjectBuffer *_ownableSynchronizerObjectBuffer; /**< The thread-specific buffer of recently allocated ownable synchronizer objects */
+	UDATA _allocationSiteBytesAllocated; /**< The thread's allocated bytes when the allocation site profiler last checked it */
+	UDATA _allocationSiteBytesUntilSample; /**< Bytes the thread may allocate before its next allocation site sample, 0 before the first check */
+	U_64 _rootScanTime; /**< hires ticks spent by this thread scanning roots since verbose GC last reported it */
+	U_64 _rootScanThreadsTime; /**< the part of _rootScanTime spent scanning threads (stacks and thread slots) */
 
 	/* Function members */
 private:
@@ -60,6 +64,10 @@ public:
 		:_referenceObjectBuffer(NULL)
 		,_unfinalizedObjectBuffer(NULL)
 		,_ownableSynchronizerObjectBuffer(NULL)
+		,_allocationSiteBytesAllocated(0)
+		,_allocationSiteBytesUntilSample(0)
+		,_rootScanTime(0)
+		,_rootScanThreadsTime(0)
 	{}
 };
 
@@ -102,6 +102,7 @@
 #include "SlotObject.hpp"
 #include "StandardAccessBarrier.hpp"
 #include "SublistFragment.hpp"
+#include "StringDeduplicator.hpp"
 #include "StringTable.hpp"
 #include "Task.hpp"
 #include "UnfinalizedObjectBuffer.hpp"
@@ -298,6 +299,12 @@ MM_ScavengerDelegate::getObjectScanner(MM_EnvironmentStandard *env, omrobjectptr
 	GC_ObjectScanner *objectScanner = NULL;
 	J9Class *clazzPtr = J9GC_J9OBJECT_CLAZZ(objectPtr, env);
 
+	MM_StringDeduplicator *stringDeduplicator = _extensions->stringDeduplicator;
+	if ((NULL != stringDeduplicator) && (GC_ObjectScanner::scanHeap == flags) && !_extensions->scavenger->isObjectInNewSpace(objectPtr)) {
+		/* object was just tenured */
+		stringDeduplicator->enqueueIfString(objectPtr, clazzPtr);
+	}
+
 	switch(_extensions->objectModel.getScanType(clazzPtr)) {
 	case GC_ObjectModel::SCAN_MIXED_OBJECT_LINKED:
 		_extensions->scavenger->deepScan(env, objectPtr, clazzPtr->selfReferencingField1, clazzPtr->selfReferencingField2);
@@ -233,6 +233,21 @@ j9mm_iterate_regions(J9JavaVM *vm, J9PortLibrary *portLibrary, J9MM_IterateSpace
 jvmtiIterationControl
 j9mm_iterate_region_objects(J9JavaVM *vm, J9PortLibrary *portLibrary, J9MM_IterateRegionDescriptor *region, UDATA flags, jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, void *userData), void *userData);
 
+/**
+ * Walk the objects of the given region that start in [base, top), call user provided function.
+ *
+ * The caller must have exclusive VM access.
+ *
+ * @param region The descriptor for the region that should be walked
+ * @param base The start of an object or hole of the region to begin the walk at, or NULL for the bottom of the region
+ * @param top The address at which the walk stops, or NULL for the top of the region
+ * @param flags The flags describing the walk (0 or j9mm_iterator_flag_include_holes)
+ * @param func The function to call on each object descriptor.
+ * @param userData Pointer to storage for userData.
+ */
+jvmtiIterationControl
+j9mm_iterate_region_objects_in_range(J9JavaVM *vm, J9PortLibrary *portLibrary, J9MM_IterateRegionDescriptor *region, void *base, void *top, UDATA flags, jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, void *userData), void *userData);
+
 /**
  * Walk all object slots for the given object, call user provided function.
  * @param object The descriptor for the object that should be walked
@@ -185,6 +185,15 @@ typedef jvmtiIterationControl J9MODRON_REFERENCE_CHAIN_WALKER_CALLBACK(J9Object
 
 /** @} */
 
+/**
+ * @ingroup GC_Include
+ * @name Finalizer worker pool limits
+ * @{
+ */
+#define J9_FINALIZE_MAX_WORKER_THREADS 64
+#define J9_FINALIZE_DRAIN_RATE_WINDOW_MILLIS 1000
+/** @} */
+
 /**
  * @ingroup GC_Include
  * @name Metronome CPU utilization component type flags.
@@ -95,6 +95,16 @@ dummygcDumpMemorySizes(J9JavaVM *javaVM)
 {
 }
 
+/**
+ * Dummy function for verbose function table.
+ * @return 0
+ */
+UDATA
+dummygcVerboseBinaryLogStartup(J9JavaVM *javaVM)
+{
+	return 0;
+}
+
 /**
  * Initialises the verbose function table with the dummy routines.
  * @param table Pointer to the Verbose function table.
@@ -107,6 +117,7 @@ initializeVerboseFunctionTableWithDummies(J9MemoryManagerVerboseInterface *table
 	table->gcDumpMemorySizes = dummygcDumpMemorySizes;
 	table->configureVerbosegc = dummyconfigureVerbosegc;
 	table->queryVerbosegc = dummyQueryVerbosegc;
+	table->gcVerboseBinaryLogStartup = dummygcVerboseBinaryLogStartup;
 }
 
 } /* extern "C" */
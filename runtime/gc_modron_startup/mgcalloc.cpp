@@ -37,6 +37,7 @@
 #include "rommeth.h"
 
 #include "AllocateDescription.hpp"
+#include "AllocationSiteProfiler.hpp"
 #include "AtomicOperations.hpp"
 #include "EnvironmentBase.hpp"
 #include "GlobalCollector.hpp"
@@ -96,6 +97,12 @@ J9AllocateObjectNoGC(J9VMThread *vmThread, J9Class *clazz, uintptr_t allocateFla
 	}
 #endif /* J9VM_GC_THREAD_LOCAL_HEAP */
 
+	MM_AllocationSiteProfiler *allocationSiteProfiler = MM_GCExtensions::getExtensions(env)->allocationSiteProfiler;
+	if ((NULL != allocationSiteProfiler) && allocationSiteProfiler->isSampleDue(env)) {
+		/* fail so that the allocation is retried on the out-of-line path, where the stack can be walked */
+		return NULL;
+	}
+
 	Assert_MM_true(allocateFlags & OMR_GC_ALLOCATE_OBJECT_INSTRUMENTABLE);
 	// TODO: respect or reject tenured flag?
 	Assert_MM_false(allocateFlags & OMR_GC_ALLOCATE_OBJECT_TENURED);
@@ -336,6 +343,12 @@ J9AllocateIndexableObjectNoGC(J9VMThread *vmThread, J9Class *clazz, uint32_t num
 	}
 #endif /* J9VM_GC_THREAD_LOCAL_HEAP */
 
+	MM_AllocationSiteProfiler *allocationSiteProfiler = MM_GCExtensions::getExtensions(env)->allocationSiteProfiler;
+	if ((NULL != allocationSiteProfiler) && allocationSiteProfiler->isSampleDue(env)) {
+		/* fail so that the allocation is retried on the out-of-line path, where the stack can be walked */
+		return NULL;
+	}
+
 	Assert_MM_true(allocateFlags & OMR_GC_ALLOCATE_OBJECT_INSTRUMENTABLE);
 	// TODO: respect or reject tenured flag?
 	Assert_MM_false(allocateFlags & OMR_GC_ALLOCATE_OBJECT_TENURED);
@@ -485,6 +498,9 @@ J9AllocateObject(J9VMThread *vmThread, J9Class *clazz, uintptr_t allocateFlags)
 		TRIGGER_J9HOOK_MM_PRIVATE_OUT_OF_MEMORY(extensions->privateHookInterface, vmThread->omrVMThread, j9time_hires_clock(), J9HOOK_MM_PRIVATE_OUT_OF_MEMORY, memorySpace, memorySpace->getName());
 	} else {
 		objectPtr = traceAllocateObject(vmThread, objectPtr, clazz, sizeInBytesRequired);
+		if (NULL != extensions->allocationSiteProfiler) {
+			extensions->allocationSiteProfiler->sampleAllocation(vmThread, objectPtr, clazz);
+		}
 		if (extensions->isStandardGC()) {
 			if (OMR_GC_ALLOCATE_OBJECT_TENURED == (allocateFlags & OMR_GC_ALLOCATE_OBJECT_TENURED)) {
 				/* Object must be allocated in Tenure if it is requested */
@@ -612,6 +628,9 @@ J9AllocateIndexableObject(J9VMThread *vmThread, J9Class *clazz, uint32_t numberO
 		}
 		
 		objectPtr = traceAllocateObject(vmThread, objectPtr, clazz, sizeInBytesRequired, (uintptr_t)numberOfIndexedFields);
+		if (NULL != extensions->allocationSiteProfiler) {
+			extensions->allocationSiteProfiler->sampleAllocation(vmThread, objectPtr, clazz);
+		}
 		if (extensions->isStandardGC()) {
 			if (OMR_GC_ALLOCATE_OBJECT_TENURED == (allocateFlags & OMR_GC_ALLOCATE_OBJECT_TENURED)) {
 				/* Object must be allocated in Tenure if it is requested */
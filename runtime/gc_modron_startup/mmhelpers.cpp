@@ -217,6 +217,37 @@ j9gc_get_objects_pending_finalization_count(J9JavaVM *javaVM)
 {
 	return MM_GCExtensions::getExtensions(javaVM)->finalizeListManager->getJobCount();
 }
+
+/**
+ * Return the number of finalize jobs (finalizers run and references enqueued) completed since startup.
+ * Sampled over time, this gives the rate at which the finalize queue is drained.
+ * @return number of completed finalize jobs
+ */
+UDATA
+j9gc_get_finalizer_completed_job_count(J9JavaVM *javaVM)
+{
+	return MM_GCExtensions::getExtensions(javaVM)->finalizeListManager->getCompletedJobCount();
+}
+
+/**
+ * Return the number of threads processing the finalize queue.
+ * @return number of finalize worker threads
+ */
+UDATA
+j9gc_get_finalizer_worker_thread_count(J9JavaVM *javaVM)
+{
+	return MM_GCExtensions::getExtensions(javaVM)->finalizeListManager->getWorkerCount();
+}
+
+/**
+ * Return the rate at which the finalize queue was drained during the last closed sample window.
+ * @return drain rate in finalize jobs per second
+ */
+double
+j9gc_get_finalizer_drain_rate(J9JavaVM *javaVM)
+{
+	return MM_GCExtensions::getExtensions(javaVM)->finalizeListManager->getDrainRate();
+}
 #endif /* J9VM_GC_FINALIZATION */
 
 UDATA
@@ -51,6 +51,7 @@
 #include "Tgc.hpp"
 #endif /* J9VM_GC_MODRON_TRACE && !defined(J9VM_GC_REALTIME) */
 
+#include "AllocationSiteProfiler.hpp"
 #if defined (J9VM_GC_HEAP_CARD_TABLE)
 #include "CardTable.hpp"
 #endif /* defined (J9VM_GC_HEAP_CARD_TABLE) */
@@ -101,6 +102,7 @@
 #include "RememberedSetSATB.hpp"
 #endif /* J9VM_GC_REALTIME */
 #include "Scavenger.hpp"
+#include "StringDeduplicator.hpp"
 #include "StringTable.hpp"
 #include "Validator.hpp"
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
@@ -294,6 +296,16 @@ gcCleanupHeapStructures(J9JavaVM * vm)
 	}
 #endif /* J9VM_GC_FINALIZATION */
 
+	if (NULL != extensions->stringDeduplicator) {
+		extensions->stringDeduplicator->kill(&env);
+		extensions->stringDeduplicator = NULL;
+	}
+
+	if (NULL != extensions->allocationSiteProfiler) {
+		extensions->allocationSiteProfiler->kill(&env);
+		extensions->allocationSiteProfiler = NULL;
+	}
+
 	if (vm->mainThread && vm->mainThread->threadObject) {
 		/* main thread has not been deallocated yet, but heap has gone */
 		vm->mainThread->threadObject = NULL;
@@ -478,6 +490,28 @@ j9gc_initialize_heap(J9JavaVM *vm, IDATA *memoryParameterTable, UDATA heapBytesR
 		goto error_no_memory;
 	}
 
+	/* String deduplication needs a tenuring point (gencon or balanced) and a collector that does not move
+	 * objects concurrently, and relies on the String table being scanned as a clearable root.
+	 */
+	if (extensions->stringDeduplication
+		&& (extensions->scavengerEnabled || extensions->isVLHGC())
+		&& !extensions->isConcurrentScavengerEnabled()
+		&& extensions->collectStringConstants
+	) {
+		extensions->stringDeduplicator = MM_StringDeduplicator::newInstance(&env, extensions->dispatcher->threadCountMaximum(), extensions->stringDeduplicationQueueSize);
+		if (NULL == extensions->stringDeduplicator) {
+			goto error_no_memory;
+		}
+	}
+
+	/* Allocation sites are sampled on the TLH refresh path, so only policies allocating from TLHs are supported */
+	if (extensions->allocationSiteProfiling && (extensions->isStandardGC() || extensions->isVLHGC())) {
+		extensions->allocationSiteProfiler = MM_AllocationSiteProfiler::newInstance(&env, extensions->allocationSiteSampleInterval, extensions->allocationSiteTableSize, extensions->allocationSiteTrackedSamples);
+		if (NULL == extensions->allocationSiteProfiler) {
+			goto error_no_memory;
+		}
+	}
+
 	/* Initialize statistic locks */
 	if (omrthread_monitor_init_with_name(&extensions->gcStatsMutex, 0, "MM_GCExtensions::gcStats")) {
 		loadInfo->fatalErrorStr = (char *)j9nls_lookup_message(J9NLS_DO_NOT_PRINT_MESSAGE_TAG | J9NLS_DO_NOT_APPEND_NEWLINE, J9NLS_GC_FAILED_TO_INITIALIZE_MUTEX, "Failed to initialize mutex for GC statistics.");
@@ -596,6 +630,26 @@ gcStartupHeapManagement(J9JavaVM *javaVM)
 		return result;
 	}
 
+	if (NULL != extensions->stringDeduplicator) {
+		MM_EnvironmentBase env(javaVM->omrVM);
+		if (!extensions->stringDeduplicator->startupThread(&env)) {
+			/* deduplication is an optimization, run without it */
+			MM_StringDeduplicator *stringDeduplicator = extensions->stringDeduplicator;
+			extensions->stringDeduplicator = NULL;
+			stringDeduplicator->kill(&env);
+		}
+	}
+
+	if (NULL != extensions->allocationSiteProfiler) {
+		MM_EnvironmentBase env(javaVM->omrVM);
+		if (!extensions->allocationSiteProfiler->startup(&env)) {
+			/* profiling is diagnostic only, run without it */
+			MM_AllocationSiteProfiler *allocationSiteProfiler = extensions->allocationSiteProfiler;
+			extensions->allocationSiteProfiler = NULL;
+			allocationSiteProfiler->kill(&env);
+		}
+	}
+
 	return result;
 }
 
@@ -712,6 +766,16 @@ gcShutdownHeapManagement(J9JavaVM *javaVM)
 	j9gc_finalizer_shutdown(javaVM);
 #endif /* J9VM_GC_FINALIZATION */
 
+	if (NULL != extensions->stringDeduplicator) {
+		MM_EnvironmentBase env(javaVM->omrVM);
+		extensions->stringDeduplicator->shutdownThread(&env);
+	}
+
+	if (NULL != extensions->allocationSiteProfiler) {
+		MM_EnvironmentBase env(javaVM->omrVM);
+		extensions->allocationSiteProfiler->shutdown(&env);
+	}
+
 	/* Kickoff shutdown of global collector */
 	if (NULL != globalCollector) {
 		globalCollector->collectorShutdown(extensions);
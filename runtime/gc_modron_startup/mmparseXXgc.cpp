@@ -289,6 +289,15 @@ gcParseXXgcArguments(J9JavaVM *vm, char *optArg)
 			continue;
 		}
 		
+		if (try_scan(&scan_start, "tarokCoarseRememberedSetMaxCount=")) {
+			if(!scan_udata_helper(vm, &scan_start, &(extensions->tarokCoarseRememberedSetMaxCount), "tarokCoarseRememberedSetMaxCount=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+
+			continue;
+		}
+
 		if (try_scan(&scan_start, "tarokRememberedSetCardListSize=")) {
 			if(!scan_udata_memory_size_helper(vm, &scan_start, &(extensions->tarokRememberedSetCardListSize), "tarokRememberedSetCardListSize=")) {
 				returnValue = JNI_EINVAL;
@@ -551,6 +560,14 @@ gcParseXXgcArguments(J9JavaVM *vm, char *optArg)
 			extensions->tarokEnableLeafFirstCopying = false;
 			continue;
 		}
+		if (try_scan(&scan_start, "tarokEnableCoarseRememberedSets")) {
+			extensions->tarokEnableCoarseRememberedSets = true;
+			continue;
+		}
+		if (try_scan(&scan_start, "tarokDisableCoarseRememberedSets")) {
+			extensions->tarokEnableCoarseRememberedSets = false;
+			continue;
+		}
 		if (try_scan(&scan_start, "tarokEnableStableRegionDetection")) {
 			extensions->tarokEnableStableRegionDetection = true;
 			continue;
@@ -34,6 +34,7 @@ static const char *versionString = "Modron $Name: not supported by cvs2svn $";
 #include "j9consts.h"
 #include "jni.h"
 #include "jvminit.h"
+#include "j9modron.h"
 #include "j9port.h"
 #include "modronnls.h"
 #include "gcutils.h"
@@ -1298,6 +1299,30 @@ gcParseXgcArguments(J9JavaVM *vm, char *optArg)
 			}
 			continue;
 		}
+		if (try_scan(&scan_start, "finalizeWorkerThreads=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->finalizeWorkerThreads, "finalizeWorkerThreads=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if((extensions->finalizeWorkerThreads < 1) || (extensions->finalizeWorkerThreads > J9_FINALIZE_MAX_WORKER_THREADS)) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_INTEGER_OUT_OF_RANGE, "-Xgc:finalizeWorkerThreads", (UDATA)1, (UDATA)J9_FINALIZE_MAX_WORKER_THREADS);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+		if (try_scan(&scan_start, "finalizeWorkerBatchSize=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->finalizeWorkerBatchSize, "finalizeWorkerBatchSize=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if(0 == extensions->finalizeWorkerBatchSize) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "-Xgc:finalizeWorkerBatchSize=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
 #endif /* J9VM_GC_FINALIZATION */
 
 #if defined(J9MODRON_USE_CUSTOM_SPINLOCKS)
@@ -1497,6 +1522,110 @@ gcParseXgcArguments(J9JavaVM *vm, char *optArg)
 			break;
 		}
 
+		if (try_scan(&scan_start, "stringDeduplicationQueueSize=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->stringDeduplicationQueueSize, "stringDeduplicationQueueSize=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->stringDeduplicationQueueSize) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "stringDeduplicationQueueSize=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "stringDeduplication")) {
+			extensions->stringDeduplication = true;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "noStringDeduplication")) {
+			extensions->stringDeduplication = false;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "allocationSiteSampleInterval=")) {
+			if(!scan_udata_memory_size_helper(vm, &scan_start, &extensions->allocationSiteSampleInterval, "allocationSiteSampleInterval=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->allocationSiteSampleInterval) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "allocationSiteSampleInterval=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "allocationSiteTableSize=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->allocationSiteTableSize, "allocationSiteTableSize=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->allocationSiteTableSize) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "allocationSiteTableSize=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "allocationSiteTrackedSamples=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->allocationSiteTrackedSamples, "allocationSiteTrackedSamples=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->allocationSiteTrackedSamples) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "allocationSiteTrackedSamples=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "allocationSiteProfiler")) {
+			extensions->allocationSiteProfiling = true;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "noAllocationSiteProfiler")) {
+			extensions->allocationSiteProfiling = false;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "verboseBinaryLogRecords=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->verboseBinaryLogRecords, "verboseBinaryLogRecords=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->verboseBinaryLogRecords) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "verboseBinaryLogRecords=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "verboseBinaryLog=")) {
+			char *fileName = scan_to_delim(PORTLIB, &scan_start, ',');
+			if ((NULL == fileName) || ('\0' == *fileName)) {
+				j9mem_free_memory(fileName);
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTION_UNKNOWN, error_scan);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			/* the last occurrence of the option wins */
+			j9mem_free_memory(extensions->verboseBinaryLogFileName);
+			extensions->verboseBinaryLogFileName = fileName;
+			continue;
+		}
+
+		if (try_scan(&scan_start, "verboseRootScanTimes")) {
+			extensions->verboseRootScanTimes = true;
+			continue;
+		}
+
 		/* Couldn't find a match for arguments */
 		j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTION_UNKNOWN, error_scan);
 		returnValue = JNI_EINVAL;
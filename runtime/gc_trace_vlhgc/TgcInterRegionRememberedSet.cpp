@@ -59,8 +59,8 @@ getUpperBoundDuplicatesCount(MM_EnvironmentVLHGC *env, MM_RememberedSetCardList
 	if (MM_GCExtensions::getExtensions(env)->tarokTgcEnableRememberedSetDuplicateDetection) {
 		MM_TgcExtensions *tgcExtensions = MM_TgcExtensions::getExtensions(MM_GCExtensions::getExtensions(env));
 
-		/* If lazy initialize of _rsclDistinctFlagArray failed, we'll skip calculating duplicates */
-		if (NULL != tgcExtensions->_rsclDistinctFlagArray) {
+		/* If lazy initialize of _rsclDistinctFlagArray failed, we'll skip calculating duplicates. Coarse lists have no duplicates to count. */
+		if ((NULL != tgcExtensions->_rsclDistinctFlagArray) && !rscl->isCoarse()) {
 			UDATA cardListSize = rscl->getSize(env);
 			UDATA distinctFlagArraySize = cardListSize << DISTINCT_FLAG_ARRAY_SHIFT;
 			for (UDATA i = 0; i < distinctFlagArraySize; i++) {
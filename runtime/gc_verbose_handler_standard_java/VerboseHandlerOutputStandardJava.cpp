@@ -36,6 +36,7 @@
 #include "VerboseManager.hpp"
 #include "VerboseWriterChain.hpp"
 #include "VerboseHandlerJava.hpp"
+#include "VMThreadListIterator.hpp"
 
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 static void verboseHandlerClassUnloadingEnd(J9HookInterface** hook, UDATA eventNum, void* eventData, void* userData);
@@ -79,6 +80,7 @@ void
 MM_VerboseHandlerOutputStandardJava::outputMemoryInfoInnerStanzaInternal(MM_EnvironmentBase *env, UDATA indent, MM_CollectionStatistics *statsBase)
 {
 	MM_VerboseHandlerJava::outputFinalizableInfo(_manager, env, indent);
+	MM_VerboseHandlerJava::outputStringDeduplicationInfo(_manager, env, indent);
 }
 
 void
@@ -147,6 +149,32 @@ MM_VerboseHandlerOutputStandardJava::outputReferenceInfo(MM_EnvironmentBase *env
 	}
 }
 
+void
+MM_VerboseHandlerOutputStandardJava::outputRootScanTimes(MM_EnvironmentBase *env, UDATA indent)
+{
+	if (_extensions->verboseRootScanTimes) {
+		PORT_ACCESS_FROM_ENVIRONMENT(env);
+		GC_VMThreadListIterator threadIterator((J9JavaVM *)env->getLanguageVM());
+		J9VMThread *thread = NULL;
+
+		while (NULL != (thread = threadIterator.nextVMThread())) {
+			MM_EnvironmentBase *threadEnv = MM_EnvironmentBase::getEnvironment(thread->omrVMThread);
+			GC_Environment *gcEnv = threadEnv->getGCEnvironment();
+
+			if (0 != gcEnv->_rootScanTime) {
+				U_64 scanTime = j9time_hires_delta(0, gcEnv->_rootScanTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
+				U_64 threadsTime = j9time_hires_delta(0, gcEnv->_rootScanThreadsTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
+
+				_manager->getWriterChain()->formatAndOutput(env, indent, "<root-scan gcthreadid=\"%zu\" timems=\"%llu.%03.3llu\" threadsms=\"%llu.%03.3llu\" />",
+						threadEnv->getWorkerID(), scanTime / 1000, scanTime % 1000, threadsTime / 1000, threadsTime % 1000);
+
+				gcEnv->_rootScanTime = 0;
+				gcEnv->_rootScanThreadsTime = 0;
+			}
+		}
+	}
+}
+
 void
 MM_VerboseHandlerOutputStandardJava::handleMarkEndInternal(MM_EnvironmentBase* env, void *eventData)
 {
@@ -165,6 +193,8 @@ MM_VerboseHandlerOutputStandardJava::handleMarkEndInternal(MM_EnvironmentBase* e
 	outputStringConstantInfo(env, 1, markJavaStats->_stringConstantsCandidates, markJavaStats->_stringConstantsCleared);
 	outputMonitorReferenceInfo(env, 1, markJavaStats->_monitorReferenceCandidates, markJavaStats->_monitorReferenceCleared);
 
+	outputRootScanTimes(env, 1);
+
 	if (workPacketStats->getSTWWorkStackOverflowOccured()) {
 		_manager->getWriterChain()->formatAndOutput(env, 1, "<warning details=\"work packet overflow\" count=\"%zu\" packetcount=\"%zu\" />",
 				workPacketStats->getSTWWorkStackOverflowCount(), workPacketStats->getSTWWorkpacketCountAtOverflow());
@@ -246,6 +276,8 @@ MM_VerboseHandlerOutputStandardJava::handleScavengeEndInternal(MM_EnvironmentBas
 		outputReferenceInfo(env, 1, "phantom", &scavengerJavaStats->_phantomReferenceStats, 0, 0);
 
 		outputMonitorReferenceInfo(env, 1, scavengerJavaStats->_monitorReferenceCandidates, scavengerJavaStats->_monitorReferenceCleared);
+
+		outputRootScanTimes(env, 1);
 	}
 }
 #endif /*defined(J9VM_GC_MODRON_SCAVENGER) */
@@ -66,6 +66,14 @@ private:
 	 */
 	void outputReferenceInfo(MM_EnvironmentBase *env, UDATA indent, const char *referenceType, MM_ReferenceStats *referenceStats, UDATA dynamicThreshold, UDATA maxThreshold);
 
+	/**
+	 * Output the root scan time of each GC thread since the previous report, and reset it.
+	 * Only reported when -Xgc:verboseRootScanTimes is specified.
+	 * @param env GC thread used for output.
+	 * @param indent base level of indentation for the summary.
+	 */
+	void outputRootScanTimes(MM_EnvironmentBase *env, UDATA indent);
+
 protected:
 
 	virtual bool initialize(MM_EnvironmentBase *env, MM_VerboseManager *manager);
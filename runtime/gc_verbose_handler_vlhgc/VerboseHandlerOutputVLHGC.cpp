@@ -28,6 +28,7 @@
 #include "CycleStateVLHGC.hpp"
 #include "EnvironmentBase.hpp"
 #include "GCExtensions.hpp"
+#include "InterRegionRememberedSet.hpp"
 #include "MarkVLHGCStats.hpp"
 #include "ReferenceStats.hpp"
 #include "VerboseManager.hpp"
@@ -342,12 +343,24 @@ MM_VerboseHandlerOutputVLHGC::outputMemoryInfoInnerStanza(MM_EnvironmentBase *en
 	}
 
 	MM_VerboseHandlerJava::outputFinalizableInfo(_manager, env, indent);
+	MM_VerboseHandlerJava::outputStringDeduplicationInfo(_manager, env, indent);
 
 	UDATA rememberedSetFreePercent = (UDATA)((100 * (U_64)stats->_rememberedSetBytesFree) / ((U_64)stats->_rememberedSetBytesTotal));
 
-	writer->formatAndOutput(env, indent, "<remembered-set count=\"%zu\" freebytes=\"%zu\" totalbytes=\"%zu\" percent=\"%zu\" regionsoverflowed=\"%zu\" regionsstable=\"%zu\" regionsrebuilding=\"%zu\"/>",
-			stats->_rememberedSetCount, stats->_rememberedSetBytesFree, stats->_rememberedSetBytesTotal, rememberedSetFreePercent,
-			stats->_rememberedSetOverflowedRegionCount, stats->_rememberedSetStableRegionCount, stats->_rememberedSetBeingRebuiltRegionCount);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+
+	if (extensions->tarokEnableCoarseRememberedSets) {
+		MM_InterRegionRememberedSet *interRegionRememberedSet = extensions->interRegionRememberedSet;
+
+		writer->formatAndOutput(env, indent, "<remembered-set count=\"%zu\" freebytes=\"%zu\" totalbytes=\"%zu\" percent=\"%zu\" regionsoverflowed=\"%zu\" regionsstable=\"%zu\" regionsrebuilding=\"%zu\" regionscoarse=\"%zu\" coarsebytes=\"%zu\" coarsetotalbytes=\"%zu\"/>",
+				stats->_rememberedSetCount, stats->_rememberedSetBytesFree, stats->_rememberedSetBytesTotal, rememberedSetFreePercent,
+				stats->_rememberedSetOverflowedRegionCount, stats->_rememberedSetStableRegionCount, stats->_rememberedSetBeingRebuiltRegionCount,
+				interRegionRememberedSet->getCoarseRegionCount(), interRegionRememberedSet->getCoarseBitmapBytesInUse(), interRegionRememberedSet->getCoarseBitmapBytesTotal());
+	} else {
+		writer->formatAndOutput(env, indent, "<remembered-set count=\"%zu\" freebytes=\"%zu\" totalbytes=\"%zu\" percent=\"%zu\" regionsoverflowed=\"%zu\" regionsstable=\"%zu\" regionsrebuilding=\"%zu\"/>",
+				stats->_rememberedSetCount, stats->_rememberedSetBytesFree, stats->_rememberedSetBytesTotal, rememberedSetFreePercent,
+				stats->_rememberedSetOverflowedRegionCount, stats->_rememberedSetStableRegionCount, stats->_rememberedSetBeingRebuiltRegionCount);
+	}
 }
 
 void
@@ -0,0 +1,425 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#include "j9.h"
+#include "j9cfg.h"
+#include "j9port.h"
+#include "modronnls.h"
+#include "mmhook.h"
+#include "mmomrhook.h"
+#include "mmprivatehook.h"
+
+#include <string.h>
+
+#include "AtomicOperations.hpp"
+#if defined(J9VM_GC_VLHGC)
+#include "CopyForwardStats.hpp"
+#endif /* defined(J9VM_GC_VLHGC) */
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+#include "VerboseBinaryEventLog.hpp"
+
+static void verboseBinaryLogCycleStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void verboseBinaryLogCycleEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void verboseBinaryLogExclusiveStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void verboseBinaryLogExclusiveEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+static void verboseBinaryLogScavengeEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+#endif /* defined(J9VM_GC_MODRON_SCAVENGER) */
+#if defined(J9VM_GC_VLHGC)
+static void verboseBinaryLogCopyForwardEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+#endif /* defined(J9VM_GC_VLHGC) */
+
+MM_VerboseBinaryEventLog *
+MM_VerboseBinaryEventLog::newInstance(MM_EnvironmentBase *env, const char *fileName, UDATA recordCount)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+
+	MM_VerboseBinaryEventLog *eventLog = (MM_VerboseBinaryEventLog *)extensions->getForge()->allocate(sizeof(MM_VerboseBinaryEventLog), MM_AllocationCategory::DIAGNOSTIC, J9_GET_CALLSITE());
+	if (NULL != eventLog) {
+		new(eventLog) MM_VerboseBinaryEventLog((J9JavaVM *)env->getLanguageVM());
+		if (!eventLog->initialize(env, fileName, recordCount)) {
+			eventLog->kill(env);
+			eventLog = NULL;
+		}
+	}
+	return eventLog;
+}
+
+void
+MM_VerboseBinaryEventLog::kill(MM_EnvironmentBase *env)
+{
+	tearDown(env);
+	MM_GCExtensions::getExtensions(env)->getForge()->free(this);
+}
+
+bool
+MM_VerboseBinaryEventLog::initialize(MM_EnvironmentBase *env, const char *fileName, UDATA recordCount)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+
+	if (!openLog(env, fileName, recordCount)) {
+		return false;
+	}
+
+	_mmPrivateHooks = J9_HOOK_INTERFACE(extensions->privateHookInterface);
+	_mmOmrHooks = J9_HOOK_INTERFACE(extensions->omrHookInterface);
+
+	(*_mmOmrHooks)->J9HookRegisterWithCallSite(_mmOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_START, verboseBinaryLogCycleStart, OMR_GET_CALLSITE(), (void *)this);
+	(*_mmOmrHooks)->J9HookRegisterWithCallSite(_mmOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_END, verboseBinaryLogCycleEnd, OMR_GET_CALLSITE(), (void *)this);
+	(*_mmPrivateHooks)->J9HookRegisterWithCallSite(_mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_ACQUIRE, verboseBinaryLogExclusiveStart, OMR_GET_CALLSITE(), (void *)this);
+	(*_mmPrivateHooks)->J9HookRegisterWithCallSite(_mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_RELEASE, verboseBinaryLogExclusiveEnd, OMR_GET_CALLSITE(), (void *)this);
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+	(*_mmPrivateHooks)->J9HookRegisterWithCallSite(_mmPrivateHooks, J9HOOK_MM_PRIVATE_SCAVENGE_END, verboseBinaryLogScavengeEnd, OMR_GET_CALLSITE(), (void *)this);
+#endif /* defined(J9VM_GC_MODRON_SCAVENGER) */
+#if defined(J9VM_GC_VLHGC)
+	(*_mmPrivateHooks)->J9HookRegisterWithCallSite(_mmPrivateHooks, J9HOOK_MM_PRIVATE_COPY_FORWARD_END, verboseBinaryLogCopyForwardEnd, OMR_GET_CALLSITE(), (void *)this);
+#endif /* defined(J9VM_GC_VLHGC) */
+
+	return true;
+}
+
+void
+MM_VerboseBinaryEventLog::tearDown(MM_EnvironmentBase *env)
+{
+	if (NULL != _mmOmrHooks) {
+		(*_mmOmrHooks)->J9HookUnregister(_mmOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_START, verboseBinaryLogCycleStart, (void *)this);
+		(*_mmOmrHooks)->J9HookUnregister(_mmOmrHooks, J9HOOK_MM_OMR_GC_CYCLE_END, verboseBinaryLogCycleEnd, (void *)this);
+		_mmOmrHooks = NULL;
+	}
+	if (NULL != _mmPrivateHooks) {
+		(*_mmPrivateHooks)->J9HookUnregister(_mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_ACQUIRE, verboseBinaryLogExclusiveStart, (void *)this);
+		(*_mmPrivateHooks)->J9HookUnregister(_mmPrivateHooks, J9HOOK_MM_PRIVATE_EXCLUSIVE_ACCESS_RELEASE, verboseBinaryLogExclusiveEnd, (void *)this);
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+		(*_mmPrivateHooks)->J9HookUnregister(_mmPrivateHooks, J9HOOK_MM_PRIVATE_SCAVENGE_END, verboseBinaryLogScavengeEnd, (void *)this);
+#endif /* defined(J9VM_GC_MODRON_SCAVENGER) */
+#if defined(J9VM_GC_VLHGC)
+		(*_mmPrivateHooks)->J9HookUnregister(_mmPrivateHooks, J9HOOK_MM_PRIVATE_COPY_FORWARD_END, verboseBinaryLogCopyForwardEnd, (void *)this);
+#endif /* defined(J9VM_GC_VLHGC) */
+		_mmPrivateHooks = NULL;
+	}
+
+	closeLog(env);
+}
+
+/**
+ * Create (or truncate) the log file, size it for the header and recordCount records and map it shared
+ * so that records stored by the GC become visible to readers of the file without any system calls.
+ */
+bool
+MM_VerboseBinaryEventLog::openLog(MM_EnvironmentBase *env, const char *fileName, UDATA recordCount)
+{
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+
+	if ((0 == recordCount) || (recordCount > U_32_MAX)) {
+		recordCount = J9GC_BINARY_EVENT_LOG_DEFAULT_RECORDS;
+	}
+	UDATA mapSize = sizeof(J9GCBinaryEventLogHeader) + (recordCount * sizeof(J9GCBinaryEventRecord));
+
+	_fileHandle = j9file_open(fileName, EsOpenRead | EsOpenWrite | EsOpenCreate | EsOpenTruncate | EsOpenCreateNoTag, 0666);
+	if (-1 == _fileHandle) {
+		j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_UNABLE_TO_OPEN_FILE, fileName);
+		return false;
+	}
+	if (0 != j9file_set_length(_fileHandle, (I_64)mapSize)) {
+		j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_UNABLE_TO_OPEN_FILE, fileName);
+		return false;
+	}
+	_mapHandle = j9mmap_map_file(_fileHandle, 0, mapSize, fileName, J9PORT_MMAP_FLAG_WRITE | J9PORT_MMAP_FLAG_SHARED, OMRMEM_CATEGORY_MM);
+	if ((NULL == _mapHandle) || (NULL == _mapHandle->pointer)) {
+		j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_UNABLE_TO_OPEN_FILE, fileName);
+		return false;
+	}
+
+	_capacity = (U_32)recordCount;
+	_header = (J9GCBinaryEventLogHeader *)_mapHandle->pointer;
+	_records = (J9GCBinaryEventRecord *)(_header + 1);
+	_startNanoTime = j9time_nano_time();
+
+	/* a freshly extended file reads as zeros so every slot already shows as unwritten */
+	_header->version = J9GC_BINARY_EVENT_LOG_VERSION;
+	_header->headerSize = (U_16)sizeof(J9GCBinaryEventLogHeader);
+	_header->recordSize = (U_32)sizeof(J9GCBinaryEventRecord);
+	_header->capacity = _capacity;
+	_header->nextSequence = 0;
+	_header->startNanoTime = _startNanoTime;
+	_header->startTimeMillis = (U_64)j9time_current_time_millis();
+	/* publish the magic last so that a reader never accepts a partially initialized header */
+	MM_AtomicOperations::writeBarrier();
+	_header->magic = J9GC_BINARY_EVENT_LOG_MAGIC;
+
+	return true;
+}
+
+void
+MM_VerboseBinaryEventLog::closeLog(MM_EnvironmentBase *env)
+{
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+
+	if (NULL != _mapHandle) {
+		flush(env);
+		j9mmap_unmap_file(_mapHandle);
+		_mapHandle = NULL;
+		_header = NULL;
+		_records = NULL;
+	}
+	if (-1 != _fileHandle) {
+		j9file_close(_fileHandle);
+		_fileHandle = -1;
+	}
+}
+
+void
+MM_VerboseBinaryEventLog::flush(MM_EnvironmentBase *env)
+{
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+
+	if ((NULL != _mapHandle) && (NULL != _mapHandle->pointer)) {
+		j9mmap_msync(_mapHandle->pointer, _mapHandle->size, J9PORT_MMAP_SYNC_ASYNC);
+	}
+}
+
+void
+MM_VerboseBinaryEventLog::writeRecord(MM_EnvironmentBase *env, U_16 type, const U_64 *payload)
+{
+	writeRecord(env, type, _cycleID, payload);
+}
+
+void
+MM_VerboseBinaryEventLog::writeRecord(MM_EnvironmentBase *env, U_16 type, U_32 cycleID, const U_64 *payload)
+{
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+
+	/* one atomic add is the only synchronization between writers; the slot is then private to this thread until the ring wraps */
+	U_64 sequence = MM_AtomicOperations::addU64(&_header->nextSequence, 1) - 1;
+	J9GCBinaryEventRecord *record = &_records[sequence % _capacity];
+
+	/* mark the slot as being written so that a concurrent reader discards what it sees until the new sequence is published */
+	record->sequence = 0;
+	MM_AtomicOperations::writeBarrier();
+
+	record->timestamp = j9time_nano_time() - _startNanoTime;
+	record->type = type;
+	record->workerID = (U_16)env->getWorkerID();
+	record->cycleID = cycleID;
+	if (NULL != payload) {
+		memcpy(record->payload, payload, sizeof(record->payload));
+	} else {
+		memset(record->payload, 0, sizeof(record->payload));
+	}
+
+	MM_AtomicOperations::writeBarrier();
+	record->sequence = sequence + 1;
+}
+
+void
+MM_VerboseBinaryEventLog::writeMemoryPoolsRecord(MM_EnvironmentBase *env, U_32 cycleID, MM_CommonGCData *commonData)
+{
+	U_64 payload[J9GC_BINARY_EVENT_LOG_PAYLOAD_SLOTS];
+
+	payload[0] = (U_64)commonData->nurseryFreeBytes;
+	payload[1] = (U_64)commonData->nurseryTotalBytes;
+	payload[2] = (U_64)commonData->tenureFreeBytes;
+	payload[3] = (U_64)commonData->tenureTotalBytes;
+	payload[4] = (U_64)commonData->tenureLOAFreeBytes;
+	writeRecord(env, J9GC_BINARY_EVENT_MEMORY_POOLS, cycleID, payload);
+}
+
+MM_VerboseBinaryEventLog::OpenCycle *
+MM_VerboseBinaryEventLog::findOpenCycle(UDATA cycleType)
+{
+	for (UDATA i = 0; i < J9GC_BINARY_EVENT_LOG_MAX_OPEN_CYCLES; i++) {
+		if ((0 != _openCycles[i].cycleID) && (cycleType == _openCycles[i].cycleType)) {
+			return &_openCycles[i];
+		}
+	}
+	return NULL;
+}
+
+void
+MM_VerboseBinaryEventLog::handleCycleStart(J9HookInterface **hook, UDATA eventNum, void *eventData)
+{
+	MM_GCCycleStartEvent *event = (MM_GCCycleStartEvent *)eventData;
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(event->omrVMThread);
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+	U_64 payload[J9GC_BINARY_EVENT_LOG_PAYLOAD_SLOTS] = {0};
+
+	/* cycles start and end under exclusive access or in the collector's main thread, so the open cycles need no synchronization.
+	 * A cycle of the same type whose end was never reported is replaced.
+	 */
+	OpenCycle *cycle = findOpenCycle(event->cycleType);
+	if (NULL == cycle) {
+		/* take a free slot, or reuse the last one if all are taken */
+		cycle = &_openCycles[J9GC_BINARY_EVENT_LOG_MAX_OPEN_CYCLES - 1];
+		for (UDATA i = 0; i < J9GC_BINARY_EVENT_LOG_MAX_OPEN_CYCLES; i++) {
+			if (0 == _openCycles[i].cycleID) {
+				cycle = &_openCycles[i];
+				break;
+			}
+		}
+	}
+	_lastCycleID += 1;
+	cycle->cycleType = event->cycleType;
+	cycle->cycleID = _lastCycleID;
+	cycle->startTime = j9time_nano_time();
+	_cycleID = cycle->cycleID;
+
+	payload[0] = (U_64)event->cycleType;
+	writeRecord(env, J9GC_BINARY_EVENT_CYCLE_START, cycle->cycleID, payload);
+	writeMemoryPoolsRecord(env, cycle->cycleID, event->commonData);
+}
+
+void
+MM_VerboseBinaryEventLog::handleCycleEnd(J9HookInterface **hook, UDATA eventNum, void *eventData)
+{
+	MM_GCCycleEndEvent *event = (MM_GCCycleEndEvent *)eventData;
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(event->omrVMThread);
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+	U_64 payload[J9GC_BINARY_EVENT_LOG_PAYLOAD_SLOTS] = {0};
+	U_32 cycleID = _cycleID;
+
+	payload[0] = (U_64)event->cycleType;
+	OpenCycle *cycle = findOpenCycle(event->cycleType);
+	if (NULL != cycle) {
+		cycleID = cycle->cycleID;
+		payload[1] = j9time_nano_time() - cycle->startTime;
+		cycle->cycleID = 0;
+	}
+	/* otherwise the cycle started before the log was opened and its time is unknown */
+	writeRecord(env, J9GC_BINARY_EVENT_CYCLE_END, cycleID, payload);
+	writeMemoryPoolsRecord(env, cycleID, event->commonData);
+
+	/* later records belong to the innermost cycle that is still open, which is the most recently started one */
+	U_32 innermostCycleID = 0;
+	for (UDATA i = 0; i < J9GC_BINARY_EVENT_LOG_MAX_OPEN_CYCLES; i++) {
+		if (_openCycles[i].cycleID > innermostCycleID) {
+			innermostCycleID = _openCycles[i].cycleID;
+		}
+	}
+	if (0 != innermostCycleID) {
+		_cycleID = innermostCycleID;
+	}
+}
+
+void
+MM_VerboseBinaryEventLog::handleExclusiveStart(J9HookInterface **hook, UDATA eventNum, void *eventData)
+{
+	MM_ExclusiveAccessAcquireEvent *event = (MM_ExclusiveAccessAcquireEvent *)eventData;
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(event->currentThread);
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+
+	/* exclusive access is held by one thread at a time so the pause start needs no synchronization */
+	_pauseStartTime = j9time_nano_time();
+	writeRecord(env, J9GC_BINARY_EVENT_PAUSE_START, NULL);
+}
+
+void
+MM_VerboseBinaryEventLog::handleExclusiveEnd(J9HookInterface **hook, UDATA eventNum, void *eventData)
+{
+	MM_ExclusiveAccessReleaseEvent *event = (MM_ExclusiveAccessReleaseEvent *)eventData;
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(event->currentThread);
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+	U_64 payload[J9GC_BINARY_EVENT_LOG_PAYLOAD_SLOTS] = {0};
+
+	payload[0] = j9time_nano_time() - _pauseStartTime;
+	writeRecord(env, J9GC_BINARY_EVENT_PAUSE_END, payload);
+}
+
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+void
+MM_VerboseBinaryEventLog::handleScavengeEnd(J9HookInterface **hook, UDATA eventNum, void *eventData)
+{
+	MM_ScavengeEndEvent *event = (MM_ScavengeEndEvent *)eventData;
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(event->currentThread);
+	MM_ScavengerStats *scavengerStats = &MM_GCExtensions::getExtensions(env)->scavengerStats;
+	PORT_ACCESS_FROM_JAVAVM(_javaVM);
+	U_64 payload[J9GC_BINARY_EVENT_LOG_PAYLOAD_SLOTS];
+
+	payload[0] = (U_64)scavengerStats->_flipBytes;
+	payload[1] = (U_64)scavengerStats->_flipDiscardBytes;
+	payload[2] = (U_64)scavengerStats->_tenureAggregateBytes;
+	payload[3] = (U_64)scavengerStats->_tenureDiscardBytes;
+	payload[4] = 0;
+	if (scavengerStats->_endTime > scavengerStats->_startTime) {
+		payload[4] = j9time_hires_delta(scavengerStats->_startTime, scavengerStats->_endTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
+	}
+	writeRecord(env, J9GC_BINARY_EVENT_SCAVENGE_END, payload);
+}
+#endif /* defined(J9VM_GC_MODRON_SCAVENGER) */
+
+#if defined(J9VM_GC_VLHGC)
+void
+MM_VerboseBinaryEventLog::handleCopyForwardEnd(J9HookInterface **hook, UDATA eventNum, void *eventData)
+{
+	MM_CopyForwardEndEvent *event = (MM_CopyForwardEndEvent *)eventData;
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(event->currentThread);
+	MM_CopyForwardStats *copyForwardStats = (MM_CopyForwardStats *)event->copyForwardStats;
+	U_64 payload[J9GC_BINARY_EVENT_LOG_PAYLOAD_SLOTS];
+
+	payload[0] = (U_64)copyForwardStats->_copyObjectsEden;
+	payload[1] = (U_64)copyForwardStats->_copyBytesEden;
+	payload[2] = (U_64)copyForwardStats->_copyObjectsNonEden;
+	payload[3] = (U_64)copyForwardStats->_copyBytesNonEden;
+	payload[4] = copyForwardStats->_aborted ? 1 : 0;
+	writeRecord(env, J9GC_BINARY_EVENT_COPY_FORWARD_END, payload);
+}
+#endif /* defined(J9VM_GC_VLHGC) */
+
+static void
+verboseBinaryLogCycleStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	((MM_VerboseBinaryEventLog *)userData)->handleCycleStart(hook, eventNum, eventData);
+}
+
+static void
+verboseBinaryLogCycleEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	((MM_VerboseBinaryEventLog *)userData)->handleCycleEnd(hook, eventNum, eventData);
+}
+
+static void
+verboseBinaryLogExclusiveStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	((MM_VerboseBinaryEventLog *)userData)->handleExclusiveStart(hook, eventNum, eventData);
+}
+
+static void
+verboseBinaryLogExclusiveEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	((MM_VerboseBinaryEventLog *)userData)->handleExclusiveEnd(hook, eventNum, eventData);
+}
+
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+static void
+verboseBinaryLogScavengeEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	((MM_VerboseBinaryEventLog *)userData)->handleScavengeEnd(hook, eventNum, eventData);
+}
+#endif /* defined(J9VM_GC_MODRON_SCAVENGER) */
+
+#if defined(J9VM_GC_VLHGC)
+static void
+verboseBinaryLogCopyForwardEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	((MM_VerboseBinaryEventLog *)userData)->handleCopyForwardEnd(hook, eventNum, eventData);
+}
+#endif /* defined(J9VM_GC_VLHGC) */
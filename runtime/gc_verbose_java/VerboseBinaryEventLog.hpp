@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+#if !defined(VERBOSEBINARYEVENTLOG_HPP_)
+#define VERBOSEBINARYEVENTLOG_HPP_
+
+#include "j9.h"
+#include "j9cfg.h"
+#include "mmhook.h"
+#include "mmomrhook.h"
+
+#include <string.h>
+
+#include "BaseVirtual.hpp"
+
+class MM_EnvironmentBase;
+
+/* "J9GE" when read as a little endian U_32 */
+#define J9GC_BINARY_EVENT_LOG_MAGIC 0x45474A39
+#define J9GC_BINARY_EVENT_LOG_VERSION 1
+#define J9GC_BINARY_EVENT_LOG_DEFAULT_RECORDS 65536
+#define J9GC_BINARY_EVENT_LOG_PAYLOAD_SLOTS 5
+/* a concurrent global cycle can be open while a scavenge or partial collect runs inside it */
+#define J9GC_BINARY_EVENT_LOG_MAX_OPEN_CYCLES 4
+
+/**
+ * Record types written to the binary event log.
+ * The values are part of the file format and must not be renumbered.
+ */
+enum {
+	J9GC_BINARY_EVENT_CYCLE_START = 1, /**< payload: cycle type */
+	J9GC_BINARY_EVENT_CYCLE_END = 2, /**< payload: cycle type, cycle time in nanoseconds */
+	J9GC_BINARY_EVENT_PAUSE_START = 3, /**< payload: none */
+	J9GC_BINARY_EVENT_PAUSE_END = 4, /**< payload: pause time in nanoseconds */
+	J9GC_BINARY_EVENT_SCAVENGE_END = 5, /**< payload: flipped bytes, flip discard bytes, tenured bytes, tenure discard bytes, time in microseconds */
+	J9GC_BINARY_EVENT_COPY_FORWARD_END = 6, /**< payload: eden objects/bytes, non-eden objects/bytes, aborted flag */
+	J9GC_BINARY_EVENT_MEMORY_POOLS = 7 /**< payload: nursery free/total bytes, tenure free/total bytes, LOA free bytes; follows every cycle start and end */
+};
+
+/**
+ * File header of the binary event log.  Fields are stored in the byte order of the writing platform;
+ * readers use the magic to detect it.
+ */
+typedef struct J9GCBinaryEventLogHeader {
+	U_32 magic;
+	U_16 version;
+	U_16 headerSize;
+	U_32 recordSize;
+	U_32 capacity; /**< number of record slots following the header */
+	volatile U_64 nextSequence; /**< number of records reserved so far; the next record gets this sequence */
+	U_64 startNanoTime; /**< j9time_nano_time() when the log was opened, the base of the record timestamps */
+	U_64 startTimeMillis; /**< wall clock time matching startNanoTime */
+	U_64 reserved[3];
+} J9GCBinaryEventLogHeader;
+
+/**
+ * A single fixed size record.  The sequence is written last: zero means the slot is being
+ * written, otherwise it holds the record sequence plus one.
+ */
+typedef struct J9GCBinaryEventRecord {
+	volatile U_64 sequence;
+	U_64 timestamp; /**< nanoseconds since J9GCBinaryEventLogHeader.startNanoTime */
+	U_16 type;
+	U_16 workerID;
+	U_32 cycleID; /**< id of the innermost open GC cycle; cycle start and end records hold the id of their own cycle */
+	U_64 payload[J9GC_BINARY_EVENT_LOG_PAYLOAD_SLOTS];
+} J9GCBinaryEventRecord;
+
+/**
+ * Streams GC events as fixed size binary records into a memory mapped ring in a file
+ * named by -Xgc:verboseBinaryLog=<file>.  Records are reserved with a single atomic add so
+ * any number of GC threads can write concurrently without formatting or locking, and an
+ * external reader can follow the file while the VM is running.
+ * @ingroup GC_verbose_engine
+ */
+class MM_VerboseBinaryEventLog : public MM_BaseVirtual
+{
+	/*
+	 * Data members
+	 */
+private:
+	/**
+	 * A GC cycle that has started and not ended yet.  Cycles are matched by type, as
+	 * cycles of the same type never nest.
+	 */
+	struct OpenCycle {
+		UDATA cycleType;
+		U_32 cycleID; /**< 0 if the slot is free */
+		U_64 startTime; /**< nano time the cycle started */
+	};
+
+	J9JavaVM *_javaVM;
+	J9HookInterface **_mmPrivateHooks; /**< Pointers to the internal Hook interface */
+	J9HookInterface **_mmOmrHooks; /**< Pointers to the OMR Hook interface */
+	IDATA _fileHandle;
+	J9MmapHandle *_mapHandle;
+	J9GCBinaryEventLogHeader *_header;
+	J9GCBinaryEventRecord *_records;
+	U_32 _capacity;
+	U_64 _startNanoTime;
+	U_32 _lastCycleID; /**< id of the most recently started GC cycle */
+	volatile U_32 _cycleID; /**< id of the innermost open GC cycle, written to every record */
+	OpenCycle _openCycles[J9GC_BINARY_EVENT_LOG_MAX_OPEN_CYCLES];
+	U_64 _pauseStartTime; /**< nano time the current exclusive access pause started */
+
+protected:
+public:
+
+	/*
+	 * Function members
+	 */
+private:
+	bool openLog(MM_EnvironmentBase *env, const char *fileName, UDATA recordCount);
+	void closeLog(MM_EnvironmentBase *env);
+
+	void writeRecord(MM_EnvironmentBase *env, U_16 type, U_32 cycleID, const U_64 *payload);
+	void writeMemoryPoolsRecord(MM_EnvironmentBase *env, U_32 cycleID, MM_CommonGCData *commonData);
+	OpenCycle *findOpenCycle(UDATA cycleType);
+
+protected:
+	bool initialize(MM_EnvironmentBase *env, const char *fileName, UDATA recordCount);
+	void tearDown(MM_EnvironmentBase *env);
+
+public:
+	/**
+	 * Create a new binary event log writing to the given file.
+	 * @param env[in] the current thread
+	 * @param fileName[in] the file to map the log into; it is created or truncated
+	 * @param recordCount[in] the number of record slots in the ring
+	 * @return the new log, or NULL if the file could not be created and mapped
+	 */
+	static MM_VerboseBinaryEventLog *newInstance(MM_EnvironmentBase *env, const char *fileName, UDATA recordCount);
+	virtual void kill(MM_EnvironmentBase *env);
+
+	/**
+	 * Flush the mapped records to the file.  Events are still accepted afterwards.
+	 */
+	void flush(MM_EnvironmentBase *env);
+
+	/**
+	 * Append a record to the ring.  Safe to call from any number of threads at once; when the ring
+	 * wraps the oldest records are overwritten.
+	 * @param env[in] the thread reporting the event
+	 * @param type[in] one of the J9GC_BINARY_EVENT_* record types
+	 * @param payload[in] J9GC_BINARY_EVENT_LOG_PAYLOAD_SLOTS values, or NULL for an empty payload
+	 */
+	void writeRecord(MM_EnvironmentBase *env, U_16 type, const U_64 *payload);
+
+	void handleCycleStart(J9HookInterface **hook, UDATA eventNum, void *eventData);
+	void handleCycleEnd(J9HookInterface **hook, UDATA eventNum, void *eventData);
+	void handleExclusiveStart(J9HookInterface **hook, UDATA eventNum, void *eventData);
+	void handleExclusiveEnd(J9HookInterface **hook, UDATA eventNum, void *eventData);
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+	void handleScavengeEnd(J9HookInterface **hook, UDATA eventNum, void *eventData);
+#endif /* defined(J9VM_GC_MODRON_SCAVENGER) */
+#if defined(J9VM_GC_VLHGC)
+	void handleCopyForwardEnd(J9HookInterface **hook, UDATA eventNum, void *eventData);
+#endif /* defined(J9VM_GC_VLHGC) */
+
+	MM_VerboseBinaryEventLog(J9JavaVM *javaVM)
+		: MM_BaseVirtual()
+		, _javaVM(javaVM)
+		, _mmPrivateHooks(NULL)
+		, _mmOmrHooks(NULL)
+		, _fileHandle(-1)
+		, _mapHandle(NULL)
+		, _header(NULL)
+		, _records(NULL)
+		, _capacity(0)
+		, _startNanoTime(0)
+		, _lastCycleID(0)
+		, _cycleID(0)
+		, _pauseStartTime(0)
+	{
+		_typeId = __FUNCTION__;
+		memset(_openCycles, 0, sizeof(_openCycles));
+	}
+};
+
+#endif /* VERBOSEBINARYEVENTLOG_HPP_ */
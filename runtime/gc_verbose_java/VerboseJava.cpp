@@ -26,6 +26,7 @@
 #include "AtomicOperations.hpp"
 #include "Base.hpp"
 #include "GCExtensions.hpp"
+#include "VerboseBinaryEventLog.hpp"
 #include "VerboseEventStream.hpp"
 #include "VerboseOutputAgent.hpp"
 #include "VerboseWriter.hpp"
@@ -46,6 +47,7 @@ static void gcDebugVerboseShutdownLogging(J9JavaVM *javaVM, UDATA releaseVerbose
 static void gcDumpMemorySizes(J9JavaVM *javaVM);
 static UDATA configureVerbosegc(J9JavaVM *javaVM, int enable, char* filename, UDATA numFiles, UDATA numCycles);
 static UDATA queryVerbosegc(J9JavaVM *javaVM);
+static UDATA gcVerboseBinaryLogStartup(J9JavaVM *javaVM);
 
 /**
  * Verbose Function table.
@@ -55,7 +57,8 @@ J9MemoryManagerVerboseInterface functionTable = {
 	gcDebugVerboseShutdownLogging,
 	gcDumpMemorySizes,
 	configureVerbosegc,
-	queryVerbosegc
+	queryVerbosegc,
+	gcVerboseBinaryLogStartup
 };
 
 /**
@@ -74,6 +77,7 @@ initializeVerboseFunctionTable(J9JavaVM *javaVM)
 	mmFuncTable->gcDumpMemorySizes = verboseTable->gcDumpMemorySizes;
 	mmFuncTable->configureVerbosegc = verboseTable->configureVerbosegc;
 	mmFuncTable->queryVerbosegc = verboseTable->queryVerbosegc;
+	mmFuncTable->gcVerboseBinaryLogStartup = verboseTable->gcVerboseBinaryLogStartup;
 }
 
 static UDATA
@@ -146,6 +150,26 @@ gcDebugVerboseStartupLogging(J9JavaVM *javaVM, char* filename, UDATA numFiles, U
 	return configureVerbosegc(javaVM, 1, filename, numFiles, numCycles);
 }
 
+/**
+ * Start the binary GC event log if -Xgc:verboseBinaryLog=<file> was specified.
+ * The log is independent of -verbose:gc and writes into a memory mapped file.
+ * @return 1 if the log is running or was not requested, 0 if it could not be started.
+ */
+static UDATA
+gcVerboseBinaryLogStartup(J9JavaVM *javaVM)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(javaVM);
+
+	if ((NULL == extensions->verboseBinaryLogFileName) || (NULL != extensions->verboseBinaryEventLog)) {
+		return 1;
+	}
+
+	MM_EnvironmentBase env(javaVM->omrVM);
+	extensions->verboseBinaryEventLog = MM_VerboseBinaryEventLog::newInstance(&env, extensions->verboseBinaryLogFileName, extensions->verboseBinaryLogRecords);
+
+	return (NULL != extensions->verboseBinaryEventLog) ? 1 : 0;
+}
+
 /**
  * Bring down the verbose gc infrastructure.
  * Closes the verbose gc output streams and if safe releases the infrastructure.
@@ -162,6 +186,16 @@ gcDebugVerboseShutdownLogging(J9JavaVM *javaVM, UDATA releaseVerboseStructures)
 		return;
 	}
 
+	MM_VerboseBinaryEventLog *binaryEventLog = extensions->verboseBinaryEventLog;
+	if (NULL != binaryEventLog) {
+		if (releaseVerboseStructures) {
+			binaryEventLog->kill(&env);
+			extensions->verboseBinaryEventLog = NULL;
+		} else {
+			binaryEventLog->flush(&env);
+		}
+	}
+
 	MM_VerboseManagerBase *manager = extensions->verboseGCManager;
 
 	if (NULL == manager) {
@@ -91,6 +91,7 @@
 #include "ScavengerForwardedHeader.hpp"
 #include "SlotObject.hpp"
 #include "StackSlotValidator.hpp"
+#include "StringDeduplicator.hpp"
 #include "SublistFragment.hpp"
 #include "SublistIterator.hpp"
 #include "SublistPool.hpp"
@@ -2024,6 +2025,10 @@ MM_CopyForwardScheme::copy(MM_EnvironmentVLHGC *env, MM_AllocationContextTarok *
 					env->_copyForwardCompactGroups[sourceCompactGroup]._edenStats._liveBytes += objectCopySizeInBytes;
 					env->_copyForwardCompactGroups[destinationCompactGroup]._edenStats._copiedObjects += 1;
 					env->_copyForwardCompactGroups[destinationCompactGroup]._edenStats._copiedBytes += objectCopySizeInBytes;
+					if (NULL != _extensions->stringDeduplicator) {
+						/* objects leaving eden are the closest equivalent of tenuring */
+						_extensions->stringDeduplicator->enqueueIfString(destinationObjectPtr, forwardedHeader->getPreservedClass());
+					}
 				} else {
 					env->_copyForwardCompactGroups[sourceCompactGroup]._nonEdenStats._liveObjects += 1;
 					env->_copyForwardCompactGroups[sourceCompactGroup]._nonEdenStats._liveBytes += objectCopySizeInBytes;
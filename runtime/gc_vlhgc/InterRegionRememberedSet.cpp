@@ -69,6 +69,11 @@ MM_InterRegionRememberedSet::MM_InterRegionRememberedSet(MM_HeapRegionManager *h
 	, _cardToRegionDisplacement(0)
 	, _cardTable(NULL)
 	, _rememberedSetCardBucketPool(NULL)
+	, _coarseBitmapPool(NULL)
+	, _coarseBitmapFreeHead(NULL)
+	, _coarseBitmapSlotCount(0)
+	, _coarseBitmapCountTotal(0)
+	, _coarseRegionCount(0)
 {
 	_typeId = __FUNCTION__;
 }
@@ -285,9 +290,109 @@ MM_InterRegionRememberedSet::initialize(MM_EnvironmentVLHGC* env)
 	}
 	_cardTable = ext->cardTable;
 
+	if (ext->tarokEnableCoarseRememberedSets) {
+		/* Coarse bitmaps (one bit per region) are pre-allocated on startup and linked into a free list */
+		UDATA regionCount = _heapRegionManager->getTableRegionCount();
+		_coarseBitmapSlotCount = (regionCount + J9BITS_BITS_IN_SLOT - 1) / J9BITS_BITS_IN_SLOT;
+		_coarseBitmapCountTotal = ext->tarokCoarseRememberedSetMaxCount;
+		if (0 == _coarseBitmapCountTotal) {
+			_coarseBitmapCountTotal = OMR_MAX(regionCount / 8, 1);
+		}
+		_coarseBitmapCountTotal = OMR_MIN(_coarseBitmapCountTotal, regionCount);
+
+		_coarseBitmapPool = (UDATA *)ext->getForge()->allocate(_coarseBitmapCountTotal * _coarseBitmapSlotCount * sizeof(UDATA), MM_AllocationCategory::REMEMBERED_SET, J9_GET_CALLSITE());
+		if (NULL == _coarseBitmapPool) {
+			return false;
+		}
+		for (UDATA i = 0; i < _coarseBitmapCountTotal; i++) {
+			UDATA *coarseRegionBitmap = _coarseBitmapPool + (i * _coarseBitmapSlotCount);
+			coarseRegionBitmap[0] = (UDATA)_coarseBitmapFreeHead;
+			_coarseBitmapFreeHead = coarseRegionBitmap;
+		}
+	}
+
 	return true;
 }
 
+bool
+MM_InterRegionRememberedSet::setListAsCoarse(MM_EnvironmentVLHGC *env, MM_RememberedSetCardList *rscl)
+{
+	if (!rscl->isCoarse() && (NULL != _coarseBitmapFreeHead)) {
+		_lock.acquire();
+		UDATA *coarseRegionBitmap = _coarseBitmapFreeHead;
+		if (NULL != coarseRegionBitmap) {
+			_coarseBitmapFreeHead = (UDATA *)coarseRegionBitmap[0];
+		}
+		_lock.release();
+
+		if (NULL != coarseRegionBitmap) {
+			memset(coarseRegionBitmap, 0, _coarseBitmapSlotCount * sizeof(UDATA));
+			/* make sure the bitmap is cleared before it becomes visible to the other threads adding to the list */
+			MM_AtomicOperations::storeSync();
+
+			volatile UDATA *localAddr = (volatile UDATA *)&rscl->_coarseRegionBitmap;
+			if ((UDATA)NULL == MM_AtomicOperations::lockCompareExchange(localAddr, (UDATA)NULL, (UDATA)coarseRegionBitmap)) {
+				MM_AtomicOperations::add(&_coarseRegionCount, 1);
+			} else {
+				/* another thread made the list coarse first - give our bitmap back */
+				_lock.acquire();
+				coarseRegionBitmap[0] = (UDATA)_coarseBitmapFreeHead;
+				_coarseBitmapFreeHead = coarseRegionBitmap;
+				_lock.release();
+			}
+		}
+	}
+
+	return rscl->isCoarse();
+}
+
+void
+MM_InterRegionRememberedSet::releaseCoarseBitmap(MM_EnvironmentVLHGC *env, UDATA *coarseRegionBitmap)
+{
+	Assert_MM_true(0 < _coarseRegionCount);
+
+	_lock.acquire();
+	coarseRegionBitmap[0] = (UDATA)_coarseBitmapFreeHead;
+	_coarseBitmapFreeHead = coarseRegionBitmap;
+	_lock.release();
+
+	MM_AtomicOperations::subtract(&_coarseRegionCount, 1);
+}
+
+void
+MM_InterRegionRememberedSet::clearFromRegionReferencesForCoarse(MM_EnvironmentVLHGC* env, MM_RememberedSetCardList *rscl, bool forCompact)
+{
+	rscl->foldBuffersIntoCoarse(env);
+
+	UDATA *coarseRegionBitmap = rscl->_coarseRegionBitmap;
+	bool empty = true;
+	for (UDATA slotIndex = 0; slotIndex < _coarseBitmapSlotCount; slotIndex++) {
+		UDATA slot = coarseRegionBitmap[slotIndex];
+		if (0 != slot) {
+			for (UDATA bitIndex = 0; bitIndex < J9BITS_BITS_IN_SLOT; bitIndex++) {
+				UDATA bit = (UDATA)1 << bitIndex;
+				if (bit == (slot & bit)) {
+					MM_HeapRegionDescriptorVLHGC *fromRegion = (MM_HeapRegionDescriptorVLHGC *)physicalTableDescriptorForIndex((slotIndex * J9BITS_BITS_IN_SLOT) + bitIndex)->_headOfSpan;
+					bool inCollectionSet = forCompact ? fromRegion->_compactData._shouldCompact : fromRegion->_markData._shouldMark;
+					/* Regions that are completely swept after a GMP, might still have outgoing references (thus we consider empty regions too) */
+					if (inCollectionSet || !fromRegion->containsObjects()) {
+						slot &= ~bit;
+					}
+				}
+			}
+			coarseRegionBitmap[slotIndex] = slot;
+			if (0 != slot) {
+				empty = false;
+			}
+		}
+	}
+
+	if (empty) {
+		/* nothing refers to this region anymore - go back to tracking individual cards */
+		rscl->releaseCoarseBitmap(env);
+	}
+}
+
 
 void 
 MM_InterRegionRememberedSet::rememberReferenceInternal(MM_EnvironmentVLHGC* env, J9Object* fromObject, MM_HeapRegionDescriptorVLHGC *toRegion)
@@ -476,6 +581,11 @@ MM_InterRegionRememberedSet::tearDown(MM_EnvironmentBase* env)
 		ext->getForge()->free(_rsclBufferControlBlockPool);
 	}
 
+	if (NULL != _coarseBitmapPool) {
+		ext->getForge()->free(_coarseBitmapPool);
+		_coarseBitmapPool = NULL;
+	}
+
 	/* TODO: _lock initialize might have failed */
 	_lock.tearDown();
 }
@@ -515,6 +625,7 @@ MM_InterRegionRememberedSet::overflowIfStableRegion(MM_EnvironmentVLHGC *env, MM
 				rscl->setAsStable();
 				_stableRegionCount += 1;
 				rscl->releaseBuffers(env);
+				rscl->releaseCoarseBitmap(env);
 			}
 		}
 	}
@@ -774,7 +885,10 @@ MM_InterRegionRememberedSet::clearFromRegionReferencesForCompactDirect(MM_Enviro
 
 	while (NULL != (region = regionIterator.nextRegion())) {
 		if(J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
-			if (!region->getRememberedSetCardList()->isOverflowed()) {
+			MM_RememberedSetCardList *rscl = region->getRememberedSetCardList();
+			if (rscl->isCoarse() && !rscl->isOverflowed()) {
+				clearFromRegionReferencesForCoarse(env, rscl, true);
+			} else if (!rscl->isOverflowed()) {
 				UDATA card = 0;
 				UDATA toRemoveCount = 0;
 				UDATA totalCountBefore = 0;
@@ -803,7 +917,8 @@ MM_InterRegionRememberedSet::clearFromRegionReferencesForCompactDirect(MM_Enviro
 				cardsRemoved += toRemoveCount;
 
 			} else {
-				region->getRememberedSetCardList()->releaseBuffers(env);
+				rscl->releaseBuffers(env);
+				rscl->releaseCoarseBitmap(env);
 			}
 		}
 	}
@@ -836,7 +951,10 @@ MM_InterRegionRememberedSet::clearFromRegionReferencesForCompactOptimized(MM_Env
 
 	while (NULL != (region = regionIterator.nextRegion())) {
 		if(J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
-			if (!region->getRememberedSetCardList()->isOverflowed()) {
+			MM_RememberedSetCardList *rscl = region->getRememberedSetCardList();
+			if (rscl->isCoarse() && !rscl->isOverflowed()) {
+				clearFromRegionReferencesForCoarse(env, rscl, true);
+			} else if (!rscl->isOverflowed()) {
 				UDATA card = 0;
 				UDATA toRemoveCount = 0;
 				UDATA totalCountBefore = 0;
@@ -880,7 +998,8 @@ MM_InterRegionRememberedSet::clearFromRegionReferencesForCompactOptimized(MM_Env
 				cardsRemoved += toRemoveCount;
 
 			} else {
-				region->getRememberedSetCardList()->releaseBuffers(env);
+				rscl->releaseBuffers(env);
+				rscl->releaseCoarseBitmap(env);
 			}
 		}
 	}
@@ -929,7 +1048,10 @@ MM_InterRegionRememberedSet::clearFromRegionReferencesForMarkDirect(MM_Environme
 
 	while (NULL != (region = regionIterator.nextRegion())) {
 		if(J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
-			if (!region->getRememberedSetCardList()->isOverflowed()) {
+			MM_RememberedSetCardList *rscl = region->getRememberedSetCardList();
+			if (rscl->isCoarse() && !rscl->isOverflowed()) {
+				clearFromRegionReferencesForCoarse(env, rscl, false);
+			} else if (!rscl->isOverflowed()) {
 				UDATA card = 0;
 				UDATA toRemoveCount = 0;
 				UDATA totalCountBefore = 0;
@@ -958,7 +1080,8 @@ MM_InterRegionRememberedSet::clearFromRegionReferencesForMarkDirect(MM_Environme
 				cardsRemoved += toRemoveCount;
 
 			} else {
-				region->getRememberedSetCardList()->releaseBuffers(env);
+				rscl->releaseBuffers(env);
+				rscl->releaseCoarseBitmap(env);
 			}
 		}
 	}
@@ -996,7 +1119,10 @@ MM_InterRegionRememberedSet::clearFromRegionReferencesForMarkOptimized(MM_Enviro
 
 	while (NULL != (region = regionIterator.nextRegion())) {
 		if(J9MODRON_HANDLE_NEXT_WORK_UNIT(env)) {
-			if (!region->getRememberedSetCardList()->isOverflowed()) {
+			MM_RememberedSetCardList *rscl = region->getRememberedSetCardList();
+			if (rscl->isCoarse() && !rscl->isOverflowed()) {
+				clearFromRegionReferencesForCoarse(env, rscl, false);
+			} else if (!rscl->isOverflowed()) {
 				UDATA card = 0;
 				UDATA toRemoveCount = 0;
 				UDATA totalCountBefore = 0;
@@ -1041,7 +1167,8 @@ MM_InterRegionRememberedSet::clearFromRegionReferencesForMarkOptimized(MM_Enviro
 				cardsRemoved += toRemoveCount;
 
 			} else {
-				region->getRememberedSetCardList()->releaseBuffers(env);
+				rscl->releaseBuffers(env);
+				rscl->releaseCoarseBitmap(env);
 			}
 		}
 	}
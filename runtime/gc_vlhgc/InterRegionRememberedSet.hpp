@@ -35,6 +35,7 @@
 
 class MM_CollectionStatisticsVLHGC;
 
+#include "AtomicOperations.hpp"
 #include "BaseVirtual.hpp"
 #include "CardTable.hpp"
 #include "CycleState.hpp"
@@ -87,6 +88,12 @@ public:
 
 	MM_RememberedSetCardBucket *_rememberedSetCardBucketPool; /**< RS bucket pool (for all regions) for Main thread or any other thread that caused GC in absence of Main thread */
 
+	UDATA *_coarseBitmapPool;								/**< starting address of the pre-allocated coarse region bitmaps (kept around to be able to release memory at the end) */
+	UDATA *_coarseBitmapFreeHead;							/**< head of the free coarse bitmap list (first slot of a free bitmap links to the next one), protected by _lock */
+	UDATA _coarseBitmapSlotCount;							/**< size of a single coarse bitmap in slots (one bit per region) */
+	UDATA _coarseBitmapCountTotal;							/**< total count of coarse bitmaps in the system (used or free) */
+	volatile UDATA _coarseRegionCount;						/**< count of regions whose RSCL is coarse */
+
 private:
 
 	/** 
@@ -271,6 +278,15 @@ public:
 	 */
 	void resetOverflowedList();
 
+	/**
+	 * Clear coarse from region references (from regions in the collection set or without objects) of a coarse RSCL.
+	 * The RSCL buffers are folded into the bitmap first. If no from region remains, the RSCL is switched back to cards.
+	 * @param env current thread environment
+	 * @param rscl the coarse RSCL to clear
+	 * @param forCompact true if regions selected for compaction are being cleared, false for regions selected for marking
+	 */
+	void clearFromRegionReferencesForCoarse(MM_EnvironmentVLHGC* env, MM_RememberedSetCardList *rscl, bool forCompact);
+
 	/**
 	 * Copy internal stats counters into external structure used for Verbose GC reporting
 	 * @param env[in] of a GC thread
@@ -504,6 +520,87 @@ public:
 		return (MM_HeapRegionDescriptorVLHGC *)tableDescriptor->_headOfSpan;
 	}
 
+	/**
+	 * Switch an RSCL to a coarse, region granular representation. The RSCL cards are not touched.
+	 * Multithreaded safe.
+	 * @param rscl RSCL to make coarse
+	 * @return true if the RSCL is coarse, false if coarse RSCLs are disabled or all coarse bitmaps are in use
+	 */
+	bool setListAsCoarse(MM_EnvironmentVLHGC *env, MM_RememberedSetCardList *rscl);
+
+	/**
+	 * Return a coarse bitmap back to the pool
+	 * @param coarseRegionBitmap the bitmap being released
+	 */
+	void releaseCoarseBitmap(MM_EnvironmentVLHGC *env, UDATA *coarseRegionBitmap);
+
+	/**
+	 * Remember the region owning the card in a coarse bitmap. Multithreaded safe.
+	 * @param coarseRegionBitmap bitmap of a coarse RSCL
+	 * @param card card being remembered
+	 */
+	MMINLINE void rememberCoarseRegion(UDATA *coarseRegionBitmap, UDATA card)
+	{
+		UDATA regionIndex = (card - _cardToRegionDisplacement) >> _cardToRegionShift;
+		volatile UDATA *slot = &coarseRegionBitmap[regionIndex / J9BITS_BITS_IN_SLOT];
+		UDATA bit = (UDATA)1 << (regionIndex % J9BITS_BITS_IN_SLOT);
+		UDATA oldValue = *slot;
+		while (bit != (oldValue & bit)) {
+			UDATA value = MM_AtomicOperations::lockCompareExchange(slot, oldValue, oldValue | bit);
+			if (value == oldValue) {
+				break;
+			}
+			oldValue = value;
+		}
+	}
+
+	/**
+	 * @param coarseRegionBitmap bitmap of a coarse RSCL
+	 * @param card card being checked
+	 * @return true if the region owning the card is remembered in the coarse bitmap
+	 */
+	MMINLINE bool isCoarseRegionRemembered(UDATA *coarseRegionBitmap, UDATA card)
+	{
+		UDATA regionIndex = (card - _cardToRegionDisplacement) >> _cardToRegionShift;
+		UDATA bit = (UDATA)1 << (regionIndex % J9BITS_BITS_IN_SLOT);
+		return (bit == (coarseRegionBitmap[regionIndex / J9BITS_BITS_IN_SLOT] & bit));
+	}
+
+	/**
+	 * @return the lowest card of the region at the given index (in the coarse bitmap)
+	 */
+	MMINLINE UDATA firstRememberedSetCardForRegionIndex(UDATA regionIndex)
+	{
+		return _cardToRegionDisplacement + (regionIndex << _cardToRegionShift);
+	}
+
+	/**
+	 * @return the difference between two consecutive cards
+	 */
+	MMINLINE UDATA rememberedSetCardStride()
+	{
+		UDATA stride = CARD_SIZE;
+		if (compressObjectReferences()) {
+			stride = 1;
+		}
+		return stride;
+	}
+
+	/**
+	 * @return the count of regions whose RSCL is coarse
+	 */
+	UDATA getCoarseRegionCount() { return _coarseRegionCount; }
+
+	/**
+	 * @return the bytes held by coarse bitmaps currently in use
+	 */
+	UDATA getCoarseBitmapBytesInUse() { return _coarseRegionCount * _coarseBitmapSlotCount * sizeof(UDATA); }
+
+	/**
+	 * @return the bytes reserved for coarse bitmaps (used or free)
+	 */
+	UDATA getCoarseBitmapBytesTotal() { return _coarseBitmapCountTotal * _coarseBitmapSlotCount * sizeof(UDATA); }
+
 	/**
 	 * Checks if a reference is remembered
 	 * @param fromObject object (its slot) pointing from
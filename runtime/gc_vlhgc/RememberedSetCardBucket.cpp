@@ -60,12 +60,60 @@ MM_RememberedSetCardBucket::setListAsOverflow(MM_EnvironmentVLHGC *env, MM_Remem
 	listToOverflow->releaseBuffersForCurrentThread(env);
 }
 
+bool
+MM_RememberedSetCardBucket::setListAsCoarse(MM_EnvironmentVLHGC *env, UDATA card)
+{
+	MM_InterRegionRememberedSet *interRegionRememberedSet = MM_GCExtensions::getExtensions(env)->interRegionRememberedSet;
+	bool coarse = interRegionRememberedSet->setListAsCoarse(env, _rscl);
+
+	if (coarse) {
+		if (0 != _bufferCount) {
+			foldIntoCoarse(env);
+			globalReleaseBuffers(env);
+		}
+		interRegionRememberedSet->rememberCoarseRegion(_rscl->_coarseRegionBitmap, card);
+	}
+
+	return coarse;
+}
+
+void
+MM_RememberedSetCardBucket::foldIntoCoarse(MM_EnvironmentVLHGC *env)
+{
+	MM_InterRegionRememberedSet *interRegionRememberedSet = MM_GCExtensions::getExtensions(env)->interRegionRememberedSet;
+	UDATA *coarseRegionBitmap = _rscl->_coarseRegionBitmap;
+	MM_CardBufferControlBlock *currentCardBufferControlBlock = _cardBufferControlBlockHead;
+	bool const compressed = env->compressObjectReferences();
+	while (NULL != currentCardBufferControlBlock) {
+		MM_RememberedSetCard *bufferCardList = currentCardBufferControlBlock->_card;
+
+		/* find top index for this buffer */
+		UDATA cardIndexTop = MAX_BUFFER_SIZE;
+		if (isCurrentSlotWithinBuffer(env, bufferCardList)) {
+			cardIndexTop = MM_RememberedSetCard::subtractCardAddresses(_current, bufferCardList, compressed);
+		}
+
+		for (UDATA cardIndex = 0; cardIndex < cardIndexTop; cardIndex++) {
+			MM_RememberedSetCard *cardAddress = MM_RememberedSetCard::addToCardAddress(bufferCardList, cardIndex, compressed);
+			UDATA card = MM_RememberedSetCard::readCard(cardAddress, compressed);
+			/* removed cards (not compacted yet) are NULLed */
+			if (0 != card) {
+				interRegionRememberedSet->rememberCoarseRegion(coarseRegionBitmap, card);
+			}
+		}
+		currentCardBufferControlBlock = currentCardBufferControlBlock->_next;
+	}
+}
+
 void
 MM_RememberedSetCardBucket::addToNewBuffer(MM_EnvironmentVLHGC *env, UDATA card)
 {
 	Assert_MM_true(_rscl->_bufferCount >= _bufferCount);
 
-	if (!_rscl->_overflowed) {
+	if (!_rscl->_overflowed && _rscl->isCoarse()) {
+		/* the list already went coarse (possibly through another bucket) - retire what this bucket still holds */
+		setListAsCoarse(env, card);
+	} else if (!_rscl->_overflowed) {
 		/* the current buffer is full or _current is NULL (no buffers in the bucket yet)
 		 * allocate a new buffer from the buffer pool
 		 * bound the total size of owning list
@@ -76,7 +124,10 @@ MM_RememberedSetCardBucket::addToNewBuffer(MM_EnvironmentVLHGC *env, UDATA card)
 			MM_AtomicOperations::subtract(&_rscl->_bufferCount, 1);
 			_bufferCount -= 1;
 
-			setListAsOverflow(env, _rscl);
+			/* the list is too dense to be tracked card by card - prefer tracking referencing regions over overflowing */
+			if (!setListAsCoarse(env, card)) {
+				setListAsOverflow(env, _rscl);
+			}
 		} else {
 			MM_InterRegionRememberedSet *interRegionRememberedSet = MM_GCExtensions::getExtensions(env)->interRegionRememberedSet;
 
@@ -87,8 +138,10 @@ MM_RememberedSetCardBucket::addToNewBuffer(MM_EnvironmentVLHGC *env, UDATA card)
 
 				MM_RememberedSetCardList *rsclToOverflow = interRegionRememberedSet->findRsclToOverflow((MM_EnvironmentVLHGC *)env);
 				if (NULL == rsclToOverflow) {
-					/* Failed to find an appropriate region to overflow. Abort this transaction by overflowing the current list */
-					setListAsOverflow(env, _rscl);
+					/* Failed to find an appropriate region to overflow. Abort this transaction by making the current list coarse, or overflowing it */
+					if (!setListAsCoarse(env, card)) {
+						setListAsOverflow(env, _rscl);
+					}
 				} else {
 					setListAsOverflow(env, rsclToOverflow);
 
@@ -96,8 +149,10 @@ MM_RememberedSetCardBucket::addToNewBuffer(MM_EnvironmentVLHGC *env, UDATA card)
 					newBuffer = interRegionRememberedSet->allocateCardBufferControlBlockFromLocalPool(env);
 
 					if (NULL == newBuffer) {
-						/* No luck, failed even after overflowing another list. Abort this transaction by overflowing the current list */
-						setListAsOverflow(env, _rscl);
+						/* No luck, failed even after overflowing another list. Abort this transaction by making the current list coarse, or overflowing it */
+						if (!setListAsCoarse(env, card)) {
+							setListAsOverflow(env, _rscl);
+						}
 					} else {
 						/* successfully allocated a buffer */
 						MM_AtomicOperations::add(&_rscl->_bufferCount, 1);
@@ -138,6 +138,20 @@ public:
 	 */
 	void setListAsOverflow(MM_EnvironmentVLHGC *env, MM_RememberedSetCardList *listToOverflow);
 
+	/**
+	 * Try to switch the owning list to a coarse (region granular) representation instead of overflowing it.
+	 * On success the cards of this bucket (but not of other buckets of the list) are folded into the coarse bitmap,
+	 * the buffers of this bucket are released and the card is remembered coarsely.
+	 * @param card  card being remembered
+	 * @return true if the card is remembered, false if the list could not become coarse (and should be overflowed)
+	 */
+	bool setListAsCoarse(MM_EnvironmentVLHGC *env, UDATA card);
+
+	/**
+	 * Set the bits of the owning list's coarse bitmap for all the cards in this bucket. Buffers are not released.
+	 */
+	void foldIntoCoarse(MM_EnvironmentVLHGC *env);
+
 	/**
 	 * Remove NULL entries and compact the list. Releases unused buffers.
 	 * Not thread safe. Called only for non-overflowed lists.
@@ -52,7 +52,7 @@ MM_RememberedSetCardList::isEmpty(MM_EnvironmentVLHGC *env)
 {
 	bool empty = true;
 
-	if (TRUE == _overflowed) {
+	if ((TRUE == _overflowed) || isCoarse()) {
 		empty = false;
 	} else {
 		if (0 != _bufferCount) {
@@ -115,10 +115,35 @@ MM_RememberedSetCardList::releaseBuffersForCurrentThread(MM_EnvironmentVLHGC *en
 	currentBucket->globalReleaseBuffers(env);
 }
 
+void
+MM_RememberedSetCardList::foldBuffersIntoCoarse(MM_EnvironmentVLHGC *env)
+{
+	Assert_MM_true(isCoarse());
+
+	if (0 != _bufferCount) {
+		MM_RememberedSetCardBucket *currentBucket = _bucketListHead;
+		while (NULL != currentBucket) {
+			currentBucket->foldIntoCoarse(env);
+			currentBucket = currentBucket->_next;
+		}
+		releaseBuffers(env);
+	}
+}
+
+void
+MM_RememberedSetCardList::releaseCoarseBitmap(MM_EnvironmentVLHGC *env)
+{
+	if (isCoarse()) {
+		MM_GCExtensions::getExtensions(env)->interRegionRememberedSet->releaseCoarseBitmap(env, _coarseRegionBitmap);
+		_coarseRegionBitmap = NULL;
+	}
+}
+
 void
 MM_RememberedSetCardList::clear(MM_EnvironmentVLHGC *env)
 {
 	releaseBuffers(env);
+	releaseCoarseBitmap(env);
 	_overflowed = FALSE;
 	_stable = false;
 }
@@ -137,6 +162,10 @@ bool
 MM_RememberedSetCardList::isRemembered(MM_EnvironmentVLHGC *env, UDATA card)
 {
 	Assert_MM_true(FALSE == _overflowed);
+
+	if (isCoarse() && MM_GCExtensions::getExtensions(env)->interRegionRememberedSet->isCoarseRegionRemembered(_coarseRegionBitmap, card)) {
+		return true;
+	}
 	
 	MM_RememberedSetCardBucket *currentBucket = _bucketListHead;
 	while (NULL != currentBucket) {
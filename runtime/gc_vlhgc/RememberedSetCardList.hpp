@@ -50,6 +50,7 @@ private:
 	bool _stable;											/**< if true, list is overflowed due to region being stable */
 	volatile UDATA _bufferCount;										/**< count of buffers in all buckets' lists */
 	MM_RememberedSetCardList * volatile _nonEmptyOverflowedNext; 		/**< overflowed RSCL found during a GC cycle are linked into a single liked list - this is next pointer */
+	UDATA * volatile _coarseRegionBitmap;					/**< one bit per referencing region once the list went coarse, NULL while cards are tracked individually */
 private:
 	/**
 	 * Remove an entry. This just NULLs the entry. Compaction/shifting is to be done later, explicitly.
@@ -76,7 +77,7 @@ public:
 	void add(MM_EnvironmentVLHGC *env, J9Object *object);
 
 	/**
-	 * Search the list and check if this object's card is remembered.
+	 * Search the list and check if this object's card is remembered (for a coarse list, if its region is remembered).
 	 * Caller assures the list is not overflowed. Not thread safe.
 	 */
 	bool isRemembered(MM_EnvironmentVLHGC *env, J9Object *object);
@@ -102,6 +103,14 @@ public:
 		return _stable;
 	}
 
+	/**
+	 * Check if the list is coarse. A coarse list remembers referencing regions rather than referencing cards;
+	 * it is still accurate, but every card of a remembered region is reported as referencing.
+	 */
+	bool isCoarse() {
+		return (NULL != _coarseRegionBitmap);
+	}
+
 	/**
 	 * Check if the list is being rebuilt
 	 */
@@ -139,12 +148,12 @@ public:
 	}
 
 	/**
-	 * @return true if all buckets are empty (have no cards and are not overflowed)
+	 * @return true if all buckets are empty (have no cards and are not overflowed) and the list is not coarse
 	 */
 	bool isEmpty(MM_EnvironmentVLHGC *env);
 
 	/**
-	 * @return the size (should be used for stats purposes only)
+	 * @return the size (should be used for stats purposes only). Regions remembered by a coarse list are not included.
 	 */
 	UDATA getSize(MM_EnvironmentVLHGC *env);
 
@@ -169,7 +178,19 @@ public:
 	void releaseBuffersForCurrentThread(MM_EnvironmentVLHGC *env);
 
 	/**
-	 * Empty out the list. Clear the overflow flag.
+	 * Move the cards of all the buckets into the coarse bitmap and release the buffers.
+	 * Not thread safe. Called only for coarse lists.
+	 */
+	void foldBuffersIntoCoarse(MM_EnvironmentVLHGC *env);
+
+	/**
+	 * Return the coarse bitmap (if any) to the pool, switching the list back to individual cards.
+	 * Not thread safe.
+	 */
+	void releaseCoarseBitmap(MM_EnvironmentVLHGC *env);
+
+	/**
+	 * Empty out the list. Clear the overflow flag and drop the coarse bitmap.
 	 */
 	void clear(MM_EnvironmentVLHGC *env);
 
@@ -193,6 +214,7 @@ public:
 	  , _stable(false)
 	  , _bufferCount(0)
 	  , _nonEmptyOverflowedNext(NULL)
+	  , _coarseRegionBitmap(NULL)
 	{
 		_typeId = __FUNCTION__;
 	}
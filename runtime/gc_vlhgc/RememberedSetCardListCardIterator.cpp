@@ -69,20 +69,64 @@ GC_RememberedSetCardListCardIterator::nextBucket(MM_EnvironmentBase* env)
 	return true;
 }
 
+bool
+GC_RememberedSetCardListCardIterator::nextCoarseRegion(MM_EnvironmentBase* env)
+{
+	MM_InterRegionRememberedSet *interRegionRememberedSet = MM_GCExtensions::getExtensions(env)->interRegionRememberedSet;
+	UDATA *coarseRegionBitmap = _rscl->_coarseRegionBitmap;
+
+	if (NULL != coarseRegionBitmap) {
+		UDATA regionCount = interRegionRememberedSet->_heapRegionManager->getTableRegionCount();
+		while (_coarseRegionIndex < regionCount) {
+			UDATA slot = coarseRegionBitmap[_coarseRegionIndex / J9BITS_BITS_IN_SLOT];
+			if (0 == slot) {
+				/* skip the whole slot */
+				_coarseRegionIndex = (_coarseRegionIndex / J9BITS_BITS_IN_SLOT + 1) * J9BITS_BITS_IN_SLOT;
+			} else {
+				UDATA regionIndex = _coarseRegionIndex;
+				_coarseRegionIndex += 1;
+				UDATA bit = (UDATA)1 << (regionIndex % J9BITS_BITS_IN_SLOT);
+				if (bit == (slot & bit)) {
+					UDATA stride = interRegionRememberedSet->rememberedSetCardStride();
+					_coarseCard = interRegionRememberedSet->firstRememberedSetCardForRegionIndex(regionIndex);
+					_coarseCardTop = _coarseCard + ((interRegionRememberedSet->_regionSize / CARD_SIZE) * stride);
+					return true;
+				}
+			}
+		}
+	}
+
+	return false;
+}
+
 UDATA
 GC_RememberedSetCardListCardIterator::nextReferencingCard(MM_EnvironmentBase *env)
 {
-	bool const compressed = env->compressObjectReferences();
-	do {
+	if (!_iteratingCoarseRegions) {
+		bool const compressed = env->compressObjectReferences();
 		do {
-			/* next card within the buffer */
-			if (_cardIndex < _cardIndexTop) {
-				MM_RememberedSetCard *cardAddress = MM_RememberedSetCard::addToCardAddress(_bufferCardList, _cardIndex, compressed);
-				_cardIndex += 1;
-				return MM_RememberedSetCard::readCard(cardAddress, compressed);
-			}
-		} while (nextBuffer(env, _cardBufferControlBlockNext));
-	} while (nextBucket(env));
+			do {
+				/* next card within the buffer */
+				if (_cardIndex < _cardIndexTop) {
+					MM_RememberedSetCard *cardAddress = MM_RememberedSetCard::addToCardAddress(_bufferCardList, _cardIndex, compressed);
+					_cardIndex += 1;
+					return MM_RememberedSetCard::readCard(cardAddress, compressed);
+				}
+			} while (nextBuffer(env, _cardBufferControlBlockNext));
+		} while (nextBucket(env));
+
+		/* buffers are exhausted - continue with the regions of a coarse list */
+		_iteratingCoarseRegions = true;
+	}
+
+	do {
+		/* next card within the coarse region */
+		if (_coarseCard < _coarseCardTop) {
+			UDATA card = _coarseCard;
+			_coarseCard += MM_GCExtensions::getExtensions(env)->interRegionRememberedSet->rememberedSetCardStride();
+			return card;
+		}
+	} while (nextCoarseRegion(env));
 
 	return 0;
 }
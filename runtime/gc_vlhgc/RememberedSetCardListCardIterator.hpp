@@ -40,6 +40,10 @@ private:
 	MM_CardBufferControlBlock *_cardBufferControlBlockNext; /**< next buffer control block */
 	UDATA _cardIndex; 				/**< The card index in the RSCL */
 	UDATA _cardIndexTop;			/**< Top index in the current buffer */
+	bool _iteratingCoarseRegions;	/**< true once buffers are exhausted and the regions of a coarse list are being walked */
+	UDATA _coarseRegionIndex;		/**< index of the next region to check in the coarse bitmap */
+	UDATA _coarseCard;				/**< next card to report from the current coarse region */
+	UDATA _coarseCardTop;			/**< card right after the current coarse region */
 private:
 	/**
 	 * Next buffer given a current buffer (control block). Initializes _bufferCardList and resets _cardIndex.
@@ -51,6 +55,11 @@ private:
 	 * @return true if there was a new bucket
 	 */
 	bool nextBucket(MM_EnvironmentBase* env);
+	/**
+	 * Next region remembered by a coarse list. Initializes _coarseCard and _coarseCardTop.
+	 * @return true if there was a new region
+	 */
+	bool nextCoarseRegion(MM_EnvironmentBase* env);
 
 protected:
 public:
@@ -67,10 +76,15 @@ public:
 		, _cardBufferControlBlockNext(NULL)
 		, _cardIndex(MM_RememberedSetCardBucket::MAX_BUFFER_SIZE)
 		, _cardIndexTop(MM_RememberedSetCardBucket::MAX_BUFFER_SIZE)
+		, _iteratingCoarseRegions(false)
+		, _coarseRegionIndex(0)
+		, _coarseCard(0)
+		, _coarseCardTop(0)
 		{}
 
 	/**
-	 * @return the next referencing card to the region owning this CardList, or 0 if there are no more cards
+	 * @return the next referencing card to the region owning this CardList, or 0 if there are no more cards.
+	 * For a coarse list, all the cards of the remembered regions are returned after the cards in the buffers.
 	 */
 	UDATA nextReferencingCard(MM_EnvironmentBase* env);
 
@@ -82,7 +96,8 @@ public:
 	MMINLINE void
 	removeCurrentCard(MM_EnvironmentBase *env)
 	{
-		if (_cardIndex > 0) {
+		/* cards of coarse regions are not individually remembered, thus they cannot be removed */
+		if (!_iteratingCoarseRegions && (_cardIndex > 0)) {
 			_rscl->removeCard(env, _bufferCardList, _cardIndex - 1);
 		}
 	}
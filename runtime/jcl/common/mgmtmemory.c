@@ -25,6 +25,7 @@
 #include "mgmtinit.h"
 #include "jvminit.h"
 #include "verbose_api.h"
+#include "util_api.h"
 
 static UDATA getIndexFromMemoryPoolID(J9JavaLangManagementData *mgmt, UDATA id);
 static UDATA getIndexFromGCID(J9JavaLangManagementData *mgmt, UDATA id);
@@ -536,6 +537,186 @@ Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsI
 	return result;
 }
 
+jint JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerWorkerThreadsImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_GC_FINALIZATION)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	return (jint)javaVM->memoryManagerFunctions->j9gc_get_finalizer_worker_thread_count(javaVM);
+#else
+	return (jint)0;
+#endif
+}
+
+jlong JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerCompletedCountImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_GC_FINALIZATION)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	return (jlong)javaVM->memoryManagerFunctions->j9gc_get_finalizer_completed_job_count(javaVM);
+#else
+	return (jlong)0;
+#endif
+}
+
+jdouble JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerDrainRateImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_GC_FINALIZATION)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	return (jdouble)javaVM->memoryManagerFunctions->j9gc_get_finalizer_drain_rate(javaVM);
+#else
+	return (jdouble)0.0;
+#endif
+}
+
+#define ALLOCATION_SITE_NAME_BUFFER_SIZE 1024
+#define ALLOCATION_SITE_STATS_PER_SITE 4
+
+typedef struct AllocationSiteNames {
+	char className[ALLOCATION_SITE_NAME_BUFFER_SIZE];
+	char methodName[ALLOCATION_SITE_NAME_BUFFER_SIZE];
+	char allocatedClassName[ALLOCATION_SITE_NAME_BUFFER_SIZE];
+	jint lineNumber;
+} AllocationSiteNames;
+
+/**
+ * Copy a class name into buffer, in the Java (dotted) form. Array classes are printed
+ * as their leaf component type followed by one pair of brackets per dimension.
+ */
+static void
+formatAllocationSiteClassName(J9Class *clazz, char *buffer, UDATA bufferSize)
+{
+	J9Class *leafClass = clazz;
+	UDATA arity = 0;
+	J9UTF8 *name = NULL;
+	UDATA length = 0;
+	UDATA i = 0;
+
+	if (J9ROMCLASS_IS_ARRAY(clazz->romClass)) {
+		leafClass = ((J9ArrayClass *)clazz)->leafComponentType;
+		arity = ((J9ArrayClass *)clazz)->arity;
+	}
+	name = J9ROMCLASS_CLASSNAME(leafClass->romClass);
+	length = J9UTF8_LENGTH(name);
+	if (length > (bufferSize - 1)) {
+		length = bufferSize - 1;
+	}
+	for (i = 0; i < length; i++) {
+		char c = (char)J9UTF8_DATA(name)[i];
+		buffer[i] = ('/' == c) ? '.' : c;
+	}
+	while ((arity > 0) && ((i + 2) < bufferSize)) {
+		buffer[i++] = '[';
+		buffer[i++] = ']';
+		arity -= 1;
+	}
+	buffer[i] = '\0';
+}
+
+jint JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getAllocationSitesImpl(JNIEnv *env, jobject beanInstance, jobjectArray classNames, jobjectArray methodNames, jintArray lineNumbers, jobjectArray allocatedClassNames, jlongArray stats)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = javaVM->internalVMFunctions;
+	UDATA maxSites = (UDATA)(*env)->GetArrayLength(env, classNames);
+	J9GCAllocationSite *sites = NULL;
+	AllocationSiteNames *names = NULL;
+	jlong *siteStats = NULL;
+	UDATA sampleInterval = 0;
+	UDATA count = 0;
+	UDATA i = 0;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	if (0 == maxSites) {
+		return 0;
+	}
+
+	sites = (J9GCAllocationSite *)j9mem_allocate_memory(maxSites * sizeof(J9GCAllocationSite), J9MEM_CATEGORY_VM_JCL);
+	names = (AllocationSiteNames *)j9mem_allocate_memory(maxSites * sizeof(AllocationSiteNames), J9MEM_CATEGORY_VM_JCL);
+	siteStats = (jlong *)j9mem_allocate_memory(maxSites * ALLOCATION_SITE_STATS_PER_SITE * sizeof(jlong), J9MEM_CATEGORY_VM_JCL);
+	if ((NULL == sites) || (NULL == names) || (NULL == siteStats)) {
+		vmFuncs->throwNativeOOMError(env, 0, 0);
+		goto done;
+	}
+
+	/* The methods and classes of the sites are only valid while VM access is held, so format
+	 * everything into native memory before creating any Java object.
+	 */
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	count = javaVM->memoryManagerFunctions->j9gc_get_allocation_sites(currentThread, sites, maxSites, &sampleInterval);
+	for (i = 0; i < count; i++) {
+		J9GCAllocationSite *site = &sites[i];
+		J9Class *methodClass = J9_CLASS_FROM_METHOD(site->method);
+		J9UTF8 *methodName = J9ROMMETHOD_NAME(J9_ROM_METHOD_FROM_RAM_METHOD(site->method));
+		UDATA methodNameLength = J9UTF8_LENGTH(methodName);
+		UDATA lineNumber = (UDATA)-1;
+
+		formatAllocationSiteClassName(methodClass, names[i].className, ALLOCATION_SITE_NAME_BUFFER_SIZE);
+		if (methodNameLength > (ALLOCATION_SITE_NAME_BUFFER_SIZE - 1)) {
+			methodNameLength = ALLOCATION_SITE_NAME_BUFFER_SIZE - 1;
+		}
+		memcpy(names[i].methodName, J9UTF8_DATA(methodName), methodNameLength);
+		names[i].methodName[methodNameLength] = '\0';
+		formatAllocationSiteClassName(site->clazz, names[i].allocatedClassName, ALLOCATION_SITE_NAME_BUFFER_SIZE);
+		if (site->bytecodeOffset >= 0) {
+			lineNumber = getLineNumberForROMClass(javaVM, site->method, (UDATA)site->bytecodeOffset);
+		}
+		names[i].lineNumber = ((UDATA)-1 == lineNumber) ? (jint)-1 : (jint)lineNumber;
+		siteStats[(i * ALLOCATION_SITE_STATS_PER_SITE)] = (jlong)site->sampledBytes;
+		siteStats[(i * ALLOCATION_SITE_STATS_PER_SITE) + 1] = (jlong)site->samples;
+		siteStats[(i * ALLOCATION_SITE_STATS_PER_SITE) + 2] = (jlong)site->survivedSamples;
+		siteStats[(i * ALLOCATION_SITE_STATS_PER_SITE) + 3] = (jlong)site->diedSamples;
+	}
+	vmFuncs->internalExitVMToJNI(currentThread);
+
+	for (i = 0; i < count; i++) {
+		jstring string = NULL;
+		jint lineNumber = names[i].lineNumber;
+
+		string = (*env)->NewStringUTF(env, names[i].className);
+		if (NULL == string) {
+			goto done;
+		}
+		(*env)->SetObjectArrayElement(env, classNames, (jsize)i, string);
+		(*env)->DeleteLocalRef(env, string);
+
+		string = (*env)->NewStringUTF(env, names[i].methodName);
+		if (NULL == string) {
+			goto done;
+		}
+		(*env)->SetObjectArrayElement(env, methodNames, (jsize)i, string);
+		(*env)->DeleteLocalRef(env, string);
+
+		string = (*env)->NewStringUTF(env, names[i].allocatedClassName);
+		if (NULL == string) {
+			goto done;
+		}
+		(*env)->SetObjectArrayElement(env, allocatedClassNames, (jsize)i, string);
+		(*env)->DeleteLocalRef(env, string);
+
+		(*env)->SetIntArrayRegion(env, lineNumbers, (jsize)i, 1, &lineNumber);
+	}
+	(*env)->SetLongArrayRegion(env, stats, 0, (jsize)(count * ALLOCATION_SITE_STATS_PER_SITE), siteStats);
+
+done:
+	j9mem_free_memory(siteStats);
+	j9mem_free_memory(names);
+	j9mem_free_memory(sites);
+	return (jint)count;
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getAllocationSiteSampleIntervalImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	UDATA sampleInterval = 0;
+
+	currentThread->javaVM->memoryManagerFunctions->j9gc_get_allocation_sites(currentThread, NULL, 0, &sampleInterval);
+	return (jlong)sampleInterval;
+}
+
 /* Implementation of the main loop of a thread that processes and dispatches memory usage notifications to Java handlers. */
 void JNICALL
 Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificationLoop(JNIEnv *env, jobject threadInstance)
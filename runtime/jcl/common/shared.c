@@ -1863,6 +1863,23 @@ Java_com_ibm_oti_shared_SharedClassStatistics_maxJitDataBytesImpl(JNIEnv* env, j
 	return (jlong)ret;
 }
 
+jlong JNICALL
+Java_com_ibm_oti_shared_SharedClassStatistics_timestampChecksAvoidedImpl(JNIEnv* env, jobject thisObj)
+{
+	jlong result = 0;
+
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+
+	Trc_JCL_com_ibm_oti_shared_SharedClassStatistics_timestampChecksAvoidedImpl_Entry(env);
+	if (NULL != javaVM->sharedClassConfig) {
+		result = (jlong)javaVM->sharedClassConfig->getFilesystemChecksAvoided(javaVM);
+	}
+	Trc_JCL_com_ibm_oti_shared_SharedClassStatistics_timestampChecksAvoidedImpl_Exit(env, result);
+#endif /* defined(J9VM_OPT_SHARED_CLASSES) */
+	return result;
+}
+
 jlong JNICALL 
 Java_com_ibm_oti_shared_SharedClassStatistics_freeSpaceBytesImpl(JNIEnv* env, jobject thisObj)
 {
@@ -2191,6 +2208,364 @@ _error:
 	return NULL;
 }
 
+/* The ByteBuffers returned by the batch natives are writable views of the cache, which SharedDataHelperImpl
+ * makes read-only before they are returned to the application. This saves an up-call per buffer. */
+jobjectArray JNICALL
+Java_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataBatchImpl(JNIEnv* env, jobject thisObj, jint helperID, jobjectArray tokenArrayObj)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9VMThread* vmThread = (J9VMThread*)env;
+	J9JavaVM* vm = vmThread->javaVM;
+	J9SharedClassConfig* config = vm->sharedClassConfig;
+	UDATA oldState = 0;
+	jobjectArray returnVal = NULL;
+	jclass byteBufferClass = NULL;
+	jsize tokenCount = 0;
+	jsize i = 0;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataBatchImpl_Entry(env, helperID);
+
+	if ((helperID > 0xFFFF) || (config->runtimeFlags & J9SHR_RUNTIMEFLAG_DENY_CACHE_ACCESS)) {
+		Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataBatchImpl_ExitDeny(env);
+		return NULL;
+	}
+
+	oldState = vmThread->omrVMThread->vmState;
+	vmThread->omrVMThread->vmState = J9VMSTATE_SHAREDDATA_FIND;
+
+	tokenCount = (*env)->GetArrayLength(env, tokenArrayObj);
+	if (NULL == (byteBufferClass = (*env)->FindClass(env, "java/nio/ByteBuffer"))) {
+		goto _error;
+	}
+	if (NULL == (returnVal = (*env)->NewObjectArray(env, tokenCount, byteBufferClass, NULL))) {
+		goto _error;
+	}
+
+	omrthread_monitor_enter(config->jclCacheMutex);
+
+	for (i = 0; i < tokenCount; i++) {
+		jstring tokenObj = (jstring)(*env)->GetObjectArrayElement(env, tokenArrayObj, i);
+		const char* tokenChars = NULL;
+		jsize tokenLen = 0;
+		J9SharedDataDescriptor existingData;
+		IDATA numElem = 0;
+
+		if (NULL == tokenObj) {
+			continue;
+		}
+		if (!getStringChars(env, &tokenChars, &tokenLen, tokenObj)) {
+			goto _errorWithMutex;
+		}
+		numElem = config->findSharedData(vmThread, tokenChars, (UDATA)tokenLen, J9SHR_DATA_TYPE_JCL, FALSE, &existingData, NULL);
+		releaseStringChars(env, tokenObj, tokenChars);
+		(*env)->DeleteLocalRef(env, tokenObj);
+
+		if (1 == numElem) {
+			jobject buffer = (*env)->NewDirectByteBuffer(env, existingData.address, (jlong)existingData.length);
+
+			if (NULL == buffer) {
+				goto _errorWithMutex;
+			}
+			(*env)->SetObjectArrayElement(env, returnVal, i, buffer);
+			(*env)->DeleteLocalRef(env, buffer);
+		} else if (numElem > 1) {
+			Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataImpl_MultipleDataForKeyError(env);
+		}
+	}
+
+	omrthread_monitor_exit(config->jclCacheMutex);
+
+	vmThread->omrVMThread->vmState = oldState;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataBatchImpl_Exit(env, tokenCount);
+	return returnVal;
+
+_errorWithMutex:
+	omrthread_monitor_exit(config->jclCacheMutex);
+_error:
+	(*env)->ExceptionClear(env);
+
+	vmThread->omrVMThread->vmState = oldState;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataBatchImpl_ExitError(env);
+#endif		/* J9VM_OPT_SHARED_CLASSES */
+	return NULL;
+}
+
+jobjectArray JNICALL
+Java_com_ibm_oti_shared_SharedDataHelperImpl_storeSharedDataBatchImpl(JNIEnv* env, jobject thisObj, jobject loaderObj, jint helperID, jobjectArray tokenArrayObj, jobjectArray byteBufferArrayObj)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9VMThread* vmThread = (J9VMThread*)env;
+	J9JavaVM* vm = vmThread->javaVM;
+	J9SharedClassConfig* config = vm->sharedClassConfig;
+	UDATA oldState = 0;
+	jobjectArray returnVal = NULL;
+	jclass byteBufferClass = NULL;
+	J9ClassLoader* classloader = NULL;
+	jsize tokenCount = 0;
+	jsize i = 0;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_storeSharedDataBatchImpl_Entry(env, helperID);
+
+	if ((helperID > 0xFFFF) || (config->runtimeFlags & J9SHR_RUNTIMEFLAG_DENY_CACHE_UPDATES)) {
+		Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_storeSharedDataBatchImpl_ExitDenyUpdates(env);
+		return NULL;
+	}
+
+	oldState = vmThread->omrVMThread->vmState;
+	vmThread->omrVMThread->vmState = J9VMSTATE_SHAREDDATA_STORE;
+
+	vm->internalVMFunctions->internalEnterVMFromJNI(vmThread);
+	classloader = J9VMJAVALANGCLASSLOADER_VMREF(vmThread, J9_JNI_UNWRAP_REFERENCE(loaderObj));
+	vm->internalVMFunctions->internalExitVMToJNI(vmThread);
+
+	tokenCount = (*env)->GetArrayLength(env, tokenArrayObj);
+	if (NULL == (byteBufferClass = (*env)->FindClass(env, "java/nio/ByteBuffer"))) {
+		goto _error;
+	}
+	if (NULL == (returnVal = (*env)->NewObjectArray(env, tokenCount, byteBufferClass, NULL))) {
+		goto _error;
+	}
+
+	for (i = 0; i < tokenCount; i++) {
+		jstring tokenObj = (jstring)(*env)->GetObjectArrayElement(env, tokenArrayObj, i);
+		jobject byteBufferInput = (*env)->GetObjectArrayElement(env, byteBufferArrayObj, i);
+		const char* tokenChars = NULL;
+		jsize tokenLen = 0;
+		J9SharedDataDescriptor descriptor;
+		const void* cachedData = NULL;
+
+		if (NULL == tokenObj) {
+			continue;
+		}
+		if (!getStringChars(env, &tokenChars, &tokenLen, tokenObj)) {
+			goto _error;
+		}
+		descriptor.address = NULL;
+		descriptor.length = 0;
+		descriptor.type = J9SHR_DATA_TYPE_JCL;
+		descriptor.flags = 0;
+		if (NULL == byteBufferInput) {
+			/* mark data stored against this token as stale */
+			config->storeSharedData(vmThread, tokenChars, (UDATA)tokenLen, &descriptor);
+		} else {
+			descriptor.address = (U_8*)(*env)->GetDirectBufferAddress(env, byteBufferInput);
+			descriptor.length = (UDATA)((*env)->GetDirectBufferCapacity(env, byteBufferInput));
+			if ((NULL != descriptor.address) && (classloader->flags & J9CLASSLOADER_SHARED_CLASSES_ENABLED)) {
+				cachedData = config->storeSharedData(vmThread, tokenChars, (UDATA)tokenLen, &descriptor);
+			}
+			(*env)->DeleteLocalRef(env, byteBufferInput);
+		}
+		releaseStringChars(env, tokenObj, tokenChars);
+		(*env)->DeleteLocalRef(env, tokenObj);
+
+		if (NULL != cachedData) {
+			jobject buffer = (*env)->NewDirectByteBuffer(env, (void*)cachedData, (jlong)descriptor.length);
+
+			if (NULL == buffer) {
+				goto _error;
+			}
+			(*env)->SetObjectArrayElement(env, returnVal, i, buffer);
+			(*env)->DeleteLocalRef(env, buffer);
+		}
+	}
+
+	vmThread->omrVMThread->vmState = oldState;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_storeSharedDataBatchImpl_Exit(env, tokenCount);
+	return returnVal;
+
+_error:
+	(*env)->ExceptionClear(env);
+
+	vmThread->omrVMThread->vmState = oldState;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_storeSharedDataBatchImpl_ExitError(env);
+#endif		/* J9VM_OPT_SHARED_CLASSES */
+	return NULL;
+}
+
+jobjectArray JNICALL
+Java_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataForPrefixImpl(JNIEnv* env, jobject thisObj, jint helperID, jstring prefixObj)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9VMThread* vmThread = (J9VMThread*)env;
+	J9JavaVM* vm = vmThread->javaVM;
+	J9SharedClassConfig* config = vm->sharedClassConfig;
+	UDATA oldState = 0;
+	const char* prefixChars = NULL;
+	jsize prefixLen = 0;
+	J9Pool* keyDescriptorPool = NULL;
+	jobjectArray returnVal = NULL;
+	jclass objectClass = NULL;
+	IDATA numKeys = 0;
+
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataForPrefixImpl_Entry(env, helperID);
+
+	if ((helperID > 0xFFFF) || (config->runtimeFlags & J9SHR_RUNTIMEFLAG_DENY_CACHE_ACCESS)) {
+		Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataForPrefixImpl_ExitDeny(env);
+		return NULL;
+	}
+
+	oldState = vmThread->omrVMThread->vmState;
+	vmThread->omrVMThread->vmState = J9VMSTATE_SHAREDDATA_FIND;
+
+	if (NULL == (objectClass = (*env)->FindClass(env, "java/lang/Object"))) {
+		goto _error;
+	}
+	keyDescriptorPool = pool_new(sizeof(J9SharedDataKeyDescriptor), 0, 0, 0, J9_GET_CALLSITE(), J9MEM_CATEGORY_VM_JCL, POOL_FOR_PORT(PORTLIB));
+	if (NULL == keyDescriptorPool) {
+		goto _error;
+	}
+	if (!getStringChars(env, &prefixChars, &prefixLen, prefixObj)) {
+		goto _error;
+	}
+
+	numKeys = config->findSharedDataForKeyPrefix(vmThread, prefixChars, (UDATA)prefixLen, J9SHR_DATA_TYPE_JCL, keyDescriptorPool);
+
+	releaseStringChars(env, prefixObj, prefixChars);
+
+	if (numKeys < 0) {
+		goto _error;
+	}
+	/* The result alternates between a token and its data */
+	if (NULL == (returnVal = (*env)->NewObjectArray(env, (jsize)(numKeys * 2), objectClass, NULL))) {
+		goto _error;
+	}
+	if (numKeys > 0) {
+		pool_state state;
+		jsize index = 0;
+		J9SharedDataKeyDescriptor* keyDescriptor = (J9SharedDataKeyDescriptor*)pool_startDo(keyDescriptorPool, &state);
+
+		while (NULL != keyDescriptor) {
+			char stackKey[STACK_STRINGBUF_SIZE];
+			char* keyChars = stackKey;
+			jstring token = NULL;
+			jobject buffer = NULL;
+
+			/* Keys in the cache are not NUL terminated */
+			if (keyDescriptor->keylen >= STACK_STRINGBUF_SIZE) {
+				if (NULL == (keyChars = (char*)j9mem_allocate_memory(keyDescriptor->keylen + 1, J9MEM_CATEGORY_VM_JCL))) {
+					goto _error;
+				}
+			}
+			memcpy(keyChars, keyDescriptor->key, keyDescriptor->keylen);
+			keyChars[keyDescriptor->keylen] = '\0';
+			token = (*env)->NewStringUTF(env, keyChars);
+			if (keyChars != stackKey) {
+				j9mem_free_memory(keyChars);
+			}
+			if (NULL == token) {
+				goto _error;
+			}
+			if (NULL == (buffer = (*env)->NewDirectByteBuffer(env, keyDescriptor->data.address, (jlong)keyDescriptor->data.length))) {
+				goto _error;
+			}
+			(*env)->SetObjectArrayElement(env, returnVal, index++, token);
+			(*env)->SetObjectArrayElement(env, returnVal, index++, buffer);
+			(*env)->DeleteLocalRef(env, token);
+			(*env)->DeleteLocalRef(env, buffer);
+			keyDescriptor = (J9SharedDataKeyDescriptor*)pool_nextDo(&state);
+		}
+	}
+
+	pool_kill(keyDescriptorPool);
+
+	vmThread->omrVMThread->vmState = oldState;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataForPrefixImpl_Exit(env, numKeys);
+	return returnVal;
+
+_error:
+	(*env)->ExceptionClear(env);
+	if (NULL != keyDescriptorPool) {
+		pool_kill(keyDescriptorPool);
+	}
+
+	vmThread->omrVMThread->vmState = oldState;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataForPrefixImpl_ExitError(env);
+#endif		/* J9VM_OPT_SHARED_CLASSES */
+	return NULL;
+}
+
+jobject JNICALL
+Java_com_ibm_oti_shared_SharedDataHelperImpl_replaceSharedDataImpl(JNIEnv* env, jobject thisObj, jobject loaderObj, jint helperID, jstring tokenObj, jobject expectedByteBuffer, jobject byteBufferInput)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9VMThread* vmThread = (J9VMThread*)env;
+	J9JavaVM* vm = vmThread->javaVM;
+	J9SharedClassConfig* config = vm->sharedClassConfig;
+	UDATA oldState = 0;
+	const char* tokenChars = NULL;
+	jsize tokenLen = 0;
+	const U_8* expectedData = NULL;
+	const void* cachedData = NULL;
+	J9SharedDataDescriptor descriptor;
+	J9ClassLoader* classloader = NULL;
+	UDATA replaced = FALSE;
+	jobject returnVal = NULL;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_replaceSharedDataImpl_Entry(env, helperID);
+
+	if ((helperID > 0xFFFF) || (config->runtimeFlags & J9SHR_RUNTIMEFLAG_DENY_CACHE_UPDATES)) {
+		Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_replaceSharedDataImpl_ExitDenyUpdates(env);
+		return NULL;
+	}
+
+	oldState = vmThread->omrVMThread->vmState;
+	vmThread->omrVMThread->vmState = J9VMSTATE_SHAREDDATA_STORE;
+
+	vm->internalVMFunctions->internalEnterVMFromJNI(vmThread);
+	classloader = J9VMJAVALANGCLASSLOADER_VMREF(vmThread, J9_JNI_UNWRAP_REFERENCE(loaderObj));
+	vm->internalVMFunctions->internalExitVMToJNI(vmThread);
+
+	if (NULL != expectedByteBuffer) {
+		expectedData = (const U_8*)(*env)->GetDirectBufferAddress(env, expectedByteBuffer);
+		if (NULL == expectedData) {
+			goto _error;
+		}
+	}
+	descriptor.address = (U_8*)(*env)->GetDirectBufferAddress(env, byteBufferInput);
+	descriptor.length = (UDATA)((*env)->GetDirectBufferCapacity(env, byteBufferInput));
+	descriptor.type = J9SHR_DATA_TYPE_JCL;
+	descriptor.flags = 0;
+
+	if ((NULL == descriptor.address) || J9_ARE_NO_BITS_SET(classloader->flags, J9CLASSLOADER_SHARED_CLASSES_ENABLED)) {
+		goto _error;
+	}
+	if (!getStringChars(env, &tokenChars, &tokenLen, tokenObj)) {
+		goto _error;
+	}
+
+	cachedData = config->replaceSharedData(vmThread, tokenChars, (UDATA)tokenLen, expectedData, &descriptor, &replaced);
+
+	releaseStringChars(env, tokenObj, tokenChars);
+
+	if (NULL != cachedData) {
+		if (!(returnVal = createDirectByteBuffer(env, cachedData, descriptor.length))) {
+			goto _error;
+		}
+	}
+
+	vmThread->omrVMThread->vmState = oldState;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_replaceSharedDataImpl_Exit(env, replaced, returnVal);
+	return returnVal;
+
+_error:
+	(*env)->ExceptionClear(env);
+
+	vmThread->omrVMThread->vmState = oldState;
+
+	Trc_JCL_com_ibm_oti_shared_SharedDataHelperImpl_replaceSharedDataImpl_ExitError(env);
+#endif		/* J9VM_OPT_SHARED_CLASSES */
+	return NULL;
+}
+
 
 jboolean JNICALL 
 Java_com_ibm_oti_shared_SharedAbstractHelper_getIsVerboseImpl(JNIEnv* env, jobject thisObj) 
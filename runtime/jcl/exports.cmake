@@ -44,6 +44,9 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_createMemoryManagers
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_createMemoryPools
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsImpl
+	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerCompletedCountImpl
+	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerDrainRateImpl
+	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerWorkerThreadsImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getGCMainThreadCpuUsedImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getGCModeImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getGCWorkerThreadsCpuUsedImpl
@@ -216,6 +219,8 @@ omr_add_exports(jclse
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2Ljava_lang_String_2
 	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getAllocationSiteSampleIntervalImpl
+	Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getAllocationSitesImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getFreePhysicalMemorySizeImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getHardwareModelImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getMemoryUsageImpl
@@ -265,6 +270,7 @@ omr_add_exports(jclse
 	Java_com_ibm_oti_shared_SharedClassStatistics_minAotBytesImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_minJitDataBytesImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_softmxBytesImpl
+	Java_com_ibm_oti_shared_SharedClassStatistics_timestampChecksAvoidedImpl
 	Java_com_ibm_oti_shared_SharedClassTokenHelperImpl_findSharedClassImpl2
 	Java_com_ibm_oti_shared_SharedClassTokenHelperImpl_storeSharedClassImpl2
 	Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl2
@@ -278,7 +284,11 @@ omr_add_exports(jclse
 	Java_com_ibm_oti_shared_SharedClassUtilities_destroySharedCacheImpl
 	Java_com_ibm_oti_shared_SharedClassUtilities_getSharedCacheInfoImpl
 	Java_com_ibm_oti_shared_SharedClassUtilities_init
+	Java_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataBatchImpl
+	Java_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataForPrefixImpl
 	Java_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataImpl
+	Java_com_ibm_oti_shared_SharedDataHelperImpl_replaceSharedDataImpl
+	Java_com_ibm_oti_shared_SharedDataHelperImpl_storeSharedDataBatchImpl
 	Java_com_ibm_oti_shared_SharedDataHelperImpl_storeSharedDataImpl
 	Java_com_ibm_oti_shared_Shared_isNonBootSharingEnabledImpl
 	Java_com_ibm_oti_vm_BootstrapClassLoader_addJar
@@ -1027,6 +1027,12 @@ typedef struct J9SharedDataDescriptor {
 #define J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE  32
 #define J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE_OVERWRITE  64
 
+typedef struct J9SharedDataKeyDescriptor {
+	const U_8* key;
+	UDATA keylen;
+	struct J9SharedDataDescriptor data;
+} J9SharedDataKeyDescriptor;
+
 typedef struct J9SharedStartupHintsDataDescriptor {
 	UDATA flags;
 	UDATA heapSize1;
@@ -1239,6 +1245,9 @@ typedef struct J9SharedCacheAPI {
 	U_8 sharedCacheEnabled;
 	U_8 inContainer; /* It is TRUE only when xShareClassesPresent is FALSE and J9_SHARED_CACHE_DEFAULT_BOOT_SHARING(vm) is TRUE and the JVM is running in container */
 	I_8 layer;
+	UDATA timestampCheckInterval;
+	U_8 timestampWatch;
+	U_8 prefetchStartupPages;
 } J9SharedCacheAPI;
 
 typedef struct J9SharedClassConfig {
@@ -1270,8 +1279,11 @@ typedef struct J9SharedClassConfig {
 	void (* increaseUnstoredBytes)(struct J9JavaVM *vm, U_32 aotBytes, U_32 jitBytes);
 	void (* getUnstoredBytes)(struct J9JavaVM *vm, U_32 *softmxUnstoredBytes, U_32 *maxAOTUnstoredBytes, U_32 *maxJITUnstoredBytes);
 	UDATA  ( *getFreeSpaceBytes)(struct J9JavaVM* vm) ;
+	UDATA  ( *getFilesystemChecksAvoided)(struct J9JavaVM* vm) ;
 	IDATA  ( *findSharedData)(struct J9VMThread* currentThread, const char* key, UDATA keylen, UDATA limitDataType, UDATA includePrivateData, struct J9SharedDataDescriptor* firstItem, const struct J9Pool* descriptorPool) ;
 	const U_8*  ( *storeSharedData)(struct J9VMThread* vmThread, const char* key, UDATA keylen, const struct J9SharedDataDescriptor* data) ;
+	IDATA  ( *findSharedDataForKeyPrefix)(struct J9VMThread* currentThread, const char* prefix, UDATA prefixLen, UDATA dataType, const struct J9Pool* keyDescriptorPool) ;
+	const U_8*  ( *replaceSharedData)(struct J9VMThread* vmThread, const char* key, UDATA keylen, const U_8* expectedData, const struct J9SharedDataDescriptor* data, UDATA* replaced) ;
 	UDATA  ( *storeAttachedData)(struct J9VMThread* vmThread, const void* addressInCache, const struct J9SharedDataDescriptor* data, UDATA forceReplace) ;
 	const U_8*  ( *findAttachedData)(struct J9VMThread* vmThread, const void* addressInCache, struct J9SharedDataDescriptor* data, IDATA *dataIsCorrupt) ;
 	UDATA  ( *updateAttachedData)(struct J9VMThread* vmThread, const void* addressInCache, I_32 updateAtOffset, const J9SharedDataDescriptor* data) ;
@@ -4081,6 +4093,17 @@ typedef struct J9InternalVMLabels {
 	void* cInterpreter;
 } J9InternalVMLabels;
 
+/* An allocation site reported by the GC allocation site profiler (-Xgc:allocationSiteProfiler) */
+typedef struct J9GCAllocationSite {
+	struct J9Method *method; /* method at the top of the stack when the samples were taken, NULL if there was no Java frame */
+	IDATA bytecodeOffset; /* bytecode offset in method, -1 if unknown */
+	struct J9Class *clazz; /* class of the sampled objects */
+	UDATA sampledBytes; /* estimated bytes allocated at the site */
+	UDATA samples; /* number of samples taken at the site */
+	UDATA survivedSamples; /* followed samples found alive after a collection */
+	UDATA diedSamples; /* followed samples found dead after a collection */
+} J9GCAllocationSite;
+
 typedef struct J9MemoryManagerFunctions {
 	j9object_t  ( *J9AllocateIndexableObject)(struct J9VMThread *vmContext, J9Class *clazz, U_32 size, UDATA allocateFlags) ;
 	j9object_t  ( *J9AllocateObject)(struct J9VMThread *vmContext, J9Class *clazz, UDATA allocateFlags) ;
@@ -4168,6 +4191,9 @@ typedef struct J9MemoryManagerFunctions {
 	UDATA  ( *j9gc_ext_check_is_valid_heap_object)(struct J9JavaVM *javaVM, j9object_t ptr, UDATA flags) ;
 #if defined(J9VM_GC_FINALIZATION)
 	UDATA  ( *j9gc_get_objects_pending_finalization_count)(struct J9JavaVM* vm) ;
+	UDATA  ( *j9gc_get_finalizer_completed_job_count)(struct J9JavaVM* vm) ;
+	UDATA  ( *j9gc_get_finalizer_worker_thread_count)(struct J9JavaVM* vm) ;
+	double  ( *j9gc_get_finalizer_drain_rate)(struct J9JavaVM* vm) ;
 #endif /* J9VM_GC_FINALIZATION */
 	UDATA  ( *j9gc_set_softmx)(struct J9JavaVM *javaVM, UDATA newsoftmx) ;
 	UDATA  ( *j9gc_get_softmx)(struct J9JavaVM *javaVM) ;
@@ -4318,6 +4344,8 @@ typedef struct J9MemoryManagerFunctions {
 	I_32  ( *j9gc_get_jit_string_dedup_policy)(struct J9JavaVM *javaVM) ;
 	UDATA ( *j9gc_stringHashFn)(void *key, void *userData);
 	UDATA ( *j9gc_stringHashEqualFn)(void *leftKey, void *rightKey, void *userData);
+	UDATA  ( *j9gc_get_allocation_sites)(struct J9VMThread *vmThread, J9GCAllocationSite *sites, UDATA maxSites, UDATA *sampleInterval) ;
+	jvmtiIterationControl  ( *j9mm_iterate_region_objects_in_range)(struct J9JavaVM *vm, J9PortLibrary *portLibrary, struct J9MM_IterateRegionDescriptor *region, void *base, void *top, UDATA flags, jvmtiIterationControl (*func)(struct J9JavaVM *vm, struct J9MM_IterateObjectDescriptor *objectDesc, void *userData), void *userData) ;
 } J9MemoryManagerFunctions;
 
 typedef struct J9InternalVMFunctions {
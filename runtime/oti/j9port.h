@@ -289,6 +289,16 @@ typedef struct J9ProcessHandleStruct *J9ProcessHandle;
 
 #define J9PORT_INVALID_FD	-1
 
+/**
+ * @name File Watches
+ * Changes that j9file_watch_add() watches for.
+ */
+#define J9PORT_FILE_WATCH_FILE ((uintptr_t) 0x00000001)
+#define J9PORT_FILE_WATCH_DIRECTORY ((uintptr_t) 0x00000002)
+
+/* Watch id passed to the j9file_watch_wait() callback when changes were lost */
+#define J9PORT_FILE_WATCH_ALL_CHANGES ((intptr_t) -1)
+
 #if defined(LINUX) && !defined(J9ZTPF)
 typedef pthread_spinlock_t spinlock_t;
 #else /* defined(LINUX) && !defined(J9ZTPF) */
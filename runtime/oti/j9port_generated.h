@@ -140,12 +140,14 @@ typedef struct J9GSParameters {
 struct J9Heap; /* Forward struct declaration */
 struct j9shsem_handle; /* Forward struct declaration */
 struct j9shmem_handle; /* Forward struct declaration */
+struct j9file_watch_handle; /* Forward struct declaration */
 struct j9NetworkInterfaceArray_struct; /* Forward struct declaration */
 struct J9ControlFileStatus; /* Forward struct declaration */
 struct J9PortLibrary;
 
 typedef uintptr_t (*j9sig_protected_fn)(struct J9PortLibrary *portLib, void *handler_arg);
 typedef uintptr_t (*j9sig_handler_fn)(struct J9PortLibrary *portLib, uint32_t gpType, void *gpInfo, void *handler_arg);
+typedef void (*j9file_watch_callback)(void *userData, intptr_t watchId, const char *name);
 
 typedef struct J9PortLibrary {
 	/** omrPortLibrary, must be the first member of J9PortLibrary */
@@ -316,6 +318,20 @@ typedef struct J9PortLibrary {
 	uintptr_t  ( *shmem_get_region_granularity)(struct J9PortLibrary *portLibrary, const char* cacheDirName, uintptr_t groupPerm, void *address) ;
 	/** see @ref j9shmem.c::j9shmem_getid "j9shmem_getid"*/
 	int32_t  ( *shmem_getid)(struct J9PortLibrary *portLibrary, struct j9shmem_handle* handle);
+	/** see @ref j9shmem.c::j9shmem_will_need "j9shmem_will_need"*/
+	intptr_t  ( *shmem_will_need)(struct J9PortLibrary *portLibrary, void *address, uintptr_t length, uint8_t *residentPages);
+	/** see @ref j9filewatch.c::j9file_watch_open "j9file_watch_open"*/
+	intptr_t  ( *file_watch_open)(struct J9PortLibrary *portLibrary, struct j9file_watch_handle **handle);
+	/** see @ref j9filewatch.c::j9file_watch_add "j9file_watch_add"*/
+	intptr_t  ( *file_watch_add)(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle, const char *path, uintptr_t flags);
+	/** see @ref j9filewatch.c::j9file_watch_resolve_path "j9file_watch_resolve_path"*/
+	intptr_t  ( *file_watch_resolve_path)(struct J9PortLibrary *portLibrary, const char *path, char *buf, uintptr_t bufLen);
+	/** see @ref j9filewatch.c::j9file_watch_wait "j9file_watch_wait"*/
+	intptr_t  ( *file_watch_wait)(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle, j9file_watch_callback callback, void *userData);
+	/** see @ref j9filewatch.c::j9file_watch_stop "j9file_watch_stop"*/
+	void  ( *file_watch_stop)(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle);
+	/** see @ref j9filewatch.c::j9file_watch_close "j9file_watch_close"*/
+	void  ( *file_watch_close)(struct J9PortLibrary *portLibrary, struct j9file_watch_handle **handle);
 	/** see @ref j9sysinfo.c::j9sysinfo_get_processing_capacity "j9sysinfo_get_processing_capacity"*/
 	uintptr_t  ( *sysinfo_get_processing_capacity)(struct J9PortLibrary *portLibrary) ;
 	/** see @ref j9port.c::j9port_init_library "j9port_init_library"*/
@@ -734,6 +750,13 @@ extern J9_CFUNC int32_t j9port_isCompatible(struct J9PortLibraryVersion *expecte
 #define j9shmem_protect(param1,param2,param3,param4,param5) privatePortLibrary->shmem_protect(privatePortLibrary,param1,param2,param3,param4,param5)
 #define j9shmem_get_region_granularity(param1,param2,param3) privatePortLibrary->shmem_get_region_granularity(privatePortLibrary,param1,param2,param3)
 #define j9shmem_getid(param1) privatePortLibrary->shmem_getid(privatePortLibrary,param1)
+#define j9shmem_will_need(param1,param2,param3) privatePortLibrary->shmem_will_need(privatePortLibrary,param1,param2,param3)
+#define j9file_watch_open(param1) privatePortLibrary->file_watch_open(privatePortLibrary,param1)
+#define j9file_watch_add(param1,param2,param3) privatePortLibrary->file_watch_add(privatePortLibrary,param1,param2,param3)
+#define j9file_watch_resolve_path(param1,param2,param3) privatePortLibrary->file_watch_resolve_path(privatePortLibrary,param1,param2,param3)
+#define j9file_watch_wait(param1,param2,param3) privatePortLibrary->file_watch_wait(privatePortLibrary,param1,param2,param3)
+#define j9file_watch_stop(param1) privatePortLibrary->file_watch_stop(privatePortLibrary,param1)
+#define j9file_watch_close(param1) privatePortLibrary->file_watch_close(privatePortLibrary,param1)
 #define j9sysinfo_get_limit(param1,param2) OMRPORT_FROM_J9PORT(privatePortLibrary)->sysinfo_get_limit(OMRPORT_FROM_J9PORT(privatePortLibrary),param1,param2)
 #define j9sysinfo_set_limit(param1,param2) OMRPORT_FROM_J9PORT(privatePortLibrary)->sysinfo_set_limit(OMRPORT_FROM_J9PORT(privatePortLibrary),param1,param2)
 #define j9sysinfo_get_processing_capacity() privatePortLibrary->sysinfo_get_processing_capacity(privatePortLibrary)
@@ -118,8 +118,24 @@
 #define J9PORT_ERROR_SHMEM_GET_DIR_HOME_BUF_OVERFLOW (J9PORT_ERROR_SHMEM_BASE-21)
 #define J9PORT_ERROR_SHMEM_GET_DIR_HOME_ON_NFS (J9PORT_ERROR_SHMEM_BASE-22)
 #define J9PORT_ERROR_SHMEM_GET_DIR_CANNOT_STAT_HOME	(J9PORT_ERROR_SHMEM_BASE-23)
+#define J9PORT_ERROR_SHMEM_WILL_NEED_NOT_SUPPORTED (J9PORT_ERROR_SHMEM_BASE-24)
+#define J9PORT_ERROR_SHMEM_WILL_NEED_FAILED (J9PORT_ERROR_SHMEM_BASE-25)
 
 
+/** @} */
+
+/**
+ * @name File Watch Errors
+ * Error codes for file change notification
+ *
+ * @internal J9PORT_ERROR_FILE_WATCH* range from -900 to -909 avoid overlap
+ * @{
+ */
+#define J9PORT_ERROR_FILE_WATCH_BASE -900
+#define J9PORT_ERROR_FILE_WATCH_FAILED (J9PORT_ERROR_FILE_WATCH_BASE)
+#define J9PORT_ERROR_FILE_WATCH_NOT_SUPPORTED (J9PORT_ERROR_FILE_WATCH_BASE-1)
+#define J9PORT_ERROR_FILE_WATCH_STOPPED (J9PORT_ERROR_FILE_WATCH_BASE-2)
+
 /** @} */
 
 /**
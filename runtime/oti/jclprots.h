@@ -47,6 +47,14 @@ jlong JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_freeSpaceBytesImpl (JNIEnv* env, jobject thisObj);
 jobject JNICALL
 Java_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataImpl (JNIEnv* env, jobject thisObj, jint helperID, jstring tokenObj);
+jobjectArray JNICALL
+Java_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataBatchImpl(JNIEnv* env, jobject thisObj, jint helperID, jobjectArray tokenArrayObj);
+jobjectArray JNICALL
+Java_com_ibm_oti_shared_SharedDataHelperImpl_storeSharedDataBatchImpl(JNIEnv* env, jobject thisObj, jobject loaderObj, jint helperID, jobjectArray tokenArrayObj, jobjectArray byteBufferArrayObj);
+jobjectArray JNICALL
+Java_com_ibm_oti_shared_SharedDataHelperImpl_findSharedDataForPrefixImpl(JNIEnv* env, jobject thisObj, jint helperID, jstring prefixObj);
+jobject JNICALL
+Java_com_ibm_oti_shared_SharedDataHelperImpl_replaceSharedDataImpl(JNIEnv* env, jobject thisObj, jobject loaderObj, jint helperID, jstring tokenObj, jobject expectedByteBuffer, jobject byteBufferInput);
 jlong JNICALL 
 Java_com_ibm_oti_shared_SharedClassStatistics_maxSizeBytesImpl (JNIEnv* env, jobject thisObj);
 jlong JNICALL
@@ -59,6 +67,8 @@ jlong JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_minJitDataBytesImpl(JNIEnv* env, jobject thisObj);
 jlong JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_maxJitDataBytesImpl(JNIEnv* env, jobject thisObj);
+jlong JNICALL
+Java_com_ibm_oti_shared_SharedClassStatistics_timestampChecksAvoidedImpl(JNIEnv* env, jobject thisObj);
 jboolean JNICALL 
 Java_com_ibm_oti_shared_SharedAbstractHelper_getIsVerboseImpl (JNIEnv* env, jobject thisObj);
 void JNICALL 
@@ -420,6 +430,16 @@ extern J9_CFUNC jint JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMaximumGCThreadsImpl(JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jint JNICALL 
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsImpl(JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jint JNICALL 
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerWorkerThreadsImpl(JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jlong JNICALL 
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerCompletedCountImpl(JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jdouble JNICALL 
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerDrainRateImpl(JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jint JNICALL 
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getAllocationSitesImpl(JNIEnv *env, jobject beanInstance, jobjectArray classNames, jobjectArray methodNames, jintArray lineNumbers, jobjectArray allocatedClassNames, jlongArray stats);
+extern J9_CFUNC jlong JNICALL 
+Java_com_ibm_lang_management_internal_ExtendedMemoryMXBeanImpl_getAllocationSiteSampleIntervalImpl(JNIEnv *env, jobject beanInstance);
 
 
 /* J9SourceJclSidecarInit*/
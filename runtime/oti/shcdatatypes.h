@@ -191,6 +191,26 @@ typedef struct ByteDataWrapper {
 #define BDWINPRIVATEUSE(bdw) J9SHR_READMEM((bdw)->inPrivateUse)
 #define BDWPRIVATEOWNERID(bdw) J9SHR_READMEM((bdw)->privateOwnerID)
 
+/* Cache pages touched by a JVM during startup, stored as J9SHR_DATA_TYPE_STARTUP_PAGES byte data.
+ * The data is a sequence of StartupPagesHeader, each followed by its rangeCount StartupPageRange entries. */
+typedef struct StartupPagesHeader {
+	U_64 createTime;	/* create time of the layer the pages belong to */
+	U_32 totalBytes;	/* size of the layer the pages belong to */
+	U_32 osPageSize;
+	U_32 rangeCount;
+	U_32 pageCount;
+	I_8 layer;
+	U_8 padding[7];
+} StartupPagesHeader;
+
+typedef struct StartupPageRange {
+	U_32 firstPage;	/* page index from the start of the layer */
+	U_32 pageCount;
+} StartupPageRange;
+
+#define SPHRANGES(sph) ((StartupPageRange*)(((U_8*)(sph)) + sizeof(StartupPagesHeader)))
+#define SPHLEN(sph) (sizeof(StartupPagesHeader) + (J9SHR_READMEM((sph)->rangeCount) * sizeof(StartupPageRange)))
+
 typedef struct CacheletHints {
 	UDATA length; /* in bytes */
 	UDATA dataType;
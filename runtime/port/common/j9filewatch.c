@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup Port
+ * @brief File change notification
+ *
+ * Platforms that cannot watch files for changes use these functions. Callers are expected to
+ * check the files themselves when j9file_watch_open() returns J9PORT_ERROR_FILE_WATCH_NOT_SUPPORTED.
+ */
+#include "j9port.h"
+#include "j9porterror.h"
+#include "ut_j9prt.h"
+
+/**
+ * Create a set of watches. Changes to the watched files are read with j9file_watch_wait().
+ *
+ * @param[in] portLibrary The port library.
+ * @param[out] handle On success, the new set of watches. NULL on failure.
+ *
+ * @return 0 on success, J9PORT_ERROR_FILE_WATCH_NOT_SUPPORTED if the platform cannot watch files,
+ * J9PORT_ERROR_FILE_WATCH_FAILED on any other failure.
+ */
+intptr_t
+j9file_watch_open(struct J9PortLibrary *portLibrary, struct j9file_watch_handle **handle)
+{
+	*handle = NULL;
+	return J9PORT_ERROR_FILE_WATCH_NOT_SUPPORTED;
+}
+
+/**
+ * Watch a file or a directory. Adding a second watch for the same file returns the same watch id.
+ *
+ * @param[in] portLibrary The port library.
+ * @param[in] handle The set of watches.
+ * @param[in] path The path of the file or directory.
+ * @param[in] flags J9PORT_FILE_WATCH_FILE to be notified when the file is modified, has its attributes
+ * changed, or is moved or deleted. J9PORT_FILE_WATCH_DIRECTORY to be notified when an entry of the
+ * directory is created, deleted or renamed, or when the directory itself is moved or deleted.
+ *
+ * @return the watch id, which is never negative, or a negative error code.
+ */
+intptr_t
+j9file_watch_add(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle, const char *path, uintptr_t flags)
+{
+	return J9PORT_ERROR_FILE_WATCH_NOT_SUPPORTED;
+}
+
+/**
+ * Resolve a path to the absolute path of the file it names, with no symbolic links and no
+ * "." or ".." components. Watches apply to files, so this is the path a watched file is known by.
+ *
+ * @param[in] portLibrary The port library.
+ * @param[in] path The path to resolve.
+ * @param[out] buf The resolved path, NUL terminated.
+ * @param[in] bufLen The size of buf.
+ *
+ * @return the length of the resolved path, or a negative error code if the file does not exist or
+ * the resolved path does not fit in buf.
+ */
+intptr_t
+j9file_watch_resolve_path(struct J9PortLibrary *portLibrary, const char *path, char *buf, uintptr_t bufLen)
+{
+	return J9PORT_ERROR_FILE_WATCH_NOT_SUPPORTED;
+}
+
+/**
+ * Wait until a watched file changes or j9file_watch_stop() is called, then pass each change that
+ * was read to the callback. The callback receives the id of the watch that reported the change and,
+ * for a directory watch, the name of the entry that changed (NULL if the directory itself changed).
+ * If changes were lost, the callback receives J9PORT_FILE_WATCH_ALL_CHANGES and NULL.
+ *
+ * @param[in] portLibrary The port library.
+ * @param[in] handle The set of watches.
+ * @param[in] callback The function called for each change.
+ * @param[in] userData Passed to the callback.
+ *
+ * @return 0 once the changes that were read have been passed to the callback (there may be none),
+ * J9PORT_ERROR_FILE_WATCH_STOPPED if j9file_watch_stop() was called, J9PORT_ERROR_FILE_WATCH_FAILED
+ * on failure.
+ */
+intptr_t
+j9file_watch_wait(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle, j9file_watch_callback callback, void *userData)
+{
+	return J9PORT_ERROR_FILE_WATCH_NOT_SUPPORTED;
+}
+
+/**
+ * Wake a thread that waits in j9file_watch_wait() on the set of watches. That call and any later
+ * call return J9PORT_ERROR_FILE_WATCH_STOPPED. May be called from any thread.
+ *
+ * @param[in] portLibrary The port library.
+ * @param[in] handle The set of watches.
+ */
+void
+j9file_watch_stop(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle)
+{
+}
+
+/**
+ * Remove all the watches of a set and free it. No thread may be waiting in j9file_watch_wait().
+ *
+ * @param[in] portLibrary The port library.
+ * @param[in,out] handle The set of watches. Set to NULL.
+ */
+void
+j9file_watch_close(struct J9PortLibrary *portLibrary, struct j9file_watch_handle **handle)
+{
+	*handle = NULL;
+}
@@ -122,6 +122,13 @@ static J9PortLibrary MainPortLibraryTable = {
 	j9shmem_protect, /* shmem_protect */
 	j9shmem_get_region_granularity, /* shmem_get_region_granularity */
 	j9shmem_getid, /* shmem_getid */
+	j9shmem_will_need, /* shmem_will_need */
+	j9file_watch_open, /* file_watch_open */
+	j9file_watch_add, /* file_watch_add */
+	j9file_watch_resolve_path, /* file_watch_resolve_path */
+	j9file_watch_wait, /* file_watch_wait */
+	j9file_watch_stop, /* file_watch_stop */
+	j9file_watch_close, /* file_watch_close */
 	j9sysinfo_get_processing_capacity, /* sysinfo_get_processing_capacity */
 	j9port_init_library, /* port_init_library */
 	j9port_startup_library, /* port_startup_library */
@@ -445,3 +445,22 @@ j9shmem_getid (struct J9PortLibrary *portLibrary, struct j9shmem_handle* handle)
 {
 	return 0;
 }
+
+/**
+ * Advise the operating system that a mapped region of memory will be accessed soon, so that its pages
+ * are read in ahead of the accesses rather than faulted in one at a time.
+ *
+ * @param[in] portLibrary The port library.
+ * @param[in] address The page aligned start of the region.
+ * @param[in] length The size of the region in bytes.
+ * @param[out] residentPages If not NULL, one byte per page of the region. On success the lowest bit
+ * of each byte is set if the page was resident before the advice was given.
+ *
+ * @return 0 if the advice was given, J9PORT_ERROR_SHMEM_WILL_NEED_NOT_SUPPORTED if the platform does not
+ * support it, another negative value on failure.
+ */
+intptr_t
+j9shmem_will_need(struct J9PortLibrary *portLibrary, void *address, uintptr_t length, uint8_t *residentPages)
+{
+	return J9PORT_ERROR_SHMEM_WILL_NEED_NOT_SUPPORTED;
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup Port
+ * @brief File change notification, using inotify
+ */
+
+/* _GNU_SOURCE for pipe2() */
+#define _GNU_SOURCE
+#include "j9port.h"
+#include "j9porterror.h"
+#include "ut_j9prt.h"
+
+#include <errno.h>
+#include <fcntl.h>
+#include <limits.h>
+#include <poll.h>
+#include <stdlib.h>
+#include <string.h>
+#include <sys/inotify.h>
+#include <unistd.h>
+
+#define J9FILE_WATCH_BUFFER_SIZE 4096
+
+#define J9FILE_WATCH_FILE_EVENTS (IN_ATTRIB | IN_MODIFY | IN_CLOSE_WRITE | IN_MOVE_SELF | IN_DELETE_SELF)
+#define J9FILE_WATCH_DIRECTORY_EVENTS (IN_ONLYDIR | IN_CREATE | IN_DELETE | IN_MOVED_FROM | IN_MOVED_TO | IN_MOVE_SELF | IN_DELETE_SELF)
+
+typedef struct j9file_watch_handle {
+	int notifyFD;
+	/* j9file_watch_stop() writes to stopFDs[1] to wake the thread that polls stopFDs[0] */
+	int stopFDs[2];
+} j9file_watch_handle;
+
+intptr_t
+j9file_watch_open(struct J9PortLibrary *portLibrary, struct j9file_watch_handle **handle)
+{
+	PORT_ACCESS_FROM_PORT(portLibrary);
+	j9file_watch_handle *watch = NULL;
+	intptr_t rc = J9PORT_ERROR_FILE_WATCH_FAILED;
+
+	Trc_PRT_file_watch_open_Entry();
+	*handle = NULL;
+	watch = (j9file_watch_handle *)j9mem_allocate_memory(sizeof(j9file_watch_handle), OMRMEM_CATEGORY_PORT_LIBRARY);
+	if (NULL != watch) {
+		watch->notifyFD = inotify_init1(IN_NONBLOCK | IN_CLOEXEC);
+		if (-1 == watch->notifyFD) {
+			Trc_PRT_file_watch_open_inotifyFailed(errno);
+			j9mem_free_memory(watch);
+		} else if (0 != pipe2(watch->stopFDs, O_CLOEXEC)) {
+			Trc_PRT_file_watch_open_pipeFailed(errno);
+			close(watch->notifyFD);
+			j9mem_free_memory(watch);
+		} else {
+			*handle = watch;
+			rc = 0;
+		}
+	}
+	Trc_PRT_file_watch_open_Exit(rc);
+	return rc;
+}
+
+intptr_t
+j9file_watch_add(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle, const char *path, uintptr_t flags)
+{
+	uint32_t mask = 0;
+	intptr_t watchId = 0;
+
+	if (J9_ARE_ANY_BITS_SET(flags, J9PORT_FILE_WATCH_FILE)) {
+		mask |= J9FILE_WATCH_FILE_EVENTS;
+	}
+	if (J9_ARE_ANY_BITS_SET(flags, J9PORT_FILE_WATCH_DIRECTORY)) {
+		mask |= J9FILE_WATCH_DIRECTORY_EVENTS;
+	}
+	watchId = (intptr_t)inotify_add_watch(handle->notifyFD, path, mask);
+	if (-1 == watchId) {
+		Trc_PRT_file_watch_add_failed(path, errno);
+		watchId = J9PORT_ERROR_FILE_WATCH_FAILED;
+	}
+	return watchId;
+}
+
+intptr_t
+j9file_watch_resolve_path(struct J9PortLibrary *portLibrary, const char *path, char *buf, uintptr_t bufLen)
+{
+	char resolved[PATH_MAX];
+	uintptr_t resolvedLen = 0;
+
+	if (NULL == realpath(path, resolved)) {
+		return J9PORT_ERROR_FILE_WATCH_FAILED;
+	}
+	resolvedLen = strlen(resolved);
+	if (resolvedLen >= bufLen) {
+		return J9PORT_ERROR_FILE_WATCH_FAILED;
+	}
+	memcpy(buf, resolved, resolvedLen + 1);
+	return (intptr_t)resolvedLen;
+}
+
+intptr_t
+j9file_watch_wait(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle, j9file_watch_callback callback, void *userData)
+{
+	char buffer[J9FILE_WATCH_BUFFER_SIZE] __attribute__ ((aligned(__alignof__(struct inotify_event))));
+	struct pollfd fds[2];
+	ssize_t bytesRead = 0;
+	char *cursor = buffer;
+
+	fds[0].fd = handle->notifyFD;
+	fds[0].events = POLLIN;
+	fds[0].revents = 0;
+	fds[1].fd = handle->stopFDs[0];
+	fds[1].events = POLLIN;
+	fds[1].revents = 0;
+	if (poll(fds, 2, -1) < 0) {
+		if (EINTR == errno) {
+			return 0;
+		}
+		Trc_PRT_file_watch_wait_pollFailed(errno);
+		return J9PORT_ERROR_FILE_WATCH_FAILED;
+	}
+	if (0 != fds[1].revents) {
+		/* The byte written by j9file_watch_stop() is never read, so every later call stops too */
+		return J9PORT_ERROR_FILE_WATCH_STOPPED;
+	}
+	bytesRead = read(handle->notifyFD, buffer, sizeof(buffer));
+	if (bytesRead <= 0) {
+		/* EAGAIN or EINTR */
+		return 0;
+	}
+	while (cursor < (buffer + bytesRead)) {
+		struct inotify_event *event = (struct inotify_event *)cursor;
+
+		if (J9_ARE_ANY_BITS_SET(event->mask, IN_Q_OVERFLOW)) {
+			callback(userData, J9PORT_FILE_WATCH_ALL_CHANGES, NULL);
+		} else {
+			callback(userData, (intptr_t)event->wd, (0 != event->len) ? event->name : NULL);
+		}
+		cursor += sizeof(struct inotify_event) + event->len;
+	}
+	return 0;
+}
+
+void
+j9file_watch_stop(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle)
+{
+	char stop = 0;
+
+	while (-1 == write(handle->stopFDs[1], &stop, sizeof(stop))) {
+		if (EINTR != errno) {
+			break;
+		}
+	}
+}
+
+void
+j9file_watch_close(struct J9PortLibrary *portLibrary, struct j9file_watch_handle **handle)
+{
+	PORT_ACCESS_FROM_PORT(portLibrary);
+	j9file_watch_handle *watch = *handle;
+
+	if (NULL != watch) {
+		/* Closing the inotify descriptor removes all of its watches */
+		close(watch->notifyFD);
+		close(watch->stopFDs[0]);
+		close(watch->stopFDs[1]);
+		j9mem_free_memory(watch);
+		*handle = NULL;
+	}
+}
@@ -176,6 +176,22 @@ extern J9_CFUNC uintptr_t
 j9shmem_get_region_granularity(struct J9PortLibrary *portLibrary, const char* cacheDirName, uintptr_t groupPerm, void *address);
 extern J9_CFUNC int32_t
 j9shmem_getid (struct J9PortLibrary *portLibrary, struct j9shmem_handle* handle);
+extern J9_CFUNC intptr_t
+j9shmem_will_need(struct J9PortLibrary *portLibrary, void *address, uintptr_t length, uint8_t *residentPages);
+
+/* J9SourceJ9FileWatch*/
+extern J9_CFUNC intptr_t
+j9file_watch_open(struct J9PortLibrary *portLibrary, struct j9file_watch_handle **handle);
+extern J9_CFUNC intptr_t
+j9file_watch_add(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle, const char *path, uintptr_t flags);
+extern J9_CFUNC intptr_t
+j9file_watch_resolve_path(struct J9PortLibrary *portLibrary, const char *path, char *buf, uintptr_t bufLen);
+extern J9_CFUNC intptr_t
+j9file_watch_wait(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle, j9file_watch_callback callback, void *userData);
+extern J9_CFUNC void
+j9file_watch_stop(struct J9PortLibrary *portLibrary, struct j9file_watch_handle *handle);
+extern J9_CFUNC void
+j9file_watch_close(struct J9PortLibrary *portLibrary, struct j9file_watch_handle **handle);
 
 /* J9SourceJ9SharedSemaphore*/
 extern J9_CFUNC int32_t
@@ -32,6 +32,9 @@
 
 #include <sys/types.h>
 #include <sys/stat.h>
+#if defined(LINUX)
+#include <sys/mman.h>
+#endif /* defined(LINUX) */
 #if !defined(J9ZTPF)
 #include <sys/ipc.h>
 #include <sys/shm.h>
@@ -1525,6 +1528,28 @@ j9shmem_getid (struct J9PortLibrary *portLibrary, struct j9shmem_handle* handle)
 	}
 }
 
+intptr_t
+j9shmem_will_need(struct J9PortLibrary *portLibrary, void *address, uintptr_t length, uint8_t *residentPages)
+{
+	intptr_t rc = J9PORT_ERROR_SHMEM_WILL_NEED_NOT_SUPPORTED;
+
+#if defined(LINUX)
+	Trc_PRT_shmem_j9shmem_will_need_Entry(address, length);
+	if ((NULL != residentPages) && (0 != mincore(address, length, (unsigned char *)residentPages))) {
+		Trc_PRT_shmem_j9shmem_will_need_mincoreFailed(errno);
+		rc = J9PORT_ERROR_SHMEM_WILL_NEED_FAILED;
+	} else if (0 != madvise(address, length, MADV_WILLNEED)) {
+		Trc_PRT_shmem_j9shmem_will_need_madviseFailed(errno);
+		rc = J9PORT_ERROR_SHMEM_WILL_NEED_FAILED;
+	} else {
+		rc = 0;
+	}
+	Trc_PRT_shmem_j9shmem_will_need_Exit(rc);
+#endif /* defined(LINUX) */
+
+	return rc;
+}
+
 static intptr_t
 readControlFile(J9PortLibrary *portLibrary, intptr_t fd, j9shmem_controlFileFormat * info)
 {
@@ -924,3 +924,9 @@ j9shmem_getid (struct J9PortLibrary *portLibrary, struct j9shmem_handle* handle)
 {
 	return 0;
 }
+
+intptr_t
+j9shmem_will_need(struct J9PortLibrary *portLibrary, void *address, uintptr_t length, uint8_t *residentPages)
+{
+	return J9PORT_ERROR_SHMEM_WILL_NEED_NOT_SUPPORTED;
+}
@@ -24,12 +24,19 @@
 #include <string.h>
 #include "FileStream.hpp"
 #include "../oti/util_api.h"
+#include "zlib.h"
+
+/* Size of each of the input and output buffers used when compressing */
+#define FILESTREAM_COMPRESSION_BUFFER_SIZE (64 * 1024)
 
 /* Constructor */
 FileStream::FileStream(J9PortLibrary* portLibrary) :
 	_PortLibrary(portLibrary),
 	_FileHandle(-1),
-	_Error(0)
+	_Error(0),
+	_Deflater(NULL),
+	_Buffer(NULL),
+	_BufferPosition(0)
 {
 	/* Nothing to do */
 }
@@ -42,18 +49,84 @@ FileStream::~FileStream()
 
 /* Method for opening the file */
 void
-FileStream::open(const char* fileName)
+FileStream::open(const char* fileName, bool compress)
 {
 	if (fileName[0] != '-' ) {
 		_FileHandle = j9cached_file_open(_PortLibrary, fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate | EsOpenCreateNoTag, 0666);
 		_Error = 0;
+
+		if (compress && (_FileHandle != -1)) {
+			startCompression();
+		}
+	}
+}
+
+/* Method for preparing a gzip compressor, the file is written uncompressed if one can't be created */
+void
+FileStream::startCompression(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	z_stream* stream = (z_stream*)j9mem_allocate_memory(sizeof(z_stream), OMRMEM_CATEGORY_VM);
+	char* buffer = (char*)j9mem_allocate_memory(2 * FILESTREAM_COMPRESSION_BUFFER_SIZE, OMRMEM_CATEGORY_VM);
+
+	if ((NULL != stream) && (NULL != buffer)) {
+		memset(stream, 0, sizeof(z_stream));
+
+		/* A window size of 15 + 16 asks for a gzip header and trailer rather than a zlib one */
+		if (Z_OK == deflateInit2(stream, Z_BEST_SPEED, Z_DEFLATED, 15 + 16, 8, Z_DEFAULT_STRATEGY)) {
+			_Deflater = stream;
+			_Buffer = buffer;
+			_BufferPosition = 0;
+			return;
+		}
 	}
+
+	j9mem_free_memory(buffer);
+	j9mem_free_memory(stream);
+}
+
+/* Method for compressing the buffered data and writing the result to the file */
+void
+FileStream::compressBuffer(bool finish)
+{
+	z_stream* stream = (z_stream*)_Deflater;
+	char* output = _Buffer + FILESTREAM_COMPRESSION_BUFFER_SIZE;
+
+	stream->next_in = (Bytef*)_Buffer;
+	stream->avail_in = (uInt)_BufferPosition;
+
+	do {
+		stream->next_out = (Bytef*)output;
+		stream->avail_out = FILESTREAM_COMPRESSION_BUFFER_SIZE;
+
+		if (Z_STREAM_ERROR == deflate(stream, finish ? Z_FINISH : Z_NO_FLUSH)) {
+			_Error = -1;
+			break;
+		}
+
+		writeFile(output, FILESTREAM_COMPRESSION_BUFFER_SIZE - stream->avail_out);
+	} while (0 == stream->avail_out);
+
+	_BufferPosition = 0;
 }
 
 /* Method for closing the file */
 void 
 FileStream::close(void)
 {
+	if (NULL != _Deflater) {
+		PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+		/* Flush the compressor and write the gzip trailer */
+		compressBuffer(true);
+		deflateEnd((z_stream*)_Deflater);
+
+		j9mem_free_memory(_Buffer);
+		j9mem_free_memory(_Deflater);
+		_Buffer = NULL;
+		_Deflater = NULL;
+	}
+
 	if (_FileHandle != -1) {
 		j9cached_file_sync(_PortLibrary, _FileHandle);
 		j9cached_file_close(_PortLibrary, _FileHandle);
@@ -76,6 +149,31 @@ bool FileStream::hasError(void) const
 /* Method for writing characters described by a pointer and a length to the file*/
 void
 FileStream::writeCharacters(const char* data, IDATA length)
+{
+	if (NULL == _Deflater) {
+		writeFile(data, length);
+		return;
+	}
+
+	/* Gather the data into the input buffer, compressing it each time the buffer fills */
+	while ((length > 0) && ! _Error) {
+		IDATA space = FILESTREAM_COMPRESSION_BUFFER_SIZE - _BufferPosition;
+		IDATA count = (length < space) ? length : space;
+
+		memcpy(_Buffer + _BufferPosition, data, count);
+		_BufferPosition += count;
+		data += count;
+		length -= count;
+
+		if (FILESTREAM_COMPRESSION_BUFFER_SIZE == _BufferPosition) {
+			compressBuffer(false);
+		}
+	}
+}
+
+/* Method for writing characters directly to the file */
+void
+FileStream::writeFile(const char* data, IDATA length)
 {
 	if (_FileHandle != -1 && ! _Error) {
 		IDATA rc = j9cached_file_write(_PortLibrary, _FileHandle, data, length);
@@ -39,8 +39,8 @@ public :
 	/* Destructor */
 	~FileStream();
 
-	/* Method for opening the file */
-	void open(const char* fileName);
+	/* Method for opening the file, optionally gzip compressing everything written to it */
+	void open(const char* fileName, bool compress = false);
 
 	/* Method for closing the file */
 	void close(void);
@@ -59,11 +59,21 @@ private :
 	FileStream(const FileStream& source);
 	FileStream& operator=(const FileStream& source);
 
+	/* Methods for passing data through the compressor */
+	void startCompression(void);
+	void compressBuffer(bool finish);
+
+	/* Method for writing data directly to the file */
+	void writeFile(const char* data, IDATA length);
+
 protected :
 	/* Declared data */
 	J9PortLibrary* _PortLibrary;
 	IDATA          _FileHandle;
 	IDATA          _Error;
+	void*          _Deflater;
+	char*          _Buffer;
+	IDATA          _BufferPosition;
 };
 
 #endif
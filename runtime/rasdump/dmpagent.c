@@ -1855,7 +1855,7 @@ printDumpSpec(struct J9JavaVM *vm, IDATA kind, IDATA verboseLevel)
 					"        [+<name>...]     (see -Xdump:request)\n");
 
 				if (strcmp(spec->name, "heap") == 0) {
-					j9tty_err_printf(PORTLIB, "\n  opts=PHD|CLASSIC\n");
+					j9tty_err_printf(PORTLIB, "\n  opts=PHD[+PARALLEL][+GZIP]|CLASSIC\n");
 				} else if (strcmp(spec->name, "tool") == 0) {
 					j9tty_err_printf(PORTLIB, "\n  opts=WAIT<msec>|ASYNC\n");
 #ifdef J9ZOS390
@@ -2808,6 +2808,13 @@ runDumpAgent(struct J9JavaVM *vm, J9RASdumpAgent * agent, J9RASdumpContext * con
 				if (agent->dumpFn == doHeapDump) {
 					if (agent->dumpOptions && strstr(agent->dumpOptions, "PHD")) {
 						writeIntoBuffer(context->dumpList, context->dumpListSize, (IDATA*)&(context->dumpListIndex), label);
+						/* Compressed heap dumps are written with the suffix added, see BinaryHeapDumpWriter */
+						if (strstr(agent->dumpOptions, "GZIP")) {
+							UDATA suffixLen = strlen(J9RAS_COMPRESSED_HEAPDUMP_SUFFIX);
+							if ((reqLen < suffixLen) || (0 != strcmp(&label[reqLen - suffixLen], J9RAS_COMPRESSED_HEAPDUMP_SUFFIX))) {
+								writeIntoBuffer(context->dumpList, context->dumpListSize, (IDATA*)&(context->dumpListIndex), J9RAS_COMPRESSED_HEAPDUMP_SUFFIX);
+							}
+						}
 						writeIntoBuffer(context->dumpList, context->dumpListSize, (IDATA*)&(context->dumpListIndex), "\t");
 					}
 
@@ -26,7 +26,9 @@
 #include "j2sever.h"
 #include "HeapIteratorAPI.h"
 #include "j9dmpnls.h"
+#include "omrthread.h"
 #include "FileStream.hpp"
+#include "rasdump_internal.h"
 
 #include "ut_j9dmp.h"
 
@@ -43,6 +45,22 @@ static jvmtiIterationControl binaryHeapDumpObjectIteratorCallback (J9JavaVM* vm,
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorTraitsCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 
+static jvmtiIterationControl binaryHeapDumpChunkRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static jvmtiIterationControl binaryHeapDumpWorkerRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static jvmtiIterationControl binaryHeapDumpRetryRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static jvmtiIterationControl binaryHeapDumpChunkObjectIteratorCallback(J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor,  void* userData);
+static jvmtiIterationControl binaryHeapDumpSliceObjectIteratorCallback(J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor,  void* userData);
+static int J9THREAD_PROC     binaryHeapDumpChunkWorkerThread(void* userData);
+
+/* Parallel heap dump tuning:
+ *   regions larger than the slice size are split so that big regions still spread across the workers,
+ *   and a worker may run at most a few slices per worker ahead of the merge to bound the buffered output.
+ */
+#define PHD_PARALLEL_MINIMUM_SLICE_SIZE   ((UDATA)16 * 1024 * 1024)
+#define PHD_PARALLEL_SLICES_PER_WORKER    4
+#define PHD_PARALLEL_MAXIMUM_WORKERS      64
+#define PHD_PARALLEL_INITIAL_CHUNK_SIZE   (64 * 1024)
+
 #define allClassesStartDo(vm, state, loader) \
 	vm->internalVMFunctions->allClassesStartDo(state, vm, loader)
 
@@ -725,6 +743,71 @@ public:
 	}
 };
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* Structures for writing binary portable heap dump files in parallel                             */
+/*                                                                                                */
+/*   Each chunk is a slice of a heap region that a worker thread encodes into memory on its own.  */
+/*   Every worker walks the regions of the space and claims the unclaimed chunks it comes to.     */
+/*   The worker holds back the first object of its slice and starts its gaps from that object and */
+/*   its class cache from empty. The merging thread writes the held back object itself, so the    */
+/*   gap from the previous chunk is correct, then rotates the class cache index of the chunk's    */
+/*   short records to line up with the reader's cache before appending the encoded data.          */
+/*                                                                                                */
+/**************************************************************************************************/
+class BinaryHeapDumpWriter;
+
+typedef struct BinaryHeapDumpChunk {
+	UDATA                        regionIndex;
+	char*                        sliceStart;
+	char*                        sliceEnd;
+	J9MM_IterateObjectDescriptor firstObject;
+	bool                         hasFirstObject;
+	void*                        lastObject;
+	const void*                  classCache[4];
+	int                          classCacheIndex;
+	char*                        data;
+	UDATA                        size;
+	UDATA                        capacity;
+	UDATA*                       shortRecords;
+	UDATA                        shortRecordCount;
+	UDATA                        shortRecordCapacity;
+	bool                         claimed;
+	bool                         complete;
+	bool                         error;
+} BinaryHeapDumpChunk;
+
+typedef struct BinaryHeapDumpParallelState {
+	BinaryHeapDumpWriter*        writer;
+	J9MM_IterateSpaceDescriptor* spaceDescriptor;
+	omrthread_monitor_t          monitor;
+	BinaryHeapDumpChunk*         chunks;
+	UDATA                        chunkCount;
+	UDATA                        chunkCapacity;
+	UDATA                        regionCount;
+	UDATA                        sliceCount;
+	UDATA                        mergedChunks;
+	UDATA                        window;
+	UDATA                        activeWorkers;
+	bool                         abort;
+	bool                         error;
+} BinaryHeapDumpParallelState;
+
+typedef struct BinaryHeapDumpChunkWalk {
+	BinaryHeapDumpParallelState* state;
+	BinaryHeapDumpChunk*         chunk;
+	UDATA                        regionIndex;
+	UDATA                        chunkIndex;
+} BinaryHeapDumpChunkWalk;
+
+typedef struct BinaryHeapDumpSliceWalk {
+	BinaryHeapDumpChunk*         chunks;
+	UDATA                        slices;
+	UDATA                        nextSlice;
+	char*                        regionStart;
+	UDATA                        sliceSize;
+} BinaryHeapDumpSliceWalk;
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* Class for writing binary portable heap dump files                                              */
@@ -756,6 +839,14 @@ private :
 	friend jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpHeapIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateHeapDescriptor* heapDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpRegionIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend jvmtiIterationControl binaryHeapDumpChunkRegionIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend jvmtiIterationControl binaryHeapDumpWorkerRegionIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend jvmtiIterationControl binaryHeapDumpRetryRegionIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend jvmtiIterationControl binaryHeapDumpChunkObjectIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, void* userData);
+	friend int J9THREAD_PROC     binaryHeapDumpChunkWorkerThread(void* userData);
+
+	/* Constructor for the writers used by parallel dump workers to encode a chunk into memory */
+	BinaryHeapDumpWriter(BinaryHeapDumpWriter* parent, BinaryHeapDumpChunk* chunk, J9MM_IterateRegionDescriptor* regionDescriptor);
 
 	/* Nested class for determining the characteristics of the references */
 	class ReferenceTraits
@@ -828,6 +919,10 @@ private :
 
 		/* Method for setting the object back to its initial state (i.e. empty) */
 		void clear(void);
+
+		/* Methods for carrying the additions made while encoding a chunk over to the merged cache */
+		void snapshot(const void** cache, int* index) const;
+		void merge(const void* const* cache, int index);
 		
 	private :
 		/* Prevent use of the copy constructor and assignment operator */
@@ -851,6 +946,14 @@ private :
 	void             writeNormalObjectRecord(J9MM_IterateObjectDescriptor* objectDescriptor);
 	void             writeArrayObjectRecord(J9MM_IterateObjectDescriptor* objectDescriptor);
 	void             writeClassRecord(J9Class* clazz);
+	bool             writeRegionsInParallel(J9MM_IterateSpaceDescriptor* spaceDescriptor);
+	void             addChunks(BinaryHeapDumpParallelState* state, J9MM_IterateRegionDescriptor* regionDescriptor);
+	void             encodeChunk(BinaryHeapDumpChunk* chunk, J9MM_IterateRegionDescriptor* regionDescriptor);
+	void             writeChunk(BinaryHeapDumpChunk* chunk, J9MM_IterateRegionDescriptor* regionDescriptor);
+	void             mergeChunk(BinaryHeapDumpChunk* chunk);
+	void             releaseChunk(BinaryHeapDumpChunk* chunk);
+	void             appendToChunk(const char* data, IDATA length);
+	void             noteShortRecord(void);
 	static int       numberSize(IDATA number);
 	int              getObjectHashCode(j9object_t object);
 	static int       numberSizeEncoding(int numberSize);
@@ -873,6 +976,10 @@ private :
 	ClassCache        _ClassCache;
 	bool              _FileMode;
 	bool              _Error;
+	BinaryHeapDumpChunk* _Chunk;
+	bool              _ChunkEncoding;
+	bool              _Parallel;
+	bool              _Compress;
 
 	/* Static methods returning constant values */
 	inline static const char* identifierField(void)        {return "portable heap dump";}
@@ -1107,6 +1214,42 @@ BinaryHeapDumpWriter::ClassCache::clear(void)
 	_Index = 0;
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::ClassCache::snapshot() method implementation                             */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::ClassCache::snapshot(const void** cache, int* index) const
+{
+	for (int i = 0; i < 4; i++) {
+		cache[i] = _Cache[i];
+	}
+
+	*index = _Index;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::ClassCache::merge() method implementation                                */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::ClassCache::merge(const void* const* cache, int index)
+{
+	/* The chunk's cache started empty at index 0 while this one was at _Index, so every */
+	/* entry the chunk added lives _Index slots further round in this cache              */
+	int rotation = _Index;
+
+	for (int i = 0; i < 4; i++) {
+		if (cache[i] != 0) {
+			_Cache[(i + rotation) % 4] = cache[i];
+		}
+	}
+
+	_Index = (index + rotation) % 4;
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* BinaryHeapDumpWriter::BinaryHeapDumpWriter() method implementation                             */
@@ -1124,7 +1267,11 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	_OutputStream(context->javaVM->portLibrary),
 	_CurrentObject(0),
 	_FileMode(false),
-	_Error(false)
+	_Error(false),
+	_Chunk(NULL),
+	_ChunkEncoding(false),
+	_Parallel(false),
+	_Compress(false)
 {
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
 
@@ -1132,17 +1279,32 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	if ((agent->dumpOptions != 0) && (strstr(agent->dumpOptions, "PHD") == 0)) {
 		return;
 	}
+
+	/* Check for the optional parallel writer and compressed output */
+	if (agent->dumpOptions != 0) {
+		_Parallel = (strstr(agent->dumpOptions, "PARALLEL") != 0);
+		_Compress = (strstr(agent->dumpOptions, "GZIP") != 0);
+	}
 	
-	/* Remember the file name */
+	/* Remember the file name, compressed dumps are named for the format they are written in */
 	_FileName += fileName;
+
+	if (_Compress) {
+		UDATA nameLength   = strlen(fileName);
+		UDATA suffixLength = strlen(J9RAS_COMPRESSED_HEAPDUMP_SUFFIX);
+
+		if ((nameLength < suffixLength) || (0 != strcmp(fileName + nameLength - suffixLength, J9RAS_COMPRESSED_HEAPDUMP_SUFFIX))) {
+			_FileName += J9RAS_COMPRESSED_HEAPDUMP_SUFFIX;
+		}
+	}
 	
 	/* Handle the cases of multiple dump files and a single dump file separately */
 	if (!(_Agent->requestMask & J9RAS_DUMP_DO_MULTIPLE_HEAPS)) {
 		/* Write a message to standard error saying we are about to write a dump file */
-		reportDumpRequest(_PortLibrary,_Context,"Heap",fileName);
+		reportDumpRequest(_PortLibrary,_Context,"Heap",_FileName.data());
 		
 		/* It's a single file so open it */
-		_OutputStream.open(_FileName.data());
+		_OutputStream.open(_FileName.data(), _Compress);
 	
 		/* Performance measuring code 
 		startTimer();
@@ -1176,16 +1338,42 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 		/* If an error occurred, the error message has already been printed in checkForIOError() */
 		if (! _Error) {
 			if (_FileMode) {
-				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_WRITTEN_DUMP_STR, "Heap", fileName);
-				Trc_dump_reportDumpEnd_Event2("Heap", fileName);
+				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_WRITTEN_DUMP_STR, "Heap", _FileName.data());
+				Trc_dump_reportDumpEnd_Event2("Heap", _FileName.data());
 			} else {
-				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_NO_CREATE, fileName);
-				Trc_dump_reportDumpEnd_Event2("Heap", fileName);
+				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_NO_CREATE, _FileName.data());
+				Trc_dump_reportDumpEnd_Event2("Heap", _FileName.data());
 			}
 		}
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::BinaryHeapDumpWriter() chunk encoding constructor implementation         */
+/*                                                                                                */
+/**************************************************************************************************/
+BinaryHeapDumpWriter::BinaryHeapDumpWriter(BinaryHeapDumpWriter* parent, BinaryHeapDumpChunk* chunk, J9MM_IterateRegionDescriptor* regionDescriptor) :
+	_Id(regionDescriptor->id),
+	_RegionStart((char*)regionDescriptor->regionStart),
+	_RegionEnd((char*)((UDATA)regionDescriptor->regionStart + regionDescriptor->regionSize)),
+	_Context(parent->_Context),
+	_Agent(parent->_Agent),
+	_VirtualMachine(parent->_VirtualMachine),
+	_PortLibrary(parent->_PortLibrary),
+	_FileName(parent->_PortLibrary),
+	_OutputStream(parent->_PortLibrary),
+	_CurrentObject(0),
+	_FileMode(false),
+	_Error(false),
+	_Chunk(chunk),
+	_ChunkEncoding(true),
+	_Parallel(false),
+	_Compress(false)
+{
+	/* Nothing to do, encodeChunk() drives the writer */
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* BinaryHeapDumpWriter::~BinaryHeapDumpWriter() method implementation                            */
@@ -1227,20 +1415,22 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 		_ClassCache.clear();
 
 		/* Open the file */
-		_OutputStream.open(fileName.data());
+		_OutputStream.open(fileName.data(), _Compress);
 
 		/* Start writing the file */
 		writeDumpFileHeader();
 	}
 
-	/* Iterate through the regions etc. */
-	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
-			_VirtualMachine,
-			_PortLibrary,
-			spaceDescriptor,
-			j9mm_iterator_flag_regions_read_only,
-			binaryHeapDumpRegionIteratorCallback,
-			this);
+	/* Iterate through the regions etc., encoding them on several threads if that was requested */
+	if (!_Parallel || !writeRegionsInParallel(spaceDescriptor)) {
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+				_VirtualMachine,
+				_PortLibrary,
+				spaceDescriptor,
+				j9mm_iterator_flag_regions_read_only,
+				binaryHeapDumpRegionIteratorCallback,
+				this);
+	}
 
 	/* Handle the single and multiple dump file cases separately */
 	if (_Agent->requestMask & J9RAS_DUMP_DO_MULTIPLE_HEAPS) {
@@ -1466,6 +1656,14 @@ BinaryHeapDumpWriter::writeNormalObjectRecord(J9MM_IterateObjectDescriptor* obje
 		    ( addressOffsetEncoding   << 2  & 0x04) |
 		    ( referenceOffsetEncoding       & 0x03);
 		    
+		/* Remember where the class cache index is so a merged chunk can be adjusted */
+		if (_ChunkEncoding) {
+			noteShortRecord();
+			if (_Error) {
+				return;
+			}
+		}
+
 		/* Write the tag/flags */
 		writeNumber(flags, 1);
 		if (_Error) {
@@ -2394,7 +2592,9 @@ BinaryHeapDumpWriter::checkForIOError(void)
 void
 BinaryHeapDumpWriter::writeCharacters (const char* data, IDATA length)
 {
-	if (!_Error) {
+	if (_ChunkEncoding) {
+		appendToChunk(data, length);
+	} else if (!_Error) {
 		_OutputStream.writeCharacters(data,length);
 
 		checkForIOError();
@@ -2404,7 +2604,9 @@ BinaryHeapDumpWriter::writeCharacters (const char* data, IDATA length)
 void
 BinaryHeapDumpWriter::writeCharacters (const char* data)
 {
-	if (!_Error) {
+	if (_ChunkEncoding) {
+		appendToChunk(data, strlen(data));
+	} else if (!_Error) {
 		_OutputStream.writeCharacters(data);
 
 		checkForIOError();
@@ -2414,13 +2616,409 @@ BinaryHeapDumpWriter::writeCharacters (const char* data)
 void
 BinaryHeapDumpWriter::writeNumber (IDATA data, int length)
 {
-	if (!_Error) {
+	if (_ChunkEncoding) {
+		/* Encode the number in network order in the same way as FileStream */
+		IDATA number = data;
+		int   count  = (length > 8) ? 8 : length;
+		char  buffer[8] = {0,0,0,0,0,0,0,0};
+
+		while (count-- > 0) {
+			buffer[count] = (char)(number & 0xFF);
+			number >>= 8;
+		}
+
+		appendToChunk(buffer, (length > 8) ? 8 : length);
+	} else if (!_Error) {
 		_OutputStream.writeNumber(data, length);
 
 		checkForIOError();
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeRegionsInParallel() method implementation                           */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+BinaryHeapDumpWriter::writeRegionsInParallel(J9MM_IterateSpaceDescriptor* spaceDescriptor)
+{
+#if defined(J9VM_OPT_NEW_OBJECT_HASH)
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	BinaryHeapDumpParallelState state;
+	UDATA workerCount = j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_TARGET);
+
+	if (workerCount > PHD_PARALLEL_MAXIMUM_WORKERS) {
+		workerCount = PHD_PARALLEL_MAXIMUM_WORKERS;
+	}
+
+	if (workerCount < 2) {
+		return false;
+	}
+
+	memset(&state, 0, sizeof(state));
+	state.writer          = this;
+	state.spaceDescriptor = spaceDescriptor;
+	state.sliceCount      = workerCount * PHD_PARALLEL_SLICES_PER_WORKER;
+	state.window          = workerCount * PHD_PARALLEL_SLICES_PER_WORKER;
+
+	/* Divide the regions of the space into chunks */
+	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+			_VirtualMachine,
+			_PortLibrary,
+			spaceDescriptor,
+			j9mm_iterator_flag_regions_read_only,
+			binaryHeapDumpChunkRegionIteratorCallback,
+			&state);
+
+	/* Nothing has been written yet so the caller can still fall back to the single threaded walk */
+	if (state.error || (state.chunkCount < 2)
+	 || (0 != omrthread_monitor_init_with_name(&state.monitor, 0, "Heap dump chunk monitor"))) {
+		j9mem_free_memory(state.chunks);
+		return false;
+	}
+
+	if (workerCount > state.chunkCount) {
+		workerCount = state.chunkCount;
+	}
+
+	omrthread_monitor_enter(state.monitor);
+	for (UDATA i = 0; i < workerCount; i++) {
+		if (0 != omrthread_create(NULL, _VirtualMachine->defaultOSStackSize, J9THREAD_PRIORITY_NORMAL, 0, binaryHeapDumpChunkWorkerThread, &state)) {
+			break;
+		}
+		state.activeWorkers += 1;
+	}
+	omrthread_monitor_exit(state.monitor);
+
+	if (0 == state.activeWorkers) {
+		omrthread_monitor_destroy(state.monitor);
+		j9mem_free_memory(state.chunks);
+		return false;
+	}
+
+	Trc_dump_binaryHeapDumpParallel_Event1(spaceDescriptor->name, state.chunkCount, state.activeWorkers);
+
+	/* Append the chunks in heap order as the workers complete them */
+	for (UDATA i = 0; i < state.chunkCount; i++) {
+		BinaryHeapDumpChunk* chunk = &state.chunks[i];
+
+		omrthread_monitor_enter(state.monitor);
+		while (!chunk->complete && (0 != state.activeWorkers)) {
+			omrthread_monitor_wait(state.monitor);
+		}
+		omrthread_monitor_exit(state.monitor);
+
+		if (chunk->complete && !chunk->error) {
+			mergeChunk(chunk);
+		} else {
+			/* The worker couldn't encode the chunk (e.g. it ran out of memory) so write it directly */
+			BinaryHeapDumpChunkWalk walk;
+
+			memset(&walk, 0, sizeof(walk));
+			walk.state = &state;
+			walk.chunk = chunk;
+
+			Trc_dump_binaryHeapDumpChunkRetry_Event1(i);
+
+			_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+					_VirtualMachine,
+					_PortLibrary,
+					spaceDescriptor,
+					j9mm_iterator_flag_regions_read_only,
+					binaryHeapDumpRetryRegionIteratorCallback,
+					&walk);
+		}
+
+		releaseChunk(chunk);
+
+		omrthread_monitor_enter(state.monitor);
+		state.mergedChunks = i + 1;
+		state.abort = _Error;
+		omrthread_monitor_notify_all(state.monitor);
+		omrthread_monitor_exit(state.monitor);
+
+		if (_Error) {
+			break;
+		}
+	}
+
+	/* Wait for the workers to finish before releasing the chunks they use */
+	omrthread_monitor_enter(state.monitor);
+	while (0 != state.activeWorkers) {
+		omrthread_monitor_wait(state.monitor);
+	}
+	omrthread_monitor_exit(state.monitor);
+
+	for (UDATA i = 0; i < state.chunkCount; i++) {
+		releaseChunk(&state.chunks[i]);
+	}
+
+	omrthread_monitor_destroy(state.monitor);
+	j9mem_free_memory(state.chunks);
+
+	return true;
+#else /* defined(J9VM_OPT_NEW_OBJECT_HASH) */
+	/* Hash codes may be assigned while the dump is written, which can't be done from several threads */
+	return false;
+#endif /* defined(J9VM_OPT_NEW_OBJECT_HASH) */
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::addChunks() method implementation                                        */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::addChunks(BinaryHeapDumpParallelState* state, J9MM_IterateRegionDescriptor* regionDescriptor)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	char* regionStart = (char*)regionDescriptor->regionStart;
+	UDATA regionSize  = regionDescriptor->regionSize;
+	char* regionEnd   = regionStart + regionSize;
+
+	/* Split large regions so several workers share them, up to a few slices per worker */
+	UDATA slices = regionSize / PHD_PARALLEL_MINIMUM_SLICE_SIZE;
+
+	if (slices > state->sliceCount) {
+		slices = state->sliceCount;
+	}
+
+	if (0 == slices) {
+		slices = 1;
+	}
+
+	if ((state->chunkCount + slices) > state->chunkCapacity) {
+		UDATA capacity = 2 * (state->chunkCount + slices);
+		BinaryHeapDumpChunk* chunks = (BinaryHeapDumpChunk*)j9mem_reallocate_memory(state->chunks, capacity * sizeof(BinaryHeapDumpChunk), OMRMEM_CATEGORY_VM);
+
+		if (NULL == chunks) {
+			state->error = true;
+			return;
+		}
+
+		state->chunks        = chunks;
+		state->chunkCapacity = capacity;
+	}
+
+	BinaryHeapDumpChunk* chunks = &state->chunks[state->chunkCount];
+
+	for (UDATA i = 0; i < slices; i++) {
+		memset(&chunks[i], 0, sizeof(BinaryHeapDumpChunk));
+		chunks[i].regionIndex = state->regionCount;
+		chunks[i].sliceStart  = regionEnd;
+		chunks[i].sliceEnd    = regionEnd;
+	}
+	chunks[0].sliceStart = regionStart;
+
+	/* A worker can only start walking a region at an object or a hole, so move each slice boundary */
+	/* up to the first one at or past it. This walk reads just the headers and writes nothing, the  */
+	/* workers then walk only the objects between their own boundaries.                             */
+	if (slices > 1) {
+		BinaryHeapDumpSliceWalk walk;
+
+		walk.chunks      = chunks;
+		walk.slices      = slices;
+		walk.nextSlice   = 1;
+		walk.regionStart = regionStart;
+		walk.sliceSize   = regionSize / slices;
+
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_region_objects(
+				_VirtualMachine,
+				_PortLibrary,
+				regionDescriptor,
+				j9mm_iterator_flag_include_holes,
+				binaryHeapDumpSliceObjectIteratorCallback,
+				&walk);
+	}
+
+	/* Each slice ends where the next one starts, slices with no object of their own are left empty */
+	for (UDATA i = 0; i < (slices - 1); i++) {
+		chunks[i].sliceEnd = chunks[i + 1].sliceStart;
+	}
+
+	state->chunkCount += slices;
+	state->regionCount += 1;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::encodeChunk() method implementation                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::encodeChunk(BinaryHeapDumpChunk* chunk, J9MM_IterateRegionDescriptor* regionDescriptor)
+{
+	/* Encode the objects of the slice into the chunk's memory using a writer of its own */
+	BinaryHeapDumpWriter chunkWriter(this, chunk, regionDescriptor);
+
+	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_region_objects_in_range(
+			_VirtualMachine,
+			_PortLibrary,
+			regionDescriptor,
+			chunk->sliceStart,
+			chunk->sliceEnd,
+			0,
+			binaryHeapDumpChunkObjectIteratorCallback,
+			&chunkWriter);
+
+	/* Record the state the merge needs to carry on from the end of the chunk */
+	chunk->lastObject = chunkWriter._CurrentObject;
+	chunkWriter._ClassCache.snapshot(chunk->classCache, &chunk->classCacheIndex);
+	chunk->error = chunkWriter._Error;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeChunk() method implementation                                       */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeChunk(BinaryHeapDumpChunk* chunk, J9MM_IterateRegionDescriptor* regionDescriptor)
+{
+	/* Write the objects of the slice straight to the dump file */
+	_Id          = regionDescriptor->id;
+	_RegionStart = (char*)regionDescriptor->regionStart;
+	_RegionEnd   = (char*)((UDATA)regionDescriptor->regionStart + regionDescriptor->regionSize);
+	_Chunk       = chunk;
+
+	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_region_objects_in_range(
+			_VirtualMachine,
+			_PortLibrary,
+			regionDescriptor,
+			chunk->sliceStart,
+			chunk->sliceEnd,
+			0,
+			binaryHeapDumpChunkObjectIteratorCallback,
+			this);
+
+	_Chunk = NULL;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::mergeChunk() method implementation                                       */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::mergeChunk(BinaryHeapDumpChunk* chunk)
+{
+	/* An empty slice leaves the dump state alone */
+	if (!chunk->hasFirstObject) {
+		return;
+	}
+
+	/* Write the held back object now that the previous object is known */
+	writeObjectRecord(&chunk->firstObject);
+	if (_Error) {
+		return;
+	}
+
+	/* Shift the class cache index of each short record by the cache's current position */
+	int rotation = _ClassCache.index();
+
+	if (0 != rotation) {
+		for (UDATA i = 0; i < chunk->shortRecordCount; i++) {
+			U_8* flags = (U_8*)chunk->data + chunk->shortRecords[i];
+			int classCacheIndex = (((*flags >> 5) & 0x03) + rotation) % 4;
+
+			*flags = (U_8)((*flags & ~0x60) | ((classCacheIndex << 5) & 0x60));
+		}
+	}
+
+	/* Append the rest of the chunk */
+	writeCharacters(chunk->data, chunk->size);
+	if (_Error) {
+		return;
+	}
+
+	/* Carry on from where the chunk finished */
+	_ClassCache.merge(chunk->classCache, chunk->classCacheIndex);
+	_CurrentObject = chunk->lastObject;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::releaseChunk() method implementation                                     */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::releaseChunk(BinaryHeapDumpChunk* chunk)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	j9mem_free_memory(chunk->data);
+	j9mem_free_memory(chunk->shortRecords);
+
+	chunk->data                = NULL;
+	chunk->size                = 0;
+	chunk->capacity            = 0;
+	chunk->shortRecords        = NULL;
+	chunk->shortRecordCount    = 0;
+	chunk->shortRecordCapacity = 0;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::appendToChunk() method implementation                                    */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::appendToChunk(const char* data, IDATA length)
+{
+	if (_Error) {
+		return;
+	}
+
+	if ((_Chunk->size + length) > _Chunk->capacity) {
+		PORT_ACCESS_FROM_PORT(_PortLibrary);
+		UDATA capacity = (0 == _Chunk->capacity) ? PHD_PARALLEL_INITIAL_CHUNK_SIZE : (2 * _Chunk->capacity);
+
+		while (capacity < (_Chunk->size + length)) {
+			capacity *= 2;
+		}
+
+		char* newData = (char*)j9mem_reallocate_memory(_Chunk->data, capacity, OMRMEM_CATEGORY_VM);
+		if (NULL == newData) {
+			_Error = true;
+			return;
+		}
+
+		_Chunk->data     = newData;
+		_Chunk->capacity = capacity;
+	}
+
+	memcpy(_Chunk->data + _Chunk->size, data, length);
+	_Chunk->size += length;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::noteShortRecord() method implementation                                  */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::noteShortRecord(void)
+{
+	if (_Chunk->shortRecordCount == _Chunk->shortRecordCapacity) {
+		PORT_ACCESS_FROM_PORT(_PortLibrary);
+		UDATA capacity = (0 == _Chunk->shortRecordCapacity) ? (PHD_PARALLEL_INITIAL_CHUNK_SIZE / sizeof(UDATA)) : (2 * _Chunk->shortRecordCapacity);
+
+		UDATA* shortRecords = (UDATA*)j9mem_reallocate_memory(_Chunk->shortRecords, capacity * sizeof(UDATA), OMRMEM_CATEGORY_VM);
+		if (NULL == shortRecords) {
+			_Error = true;
+			return;
+		}
+
+		_Chunk->shortRecords        = shortRecords;
+		_Chunk->shortRecordCapacity = capacity;
+	}
+
+	/* The record's flags are the next byte to be written */
+	_Chunk->shortRecords[_Chunk->shortRecordCount] = _Chunk->size;
+	_Chunk->shortRecordCount += 1;
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* Iterator call back functions                                                                   */
@@ -2477,6 +3075,143 @@ binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9
 	return referenceWriter->_HeapDumpWriter->_Error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
 }
 
+static jvmtiIterationControl
+binaryHeapDumpChunkRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	BinaryHeapDumpParallelState* state = (BinaryHeapDumpParallelState*)userData;
+
+	state->writer->addChunks(state, regionDescription);
+	return state->error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
+}
+
+static jvmtiIterationControl
+binaryHeapDumpWorkerRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	BinaryHeapDumpChunkWalk*     walk  = (BinaryHeapDumpChunkWalk*)userData;
+	BinaryHeapDumpParallelState* state = walk->state;
+	UDATA regionIndex = walk->regionIndex;
+
+	walk->regionIndex += 1;
+
+	/* Claim and encode whichever of this region's chunks no other worker has taken */
+	while ((walk->chunkIndex < state->chunkCount) && (state->chunks[walk->chunkIndex].regionIndex == regionIndex)) {
+		BinaryHeapDumpChunk* chunk = &state->chunks[walk->chunkIndex];
+		bool claimed = false;
+		bool abort = false;
+
+		omrthread_monitor_enter(state->monitor);
+		/* Don't run too far ahead of the merge, the encoded chunks are held in memory until then */
+		while (!state->abort && !chunk->claimed && (walk->chunkIndex >= (state->mergedChunks + state->window))) {
+			omrthread_monitor_wait(state->monitor);
+		}
+		if (!state->abort && !chunk->claimed) {
+			chunk->claimed = true;
+			claimed = true;
+		}
+		abort = state->abort;
+		omrthread_monitor_exit(state->monitor);
+
+		if (abort) {
+			return JVMTI_ITERATION_ABORT;
+		}
+
+		if (claimed) {
+			state->writer->encodeChunk(chunk, regionDescription);
+
+			omrthread_monitor_enter(state->monitor);
+			chunk->complete = true;
+			omrthread_monitor_notify_all(state->monitor);
+			omrthread_monitor_exit(state->monitor);
+		}
+
+		walk->chunkIndex += 1;
+	}
+
+	return (walk->chunkIndex < state->chunkCount) ? JVMTI_ITERATION_CONTINUE : JVMTI_ITERATION_ABORT;
+}
+
+static jvmtiIterationControl
+binaryHeapDumpRetryRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	BinaryHeapDumpChunkWalk* walk = (BinaryHeapDumpChunkWalk*)userData;
+
+	if (walk->regionIndex == walk->chunk->regionIndex) {
+		walk->state->writer->writeChunk(walk->chunk, regionDescription);
+		return JVMTI_ITERATION_ABORT;
+	}
+
+	walk->regionIndex += 1;
+	return JVMTI_ITERATION_CONTINUE;
+}
+
+static jvmtiIterationControl
+binaryHeapDumpChunkObjectIteratorCallback(J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor, void* userData)
+{
+	BinaryHeapDumpWriter* heapDumpWriter = (BinaryHeapDumpWriter*)userData;
+	BinaryHeapDumpChunk*  chunk          = heapDumpWriter->_Chunk;
+	char*                 object         = (char*)objectDescriptor->object;
+
+	/* The walk is bounded by the slice, only an object reaching past its end can be seen beyond it */
+	if (object >= chunk->sliceEnd) {
+		return JVMTI_ITERATION_ABORT;
+	}
+
+	/* Hold back the first object a worker would write, the merge writes it after the previous chunk */
+	if (heapDumpWriter->_ChunkEncoding && !chunk->hasFirstObject) {
+		if (!J9VM_IS_INITIALIZED_HEAPCLASS_VM(vm, objectDescriptor->object)) {
+			chunk->firstObject    = *objectDescriptor;
+			chunk->hasFirstObject = true;
+			heapDumpWriter->_CurrentObject = objectDescriptor->object;
+		}
+		return JVMTI_ITERATION_CONTINUE;
+	}
+
+	heapDumpWriter->writeObjectRecord(objectDescriptor);
+	return heapDumpWriter->_Error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
+}
+
+static jvmtiIterationControl
+binaryHeapDumpSliceObjectIteratorCallback(J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor, void* userData)
+{
+	BinaryHeapDumpSliceWalk* walk   = (BinaryHeapDumpSliceWalk*)userData;
+	char*                    object = (char*)objectDescriptor->object;
+
+	/* A large object or hole may cover several boundaries, the slices it skips are left empty */
+	while ((walk->nextSlice < walk->slices) && (object >= (walk->regionStart + (walk->nextSlice * walk->sliceSize)))) {
+		walk->chunks[walk->nextSlice].sliceStart = object;
+		walk->nextSlice += 1;
+	}
+
+	return (walk->nextSlice < walk->slices) ? JVMTI_ITERATION_CONTINUE : JVMTI_ITERATION_ABORT;
+}
+
+static int J9THREAD_PROC
+binaryHeapDumpChunkWorkerThread(void* userData)
+{
+	BinaryHeapDumpParallelState* state = (BinaryHeapDumpParallelState*)userData;
+	J9JavaVM* vm = state->writer->_VirtualMachine;
+	BinaryHeapDumpChunkWalk walk;
+
+	memset(&walk, 0, sizeof(walk));
+	walk.state = state;
+
+	/* Walk the regions of the space, encoding the chunks no other worker has claimed */
+	vm->memoryManagerFunctions->j9mm_iterate_regions(
+			vm,
+			vm->portLibrary,
+			state->spaceDescriptor,
+			j9mm_iterator_flag_regions_read_only,
+			binaryHeapDumpWorkerRegionIteratorCallback,
+			&walk);
+
+	omrthread_monitor_enter(state->monitor);
+	state->activeWorkers -= 1;
+	omrthread_monitor_notify_all(state->monitor);
+	omrthread_monitor_exit(state->monitor);
+
+	return 0;
+}
+
 void
 writePHD(char *label, J9RASdumpContext *context, J9RASdumpAgent* agent)
 {
@@ -129,6 +129,8 @@ void setAllocationThreshold(J9VMThread *vmThread, UDATA min, UDATA max);
 #define J9RAS_STDOUT_NAME "/STDOUT/"
 #define J9RAS_STDERR_NAME "/STDERR/"
 
+#define J9RAS_COMPRESSED_HEAPDUMP_SUFFIX ".gz"
+
 #ifdef __cplusplus
 }
 #endif
@@ -51,6 +51,9 @@ public:
 	/* Fill descriptorPool with entries found and return number of entries or -1 */	
 	virtual IDATA find(J9VMThread* currentThread, const char* key, UDATA keylen, UDATA limitDataType, UDATA includePrivateData, J9SharedDataDescriptor* firstItem, const J9Pool* descriptorPool) = 0;
 
+	/* Fill keyDescriptorPool with the latest public entry of each key starting with prefix and return number of entries or -1 */
+	virtual IDATA findForKeyPrefix(J9VMThread* currentThread, const char* prefix, UDATA prefixLen, UDATA dataType, const J9Pool* keyDescriptorPool) = 0;
+
 	/* Attempt to make the entry represented by "data" private to this JVM. 1 if success, 0 for failure.
 	 * Input to this function should be a descriptor obtained from calling find */
 	virtual UDATA acquirePrivateEntry(J9VMThread* currentThread, const J9SharedDataDescriptor* data) = 0;
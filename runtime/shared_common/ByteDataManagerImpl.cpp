@@ -358,6 +358,128 @@ SH_ByteDataManagerImpl::find(J9VMThread* currentThread, const char* key, UDATA k
 	return resultCntr;
 }
 
+/**
+ * Checks whether a cache item is live public byte data of the given type.
+ *
+ * @param[in] item  The item in the cache
+ * @param[in] dataType  The type of data required
+ *
+ * @return true if the item is not stale, has the given type and is not private
+ */
+bool
+SH_ByteDataManagerImpl::isPublicEntryOfType(const ShcItem* item, UDATA dataType)
+{
+	const ByteDataWrapper* wrapper = (const ByteDataWrapper*)ITEMDATA(item);
+
+	return !_cache->isStale(item) && (dataType == (UDATA)wrapper->dataType) && (0 == wrapper->privateOwnerID);
+}
+
+/**
+ * Checks whether a hashtable chain holds a newer public entry of the given type for exactly the given token.
+ * The chain is walked from the most recently added entry "first" up to, but not including, "entry".
+ *
+ * @param[in] first  The most recently added entry of the chain
+ * @param[in] entry  The entry whose token is being checked
+ * @param[in] token  The full token of "entry"
+ * @param[in] dataType  The type of data required
+ *
+ * @return true if a newer entry was found
+ */
+bool
+SH_ByteDataManagerImpl::hasNewerPublicEntryForToken(BdLinkedListImpl* first, BdLinkedListImpl* entry, const J9UTF8* token, UDATA dataType)
+{
+	for (BdLinkedListImpl* walk = first; walk != entry; walk = (BdLinkedListImpl*)walk->_next) {
+		const ShcItem* item = walk->_item;
+
+		if (isPublicEntryOfType(item, dataType)) {
+			const ByteDataWrapper* wrapper = (const ByteDataWrapper*)ITEMDATA(item);
+			const J9UTF8* walkToken = (const J9UTF8*)_cache->getAddressFromJ9ShrOffset(&(wrapper->tokenOffset));
+
+			if (J9UTF8_EQUALS(walkToken, token)) {
+				return true;
+			}
+		}
+	}
+	return false;
+}
+
+/**
+ * Retrieves the data stored against every key which starts with "prefix".
+ * For each matching key, only the most recently stored public data entry of the given type is returned,
+ * which is the entry that find(..) would return first.
+ * The prefix is compared with the full key, including any lambda index that the hashtable key leaves out.
+ *
+ * @param[in] currentThread  The current thread
+ * @param[in] prefix  The UTF8 prefix of the keys to match. A zero length prefix matches every key.
+ * @param[in] prefixLen  The length of the prefix
+ * @param[in] dataType  The type of data required
+ * @param[out] keyDescriptorPool  A J9Pool of J9SharedDataKeyDescriptor populated with the results. Pool is not cleaned by this function. Can be NULL.
+ *
+ * @return  The number of keys found or -1 in the case of error
+ *
+ * THREADING: Must be called with cache read mutex held
+ */
+IDATA
+SH_ByteDataManagerImpl::findForKeyPrefix(J9VMThread* currentThread, const char* prefix, UDATA prefixLen, UDATA dataType, const J9Pool* keyDescriptorPool)
+{
+	J9HashTableState walkState;
+	BdLinkedListImpl** entry = NULL;
+	IDATA resultCntr = 0;
+
+	if (getState() != MANAGER_STATE_STARTED) {
+		return -1;
+	}
+
+	Trc_SHR_BDMI_findForKeyPrefix_Entry(currentThread, prefixLen, prefix, dataType, keyDescriptorPool);
+
+	if (!lockHashTable(currentThread, "findForKeyPrefix")) {
+		Trc_SHR_BDMI_findForKeyPrefix_ExitFailedMutex(currentThread);
+		return -1;
+	}
+
+	entry = (BdLinkedListImpl**)hashTableStartDo(_hashTable, &walkState);
+	while (NULL != entry) {
+		/* set found to found->_next, so that we see the last added item first, which means we will always find the item in the higher layer cache first */
+		BdLinkedListImpl* found = (BdLinkedListImpl*)(*entry)->_next;
+		BdLinkedListImpl* walk = found;
+
+		/* The hashtable key of a lambda class name is truncated after its last '$', so one chain can hold
+		 * entries for several distinct keys. Match the prefix against the full token of each entry instead.
+		 */
+		do {
+			const ShcItem* item = walk->_item;
+			const ByteDataWrapper* wrapper = (const ByteDataWrapper*)ITEMDATA(item);
+
+			if (isPublicEntryOfType(item, dataType)) {
+				const J9UTF8* token = (const J9UTF8*)_cache->getAddressFromJ9ShrOffset(&(wrapper->tokenOffset));
+				UDATA tokenLen = J9UTF8_LENGTH(token);
+
+				if ((tokenLen >= prefixLen)
+					&& (0 == memcmp(J9UTF8_DATA(token), prefix, prefixLen))
+					&& !hasNewerPublicEntryForToken(found, walk, token, dataType)
+				) {
+					J9SharedDataKeyDescriptor* newPoolEntry = NULL;
+
+					if ((NULL != keyDescriptorPool) && (NULL != (newPoolEntry = (J9SharedDataKeyDescriptor*)pool_newElement((J9Pool*)keyDescriptorPool)))) {
+						newPoolEntry->key = J9UTF8_DATA(token);
+						newPoolEntry->keylen = tokenLen;
+						setDescriptorFields(wrapper, &newPoolEntry->data);
+					}
+					++resultCntr;
+				}
+			}
+			walk = (BdLinkedListImpl*)walk->_next;
+		} while (walk != found);
+		entry = (BdLinkedListImpl**)hashTableNextDo(&walkState);
+	}
+
+	unlockHashTable(currentThread, "findForKeyPrefix");
+
+	Trc_SHR_BDMI_findForKeyPrefix_Exit(currentThread, resultCntr);
+
+	return resultCntr;
+}
+
 /**
  * If a JVM has finished using a piece of private data and wants to allow another JVM to acquire it, the data entry must be released.
  * This is done automatically when a JVM shuts down, but can also be achieved explicitly using this function.
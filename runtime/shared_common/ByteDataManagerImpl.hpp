@@ -61,6 +61,8 @@ public:
 	virtual void markAllStaleForKey(J9VMThread* currentThread, const char* key, UDATA keylen);
 
 	virtual IDATA find(J9VMThread* currentThread, const char* key, UDATA keylen, UDATA limitDataType, UDATA includePrivateData, J9SharedDataDescriptor* firstItem, const J9Pool* descriptorPool);
+
+	virtual IDATA findForKeyPrefix(J9VMThread* currentThread, const char* prefix, UDATA prefixLen, UDATA dataType, const J9Pool* keyDescriptorPool);
 	
 	virtual UDATA acquirePrivateEntry(J9VMThread* currentThread, const J9SharedDataDescriptor* data);
 
@@ -104,6 +106,7 @@ private:
 	void initialize(J9JavaVM* vm, SH_SharedCache* cache, BlockPtr memForConstructor);
 	
 	void setDescriptorFields(const ByteDataWrapper* wrapper, J9SharedDataDescriptor* descriptor);
+	bool isPublicEntryOfType(const ShcItem* item, UDATA dataType);
 
 	static UDATA htReleasePrivateEntry(void *entry, void *opaque);
 	
@@ -124,6 +127,8 @@ private:
 	protected:
 		void localInit(const J9UTF8* key, const ShcItem* item) {};
 	};
+
+	bool hasNewerPublicEntryForToken(BdLinkedListImpl* first, BdLinkedListImpl* entry, const J9UTF8* token, UDATA dataType);
 };
 
 #endif /* BYTEDATAMANAGERIMPL_H_INCLUDED */
@@ -289,6 +289,9 @@ SH_CacheMap::initialize(J9JavaVM* vm, J9SharedClassConfig* sharedClassConfig, Bl
 	_bytesRead = 0;
 	_isAssertEnabled = true;
 	_metadataReleased = false;
+	_romSegmentListStale = false;
+	_recordStartupPages = false;
+	_startupPagesHinted = 0;
 	_ccPool = NULL;
 
 	_managers = SH_Managers::newInstance(vm, (SH_Managers *)allocPtr);
@@ -363,6 +366,7 @@ SH_CacheMap::cleanup(J9VMThread* currentThread)
 		walkManager->cleanup(currentThread);
 		walkManager = managers()->nextDo(&state);
 	}
+	_tsm->cleanup(currentThread);
 	while (theCC) {
 		SH_CompositeCacheImpl* nextCC = theCC->getNext();
 		theCC->cleanup(currentThread);
@@ -466,6 +470,7 @@ SH_CacheMap::startup(J9VMThread* currentThread, J9SharedClassPreinitConfig* pico
 		Trc_SHR_CM_startup_Exit5(currentThread);
 		return -1;
 	}
+	_tsm->startup(currentThread);
 
 	/* _ccHead->startup will set the _actualSize to the real cache size */
 	U_32 cacheFileSize = 0;
@@ -1230,18 +1235,53 @@ SH_CacheMap::checkForCrash(J9VMThread* currentThread, bool hasClassSegmentMutex)
 	Trc_SHR_Assert_True(_ccHead->hasWriteMutex(currentThread));
 
 	if (_ccHead->crashDetected(&_localCrashCntr)) {
+		bool lockedCache = false;
+
 		CACHEMAP_TRACE(J9SHR_VERBOSEFLAG_ENABLE_VERBOSE_DEFAULT, J9NLS_INFO, J9NLS_SHRC_CM_UNEXPECTED_TERMINATION_DETECTED);
 		Trc_SHR_CM_checkForCrash_Exception(currentThread);
 
+		/* Managers look up their hashtables without a local mutex while the cache read mutex is held,
+		 * so wait for the readers to finish before the hashtables are torn down.
+		 */
+		if (!_ccHead->isLocked()) {
+			_ccHead->doLockCache(currentThread);
+			lockedCache = true;
+		}
 		if (resetAllManagers(currentThread) != 0) {
-			return -1;
+			rc = -1;
+		} else {
+			_cc->reset(currentThread);
+			rc = refreshHashtables(currentThread, hasClassSegmentMutex);
+		}
+		if (lockedCache) {
+			_ccHead->doUnlockCache(currentThread);
 		}
-		_cc->reset(currentThread);
-		rc = refreshHashtables(currentThread, hasClassSegmentMutex);
 	}
 	return rc;
 }
 
+/**
+ * Check the update counts of the started cache layers for data that has not been read into the hashtables yet.
+ *
+ * THREADING: Can be called without the refreshMutex. The result can be stale, but if no updates are
+ * reported, every update that was counted before this call has been read into the hashtables.
+ *
+ * @return true if there are updates to read
+ */
+bool
+SH_CacheMap::hasCacheUpdates(J9VMThread* currentThread)
+{
+	SH_CompositeCacheImpl* cache = _ccHead;
+
+	while (cache) {
+		if (cache->isStarted() && (cache->checkUpdates(currentThread) > 0)) {
+			return true;
+		}
+		cache = cache->getPrevious();
+	}
+	return false;
+}
+
 /**
  * Update hashtables with new data that might have appeared in the cache.
  * 
@@ -1249,6 +1289,8 @@ SH_CacheMap::checkForCrash(J9VMThread* currentThread, bool hasClassSegmentMutex)
  * Since we never try to get the writeMutex while holding the refreshMutex, there is no risk of deadlock
  * 
  * The refreshMutex is held throughout this function, so it's threadsafe.
+ * The refreshMutex is not entered when the update counts show that there is nothing to read, so that
+ * concurrent finds do not serialize on it.
  * 
  * @return the number of items read, or -1 on error
  */
@@ -1261,6 +1303,14 @@ SH_CacheMap::refreshHashtables(J9VMThread* currentThread, bool hasClassSegmentMu
 
 	_ccHead->updateRuntimeFullFlags(currentThread);
 
+	if (!hasCacheUpdates(currentThread)
+		&& !(hasClassSegmentMutex && _romSegmentListStale)
+		&& !_ccHead->isCacheCorrupt()
+	) {
+		Trc_SHR_CM_refreshHashtables_Exit(currentThread, itemsRead);
+		return itemsRead;
+	}
+
 	if (enterRefreshMutex(currentThread, "refreshHashtables")==0) {
 		itemsRead = readCacheUpdates(currentThread);
 		if ((UnitTest::CACHE_FULL_TEST != UnitTest::unitTest)
@@ -1277,6 +1327,9 @@ SH_CacheMap::refreshHashtables(J9VMThread* currentThread, bool hasClassSegmentMu
 				 * findROMClass and storeROMClass prereq holding the class segment mutex.
 				 * For other types of find and store, the segment list is irrelevant */ 
 				updateROMSegmentList(currentThread, true);
+				_romSegmentListStale = false;
+			} else if (itemsRead > 0) {
+				_romSegmentListStale = true;
 			}
 		}
 		_ccHead->updateMetadataSegment(currentThread);
@@ -2734,6 +2787,9 @@ SH_CacheMap::findROMClass(J9VMThread* currentThread, const char* path, Classpath
 		/* Call updateROMSegmentList() to ensure that heapAlloc of the romClass segment is always updated to include the returned romClass */
 		updateROMSegmentList(currentThread, omrthread_monitor_owned_by_self(currentThread->javaVM->classMemorySegments->segmentMutex) != 0);
 		updateBytesRead(returnVal->romSize);		/* This is kind of inaccurate as the strings are all external to the ROMClass */
+		if (_recordStartupPages) {
+			recordStartupPageAccess(currentThread, returnVal, returnVal->romSize);
+		}
 		/* trace event is at level 1 and trace exit message is at level 2 as per CMVC 155318/157683 */
 		Trc_SHR_CM_findROMClass_Exit_Found_Event(currentThread, path, returnVal, locateResult.foundAtIndex, cp->getHelperID());
 		Trc_SHR_CM_findROMClass_Exit_Found(currentThread, path, returnVal, locateResult.foundAtIndex);
@@ -3226,6 +3282,10 @@ SH_CacheMap::findCompiledMethod(J9VMThread* currentThread, const J9ROMMethod* ro
 			updateAccessedShrCacheMetadataBounds(currentThread, (uintptr_t *) result);
 		}
 #endif /* !defined(J9ZOS390) && !defined(AIXPPC) */
+		if (_recordStartupPages) {
+			const CompiledMethodWrapper* cmw = (const CompiledMethodWrapper*)(result - sizeof(CompiledMethodWrapper));
+			recordStartupPageAccess(currentThread, cmw, sizeof(CompiledMethodWrapper) + cmw->dataLength + cmw->codeLength);
+		}
 	}
 
 	return result;
@@ -3250,6 +3310,165 @@ SH_CacheMap::updateAccessedShrCacheMetadataBounds(J9VMThread* currentThread, uin
 	return;
 }
 
+/**
+ * Record the cache pages spanned by an address range accessed during startup.
+ * @param [in] currentThread  The current thread
+ * @param [in] address  The start of the range accessed
+ * @param [in] length  The length of the range accessed, in bytes
+ */
+void
+SH_CacheMap::recordStartupPageAccess(J9VMThread* currentThread, const void* address, UDATA length)
+{
+	SH_CompositeCacheImpl* ccToUse = _ccHead;
+	bool rc = false;
+
+	do {
+		rc = ccToUse->recordStartupPageAccess(currentThread, address, length);
+		ccToUse = ccToUse->getNext();
+	} while ((false == rc) && (NULL != ccToUse));
+}
+
+/**
+ * Advise the OS to read in the cache pages that a previous JVM with the same startup key accessed
+ * during its startup, and start recording the pages accessed by this JVM so that they can be stored
+ * by storeStartupPages() at the end of startup.
+ *
+ * Rather than faulting the ROMClasses and AOT code in one page at a time as they are first used,
+ * the startup working set is read ahead in ascending page order.
+ * Only called with -Xshareclasses:prefetchStartupPages. Platforms which cannot advise the OS
+ * still record and store the pages.
+ *
+ * @param [in] currentThread  The current thread
+ * @param [in] key  The key the startup pages are stored under
+ * @param [in] keylen  The length of the key
+ */
+void
+SH_CacheMap::prefetchStartupPages(J9VMThread* currentThread, const char* key, UDATA keylen)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+	SH_CompositeCacheImpl* ccToUse = _ccHead;
+	J9SharedDataDescriptor descriptor;
+	bool recording = false;
+
+	if (J9_ARE_NO_BITS_SET(*_runtimeFlags, J9SHR_RUNTIMEFLAG_ENABLE_PERSISTENT_CACHE)) {
+		return;
+	}
+
+	do {
+		if (ccToUse->startRecordingStartupPages(currentThread)) {
+			recording = true;
+		}
+		ccToUse = ccToUse->getNext();
+	} while (NULL != ccToUse);
+	if (!recording) {
+		return;
+	}
+	_recordStartupPages = true;
+
+	memset(&descriptor, 0, sizeof(J9SharedDataDescriptor));
+	if (0 < findSharedData(currentThread, key, keylen, J9SHR_DATA_TYPE_STARTUP_PAGES, 0, &descriptor, NULL)) {
+		const U_8* cursor = descriptor.address;
+		const U_8* end = descriptor.address + descriptor.length;
+
+		while ((cursor + sizeof(StartupPagesHeader)) <= end) {
+			const StartupPagesHeader* pages = (const StartupPagesHeader*)cursor;
+
+			if ((cursor + SPHLEN(pages)) > end) {
+				break;
+			}
+			_startupPagesHinted += pages->pageCount;
+			for (ccToUse = _ccHead; NULL != ccToUse; ccToUse = ccToUse->getNext()) {
+				if (ccToUse->getLayer() == pages->layer) {
+					UDATA pagesPrefetched = ccToUse->prefetchStartupPages(currentThread, pages);
+
+					Trc_SHR_CM_prefetchStartupPages_Event(currentThread, pages->layer, (UDATA)pages->pageCount, pagesPrefetched);
+					if (J9_ARE_ALL_BITS_SET(_verboseFlags, J9SHR_VERBOSEFLAG_ENABLE_VERBOSE_PAGES)) {
+						j9tty_printf(PORTLIB, "Prefetching %u startup pages of cache layer %d - %zu pages were not resident\n", pages->pageCount, pages->layer, pagesPrefetched);
+					}
+					break;
+				}
+			}
+			cursor += SPHLEN(pages);
+		}
+	}
+}
+
+/**
+ * Stop recording the cache pages accessed during startup, and store them in the cache for the
+ * next JVM with the same startup key to prefetch. The pages are stored if none were found in the
+ * cache at startup, or if more pages were accessed than were found, as happens when the classes
+ * were being added to the cache by the JVM that stored them.
+ *
+ * The number of page faults avoided is reported by -Xshareclasses:verbosePages. A page fault is
+ * counted as avoided when a page accessed during startup was not resident before it was prefetched.
+ *
+ * @param [in] currentThread  The current thread
+ * @param [in] key  The key to store the startup pages under
+ * @param [in] keylen  The length of the key
+ *
+ * @return the location of the stored data, or NULL if the startup pages were not stored
+ */
+const U_8*
+SH_CacheMap::storeStartupPages(J9VMThread* currentThread, const char* key, UDATA keylen)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+	SH_CompositeCacheImpl* ccToUse = NULL;
+	UDATA rangesInLayer[J9SH_LAYER_NUM_MAX_VALUE + 1];
+	UDATA totalPages = 0;
+	UDATA dataLength = 0;
+	U_8* data = NULL;
+	U_8* cursor = NULL;
+	const U_8* result = NULL;
+	J9SharedDataDescriptor descriptor;
+
+	if (!_recordStartupPages) {
+		return NULL;
+	}
+	_recordStartupPages = false;
+
+	for (ccToUse = _ccHead; NULL != ccToUse; ccToUse = ccToUse->getNext()) {
+		I_8 layer = ccToUse->getLayer();
+		UDATA faultsAvoided = 0;
+		UDATA pages = ccToUse->countStartupPages(&rangesInLayer[layer], &faultsAvoided);
+
+		Trc_SHR_CM_storeStartupPages_Event(currentThread, layer, pages, rangesInLayer[layer], faultsAvoided);
+		if (J9_ARE_ALL_BITS_SET(_verboseFlags, J9SHR_VERBOSEFLAG_ENABLE_VERBOSE_PAGES)) {
+			j9tty_printf(PORTLIB, "Cache layer %d - %zu pages accessed during startup in %zu ranges - %zu page faults avoided by prefetching\n", layer, pages, rangesInLayer[layer], faultsAvoided);
+		}
+		if (0 != pages) {
+			totalPages += pages;
+			dataLength += sizeof(StartupPagesHeader) + (rangesInLayer[layer] * sizeof(StartupPageRange));
+		}
+	}
+
+	if (totalPages <= _startupPagesHinted) {
+		return NULL;
+	}
+
+	data = (U_8*)j9mem_allocate_memory(dataLength, J9MEM_CATEGORY_CLASSES);
+	if (NULL == data) {
+		return NULL;
+	}
+	cursor = data;
+	for (ccToUse = _ccHead; NULL != ccToUse; ccToUse = ccToUse->getNext()) {
+		I_8 layer = ccToUse->getLayer();
+
+		if (0 != rangesInLayer[layer]) {
+			cursor = ccToUse->writeStartupPages(cursor, rangesInLayer[layer]);
+		}
+	}
+
+	memset(&descriptor, 0, sizeof(J9SharedDataDescriptor));
+	descriptor.address = data;
+	descriptor.length = (UDATA)(cursor - data);
+	descriptor.type = J9SHR_DATA_TYPE_STARTUP_PAGES;
+	descriptor.flags = (0 == _startupPagesHinted) ? J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE : J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE_OVERWRITE;
+	result = storeSharedData(currentThread, key, keylen, &descriptor);
+
+	j9mem_free_memory(data);
+	return result;
+}
+
 /**
 * Store data in shared classes cache, keyed by the specified address in the shared cache.
 * Typically this is jit or aot related data.
@@ -3874,17 +4093,10 @@ SH_CacheMap::storeSharedData(J9VMThread* currentThread, const char* key, UDATA k
 {
 	const U_8* result = NULL;
 	const char* fnName = "storeSharedData";
-	ByteDataWrapper* bdwInCache = NULL;
-	UDATA foundDatalen = 0;
-	char utfKey[STACK_STRINGBUF_SIZE];
-	char* utfKeyPtr = (char*)&utfKey;
-	J9UTF8* utfKeyStruct = NULL;
 	UDATA dataNotIndexed = (data != NULL) ? (data->flags & J9SHRDATA_NOT_INDEXED) : 0;
 	SH_ByteDataManager* localBDM;
 	bool overwrite = false;
 
-	PORT_ACCESS_FROM_VMC(currentThread);
-
 	Trc_SHR_Assert_True(_sharedClassConfig != NULL);
 
 	if (((key == NULL) || (keylen == 0) || (data->length > MAX_INT)) && !dataNotIndexed) {
@@ -3916,6 +4128,41 @@ SH_CacheMap::storeSharedData(J9VMThread* currentThread, const char* key, UDATA k
 		return NULL;
 	}
 
+	result = storeSharedDataLocked(currentThread, localBDM, key, keylen, data, overwrite);
+
+	_ccHead->exitWriteMutex(currentThread, fnName);
+
+	Trc_SHR_CM_storeSharedData_Exit3(currentThread, result);
+	return result;
+}
+
+/**
+ * Stores data in the cache against "key", as described for storeSharedData.
+ *
+ * @param[in] currentThread  The current thread
+ * @param[in] localBDM  The byte data manager
+ * @param[in] key  The UTF8 key to store the data against
+ * @param[in] keylen  The length of the key
+ * @param[in] data  The actual data
+ * @param[in] overwrite  True if existing data for a J9SHRDATA_SINGLE_STORE_FOR_KEY_TYPE_OVERWRITE store should be overwritten in place
+ *
+ * @return  The new location of the cached data or null
+ *
+ * THREADING: Must be called with the cache write mutex held
+ */
+const U_8*
+SH_CacheMap::storeSharedDataLocked(J9VMThread* currentThread, SH_ByteDataManager* localBDM, const char* key, UDATA keylen, const J9SharedDataDescriptor* data, bool overwrite)
+{
+	const U_8* result = NULL;
+	ByteDataWrapper* bdwInCache = NULL;
+	UDATA foundDatalen = 0;
+	char utfKey[STACK_STRINGBUF_SIZE];
+	char* utfKeyPtr = (char*)&utfKey;
+	J9UTF8* utfKeyStruct = NULL;
+	UDATA dataNotIndexed = (data != NULL) ? (data->flags & J9SHRDATA_NOT_INDEXED) : 0;
+
+	PORT_ACCESS_FROM_VMC(currentThread);
+
 	/* Determine whether the record(s) already exist in the cache */
 	if (!dataNotIndexed) {
 		if (data != NULL) {
@@ -4019,10 +4266,73 @@ _done:
 	if (utfKeyPtr && (utfKeyPtr != (char*)&utfKey)) {
 		j9mem_free_memory(utfKeyPtr);
 	}
+	return result;
+}
+
+/**
+ * Replaces the data stored in the cache against "key", only if the data currently stored against it is "expectedData".
+ * The check and the store are made under the cache write mutex, so the replace fails if another thread or JVM
+ * has stored data against the key since "expectedData" was found.
+ * Only public, indexed data can be replaced.
+ *
+ * @param[in] currentThread  The current thread
+ * @param[in] key  The UTF8 key to store the data against
+ * @param[in] keylen  The length of the key
+ * @param[in] expectedData  The location of the cached data currently stored against the key, as returned by findSharedData
+ * 			or storeSharedData, or NULL if no data should currently be stored against the key
+ * @param[in] data  The new data
+ * @param[out] replaced  Set to true if the data currently stored against the key was "expectedData"
+ *
+ * @return  The new location of the cached data or null
+ *
+ * THREADING: This function can be called multi-threaded
+ */
+const U_8*
+SH_CacheMap::replaceSharedData(J9VMThread* currentThread, const char* key, UDATA keylen, const U_8* expectedData, const J9SharedDataDescriptor* data, bool* replaced)
+{
+	const U_8* result = NULL;
+	const U_8* currentData = NULL;
+	const char* fnName = "replaceSharedData";
+	ByteDataWrapper* bdwInCache = NULL;
+	SH_ByteDataManager* localBDM = NULL;
+
+	Trc_SHR_Assert_True(_sharedClassConfig != NULL);
+
+	*replaced = false;
+	if ((NULL == key) || (0 == keylen) || (NULL == data) || (NULL == data->address) || (0 == data->length) || (data->length > MAX_INT)
+		|| J9_ARE_ANY_BITS_SET(data->flags, J9SHRDATA_IS_PRIVATE | J9SHRDATA_NOT_INDEXED | J9SHRDATA_ALLOCATE_ZEROD_MEMORY | J9SHRDATA_USE_READWRITE)
+	) {
+		return NULL;
+	}
+	if (NULL == (localBDM = getByteDataManager(currentThread))) {
+		return NULL;
+	}
+
+	Trc_SHR_CM_replaceSharedData_Entry(currentThread, keylen, key, expectedData, data);
+
+	if (_ccHead->enterWriteMutex(currentThread, false, fnName) != 0) {
+		Trc_SHR_CM_replaceSharedData_ExitFailedMutex(currentThread);
+		return NULL;
+	}
+
+	if (runEntryPointChecks(currentThread, NULL, NULL) == -1) {
+		_ccHead->exitWriteMutex(currentThread, fnName);
+		Trc_SHR_CM_replaceSharedData_ExitEntryPointChecks(currentThread);
+		return NULL;
+	}
+
+	bdwInCache = localBDM->findSingleEntry(currentThread, key, keylen, data->type, 0, NULL);
+	if (NULL != bdwInCache) {
+		currentData = (const U_8*)getDataFromByteDataWrapper(bdwInCache);
+	}
+	if (currentData == expectedData) {
+		*replaced = true;
+		result = storeSharedDataLocked(currentThread, localBDM, key, keylen, data, false);
+	}
 
 	_ccHead->exitWriteMutex(currentThread, fnName);
 
-	Trc_SHR_CM_storeSharedData_Exit3(currentThread, result);
+	Trc_SHR_CM_replaceSharedData_Exit(currentThread, currentData, result);
 	return result;
 }
 
@@ -4095,6 +4405,68 @@ SH_CacheMap::findSharedData(J9VMThread* currentThread, const char* key, UDATA ke
 	return result;
 }
 
+/**
+ * Retrieves the data stored in the cache against every key which starts with "prefix".
+ * For each key, only the most recently stored public data of type "dataType" is returned.
+ *
+ * @param[in] currentThread  The current thread
+ * @param[in] prefix  The UTF8 prefix of the keys. A zero length prefix matches every key.
+ * @param[in] prefixLen  The length of the prefix
+ * @param[in] dataType  The type of data required
+ * @param[out] keyDescriptorPool  A J9Pool of J9SharedDataKeyDescriptor populated with the results. Note that the pool is not cleaned.
+ * 			Can be NULL - if this is the case, the number of keys is returned.
+ *
+ * @return  The number of keys found or -1 in the case of error
+ *
+ * THREADING: This function can be called multi-threaded
+ */
+IDATA
+SH_CacheMap::findSharedDataForKeyPrefix(J9VMThread* currentThread, const char* prefix, UDATA prefixLen, UDATA dataType, const J9Pool* keyDescriptorPool)
+{
+	IDATA result = 0;
+	const char* fnName = "findSharedDataForKeyPrefix";
+	SH_ByteDataManager* localBDM = NULL;
+
+	Trc_SHR_Assert_True(_sharedClassConfig != NULL);
+
+	if ((NULL == prefix) && (0 != prefixLen)) {
+		return -1;
+	}
+	if (NULL == (localBDM = getByteDataManager(currentThread))) {
+		return 0;
+	}
+
+	Trc_SHR_CM_findSharedDataForKeyPrefix_Entry(currentThread, prefixLen, prefix);
+
+	if (_ccHead->enterReadMutex(currentThread, fnName) != 0) {
+		Trc_SHR_CM_findSharedDataForKeyPrefix_ExitFailedMutex(currentThread);
+		return -1;
+	}
+
+	if (runEntryPointChecks(currentThread, NULL, NULL) == -1) {
+		_ccHead->exitReadMutex(currentThread, fnName);
+		Trc_SHR_CM_findSharedDataForKeyPrefix_ExitEntryPointChecks(currentThread);
+		return -1;
+	}
+
+	result = localBDM->findForKeyPrefix(currentThread, prefix, prefixLen, dataType, keyDescriptorPool);
+
+	_ccHead->exitReadMutex(currentThread, fnName);
+
+	if ((result > 0) && (NULL != keyDescriptorPool)) {
+		pool_state state;
+		J9SharedDataKeyDescriptor* anElement = (J9SharedDataKeyDescriptor*)pool_startDo((J9Pool*)keyDescriptorPool, &state);
+
+		while (NULL != anElement) {
+			updateBytesRead(anElement->data.length);
+			anElement = (J9SharedDataKeyDescriptor*)pool_nextDo(&state);
+		}
+	}
+
+	Trc_SHR_CM_findSharedDataForKeyPrefix_Exit(currentThread, result);
+	return result;
+}
+
 /* Attempts to transfer some private shared data from another JVM to this one
  * The data field should be an value returned from findSharedData, not one made up manually.
  * If the data entry is private to another JVM and is not in use, it will be made private to this JVM and will be marked "in use".
@@ -5546,6 +5918,17 @@ SH_CacheMap::getCompositeCacheAPI()
 	return (SH_CompositeCache*)_ccHead;
 }
 
+/**
+ * Get the number of container timestamp checks that were answered without a filesystem query
+ *
+ * @return The number of filesystem checks avoided by the timestamp manager
+ */
+UDATA
+SH_CacheMap::getFilesystemChecksAvoided(void)
+{
+	return _tsm->getFilesystemChecksAvoided();
+}
+
 SH_ScopeManager*
 SH_CacheMap::getScopeManager(J9VMThread* currentThread)
 {
@@ -113,6 +113,10 @@ public:
 	/* @see SharedCache.hpp */
 	virtual const U_8* storeSharedData(J9VMThread* currentThread, const char* key, UDATA keylen, const J9SharedDataDescriptor* data);
 
+	IDATA findSharedDataForKeyPrefix(J9VMThread* currentThread, const char* prefix, UDATA prefixLen, UDATA dataType, const J9Pool* keyDescriptorPool);
+
+	const U_8* replaceSharedData(J9VMThread* currentThread, const char* key, UDATA keylen, const U_8* expectedData, const J9SharedDataDescriptor* data, bool* replaced);
+
 	/* @see SharedCache.hpp */
 		virtual const U_8* findAttachedDataAPI(J9VMThread* currentThread, const void* addressInCache, J9SharedDataDescriptor* data, IDATA *corruptOffset) ;
 
@@ -133,6 +137,10 @@ public:
 
 	void dontNeedMetadata(J9VMThread* currentThread);
 
+	void prefetchStartupPages(J9VMThread* currentThread, const char* key, UDATA keylen);
+
+	const U_8* storeStartupPages(J9VMThread* currentThread, const char* key, UDATA keylen);
+
 	/**
 	 * This function is extremely hot.
 	 * Peeks to see whether compiled code exists for a given ROMMethod in the CompiledMethodManager hashtable
@@ -205,6 +213,8 @@ public:
 	/* @see SharedCache.hpp */
 	virtual SH_CompositeCache* getCompositeCacheAPI();
 
+	UDATA getFilesystemChecksAvoided(void);
+
 	/* @see SharedCache.hpp */
 	virtual SH_Managers * managers();
 
@@ -321,6 +331,9 @@ private:
 	U_32 _actualSize;
 	J9Pool* _ccPool;
 	bool _metadataReleased;
+	volatile bool _romSegmentListStale; /* ROMClasses were added to the hashtables by a refresh that could not update the ROMClass segment list */
+	volatile bool _recordStartupPages; /* the cache pages accessed are being recorded until the end of startup */
+	UDATA _startupPagesHinted; /* number of pages in the startup pages found in the cache */
 
 	bool _isAssertEnabled; /* flag to turn on/off assertion before acquiring local mutex */
 	
@@ -330,6 +343,8 @@ private:
 
 	IDATA readCacheUpdates(J9VMThread* currentThread);
 
+	bool hasCacheUpdates(J9VMThread* currentThread);
+
 	IDATA readCache(J9VMThread* currentThread, SH_CompositeCacheImpl* cache, IDATA expectedUpdates, bool startupForStats);
 
 	IDATA refreshHashtables(J9VMThread* currentThread, bool hasClassSegmentMutex);
@@ -386,6 +401,8 @@ private:
 	void updateAllManagersWithNewCacheArea(J9VMThread* currentThread, SH_CompositeCacheImpl* newArea);
 
 	void updateAccessedShrCacheMetadataBounds(J9VMThread* currentThread, uintptr_t const  * result);
+
+	void recordStartupPageAccess(J9VMThread* currentThread, const void* address, UDATA length);
 	
 	bool isAddressInReleasedMetaDataBounds(J9VMThread* currentThread, UDATA address) const;
 
@@ -399,6 +416,8 @@ private:
 
 	SH_ByteDataManager* getByteDataManager(J9VMThread* currentThread);
 
+	const U_8* storeSharedDataLocked(J9VMThread* currentThread, SH_ByteDataManager* localBDM, const char* key, UDATA keylen, const J9SharedDataDescriptor* data, bool overwrite);
+
 	SH_CompiledMethodManager* getCompiledMethodManager(J9VMThread* currentThread);
 	
 	SH_AttachedDataManager* getAttachedDataManager(J9VMThread* currentThread);
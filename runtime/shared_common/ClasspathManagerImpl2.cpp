@@ -54,6 +54,9 @@ SH_ClasspathManagerImpl2::SH_ClasspathManagerImpl2()
    _allCacheletsStarted(false)
 {
    _htMutexName = "cpeTableMutex";
+   _lockFreeLookups = true;
+   /* The CpLinkedListHdr entries are updated through the pointers returned by lookups, so the hashtable is never replaced by a copy */
+   _lockFreeHashTableCanGrow = false;
 }
 
 SH_ClasspathManagerImpl2::~SH_ClasspathManagerImpl2()
@@ -439,7 +442,7 @@ SH_ClasspathManagerImpl2::localHashTableCreate(J9VMThread* currentThread, U_32 i
 	J9HashTable* returnVal;
 
 	Trc_SHR_CMI_localHashTableCreate_Entry(currentThread, initialEntries);
-	returnVal = hashTableNew(OMRPORT_FROM_J9PORT(_portlib), J9_GET_CALLSITE(), initialEntries, sizeof(SH_ClasspathManagerImpl2::CpLinkedListHdr), sizeof(char *), 0, J9MEM_CATEGORY_CLASSES, SH_ClasspathManagerImpl2::cpeHashFn, SH_ClasspathManagerImpl2::cpeHashEqualFn, NULL, (void*)currentThread->javaVM->internalVMFunctions);
+	returnVal = hashTableNew(OMRPORT_FROM_J9PORT(_portlib), J9_GET_CALLSITE(), initialEntries, sizeof(SH_ClasspathManagerImpl2::CpLinkedListHdr), sizeof(char *), J9HASH_TABLE_DO_NOT_GROW | J9HASH_TABLE_DO_NOT_REHASH, J9MEM_CATEGORY_CLASSES, SH_ClasspathManagerImpl2::cpeHashFn, SH_ClasspathManagerImpl2::cpeHashEqualFn, NULL, (void*)currentThread->javaVM->internalVMFunctions);
 	Trc_SHR_CMI_localHashTableCreate_Exit(currentThread, returnVal);
 	return returnVal;
 }
@@ -505,7 +508,9 @@ SH_ClasspathManagerImpl2::cpeTableAddHeader(J9VMThread* currentThread, const cha
 	while (retryCount < MONITOR_ENTER_RETRY_TIMES) {
 		if (_cache->enterLocalMutex(currentThread, _htMutex, "cpeTableMutex", "cpeTableAddHeader")==0) {
 			Trc_SHR_CMI_cpeTableAdd_HashtableAdd(currentThread);
+			beginHashTableUpdate();
 			rc = (CpLinkedListHdr*)hashTableAdd(_hashTable, &header);
+			endHashTableUpdate();
 			if (rc == NULL) {
 				PORT_ACCESS_FROM_PORT(_portlib);
 				M_ERR_TRACE(J9NLS_SHRC_CMI_FAILED_CREATE_HASHTABLE_ENTRY);
@@ -556,9 +561,18 @@ SH_ClasspathManagerImpl2::cpeTableLookup(J9VMThread* currentThread, const char*
 {
 	CpLinkedListHdr dummy(key, keySize, isToken, NULL);
 	CpLinkedListHdr* returnVal = NULL;
+	UDATA updateCount = 0;
 
 	Trc_SHR_CMI_cpeTableLookup_Entry(currentThread, keySize, key, isToken);
 
+	if (_lockFreeLookups && beginLockFreeLookup(&updateCount)) {
+		returnVal = cpeTableLookupHelper(currentThread, &dummy);
+		if (endLockFreeLookup(updateCount)) {
+			Trc_SHR_CMI_cpeTableLookup_Exit2(currentThread, returnVal);
+			return returnVal;
+		}
+	}
+
 	if (lockHashTable(currentThread, "cpeTableLookup")) {
 		returnVal = cpeTableLookupHelper(currentThread, &dummy);
 		unlockHashTable(currentThread, "cpeTableLookup");
@@ -227,6 +227,9 @@ SH_CompositeCacheImpl::commonInit(J9JavaVM* vm)
 	_initializingNewCache = false;
 	_minimumAccessedShrCacheMetadata = 0;
 	_maximumAccessedShrCacheMetadata = 0;
+	_startupPagesTouched = NULL;
+	_startupPagesPrefetched = NULL;
+	_startupPageCount = 0;
 	_layer = 0;
 }
 
@@ -413,6 +416,7 @@ SH_CompositeCacheImpl::cleanup(J9VMThread* currentThread)
 	} else if (_utMutex) {
 		omrthread_monitor_destroy(_utMutex);
 	}
+	freeStartupPages(currentThread);
 	_started = false;
 	_commonCCInfo->cacheIsCorrupt = 0;
 
@@ -6576,6 +6580,243 @@ SH_CompositeCacheImpl::isAddressInReleasedMetaDataBounds(J9VMThread* currentThre
 	return rc;
 }
 
+#define STARTUP_PAGES_BITS_PER_SLOT (sizeof(UDATA) * 8)
+#define STARTUP_PAGES_SLOT(page) ((page) / STARTUP_PAGES_BITS_PER_SLOT)
+#define STARTUP_PAGES_BIT(page) (((UDATA)1) << ((page) % STARTUP_PAGES_BITS_PER_SLOT))
+#define STARTUP_PAGES_IS_SET(bitmap, page) J9_ARE_ALL_BITS_SET((bitmap)[STARTUP_PAGES_SLOT(page)], STARTUP_PAGES_BIT(page))
+
+/**
+ * Allocate the bitmaps used to record the pages of this cache that are accessed during startup.
+ *
+ * @param [in] currentThread The current JVM thread
+ *
+ * @return true if recording has started, false otherwise
+ */
+bool
+SH_CompositeCacheImpl::startRecordingStartupPages(J9VMThread* currentThread)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+	UDATA bitmapBytes = 0;
+
+	if (!_started) {
+		Trc_SHR_Assert_ShouldNeverHappen();
+		return false;
+	}
+	if ((NULL != _startupPagesTouched) || (0 == _osPageSize)) {
+		return false;
+	}
+
+	_startupPageCount = ROUND_UP_TO(_osPageSize, (UDATA)_theca->totalBytes) / _osPageSize;
+	bitmapBytes = ROUND_UP_TO(STARTUP_PAGES_BITS_PER_SLOT, _startupPageCount) / 8;
+	_startupPagesTouched = (UDATA*)j9mem_allocate_memory(bitmapBytes * 2, J9MEM_CATEGORY_CLASSES);
+	if (NULL == _startupPagesTouched) {
+		_startupPageCount = 0;
+		return false;
+	}
+	memset(_startupPagesTouched, 0, bitmapBytes * 2);
+	_startupPagesPrefetched = (UDATA*)((U_8*)_startupPagesTouched + bitmapBytes);
+	return true;
+}
+
+/**
+ * Release the bitmaps used to record the pages of this cache that are accessed during startup.
+ * Only called when the cache is being shut down, as other threads may still be recording accesses.
+ *
+ * @param [in] currentThread The current JVM thread
+ */
+void
+SH_CompositeCacheImpl::freeStartupPages(J9VMThread* currentThread)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	if (NULL != _startupPagesTouched) {
+		j9mem_free_memory(_startupPagesTouched);
+		_startupPagesTouched = NULL;
+		_startupPagesPrefetched = NULL;
+		_startupPageCount = 0;
+	}
+}
+
+/**
+ * Record the pages of this cache spanned by an address range that was accessed during startup.
+ *
+ * @param [in] currentThread The current JVM thread
+ * @param [in] address The start of the accessed range
+ * @param [in] length The length of the accessed range in bytes
+ *
+ * @return true if the address is in this cache, false otherwise
+ */
+bool
+SH_CompositeCacheImpl::recordStartupPageAccess(J9VMThread* currentThread, const void* address, UDATA length)
+{
+	UDATA* touched = _startupPagesTouched;
+	UDATA firstPage = 0;
+	UDATA lastPage = 0;
+
+	if ((NULL == touched) || !isAddressInCache(address)) {
+		return false;
+	}
+
+	firstPage = ((UDATA)address - (UDATA)_theca) / _osPageSize;
+	lastPage = ((UDATA)address + ((0 == length) ? 0 : (length - 1)) - (UDATA)_theca) / _osPageSize;
+	if (lastPage >= _startupPageCount) {
+		lastPage = _startupPageCount - 1;
+	}
+	for (UDATA page = firstPage; page <= lastPage; page++) {
+		volatile UDATA* slot = &touched[STARTUP_PAGES_SLOT(page)];
+		UDATA bit = STARTUP_PAGES_BIT(page);
+		UDATA oldValue = *slot;
+
+		/* Several threads may load classes from the same page, so set the bit atomically */
+		while (J9_ARE_NO_BITS_SET(oldValue, bit)) {
+			UDATA seenValue = VM_AtomicSupport::lockCompareExchange(slot, oldValue, oldValue | bit);
+			if (seenValue == oldValue) {
+				break;
+			}
+			oldValue = seenValue;
+		}
+	}
+	return true;
+}
+
+/**
+ * Advise the OS to read in the pages of this cache that a previous JVM accessed during startup.
+ * The pages which were not resident are remembered so the faults avoided can be reported.
+ *
+ * @param [in] currentThread The current JVM thread
+ * @param [in] pages The startup pages recorded for this cache by a previous JVM
+ *
+ * @return the number of pages which were not resident when the advice was given
+ */
+UDATA
+SH_CompositeCacheImpl::prefetchStartupPages(J9VMThread* currentThread, const StartupPagesHeader* pages)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+	const StartupPageRange* range = SPHRANGES(pages);
+	U_8* residentPages = NULL;
+	UDATA pagesPrefetched = 0;
+
+	if ((NULL == _startupPagesPrefetched)
+		|| (pages->layer != _layer)
+		|| (pages->createTime != getCreateTime())
+		|| (pages->totalBytes != _theca->totalBytes)
+		|| (pages->osPageSize != _osPageSize)
+	) {
+		/* The pages were recorded for a different cache or a different page size */
+		return 0;
+	}
+
+	residentPages = (U_8*)j9mem_allocate_memory(_startupPageCount, J9MEM_CATEGORY_CLASSES);
+	if (NULL == residentPages) {
+		return 0;
+	}
+	for (U_32 i = 0; i < pages->rangeCount; i++, range++) {
+		UDATA firstPage = range->firstPage;
+		UDATA pageCount = range->pageCount;
+
+		if ((firstPage >= _startupPageCount) || (pageCount > (_startupPageCount - firstPage))) {
+			break;
+		}
+		if (_oscache->willNeed(currentThread, (U_8*)_theca + (firstPage * _osPageSize), pageCount * _osPageSize, residentPages)) {
+			for (UDATA j = 0; j < pageCount; j++) {
+				if (J9_ARE_NO_BITS_SET(residentPages[j], 1)) {
+					UDATA page = firstPage + j;
+					_startupPagesPrefetched[STARTUP_PAGES_SLOT(page)] |= STARTUP_PAGES_BIT(page);
+					pagesPrefetched += 1;
+				}
+			}
+		}
+	}
+	j9mem_free_memory(residentPages);
+	return pagesPrefetched;
+}
+
+/**
+ * Count the pages of this cache accessed during startup.
+ *
+ * @param [out] rangeCount The number of contiguous ranges the accessed pages form
+ * @param [out] faultsAvoided The number of accessed pages which were read in by prefetchStartupPages()
+ * rather than faulted in on first access
+ *
+ * @return the number of pages accessed during startup
+ */
+UDATA
+SH_CompositeCacheImpl::countStartupPages(UDATA* rangeCount, UDATA* faultsAvoided)
+{
+	UDATA pageCount = 0;
+	bool inRange = false;
+
+	*rangeCount = 0;
+	*faultsAvoided = 0;
+	if (NULL == _startupPagesTouched) {
+		return 0;
+	}
+	for (UDATA page = 0; page < _startupPageCount; page++) {
+		if (STARTUP_PAGES_IS_SET(_startupPagesTouched, page)) {
+			pageCount += 1;
+			if (!inRange) {
+				*rangeCount += 1;
+				inRange = true;
+			}
+			if (STARTUP_PAGES_IS_SET(_startupPagesPrefetched, page)) {
+				*faultsAvoided += 1;
+			}
+		} else {
+			inRange = false;
+		}
+	}
+	return pageCount;
+}
+
+/**
+ * Write the pages of this cache accessed during startup as a StartupPagesHeader followed
+ * by the ranges of contiguous pages in ascending order.
+ *
+ * @param [in] cursor Where to write
+ * @param [in] maxRanges The number of ranges there is room for at cursor. Pages may still be recorded
+ * by other threads after countStartupPages() is called, so any ranges beyond this are dropped.
+ *
+ * @return the address following the written data
+ */
+U_8*
+SH_CompositeCacheImpl::writeStartupPages(U_8* cursor, UDATA maxRanges)
+{
+	StartupPagesHeader* header = (StartupPagesHeader*)cursor;
+	StartupPageRange* range = SPHRANGES(header);
+	U_32 rangeCount = 0;
+	U_32 pageCount = 0;
+	bool inRange = false;
+
+	memset(header, 0, sizeof(StartupPagesHeader));
+	header->createTime = getCreateTime();
+	header->totalBytes = _theca->totalBytes;
+	header->osPageSize = (U_32)_osPageSize;
+	header->layer = _layer;
+
+	if (NULL != _startupPagesTouched) {
+		for (UDATA page = 0; page < _startupPageCount; page++) {
+			if (STARTUP_PAGES_IS_SET(_startupPagesTouched, page)) {
+				if (!inRange) {
+					if (rangeCount == maxRanges) {
+						break;
+					}
+					range[rangeCount].firstPage = (U_32)page;
+					range[rangeCount].pageCount = 0;
+					rangeCount += 1;
+					inRange = true;
+				}
+				range[rangeCount - 1].pageCount += 1;
+				pageCount += 1;
+			} else {
+				inRange = false;
+			}
+		}
+	}
+	header->rangeCount = rangeCount;
+	header->pageCount = pageCount;
+	return cursor + SPHLEN(header);
+}
+
 /**
  * Return the unique ID of the current cache
  *
@@ -379,6 +379,18 @@ public:
 
 	bool isAddressInReleasedMetaDataBounds(J9VMThread* currentThread, UDATA metadataAddress) const;
 
+	bool startRecordingStartupPages(J9VMThread* currentThread);
+
+	void freeStartupPages(J9VMThread* currentThread);
+
+	bool recordStartupPageAccess(J9VMThread* currentThread, const void* address, UDATA length);
+
+	UDATA prefetchStartupPages(J9VMThread* currentThread, const StartupPagesHeader* pages);
+
+	UDATA countStartupPages(UDATA* rangeCount, UDATA* faultsAvoided);
+
+	U_8* writeStartupPages(U_8* cursor, UDATA maxRanges);
+
 	const char* getCacheUniqueID(J9VMThread* currentThread) const;
 
 	const char* getCacheName(void) const;
@@ -486,6 +498,12 @@ private:
 	UDATA  _minimumAccessedShrCacheMetadata;
 
 	UDATA _maximumAccessedShrCacheMetadata;
+
+	/* One bit per page of the cache, set when the page is accessed during startup */
+	UDATA* _startupPagesTouched;
+	/* One bit per page of the cache, set when a page that was not resident was prefetched */
+	UDATA* _startupPagesPrefetched;
+	UDATA _startupPageCount;
 	
 	I_8 _layer;
 
@@ -33,6 +33,14 @@
 #include "CacheMap.hpp"
 #include "AtomicSupport.hpp"
 
+/* State of the copy of a lock-free hashtable into a larger table */
+typedef struct GrowHashTableState {
+	J9HashTable* newTable;
+	bool failed;
+} GrowHashTableState;
+
+static UDATA copyHashTableEntry(void* entry, void* userData);
+
 /**
  * Constructor
  */
@@ -45,6 +53,11 @@ SH_Manager::SH_Manager()
    _htEntries(0),
    _runtimeFlagsPtr(0),
    _verboseFlags(0),
+   _lockFreeLookups(false),
+   _lockFreeHashTableCanGrow(false),
+   _htCurrentEntries(0),
+   _htGrowCount(0),
+   _htUpdateCount(0),
    _state(0)
 {
 }
@@ -130,8 +143,15 @@ SH_Manager::tearDownHashTable(J9VMThread* currentThread)
 
 	localTearDownPools(currentThread);
 	if (_hashTable) {
+		beginHashTableUpdate();
 		hashTableFree(_hashTable);
 		_hashTable = NULL;
+		for (UDATA i = 0; i < _htGrowCount; i++) {
+			hashTableFree(_retiredHashTables[i]);
+			_retiredHashTables[i] = NULL;
+		}
+		_htGrowCount = 0;
+		endHashTableUpdate();
 	}
 
 	Trc_SHR_M_tearDownHashTable_Exit(currentThread);
@@ -152,7 +172,9 @@ SH_Manager::initializeHashTable(J9VMThread* currentThread)
 	Trc_SHR_M_initializeHashTable_Entry(currentThread, _managerType);
 
 	_hashTableGetNumItemsDoFn = (J9HashTableDoFn)SH_Manager::countItemsInList;
-	_hashTable = localHashTableCreate(currentThread, _htEntries);
+	_htCurrentEntries = _htEntries;
+	_htGrowCount = 0;
+	_hashTable = localHashTableCreate(currentThread, _htCurrentEntries);
 	if (!_hashTable) {
 		M_ERR_TRACE(J9NLS_SHRC_M_FAILED_CREATE_HASHTABLE);
 		returnVal = -1;
@@ -374,14 +396,19 @@ SH_Manager::hllTableAdd(J9VMThread* currentThread, const J9Pool* linkPool, const
 
 			/* This call will not actually add the new item if there is already an entry of the same key in the hashtable. Instead, the value returned
 				by hashTableAdd is passed back as the addToList parameter. The value returned by this function should then be linked to addToList */
-			if ((rc = (HashLinkedListImpl**)hashTableAdd(_hashTable, &newItem))==NULL) {
+			beginHashTableUpdate();
+			rc = (HashLinkedListImpl**)hashTableAdd(_hashTable, &newItem);
+			if (rc == NULL) {
 				Trc_SHR_M_hllTableAdd_Exception1(currentThread);
 				M_ERR_TRACE(J9NLS_SHRC_M_FAILED_CREATE_HASHTABLE_ENTRY);
 				newItem = NULL;		/* Return null, but must exit mutex first */
 			} else {
 				Trc_SHR_M_hllTableAdd_HashtableAdd(currentThread, rc);
 				*addToList = *rc;
+				/* rc is not used after this, as the hashtable may be replaced */
+				growLockFreeHashTable(currentThread);
 			}
+			endHashTableUpdate();
 
 			_cache->exitLocalMutex(currentThread, _htMutex, "hllTableMutex", "hllTableAdd");
 			break;
@@ -405,9 +432,18 @@ SH_Manager::HashLinkedListImpl*
 SH_Manager::hllTableLookup(J9VMThread* currentThread, const char* name, U_16 nameLen, bool allowCacheletStartup)
 {
 	HashLinkedListImpl* result = NULL;
+	UDATA updateCount = 0;
 
 	Trc_SHR_M_hllTableLookup_Entry(currentThread, nameLen, name);
 
+	if (_lockFreeLookups && beginLockFreeLookup(&updateCount)) {
+		result = hllTableLookupHelper(currentThread, (U_8*)name, nameLen, 0, NULL);
+		if (endLockFreeLookup(updateCount)) {
+			Trc_SHR_M_hllTableLookup_Exit2(currentThread, result);
+			return result;
+		}
+	}
+
 	if (lockHashTable(currentThread, "hllTableLookup")) {
 		result = hllTableLookupHelper(currentThread, (U_8*)name, nameLen, 0, NULL);
 		unlockHashTable(currentThread, "hllTableLookup");
@@ -493,6 +529,130 @@ SH_Manager::unlockHashTable(J9VMThread* currentThread, const char* funcName)
 	_cache->exitLocalMutex(currentThread, _htMutex, _htMutexName, funcName);
 }
 
+/**
+ * Start a lookup that does not enter _htMutex.
+ *
+ * Entries are only added to the hashtable of a lock-free manager, and the hashtable never grows
+ * or rehashes in place, so its buckets are never moved. It may be replaced by a larger copy (see
+ * growLockFreeHashTable()), but the table it replaces is not freed until the hashtable is torn
+ * down. _htUpdateCount is odd while another thread changes or replaces the hashtable. A lookup
+ * that overlaps such a change may see a partly linked node, so its result, found or not, is only
+ * used if endLockFreeLookup() confirms that no change happened while it ran.
+ *
+ * @param[out] updateCount The update count to pass to endLockFreeLookup()
+ *
+ * @return true if the lookup can run without _htMutex, false if the hashtable is being changed
+ */
+bool
+SH_Manager::beginLockFreeLookup(UDATA* updateCount)
+{
+	UDATA count = _htUpdateCount;
+
+	/* Read the count before any node of the hashtable */
+	VM_AtomicSupport::readBarrier();
+	*updateCount = count;
+	return (0 == (count & 1));
+}
+
+/**
+ * @param[in] updateCount The value returned by beginLockFreeLookup()
+ *
+ * @return true if the result of the lookup can be used, false if it must be repeated with _htMutex held
+ */
+bool
+SH_Manager::endLockFreeLookup(UDATA updateCount)
+{
+	/* Finish reading the nodes of the hashtable before the count is read again */
+	VM_AtomicSupport::readBarrier();
+	return (updateCount == _htUpdateCount);
+}
+
+void
+SH_Manager::beginHashTableUpdate(void)
+{
+	/* Make the count odd before the hashtable is changed */
+	_htUpdateCount += 1;
+	VM_AtomicSupport::writeBarrier();
+}
+
+void
+SH_Manager::endHashTableUpdate(void)
+{
+	/* Publish the change to the hashtable before the count is made even again */
+	VM_AtomicSupport::writeBarrier();
+	_htUpdateCount += 1;
+}
+
+/**
+ * Replace the hashtable of a lock-free manager by a copy with twice as many entries, once its
+ * average bucket length exceeds LOCK_FREE_HASHTABLE_MAX_AVERAGE_BUCKET_LENGTH. The buckets of a
+ * hashtable cannot be moved under a lock-free lookup, so the table is copied rather than grown.
+ * A lookup that started before the replacement still walks the old table, which is kept until the
+ * hashtable is torn down, and is then repeated with _htMutex held as _htUpdateCount has changed.
+ *
+ * The hashtable is replaced at most LOCK_FREE_HASHTABLE_MAX_GROWS times. After that, or if the
+ * copy cannot be made, the buckets just get longer.
+ *
+ * @param[in] currentThread The current thread
+ *
+ * THREADING: Must be called with _htMutex held, between beginHashTableUpdate() and endHashTableUpdate()
+ */
+void
+SH_Manager::growLockFreeHashTable(J9VMThread* currentThread)
+{
+	GrowHashTableState state;
+	U_32 newEntries = 0;
+
+	if (!_lockFreeHashTableCanGrow
+		|| (_htGrowCount >= LOCK_FREE_HASHTABLE_MAX_GROWS)
+		|| (hashTableGetCount(_hashTable) <= ((UDATA)_htCurrentEntries * LOCK_FREE_HASHTABLE_MAX_AVERAGE_BUCKET_LENGTH))
+		|| (_htCurrentEntries > (U_32_MAX / 2))
+	) {
+		return;
+	}
+
+	newEntries = _htCurrentEntries * 2;
+	state.newTable = localHashTableCreate(currentThread, newEntries);
+	state.failed = false;
+	if (NULL == state.newTable) {
+		Trc_SHR_M_growLockFreeHashTable_Failed(currentThread, _managerType, newEntries);
+		return;
+	}
+	hashTableForEachDo(_hashTable, copyHashTableEntry, &state);
+	if (state.failed) {
+		Trc_SHR_M_growLockFreeHashTable_Failed(currentThread, _managerType, newEntries);
+		hashTableFree(state.newTable);
+		return;
+	}
+
+	_retiredHashTables[_htGrowCount] = _hashTable;
+	_htGrowCount += 1;
+	/* Publish the entries of the new table before the table itself */
+	VM_AtomicSupport::writeBarrier();
+	_hashTable = state.newTable;
+	_htCurrentEntries = newEntries;
+	Trc_SHR_M_growLockFreeHashTable_Grown(currentThread, _managerType, newEntries);
+}
+
+/**
+ * Add an entry of a hashtable to the larger table that will replace it
+ *
+ * @param[in] entry The entry
+ * @param[in] userData The GrowHashTableState
+ *
+ * @return FALSE, to keep the entry in the table being copied
+ */
+static UDATA
+copyHashTableEntry(void* entry, void* userData)
+{
+	GrowHashTableState* state = (GrowHashTableState*)userData;
+
+	if (!state->failed && (NULL == hashTableAdd(state->newTable, entry))) {
+		state->failed = true;
+	}
+	return FALSE;
+}
+
 UDATA
 SH_Manager::generateHash(J9InternalVMFunctions* internalFunctionTable, U_8* key, U_16 keySize)
 {
@@ -542,6 +702,11 @@ SH_Manager::hllHashEqualFn(void* left, void* right, void *userData)
 
 	Trc_SHR_M_hllHashEqualFn_Entry(leftItem, rightItem);
 
+	/* A lock-free lookup can see a node whose value is not yet visible. Its result is discarded by endLockFreeLookup(). */
+	if ((NULL == leftItem) || (NULL == rightItem)) {
+		Trc_SHR_M_hllHashEqualFn_Exit1();
+		return 0;
+	}
 	/* PERFORMANCE: Compare key size first as this is the most likely cause for exit */
 	if (leftItem->_keySize != rightItem->_keySize) {
 		Trc_SHR_M_hllHashEqualFn_Exit2();
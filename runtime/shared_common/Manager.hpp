@@ -44,6 +44,13 @@
 
 #define MAX_TYPES_PER_MANAGER 3
 
+/* A lock-free hashtable that can grow is grown when its average bucket length exceeds this */
+#define LOCK_FREE_HASHTABLE_MAX_AVERAGE_BUCKET_LENGTH 4
+
+/* Number of times a lock-free hashtable can double in size. The tables it replaces are kept until
+ * it is torn down, so this also bounds the memory they use. */
+#define LOCK_FREE_HASHTABLE_MAX_GROWS 4
+
 class SH_Managers;
 class SH_SharedCache;
 class SH_CacheMap;
@@ -166,6 +173,26 @@ protected:
 		 * NOT equivalent to SH_CacheMap::_runningNested.
 		 */
 	UDATA _dataTypesRepresented[MAX_TYPES_PER_MANAGER];
+	bool _lockFreeLookups;
+		/* Set by managers whose lookups do not enter _htMutex (see beginLockFreeLookup()).
+		 * The hashtable of such a manager is created with J9HASH_TABLE_DO_NOT_GROW and J9HASH_TABLE_DO_NOT_REHASH,
+		 * so that its buckets are never moved while a lookup walks them.
+		 */
+	bool _lockFreeHashTableCanGrow;
+		/* Set by lock-free managers whose hashtable entries are never changed in place. Their hashtable
+		 * is replaced by a larger copy as it fills up (see growLockFreeHashTable()).
+		 */
+	U_32 _htCurrentEntries;
+		/* The number of entries _hashTable was created with, which is larger than _htEntries once it has grown */
+	UDATA _htGrowCount;
+	J9HashTable* _retiredHashTables[LOCK_FREE_HASHTABLE_MAX_GROWS];
+		/* Tables replaced by growLockFreeHashTable(), which lookups that started before they were
+		 * replaced may still walk. Freed with _hashTable.
+		 */
+	volatile UDATA _htUpdateCount;
+		/* Odd while _hashTable is being changed and even otherwise. A lock-free lookup is only trusted
+		 * if the count was even when it started and did not change while it ran.
+		 */
 
 	/* Functions which must be implemented by manager subclasses */
 
@@ -207,6 +234,16 @@ protected:
 	bool lockHashTable(J9VMThread* currentThread, const char* funcName);
 	void unlockHashTable(J9VMThread* currentThread, const char* funcName);
 
+	/* Lookups without _htMutex. THREADING: The caller must hold the cache read or write mutex,
+	 * which keeps the hashtable from being reset during the lookup. */
+	bool beginLockFreeLookup(UDATA* updateCount);
+	bool endLockFreeLookup(UDATA updateCount);
+
+	/* Must be called with _htMutex held, around every change to _hashTable */
+	void beginHashTableUpdate(void);
+	void endHashTableUpdate(void);
+	void growLockFreeHashTable(J9VMThread* currentThread);
+
 	static UDATA hllHashFn(void* item, void *userData);
 	static UDATA hllHashEqualFn(void* left, void* right, void *userData);
 
@@ -455,6 +455,12 @@ SH_OSCache::dontNeedMetadata(J9VMThread* currentThread, const void* startAddress
 	return;
 }
 
+/* override if the cache is persistent */
+bool
+SH_OSCache::willNeed(J9VMThread* currentThread, const void* startAddress, size_t length, U_8* residentPages) {
+	return false;
+}
+
 /* Function that initializes class variables common to OSCache subclasses */
 void
 SH_OSCache::commonInit(J9PortLibrary* portLibrary, UDATA generation, I_8 layer)
@@ -269,6 +269,8 @@ public:
 	virtual SH_CacheAccess isCacheAccessible(void) const { return J9SH_CACHE_ACCESS_ALLOWED; }
 
 	virtual void  dontNeedMetadata(J9VMThread* currentThread, const void* startAddress, size_t length);
+
+	virtual bool willNeed(J9VMThread* currentThread, const void* startAddress, size_t length, U_8* residentPages);
 	
 	virtual IDATA detach(void) = 0;
 
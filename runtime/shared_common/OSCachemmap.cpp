@@ -463,6 +463,25 @@ SH_OSCachemmap::dontNeedMetadata(J9VMThread* currentThread, const void* startAdd
 #endif
 }
 
+/**
+ * Advise the OS that a section of the shared classes cache will be accessed soon, so that
+ * the pages are read in ahead of the accesses rather than one fault at a time.
+ *
+ * @param [in] currentThread  The current thread
+ * @param [in] startAddress  The page aligned start of the section
+ * @param [in] length  The length of the section in bytes
+ * @param [out] residentPages  One byte per page of the section. On return the lowest bit of each byte
+ * is set if the page was already resident before the advice was given.
+ *
+ * @return true if the advice was given, false otherwise
+ */
+bool
+SH_OSCachemmap::willNeed(J9VMThread* currentThread, const void* startAddress, size_t length, U_8* residentPages) {
+	PORT_ACCESS_FROM_PORT(_portLibrary);
+
+	return (0 == j9shmem_will_need((void*)startAddress, length, residentPages));
+}
+
 /**
  * Destroy a persistent shared classes cache
  *
@@ -38,6 +38,8 @@ SH_ROMClassManagerImpl::SH_ROMClassManagerImpl()
  : _tsm(0),
    _linkedListImplPool(0)
 {
+	_lockFreeLookups = true;
+	_lockFreeHashTableCanGrow = true;
 }
 
 SH_ROMClassManagerImpl::~SH_ROMClassManagerImpl()
@@ -51,7 +53,7 @@ SH_ROMClassManagerImpl::localHashTableCreate(J9VMThread* currentThread, U_32 ini
 	J9HashTable* returnVal;
 
 	Trc_SHR_RMI_localHashTableCreate_Entry(currentThread, initialEntries);
-	returnVal = hashTableNew(OMRPORT_FROM_J9PORT(_portlib), J9_GET_CALLSITE(), initialEntries, sizeof(SH_Manager::HashLinkedListImpl*), sizeof(char *), 0, J9MEM_CATEGORY_CLASSES, SH_Manager::hllHashFn, SH_Manager::hllHashEqualFn, NULL, (void*)currentThread->javaVM->internalVMFunctions);
+	returnVal = hashTableNew(OMRPORT_FROM_J9PORT(_portlib), J9_GET_CALLSITE(), initialEntries, sizeof(SH_Manager::HashLinkedListImpl*), sizeof(char *), J9HASH_TABLE_DO_NOT_GROW | J9HASH_TABLE_DO_NOT_REHASH, J9MEM_CATEGORY_CLASSES, SH_Manager::hllHashFn, SH_Manager::hllHashEqualFn, NULL, (void*)currentThread->javaVM->internalVMFunctions);
 	_hashTableGetNumItemsDoFn = SH_ROMClassManagerImpl::customCountItemsInList;
 	Trc_SHR_RMI_localHashTableCreate_Exit(currentThread, returnVal);
 	return returnVal;
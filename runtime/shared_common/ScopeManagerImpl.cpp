@@ -34,6 +34,8 @@
 SH_ScopeManagerImpl::SH_ScopeManagerImpl()
 {
 	_htMutexName = "scTableMutex";
+	_lockFreeLookups = true;
+	_lockFreeHashTableCanGrow = true;
 }
 
 SH_ScopeManagerImpl::~SH_ScopeManagerImpl()
@@ -47,7 +49,7 @@ SH_ScopeManagerImpl::localHashTableCreate(J9VMThread* currentThread, U_32 initia
 	J9HashTable* returnVal;
 
 	Trc_SHR_SMI_localHashTableCreate_Entry(currentThread, initialEntries);
-	returnVal = hashTableNew(OMRPORT_FROM_J9PORT(_portlib), J9_GET_CALLSITE(), initialEntries, sizeof(HashEntry), sizeof(char *), 0, J9MEM_CATEGORY_CLASSES, SH_ScopeManagerImpl::scHashFn, SH_ScopeManagerImpl::scHashEqualFn, NULL, (void*)currentThread->javaVM->internalVMFunctions);
+	returnVal = hashTableNew(OMRPORT_FROM_J9PORT(_portlib), J9_GET_CALLSITE(), initialEntries, sizeof(HashEntry), sizeof(char *), J9HASH_TABLE_DO_NOT_GROW | J9HASH_TABLE_DO_NOT_REHASH, J9MEM_CATEGORY_CLASSES, SH_ScopeManagerImpl::scHashFn, SH_ScopeManagerImpl::scHashEqualFn, NULL, (void*)currentThread->javaVM->internalVMFunctions);
 	Trc_SHR_SMI_localHashTableCreate_Exit(currentThread, returnVal);
 	return returnVal;
 }
@@ -91,6 +93,11 @@ SH_ScopeManagerImpl::scHashEqualFn(void* left, void* right, void *userData)
 
 	Trc_SHR_SMI_scHashEqualFn_Entry(utf8left, utf8right);
 
+	/* A lock-free lookup can see an entry whose value is not yet visible. Its result is discarded by endLockFreeLookup(). */
+	if ((NULL == utf8left) || (NULL == utf8right)) {
+		Trc_SHR_SMI_scHashEqualFn_Exit1();
+		return 0;
+	}
 	/* PERFORMANCE: Compare key size first as this is the most likely cause for exit */
 	if (J9UTF8_LENGTH(utf8left) != J9UTF8_LENGTH(utf8right)) {
 		Trc_SHR_SMI_scHashEqualFn_Exit2();
@@ -116,10 +123,16 @@ SH_ScopeManagerImpl::scTableAdd(J9VMThread* currentThread, const ShcItem* item,
 	Trc_SHR_SMI_scTableAdd_Entry(currentThread, J9UTF8_LENGTH(key), J9UTF8_DATA(key), item);
 	
 	if (lockHashTable(currentThread, "scTableAdd")) {
-		if ((returnVal = (HashEntry*)hashTableAdd(_hashTable, &entry))==NULL) {
+		beginHashTableUpdate();
+		returnVal = (HashEntry*)hashTableAdd(_hashTable, &entry);
+		if (returnVal == NULL) {
 			Trc_SHR_SMI_scTableAdd_Exception1(currentThread);
 			M_ERR_TRACE(J9NLS_SHRC_SMI_FAILED_CREATE_HASHTABLE_ENTRY);
+		} else {
+			/* Entries are never changed, so returnVal stays valid in the replaced table */
+			growLockFreeHashTable(currentThread);
 		}
+		endHashTableUpdate();
 		Trc_SHR_SMI_scTableAdd_HashtableAdd(currentThread, returnVal);
 		unlockHashTable(currentThread, "scTableAdd");
 	} else {
@@ -143,9 +156,22 @@ SH_ScopeManagerImpl::scTableLookup(J9VMThread* currentThread, const J9UTF8* key)
 	const HashEntry* found = NULL;
 	const J9UTF8* returnVal = NULL;
 	HashEntry searchEntry(key, NULL);
+	UDATA updateCount = 0;
 	
 	Trc_SHR_SMI_scTableLookup_Entry(currentThread, J9UTF8_LENGTH(key), J9UTF8_DATA(key));
 	
+	if (_lockFreeLookups && beginLockFreeLookup(&updateCount)) {
+		found = (const HashEntry*)hashTableFind(_hashTable, (void*)&searchEntry);
+		if (endLockFreeLookup(updateCount)) {
+			Trc_SHR_SMI_scTableLookup_HashtableFind(currentThread, found);
+			if (found) {
+				returnVal = found->_value;
+			}
+			Trc_SHR_SMI_scTableLookup_Exit2(currentThread, returnVal);
+			return returnVal;
+		}
+	}
+
 	if (lockHashTable(currentThread, "scTableLookup")) {
 		found = (const HashEntry*)hashTableFind(_hashTable, (void*)&searchEntry);
 		Trc_SHR_SMI_scTableLookup_HashtableFind(currentThread, found);
@@ -73,6 +73,24 @@ public:
 	 * 					(Contains the current timestamp)
 	 */
 	virtual I_64 checkROMClassTimeStamp(J9VMThread* currentThread, const char* className, UDATA classNameLen, ClasspathEntryItem* cpei, ROMClassWrapper* rcWrapper) = 0;
+
+	/*
+	 * Starts the cache of container timestamps, which lets checkCPEITimeStamp() avoid
+	 * querying the filesystem for a jar that is known not to have changed.
+	 * If the cache cannot be started, every check queries the filesystem.
+	 */
+	virtual void startup(J9VMThread* currentThread) = 0;
+
+	/*
+	 * Frees the cache of container timestamps
+	 */
+	virtual void cleanup(J9VMThread* currentThread) = 0;
+
+	/*
+	 * Returns the number of container timestamp checks answered from the cache
+	 * of container timestamps, each of which avoided a filesystem query.
+	 */
+	virtual UDATA getFilesystemChecksAvoided(void) = 0;
 protected:
 	/* - Virtual destructor has been added to avoid compile warnings. 
 	 * - Delete operator added to avoid linkage with C++ runtime libs 
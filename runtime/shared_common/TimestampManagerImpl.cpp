@@ -22,9 +22,17 @@
 
 #include "TimestampManagerImpl.hpp"
 #include "CacheMap.hpp"
+#include "AtomicSupport.hpp"
 #include "ut_j9shr.h"
 #include <string.h>
 
+#define CONTAINER_TIMESTAMPS_INITIAL_SIZE 64
+/* Changes to the directories above a watched jar (a symbolic link that is switched, a directory
+ * that is renamed) are not notified. The path of a watched jar is resolved again after this many
+ * milliseconds, unless -Xshareclasses:timestampCheckInterval= is set.
+ */
+#define WATCHED_CONTAINER_REVALIDATION_INTERVAL 1000
+
 SH_TimestampManagerImpl*
 SH_TimestampManagerImpl::newInstance(J9JavaVM* vm, SH_TimestampManagerImpl* memForConstructor, J9SharedClassConfig* sharedClassConfig)
 {
@@ -32,6 +40,16 @@ SH_TimestampManagerImpl::newInstance(J9JavaVM* vm, SH_TimestampManagerImpl* memF
 
 	new(newTSM) SH_TimestampManagerImpl();
 	newTSM->_sharedClassConfig = sharedClassConfig;
+	newTSM->_vm = vm;
+	newTSM->_portlib = vm->portLibrary;
+	newTSM->_containerTimestampsLock = NULL;
+	newTSM->_changesThreadMonitor = NULL;
+	newTSM->_containerTimestamps = NULL;
+	newTSM->_checkInterval = (NULL != vm->sharedCacheAPI) ? vm->sharedCacheAPI->timestampCheckInterval : 0;
+	newTSM->_watchContainers = (NULL != vm->sharedCacheAPI) && (0 != vm->sharedCacheAPI->timestampWatch);
+	newTSM->_containerWatches = NULL;
+	newTSM->_changesThreadRunning = false;
+	newTSM->_filesystemChecksAvoided = 0;
 
 	return newTSM;
 }
@@ -85,7 +103,11 @@ SH_TimestampManagerImpl::localCheckTimeStamp(J9VMThread* currentThread, Classpat
 	if (!pathBufPtr) {
 		return TIMESTAMP_DOES_NOT_EXIST;
 	}
-	current = j9file_lastmod(pathBufPtr);
+	if (PROTO_DIR == cpei->protocol) {
+		current = j9file_lastmod(pathBufPtr);
+	} else {
+		current = getContainerLastModified(currentThread, pathBufPtr);
+	}
 	if (doFreeBuffer) {
 		j9mem_free_memory(pathBufPtr);
 	}
@@ -104,4 +126,342 @@ SH_TimestampManagerImpl::localCheckTimeStamp(J9VMThread* currentThread, Classpat
 	}
 }
 
+/**
+ * Start the cache of container timestamps. A timestamp is reused for the interval set by
+ * -Xshareclasses:timestampCheckInterval=. With -Xshareclasses:timestampWatch, on the platforms where
+ * the port library can watch files, the jars and the directories that contain them are watched, and
+ * a timestamp is also dropped as soon as its jar is modified or replaced. The changes are read by a
+ * separate thread, so that checking a timestamp never waits for them. Without either option, the cache is not started.
+ *
+ * @param [in] currentThread  The current thread
+ */
+void
+SH_TimestampManagerImpl::startup(J9VMThread* currentThread)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	if ((NULL == _sharedClassConfig) || J9_ARE_NO_BITS_SET(_sharedClassConfig->runtimeFlags, J9SHR_RUNTIMEFLAG_ENABLE_TIMESTAMP_CHECKS)) {
+		/* Containers are only timestamped when the cache is created, so there is nothing to save */
+		return;
+	}
+
+	/* Where files cannot be watched, the timestamps are only cached for the check interval */
+	if (_watchContainers && (0 == j9file_watch_open(&_containerWatches)) && (0 == _checkInterval)) {
+		_checkInterval = WATCHED_CONTAINER_REVALIDATION_INTERVAL;
+	}
+	if (0 == _checkInterval) {
+		Trc_SHR_TMI_startup_NotStarted(currentThread);
+		return;
+	}
+
+	if ((0 != omrthread_rwmutex_init(&_containerTimestampsLock, 0, "Shared classes container timestamps lock"))
+		|| (0 != omrthread_monitor_init_with_name(&_changesThreadMonitor, 0, "Shared classes container changes thread monitor"))
+	) {
+		cleanup(currentThread);
+		Trc_SHR_TMI_startup_Failed(currentThread);
+		return;
+	}
+	_containerTimestamps = hashTableNew(OMRPORT_FROM_J9PORT(PORTLIB), J9_GET_CALLSITE(), CONTAINER_TIMESTAMPS_INITIAL_SIZE, sizeof(ContainerTimestamp), 0, 0, J9MEM_CATEGORY_CLASSES,
+		SH_TimestampManagerImpl::containerTimestampHashFn, SH_TimestampManagerImpl::containerTimestampHashEqualFn, NULL, (void*)currentThread->javaVM->internalVMFunctions);
+	if (NULL == _containerTimestamps) {
+		cleanup(currentThread);
+		Trc_SHR_TMI_startup_Failed(currentThread);
+		return;
+	}
+
+	if (NULL != _containerWatches) {
+		omrthread_t changesThread = NULL;
+
+		_changesThreadRunning = true;
+		if (0 != _vm->internalVMFunctions->createThreadWithCategory(&changesThread, 0, J9THREAD_PRIORITY_NORMAL, 0,
+			SH_TimestampManagerImpl::containerChangesThread, this, J9THREAD_CATEGORY_SYSTEM_THREAD)
+		) {
+			/* Without the thread, changes are not read and only the interval applies */
+			_changesThreadRunning = false;
+			j9file_watch_close(&_containerWatches);
+		}
+	}
+
+	Trc_SHR_TMI_startup_Started(currentThread, _containerWatches, _checkInterval);
+}
+
+/**
+ * Stop the thread that reads container changes, and free the cache of container timestamps
+ *
+ * @param [in] currentThread  The current thread
+ */
+void
+SH_TimestampManagerImpl::cleanup(J9VMThread* currentThread)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	if (NULL != _changesThreadMonitor) {
+		omrthread_monitor_enter(_changesThreadMonitor);
+		if (_changesThreadRunning) {
+			j9file_watch_stop(_containerWatches);
+			while (_changesThreadRunning) {
+				omrthread_monitor_wait(_changesThreadMonitor);
+			}
+		}
+		omrthread_monitor_exit(_changesThreadMonitor);
+	}
+	if (NULL != _containerWatches) {
+		j9file_watch_close(&_containerWatches);
+	}
+	if (NULL != _containerTimestamps) {
+		J9HashTableState walkState;
+		ContainerTimestamp* entry = (ContainerTimestamp*)hashTableStartDo(_containerTimestamps, &walkState);
+
+		while (NULL != entry) {
+			freeContainerTimestamp(entry);
+			entry = (ContainerTimestamp*)hashTableNextDo(&walkState);
+		}
+		hashTableFree(_containerTimestamps);
+		_containerTimestamps = NULL;
+	}
+	if (NULL != _changesThreadMonitor) {
+		omrthread_monitor_destroy(_changesThreadMonitor);
+		_changesThreadMonitor = NULL;
+	}
+	if (NULL != _containerTimestampsLock) {
+		omrthread_rwmutex_destroy(_containerTimestampsLock);
+		_containerTimestampsLock = NULL;
+	}
+}
+
+UDATA
+SH_TimestampManagerImpl::getFilesystemChecksAvoided(void)
+{
+	return _filesystemChecksAvoided;
+}
+
+/**
+ * Get the last modified time of a jar, from the cache of container timestamps if it was queried
+ * less than the check interval ago and has not been reported as changed since.
+ *
+ * @param [in] currentThread  The current thread
+ * @param [in] path  The path of the jar
+ *
+ * @return the last modified time, or -1 if the jar does not exist
+ */
+I_64
+SH_TimestampManagerImpl::getContainerLastModified(J9VMThread* currentThread, const char* path)
+{
+	ContainerTimestamp query;
+	ContainerTimestamp* entry = NULL;
+	I_64 now = 0;
+	I_64 result = -1;
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	if (NULL == _containerTimestamps) {
+		return j9file_lastmod(path);
+	}
+
+	query.path = (char*)path;
+	query.pathLen = strlen(path);
+	now = j9time_current_time_millis();
 
+	/* Lookups only exclude the threads that add or invalidate entries */
+	omrthread_rwmutex_enter_read(_containerTimestampsLock);
+	entry = (ContainerTimestamp*)hashTableFind(_containerTimestamps, &query);
+	if ((NULL != entry) && ((now - entry->checkedTime) < (I_64)_checkInterval)) {
+		result = entry->lastModified;
+		omrthread_rwmutex_exit_read(_containerTimestampsLock);
+		VM_AtomicSupport::add(&_filesystemChecksAvoided, 1);
+		return result;
+	}
+	omrthread_rwmutex_exit_read(_containerTimestampsLock);
+
+	omrthread_rwmutex_enter_write(_containerTimestampsLock);
+	entry = (ContainerTimestamp*)hashTableFind(_containerTimestamps, &query);
+	if (NULL == entry) {
+		query.path = (char*)j9mem_allocate_memory(query.pathLen + 1, J9MEM_CATEGORY_CLASSES);
+		if (NULL != query.path) {
+			memcpy(query.path, path, query.pathLen + 1);
+			query.realPath = NULL;
+			query.realName = NULL;
+			query.watchId = -1;
+			query.directoryWatchId = -1;
+			entry = (ContainerTimestamp*)hashTableAdd(_containerTimestamps, &query);
+			if (NULL == entry) {
+				j9mem_free_memory(query.path);
+			}
+		}
+	}
+	if ((NULL != entry) && (NULL != _containerWatches)) {
+		/* The watches are added before the jar is queried, so that a change after the query is notified */
+		watchContainer(currentThread, entry);
+	}
+	result = j9file_lastmod(path);
+	if (NULL != entry) {
+		entry->lastModified = result;
+		entry->checkedTime = now;
+	}
+	omrthread_rwmutex_exit_write(_containerTimestampsLock);
+	return result;
+}
+
+/**
+ * Resolve the path of a jar and watch the jar and the directory that contains it. The directory
+ * is watched so that a jar that is replaced by another file (usually by renaming a new jar over it)
+ * is noticed. If the resolved path changed since the jar was last watched, the entry now describes
+ * another file and its old watches no longer apply to it.
+ *
+ * @param [in] currentThread  The current thread
+ * @param [in] entry  The cached timestamp of the jar
+ *
+ * THREADING: Must be called with _containerTimestampsLock held for write
+ */
+void
+SH_TimestampManagerImpl::watchContainer(J9VMThread* currentThread, ContainerTimestamp* entry)
+{
+	char resolved[J9SH_MAXPATH];
+	IDATA resolvedLen = 0;
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	resolvedLen = j9file_watch_resolve_path(entry->path, resolved, sizeof(resolved));
+	if (resolvedLen < 0) {
+		/* The jar does not exist; it is queried again after the check interval */
+		return;
+	}
+	if ((NULL == entry->realPath) || (0 != strcmp(entry->realPath, resolved))) {
+		char* realPath = (char*)j9mem_allocate_memory(resolvedLen + 1, J9MEM_CATEGORY_CLASSES);
+		char* lastSeparator = NULL;
+
+		if (NULL == realPath) {
+			return;
+		}
+		if (NULL != entry->realPath) {
+			Trc_SHR_TMI_invalidateContainerTimestamps_Changed(currentThread, entry->path);
+			j9mem_free_memory(entry->realPath);
+		}
+		memcpy(realPath, resolved, resolvedLen + 1);
+		lastSeparator = strrchr(realPath, '/');
+		entry->realPath = realPath;
+		entry->realName = lastSeparator + 1;
+		/* Watches are shared by all the entries of the same file or directory, so they are not removed */
+		entry->watchId = j9file_watch_add(_containerWatches, realPath, J9PORT_FILE_WATCH_FILE);
+		if (lastSeparator == realPath) {
+			entry->directoryWatchId = j9file_watch_add(_containerWatches, "/", J9PORT_FILE_WATCH_DIRECTORY);
+		} else {
+			*lastSeparator = '\0';
+			entry->directoryWatchId = j9file_watch_add(_containerWatches, realPath, J9PORT_FILE_WATCH_DIRECTORY);
+			*lastSeparator = '/';
+		}
+	}
+}
+
+/**
+ * Entry point of the thread that reads the changes to the watched containers
+ *
+ * @param [in] entryArg  The SH_TimestampManagerImpl
+ */
+int J9THREAD_PROC
+SH_TimestampManagerImpl::containerChangesThread(void* entryArg)
+{
+	SH_TimestampManagerImpl* tsm = (SH_TimestampManagerImpl*)entryArg;
+
+	tsm->readContainerChanges();
+
+	omrthread_monitor_enter(tsm->_changesThreadMonitor);
+	tsm->_changesThreadRunning = false;
+	omrthread_monitor_notify_all(tsm->_changesThreadMonitor);
+	omrthread_exit(tsm->_changesThreadMonitor);
+	/* NO GUARANTEED EXECUTION BEYOND THIS POINT */
+	return 0;
+}
+
+/**
+ * Read the changes to the watched containers, and invalidate their timestamps, until cleanup()
+ * stops the watches.
+ */
+void
+SH_TimestampManagerImpl::readContainerChanges(void)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	while (0 == j9file_watch_wait(_containerWatches, SH_TimestampManagerImpl::containerChanged, this)) {
+		/* containerChanged() was called for each change */
+	}
+}
+
+/**
+ * Called by j9file_watch_wait() for each change to a watched container or directory
+ *
+ * @param [in] userData  The SH_TimestampManagerImpl
+ * @param [in] watchId  The watch that reported the change, or J9PORT_FILE_WATCH_ALL_CHANGES if changes were lost
+ * @param [in] name  For a change in a watched directory, the name of the file that changed; NULL if the directory itself changed
+ */
+void
+SH_TimestampManagerImpl::containerChanged(void* userData, IDATA watchId, const char* name)
+{
+	SH_TimestampManagerImpl* tsm = (SH_TimestampManagerImpl*)userData;
+
+	omrthread_rwmutex_enter_write(tsm->_containerTimestampsLock);
+	/* When changes were lost, nothing that is cached can be trusted */
+	tsm->invalidateContainerTimestamps(NULL, watchId, name);
+	omrthread_rwmutex_exit_write(tsm->_containerTimestampsLock);
+}
+
+/**
+ * Remove the timestamps of changed containers from the cache, so that the containers are
+ * queried again the next time they are checked.
+ *
+ * @param [in] currentThread  The current thread, or NULL
+ * @param [in] watchId  The watch that reported a change, or J9PORT_FILE_WATCH_ALL_CHANGES for all containers
+ * @param [in] name  For a change in a watched directory, the name of the file that changed; NULL if the directory itself changed
+ *
+ * THREADING: Must be called with _containerTimestampsLock held for write
+ */
+void
+SH_TimestampManagerImpl::invalidateContainerTimestamps(J9VMThread* currentThread, IDATA watchId, const char* name)
+{
+	J9HashTableState walkState;
+	ContainerTimestamp* entry = (ContainerTimestamp*)hashTableStartDo(_containerTimestamps, &walkState);
+
+	while (NULL != entry) {
+		if ((J9PORT_FILE_WATCH_ALL_CHANGES == watchId)
+			|| (watchId == entry->watchId)
+			|| ((watchId == entry->directoryWatchId) && ((NULL == name) || (0 == strcmp(name, entry->realName))))
+		) {
+			Trc_SHR_TMI_invalidateContainerTimestamps_Changed(currentThread, entry->path);
+			freeContainerTimestamp(entry);
+			hashTableDoRemove(&walkState);
+		}
+		entry = (ContainerTimestamp*)hashTableNextDo(&walkState);
+	}
+}
+
+/**
+ * Free the memory owned by a cached container timestamp
+ *
+ * @param [in] entry  The cached timestamp
+ */
+void
+SH_TimestampManagerImpl::freeContainerTimestamp(ContainerTimestamp* entry)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	j9mem_free_memory(entry->path);
+	if (NULL != entry->realPath) {
+		j9mem_free_memory(entry->realPath);
+	}
+}
+
+UDATA
+SH_TimestampManagerImpl::containerTimestampHashFn(void* entry, void* userData)
+{
+	ContainerTimestamp* container = (ContainerTimestamp*)entry;
+	J9InternalVMFunctions* internalFunctionTable = (J9InternalVMFunctions*)userData;
+
+	return internalFunctionTable->computeHashForUTF8((U_8*)container->path, container->pathLen);
+}
+
+UDATA
+SH_TimestampManagerImpl::containerTimestampHashEqualFn(void* left, void* right, void* userData)
+{
+	ContainerTimestamp* leftContainer = (ContainerTimestamp*)left;
+	ContainerTimestamp* rightContainer = (ContainerTimestamp*)right;
+
+	return (leftContainer->pathLen == rightContainer->pathLen) && (0 == memcmp(leftContainer->path, rightContainer->path, leftContainer->pathLen));
+}
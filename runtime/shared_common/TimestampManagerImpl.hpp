@@ -56,10 +56,51 @@ public:
 	/* @see TimestampManager.hpp */
 	virtual I_64 checkROMClassTimeStamp(J9VMThread* currentThread, const char* className, UDATA classNameLen, ClasspathEntryItem* cpei, ROMClassWrapper* rcWrapper);
 
+	/* @see TimestampManager.hpp */
+	virtual void startup(J9VMThread* currentThread);
+
+	/* @see TimestampManager.hpp */
+	virtual void cleanup(J9VMThread* currentThread);
+
+	/* @see TimestampManager.hpp */
+	virtual UDATA getFilesystemChecksAvoided(void);
+
 private:
+	/* The last modified time of a jar, and when it was last queried */
+	typedef struct ContainerTimestamp {
+		char* path;
+		UDATA pathLen;
+		char* realPath; /* the path with symbolic links resolved, NULL if the jar is not watched */
+		const char* realName; /* the last component of realPath */
+		I_64 lastModified;
+		I_64 checkedTime;
+		IDATA watchId; /* watch of the jar, or negative if it is not watched */
+		IDATA directoryWatchId; /* watch of the directory that contains the jar, or negative if it is not watched */
+	} ContainerTimestamp;
 
 	I_64 localCheckTimeStamp(J9VMThread* currentThread, ClasspathEntryItem* cpei, const char* className, UDATA classNameLen, ROMClassWrapper* rcWrapper);
+	I_64 getContainerLastModified(J9VMThread* currentThread, const char* path);
+	void watchContainer(J9VMThread* currentThread, ContainerTimestamp* entry);
+	void readContainerChanges(void);
+	void invalidateContainerTimestamps(J9VMThread* currentThread, IDATA watchId, const char* name);
+	void freeContainerTimestamp(ContainerTimestamp* entry);
+
+	static int J9THREAD_PROC containerChangesThread(void* entryArg);
+	static void containerChanged(void* userData, IDATA watchId, const char* name);
+	static UDATA containerTimestampHashFn(void* entry, void* userData);
+	static UDATA containerTimestampHashEqualFn(void* left, void* right, void* userData);
+
 	J9SharedClassConfig* _sharedClassConfig;
+	J9JavaVM* _vm;
+	J9PortLibrary* _portlib;
+	omrthread_rwmutex_t _containerTimestampsLock; /* read for lookups, write to add or invalidate entries */
+	omrthread_monitor_t _changesThreadMonitor; /* protects _changesThreadRunning */
+	J9HashTable* _containerTimestamps;
+	UDATA _checkInterval; /* milliseconds for which a container timestamp is reused without querying the filesystem */
+	bool _watchContainers; /* -Xshareclasses:timestampWatch was specified */
+	struct j9file_watch_handle* _containerWatches; /* watches of the jars and their directories, or NULL if changes are not notified */
+	bool _changesThreadRunning;
+	volatile UDATA _filesystemChecksAvoided;
 };
 
 #endif /* !defined(TIMESTAMPMANAGERIMPL_HPP_INCLUDED) */
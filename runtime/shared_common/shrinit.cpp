@@ -209,6 +209,7 @@ J9SharedClassesHelpText J9SHAREDCLASSESHELPTEXT[] = {
 	{OPTION_VERBOSE_DATA, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_VERBOSE_DATA},
 	{OPTION_VERBOSE_INTERN, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_VERBOSE_INTERN},
 	{OPTION_VERBOSE_PAGES, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_VERBOSE_PAGES},
+	{OPTION_PREFETCH_STARTUP_PAGES, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_PREFETCH_STARTUP_PAGES},
 	HELPTEXT_NEWLINE,
 	{OPTION_SILENT, J9NLS_SHRC_SHRINIT_HELPTEXT_SILENT, 0, 0},
 	{OPTION_NONFATAL, J9NLS_SHRC_SHRINIT_HELPTEXT_NONFATAL, 0, 0},
@@ -257,6 +258,8 @@ J9SharedClassesHelpText J9SHAREDCLASSESHELPTEXT[] = {
 	{OPTION_NO_TIMESTAMP_CHECKS, J9NLS_SHRC_SHRINIT_HELPTEXT_NO_TIMESTAMP_CHECKS_V1, 0, 0},
 	{OPTION_NO_URL_TIMESTAMP_CHECK, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_NO_URL_TIMESTAMP_CHECK},
 	{OPTION_URL_TIMESTAMP_CHECK, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_URL_TIMESTAMP_CHECK},
+	{HELPTEXT_TIMESTAMP_CHECK_INTERVAL_EQUALS, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_TIMESTAMP_CHECK_INTERVAL_EQUALS},
+	{OPTION_TIMESTAMP_WATCH, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_TIMESTAMP_WATCH},
 	{OPTION_NO_CLASSPATH_CACHEING, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_NO_CLASSPATH_CACHEING},
 	{OPTION_NO_REDUCE_STORE_CONTENTION, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_NO_REDUCE_STORE_CONTENTION},
 	{OPTION_NO_ROUND_PAGES, 0, 0, J9NLS_SHRC_SHRINIT_HELPTEXT_NO_ROUND_PAGES},
@@ -371,6 +374,9 @@ J9SharedClassesOptions J9SHAREDCLASSESOPTIONS[] = {
 	{ OPTION_FIND_AOT_METHODS_EQUALS, PARSE_TYPE_STARTSWITH, RESULT_DO_FIND_AOT_METHODS_EQUALS, J9SHR_RUNTIMEFLAG_DO_NOT_CREATE_CACHE},
 	{ OPTION_NO_URL_TIMESTAMP_CHECK, PARSE_TYPE_EXACT, RESULT_DO_REMOVE_RUNTIMEFLAG, J9SHR_RUNTIMEFLAG_ENABLE_URL_TIMESTAMP_CHECK},
 	{ OPTION_URL_TIMESTAMP_CHECK, PARSE_TYPE_EXACT, RESULT_DO_ADD_RUNTIMEFLAG, J9SHR_RUNTIMEFLAG_ENABLE_URL_TIMESTAMP_CHECK},
+	{ OPTION_TIMESTAMP_CHECK_INTERVAL_EQUALS, PARSE_TYPE_STARTSWITH, RESULT_DO_TIMESTAMP_CHECK_INTERVAL_EQUALS, 0},
+	{ OPTION_TIMESTAMP_WATCH, PARSE_TYPE_EXACT, RESULT_DO_TIMESTAMP_WATCH, 0},
+	{ OPTION_PREFETCH_STARTUP_PAGES, PARSE_TYPE_EXACT, RESULT_DO_PREFETCH_STARTUP_PAGES, 0},
 #if defined(J9VM_OPT_MULTI_LAYER_SHARED_CLASS_CACHE)
 	{ OPTION_LAYER_EQUALS, PARSE_TYPE_STARTSWITH, RESULT_DO_LAYER_EQUALS, 0 },
 	{ OPTION_CREATE_LAYER, PARSE_TYPE_EXACT, RESULT_DO_CREATE_LAYER, 0 },
@@ -402,6 +408,8 @@ static J9Module* getModule(J9VMThread* vmThread, U_8* className, UDATA className
 static bool isFreeDiskSpaceLow(J9JavaVM *vm, U_64* maxsize, U_64 runtimeFlags);
 static char* generateStartupHintsKey(J9JavaVM *vm);
 static void fetchStartupHintsFromSharedCache(J9VMThread* vmThread);
+static void prefetchStartupPagesFromSharedCache(J9VMThread* vmThread);
+static void storeStartupPagesToSharedCache(J9VMThread* vmThread);
 static void findExistingCacheLayerNumbers(J9JavaVM* vm, const char* ctrlDirName, const char* cacheName, U_64 runtimeFlags, I_8 *maxLayerNo);
 
 typedef struct J9SharedVerifyStringTable {
@@ -687,6 +695,30 @@ parseArgs(J9JavaVM* vm, char* options, U_64* runtimeFlags, UDATA* verboseFlags,
 			options += strlen(OPTION_LAYER_EQUALS)+ (cursor - layerString) +1;
 			continue;
 		}
+		case RESULT_DO_TIMESTAMP_CHECK_INTERVAL_EQUALS:
+		{
+			UDATA temp = 0;
+			char* intervalString = options + strlen(OPTION_TIMESTAMP_CHECK_INTERVAL_EQUALS);
+			char* cursor = intervalString;
+			if (scan_udata(&cursor, &temp) == 0) {
+				vm->sharedCacheAPI->timestampCheckInterval = temp;
+			} else {
+				SHRINIT_ERR_TRACE1(1, J9NLS_SHRC_SHRINIT_OPTION_INVALID_TIMESTAMP_CHECK_INTERVAL, OPTION_TIMESTAMP_CHECK_INTERVAL_EQUALS);
+				return RESULT_PARSE_FAILED;
+			}
+			options += strlen(OPTION_TIMESTAMP_CHECK_INTERVAL_EQUALS) + (cursor - intervalString) + 1;
+			continue;
+		}
+		case RESULT_DO_TIMESTAMP_WATCH:
+		{
+			vm->sharedCacheAPI->timestampWatch = 1;
+			break;
+		}
+		case RESULT_DO_PREFETCH_STARTUP_PAGES:
+		{
+			vm->sharedCacheAPI->prefetchStartupPages = 1;
+			break;
+		}
 		case RESULT_DO_CREATE_LAYER:
 		{
 			vm->sharedCacheAPI->layer = SHRINIT_CREATE_NEW_LAYER;
@@ -1940,6 +1972,123 @@ j9shr_storeSharedData(J9VMThread* currentThread, const char* key, UDATA keylen,
 	return returnVal;
 }
 
+/**
+ * Retrieves the data stored in the cache against every key which starts with "prefix".
+ * For each key, only the most recently stored public data of type "dataType" is returned.
+ * The keys and data returned point into the cache and must not be modified.
+ *
+ * @param[in] currentThread  The current thread
+ * @param[in] prefix  The UTF8 prefix of the keys. A zero length prefix matches every key.
+ * @param[in] prefixLen  The length of the prefix
+ * @param[in] dataType  The type of data required. This should be one of the J9SHR_DATA_TYPE_X constants defined in j9.h
+ * @param[out] keyDescriptorPool  Must be a J9Pool of size J9SharedDataKeyDescriptor which will be populated with the results.
+ * 								The pool can be NULL if only the number of keys needs to be determined
+ *
+ * @return  The number of keys found or -1 in the case of error
+ */
+IDATA
+j9shr_findSharedDataForKeyPrefix(J9VMThread* currentThread, const char* prefix, UDATA prefixLen, UDATA dataType, const J9Pool* keyDescriptorPool)
+{
+	J9SharedClassConfig* sharedClassConfig = currentThread->javaVM->sharedClassConfig;
+	UDATA oldState = (UDATA)-1;
+	UDATA* currentState = &(currentThread->omrVMThread->vmState);
+	IDATA returnVal = -1;
+
+	Trc_SHR_INIT_findSharedDataForKeyPrefix_entry(currentThread, prefixLen, prefix);
+
+	if (NULL == sharedClassConfig) {
+		Trc_SHR_INIT_findSharedDataForKeyPrefix_exit_Noop(currentThread);
+		return -1;
+	}
+
+	U_64 localRuntimeFlags = sharedClassConfig->runtimeFlags;
+
+	if (J9_ARE_NO_BITS_SET(localRuntimeFlags, J9SHR_RUNTIMEFLAG_CACHE_INITIALIZATION_COMPLETE)
+		|| J9_ARE_ANY_BITS_SET(localRuntimeFlags, J9SHR_RUNTIMEFLAG_DENY_CACHE_ACCESS)
+	) {
+		Trc_SHR_INIT_findSharedDataForKeyPrefix_exit_Noop(currentThread);
+		return -1;
+	}
+
+	if (*currentState != J9VMSTATE_SHAREDDATA_FIND) {
+		oldState = *currentState;
+		*currentState = J9VMSTATE_SHAREDDATA_FIND;
+	}
+
+	returnVal = ((SH_CacheMap*)(sharedClassConfig->sharedClassCache))->findSharedDataForKeyPrefix(currentThread, prefix, prefixLen, dataType, keyDescriptorPool);
+
+	if (oldState != (UDATA)-1) {
+		*currentState = oldState;
+	}
+
+	Trc_SHR_INIT_findSharedDataForKeyPrefix_exit(currentThread, returnVal);
+
+	return returnVal;
+}
+
+/**
+ * Replaces the data stored in the cache against "key", only if the data currently stored against it is "expectedData".
+ * The new data is stored as described for j9shr_storeSharedData. Only public, indexed data can be replaced,
+ * so the J9SharedDataDescriptor must not set any flags.
+ *
+ * @param[in] currentThread  The current thread
+ * @param[in] key  The UTF8 key to store the data against
+ * @param[in] keylen  The length of the key
+ * @param[in] expectedData  The address of the cached data currently stored against the key, as returned by findSharedData
+ * 			or storeSharedData, or NULL if no data should currently be stored against the key
+ * @param[in] data  The new data
+ * @param[out] replaced  Set to TRUE if the data currently stored against the key was "expectedData", otherwise FALSE
+ *
+ * @return  The new location of the cached data or null
+ */
+const U_8*
+j9shr_replaceSharedData(J9VMThread* currentThread, const char* key, UDATA keylen, const U_8* expectedData, const J9SharedDataDescriptor* data, UDATA* replaced)
+{
+	J9SharedClassConfig* sharedClassConfig = currentThread->javaVM->sharedClassConfig;
+	UDATA oldState = (UDATA)-1;
+	UDATA* currentState = &(currentThread->omrVMThread->vmState);
+	const U_8* returnVal = NULL;
+	bool dataReplaced = false;
+
+	Trc_SHR_INIT_replaceSharedData_entry(currentThread, keylen, key, expectedData);
+
+	*replaced = FALSE;
+	if (NULL == sharedClassConfig) {
+		Trc_SHR_INIT_replaceSharedData_exit_Noop(currentThread);
+		return NULL;
+	}
+
+	SH_CacheMap* cm = (SH_CacheMap*)(sharedClassConfig->sharedClassCache);
+	cm->updateRuntimeFullFlags(currentThread);
+
+	U_64 localRuntimeFlags = sharedClassConfig->runtimeFlags;
+
+	if (J9_ARE_NO_BITS_SET(localRuntimeFlags, J9SHR_RUNTIMEFLAG_CACHE_INITIALIZATION_COMPLETE)
+		|| J9_ARE_ANY_BITS_SET(localRuntimeFlags, J9SHR_RUNTIMEFLAG_BLOCK_SPACE_FULL | J9SHR_RUNTIMEFLAG_AVAILABLE_SPACE_FULL | J9SHR_RUNTIMEFLAG_DENY_CACHE_UPDATES)
+	) {
+		Trc_SHR_INIT_replaceSharedData_exit_Noop(currentThread);
+		return NULL;
+	}
+
+	if (*currentState != J9VMSTATE_SHAREDDATA_STORE) {
+		oldState = *currentState;
+		*currentState = J9VMSTATE_SHAREDDATA_STORE;
+	}
+
+	returnVal = cm->replaceSharedData(currentThread, key, keylen, expectedData, data, &dataReplaced);
+	if (dataReplaced) {
+		*replaced = TRUE;
+	}
+
+	if (oldState != (UDATA)-1) {
+		*currentState = oldState;
+	}
+
+	Trc_SHR_INIT_replaceSharedData_exit(currentThread, *replaced, returnVal);
+
+	return returnVal;
+}
+
 /**
 * Store data in shared classes cache, keyed by the specified address in the shared cache.
 * Typically this is jit or aot related data.
@@ -3472,8 +3621,11 @@ j9shr_init(J9JavaVM *vm, UDATA loadFlags, UDATA* nonfatal)
 		config->increaseUnstoredBytes = j9shr_increaseUnstoredBytes;
 		config->getUnstoredBytes = j9shr_getUnstoredBytes;
 		config->getFreeSpaceBytes = j9shr_getFreeAvailableSpaceBytes;
+		config->getFilesystemChecksAvoided = j9shr_getFilesystemChecksAvoided;
 		config->findSharedData = j9shr_findSharedData;
 		config->storeSharedData = j9shr_storeSharedData;
+		config->findSharedDataForKeyPrefix = j9shr_findSharedDataForKeyPrefix;
+		config->replaceSharedData = j9shr_replaceSharedData;
 		config->findCompiledMethodEx1 = j9shr_findCompiledMethodEx1;
 		config->storeCompiledMethod = j9shr_storeCompiledMethod;
 		config->storeAttachedData = j9shr_storeAttachedData;
@@ -3491,6 +3643,12 @@ j9shr_init(J9JavaVM *vm, UDATA loadFlags, UDATA* nonfatal)
 		config->storeGCHints = j9shr_storeGCHints;
 		config->updateClasspathOpenState = j9shr_updateClasspathOpenState;
 
+		if ((0 != vm->sharedCacheAPI->prefetchStartupPages)
+			&& (0 == (runtimeFlags & J9SHR_RUNTIMEFLAG_ENABLE_STATS))
+		) {
+			prefetchStartupPagesFromSharedCache(currentThread);
+		}
+
 		config->sharedAPIObject = initializeSharedAPI(vm);
 		if (config->sharedAPIObject == NULL) {
 			SHRINIT_ERR_TRACE(verboseFlags, J9NLS_SHRC_SHRINIT_API_CREATE_FAILURE);
@@ -4030,6 +4188,19 @@ j9shr_getFreeAvailableSpaceBytes(J9JavaVM *vm)
 	return ((SH_CacheMap*)vm->sharedClassConfig->sharedClassCache)->getCompositeCacheAPI()->getFreeAvailableBytes();
 }
 
+/**
+ * Get the number of jar and jimage timestamp checks that were answered without querying the filesystem
+ *
+ * @param [in] vm Pointer to the VM structure for the JVM
+ *
+ * @return The number of filesystem checks avoided
+ */
+UDATA
+j9shr_getFilesystemChecksAvoided(J9JavaVM *vm)
+{
+	return ((SH_CacheMap*)vm->sharedClassConfig->sharedClassCache)->getFilesystemChecksAvoided();
+}
+
 static void
 freeClasspathItemsForPool(J9JavaVM* vm, J9Pool* pool, UDATA alsoFreeCpEntries)
 {
@@ -4917,6 +5088,9 @@ j9shr_jvmPhaseChange(J9VMThread *currentThread, UDATA phase)
 		/* OpenJ9 issue; https://github.com/eclipse/openj9/issues/3743
 		 * GC decides whether to calls vm->sharedClassConfig->storeGCHints() to store the GC hints into the shared cache. */
 		storeStartupHintsToSharedCache(currentThread);
+		if (0 != vm->sharedCacheAPI->prefetchStartupPages) {
+			storeStartupPagesToSharedCache(currentThread);
+		}
 		if (J9_ARE_NO_BITS_SET(vm->sharedClassConfig->runtimeFlags, J9SHR_RUNTIMEFLAG_MPROTECT_PARTIAL_PAGES_ON_STARTUP)) {
 			((SH_CacheMap*)vm->sharedClassConfig->sharedClassCache)->protectPartiallyFilledPages(currentThread);
 		}
@@ -5208,6 +5382,43 @@ storeStartupHintsToSharedCache(J9VMThread* currentThread)
 	return ret;
 }
 
+/**
+ * This function prefetches the shared cache pages accessed during startup by a previous JVM with the same command line,
+ * and starts recording the pages accessed by the current JVM.
+ * @param[in] currentThread  The current VM thread
+ *
+ */
+static void
+prefetchStartupPagesFromSharedCache(J9VMThread* currentThread)
+{
+	J9JavaVM* vm = currentThread->javaVM;
+	char* key = generateStartupHintsKey(vm);
+
+	if (NULL != key) {
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		((SH_CacheMap*)vm->sharedClassConfig->sharedClassCache)->prefetchStartupPages(currentThread, key, strlen(key));
+		j9mem_free_memory(key);
+	}
+}
+
+/**
+ * This function stores the shared cache pages accessed by the current JVM during startup.
+ * @param[in] currentThread  The current VM thread
+ *
+ */
+static void
+storeStartupPagesToSharedCache(J9VMThread* currentThread)
+{
+	J9JavaVM* vm = currentThread->javaVM;
+	char* key = generateStartupHintsKey(vm);
+
+	if (NULL != key) {
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		((SH_CacheMap*)vm->sharedClassConfig->sharedClassCache)->storeStartupPages(currentThread, key, strlen(key));
+		j9mem_free_memory(key);
+	}
+}
+
 /**
  * Stores the GC hints into vm->sharedClassConfig->localStartupHints.hintsData. This function is not thread safe.
  * @param[in] vmThread  The current thread
@@ -53,6 +53,7 @@ I_32 j9shr_setMinMaxBytes(J9JavaVM *vm, U_32 softmx, I_32 minAOT, I_32 maxAOT, I
 void j9shr_increaseUnstoredBytes(J9JavaVM *vm, U_32 aotBytes, U_32 jitBytes);
 void j9shr_getUnstoredBytes(J9JavaVM *vm, U_32 *softmxUnstoredBytes, U_32 *maxAOTUnstoredBytes, U_32 *maxJITUnstoredBytes);
 UDATA j9shr_getFreeAvailableSpaceBytes(J9JavaVM *vm);
+UDATA j9shr_getFilesystemChecksAvoided(J9JavaVM *vm);
 void j9shr_hookZipLoadEvent(J9HookInterface** hook, UDATA eventNum, void* eventData, void* userData);
 void j9shr_resetSharedStringTable(J9JavaVM* vm);
 BOOLEAN j9shr_isCacheFull(J9JavaVM *vm);
@@ -191,6 +192,9 @@ typedef struct J9SharedClassesOptions {
 #define OPTION_ADJUST_MAXJITDATA_EQUALS "adjustmaxjitdata="
 #define OPTION_NO_URL_TIMESTAMP_CHECK "noCheckURLTimestamps"
 #define OPTION_URL_TIMESTAMP_CHECK "checkURLTimestamps"
+#define OPTION_TIMESTAMP_CHECK_INTERVAL_EQUALS "timestampCheckInterval="
+#define OPTION_TIMESTAMP_WATCH "timestampWatch"
+#define OPTION_PREFETCH_STARTUP_PAGES "prefetchStartupPages"
 #define OPTION_LAYER_EQUALS "layer="
 #define OPTION_CREATE_LAYER "createLayer"
 #define OPTION_NO_PERSISTENT_DISK_SPACE_CHECK "noPersistentDiskSpaceCheck"
@@ -274,6 +278,9 @@ typedef struct J9SharedClassesOptions {
 #define RESULT_DO_CREATE_LAYER 52
 #define RESULT_DO_PRINT_TOP_LAYER_STATS 53
 #define RESULT_DO_PRINT_TOP_LAYER_STATS_EQUALS 54
+#define RESULT_DO_TIMESTAMP_CHECK_INTERVAL_EQUALS 55
+#define RESULT_DO_TIMESTAMP_WATCH 56
+#define RESULT_DO_PREFETCH_STARTUP_PAGES 57
 
 #define PARSE_TYPE_EXACT 1
 #define PARSE_TYPE_STARTSWITH 2
@@ -306,6 +313,7 @@ typedef struct J9SharedClassesOptions {
 #define HELPTEXT_ADJUST_MINJITDATA_EQUALS OPTION_ADJUST_MINJITDATA_EQUALS"<size>"
 #define HELPTEXT_ADJUST_MAXJITDATA_EQUALS OPTION_ADJUST_MAXJITDATA_EQUALS"<size>"
 #define HELPTEXT_LAYER_EQUALS OPTION_LAYER_EQUALS "<number>"
+#define HELPTEXT_TIMESTAMP_CHECK_INTERVAL_EQUALS OPTION_TIMESTAMP_CHECK_INTERVAL_EQUALS "<milliseconds>"
 
 #define HELPTEXT_NEWLINE {"", 0, 0, 0, 0}
 
@@ -24,6 +24,9 @@ omr_add_exports(j9ben
 	JNI_OnLoad
 	JNI_OnUnload
 	Java_j9vm_test_jni_GetObjectRefTypeTest_getObjectRefTypeTest
+	Java_j9vm_test_jni_JNIGlobalRefScanTest_newRefs
+	Java_j9vm_test_jni_JNIGlobalRefScanTest_getRef
+	Java_j9vm_test_jni_JNIGlobalRefScanTest_deleteRefs
 	Java_jvmti_test_nativeMethodPrefixes_UnwrappedNative_nat
 	Java_jvmti_test_nativeMethodPrefixes_DirectNative_gac4gac3gac2gac1nat
 	Java_jvmti_test_nativeMethodPrefixes_WrappedNative_nat
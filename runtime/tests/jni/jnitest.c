@@ -74,6 +74,56 @@ Java_j9vm_test_jni_GetObjectRefTypeTest_getObjectRefTypeTest(JNIEnv *env, jclass
 	return rc;
 }
 
+jlongArray JNICALL
+Java_j9vm_test_jni_JNIGlobalRefScanTest_newRefs(JNIEnv *env, jclass clazz, jobjectArray objects, jboolean weak)
+{
+	jsize count = (*env)->GetArrayLength(env, objects);
+	jlongArray refs = (*env)->NewLongArray(env, count);
+	jsize i = 0;
+
+	if (NULL == refs) {
+		return NULL;
+	}
+	for (i = 0; i < count; i++) {
+		jobject object = (*env)->GetObjectArrayElement(env, objects, i);
+		jobject ref = weak ? (*env)->NewWeakGlobalRef(env, object) : (*env)->NewGlobalRef(env, object);
+		jlong handle = 0;
+
+		if (NULL == ref) {
+			return NULL;
+		}
+		handle = (jlong)(UDATA)ref;
+		(*env)->SetLongArrayRegion(env, refs, i, 1, &handle);
+		(*env)->DeleteLocalRef(env, object);
+	}
+	return refs;
+}
+
+jobject JNICALL
+Java_j9vm_test_jni_JNIGlobalRefScanTest_getRef(JNIEnv *env, jclass clazz, jlong ref)
+{
+	/* NULL for a weak global reference whose object was collected */
+	return (*env)->NewLocalRef(env, (jobject)(UDATA)ref);
+}
+
+void JNICALL
+Java_j9vm_test_jni_JNIGlobalRefScanTest_deleteRefs(JNIEnv *env, jclass clazz, jlongArray refs, jboolean weak)
+{
+	jsize count = (*env)->GetArrayLength(env, refs);
+	jsize i = 0;
+
+	for (i = 0; i < count; i++) {
+		jlong handle = 0;
+
+		(*env)->GetLongArrayRegion(env, refs, i, 1, &handle);
+		if (weak) {
+			(*env)->DeleteWeakGlobalRef(env, (jweak)(UDATA)handle);
+		} else {
+			(*env)->DeleteGlobalRef(env, (jobject)(UDATA)handle);
+		}
+	}
+}
+
 jint JNICALL
 Java_jvmti_test_nativeMethodPrefixes_UnwrappedNative_nat(JNIEnv *env, jclass clazz)
 {
@@ -50,6 +50,37 @@ extern "C" {
 jboolean JNICALL
 Java_j9vm_test_jni_GetObjectRefTypeTest_getObjectRefTypeTest(JNIEnv *env, jclass clazz, jobject stackArg);
 
+/**
+* @brief Create one JNI global, or weak global, reference to each element of objects
+* @param *env
+* @param clazz
+* @param objects
+* @param weak
+* @return jlongArray the references
+*/
+jlongArray JNICALL
+Java_j9vm_test_jni_JNIGlobalRefScanTest_newRefs(JNIEnv *env, jclass clazz, jobjectArray objects, jboolean weak);
+
+/**
+* @brief
+* @param *env
+* @param clazz
+* @param ref
+* @return jobject the object of the reference, NULL if it was collected
+*/
+jobject JNICALL
+Java_j9vm_test_jni_JNIGlobalRefScanTest_getRef(JNIEnv *env, jclass clazz, jlong ref);
+
+/**
+* @brief
+* @param *env
+* @param clazz
+* @param refs
+* @param weak
+*/
+void JNICALL
+Java_j9vm_test_jni_JNIGlobalRefScanTest_deleteRefs(JNIEnv *env, jclass clazz, jlongArray refs, jboolean weak);
+
 /**
 * @brief
 * @param *env
@@ -4939,6 +4939,130 @@ exit:
 	return reportTestExit(portLibrary, testName);
 }
 
+/**
+ * Records the changes passed to the j9file_watch_wait() callback by j9file_test41
+ */
+typedef struct J9FileTest41Changes {
+	intptr_t fileWatchId;
+	uintptr_t fileChanges;
+} J9FileTest41Changes;
+
+static void
+j9file_test41_callback(void *userData, intptr_t watchId, const char *name)
+{
+	J9FileTest41Changes *changes = (J9FileTest41Changes *)userData;
+
+	if ((watchId == changes->fileWatchId) || (J9PORT_FILE_WATCH_ALL_CHANGES == watchId)) {
+		changes->fileChanges += 1;
+	}
+}
+
+/**
+ * Verify file change notification.
+ * @ref j9filewatch.c::j9file_watch_open "j9file_watch_open()"
+ *
+ * On Linux a watched file that is written is reported as changed, and j9file_watch_wait()
+ * returns J9PORT_ERROR_FILE_WATCH_STOPPED once j9file_watch_stop() has been called. The
+ * other platforms report that files cannot be watched.
+ *
+ * @param[in] portLibrary The port library under test
+ *
+ * @return TEST_PASS on success, TEST_FAIL on error
+ */
+int
+j9file_test41(struct J9PortLibrary *portLibrary)
+{
+	PORT_ACCESS_FROM_PORT(portLibrary);
+	const char *testName = "j9file_test41";
+	const char *fileName = "tfileTest41.tst";
+	char resolved[EsMaxPath];
+	char inputLine[] = "ABCDE";
+	struct j9file_watch_handle *handle = NULL;
+	J9FileTest41Changes changes;
+	IDATA fd = -1;
+	intptr_t rc = 0;
+
+	reportTestEntry(portLibrary, testName);
+	changes.fileWatchId = -1;
+	changes.fileChanges = 0;
+
+	rc = j9file_watch_open(&handle);
+#if defined(LINUX)
+	if (0 != rc) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_open() returned %zd expected 0\n", rc);
+		goto exit;
+	}
+#else /* defined(LINUX) */
+	if (J9PORT_ERROR_FILE_WATCH_NOT_SUPPORTED != rc) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_open() returned %zd expected %d\n", rc, J9PORT_ERROR_FILE_WATCH_NOT_SUPPORTED);
+	}
+	if (NULL != handle) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_open() did not clear the handle\n");
+	}
+	goto exit;
+#endif /* defined(LINUX) */
+
+	fd = j9file_open(fileName, EsOpenCreate | EsOpenWrite | EsOpenTruncate, 0666);
+	if (-1 == fd) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_open() failed\n");
+		goto exit;
+	}
+
+	rc = j9file_watch_resolve_path(fileName, resolved, sizeof(resolved));
+	if ((rc <= 0) || ('/' != resolved[0]) || (NULL == strstr(resolved, fileName))) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_resolve_path() returned %zd\n", rc);
+		goto exit;
+	}
+	rc = j9file_watch_resolve_path(fileName, resolved, 2);
+	if (rc >= 0) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_resolve_path() returned %zd for a buffer that is too small\n", rc);
+	}
+
+	changes.fileWatchId = j9file_watch_add(handle, fileName, J9PORT_FILE_WATCH_FILE);
+	if (changes.fileWatchId < 0) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_add() returned %zd\n", changes.fileWatchId);
+		goto exit;
+	}
+	if (changes.fileWatchId != j9file_watch_add(handle, fileName, J9PORT_FILE_WATCH_FILE)) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_add() returned another watch id for the same file\n");
+	}
+	if (j9file_watch_add(handle, fileName, J9PORT_FILE_WATCH_DIRECTORY) >= 0) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_add() watched a file as a directory\n");
+	}
+
+	if ((IDATA)strlen(inputLine) != j9file_write(fd, inputLine, strlen(inputLine))) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_write() failed\n");
+		goto exit;
+	}
+	/* Each call returns once some changes have been read, but not necessarily those of the file */
+	while (0 == changes.fileChanges) {
+		rc = j9file_watch_wait(handle, j9file_test41_callback, &changes);
+		if (0 != rc) {
+			outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_wait() returned %zd expected 0\n", rc);
+			goto exit;
+		}
+	}
+
+	j9file_watch_stop(handle);
+	rc = j9file_watch_wait(handle, j9file_test41_callback, &changes);
+	if (J9PORT_ERROR_FILE_WATCH_STOPPED != rc) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_wait() returned %zd after j9file_watch_stop(), expected %d\n", rc, J9PORT_ERROR_FILE_WATCH_STOPPED);
+	}
+
+exit:
+	if (NULL != handle) {
+		j9file_watch_close(&handle);
+		if (NULL != handle) {
+			outputErrorMessage(PORTTEST_ERROR_ARGS, "j9file_watch_close() did not clear the handle\n");
+		}
+	}
+	if (-1 != fd) {
+		j9file_close(fd);
+		j9file_unlink(fileName);
+	}
+	return reportTestExit(portLibrary, testName);
+}
+
 
 
 
@@ -5082,6 +5206,9 @@ j9file_runTests(struct J9PortLibrary *portLibrary, char *argv0, char* j9file_chi
 		}
 #endif
 		rc |= j9file_test40(portLibrary);
+		if (TRUE != async) {
+			rc |= j9file_test41(portLibrary);
+		}
 	}
 
 	/* Output results */
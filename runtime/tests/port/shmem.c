@@ -67,6 +67,7 @@
 #define TEST15_NUM_CHILDPROCESSES 30
 
 #define TEST17_SHAREDMEMORY "j9shmem_test17"
+#define TEST18_SHAREDMEMORY "j9shmem_test18"
 
 /* The define FD_BIAS is defined in portpriv.h ... however we can't and shouldn't use this here ... so for now we redefine.
  * In the long run fstat will be implemented in the port librart for test 7 so we don't need this.
@@ -2093,6 +2094,117 @@ cleanup:
 }
 #endif /* !(defined(WIN32) || defined(WIN64)) */
 
+/**
+ * Verify @ref j9shmem.c::j9shmem_will_need "j9shmem_will_need" function.
+ *
+ * Advise that an attached region will be needed, and check that the residency of each page is reported,
+ * that the residency may be omitted, and that the contents of the region are unchanged by the advice.
+ *
+ * @param[in] portLibrary The port library under test
+ *
+ * @return TEST_PASS on success, TEST_FAIL on failure
+ */
+int
+j9shmem_test18(J9PortLibrary *portLibrary)
+{
+	PORT_ACCESS_FROM_PORT(portLibrary);
+	const char* testName = TEST18_SHAREDMEMORY;
+	IDATA rc;
+	struct j9shmem_handle* handle = NULL;
+	char* region = NULL;
+	uint8_t* residentPages = NULL;
+	UDATA pageSize = j9vmem_supported_page_sizes()[0];
+	UDATA pageCount = SHMSIZE / pageSize;
+	UDATA i = 0;
+	char cacheDir[J9SH_MAXPATH];
+
+	reportTestEntry(portLibrary, testName);
+
+	rc = j9shmem_getDir(NULL, J9SHMEM_GETDIR_APPEND_BASEDIR, cacheDir, J9SH_MAXPATH);
+	if (rc < 0) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "Cannot get a directory");
+		goto cleanup;
+	}
+	rc = j9shmem_createDir(cacheDir, J9SH_DIRPERM_ABSENT, TRUE);
+	if (rc == -1) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "Cannot create the directory");
+		goto cleanup;
+	}
+
+	rc = j9shmem_open(cacheDir, 0, &handle, testName, SHMSIZE, J9SH_SHMEM_PERM_READ_WRITE, OMRMEM_CATEGORY_PORT_LIBRARY, J9SHMEM_NO_FLAGS, NULL);
+	if ((J9PORT_ERROR_SHMEM_OPFAILED == rc) || (J9PORT_ERROR_SHMEM_WAIT_FOR_CREATION_MUTEX_TIMEDOUT == rc)) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_test18 opening shmem area failed \n");
+		goto cleanup;
+	}
+
+	region = j9shmem_attach(handle, OMRMEM_CATEGORY_PORT_LIBRARY);
+	if (NULL == region) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_test18 attaching to shmem area failed \n");
+		goto cleanup;
+	}
+	/* Touch the first page, so that at least one page is resident */
+	strcpy(region, TESTSTRING);
+
+	residentPages = (uint8_t*)j9mem_allocate_memory(pageCount, OMRMEM_CATEGORY_PORT_LIBRARY);
+	if (NULL == residentPages) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_test18 allocating the resident page vector failed \n");
+		goto cleanup;
+	}
+	memset(residentPages, 0xFF, pageCount);
+
+	rc = j9shmem_will_need(region, SHMSIZE, residentPages);
+#if defined(LINUX)
+	if (0 != rc) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_will_need returned %zd, expected 0\n", rc);
+		goto cleanup;
+	}
+	/* Only the lowest bit of each byte is defined, but every byte must have been written */
+	for (i = 0; i < pageCount; i++) {
+		if (0xFF == residentPages[i]) {
+			outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_will_need did not report the residency of page %zu\n", i);
+			goto cleanup;
+		}
+	}
+	if (0 == (residentPages[0] & 1)) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_will_need reported the touched first page as not resident\n");
+		goto cleanup;
+	}
+#else /* defined(LINUX) */
+	if (J9PORT_ERROR_SHMEM_WILL_NEED_NOT_SUPPORTED != rc) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_will_need returned %zd, expected J9PORT_ERROR_SHMEM_WILL_NEED_NOT_SUPPORTED\n", rc);
+		goto cleanup;
+	}
+#endif /* defined(LINUX) */
+
+	/* The residency is optional */
+	rc = j9shmem_will_need(region + pageSize, SHMSIZE - pageSize, NULL);
+#if defined(LINUX)
+	if (0 != rc) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_will_need without a resident page vector returned %zd, expected 0\n", rc);
+		goto cleanup;
+	}
+#else /* defined(LINUX) */
+	if (J9PORT_ERROR_SHMEM_WILL_NEED_NOT_SUPPORTED != rc) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_will_need without a resident page vector returned %zd, expected J9PORT_ERROR_SHMEM_WILL_NEED_NOT_SUPPORTED\n", rc);
+		goto cleanup;
+	}
+#endif /* defined(LINUX) */
+
+	if (0 != strcmp(region, TESTSTRING)) {
+		outputErrorMessage(PORTTEST_ERROR_ARGS, "j9shmem_will_need changed the contents of the region\n");
+		goto cleanup;
+	}
+
+cleanup:
+	if (NULL != residentPages) {
+		j9mem_free_memory(residentPages);
+	}
+	if (NULL != handle) {
+		j9shmem_destroy(cacheDir, 0, &handle);
+	}
+	return reportTestExit(portLibrary, testName);
+}
+
 int
 j9shmem_runTests(J9PortLibrary *portLibrary, char* argv0, const char* shmem_child)
 {
@@ -2158,6 +2270,7 @@ j9shmem_runTests(J9PortLibrary *portLibrary, char* argv0, const char* shmem_chil
 #if !(defined(WIN32) || defined(WIN64))
 	rc |= j9shmem_test17(portLibrary);
 #endif /* !(defined(WIN32) || defined(WIN64)) */
+	rc |= j9shmem_test18(portLibrary);
 
 	/* Test 10 not ready yet */
 	/* rc |= j9shmem_test10(PORTLIB); */
@@ -789,6 +789,10 @@ IDATA J9VMDllMain(J9JavaVM* vm, IDATA stage, void* reserved) {
 			if (0 != (vm->verboseLevel & VERBOSE_DUMPSIZES)) {
 				dumpMemorySizes(vm);
 			}
+			/* the binary GC event log is optional: a failure to map it has already been reported and does not stop the VM */
+			if ((NULL != mmFuncTable) && (NULL != mmFuncTable->gcVerboseBinaryLogStartup)) {
+				mmFuncTable->gcVerboseBinaryLogStartup(vm);
+			}
 			break;
 
 		case POST_INIT_STAGE:
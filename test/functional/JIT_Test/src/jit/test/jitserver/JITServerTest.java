@@ -24,11 +24,18 @@ package jit.test.jitserver;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.Scanner;
 import java.util.ArrayList;
 import java.io.File;
 import java.io.IOException;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 
 import org.testng.AssertJUnit;
 import org.testng.SkipException;
@@ -44,6 +51,15 @@ public class JITServerTest {
 	private static final int CLIENT_TEST_TIME_MS = 45 * 1000;
 	private static final int SUCCESS_RETURN_VALUE = 0;
 
+	private static final String SCC_OPTION = "-Xshareclasses:name=JITServerAOTCacheTest";
+	private static final String OTHER_SCC_SIZE_OPTION = "-Xscmx32m";
+	private static final String AOT_BODY_STORED = "stored AOT body of \\S+ in the AOT cache";
+	private static final String AOT_BODY_SENT = "sent cached AOT body for clientUID=";
+	private static final String AOT_CACHE_HITS = "Hits: (\\d+) Misses: \\d+";
+	private static final String AOT_CACHE_FULL = "Bodies rejected because cache was full: (\\d+)";
+	private static final String AOT_CACHE_BODIES = "AOT bodies: (\\d+)";
+	private static final String AOT_CACHE_BYTES_USED = "Bytes used: (\\d+) of \\d+";
+
 	private final ProcessBuilder clientBuilder;
 	private final ProcessBuilder serverBuilder;
 
@@ -179,6 +195,21 @@ public class JITServerTest {
 		AssertJUnit.assertEquals("Unable to resume target process, pkill failed or did not match any process.", SUCCESS_RETURN_VALUE, Runtime.getRuntime().exec(pkillCommandLine).waitFor());
 	}
 
+	// Return a copy of builder with extra JVM options inserted before the options already on its command line.
+	private static ProcessBuilder addOptions(final ProcessBuilder builder, final String... options) {
+		ArrayList<String> command = new ArrayList<String>(builder.command());
+		command.addAll(1, Arrays.asList(options));
+		ProcessBuilder newBuilder = new ProcessBuilder(command);
+		newBuilder.redirectErrorStream(true);
+		newBuilder.environment().clear();
+		newBuilder.environment().putAll(builder.environment());
+		return newBuilder;
+	}
+
+	private static String readProcessLog(final ProcessBuilder b) throws IOException {
+		return new String(Files.readAllBytes(b.redirectOutput().file().toPath()));
+	}
+
 	private static void redirectProcessOutputs(final ProcessBuilder builder, final String outputName) {
 		builder.redirectOutput(new File(outputName + ".out"));
 		// Add the vlog= option (or replace it if it was previously added) to TR_Options.
@@ -187,6 +218,282 @@ public class JITServerTest {
 		builder.environment().put("TR_Options", TR_Options + ",vlog=" + outputName + ".jitverboselog.out");
 	}
 
+	// Like redirectProcessOutputs(), but the verbose log goes to the same file as stdout/stderr so that the test can read it.
+	private static void redirectProcessOutputsWithVerboseLog(final ProcessBuilder builder, final String outputName) {
+		builder.redirectOutput(new File(outputName + ".out"));
+		builder.environment().put("TR_Options", builder.environment().get("TR_Options").replaceFirst(",vlog=.+\\.jitverboselog\\.out$", ""));
+	}
+
+	// Return the value of the first group of pattern in the log of the process, failing the test if the log does not contain it.
+	private static long findInProcessLog(final ProcessBuilder b, final String pattern) throws IOException {
+		final Matcher m = Pattern.compile(pattern).matcher(readProcessLog(b));
+		if (!m.find()) {
+			dumpProcessLog(b);
+			AssertJUnit.fail("'" + pattern + "' not found in " + b.redirectOutput().file());
+		}
+		return Long.parseLong(m.group(1));
+	}
+
+	private static int countInProcessLog(final ProcessBuilder b, final String pattern) throws IOException {
+		final Matcher m = Pattern.compile(pattern).matcher(readProcessLog(b));
+		int count = 0;
+		while (m.find()) {
+			count++;
+		}
+		return count;
+	}
+
+	// The AOT cache tests need the clients to use a shared class cache.
+	private void skipIfSharedClassesDisabled() {
+		for (String arg : clientBuilder.command()) {
+			if (arg.equals("-Xshareclasses:none")) {
+				throw new SkipException("The client runs with -Xshareclasses:none");
+			}
+		}
+	}
+
+	// Run the client without a server with a new SCC in cacheDir so that the SCC holds the classes of the client program but no AOT code.
+	private void primeSharedClassCache(final File cacheDir, final String outputName, final String... extraOptions) throws IOException, InterruptedException {
+		final ProcessBuilder primeBuilder = addOptions(clientBuilder, SCC_OPTION + ",cacheDir=" + cacheDir.getAbsolutePath() + ",noaot");
+		primeBuilder.command().addAll(1, Arrays.asList(extraOptions));
+		redirectProcessOutputs(primeBuilder, outputName);
+		final Process prime = startProcess(primeBuilder, "client priming the SCC");
+		logger.info("Waiting for " + CLIENT_TEST_TIME_MS + " millis.");
+		Thread.sleep(CLIENT_TEST_TIME_MS);
+		destroyAndCheckProcess(prime, primeBuilder);
+	}
+
+	private static File copySharedClassCacheDir(final File cacheDir, final File workDir, final String name) throws IOException {
+		final File copy = new File(workDir, name);
+		AssertJUnit.assertTrue("Cannot create " + copy, copy.mkdir());
+		for (File file : cacheDir.listFiles()) {
+			if (file.isFile()) {
+				Files.copy(file.toPath(), new File(copy, file.getName()).toPath());
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Runs the given clients one after the other against one server with the AOT cache enabled, then stops the server
+	 * so that it prints the statistics of its AOT cache.
+	 */
+	private void runClientsWithAOTCache(final ProcessBuilder aotCacheServerBuilder, final ProcessBuilder... clientBuilders) throws IOException, InterruptedException {
+		final Process server = startProcess(aotCacheServerBuilder, "server");
+
+		Thread.sleep(SERVER_START_WAIT_TIME_MS);
+
+		for (int i = 0; i < clientBuilders.length; ++i) {
+			final Process client = startProcess(clientBuilders[i], "client " + (i + 1));
+
+			logger.info("Waiting for " + CLIENT_TEST_TIME_MS + " millis.");
+			Thread.sleep(CLIENT_TEST_TIME_MS);
+
+			logger.info("Stopping client " + (i + 1) + "...");
+			destroyAndCheckProcess(client, clientBuilders[i]);
+		}
+
+		logger.info("Stopping server...");
+		destroyAndCheckProcess(server, aotCacheServerBuilder);
+	}
+
+	private ProcessBuilder aotCacheServerBuilder(final String outputName, final String... options) {
+		final ProcessBuilder builder = addOptions(serverBuilder, "-XX:+JITServerUseAOTCache");
+		builder.command().addAll(1, Arrays.asList(options));
+		builder.environment().put("TR_PrintJITServerAOTCacheStats", "1");
+		redirectProcessOutputsWithVerboseLog(builder, outputName);
+		return builder;
+	}
+
+	private ProcessBuilder aotCacheClientBuilder(final String outputName, final File cacheDir, final String... extraOptions) {
+		final ProcessBuilder builder = addOptions(clientBuilder, SCC_OPTION + ",cacheDir=" + cacheDir.getAbsolutePath(), "-Xaot:forceaot");
+		builder.command().addAll(1, Arrays.asList(extraOptions));
+		redirectProcessOutputs(builder, outputName);
+		return builder;
+	}
+
+	/**
+	 * Two clients with identical copies of one SCC: the bodies compiled for the first client are sent to the second one.
+	 */
+	public void testAOTCacheSharedBetweenClients() throws IOException, InterruptedException {
+		logger.info("running testAOTCacheSharedBetweenClients: INFO and above level logging enabled");
+		skipIfSharedClassesDisabled();
+
+		final File workDir = Files.createTempDirectory("JITServerTest").toFile();
+		final File cacheDir = new File(workDir, "scc");
+		AssertJUnit.assertTrue("Cannot create " + cacheDir, cacheDir.mkdir());
+		primeSharedClassCache(cacheDir, "testAOTCacheSharedBetweenClients.prime");
+		final File secondCacheDir = copySharedClassCacheDir(cacheDir, workDir, "scc2");
+
+		final ProcessBuilder aotCacheServer = aotCacheServerBuilder("testAOTCacheSharedBetweenClients.server");
+		final ProcessBuilder firstClient = aotCacheClientBuilder("testAOTCacheSharedBetweenClients.client1", cacheDir);
+		final ProcessBuilder secondClient = aotCacheClientBuilder("testAOTCacheSharedBetweenClients.client2", secondCacheDir);
+		runClientsWithAOTCache(aotCacheServer, firstClient, secondClient);
+
+		if (0 == countInProcessLog(aotCacheServer, AOT_BODY_STORED)) {
+			dumpProcessLog(aotCacheServer);
+			AssertJUnit.fail("The server did not store any AOT body in its AOT cache");
+		}
+		final int sent = countInProcessLog(aotCacheServer, AOT_BODY_SENT);
+		if (0 == sent) {
+			dumpProcessLog(aotCacheServer);
+			AssertJUnit.fail("The server did not send any cached AOT body to the second client");
+		}
+		AssertJUnit.assertTrue("Fewer hits than cached AOT bodies sent", findInProcessLog(aotCacheServer, AOT_CACHE_HITS) >= sent);
+	}
+
+	/**
+	 * The second client has an SCC of another size, so its SCC layout differs from the one the cached bodies were compiled
+	 * for: it must get fresh compilations instead of the bodies compiled for the first client.
+	 */
+	public void testAOTCacheRefusesMismatchedSCC() throws IOException, InterruptedException {
+		logger.info("running testAOTCacheRefusesMismatchedSCC: INFO and above level logging enabled");
+		skipIfSharedClassesDisabled();
+
+		final File workDir = Files.createTempDirectory("JITServerTest").toFile();
+		final File cacheDir = new File(workDir, "scc");
+		final File otherCacheDir = new File(workDir, "scc2");
+		AssertJUnit.assertTrue("Cannot create " + cacheDir, cacheDir.mkdir());
+		AssertJUnit.assertTrue("Cannot create " + otherCacheDir, otherCacheDir.mkdir());
+		primeSharedClassCache(cacheDir, "testAOTCacheRefusesMismatchedSCC.prime");
+		primeSharedClassCache(otherCacheDir, "testAOTCacheRefusesMismatchedSCC.prime2", OTHER_SCC_SIZE_OPTION);
+
+		final ProcessBuilder aotCacheServer = aotCacheServerBuilder("testAOTCacheRefusesMismatchedSCC.server");
+		final ProcessBuilder firstClient = aotCacheClientBuilder("testAOTCacheRefusesMismatchedSCC.client1", cacheDir);
+		final ProcessBuilder secondClient = aotCacheClientBuilder("testAOTCacheRefusesMismatchedSCC.client2", otherCacheDir, OTHER_SCC_SIZE_OPTION);
+		runClientsWithAOTCache(aotCacheServer, firstClient, secondClient);
+
+		if (0 == countInProcessLog(aotCacheServer, AOT_BODY_STORED)) {
+			dumpProcessLog(aotCacheServer);
+			AssertJUnit.fail("The server did not store any AOT body in its AOT cache");
+		}
+		if (0 != countInProcessLog(aotCacheServer, AOT_BODY_SENT)) {
+			dumpProcessLog(aotCacheServer);
+			AssertJUnit.fail("The server sent a cached AOT body to a client with a different SCC");
+		}
+	}
+
+	/**
+	 * With a 1 KB AOT cache the server must turn bodies away instead of exceeding the limit, and must keep compiling.
+	 */
+	public void testAOTCacheFull() throws IOException, InterruptedException {
+		final int AOT_CACHE_SIZE_KB = 1;
+
+		logger.info("running testAOTCacheFull: INFO and above level logging enabled");
+		skipIfSharedClassesDisabled();
+
+		final File workDir = Files.createTempDirectory("JITServerTest").toFile();
+		final File cacheDir = new File(workDir, "scc");
+		AssertJUnit.assertTrue("Cannot create " + cacheDir, cacheDir.mkdir());
+		primeSharedClassCache(cacheDir, "testAOTCacheFull.prime");
+		final File secondCacheDir = copySharedClassCacheDir(cacheDir, workDir, "scc2");
+
+		final ProcessBuilder aotCacheServer = aotCacheServerBuilder("testAOTCacheFull.server", "-Xjit:jitserverAOTCacheSizeInKB=" + AOT_CACHE_SIZE_KB);
+		final ProcessBuilder firstClient = aotCacheClientBuilder("testAOTCacheFull.client1", cacheDir);
+		final ProcessBuilder secondClient = aotCacheClientBuilder("testAOTCacheFull.client2", secondCacheDir);
+		runClientsWithAOTCache(aotCacheServer, firstClient, secondClient);
+
+		AssertJUnit.assertTrue("No AOT body was rejected by the full AOT cache", findInProcessLog(aotCacheServer, AOT_CACHE_FULL) > 0);
+		AssertJUnit.assertTrue("The AOT cache exceeded its limit", findInProcessLog(aotCacheServer, AOT_CACHE_BYTES_USED) <= AOT_CACHE_SIZE_KB * 1024);
+		AssertJUnit.assertEquals("The number of AOT bodies stored does not match the verbose log",
+				countInProcessLog(aotCacheServer, AOT_BODY_STORED), findInProcessLog(aotCacheServer, AOT_CACHE_BODIES));
+	}
+
+	// A jar whose manifest makes SnapshotClient, found on the class path, an agent that can redefine classes.
+	private static File createSnapshotClientAgentJar(final File workDir) throws IOException {
+		final File jar = new File(workDir, "snapshotClientAgent.jar");
+		final Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(new Attributes.Name("Premain-Class"), SnapshotClient.class.getName());
+		manifest.getMainAttributes().put(new Attributes.Name("Can-Redefine-Classes"), "true");
+		new JarOutputStream(new FileOutputStream(jar), manifest).close();
+		return jar;
+	}
+
+	private static void waitForFile(final File file, final Process client, final ProcessBuilder builder) throws InterruptedException {
+		for (int waited = 0; !file.exists(); waited += 100) {
+			if ((waited > CLIENT_TEST_TIME_MS) || !client.isAlive()) {
+				dumpProcessLog(builder);
+				AssertJUnit.fail("The client did not create " + file);
+			}
+			Thread.sleep(100);
+		}
+	}
+
+	/**
+	 * The server is restarted with the session snapshot saved by the previous instance while the client keeps running.
+	 * The new server must start warm with the classes of the client, except for a class that the client redefined
+	 * while the server was down.
+	 */
+	public void testServerRestartWithSessionSnapshot() throws IOException, InterruptedException {
+		final String RESTORED = "restored (\\d+) cached classes from session snapshot for clientUID \\d+, rejected (\\d+) changed classes";
+
+		logger.info("running testServerRestartWithSessionSnapshot: INFO and above level logging enabled");
+
+		final File workDir = Files.createTempDirectory("JITServerTest").toFile();
+		final File snapshot = new File(workDir, "jitserver.snapshot");
+		final File trigger = new File(workDir, "redefine");
+		final File redefined = new File(workDir, "redefined");
+		final String snapshotOption = "-XX:JITServerSessionSnapshotFile=" + snapshot.getAbsolutePath();
+
+		// The client runs SnapshotClient with the JVM options of the client program.
+		final ArrayList<String> command = new ArrayList<String>(clientBuilder.command().subList(0, clientBuilder.command().indexOf("-cp")));
+		command.add("-javaagent:" + createSnapshotClientAgentJar(workDir).getAbsolutePath());
+		command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"), SnapshotClient.class.getName(),
+				trigger.getAbsolutePath(), redefined.getAbsolutePath()));
+		final ProcessBuilder snapshotClientBuilder = new ProcessBuilder(command);
+		snapshotClientBuilder.redirectErrorStream(true);
+		snapshotClientBuilder.environment().putAll(clientBuilder.environment());
+		redirectProcessOutputs(snapshotClientBuilder, "testServerRestartWithSessionSnapshot.client");
+
+		final ProcessBuilder firstServerBuilder = addOptions(serverBuilder, snapshotOption);
+		redirectProcessOutputsWithVerboseLog(firstServerBuilder, "testServerRestartWithSessionSnapshot.server");
+		final ProcessBuilder secondServerBuilder = addOptions(serverBuilder, snapshotOption);
+		redirectProcessOutputsWithVerboseLog(secondServerBuilder, "testServerRestartWithSessionSnapshot.secondServer");
+
+		final Process firstServer = startProcess(firstServerBuilder, "server");
+
+		Thread.sleep(SERVER_START_WAIT_TIME_MS);
+
+		final Process client = startProcess(snapshotClientBuilder, "client");
+
+		logger.info("Waiting for " + CLIENT_TEST_TIME_MS + " millis.");
+		Thread.sleep(CLIENT_TEST_TIME_MS);
+
+		logger.info("Stopping server...");
+		destroyAndCheckProcess(firstServer, firstServerBuilder);
+		if (!snapshot.exists() || (0 == countInProcessLog(firstServerBuilder, "Server saved [1-9]\\d* client session snapshots"))) {
+			dumpProcessLog(firstServerBuilder);
+			AssertJUnit.fail("The server did not save the session of the client to " + snapshot);
+		}
+
+		logger.info("Redefining a class of the client...");
+		AssertJUnit.assertTrue("Cannot create " + trigger, trigger.createNewFile());
+		waitForFile(redefined, client, snapshotClientBuilder);
+
+		final Process secondServer = startProcess(secondServerBuilder, "second server");
+
+		Thread.sleep(SERVER_START_WAIT_TIME_MS);
+
+		logger.info("Waiting for " + CLIENT_TEST_TIME_MS + " millis.");
+		Thread.sleep(CLIENT_TEST_TIME_MS);
+
+		logger.info("Stopping client...");
+		destroyAndCheckProcess(client, snapshotClientBuilder);
+
+		logger.info("Stopping server...");
+		destroyAndCheckProcess(secondServer, secondServerBuilder);
+
+		if (0 == countInProcessLog(secondServerBuilder, "Server loaded [1-9]\\d* client session snapshots")) {
+			dumpProcessLog(secondServerBuilder);
+			AssertJUnit.fail("The second server did not load the session snapshot");
+		}
+		AssertJUnit.assertTrue("The second server did not restore any class of the client", findInProcessLog(secondServerBuilder, RESTORED) > 0);
+		final Matcher m = Pattern.compile(RESTORED).matcher(readProcessLog(secondServerBuilder));
+		AssertJUnit.assertTrue(m.find());
+		AssertJUnit.assertTrue("The second server reused the snapshot of a class the client redefined", Long.parseLong(m.group(2)) > 0);
+	}
+
 	public void testServer() throws IOException, InterruptedException {
 		logger.info("running testServer: INFO and above level logging enabled");
 
@@ -367,4 +674,324 @@ public class JITServerTest {
 		logger.info("Stopping client...");
 		destroyAndCheckProcess(client, clientBuilder);
 	}
+
+	private static String unixSocketOption(final File workDir) {
+		return "-XX:JITServerUnixSocket=" + new File(workDir, "jitserver.sock").getAbsolutePath();
+	}
+
+	private static void waitForProcessLog(final ProcessBuilder builder, final String pattern, final Process p) throws IOException, InterruptedException {
+		for (int waited = 0; 0 == countInProcessLog(builder, pattern); waited += 100) {
+			if ((waited > CLIENT_TEST_TIME_MS) || !p.isAlive()) {
+				dumpProcessLog(builder);
+				AssertJUnit.fail("'" + pattern + "' not found in " + builder.redirectOutput().file());
+			}
+			Thread.sleep(100);
+		}
+	}
+
+	/**
+	 * Runs a client that captures its remote compilations, talking to the server through a Unix domain socket in workDir,
+	 * and returns the capture files in the order they were written.
+	 */
+	private File[] captureRemoteCompilations(final File workDir, final String outputName) throws IOException, InterruptedException {
+		final String CAPTURING = "Capturing remote compilation of \\S+ to \\S+jitserver_capture\\.";
+		final File captureDir = new File(workDir, "capture");
+		AssertJUnit.assertTrue("Cannot create " + captureDir, captureDir.mkdir());
+
+		final ProcessBuilder captureServerBuilder = addOptions(serverBuilder, unixSocketOption(workDir));
+		final ProcessBuilder captureClientBuilder = addOptions(clientBuilder, unixSocketOption(workDir), "-XX:JITServerCaptureDir=" + captureDir.getAbsolutePath());
+		redirectProcessOutputs(captureServerBuilder, outputName + ".server");
+		redirectProcessOutputsWithVerboseLog(captureClientBuilder, outputName + ".client");
+
+		final Process server = startProcess(captureServerBuilder, "server");
+
+		Thread.sleep(SERVER_START_WAIT_TIME_MS);
+
+		final Process client = startProcess(captureClientBuilder, "client");
+
+		logger.info("Waiting for " + CLIENT_TEST_TIME_MS + " millis.");
+		Thread.sleep(CLIENT_TEST_TIME_MS);
+
+		logger.info("Stopping client...");
+		destroyAndCheckProcess(client, captureClientBuilder);
+
+		logger.info("Stopping server...");
+		destroyAndCheckProcess(server, captureServerBuilder);
+
+		final File[] captureFiles = captureDir.listFiles((dir, name) -> name.startsWith("jitserver_capture."));
+		if ((captureFiles == null) || (captureFiles.length == 0)) {
+			dumpProcessLog(captureClientBuilder);
+			AssertJUnit.fail("The client did not capture any remote compilation in " + captureDir);
+		}
+		AssertJUnit.assertEquals("Every capture file must be reported in the verbose log", captureFiles.length, countInProcessLog(captureClientBuilder, CAPTURING));
+		// jitserver_capture.<pid>.<index>.bin
+		Arrays.sort(captureFiles, (a, b) -> Integer.compare(captureIndex(a), captureIndex(b)));
+		return captureFiles;
+	}
+
+	private static int captureIndex(final File captureFile) {
+		final String[] parts = captureFile.getName().split("\\.");
+		return Integer.parseInt(parts[parts.length - 2]);
+	}
+
+	public void testServerReplayBenchmark() throws IOException, InterruptedException {
+		logger.info("running testServerReplayBenchmark: INFO and above level logging enabled");
+
+		final File workDir = Files.createTempDirectory("JITServerTest").toFile();
+		final File[] captureFiles = captureRemoteCompilations(workDir, "testServerReplayBenchmark");
+		final String unixSocketOption = unixSocketOption(workDir);
+
+		// The replay server reuses the socket path, which the previous server may have left behind.
+		final ProcessBuilder replayServerBuilder = addOptions(serverBuilder, unixSocketOption,
+				"-XX:JITServerReplayFile=" + captureFiles[0].getAbsolutePath(),
+				"-XX:JITServerReplayCount=20",
+				"-XX:JITServerReplayThreads=4");
+		redirectProcessOutputs(replayServerBuilder, "testServerReplayBenchmark.replayServer");
+
+		final Process replayServer = startProcess(replayServerBuilder, "replay server");
+
+		logger.info("Waiting for " + CLIENT_TEST_TIME_MS + " millis.");
+		Thread.sleep(CLIENT_TEST_TIME_MS);
+
+		logger.info("Stopping replay server...");
+		destroyAndCheckProcess(replayServer, replayServerBuilder);
+
+		final String replayLog = readProcessLog(replayServerBuilder);
+		if (!replayLog.contains("compilations on ") || !replayLog.contains("Round trips per compilation:")) {
+			dumpProcessLog(replayServerBuilder);
+			AssertJUnit.fail("The replay server did not print the benchmark report");
+		}
+		if (!replayLog.contains(": 20/20 compilations on 4 threads")) {
+			dumpProcessLog(replayServerBuilder);
+			AssertJUnit.fail("Not all the replays of " + captureFiles[0] + " matched the recording");
+		}
+	}
+
+	/**
+	 * Starts a server that replays captureFile once before accepting clients, waits for the result of the replay and stops the server.
+	 */
+	private ProcessBuilder replayOnce(final File workDir, final File captureFile, final String outputName, final String resultPattern) throws IOException, InterruptedException {
+		final ProcessBuilder replayServerBuilder = addOptions(serverBuilder, unixSocketOption(workDir),
+				"-XX:JITServerReplayFile=" + captureFile.getAbsolutePath(),
+				"-XX:JITServerReplayCount=1");
+		redirectProcessOutputs(replayServerBuilder, outputName);
+
+		final Process replayServer = startProcess(replayServerBuilder, "replay server");
+		waitForProcessLog(replayServerBuilder, resultPattern, replayServer);
+
+		// The server keeps running and accepting clients after a replay, whether it succeeded or not.
+		logger.info("Stopping replay server...");
+		destroyAndCheckProcess(replayServer, replayServerBuilder);
+		return replayServerBuilder;
+	}
+
+	/**
+	 * Each capture runs in a fresh client session, so each one must replay on its own, without the compilations captured before it.
+	 * The last capture is skipped: the client may have been stopped while it was being written.
+	 */
+	public void testEveryCaptureReplaysAlone() throws IOException, InterruptedException {
+		logger.info("running testEveryCaptureReplaysAlone: INFO and above level logging enabled");
+		final int MAX_CAPTURES_TO_REPLAY = 3;
+
+		final File workDir = Files.createTempDirectory("JITServerTest").toFile();
+		final File[] captureFiles = captureRemoteCompilations(workDir, "testEveryCaptureReplaysAlone");
+		AssertJUnit.assertTrue("The client captured only " + captureFiles.length + " remote compilation", captureFiles.length >= 2);
+
+		for (int i = 0; (i < captureFiles.length - 1) && (i < MAX_CAPTURES_TO_REPLAY); ++i) {
+			final ProcessBuilder replayServerBuilder = replayOnce(workDir, captureFiles[i], "testEveryCaptureReplaysAlone.replayServer" + i,
+					"JITServer replay(: | of )");
+			if (0 == countInProcessLog(replayServerBuilder, ": 1/1 compilations on 1 threads")) {
+				dumpProcessLog(replayServerBuilder);
+				AssertJUnit.fail("The replay of " + captureFiles[i] + " did not match the recording");
+			}
+			AssertJUnit.assertTrue("No latency reported for the replay of " + captureFiles[i],
+					findInProcessLog(replayServerBuilder, "Compilation latency \\(usec\\): min=(\\d+)") > 0);
+		}
+	}
+
+	/**
+	 * A file that is not a capture, and a capture cut short, are reported without stopping the server.
+	 */
+	public void testReplayRejectsBadCaptureFiles() throws IOException, InterruptedException {
+		logger.info("running testReplayRejectsBadCaptureFiles: INFO and above level logging enabled");
+
+		final File workDir = Files.createTempDirectory("JITServerTest").toFile();
+		final File notCapture = new File(workDir, "notCapture.bin");
+		Files.write(notCapture.toPath(), "not a JITServer capture file".getBytes());
+		replayOnce(workDir, notCapture, "testReplayRejectsBadCaptureFiles.notCapture", "JITServer replay: \\S+ is not a capture file");
+
+		final File[] captureFiles = captureRemoteCompilations(workDir, "testReplayRejectsBadCaptureFiles");
+		final byte[] capture = Files.readAllBytes(captureFiles[0].toPath());
+		final File truncated = new File(workDir, "truncated.bin");
+		Files.write(truncated.toPath(), Arrays.copyOf(capture, capture.length / 2));
+		final ProcessBuilder replayServerBuilder = replayOnce(workDir, truncated, "testReplayRejectsBadCaptureFiles.truncated",
+				"JITServer replay: (capture file is truncated|server diverged from the recording|no answer from the compilation thread)");
+		AssertJUnit.assertEquals("A truncated capture was replayed", 0, countInProcessLog(replayServerBuilder, "compilations on "));
+	}
+
+	private static final String MESSAGE_STATISTICS = "(\\w+): sent=(\\d+) \\((\\d+) bytes\\) received=(\\d+) \\((\\d+) bytes\\) serialization=\\d+us I/O=\\d+us latency:((?: <\\d+:\\d+)*)";
+
+	private void runServerAndClient(final ProcessBuilder statsServerBuilder, final ProcessBuilder statsClientBuilder) throws IOException, InterruptedException {
+		final Process server = startProcess(statsServerBuilder, "server");
+
+		Thread.sleep(SERVER_START_WAIT_TIME_MS);
+
+		final Process client = startProcess(statsClientBuilder, "client");
+
+		logger.info("Waiting for " + CLIENT_TEST_TIME_MS + " millis.");
+		Thread.sleep(CLIENT_TEST_TIME_MS);
+
+		logger.info("Stopping client...");
+		destroyAndCheckProcess(client, statsClientBuilder);
+
+		logger.info("Stopping server...");
+		destroyAndCheckProcess(server, statsServerBuilder);
+	}
+
+	/**
+	 * Checks the message statistics printed at shutdown and returns the number of messages of messageType that were
+	 * sent (index 0) and received (index 1). A latency is recorded for a message that answers the last message of the
+	 * same type, so the histogram cannot count more messages than were sent or received.
+	 */
+	private static long[] checkMessageStatistics(final ProcessBuilder builder, final String messageType) throws IOException {
+		final Matcher m = Pattern.compile(MESSAGE_STATISTICS).matcher(readProcessLog(builder));
+		final long[] counts = new long[2];
+		int lines = 0;
+		while (m.find()) {
+			lines++;
+			final long sent = Long.parseLong(m.group(2));
+			final long received = Long.parseLong(m.group(4));
+			AssertJUnit.assertTrue("Statistics printed for unused message type " + m.group(1), (sent + received) > 0);
+			AssertJUnit.assertTrue("Bytes sent without messages for " + m.group(1), (sent > 0) || (0 == Long.parseLong(m.group(3))));
+			AssertJUnit.assertTrue("Bytes received without messages for " + m.group(1), (received > 0) || (0 == Long.parseLong(m.group(5))));
+
+			long latencies = 0;
+			long lastBound = 0;
+			final Matcher bucket = Pattern.compile(" <(\\d+):(\\d+)").matcher(m.group(6));
+			while (bucket.find()) {
+				final long bound = Long.parseLong(bucket.group(1));
+				AssertJUnit.assertTrue("Latency bucket " + bound + " of " + m.group(1) + " is not a power of two", Long.bitCount(bound) == 1);
+				AssertJUnit.assertTrue("Latency buckets of " + m.group(1) + " are not in increasing order", bound > lastBound);
+				lastBound = bound;
+				latencies += Long.parseLong(bucket.group(2));
+			}
+			AssertJUnit.assertTrue("More latencies than messages sent for " + m.group(1), latencies <= sent);
+			AssertJUnit.assertTrue("More latencies than messages received for " + m.group(1), latencies <= received);
+
+			if (messageType.equals(m.group(1))) {
+				counts[0] = sent;
+				counts[1] = received;
+			}
+		}
+		if (0 == lines) {
+			dumpProcessLog(builder);
+			AssertJUnit.fail("No message statistics in " + builder.redirectOutput().file());
+		}
+		return counts;
+	}
+
+	/**
+	 * The server prints its message statistics to stdout (TR_PrintJITServerMsgStats) and the client to its verbose log.
+	 * The client is stopped first, so the messages in flight at that time may be counted by one side only.
+	 */
+	public void testMessageStatistics() throws IOException, InterruptedException {
+		logger.info("running testMessageStatistics: INFO and above level logging enabled");
+
+		final ProcessBuilder statsServerBuilder = addOptions(serverBuilder, "-XX:+JITServerMessageStatistics");
+		statsServerBuilder.environment().put("TR_PrintJITServerMsgStats", "1");
+		final ProcessBuilder statsClientBuilder = addOptions(clientBuilder, "-XX:+JITServerMessageStatistics");
+		redirectProcessOutputsWithVerboseLog(statsServerBuilder, "testMessageStatistics.server");
+		redirectProcessOutputsWithVerboseLog(statsClientBuilder, "testMessageStatistics.client");
+
+		runServerAndClient(statsServerBuilder, statsClientBuilder);
+
+		if (0 == countInProcessLog(statsServerBuilder, "JITServer message statistics \\(latency histogram buckets are upper bounds in usec\\):")) {
+			dumpProcessLog(statsServerBuilder);
+			AssertJUnit.fail("The server did not print its message statistics");
+		}
+		final long[] serverRequests = checkMessageStatistics(statsServerBuilder, "compilationRequest");
+		final long[] clientRequests = checkMessageStatistics(statsClientBuilder, "compilationRequest");
+		AssertJUnit.assertTrue("The client did not send any compilation request", clientRequests[0] > 0);
+		AssertJUnit.assertEquals("The server sent compilation requests", 0, serverRequests[0]);
+		AssertJUnit.assertTrue("The server did not receive any compilation request", serverRequests[1] > 0);
+		AssertJUnit.assertTrue("The server received more compilation requests than the client sent", serverRequests[1] <= clientRequests[0]);
+
+		final long[] clientCode = checkMessageStatistics(statsClientBuilder, "compilationCode");
+		final long[] serverCode = checkMessageStatistics(statsServerBuilder, "compilationCode");
+		AssertJUnit.assertTrue("The client did not receive any compiled code", clientCode[1] > 0);
+		AssertJUnit.assertTrue("The client received more compiled code than the server sent", clientCode[1] <= serverCode[0]);
+	}
+
+	/**
+	 * Without -XX:+JITServerMessageStatistics nothing is collected, so nothing is printed.
+	 */
+	public void testNoMessageStatisticsByDefault() throws IOException, InterruptedException {
+		logger.info("running testNoMessageStatisticsByDefault: INFO and above level logging enabled");
+
+		final ProcessBuilder statsServerBuilder = addOptions(serverBuilder);
+		final ProcessBuilder statsClientBuilder = addOptions(clientBuilder);
+		redirectProcessOutputsWithVerboseLog(statsServerBuilder, "testNoMessageStatisticsByDefault.server");
+		redirectProcessOutputsWithVerboseLog(statsClientBuilder, "testNoMessageStatisticsByDefault.client");
+
+		runServerAndClient(statsServerBuilder, statsClientBuilder);
+
+		AssertJUnit.assertEquals("The server printed message statistics", 0, countInProcessLog(statsServerBuilder, MESSAGE_STATISTICS));
+		AssertJUnit.assertEquals("The client printed message statistics", 0, countInProcessLog(statsClientBuilder, MESSAGE_STATISTICS));
+	}
+
+	private static final String PREFETCHED_COMPILEE = "compThreadID=\\d+ used the prefetched mirror of \\S+, (-?\\d+) prefetched callees and (-?\\d+) prefetched fields";
+	private static final String SUCCESSFUL_COMPILATION = "compThreadID=\\d+ has successfully compiled ";
+
+	/**
+	 * The client sends the mirror of the method being compiled, and the answers to the queries about the methods it
+	 * invokes and the fields it accesses, with the compilation request. The server reports which of them it used.
+	 */
+	public void testPrefetchedCompileeMirror() throws IOException, InterruptedException {
+		logger.info("running testPrefetchedCompileeMirror: INFO and above level logging enabled");
+
+		final ProcessBuilder prefetchServerBuilder = addOptions(serverBuilder);
+		final ProcessBuilder prefetchClientBuilder = addOptions(clientBuilder);
+		redirectProcessOutputsWithVerboseLog(prefetchServerBuilder, "testPrefetchedCompileeMirror.server");
+		redirectProcessOutputs(prefetchClientBuilder, "testPrefetchedCompileeMirror.client");
+
+		runServerAndClient(prefetchServerBuilder, prefetchClientBuilder);
+
+		final int compiled = countInProcessLog(prefetchServerBuilder, SUCCESSFUL_COMPILATION);
+		final int prefetched = countInProcessLog(prefetchServerBuilder, PREFETCHED_COMPILEE);
+		if (0 == prefetched) {
+			dumpProcessLog(prefetchServerBuilder);
+			AssertJUnit.fail("The server did not use any prefetched mirror");
+		}
+		AssertJUnit.assertTrue("More prefetched mirrors used than successful compilations", prefetched <= compiled);
+		// The IL of the method being compiled is always generated, so the prefetched answers are used with the mirror
+		final Matcher m = Pattern.compile(PREFETCHED_COMPILEE).matcher(readProcessLog(prefetchServerBuilder));
+		while (m.find()) {
+			AssertJUnit.assertTrue("Prefetched callees not used: " + m.group(), Long.parseLong(m.group(1)) >= 0);
+			AssertJUnit.assertTrue("Prefetched fields not used: " + m.group(), Long.parseLong(m.group(2)) >= 0);
+		}
+	}
+
+	/**
+	 * With TR_DisableJITServerPrefetchCompileeMirror the client sends nothing with the compilation request,
+	 * so the server asks for the mirror of every method it compiles.
+	 */
+	public void testPrefetchedCompileeMirrorDisabled() throws IOException, InterruptedException {
+		logger.info("running testPrefetchedCompileeMirrorDisabled: INFO and above level logging enabled");
+
+		final ProcessBuilder prefetchServerBuilder = addOptions(serverBuilder);
+		final ProcessBuilder prefetchClientBuilder = addOptions(clientBuilder, "-XX:+JITServerMessageStatistics");
+		prefetchClientBuilder.environment().put("TR_DisableJITServerPrefetchCompileeMirror", "1");
+		redirectProcessOutputsWithVerboseLog(prefetchServerBuilder, "testPrefetchedCompileeMirrorDisabled.server");
+		redirectProcessOutputsWithVerboseLog(prefetchClientBuilder, "testPrefetchedCompileeMirrorDisabled.client");
+
+		runServerAndClient(prefetchServerBuilder, prefetchClientBuilder);
+
+		if (0 == countInProcessLog(prefetchServerBuilder, SUCCESSFUL_COMPILATION)) {
+			dumpProcessLog(prefetchServerBuilder);
+			AssertJUnit.fail("The server did not compile any method");
+		}
+		AssertJUnit.assertEquals("The server used a prefetched mirror", 0, countInProcessLog(prefetchServerBuilder, PREFETCHED_COMPILEE));
+		final long[] mirrors = checkMessageStatistics(prefetchClientBuilder, "mirrorResolvedJ9Method");
+		AssertJUnit.assertTrue("The server did not ask the client for any mirror", mirrors[1] > 0);
+	}
 }
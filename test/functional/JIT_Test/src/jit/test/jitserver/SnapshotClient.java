@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package jit.test.jitserver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.instrument.ClassDefinition;
+import java.lang.instrument.Instrumentation;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JITServer client program for JITServerTest.testServerRestartWithSessionSnapshot().
+ *
+ * Keeps compiling methods until the trigger file given as first argument exists, then redefines
+ * Changing with another constant, so that its ROM class no longer matches the one the server saved
+ * in its session snapshot, creates the file given as second argument and keeps compiling methods
+ * that were not compiled before. Must be started with itself as a -javaagent that can redefine classes.
+ */
+public class SnapshotClient {
+	static final String VERSION_1 = "snapshot-class-version-1";
+	private static final long POLL_MS = 100;
+
+	private static Instrumentation instrumentation;
+
+	public static void premain(String args, Instrumentation inst) {
+		instrumentation = inst;
+	}
+
+	public static class Changing {
+		public static int work(int seed) {
+			return (VERSION_1 + seed).hashCode();
+		}
+	}
+
+	public static class BeforeRestart {
+		public static long work(int seed) {
+			StringBuilder text = new StringBuilder();
+			for (int i = 0; i < 16; i++) {
+				text.append(Integer.toHexString(seed * 31 + i));
+			}
+			return text.toString().hashCode() + Changing.work(seed);
+		}
+	}
+
+	public static class AfterRestart {
+		public static long work(int seed) {
+			long sum = 0;
+			for (int i = 0; i < 16; i++) {
+				sum += Long.toString(seed * 17L + i, 7).length();
+			}
+			return sum + Changing.work(seed);
+		}
+	}
+
+	private static byte[] readClass(Class<?> clazz) throws IOException {
+		InputStream in = clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class");
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			for (int read = in.read(buffer); read > 0; read = in.read(buffer)) {
+				bytes.write(buffer, 0, read);
+			}
+			return bytes.toByteArray();
+		} finally {
+			in.close();
+		}
+	}
+
+	/* Changing with the last character of VERSION_1 replaced, which leaves the class file valid */
+	private static byte[] changedClassBytes() throws IOException {
+		byte[] bytes = readClass(Changing.class);
+		byte[] version = VERSION_1.getBytes(StandardCharsets.UTF_8);
+		for (int i = 0; i + version.length <= bytes.length; i++) {
+			int j = 0;
+			while ((j < version.length) && (bytes[i + j] == version[j])) {
+				j++;
+			}
+			if (j == version.length) {
+				bytes[i + version.length - 1] = '2';
+				return bytes;
+			}
+		}
+		throw new IllegalStateException(VERSION_1 + " not found in the class file of " + Changing.class.getName());
+	}
+
+	public static void main(String[] args) throws Exception {
+		File trigger = new File(args[0]);
+		File redefined = new File(args[1]);
+		long sum = 0;
+		int seed = 0;
+		while (!trigger.exists()) {
+			sum += BeforeRestart.work(seed++);
+			if (0 == (seed % 1000)) {
+				Thread.sleep(POLL_MS);
+			}
+		}
+
+		instrumentation.redefineClasses(new ClassDefinition(Changing.class, changedClassBytes()));
+		if (!redefined.createNewFile()) {
+			throw new IllegalStateException(redefined + " already exists");
+		}
+
+		for (;;) {
+			sum += AfterRestart.work(seed++);
+			if (0 == (seed % 1000)) {
+				Thread.sleep(POLL_MS);
+				if (0 == sum) {
+					System.out.println(sum);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package jit.test.options;
+
+import java.io.File;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests -Xjit:aotPreloadThreads, which queues AOT loads in the low priority queue when a class is
+ * initialized during startup, for the methods that have an AOT body in the shared class cache and
+ * were hot in a previous run.
+ *
+ * The first run stores AOT bodies for every method of Workload. The second run does not load them
+ * for Worker.work and compiles it at hot instead, which records the hot hint in the SCC. Every
+ * request is reported by verbose={compileRequest}, and the totals by TR_PrintCompStats at shutdown.
+ */
+@Test(groups = { "level.sanity", "component.jit" })
+public class AOTPreloadTest {
+	private static final String CACHE_NAME = "aotPreloadTest";
+	private static final String WORKER = "{jit/test/options/Workload$Worker.work*}";
+	private static final String ENQUEUED = "Enqueued in LPQ for AOT preload";
+	private static final String LPQ_REQUESTS = "Requests for LPQ = +\\d+ \\(Sources: .* AOTPreload= *(\\d+)\\)";
+	private static final String LPQ_COMPS = "Comps\\.  from LPQ = +\\d+ \\(Sources: .* AOTPreload= *(\\d+)\\)";
+
+	private File cacheDir;
+
+	@BeforeMethod
+	public void createCacheDir() throws Exception {
+		cacheDir = ChildJVM.createCacheDir(CACHE_NAME);
+	}
+
+	@AfterMethod
+	public void deleteCacheDir() {
+		ChildJVM.deleteCacheDir(cacheDir);
+	}
+
+	private void populateCache() throws Exception {
+		new ChildJVM()
+				.sharedClasses(cacheDir, CACHE_NAME)
+				.options("-Xaot:forceaot,count=0")
+				.run(Workload.class);
+		new ChildJVM()
+				.sharedClasses(cacheDir, CACHE_NAME)
+				.options("-Xaot:loadExclude=" + WORKER, "-Xjit:" + WORKER + "(optLevel=hot)")
+				.run(Workload.class);
+	}
+
+	private ChildJVM runWorkload(String jitOptions) throws Exception {
+		return new ChildJVM()
+				.sharedClasses(cacheDir, CACHE_NAME)
+				.options("-Xjit:verbose={compileRequest}" + jitOptions)
+				.env("TR_PrintCompStats", "1")
+				.run(Workload.class);
+	}
+
+	private static long lpqStat(ChildJVM vm, String pattern) {
+		List<String[]> matches = vm.find(pattern);
+		if (matches.isEmpty()) {
+			vm.dump();
+			AssertJUnit.fail("Not printed: " + pattern);
+		}
+		return Long.parseLong(matches.get(matches.size() - 1)[1]);
+	}
+
+	public void testHotMethodsArePreloaded() throws Exception {
+		populateCache();
+		ChildJVM vm = runWorkload(",aotPreloadThreads=2");
+		int enqueued = vm.find(ENQUEUED).size();
+		if (0 == enqueued) {
+			vm.dump();
+			AssertJUnit.fail("No AOT load was queued for a method that was hot in the previous run");
+		}
+		long requests = lpqStat(vm, LPQ_REQUESTS);
+		long comps = lpqStat(vm, LPQ_COMPS);
+		AssertJUnit.assertEquals("AOTPreload requests do not match the verbose log", enqueued, requests);
+		AssertJUnit.assertTrue("More preloads than requests: " + comps + " > " + requests, comps <= requests);
+	}
+
+	public void testNoPreloadByDefault() throws Exception {
+		populateCache();
+		ChildJVM vm = runWorkload("");
+		AssertJUnit.assertEquals("AOT loads were preloaded without aotPreloadThreads", 0, vm.find(ENQUEUED).size());
+		AssertJUnit.assertEquals("AOTPreload requests without aotPreloadThreads", 0, lpqStat(vm, LPQ_REQUESTS));
+		AssertJUnit.assertEquals("AOTPreload compilations without aotPreloadThreads", 0, lpqStat(vm, LPQ_COMPS));
+	}
+
+	/**
+	 * Without a previous run there is no AOT body and no hint, so there is nothing to preload.
+	 */
+	public void testNoPreloadWithEmptyCache() throws Exception {
+		ChildJVM vm = runWorkload(",aotPreloadThreads=2");
+		AssertJUnit.assertEquals("AOT loads were preloaded from an empty cache", 0, vm.find(ENQUEUED).size());
+		AssertJUnit.assertEquals("AOTPreload requests from an empty cache", 0, lpqStat(vm, LPQ_REQUESTS));
+	}
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package jit.test.options;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.testng.AssertJUnit;
+
+/**
+ * Runs a class of jitt.jar in a new VM, with stderr merged into stdout, and collects its output.
+ * The JIT options under test are passed through -Xjit so that verbose output goes to stderr,
+ * where the tests below look for it.
+ */
+final class ChildJVM {
+	private static final long TIMEOUT_S = 300;
+
+	private final List<String> options = new ArrayList<String>();
+	private final Map<String, String> environment = new HashMap<String, String>();
+	private String output;
+	private int exitValue;
+
+	ChildJVM options(String... newOptions) {
+		options.addAll(Arrays.asList(newOptions));
+		return this;
+	}
+
+	ChildJVM env(String name, String value) {
+		environment.put(name, value);
+		return this;
+	}
+
+	/**
+	 * Uses the shared class cache name in dir, so that this VM sees what earlier VMs
+	 * running with the same cache stored in it.
+	 */
+	ChildJVM sharedClasses(File dir, String name) {
+		return options("-Xshareclasses:name=" + name + ",cacheDir=" + dir.getAbsolutePath());
+	}
+
+	/**
+	 * Runs mainClass with the given arguments and fails the test if the VM does not exit
+	 * in time or exits with a non zero value.
+	 */
+	ChildJVM run(Class<?> mainClass, String... args) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.addAll(options);
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(mainClass.getName());
+		command.addAll(Arrays.asList(args));
+
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.redirectErrorStream(true);
+		builder.environment().remove("TR_Options");
+		builder.environment().putAll(environment);
+		Process child = builder.start();
+
+		StringBuilder text = new StringBuilder();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(child.getInputStream()));
+		try {
+			for (String line = reader.readLine(); null != line; line = reader.readLine()) {
+				text.append(line).append('\n');
+			}
+		} finally {
+			reader.close();
+		}
+		output = text.toString();
+
+		if (!child.waitFor(TIMEOUT_S, TimeUnit.SECONDS)) {
+			child.destroy();
+			AssertJUnit.fail("The VM did not exit within " + TIMEOUT_S + "s: " + command);
+		}
+		exitValue = child.exitValue();
+		if (0 != exitValue) {
+			System.err.println(output);
+			AssertJUnit.fail("The VM exited with " + exitValue + ": " + command);
+		}
+		return this;
+	}
+
+	String output() {
+		return output;
+	}
+
+	/**
+	 * Returns the matches of pattern in the output, one String[] of groups per match.
+	 */
+	List<String[]> find(String pattern) {
+		List<String[]> matches = new ArrayList<String[]>();
+		Matcher matcher = Pattern.compile(pattern).matcher(output);
+		while (matcher.find()) {
+			String[] groups = new String[matcher.groupCount() + 1];
+			for (int i = 0; i <= matcher.groupCount(); i++) {
+				groups[i] = matcher.group(i);
+			}
+			matches.add(groups);
+		}
+		return matches;
+	}
+
+	/**
+	 * Returns the value of a name=value statistic printed by the VM, or -1 if it was not printed.
+	 */
+	long stat(String name) {
+		List<String[]> matches = find("(?m)^" + Pattern.quote(name) + "=(\\d+)$");
+		return matches.isEmpty() ? -1 : Long.parseLong(matches.get(matches.size() - 1)[1]);
+	}
+
+	void dump() {
+		System.err.println(output);
+	}
+
+	/**
+	 * Creates an empty directory for the shared class caches of one test.
+	 */
+	static File createCacheDir(String prefix) throws IOException {
+		File dir = File.createTempFile(prefix, "");
+		if (!dir.delete() || !dir.mkdir()) {
+			throw new IOException("Cannot create " + dir);
+		}
+		return dir;
+	}
+
+	static void deleteCacheDir(File dir) {
+		File[] files = dir.listFiles();
+		if (null != files) {
+			for (File file : files) {
+				if (file.isDirectory()) {
+					deleteCacheDir(file);
+				} else {
+					file.delete();
+				}
+			}
+		}
+		dir.delete();
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package jit.test.options;
+
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+/**
+ * Tests -Xjit:codeCacheFragmentationReportPeriod, which makes the sampler thread print the
+ * fragmentation of each code cache to the verbose log when verbose={codecache} is set.
+ *
+ * The report also shows whether a code cache holds hot bodies, cold bodies, or was not
+ * designated for either, which is used to check the hot/cold placement of compiled bodies.
+ */
+@Test(groups = { "level.sanity", "component.jit" })
+public class CodeCacheFragmentationReportTest {
+	private static final String CODE_CACHE = "CodeCache \\S+ \\((hot|cold|any) bodies\\): contiguous free=(\\d+) bytes; (\\d+) free blocks=(\\d+) bytes, largest=(\\d+) bytes; fragmentation=(\\d+)%";
+	private static final String ALL_CODE_CACHES = "All code caches: free=(\\d+) bytes, in free blocks=(\\d+) bytes; fragmentation=(\\d+)%";
+	private static final String REPORT_OPTION = "codeCacheFragmentationReportPeriod=1";
+
+	private static ChildJVM runWorkload(String... options) throws Exception {
+		return new ChildJVM()
+				.options(options)
+				.run(Workload.class);
+	}
+
+	private static List<String[]> checkReport(ChildJVM vm) {
+		List<String[]> codeCaches = vm.find(CODE_CACHE);
+		List<String[]> summaries = vm.find(ALL_CODE_CACHES);
+		if (codeCaches.isEmpty() || summaries.isEmpty()) {
+			vm.dump();
+			AssertJUnit.fail("No code cache fragmentation report");
+		}
+		AssertJUnit.assertTrue("Fewer code cache lines than reports", codeCaches.size() >= summaries.size());
+		for (String[] codeCache : codeCaches) {
+			long numFreeBlocks = Long.parseLong(codeCache[3]);
+			long freeBlockBytes = Long.parseLong(codeCache[4]);
+			long largestFreeBlock = Long.parseLong(codeCache[5]);
+			int fragmentation = Integer.parseInt(codeCache[6]);
+			AssertJUnit.assertTrue("Largest free block bigger than the free blocks: " + codeCache[0], largestFreeBlock <= freeBlockBytes);
+			AssertJUnit.assertTrue("Free bytes without free blocks: " + codeCache[0], (numFreeBlocks > 0) || (0 == freeBlockBytes));
+			AssertJUnit.assertTrue("Fragmentation out of range: " + codeCache[0], (fragmentation >= 0) && (fragmentation <= 100));
+		}
+		for (String[] summary : summaries) {
+			long free = Long.parseLong(summary[1]);
+			long freeInBlocks = Long.parseLong(summary[2]);
+			int fragmentation = Integer.parseInt(summary[3]);
+			AssertJUnit.assertTrue("More free bytes in blocks than free bytes: " + summary[0], freeInBlocks <= free);
+			AssertJUnit.assertTrue("Fragmentation out of range: " + summary[0], (fragmentation >= 0) && (fragmentation <= 100));
+		}
+		return codeCaches;
+	}
+
+	private static int countKind(List<String[]> codeCaches, String kind) {
+		int count = 0;
+		for (String[] codeCache : codeCaches) {
+			if (kind.equals(codeCache[1])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public void testReport() throws Exception {
+		checkReport(runWorkload("-Xjit:" + REPORT_OPTION + ",verbose={codecache}"));
+	}
+
+	/**
+	 * There is nowhere to print the report without verbose={codecache}.
+	 */
+	public void testNoReportWithoutVerbose() throws Exception {
+		ChildJVM vm = runWorkload("-Xjit:" + REPORT_OPTION);
+		AssertJUnit.assertTrue("Report printed without verbose={codecache}: " + vm.output(), vm.find(ALL_CODE_CACHES).isEmpty());
+	}
+
+	public void testNoReportByDefault() throws Exception {
+		ChildJVM vm = runWorkload("-Xjit:verbose={codecache}");
+		AssertJUnit.assertTrue("Report printed without " + REPORT_OPTION + ": " + vm.output(), vm.find(ALL_CODE_CACHES).isEmpty());
+	}
+
+	/**
+	 * Every body compiled at hot is placed in a code cache for hot bodies.
+	 */
+	public void testHotBodiesArePlacedInHotCodeCaches() throws Exception {
+		List<String[]> codeCaches = checkReport(runWorkload("-Xjit:optLevel=hot," + REPORT_OPTION + ",verbose={codecache}"));
+		AssertJUnit.assertTrue("No code cache holds hot bodies", countKind(codeCaches, "hot") > 0);
+		AssertJUnit.assertEquals("A code cache holds cold bodies", 0, countKind(codeCaches, "cold"));
+	}
+
+	/**
+	 * TR_DisableCodeCacheHotColdPlacement places every body in any code cache.
+	 */
+	public void testNoPlacementWhenDisabled() throws Exception {
+		List<String[]> codeCaches = checkReport(new ChildJVM()
+				.options("-Xjit:" + REPORT_OPTION + ",verbose={codecache}")
+				.env("TR_DisableCodeCacheHotColdPlacement", "1")
+				.run(Workload.class));
+		AssertJUnit.assertEquals("A code cache holds hot bodies", 0, countKind(codeCaches, "hot"));
+		AssertJUnit.assertEquals("A code cache holds cold bodies", 0, countKind(codeCaches, "cold"));
+	}
+}
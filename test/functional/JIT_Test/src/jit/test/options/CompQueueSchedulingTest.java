@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package jit.test.options;
+
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the compilation queue scheduler of -Xjit:compQueueAgingThreshold and
+ * -Xjit:compQueueMaxSharePerClassLoader.
+ *
+ * A single compilation thread and count=0 keep the queue long while Workload runs.
+ * Every promotion and demotion is reported by verbose={compileRequest}, and the
+ * totals by TR_PrintCompStats at shutdown; the two must agree.
+ */
+@Test(groups = { "level.sanity", "component.jit" })
+public class CompQueueSchedulingTest {
+	private static final String AGED = "Aged entry \\S+: waited (\\d+) ms, priority ([0-9a-f]+) -> ([0-9a-f]+)";
+	private static final String DEMOTED = "Demoted entry \\S+: class loader \\S+ has (\\d+) of the (\\d+) queued requests";
+	private static final int AGING_THRESHOLD_MS = 1;
+	private static final int MAX_SHARE_PER_CLASS_LOADER = 25;
+	private static final int MIN_QUEUE_SIZE_FOR_LOADER_FAIRNESS = 16;
+	private static final int CP_ASYNC_BELOW_NORMAL = 0x40;
+	private static final int CP_ASYNC_ABOVE_NORMAL = 0xC0;
+
+	private static ChildJVM runWorkload(String jitOptions) throws Exception {
+		return new ChildJVM()
+				.options("-XcompilationThreads1", "-Xjit:count=0,verbose={compileRequest}" + jitOptions)
+				.env("TR_PrintCompStats", "1")
+				.run(Workload.class);
+	}
+
+	public void testAgingPromotesWaitingRequests() throws Exception {
+		ChildJVM vm = runWorkload(",compQueueAgingThreshold=" + AGING_THRESHOLD_MS);
+		List<String[]> aged = vm.find(AGED);
+		if (aged.isEmpty()) {
+			vm.dump();
+			AssertJUnit.fail("No queued request was promoted");
+		}
+		for (String[] entry : aged) {
+			int waited = Integer.parseInt(entry[1]);
+			int oldPriority = Integer.parseInt(entry[2], 16);
+			int newPriority = Integer.parseInt(entry[3], 16);
+			AssertJUnit.assertTrue("Promoted before the threshold: " + entry[0], waited >= AGING_THRESHOLD_MS);
+			AssertJUnit.assertTrue("Priority did not increase: " + entry[0], newPriority > oldPriority);
+			AssertJUnit.assertTrue("Promoted above CP_ASYNC_ABOVE_NORMAL: " + entry[0], newPriority <= CP_ASYNC_ABOVE_NORMAL);
+		}
+		AssertJUnit.assertEquals("NumAgingPromotions does not match the verbose log", aged.size(), vm.stat("NumAgingPromotions"));
+		AssertJUnit.assertEquals("Demotions without compQueueMaxSharePerClassLoader", 0, vm.find(DEMOTED).size());
+	}
+
+	public void testClassLoaderFairnessDemotesFloodingLoader() throws Exception {
+		ChildJVM vm = runWorkload(",compQueueMaxSharePerClassLoader=" + MAX_SHARE_PER_CLASS_LOADER);
+		List<String[]> demoted = vm.find(DEMOTED);
+		if (demoted.isEmpty()) {
+			vm.dump();
+			AssertJUnit.fail("No request of a flooding class loader was demoted");
+		}
+		for (String[] entry : demoted) {
+			int fromLoader = Integer.parseInt(entry[1]);
+			int queued = Integer.parseInt(entry[2]);
+			AssertJUnit.assertTrue("Demoted in a small queue: " + entry[0], queued >= MIN_QUEUE_SIZE_FOR_LOADER_FAIRNESS);
+			AssertJUnit.assertTrue("Demoted within its share: " + entry[0], fromLoader * 100 > queued * MAX_SHARE_PER_CLASS_LOADER);
+		}
+		AssertJUnit.assertEquals("NumClassLoaderDemotions does not match the verbose log", demoted.size(), vm.stat("NumClassLoaderDemotions"));
+		AssertJUnit.assertEquals("Promotions without compQueueAgingThreshold", 0, vm.find(AGED).size());
+	}
+
+	/**
+	 * Demoted requests sink to CP_ASYNC_BELOW_NORMAL, from where aging brings them back up.
+	 */
+	public void testAgingLiftsDemotedRequests() throws Exception {
+		ChildJVM vm = runWorkload(",compQueueAgingThreshold=" + AGING_THRESHOLD_MS + ",compQueueMaxSharePerClassLoader=" + MAX_SHARE_PER_CLASS_LOADER);
+		AssertJUnit.assertFalse("No request was demoted", vm.find(DEMOTED).isEmpty());
+		boolean lifted = false;
+		for (String[] entry : vm.find(AGED)) {
+			if (Integer.parseInt(entry[2], 16) <= CP_ASYNC_BELOW_NORMAL) {
+				lifted = true;
+			}
+		}
+		if (!lifted) {
+			vm.dump();
+			AssertJUnit.fail("No request was promoted from CP_ASYNC_BELOW_NORMAL or lower");
+		}
+	}
+
+	public void testQueueOrderedByPriorityAloneByDefault() throws Exception {
+		ChildJVM vm = runWorkload("");
+		AssertJUnit.assertEquals("Promotions without compQueueAgingThreshold", 0, vm.find(AGED).size());
+		AssertJUnit.assertEquals("Demotions without compQueueMaxSharePerClassLoader", 0, vm.find(DEMOTED).size());
+		AssertJUnit.assertEquals("Scheduler statistics printed without a scheduler", -1, vm.stat("NumAgingPromotions"));
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package jit.test.options;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+/**
+ * Tests -Xjit:compThreadCPUBudgetOfContainerQuota, which sets the CPU entitlement of the
+ * compilation threads to a percentage of the CPU quota of the container.
+ *
+ * The applied budget is reported by verbose={compilationThreads}. The environment variable
+ * TR_ContainerCpuQuota replaces the quota read from the cgroup, so the budget computation is
+ * checked on every machine. When the test itself runs in a container whose cgroup CPU quota
+ * it can read, the VM must also report that quota.
+ */
+@Test(groups = { "level.sanity", "component.jit" })
+public class CompThreadCpuBudgetTest {
+	private static final String BUDGET = "Compilation thread CPU budget set to (\\d+)% \\((\\d+)% of container CPU quota of (\\d+)%\\)";
+	private static final int PERCENT_OF_QUOTA = 50;
+	private static final String BUDGET_OPTIONS = "-Xjit:compThreadCPUBudgetOfContainerQuota=" + PERCENT_OF_QUOTA + ",verbose={compilationThreads}";
+
+	private static ChildJVM runWorkload(String... options) throws Exception {
+		return new ChildJVM()
+				.options(options)
+				.run(Workload.class);
+	}
+
+	private static ChildJVM runWorkloadWithQuota(long quota, String... options) throws Exception {
+		return new ChildJVM()
+				.options(options)
+				.env("TR_ContainerCpuQuota", Long.toString(quota))
+				.run(Workload.class);
+	}
+
+	private static void checkBudgets(List<String[]> budgets) {
+		for (String[] budget : budgets) {
+			long applied = Long.parseLong(budget[1]);
+			long quota = Long.parseLong(budget[3]);
+			AssertJUnit.assertEquals("Wrong percentage: " + budget[0], PERCENT_OF_QUOTA, Integer.parseInt(budget[2]));
+			AssertJUnit.assertEquals("Budget not derived from the quota: " + budget[0], Math.max(1, quota * PERCENT_OF_QUOTA / 100), applied);
+		}
+	}
+
+	private static long readLong(File file) throws IOException {
+		BufferedReader reader = new BufferedReader(new FileReader(file));
+		try {
+			return Long.parseLong(reader.readLine().trim());
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Returns the CPU quota of the cgroup this VM runs in, in percentage points of one CPU,
+	 * 0 if there is none, or -1 if it cannot be read from the cgroup namespace of the container.
+	 */
+	private static long containerCpuQuota() {
+		try {
+			File cpuMax = new File("/sys/fs/cgroup/cpu.max");
+			if (cpuMax.isFile()) {
+				BufferedReader reader = new BufferedReader(new FileReader(cpuMax));
+				try {
+					String[] fields = reader.readLine().trim().split(" ");
+					return "max".equals(fields[0]) ? 0 : Long.parseLong(fields[0]) * 100 / Long.parseLong(fields[1]);
+				} finally {
+					reader.close();
+				}
+			}
+			File quota = new File("/sys/fs/cgroup/cpu/cpu.cfs_quota_us");
+			File period = new File("/sys/fs/cgroup/cpu/cpu.cfs_period_us");
+			if (quota.isFile() && period.isFile()) {
+				long quotaUs = readLong(quota);
+				return (quotaUs <= 0) ? 0 : quotaUs * 100 / readLong(period);
+			}
+		} catch (IOException e) {
+			/* fall through */
+		} catch (RuntimeException e) {
+			/* unexpected format */
+		}
+		return -1;
+	}
+
+	/**
+	 * Quotas of less than one CPU, of a fraction of CPUs and of several CPUs, including one so
+	 * small that the budget is rounded up to the minimum of 1%.
+	 */
+	public void testBudgetIsDerivedFromInjectedQuota() throws Exception {
+		long[] quotas = { 1, 50, 150, 400 };
+		for (long quota : quotas) {
+			ChildJVM vm = runWorkloadWithQuota(quota, BUDGET_OPTIONS);
+			List<String[]> budgets = vm.find(BUDGET);
+			if (budgets.isEmpty()) {
+				vm.dump();
+				AssertJUnit.fail("No budget applied with a container CPU quota of " + quota + "%");
+			}
+			AssertJUnit.assertEquals("Wrong container CPU quota: " + budgets.get(0)[0], quota, Long.parseLong(budgets.get(0)[3]));
+			AssertJUnit.assertEquals("Wrong budget: " + budgets.get(0)[0], Math.max(1, quota * PERCENT_OF_QUOTA / 100), Long.parseLong(budgets.get(0)[1]));
+			checkBudgets(budgets);
+		}
+	}
+
+	/**
+	 * The quota read from the cgroup of the container the test runs in, if any.
+	 */
+	public void testBudgetIsDerivedFromContainerQuota() throws Exception {
+		ChildJVM vm = runWorkload(BUDGET_OPTIONS);
+		List<String[]> budgets = vm.find(BUDGET);
+		long expectedQuota = containerCpuQuota();
+		if (expectedQuota > 0) {
+			if (budgets.isEmpty()) {
+				vm.dump();
+				AssertJUnit.fail("No budget applied with a container CPU quota of " + expectedQuota + "%");
+			}
+			AssertJUnit.assertEquals("Wrong container CPU quota: " + budgets.get(0)[0], expectedQuota, Long.parseLong(budgets.get(0)[3]));
+		} else if (0 == expectedQuota) {
+			AssertJUnit.assertTrue("Budget applied without a container CPU quota: " + vm.output(), budgets.isEmpty());
+		}
+		checkBudgets(budgets);
+	}
+
+	/**
+	 * A quota of 0 means that the container is not limited.
+	 */
+	public void testNoBudgetWithoutQuota() throws Exception {
+		ChildJVM vm = runWorkloadWithQuota(0, BUDGET_OPTIONS);
+		AssertJUnit.assertTrue("Budget applied without a container CPU quota: " + vm.output(), vm.find(BUDGET).isEmpty());
+	}
+
+	/**
+	 * An entitlement given on the command line takes precedence over the container quota.
+	 */
+	public void testExplicitEntitlementTakesPrecedence() throws Exception {
+		ChildJVM vm = runWorkloadWithQuota(200, "-Xjit:compThreadCPUEntitlement=30,compThreadCPUBudgetOfContainerQuota=" + PERCENT_OF_QUOTA + ",verbose={compilationThreads}");
+		AssertJUnit.assertTrue("Budget applied over compThreadCPUEntitlement: " + vm.output(), vm.find(BUDGET).isEmpty());
+	}
+
+	/**
+	 * Without container support the port library does not read the cgroup CPU quota.
+	 */
+	public void testNoBudgetWithoutContainerSupport() throws Exception {
+		ChildJVM vm = runWorkload("-XX:-UseContainerSupport", BUDGET_OPTIONS);
+		AssertJUnit.assertTrue("Budget applied with -XX:-UseContainerSupport: " + vm.output(), vm.find(BUDGET).isEmpty());
+	}
+
+	public void testNoBudgetByDefault() throws Exception {
+		ChildJVM vm = runWorkloadWithQuota(200, "-Xjit:verbose={compilationThreads}");
+		AssertJUnit.assertTrue("Budget applied without compThreadCPUBudgetOfContainerQuota: " + vm.output(), vm.find(BUDGET).isEmpty());
+	}
+}
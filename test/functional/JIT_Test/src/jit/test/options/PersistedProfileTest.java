@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package jit.test.options;
+
+import java.io.File;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the IProfiler profiles that the JIT persists in the shared class cache: hot compilations
+ * refresh the stored profile of their method, and the next run starts such a method at warm with
+ * that profile instead of downgrading it to cold during startup.
+ *
+ * Worker.work is compiled by the JIT (not AOT). A run that compiles it at warm only stores its
+ * early profile; a run that compiles it at hot during startup refreshes that profile and records
+ * the method as hot in the SCC hints, so the stored profile is refreshed at most once per cache.
+ */
+@Test(groups = { "level.sanity", "component.jit" })
+public class PersistedProfileTest {
+	private static final String CACHE_NAME = "persistedProfileTest";
+	private static final String WORKER = "{jit/test/options/Workload$Worker.work*}";
+	private static final String PERSISTED = "Total jitprofile entries: (\\d+)";
+	private static final String REFRESHED = "Total jitprofile entries refreshed by hot compilations: (\\d+)";
+	private static final String WARM_START = "Not downgraded: warm start with the profile persisted by a previous run";
+
+	private File cacheDir;
+
+	@BeforeMethod
+	public void createCacheDir() throws Exception {
+		cacheDir = ChildJVM.createCacheDir(CACHE_NAME);
+	}
+
+	@AfterMethod
+	public void deleteCacheDir() {
+		ChildJVM.deleteCacheDir(cacheDir);
+	}
+
+	private static int count(ChildJVM vm, String pattern) {
+		List<String[]> matches = vm.find(pattern);
+		if (matches.isEmpty()) {
+			vm.dump();
+			AssertJUnit.fail("Not printed: " + pattern);
+		}
+		return Integer.parseInt(matches.get(matches.size() - 1)[1]);
+	}
+
+	private ChildJVM runAt(String optLevel, boolean refresh) throws Exception {
+		ChildJVM vm = new ChildJVM()
+				.sharedClasses(cacheDir, CACHE_NAME)
+				.options("-Xaot:exclude=" + WORKER, "-Xjit:" + WORKER + "(optLevel=" + optLevel + "),iprofilerVerbose");
+		if (!refresh) {
+			vm.env("TR_DisableRefreshPersistedIProfile", "1");
+		}
+		return vm.run(Workload.class);
+	}
+
+	private ChildJVM runDefault(boolean warmStart) throws Exception {
+		ChildJVM vm = new ChildJVM()
+				.sharedClasses(cacheDir, CACHE_NAME)
+				.options("-Xaot:exclude=" + WORKER, "-Xjit:verbose={compileRequest}")
+				.env("TR_PrintCompStats", "1");
+		if (!warmStart) {
+			vm.env("TR_DisablePersistedProfileWarmStart", "1");
+		}
+		return vm.run(Workload.class);
+	}
+
+	public void testHotCompilationRefreshesPersistedProfile() throws Exception {
+		ChildJVM first = runAt("warm", true);
+		AssertJUnit.assertTrue("No profile was persisted", count(first, PERSISTED) > 0);
+		AssertJUnit.assertEquals("A warm compilation refreshed a persisted profile", 0, count(first, REFRESHED));
+
+		ChildJVM second = runAt("hot", true);
+		if (0 == count(second, REFRESHED)) {
+			second.dump();
+			AssertJUnit.fail("No persisted profile was refreshed by a hot compilation");
+		}
+	}
+
+	/**
+	 * Every refresh adds a copy of the profile to the cache, so a method already recorded as hot keeps its profile.
+	 */
+	public void testPersistedProfileIsRefreshedOnce() throws Exception {
+		runAt("warm", true);
+		runAt("hot", true);
+		ChildJVM third = runAt("hot", true);
+		if (0 != count(third, REFRESHED)) {
+			third.dump();
+			AssertJUnit.fail("A persisted profile was refreshed again by a later run");
+		}
+	}
+
+	public void testRefreshCanBeDisabled() throws Exception {
+		runAt("warm", true);
+		ChildJVM second = runAt("hot", false);
+		AssertJUnit.assertEquals("Persisted profiles refreshed with TR_DisableRefreshPersistedIProfile", 0, count(second, REFRESHED));
+	}
+
+	public void testHotMethodStartsWarmWithPersistedProfile() throws Exception {
+		runAt("hot", true);
+		ChildJVM vm = runDefault(true);
+		int warmStarts = vm.find(WARM_START).size();
+		if (0 == warmStarts) {
+			vm.dump();
+			AssertJUnit.fail("No method started warm with the profile of the previous run");
+		}
+		AssertJUnit.assertEquals("NumWarmStartsFromPersistedProfile does not match the verbose log", warmStarts, vm.stat("NumWarmStartsFromPersistedProfile"));
+	}
+
+	public void testWarmStartCanBeDisabled() throws Exception {
+		runAt("hot", true);
+		ChildJVM vm = runDefault(false);
+		AssertJUnit.assertEquals("Warm start with TR_DisablePersistedProfileWarmStart", 0, vm.find(WARM_START).size());
+		// The statistic is only printed when some method started warm
+		AssertJUnit.assertEquals("NumWarmStartsFromPersistedProfile with TR_DisablePersistedProfileWarmStart", -1, vm.stat("NumWarmStartsFromPersistedProfile"));
+	}
+
+	/**
+	 * Without a previous run there is neither a hot hint nor a persisted profile.
+	 */
+	public void testNoWarmStartWithEmptyCache() throws Exception {
+		ChildJVM vm = runDefault(true);
+		AssertJUnit.assertEquals("Warm start without a previous run", 0, vm.find(WARM_START).size());
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package jit.test.options;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A short program that gets many methods compiled from several class loaders.
+ *
+ * Each Worker is defined by a class loader of its own, so that the compilation
+ * queue holds requests from the bootstrap loader, the application loader and
+ * LOADERS other loaders. Prints the sum of the results so the work is not dead.
+ */
+public class Workload {
+	private static final int LOADERS = 4;
+	private static final int ROUNDS = 200;
+
+	public static class Worker {
+		public long work(int seed) {
+			Map<String, Integer> counts = new HashMap<String, Integer>();
+			List<String> words = new ArrayList<String>();
+			for (int i = 0; i < 64; i++) {
+				String word = Integer.toString((seed * 31 + i) % 97, 16);
+				words.add(word);
+				Integer count = counts.get(word);
+				counts.put(word, (null == count) ? 1 : count + 1);
+			}
+			Collections.sort(words);
+			TreeMap<String, Integer> sorted = new TreeMap<String, Integer>(counts);
+			StringBuilder text = new StringBuilder();
+			for (Map.Entry<String, Integer> entry : sorted.entrySet()) {
+				text.append(entry.getKey()).append(':').append(entry.getValue()).append(',');
+			}
+			return text.toString().hashCode() + String.format("%08x", seed).length() + words.size();
+		}
+	}
+
+	/**
+	 * Defines Worker itself and delegates every other class to its parent.
+	 */
+	static final class Isolator extends ClassLoader {
+		Isolator(ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override
+		protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!Worker.class.getName().equals(name)) {
+				return super.loadClass(name, resolve);
+			}
+			Class<?> loaded = findLoadedClass(name);
+			if (null == loaded) {
+				byte[] bytes = readClass(name);
+				loaded = defineClass(name, bytes, 0, bytes.length);
+			}
+			if (resolve) {
+				resolveClass(loaded);
+			}
+			return loaded;
+		}
+
+		private byte[] readClass(String name) throws ClassNotFoundException {
+			InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class");
+			if (null == in) {
+				throw new ClassNotFoundException(name);
+			}
+			try {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				byte[] buffer = new byte[4096];
+				for (int read = in.read(buffer); read > 0; read = in.read(buffer)) {
+					bytes.write(buffer, 0, read);
+				}
+				in.close();
+				return bytes.toByteArray();
+			} catch (IOException e) {
+				throw new ClassNotFoundException(name, e);
+			}
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		List<Object> workers = new ArrayList<Object>();
+		workers.add(new Worker());
+		for (int i = 0; i < LOADERS; i++) {
+			workers.add(new Isolator(Workload.class.getClassLoader()).loadClass(Worker.class.getName()).newInstance());
+		}
+		long sum = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			for (Object worker : workers) {
+				sum += (Long)worker.getClass().getMethod("work", int.class).invoke(worker, round);
+			}
+		}
+		System.out.println("Workload result " + sum);
+	}
+}
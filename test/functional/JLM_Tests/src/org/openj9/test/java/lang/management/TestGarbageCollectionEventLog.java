@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+package org.openj9.test.java.lang.management;
+
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+import org.testng.Assert;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ibm.lang.management.GarbageCollectionEventLog;
+
+/**
+ * Reads the binary GC event log of a gencon VM started with -Xgc:verboseBinaryLog=&lt;file&gt;,
+ * with the file passed in the gc.binary.log system property. The test allocates until a
+ * concurrent global cycle has ended with scavenges inside it, and checks that the start and
+ * end of every cycle, nested or not, are matched by their cycle ID and agree on the cycle time.
+ */
+@Test(groups = { "level.extended" })
+public class TestGarbageCollectionEventLog {
+
+	private static Logger logger = Logger.getLogger(TestGarbageCollectionEventLog.class);
+
+	/* OMR_GC_CYCLE_TYPE_GLOBAL and OMR_GC_CYCLE_TYPE_SCAVENGE */
+	private static final long CYCLE_TYPE_GLOBAL = 1;
+	private static final long CYCLE_TYPE_SCAVENGE = 2;
+
+	/* the record timestamp and the cycle time are read from the clock separately */
+	private static final long CYCLE_TIME_TOLERANCE_NANOS = 1000000;
+
+	private static final long TIMEOUT_MILLIS = 120000;
+
+	/* tenured data is retained up to this size, so that concurrent marking kicks off repeatedly */
+	private static final int RETAINED_BYTES = 24 * 1024 * 1024;
+	private static final int CHUNK_BYTES = 16 * 1024;
+
+	private static final class CycleStart {
+		final long type;
+		final long timestamp;
+		int nestedCycles;
+
+		CycleStart(long type, long timestamp) {
+			this.type = type;
+			this.timestamp = timestamp;
+		}
+	}
+
+	private final Map<Integer, CycleStart> openCycles = new HashMap<>();
+	private int globalCyclesWithNestedScavenges;
+	private int nestedCycles;
+	private int endedCycles;
+	private String failure;
+
+	private void checkEvent(GarbageCollectionEventLog.Event event) {
+		if (null != failure) {
+			return;
+		}
+		int cycleID = event.getCycleID();
+		switch (event.getType()) {
+		case GarbageCollectionEventLog.Event.CYCLE_START:
+			if (openCycles.containsKey(cycleID)) {
+				failure = "cycle " + cycleID + " started twice";
+				return;
+			}
+			if (!openCycles.isEmpty()) {
+				nestedCycles += 1;
+				for (CycleStart outer : openCycles.values()) {
+					if (event.getPayload(0) == CYCLE_TYPE_SCAVENGE) {
+						outer.nestedCycles += 1;
+					}
+				}
+			}
+			openCycles.put(cycleID, new CycleStart(event.getPayload(0), event.getTimestamp()));
+			break;
+		case GarbageCollectionEventLog.Event.CYCLE_END:
+			CycleStart start = openCycles.remove(cycleID);
+			if (null == start) {
+				failure = "cycle " + cycleID + " of type " + event.getPayload(0) + " ended without a start";
+				return;
+			}
+			if (start.type != event.getPayload(0)) {
+				failure = "cycle " + cycleID + " started with type " + start.type + " and ended with type " + event.getPayload(0);
+				return;
+			}
+			long expectedTime = event.getTimestamp() - start.timestamp;
+			long cycleTime = event.getPayload(1);
+			if (Math.abs(expectedTime - cycleTime) > CYCLE_TIME_TOLERANCE_NANOS) {
+				failure = "cycle " + cycleID + " of type " + start.type + " reports " + cycleTime
+						+ "ns but its records are " + expectedTime + "ns apart";
+				return;
+			}
+			endedCycles += 1;
+			if ((CYCLE_TYPE_GLOBAL == start.type) && (start.nestedCycles > 0)) {
+				globalCyclesWithNestedScavenges += 1;
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	@Test
+	public void testNestedCycles() throws Exception {
+		String logFile = System.getProperty("gc.binary.log");
+		Assert.assertNotNull(logFile, "gc.binary.log must name the file given to -Xgc:verboseBinaryLog");
+		Path logPath = Paths.get(logFile);
+
+		ArrayDeque<byte[]> retained = new ArrayDeque<>();
+		int retainedBytes = 0;
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+		try (GarbageCollectionEventLog log = GarbageCollectionEventLog.open(logPath)) {
+			while ((0 == globalCyclesWithNestedScavenges) && (null == failure) && (System.currentTimeMillis() < deadline)) {
+				for (int i = 0; i < 1024; i++) {
+					/* keep part of the allocation alive long enough to be tenured */
+					byte[] chunk = new byte[CHUNK_BYTES];
+					if (0 == (i % 4)) {
+						retained.addLast(chunk);
+						retainedBytes += CHUNK_BYTES;
+						if (retainedBytes > RETAINED_BYTES) {
+							retained.removeFirst();
+							retainedBytes -= CHUNK_BYTES;
+						}
+					}
+				}
+				log.poll(this::checkEvent);
+			}
+			log.poll(this::checkEvent);
+
+			logger.debug("cycles ended: " + endedCycles + ", nested cycles: " + nestedCycles
+					+ ", global cycles with nested scavenges: " + globalCyclesWithNestedScavenges
+					+ ", events lost: " + log.getLostEventCount());
+			Assert.assertEquals(log.getLostEventCount(), 0, "the ring is too small for the test");
+		}
+
+		Assert.assertNull(failure, failure);
+		Assert.assertTrue(globalCyclesWithNestedScavenges > 0, "no concurrent global cycle with nested scavenges was logged");
+	}
+}
@@ -30,6 +30,8 @@ import org.testng.AssertJUnit;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryNotificationInfo;
 import java.lang.management.MemoryUsage;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Hashtable;
@@ -59,6 +61,7 @@ import javax.management.ObjectName;
 import javax.management.ReflectionException;
 import javax.management.openmbean.CompositeData;
 
+import com.ibm.lang.management.AllocationSite;
 import com.ibm.lang.management.MemoryMXBean;
 
 import org.openj9.test.util.VersionCheck;
@@ -122,6 +125,10 @@ public class TestMemoryMXBean {
 		}
 		attribs.put("MaximumGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
 		attribs.put("CurrentGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("FinalizerWorkerThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("FinalizerCompletedCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("FinalizerDrainRate", new AttributeData(Double.TYPE.getName(), true, false, false));
+		attribs.put("AllocationSiteSampleInterval", new AttributeData(Long.TYPE.getName(), true, false, false));
 	}// end static initializer
 
 	private ExtendedMemoryMXBeanImpl mb;
@@ -738,10 +745,10 @@ public class TestMemoryMXBean {
 		AssertJUnit.assertNotNull(constructors);
 		AssertJUnit.assertTrue(constructors.length == 0);
 
-		// One public operation (JLM) + five from CILM.
+		// One public operation (JLM) + six from CILM.
 		MBeanOperationInfo[] operations = mbi.getOperations();
 		AssertJUnit.assertNotNull(operations);
-		AssertJUnit.assertTrue(operations.length == 6);
+		AssertJUnit.assertTrue(operations.length == 7);
 
 		// One notification
 		MBeanNotificationInfo[] notifications = mbi.getNotifications();
@@ -755,9 +762,9 @@ public class TestMemoryMXBean {
 		MBeanAttributeInfo[] attributes = mbi.getAttributes();
 		AssertJUnit.assertNotNull(attributes);
 		if (javaVersion >= 16) {
-			AssertJUnit.assertTrue(attributes.length == 24);
+			AssertJUnit.assertTrue(attributes.length == 28);
 		} else {
-			AssertJUnit.assertTrue(attributes.length == 26);
+			AssertJUnit.assertTrue(attributes.length == 30);
 		}
 		for (int i = 0; i < attributes.length; i++) {
 			MBeanAttributeInfo info = attributes[i];
@@ -863,6 +870,149 @@ public class TestMemoryMXBean {
 		}
 	}
 
+	/**
+	 * Test the getFinalizerDrainRate() API. The rate is sampled over a window kept by the VM, so reading it
+	 * through the bean and through the MBean server in quick succession must give the same value.
+	 */
+	@Test
+	public void testGetFinalizerDrainRate() {
+		try {
+			boolean matched = false;
+			/* a window may close between two reads, but not between every pair of them */
+			for (int i = 0; (i < 3) && !matched; i++) {
+				double rate = mb.getFinalizerDrainRate();
+				double serverRate = ((Double)mbs.getAttribute(objName, "FinalizerDrainRate")).doubleValue();
+				AssertJUnit.assertTrue(rate >= 0.0);
+				AssertJUnit.assertTrue(serverRate >= 0.0);
+				matched = (rate == serverRate);
+			}
+			AssertJUnit.assertTrue("reading FinalizerDrainRate changed its value", matched);
+			logger.debug("Finalizer drain rate = " + mb.getFinalizerDrainRate());
+		} catch (Throwable e) {
+			Assert.fail("Caught unexpected exception : " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Test the getAllocationSites() API. With -Xgc:allocationSiteProfiler the objects allocated by
+	 * allocateObjects() must be reported; otherwise no site is reported.
+	 */
+	@Test
+	public void testGetAllocationSites() {
+		try {
+			mb.getAllocationSites(-1);
+			Assert.fail("getAllocationSites(-1) should have thrown IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		AssertJUnit.assertEquals(0, mb.getAllocationSites(0).length);
+
+		long interval = mb.getAllocationSiteSampleInterval();
+		if (0 == interval) {
+			AssertJUnit.assertEquals(0, mb.getAllocationSites(10).length);
+			return;
+		}
+
+		Object[] keep = allocateObjects(64 * interval);
+		AllocationSite[] sites = mb.getAllocationSites(1024);
+		AllocationSite found = findAllocationSite(sites, AllocationSiteObject.class.getName());
+		AssertJUnit.assertNotNull("no site reported for " + AllocationSiteObject.class.getName(), found);
+		AssertJUnit.assertEquals(TestMemoryMXBean.class.getName(), found.getClassName());
+		AssertJUnit.assertEquals("allocateObjects", found.getMethodName());
+		AssertJUnit.assertTrue(found.getSamples() > 0);
+		AssertJUnit.assertTrue(found.getSampledBytes() >= (found.getSamples() * interval));
+		for (int i = 1; i < sites.length; i++) {
+			AssertJUnit.assertTrue(sites[i - 1].getSampledBytes() >= sites[i].getSampledBytes());
+		}
+		AssertJUnit.assertNotNull(keep);
+	}
+
+	/**
+	 * Test that the sites of unloaded classes are no longer reported, and that their entries are
+	 * reused: more classes are loaded, sampled and unloaded than the site table has entries, and the
+	 * site of each one must still be recorded.
+	 */
+	@Test
+	public void testGetAllocationSitesClassUnloading() throws Exception {
+		long interval = mb.getAllocationSiteSampleInterval();
+		if (0 == interval) {
+			return;
+		}
+		String allocatorName = UnloadableAllocator.class.getName();
+		URL[] classpath = { TestMemoryMXBean.class.getProtectionDomain().getCodeSource().getLocation() };
+		int rounds = Integer.getInteger("allocation.site.unload.rounds", 300).intValue();
+
+		for (int round = 0; round < rounds; round++) {
+			URLClassLoader loader = new URLClassLoader(classpath, null);
+			Class<?> allocatorClass = Class.forName(allocatorName, true, loader);
+			AssertJUnit.assertNotSame(UnloadableAllocator.class, allocatorClass);
+			Runnable allocator = (Runnable)allocatorClass.getDeclaredConstructor(Long.TYPE).newInstance(Long.valueOf(64 * interval));
+			allocator.run();
+			AssertJUnit.assertNotNull("round " + round + ": no site reported for " + allocatorName,
+					findAllocationSite(mb.getAllocationSites(1024), allocatorName));
+
+			allocator = null;
+			allocatorClass = null;
+			loader.close();
+			loader = null;
+			for (int gc = 0; gc < 10; gc++) {
+				System.gc();
+				if (null == findAllocationSite(mb.getAllocationSites(1024), allocatorName)) {
+					break;
+				}
+			}
+			AssertJUnit.assertNull("round " + round + ": site of an unloaded class reported",
+					findAllocationSite(mb.getAllocationSites(1024), allocatorName));
+		}
+	}
+
+	private static AllocationSite findAllocationSite(AllocationSite[] sites, String allocatedClassName) {
+		for (AllocationSite site : sites) {
+			if (allocatedClassName.equals(site.getAllocatedClassName())) {
+				return site;
+			}
+		}
+		return null;
+	}
+
+	private static Object[] allocateObjects(long bytes) {
+		Object[] keep = new Object[16];
+		for (long i = 0; i < (bytes / 32); i++) {
+			keep[(int)(i % keep.length)] = new AllocationSiteObject(i);
+		}
+		return keep;
+	}
+
+	static class AllocationSiteObject {
+		long value;
+		AllocationSiteObject next;
+
+		AllocationSiteObject(long value) {
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Loaded by a new class loader for each round of testGetAllocationSitesClassUnloading(), so that
+	 * the class it allocates can be unloaded. It only refers to bootstrap classes.
+	 */
+	public static class UnloadableAllocator implements Runnable {
+		private final long bytes;
+		private UnloadableAllocator keep;
+
+		public UnloadableAllocator(long bytes) {
+			this.bytes = bytes;
+		}
+
+		@Override
+		public void run() {
+			for (long i = 0; i < (bytes / 24); i++) {
+				keep = new UnloadableAllocator(i);
+			}
+			keep = null;
+		}
+	}
+
 	// -----------------------------------------------------------------
 	// Notification implementation tests follow ....
 	// -----------------------------------------------------------------
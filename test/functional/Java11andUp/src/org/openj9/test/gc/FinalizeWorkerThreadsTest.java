@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.gc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the finalize worker pool (-Xgc:finalizeWorkerThreads=N with N > 1).
+ *
+ * Finalizable objects are allocated from several class loaders. The finalizers of one class loader must
+ * run one at a time, each seeing the effects of the one before it, while the loaders are spread over the
+ * workers. System.runFinalization() must still return only once every pending finalizer has run, and the
+ * VM must still shut down when a finalizer blocks or exits the VM while the helpers are running.
+ */
+@Test(groups = { "level.sanity" })
+public class FinalizeWorkerThreadsTest {
+	private static final int LOADERS = 8;
+	private static final int OBJECTS_PER_LOADER = 512;
+	private static final int MAX_COLLECTIONS = 10;
+	private static final long SETTLE_MS = 200;
+	private static final long SHUTDOWN_TIMEOUT_S = 120;
+
+	/**
+	 * Finalization state of the objects of one class loader. position is a plain field: it only counts
+	 * every finalizer if the finalizers of the loader are ordered one after the other.
+	 */
+	public static final class LoaderLog {
+		private final AtomicInteger running = new AtomicInteger();
+		private volatile boolean overlapped;
+		private int position;
+
+		public void recordFinalizer() {
+			if (running.incrementAndGet() > 1) {
+				overlapped = true;
+			}
+			int current = position;
+			/* give another worker the chance to run a finalizer of this loader, if it is allowed to */
+			Thread.yield();
+			position = current + 1;
+			running.decrementAndGet();
+			FINALIZED.incrementAndGet();
+		}
+	}
+
+	private static final Map<ClassLoader, LoaderLog> LOGS = new IdentityHashMap<>();
+	private static final AtomicInteger FINALIZED = new AtomicInteger();
+
+	public static LoaderLog logFor(ClassLoader loader) {
+		synchronized (LOGS) {
+			return LOGS.computeIfAbsent(loader, l -> new LoaderLog());
+		}
+	}
+
+	/**
+	 * The finalizable class. Each LoaderIsolator defines its own copy, so the objects of different
+	 * isolators belong to different class loaders.
+	 */
+	public static class Recorder {
+		@Override
+		protected void finalize() {
+			logFor(getClass().getClassLoader()).recordFinalizer();
+		}
+	}
+
+	/**
+	 * Defines Recorder itself and delegates every other class to its parent.
+	 */
+	static final class LoaderIsolator extends ClassLoader {
+		LoaderIsolator(ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!Recorder.class.getName().equals(name)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> loaded = findLoadedClass(name);
+				if (null == loaded) {
+					String resource = name.replace('.', '/') + ".class";
+					try (InputStream in = getParent().getResourceAsStream(resource)) {
+						if (null == in) {
+							throw new ClassNotFoundException(name);
+						}
+						byte[] bytes = in.readAllBytes();
+						loaded = defineClass(name, bytes, 0, bytes.length);
+					} catch (IOException e) {
+						throw new ClassNotFoundException(name, e);
+					}
+				}
+				if (resolve) {
+					resolveClass(loaded);
+				}
+				return loaded;
+			}
+		}
+	}
+
+	private static Class<?>[] loadRecorderClasses() throws ClassNotFoundException {
+		Class<?>[] classes = new Class<?>[LOADERS];
+		for (int i = 0; i < LOADERS; i++) {
+			classes[i] = new LoaderIsolator(FinalizeWorkerThreadsTest.class.getClassLoader()).loadClass(Recorder.class.getName());
+			Assert.assertNotSame(classes[i], Recorder.class, "Recorder was not isolated");
+		}
+		return classes;
+	}
+
+	/* Allocate and drop the objects in a separate frame, so that no reference to them survives in this one */
+	private static void allocateFinalizableObjects(Class<?>[] classes) throws ReflectiveOperationException {
+		for (int i = 0; i < OBJECTS_PER_LOADER; i++) {
+			/* interleave the loaders, so that the finalize list mixes them */
+			for (Class<?> clazz : classes) {
+				clazz.getDeclaredConstructor().newInstance();
+			}
+		}
+	}
+
+	/**
+	 * Collect and run the finalizers until the expected number have run. Every System.runFinalization() must
+	 * leave nothing pending and no finalizer still running: a helper batch that is still in flight would
+	 * show up as finalizers completing after the call returned.
+	 */
+	private static void collectAndRunFinalization(int expected) throws InterruptedException {
+		for (int attempt = 0; (FINALIZED.get() < expected) && (attempt < MAX_COLLECTIONS); attempt++) {
+			System.gc();
+			System.runFinalization();
+			int finalized = FINALIZED.get();
+			Assert.assertEquals(ManagementFactory.getMemoryMXBean().getObjectPendingFinalizationCount(), 0,
+					"System.runFinalization() returned with finalizable objects pending");
+			Thread.sleep(SETTLE_MS);
+			Assert.assertEquals(FINALIZED.get(), finalized, "Finalizers ran after System.runFinalization() returned");
+		}
+		Assert.assertEquals(FINALIZED.get(), expected, "Not every finalizer ran");
+	}
+
+	public void testFinalizersOfOneLoaderRunInOrderAndRunFinalizationDrains() throws Exception {
+		Class<?>[] classes = loadRecorderClasses();
+
+		for (int round = 1; round <= 2; round++) {
+			allocateFinalizableObjects(classes);
+			collectAndRunFinalization(round * LOADERS * OBJECTS_PER_LOADER);
+
+			for (Class<?> clazz : classes) {
+				LoaderLog log = logFor(clazz.getClassLoader());
+				Assert.assertFalse(log.overlapped, "Finalizers of one class loader ran concurrently");
+				Assert.assertEquals(log.position, round * OBJECTS_PER_LOADER, "Finalizers of one class loader were not ordered");
+			}
+		}
+	}
+
+	/**
+	 * Runs ShutdownChild in a new VM with the -X options of this one, and checks that it exits in time.
+	 */
+	private static void runShutdownChild(String mode, int expectedExitValue) throws Exception {
+		List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+			if (argument.startsWith("-X")) {
+				command.add(argument);
+			}
+		}
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(ShutdownChild.class.getName());
+		command.add(mode);
+
+		Process child = new ProcessBuilder(command).inheritIO().start();
+		if (!child.waitFor(SHUTDOWN_TIMEOUT_S, TimeUnit.SECONDS)) {
+			child.destroyForcibly();
+			Assert.fail("VM did not shut down within " + SHUTDOWN_TIMEOUT_S + "s with a " + mode + " finalizer: " + command);
+		}
+		Assert.assertEquals(child.exitValue(), expectedExitValue, "Unexpected exit value with a " + mode + " finalizer: " + command);
+	}
+
+	public void testShutdownWithBlockedFinalizer() throws Exception {
+		runShutdownChild(ShutdownChild.MODE_BLOCK, 0);
+	}
+
+	public void testShutdownFromFinalizer() throws Exception {
+		runShutdownChild(ShutdownChild.MODE_EXIT, ShutdownChild.EXIT_VALUE);
+	}
+
+	/**
+	 * Leaves the workers busy when the VM shuts down: one finalizer either blocks for good or exits
+	 * the VM, while the other workers are still running the remaining finalizers.
+	 */
+	public static final class ShutdownChild {
+		static final String MODE_BLOCK = "block";
+		static final String MODE_EXIT = "exit";
+		static final int EXIT_VALUE = 42;
+		private static final int OBJECTS = 4096;
+		private static final Object BLOCKER = new Object();
+		private static final AtomicInteger STARTED = new AtomicInteger();
+
+		private final boolean special;
+		private final String mode;
+
+		private ShutdownChild(boolean special, String mode) {
+			this.special = special;
+			this.mode = mode;
+		}
+
+		@Override
+		protected void finalize() throws InterruptedException {
+			STARTED.incrementAndGet();
+			if (special) {
+				if (MODE_EXIT.equals(mode)) {
+					System.exit(EXIT_VALUE);
+				}
+				synchronized (BLOCKER) {
+					for (;;) {
+						BLOCKER.wait();
+					}
+				}
+			}
+			Thread.sleep(1);
+		}
+
+		private static void allocate(String mode) {
+			for (int i = 0; i < OBJECTS; i++) {
+				new ShutdownChild(0 == (i % (OBJECTS / 4)), mode);
+			}
+		}
+
+		public static void main(String[] args) throws InterruptedException {
+			String mode = args[0];
+			allocate(mode);
+			System.gc();
+			/* wait until the workers are busy, but not for them to finish */
+			while (0 == STARTED.get()) {
+				Thread.sleep(10);
+			}
+			if (MODE_EXIT.equals(mode)) {
+				/* the finalizer exits the VM */
+				for (;;) {
+					Thread.sleep(1000);
+				}
+			}
+		}
+	}
+}
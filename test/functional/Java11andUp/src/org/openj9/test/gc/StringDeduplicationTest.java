@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package org.openj9.test.gc;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests -Xgc:stringDeduplication. Must be run with --add-opens java.base/java.lang=ALL-UNNAMED
+ * so that the value arrays of the Strings can be compared.
+ *
+ * Strings with equal contents are created with distinct value arrays. Once the Strings are tenured
+ * (gencon) or copied out of eden (balanced), the deduplication thread should point them at a single
+ * array. The contents and the sharing must then survive further scavenges or copy-forwards, and
+ * global collections with compaction (-Xcompactexplicitgc).
+ */
+@Test(groups = { "level.sanity" })
+public class StringDeduplicationTest {
+	private static final int DISTINCT_CONTENTS = 16;
+	private static final int COPIES = 64;
+	private static final long DEDUPLICATION_TIMEOUT_MS = 60 * 1000;
+
+	private static volatile Object sink;
+
+	private static String content(int index) {
+		return "StringDeduplicationTest content " + index + " " + "x".repeat(index);
+	}
+
+	private static Object valueArray(String string) throws ReflectiveOperationException {
+		Field valueField = String.class.getDeclaredField("value");
+		valueField.setAccessible(true);
+		return valueField.get(string);
+	}
+
+	private static int countValueArrays(String[] copies) throws ReflectiveOperationException {
+		Set<Object> arrays = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		for (String copy : copies) {
+			arrays.add(valueArray(copy));
+		}
+		return arrays.size();
+	}
+
+	private static boolean isDeduplicated(String[][] strings) throws ReflectiveOperationException {
+		for (String[] copies : strings) {
+			if (1 != countValueArrays(copies)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/* Allocate enough short lived objects to fill the nursery or eden a few times */
+	private static void triggerYoungCollections() {
+		for (int i = 0; i < 16 * 1024; i++) {
+			sink = new byte[1024];
+		}
+	}
+
+	private static void checkStrings(String[][] strings, String when) throws ReflectiveOperationException {
+		for (int i = 0; i < DISTINCT_CONTENTS; i++) {
+			String expected = content(i);
+			for (String copy : strings[i]) {
+				Assert.assertEquals(copy, expected, "String contents changed " + when);
+				Assert.assertEquals(copy.hashCode(), expected.hashCode(), "String hash code changed " + when);
+			}
+			Assert.assertEquals(countValueArrays(strings[i]), 1, "Value arrays are no longer shared " + when);
+		}
+	}
+
+	public void testDuplicateValueArraysAreShared() throws Exception {
+		String[][] strings = new String[DISTINCT_CONTENTS][COPIES];
+		for (int i = 0; i < DISTINCT_CONTENTS; i++) {
+			char[] chars = content(i).toCharArray();
+			for (int j = 0; j < COPIES; j++) {
+				strings[i][j] = new String(chars);
+			}
+			Assert.assertEquals(countValueArrays(strings[i]), COPIES, "Strings were created with shared value arrays");
+		}
+
+		long deadline = System.currentTimeMillis() + DEDUPLICATION_TIMEOUT_MS;
+		while (!isDeduplicated(strings)) {
+			if (System.currentTimeMillis() > deadline) {
+				StringBuilder arrayCounts = new StringBuilder();
+				for (String[] copies : strings) {
+					arrayCounts.append(' ').append(countValueArrays(copies));
+				}
+				Assert.fail("Strings were not deduplicated within " + DEDUPLICATION_TIMEOUT_MS + "ms, value arrays per content:" + arrayCounts);
+			}
+			triggerYoungCollections();
+			/* deduplication runs on its own thread after the collection */
+			Thread.sleep(10);
+		}
+		checkStrings(strings, "by deduplication");
+
+		for (int i = 0; i < 8; i++) {
+			triggerYoungCollections();
+		}
+		checkStrings(strings, "after young collections");
+
+		System.gc();
+		System.gc();
+		checkStrings(strings, "after global collections with compaction");
+
+		triggerYoungCollections();
+		checkStrings(strings, "after young collections following compaction");
+	}
+}
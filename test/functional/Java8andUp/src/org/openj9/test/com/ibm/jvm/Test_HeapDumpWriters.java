@@ -0,0 +1,194 @@
+package org.openj9.test.com.ibm.jvm;
+
+/*******************************************************************************
+ * Copyright (c) 2020, 2020 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageFactory;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.jvm.Dump;
+
+/**
+ * Writes portable heap dumps with the single threaded, the parallel (opts=PHD+PARALLEL) and the
+ * compressed (opts=PHD+GZIP) writers, reads each of them back with DTFJ and checks that every
+ * retained object is in the dump exactly once. The heap is made large enough for the parallel
+ * writer to split regions into several slices.
+ */
+@Test(groups = { "level.extended" })
+public class Test_HeapDumpWriters {
+
+	private static final int RETAINED_OBJECTS = 200000;
+	private static final int RETAINED_ARRAYS = 64;
+	private static final int ARRAY_BYTES = 512 * 1024;
+
+	private static final String COMPRESSED_SUFFIX = ".gz";
+
+	private static final class Retained {
+		final int index;
+		Retained next;
+
+		Retained(int index) {
+			this.index = index;
+		}
+	}
+
+	private static final class RetainedArray {
+		final byte[] data = new byte[ARRAY_BYTES];
+	}
+
+	private Object[] retained;
+	private File dumpDirectory;
+
+	@BeforeClass
+	public void setUp() throws Exception {
+		/* interleave small objects with large arrays so the objects spread over the whole region */
+		retained = new Object[RETAINED_OBJECTS + RETAINED_ARRAYS];
+		int arrayInterval = RETAINED_OBJECTS / RETAINED_ARRAYS;
+		int slot = 0;
+		Retained previous = null;
+		for (int i = 0; i < RETAINED_OBJECTS; i++) {
+			Retained object = new Retained(i);
+			if (null != previous) {
+				previous.next = object;
+			}
+			previous = object;
+			retained[slot++] = object;
+			if (0 == (i % arrayInterval) && (slot < retained.length)) {
+				retained[slot++] = new RetainedArray();
+			}
+		}
+		dumpDirectory = Files.createTempDirectory("phdwriters").toFile();
+	}
+
+	@AfterClass
+	public void tearDown() {
+		File[] files = dumpDirectory.listFiles();
+		if (null != files) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		dumpDirectory.delete();
+	}
+
+	@Test
+	public void testSerial() throws Exception {
+		checkDump("serial", "PHD", false);
+	}
+
+	@Test
+	public void testParallel() throws Exception {
+		checkDump("parallel", "PHD+PARALLEL", false);
+	}
+
+	@Test
+	public void testCompressed() throws Exception {
+		checkDump("compressed", "PHD+GZIP", true);
+	}
+
+	@Test
+	public void testParallelCompressed() throws Exception {
+		checkDump("parallelcompressed", "PHD+PARALLEL+GZIP", true);
+	}
+
+	private void checkDump(String name, String options, boolean compressed) throws Exception {
+		File requested = new File(dumpDirectory, name + ".phd");
+		String written = Dump.triggerDump("heap:file=" + requested.getAbsolutePath() + ",opts=" + options);
+
+		Assert.assertNotNull(written, "no heap dump was written for opts=" + options);
+		Assert.assertEquals(written.endsWith(COMPRESSED_SUFFIX), compressed, "unexpected name " + written + " for opts=" + options);
+
+		File dump = new File(written);
+		Assert.assertTrue(dump.isFile(), written + " does not exist");
+
+		String retainedName = Retained.class.getName().replace('.', '/');
+		String arrayName = RetainedArray.class.getName().replace('.', '/');
+		Set<Long> addresses = new HashSet<>();
+		int retainedObjects = 0;
+		int retainedArrays = 0;
+
+		ImageFactory factory = (ImageFactory)Class.forName("com.ibm.dtfj.phd.PHDImageFactory").newInstance();
+		Image image = factory.getImage(dump);
+		try {
+			for (Iterator<?> spaces = image.getAddressSpaces(); spaces.hasNext();) {
+				Object space = spaces.next();
+				if (!(space instanceof ImageAddressSpace)) {
+					continue;
+				}
+				for (Iterator<?> processes = ((ImageAddressSpace)space).getProcesses(); processes.hasNext();) {
+					Object process = processes.next();
+					if (!(process instanceof ImageProcess)) {
+						continue;
+					}
+					for (Iterator<?> runtimes = ((ImageProcess)process).getRuntimes(); runtimes.hasNext();) {
+						Object runtime = runtimes.next();
+						if (!(runtime instanceof JavaRuntime)) {
+							continue;
+						}
+						for (Iterator<?> heaps = ((JavaRuntime)runtime).getHeaps(); heaps.hasNext();) {
+							Object heap = heaps.next();
+							if (!(heap instanceof JavaHeap)) {
+								continue;
+							}
+							for (Iterator<?> objects = ((JavaHeap)heap).getObjects(); objects.hasNext();) {
+								Object element = objects.next();
+								Assert.assertTrue(element instanceof JavaObject, written + " has corrupt data " + element);
+								JavaObject object = (JavaObject)element;
+								long address = object.getID().getAddress();
+
+								/* an object written by two slices, or at the wrong place, would show up twice */
+								Assert.assertTrue(addresses.add(address), written + " has the object at 0x" + Long.toHexString(address) + " twice");
+
+								String className = object.getJavaClass().getName();
+								if (retainedName.equals(className)) {
+									retainedObjects += 1;
+								} else if (arrayName.equals(className)) {
+									retainedArrays += 1;
+								}
+							}
+						}
+					}
+				}
+			}
+		} finally {
+			image.close();
+		}
+
+		Assert.assertEquals(retainedObjects, RETAINED_OBJECTS, written + " has the wrong number of " + retainedName);
+		Assert.assertEquals(retainedArrays, RETAINED_ARRAYS, written + " has the wrong number of " + arrayName);
+	}
+}
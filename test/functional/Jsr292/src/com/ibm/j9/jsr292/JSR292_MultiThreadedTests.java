@@ -31,6 +31,7 @@ import java.lang.invoke.MethodType;
 import java.lang.invoke.MutableCallSite;
 import java.lang.invoke.SwitchPoint;
 import java.lang.invoke.VolatileCallSite;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * This test case class contains all multi-threaded tests for VolatileCallSite, MutableCallSite and SwitchPoint 
@@ -328,4 +329,119 @@ public class JSR292_MultiThreadedTests {
 			}
 		}
 	}
+
+	private static final int CONCURRENT_LOOKUP_THREADS = 8;
+	private static final int CONCURRENT_LOOKUP_ITERATIONS = 100000;
+
+	/**
+	 * Interns MethodTypes that mention this class, so that no other test has interned them yet, from several threads
+	 * at once. Every thread must get back the same instance for a given type, from its first call to its last,
+	 * and that instance must be the one the main thread gets afterwards.
+	 * @throws Throwable
+	 */
+	@Test(groups = { "level.extended" })
+	public void testMethodType_ConcurrentIntern() throws Throwable {
+		final Class<?>[] parameterTypes = { int.class, long.class, String.class, Object.class, int[].class, Thread.class };
+		final int typeCount = parameterTypes.length * parameterTypes.length;
+		WorkerThread_Lookup[] workers = new WorkerThread_Lookup[CONCURRENT_LOOKUP_THREADS];
+		CountDownLatch startGate = new CountDownLatch( 1 );
+		for ( int i = 0 ; i < workers.length ; i++ ) {
+			workers[i] = new WorkerThread_Lookup( startGate, typeCount, true ) {
+				Object lookup( int index ) throws Throwable {
+					return MethodType.methodType( JSR292_MultiThreadedTests.class, parameterTypes[index / parameterTypes.length], parameterTypes[index % parameterTypes.length] );
+				}
+			};
+		}
+		runLookupWorkers( startGate, workers );
+
+		for ( int index = 0 ; index < typeCount ; index++ ) {
+			MethodType expected = MethodType.methodType( JSR292_MultiThreadedTests.class, parameterTypes[index / parameterTypes.length], parameterTypes[index % parameterTypes.length] );
+			for ( WorkerThread_Lookup worker : workers ) {
+				AssertJUnit.assertSame( "MethodType was interned more than once: " + expected, expected, worker.results[index] );
+			}
+		}
+	}
+
+	/**
+	 * Looks up the same virtual method from several threads at once through the handle cache. Threads that miss
+	 * the cache at the same time may each create a handle, but once the cache is populated every thread must get
+	 * the cached instance, with the interned MethodType, and the handle must invoke the method.
+	 * @throws Throwable
+	 */
+	@Test(groups = { "level.extended" })
+	public void testFindVirtual_ConcurrentLookup() throws Throwable {
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		final MethodType type = MethodType.methodType( int.class, int.class, int.class );
+		WorkerThread_Lookup[] workers = new WorkerThread_Lookup[CONCURRENT_LOOKUP_THREADS];
+		CountDownLatch startGate = new CountDownLatch( 1 );
+		for ( int i = 0 ; i < workers.length ; i++ ) {
+			workers[i] = new WorkerThread_Lookup( startGate, 1, false ) {
+				Object lookup( int index ) throws Throwable {
+					return lookup.findVirtual( SamePackageExample.class, "addPublic", type );
+				}
+			};
+		}
+		runLookupWorkers( startGate, workers );
+
+		MethodHandle expected = lookup.findVirtual( SamePackageExample.class, "addPublic", type );
+		AssertJUnit.assertEquals( 3, (int) expected.invokeExact( new SamePackageExample(), 1, 2 ) );
+		AssertJUnit.assertSame( type, expected.type().dropParameterTypes( 0, 1 ) );
+		for ( WorkerThread_Lookup worker : workers ) {
+			AssertJUnit.assertSame( "The handle cache returned different handles for the same method", expected, worker.last[0] );
+		}
+	}
+
+	private static void runLookupWorkers( CountDownLatch startGate, WorkerThread_Lookup[] workers ) throws Throwable {
+		for ( WorkerThread_Lookup worker : workers ) {
+			worker.start();
+		}
+		startGate.countDown();
+		for ( WorkerThread_Lookup worker : workers ) {
+			worker.join();
+		}
+		for ( WorkerThread_Lookup worker : workers ) {
+			if ( worker.failure != null ) {
+				throw worker.failure;
+			}
+		}
+	}
+
+	/**
+	 * Worker thread to aid in the concurrent MethodType and handle cache tests. Keeps the first result and the
+	 * last result of the lookup of each index. If stable is set, fails as soon as the result of an index changes.
+	 */
+	private static abstract class WorkerThread_Lookup extends Thread {
+		private final CountDownLatch startGate;
+		final Object[] results;
+		final Object[] last;
+		private final boolean stable;
+		volatile Throwable failure;
+
+		WorkerThread_Lookup( CountDownLatch startGate, int count, boolean stable ) {
+			this.startGate = startGate;
+			this.stable = stable;
+			this.results = new Object[count];
+			this.last = new Object[count];
+		}
+
+		abstract Object lookup( int index ) throws Throwable;
+
+		public void run() {
+			try {
+				startGate.await();
+				for ( int i = 0 ; i < CONCURRENT_LOOKUP_ITERATIONS ; i++ ) {
+					int index = i % results.length;
+					Object result = lookup( index );
+					if ( results[index] == null ) {
+						results[index] = result;
+					} else if ( stable && ( result != results[index] ) ) {
+						throw new AssertionError( "Interned value changed: " + result );
+					}
+					last[index] = result;
+				}
+			} catch ( Throwable t ) {
+				failure = t;
+			}
+		}
+	}
 }
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.j9.jsr292.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * Measures the throughput of MethodType.methodType() and Lookup.findVirtual() when many threads
+ * call them at the same time, to show how the MethodType intern table and the per-class handle
+ * caches scale with the number of threads. Both calls hit their table after the first iteration,
+ * so the benchmark measures the lookup path and its contention, not the creation of new entries.
+ *
+ * Arguments: number of threads, number of iterations per thread (default 1000000).
+ */
+public class ConcurrentLookupBenchmark {
+
+	private static final Class<?>[] PARAMETER_TYPES = { int.class, long.class, String.class, Object.class, int[].class, Thread.class };
+
+	public int add(int a, int b) {
+		return a + b;
+	}
+
+	private interface Operation {
+		Object run(int iteration) throws Throwable;
+	}
+
+	public static void main(String[] args) {
+		new ConcurrentLookupBenchmark().run(args);
+	}
+
+	public void run(String[] args) {
+		try {
+			/* check the arguments */
+			if (args.length < 1) {
+				System.out.println("ERROR: Missing required arguments !");
+				System.out.println("	First argument is the number of threads");
+				System.out.println("	Second, optional argument is the number of iterations per thread");
+				return;
+			}
+
+			int threadCount;
+			int iterations = 1000000;
+			try {
+				threadCount = Integer.parseInt(args[0]);
+				if (args.length > 1) {
+					iterations = Integer.parseInt(args[1]);
+				}
+			} catch (Exception e) {
+				System.out.println("ERROR: failed to parse the arguments: " + e);
+				return;
+			}
+
+			measure("MethodType.methodType", threadCount, iterations, new Operation() {
+				public Object run(int iteration) {
+					Class<?> parameterType = PARAMETER_TYPES[iteration % PARAMETER_TYPES.length];
+					return MethodType.methodType(void.class, parameterType, parameterType);
+				}
+			});
+
+			final MethodHandles.Lookup lookup = MethodHandles.lookup();
+			final MethodType type = MethodType.methodType(int.class, int.class, int.class);
+			final ConcurrentLookupBenchmark receiver = this;
+			measure("Lookup.findVirtual", threadCount, iterations, new Operation() {
+				public Object run(int iteration) throws Throwable {
+					MethodHandle handle = lookup.findVirtual(ConcurrentLookupBenchmark.class, "add", type);
+					if ((iteration % 1000) == 0) {
+						/* make sure the handle is usable */
+						if (3 != (int)handle.invokeExact(receiver, 1, 2)) {
+							throw new AssertionError("Wrong result from " + handle);
+						}
+					}
+					return handle;
+				}
+			});
+		} catch (Exception e) {
+			System.out.println("Unexpected exception:" + e);
+			e.printStackTrace();
+		}
+	}
+
+	private static void measure(String name, int threadCount, final int iterations, final Operation operation) throws Exception {
+		final CyclicBarrier barrier = new CyclicBarrier(threadCount + 1);
+		final Object[] results = new Object[threadCount];
+		Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			final int index = i;
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						barrier.await();
+						Object result = null;
+						for (int j = 0; j < iterations; j++) {
+							result = operation.run(j);
+						}
+						/* keep the results live */
+						results[index] = result;
+					} catch (Throwable t) {
+						System.out.println("Unexpected exception:" + t);
+						t.printStackTrace();
+					}
+				}
+			};
+			threads[i].start();
+		}
+
+		barrier.await();
+		long startTime = System.nanoTime();
+		for (int i = 0; i < threadCount; i++) {
+			threads[i].join();
+		}
+		long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1000000);
+
+		long operations = (long)threadCount * iterations;
+		System.out.println(name + ": " + threadCount + " threads, " + operations + " operations in " + elapsedMillis + " ms (" + (operations / elapsedMillis) + " ops/ms)");
+	}
+}
@@ -0,0 +1,128 @@
+package j9vm.test.benchmark.zipfile;
+
+/*******************************************************************************
+ * Copyright (c) 2021, 2021 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Loads the test classes of a jar from many threads at the same time, each thread with its own
+ * URLClassLoader, to measure how class loading from the shared class cache scales with the number
+ * of threads. Run it twice with the same -Xshareclasses option: the first run populates the cache,
+ * the second one finds every class in it.
+ */
+public class ParallelClassloadingBenchmark {
+
+	public static void main(String[] args) {
+		new ParallelClassloadingBenchmark().run(args);
+	}
+
+	public void run(String[] args) {
+		try {
+			/* check the arguments */
+			if (args.length < 2) {
+				System.out.println("ERROR: Missing required arguments !");
+				System.out.println("	First argument is jar containing test entries");
+				System.out.println("	Second argument is the number of class loading threads");
+				return;
+			}
+
+			final File jarFile = new File(args[0]);
+			if (jarFile.canRead() != true) {
+				System.out.println("ERROR: cannot read jar file specified !");
+				return;
+			}
+
+			int threadCount;
+			try {
+				threadCount = Integer.parseInt(args[1]);
+			} catch (Exception e) {
+				System.out.println("ERROR: failed to parse number of threads: " + e);
+				return;
+			}
+
+			final List<String> classNames = new ArrayList<String>();
+			ZipFile zipFile = new ZipFile(jarFile);
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				String entryName = entries.nextElement().getName();
+				if (entryName.endsWith(".class") && entryName.startsWith("j9vm/test/benchmark/zipfile/testclasses")) {
+					classNames.add(entryName.substring(0, entryName.length() - 6).replace('/', '.'));
+				}
+			}
+			zipFile.close();
+			System.out.println("Loaded " + args[0] + " which contains " + classNames.size() + " test classes");
+
+			final URL[] urls = new URL[] { jarFile.toURI().toURL() };
+			final CyclicBarrier barrier = new CyclicBarrier(threadCount + 1);
+			final long[] elapsedTimes = new long[threadCount];
+			Thread[] threads = new Thread[threadCount];
+			for (int i = 0; i < threadCount; i++) {
+				final int index = i;
+				threads[i] = new Thread() {
+					public void run() {
+						try {
+							/* the parent cannot find the test classes, so every thread defines its own copy */
+							URLClassLoader loader = new URLClassLoader(urls, null);
+							barrier.await();
+							long startTime = System.nanoTime();
+							for (String className : classNames) {
+								Class.forName(className, false, loader);
+							}
+							elapsedTimes[index] = System.nanoTime() - startTime;
+						} catch (Exception e) {
+							System.out.println("Unexpected exception:" + e);
+							e.printStackTrace();
+						}
+					}
+				};
+				threads[i].start();
+			}
+
+			barrier.await();
+			long startTime = System.nanoTime();
+			for (int i = 0; i < threadCount; i++) {
+				threads[i].join();
+			}
+			long endTime = System.nanoTime();
+
+			long maxThreadTime = 0;
+			for (int i = 0; i < threadCount; i++) {
+				maxThreadTime = Math.max(maxThreadTime, elapsedTimes[i]);
+			}
+			long classCount = (long)classNames.size() * threadCount;
+			System.out.println("Took " + (endTime - startTime) + " nanoseconds for " + threadCount + " threads to read in " + classCount + " classes");
+			System.out.println("Slowest thread took " + maxThreadTime + " nanoseconds, " + ((endTime - startTime) / classCount) + " nanoseconds per class overall");
+		} catch (Exception e) {
+			System.out.println("Unexpected exception:" + e);
+			e.printStackTrace();
+		}
+	}
+}
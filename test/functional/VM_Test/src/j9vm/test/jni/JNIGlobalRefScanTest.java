@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package j9vm.test.jni;
+
+/**
+ * Creates many JNI global and weak global references and checks that they survive collections.
+ *
+ * Every object is referenced by a weak global reference, but only the even ones are also referenced by a
+ * global reference, and only every fourth one from Java. The objects held by a global reference must still
+ * be reachable, unchanged, through both references after each collection, and the weak references must not
+ * return an object other than the one they were created for. Run by JNIGlobalRefScanTestRunner, which also
+ * checks the per GC thread root scan times that -Xgc:verboseRootScanTimes reports.
+ */
+public class JNIGlobalRefScanTest {
+	private static final int OBJECTS = 50000;
+	private static final int COLLECTIONS = 8;
+	private static final int CHURN_BYTES = 32 * 1024 * 1024;
+
+	private static final class Payload {
+		final int id;
+		final int check;
+		final byte[] data;
+
+		Payload(int id) {
+			this.id = id;
+			this.check = checksum(id);
+			this.data = new byte[16 + (id % 64)];
+			this.data[0] = (byte)id;
+		}
+
+		boolean isIntact(int expectedId) {
+			return (expectedId == id) && (checksum(id) == check) && (data.length == (16 + (id % 64))) && (data[0] == (byte)id);
+		}
+	}
+
+	public static Object churn;
+
+	private static int checksum(int id) {
+		return (id * 31) ^ 0x3c3c3c3c;
+	}
+
+	private static void fail(String message) {
+		System.out.println("**FAILURE** " + message);
+		throw new RuntimeException(message);
+	}
+
+	/* Move the objects around with a few young collections as well as the global ones */
+	private static void churn() {
+		for (int allocated = 0; allocated < CHURN_BYTES; allocated += 1024) {
+			churn = new byte[1024];
+		}
+		churn = null;
+	}
+
+	private static void verify(long[] globalRefs, long[] weakRefs, Payload[] strong, int collection) {
+		int cleared = 0;
+		for (int i = 0; i < OBJECTS; i++) {
+			Object weak = getRef(weakRefs[i]);
+			if (0 == (i % 2)) {
+				Object global = getRef(globalRefs[i / 2]);
+				if (!(global instanceof Payload) || !((Payload)global).isIntact(i)) {
+					fail("global reference to object " + i + " lost its object after collection " + collection);
+				}
+				if (weak != global) {
+					fail("weak reference to globally referenced object " + i + " does not match after collection " + collection);
+				}
+			} else if (null == weak) {
+				cleared += 1;
+			} else if (!((Payload)weak).isIntact(i)) {
+				fail("weak reference to object " + i + " returned another object after collection " + collection);
+			}
+			if ((0 == (i % 4)) && (weak != strong[i / 4])) {
+				fail("weak reference to strongly held object " + i + " does not match after collection " + collection);
+			}
+		}
+		if ((COLLECTIONS - 1 == collection) && (0 == cleared)) {
+			fail("no weak reference to an unreachable object was cleared");
+		}
+	}
+
+	public static void main(String[] args) {
+		try {
+			System.loadLibrary("j9ben");
+		} catch (UnsatisfiedLinkError e) {
+			System.out.println("Problem opening JNI library");
+			e.printStackTrace();
+			throw new RuntimeException();
+		}
+
+		Object[] all = new Object[OBJECTS];
+		Object[] even = new Object[OBJECTS / 2];
+		Payload[] strong = new Payload[OBJECTS / 4];
+		for (int i = 0; i < OBJECTS; i++) {
+			Payload payload = new Payload(i);
+			all[i] = payload;
+			if (0 == (i % 2)) {
+				even[i / 2] = payload;
+			}
+			if (0 == (i % 4)) {
+				strong[i / 4] = payload;
+			}
+		}
+		long[] globalRefs = newRefs(even, false);
+		long[] weakRefs = newRefs(all, true);
+		if ((null == globalRefs) || (null == weakRefs)) {
+			fail("could not create the references");
+		}
+		/* from here on the odd objects are only weakly reachable */
+		all = null;
+		even = null;
+
+		for (int collection = 0; collection < COLLECTIONS; collection++) {
+			churn();
+			System.gc();
+			verify(globalRefs, weakRefs, strong, collection);
+		}
+
+		deleteRefs(globalRefs, false);
+		deleteRefs(weakRefs, true);
+	}
+
+	private static native long[] newRefs(Object[] objects, boolean weak);
+
+	private static native Object getRef(long ref);
+
+	private static native void deleteRefs(long[] refs, boolean weak);
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package j9vm.test.jni;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import j9vm.runner.Runner;
+
+/**
+ * Runs JNIGlobalRefScanTest with -Xgc:verboseRootScanTimes and checks the verbose GC output for the
+ * root-scan element that each GC thread reports:
+ *
+ *		<root-scan gcthreadid="1" timems="0.412" threadsms="0.031" />
+ *
+ * The global reference puddles are scanned in parallel, so the collections of the test must report
+ * the root scan time of at least one GC thread, and the time spent scanning threads is part of it.
+ */
+public class JNIGlobalRefScanTestRunner extends Runner {
+
+	private static final Pattern ROOT_SCAN = Pattern.compile("<root-scan gcthreadid=\"(\\d+)\" timems=\"(\\d+\\.\\d{3})\" threadsms=\"(\\d+\\.\\d{3})\" />");
+
+	public JNIGlobalRefScanTestRunner(String className, String exeName, String bootClassPath, String userClassPath, String javaVersion) {
+		super(className, exeName, bootClassPath, userClassPath, javaVersion);
+	}
+
+	@Override
+	public String getCustomCommandLineOptions() {
+		return super.getCustomCommandLineOptions() + " -verbose:gc -Xgc:verboseRootScanTimes -Xgcthreads4 ";
+	}
+
+	private int checkRootScanElements(byte[] output) throws IOException {
+		int found = 0;
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(output)));
+		String line = null;
+		while (null != (line = reader.readLine())) {
+			Matcher matcher = ROOT_SCAN.matcher(line);
+			if (matcher.find()) {
+				double scanTime = Double.parseDouble(matcher.group(2));
+				double threadsTime = Double.parseDouble(matcher.group(3));
+				if (threadsTime > scanTime) {
+					System.out.println("Thread scan time exceeds the root scan time: " + line);
+					return -1;
+				}
+				found += 1;
+			}
+		}
+		return found;
+	}
+
+	@Override
+	public boolean run() {
+		if (!super.run()) {
+			return false;
+		}
+		try {
+			int inFound = checkRootScanElements(inCollector.getOutputAsByteArray());
+			int errFound = checkRootScanElements(errCollector.getOutputAsByteArray());
+			if ((inFound < 0) || (errFound < 0)) {
+				return false;
+			}
+			if (0 == (inFound + errFound)) {
+				System.out.println("No <root-scan> element in the verbose GC output");
+				return false;
+			}
+			System.out.println("Found " + (inFound + errFound) + " <root-scan> elements");
+		} catch (IOException e) {
+			e.printStackTrace();
+			return false;
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package j9vm.test.sharedclasses;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CyclicBarrier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * This class is used by ConcurrentLookupTestRunner to look up classes in the shared class cache
+ * from many threads while other threads add them.
+ * Its usage is as follows:
+ * 		1. java TestCase coldcache <jarfile>
+ * 			writes a jar of generated classes to jarfile, then loads them from every thread. The first
+ * 			thread to load a class adds it to the cache, the others find it there.
+ * 		2. java TestCase warmcache <jarfile>
+ * 			loads the classes of jarfile from every thread. Every class is found in the cache.
+ *
+ * Each thread loads the classes with its own class loader, starting at a different class, so that
+ * lookups run against adds to the same hashtable buckets. There are enough classes for the
+ * hashtable of the ROMClass manager to be replaced by a larger copy while the lookups run.
+ * A class whose lookup returned the wrong ROMClass has the wrong name or loader.
+ */
+public class ConcurrentLookupTest {
+	private static final int CLASS_COUNT = 6000;
+	private static final int THREAD_COUNT = 8;
+	private static final String CLASS_NAME_PREFIX = "j9vm/test/sharedclasses/generated/Generated";
+
+	public static void showUsage() {
+		System.err.println("Usage:");
+		System.err.println("java TestCase coldcache <absolute path to jarfile>");
+		System.err.println("java TestCase warmcache <absolute path to jarfile>");
+		System.exit(1);
+	}
+
+	public static void main(String args[]) throws Exception {
+		if (args.length != 2) {
+			showUsage();
+		}
+		File jarFile = new File(args[1]);
+		if (args[0].equals("coldcache")) {
+			writeJar(jarFile);
+		} else if (!args[0].equals("warmcache")) {
+			showUsage();
+		}
+
+		final URL[] urls = new URL[] { jarFile.toURI().toURL() };
+		final CyclicBarrier barrier = new CyclicBarrier(THREAD_COUNT);
+		final String[] failures = new String[THREAD_COUNT];
+		Thread[] threads = new Thread[THREAD_COUNT];
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			final int index = i;
+			threads[i] = new Thread() {
+				public void run() {
+					failures[index] = loadClasses(urls, barrier, index * (CLASS_COUNT / THREAD_COUNT));
+				}
+			};
+			threads[i].start();
+		}
+
+		boolean passed = true;
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			threads[i].join();
+			if (failures[i] != null) {
+				System.err.println("Error: thread " + i + " " + failures[i]);
+				passed = false;
+			}
+		}
+		if (!passed) {
+			System.exit(1);
+		}
+		System.out.println("Loaded " + CLASS_COUNT + " classes from " + THREAD_COUNT + " threads");
+	}
+
+	/**
+	 * Load every generated class with a new class loader, starting at class firstIndex.
+	 * @return null, or a description of the first class that was not loaded correctly
+	 */
+	static String loadClasses(URL[] urls, CyclicBarrier barrier, int firstIndex) {
+		try {
+			/* the parent cannot find the generated classes, so every thread defines its own copy */
+			URLClassLoader loader = new URLClassLoader(urls, null);
+			barrier.await();
+			for (int i = 0; i < CLASS_COUNT; i++) {
+				String className = getClassName((firstIndex + i) % CLASS_COUNT).replace('/', '.');
+				Class<?> clazz = Class.forName(className, false, loader);
+				if (!clazz.getName().equals(className)) {
+					return "loaded " + clazz.getName() + " for " + className;
+				}
+				if (clazz.getClassLoader() != loader) {
+					return "loaded " + className + " with another class loader";
+				}
+			}
+			return null;
+		} catch (Throwable t) {
+			t.printStackTrace();
+			return "failed with " + t;
+		}
+	}
+
+	static String getClassName(int index) {
+		return CLASS_NAME_PREFIX + index;
+	}
+
+	static void writeJar(File jarFile) throws IOException {
+		ZipOutputStream jar = new ZipOutputStream(new FileOutputStream(jarFile));
+		try {
+			for (int i = 0; i < CLASS_COUNT; i++) {
+				String className = getClassName(i);
+				jar.putNextEntry(new ZipEntry(className + ".class"));
+				jar.write(getClassBytes(className));
+				jar.closeEntry();
+			}
+		} finally {
+			jar.close();
+		}
+	}
+
+	/**
+	 * @return the class file of an empty class, which keeps the ROMClasses small enough for
+	 * thousands of them to fit in the cache
+	 */
+	static byte[] getClassBytes(String className) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0xCAFEBABE);
+		out.writeShort(0); /* minor version */
+		out.writeShort(49); /* major version */
+		out.writeShort(5); /* constant pool count */
+		out.writeByte(1); /* #1 CONSTANT_Utf8 */
+		out.writeUTF(className);
+		out.writeByte(7); /* #2 CONSTANT_Class #1 */
+		out.writeShort(1);
+		out.writeByte(1); /* #3 CONSTANT_Utf8 */
+		out.writeUTF("java/lang/Object");
+		out.writeByte(7); /* #4 CONSTANT_Class #3 */
+		out.writeShort(3);
+		out.writeShort(0x0021); /* ACC_PUBLIC | ACC_SUPER */
+		out.writeShort(2); /* this class */
+		out.writeShort(4); /* super class */
+		out.writeShort(0); /* interfaces */
+		out.writeShort(0); /* fields */
+		out.writeShort(0); /* methods */
+		out.writeShort(0); /* attributes */
+		out.close();
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package j9vm.test.sharedclasses;
+
+import java.io.File;
+import java.io.IOException;
+
+import j9vm.runner.Runner;
+
+/**
+ * This test ensures that classes looked up in the shared class cache without the manager mutex are
+ * the classes that were asked for, while other threads add classes and the hashtables grow.
+ * This test runs following commands:
+ * 1. First command creates a new shared cache, then loads the same classes from several threads.
+ * 2. Second command re-uses the shared cache, so that every class is found in it.
+ * 3. Third command destroys the shared cache.
+ *
+ * The bootstrap classes are not stored, and the cache is small, so that the hashtables are sized
+ * for far fewer classes than the test loads.
+ */
+public class ConcurrentLookupTestRunner extends Runner {
+	private static final int NUM_COMMANDS = 3;
+	private static int commandIndex = 0;
+	private static String jarFile;
+
+	public ConcurrentLookupTestRunner(String className, String exeName,
+			String bootClassPath, String userClassPath, String javaVersion) throws IOException {
+		super(className, exeName, bootClassPath, userClassPath, javaVersion);
+		File tempFile = File.createTempFile("ConcurrentLookupTest", ".jar");
+		tempFile.deleteOnExit();
+		jarFile = tempFile.getAbsolutePath();
+	}
+
+	/* Overrides method in j9vm.runner.Runner. */
+	public String getCustomCommandLineOptions() {
+		String customOptions = super.getCustomCommandLineOptions();
+		switch(commandIndex) {
+		case 0:
+			/* create a cold cache */
+			customOptions += "-Xshareclasses:name=concurrentlookuptest,noBootclasspath,reset -Xscmx2m ";
+			break;
+		case 1:
+			/* use warm cache created by previous command */
+			customOptions += "-Xshareclasses:name=concurrentlookuptest,noBootclasspath ";
+			break;
+		case 2:
+			/* cleanup - destroy the cache */
+			customOptions += "-Xshareclasses:name=concurrentlookuptest,destroy ";
+			break;
+		}
+		return customOptions;
+	}
+
+	/* Overrides method in j9vm.runner.Runner. */
+	public String getTestClassArguments() {
+		switch(commandIndex) {
+		case 0:
+			return "coldcache " + jarFile;
+		case 1:
+			return "warmcache " + jarFile;
+		default:
+			return "";
+		}
+	}
+
+	/* Overrides method in j9vm.runner.Runner. */
+	public boolean run() {
+		boolean success = false;
+		for (int i = 0; i < NUM_COMMANDS; i++) {
+			commandIndex = i;
+			success = super.run();
+			if (commandIndex == 2) {
+				/* -Xshareclasses:destroy returns non-zero exit code */
+				success = true;
+			}
+			if (success == false) {
+				break;
+			}
+		}
+		return success;
+	}
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.tests.garbagecollector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gives -Xcheck:gc a heap worth checking: a long lived graph of objects and arrays spread over the heap,
+ * ownable synchronizers held by other threads, and classes defined by several class loaders, while short
+ * lived garbage keeps the collector running. The check runs at every collection; the program itself only
+ * verifies that the graph is intact at the end.
+ *
+ * Prints PASS, or FAIL with the first node that was damaged.
+ */
+public class GCCheckWorkload
+{
+	private static final int NODES = 16 * 1024;
+	private static final int LOCKS = 64;
+	private static final int LOADERS = 8;
+	private static final int ROUNDS = 16;
+	private static final int CHURN_BYTES = 8 * 1024 * 1024;
+
+	private static final class Node
+	{
+		final int id;
+		Node next;
+		Object[] links = new Object[4];
+		long[] payload;
+
+		Node(int id)
+		{
+			this.id = id;
+			this.payload = new long[id % 32];
+			for (int i = 0; i < payload.length; i++) {
+				payload[i] = ((long)id << 32) | i;
+			}
+		}
+	}
+
+	private static Node[] _nodes;
+	public static Object _churn;
+
+	private static void churn()
+	{
+		for (int allocated = 0; allocated < CHURN_BYTES; allocated += 1024) {
+			_churn = new Object[128];
+		}
+		_churn = null;
+	}
+
+	/* Relink the graph, so that old nodes keep being updated to point at young ones */
+	private static void relink(int round)
+	{
+		for (int i = 0; i < NODES; i++) {
+			Node node = _nodes[i];
+			node.next = _nodes[(i + round + 1) % NODES];
+			node.links[round % node.links.length] = _nodes[(i * 7 + round) % NODES];
+			if (0 == (i % 64)) {
+				/* replace some nodes by young copies */
+				Node copy = new Node(node.id);
+				copy.links = node.links;
+				_nodes[i] = copy;
+			}
+		}
+		for (int i = 0; i < NODES; i++) {
+			_nodes[i].next = _nodes[(i + round + 1) % NODES];
+		}
+	}
+
+	private static String verify()
+	{
+		for (int i = 0; i < NODES; i++) {
+			Node node = _nodes[i];
+			if ((node.id != i) || (node.payload.length != (i % 32)) || (node.next != _nodes[(i + ROUNDS) % NODES])) {
+				return "FAIL: node " + i + " was damaged";
+			}
+			for (int j = 0; j < node.payload.length; j++) {
+				if (node.payload[j] != (((long)i << 32) | j)) {
+					return "FAIL: payload of node " + i + " was damaged";
+				}
+			}
+		}
+		return null;
+	}
+
+	private static byte[] readClass(String name) throws Exception
+	{
+		InputStream in = GCCheckWorkload.class.getClassLoader().getResourceAsStream(name.replace('.', '/') + ".class");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		for (int read = in.read(buffer); read > 0; read = in.read(buffer)) {
+			bytes.write(buffer, 0, read);
+		}
+		in.close();
+		return bytes.toByteArray();
+	}
+
+	/* Keep ownable synchronizers locked by other threads while the heap is checked */
+	private static Thread[] holdLocks(final ReentrantLock[] locks, final CountDownLatch release) throws InterruptedException
+	{
+		final CountDownLatch locked = new CountDownLatch(locks.length);
+		Thread[] holders = new Thread[locks.length];
+		for (int i = 0; i < locks.length; i++) {
+			final ReentrantLock lock = locks[i];
+			holders[i] = new Thread() {
+				public void run()
+				{
+					lock.lock();
+					try {
+						locked.countDown();
+						release.await();
+					} catch (InterruptedException e) {
+						/* exit */
+					} finally {
+						lock.unlock();
+					}
+				}
+			};
+			holders[i].start();
+		}
+		locked.await();
+		return holders;
+	}
+
+	public static void main(String[] args) throws Exception
+	{
+		_nodes = new Node[NODES];
+		for (int i = 0; i < NODES; i++) {
+			_nodes[i] = new Node(i);
+		}
+
+		ReentrantLock[] locks = new ReentrantLock[LOCKS];
+		for (int i = 0; i < LOCKS; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		CountDownLatch release = new CountDownLatch(1);
+		Thread[] holders = holdLocks(locks, release);
+
+		Object[] instances = new Object[LOADERS];
+		byte[] classBytes = readClass(TestClassLoaderMain.TEST_CLASS_NAME);
+		for (int i = 0; i < LOADERS; i++) {
+			instances[i] = new TestClassLoader(classBytes).newInstance();
+		}
+
+		for (int round = 0; round < ROUNDS; round++) {
+			relink(round);
+			churn();
+		}
+		System.gc();
+
+		release.countDown();
+		for (Thread holder : holders) {
+			holder.join();
+		}
+		/* the classes must stay reachable until here */
+		String failure = verify();
+		for (int i = 0; (null == failure) && (i < LOADERS); i++) {
+			if (instances[i].getClass().getClassLoader() == GCCheckWorkload.class.getClassLoader()) {
+				failure = "FAIL: instance " + i + " was not defined by its own class loader";
+			}
+		}
+		System.gc();
+
+		System.out.println((null == failure) ? "PASS" : failure);
+	}
+}
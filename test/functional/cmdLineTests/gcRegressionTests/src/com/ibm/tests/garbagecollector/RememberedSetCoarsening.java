@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package com.ibm.tests.garbagecollector;
+
+/**
+ * Makes the remembered set card lists of a few regions much larger than -XXgc:tarokRememberedSetCardListMaxSize.
+ *
+ * Many long lived holders, each on a card of its own, all reference a small set of young targets. The regions
+ * holding the targets are therefore referenced from every card of every holder region. Each partial collection
+ * that moves the targets has to find the holders through those card lists, so with coarse remembered sets
+ * enabled every holder is only updated if the coarse bitmap reports every card of its region. A holder that
+ * was missed still points at the old copy of its target, which the checks below detect.
+ *
+ * Prints PASS, or FAIL with the first holder that lost its target.
+ */
+public class RememberedSetCoarsening
+{
+	private static final int HOLDERS = 32 * 1024;
+	private static final int TARGETS = 256;
+	private static final int CARD_SIZE = 512;
+	private static final int ROUNDS = 8;
+	private static final int COLLECTIONS_PER_ROUND = 4;
+	private static final int CHURN_BYTES = 64 * 1024 * 1024;
+
+	private static final class Target
+	{
+		final int id;
+		final int check;
+
+		Target(int id)
+		{
+			this.id = id;
+			this.check = checksum(id);
+		}
+	}
+
+	private static final class Holder
+	{
+		Target target;
+		int expectedId;
+		/* keeps the next holder on another card */
+		final byte[] padding = new byte[CARD_SIZE];
+	}
+
+	private static Holder[] _holders;
+	private static Target[] _targets;
+	public static Object _churn;
+
+	private static int checksum(int id)
+	{
+		return (id * 31) ^ 0x5a5a5a5a;
+	}
+
+	/* Allocate enough short lived objects for a few partial collections */
+	private static void churn()
+	{
+		for (int allocated = 0; allocated < CHURN_BYTES; allocated += 4096) {
+			_churn = new byte[4096];
+		}
+		_churn = null;
+	}
+
+	private static String verify(int round, String when)
+	{
+		for (int i = 0; i < HOLDERS; i++) {
+			Holder holder = _holders[i];
+			Target target = holder.target;
+			if ((null == target) || (target != _targets[holder.expectedId]) || (target.id != holder.expectedId) || (target.check != checksum(target.id))) {
+				return "FAIL: holder " + i + " lost its target " + holder.expectedId + " " + when + " in round " + round;
+			}
+		}
+		return null;
+	}
+
+	public static void main(String[] args)
+	{
+		_holders = new Holder[HOLDERS];
+		for (int i = 0; i < HOLDERS; i++) {
+			_holders[i] = new Holder();
+		}
+		/* let the holders age out of eden */
+		for (int i = 0; i < COLLECTIONS_PER_ROUND; i++) {
+			churn();
+		}
+
+		String failure = null;
+		for (int round = 0; (round < ROUNDS) && (null == failure); round++) {
+			/* fresh young targets, referenced from every holder */
+			_targets = new Target[TARGETS];
+			for (int i = 0; i < TARGETS; i++) {
+				_targets[i] = new Target(i);
+			}
+			for (int i = 0; i < HOLDERS; i++) {
+				int id = (i + round) % TARGETS;
+				_holders[i].target = _targets[id];
+				_holders[i].expectedId = id;
+			}
+
+			for (int collection = 0; (collection < COLLECTIONS_PER_ROUND) && (null == failure); collection++) {
+				churn();
+				failure = verify(round, "after partial collection " + collection);
+			}
+		}
+
+		if (null == failure) {
+			System.gc();
+			failure = verify(ROUNDS, "after a global collection");
+		}
+
+		System.out.println((null == failure) ? "PASS" : failure);
+	}
+}
@@ -28,6 +28,7 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.ByteBuffer;
 import java.io.ByteArrayOutputStream;
+import java.util.Map;
 
 import com.ibm.oti.shared.Shared;
 import com.ibm.oti.shared.SharedDataHelper;
@@ -162,4 +163,31 @@ public class DataCachingClassLoader extends URLClassLoader {
 		bBuffer = sdHelper.storeSharedData(token, bBuffer);
 		return (bBuffer!=null);
 	}
+
+	public ByteBuffer[] findInCache(String[] tokens) {
+		return sdHelper.findSharedData(tokens);
+	}
+
+	public Map<String, ByteBuffer> findInCacheWithPrefix(String prefix) {
+		return sdHelper.findSharedDataWithPrefix(prefix);
+	}
+
+	public ByteBuffer[] forceStore(String[] tokens, String[] data) {
+		ByteBuffer[] bBuffers = new ByteBuffer[data.length];
+		for (int i = 0; i < data.length; i++) {
+			bBuffers[i] = toDirectBuffer(data[i]);
+		}
+		return sdHelper.storeSharedData(tokens, bBuffers);
+	}
+
+	public ByteBuffer replace(String token, ByteBuffer expectedData, String data) {
+		return sdHelper.replaceSharedData(token, expectedData, toDirectBuffer(data));
+	}
+
+	private static ByteBuffer toDirectBuffer(String data) {
+		byte[] dataBytes = data.getBytes();
+		ByteBuffer bBuffer = ByteBuffer.allocateDirect(dataBytes.length);
+		bBuffer.put(dataBytes);
+		return bBuffer;
+	}
 }
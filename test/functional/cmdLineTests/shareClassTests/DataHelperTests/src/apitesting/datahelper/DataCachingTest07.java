@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package apitesting.datahelper;
+
+import java.nio.ByteBuffer;
+
+import CustomClassloaders.DataCachingClassLoader;
+
+/**
+ * Batches - store and find the data for several tokens in one call.
+ */
+public class DataCachingTest07 extends DataCachingTestbase {
+
+	public static void main(String[] args) {
+		new DataCachingTest07().run();
+	}
+
+	public void run() {
+		log("storing and finding a batch of tokens");
+		DataCachingClassLoader classLoader = getDataCachingLoader(CLASSPATH_JARONE);
+		String[] tokens = new String[] { "batch.fileone", null, "batch.filetwo" };
+		String[] contents = new String[] { "batch contents one", "ignored contents", "batch contents two" };
+
+		log("make sure the tokens we are testing are not in the cache already");
+		ByteBuffer[] found = classLoader.findInCache(tokens);
+		if (found==null || found.length!=tokens.length) fail("findSharedData(String[]) should return one element per token");
+		for (int i = 0; i < found.length; i++) {
+			if (found[i]!=null) fail("'"+tokens[i]+"' should not already be in the cache");
+		}
+
+		log("store the batch, the null token should be ignored");
+		ByteBuffer[] stored = classLoader.forceStore(tokens, contents);
+		if (stored==null || stored.length!=tokens.length) fail("storeSharedData(String[],ByteBuffer[]) should return one element per token");
+		if (stored[1]!=null) fail("data should not be stored for a null token");
+		for (int i = 0; i < stored.length; i += 2) {
+			if (stored[i]==null) fail("storeSharedData('"+tokens[i]+"',...) has failed!");
+			if (!stored[i].isReadOnly()) fail("the data stored for '"+tokens[i]+"' should be read-only");
+			readAndCheck(DataCachingClassLoader.newInputStream(stored[i]), contents[i]);
+		}
+
+		log("find the batch in a different order, including a token that was never stored");
+		found = classLoader.findInCache(new String[] { "batch.filetwo", "batch.filethree", "batch.fileone", null });
+		if (found==null || found.length!=4) fail("findSharedData(String[]) should return one element per token");
+		readAndCheck(DataCachingClassLoader.newInputStream(found[0]), contents[2]);
+		if (found[1]!=null) fail("'batch.filethree' should not be found in the cache");
+		readAndCheck(DataCachingClassLoader.newInputStream(found[2]), contents[0]);
+		if (found[3]!=null) fail("nothing should be found for a null token");
+		if (!found[0].isReadOnly() || !found[2].isReadOnly()) fail("the data found should be read-only");
+
+		log("each token found in a batch should match a single find");
+		readAndCheck(classLoader.findInCache("batch.fileone"), contents[0]);
+		readAndCheck(classLoader.findInCache("batch.filetwo"), contents[2]);
+
+		log("test successful");
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package apitesting.datahelper;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import CustomClassloaders.DataCachingClassLoader;
+
+/**
+ * Prefixes - find the data for every token starting with a prefix. Tokens that look like lambda class names
+ * share a hashtable key in the cache, so check that the whole token is matched against the prefix.
+ */
+public class DataCachingTest08 extends DataCachingTestbase {
+
+	static final String LAMBDA_TOKEN_ONE = "lambda.Test$$Lambda$12";
+	static final String LAMBDA_TOKEN_TWO = "lambda.Test$$Lambda$34";
+
+	public static void main(String[] args) {
+		new DataCachingTest08().run();
+	}
+
+	public void run() {
+		log("finding tokens by prefix");
+		DataCachingClassLoader classLoader = getDataCachingLoader(CLASSPATH_JARONE);
+
+		log("make sure no tokens with the prefix are in the cache already");
+		Map<String, ByteBuffer> found = classLoader.findInCacheWithPrefix("prefix.");
+		if (found==null) fail("findSharedDataWithPrefix('prefix.') has failed!");
+		if (!found.isEmpty()) fail("tokens starting with 'prefix.' should not already be in the cache");
+
+		if (!classLoader.forceStore("prefix.fileone", "prefix contents one")) fail("storeSharedData('prefix.fileone',...) has failed!");
+		if (!classLoader.forceStore("prefix.filetwo", "prefix contents two")) fail("storeSharedData('prefix.filetwo',...) has failed!");
+		if (!classLoader.forceStore("other.fileone", "other contents one")) fail("storeSharedData('other.fileone',...) has failed!");
+		log("store a second version of one token, only the latter should be found");
+		if (!classLoader.forceStore("prefix.fileone", "prefix contents one updated")) fail("storeSharedData('prefix.fileone',...) has failed!");
+
+		found = classLoader.findInCacheWithPrefix("prefix.");
+		checkFound(found, "prefix.", new String[] { "prefix.fileone", "prefix.filetwo" }, new String[] { "prefix contents one updated", "prefix contents two" });
+
+		log("a prefix equal to a whole token should find that token");
+		found = classLoader.findInCacheWithPrefix("other.fileone");
+		checkFound(found, "other.fileone", new String[] { "other.fileone" }, new String[] { "other contents one" });
+
+		log("tokens that look like lambda class names");
+		if (!classLoader.forceStore(LAMBDA_TOKEN_ONE, "lambda contents twelve")) fail("storeSharedData('"+LAMBDA_TOKEN_ONE+"',...) has failed!");
+		if (!classLoader.forceStore(LAMBDA_TOKEN_TWO, "lambda contents thirty four")) fail("storeSharedData('"+LAMBDA_TOKEN_TWO+"',...) has failed!");
+
+		found = classLoader.findInCacheWithPrefix("lambda.Test$$Lambda$");
+		checkFound(found, "lambda.Test$$Lambda$", new String[] { LAMBDA_TOKEN_ONE, LAMBDA_TOKEN_TWO }, new String[] { "lambda contents twelve", "lambda contents thirty four" });
+
+		log("a prefix longer than the lambda hashtable key should only match the whole token");
+		found = classLoader.findInCacheWithPrefix("lambda.Test$$Lambda$3");
+		checkFound(found, "lambda.Test$$Lambda$3", new String[] { LAMBDA_TOKEN_TWO }, new String[] { "lambda contents thirty four" });
+		found = classLoader.findInCacheWithPrefix("lambda.Test$$Lambda$5");
+		checkFound(found, "lambda.Test$$Lambda$5", new String[0], new String[0]);
+
+		log("a zero length prefix should find every token");
+		found = classLoader.findInCacheWithPrefix("");
+		if (found==null) fail("findSharedDataWithPrefix('') has failed!");
+		String[] allTokens = new String[] { "prefix.fileone", "prefix.filetwo", "other.fileone", LAMBDA_TOKEN_ONE, LAMBDA_TOKEN_TWO };
+		for (int i = 0; i < allTokens.length; i++) {
+			if (!found.containsKey(allTokens[i])) fail("findSharedDataWithPrefix('') did not find '"+allTokens[i]+"'");
+		}
+
+		log("test successful");
+	}
+
+	private void checkFound(Map<String, ByteBuffer> found, String prefix, String[] expectedTokens, String[] expectedContents) {
+		if (found==null) fail("findSharedDataWithPrefix('"+prefix+"') has failed!");
+		if (found.size()!=expectedTokens.length) {
+			fail("findSharedDataWithPrefix('"+prefix+"') found "+found.keySet()+", expected "+expectedTokens.length+" tokens");
+		}
+		for (int i = 0; i < expectedTokens.length; i++) {
+			ByteBuffer data = found.get(expectedTokens[i]);
+			if (data==null) fail("findSharedDataWithPrefix('"+prefix+"') did not find '"+expectedTokens[i]+"'");
+			if (!data.isReadOnly()) fail("the data found for '"+expectedTokens[i]+"' should be read-only");
+			readAndCheck(DataCachingClassLoader.newInputStream(data), expectedContents[i]);
+		}
+	}
+}
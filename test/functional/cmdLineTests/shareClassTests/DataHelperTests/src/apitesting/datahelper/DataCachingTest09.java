@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026, 2026 IBM Corp. and others
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] http://openjdk.java.net/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-GPL-2.0 WITH Assembly-exception
+ *******************************************************************************/
+package apitesting.datahelper;
+
+import java.nio.ByteBuffer;
+
+import CustomClassloaders.DataCachingClassLoader;
+
+/**
+ * Versioned replace - new data is only stored if the data expected by the caller is still the latest.
+ */
+public class DataCachingTest09 extends DataCachingTestbase {
+
+	static final String TOKEN = "replace.fileone";
+
+	public static void main(String[] args) {
+		new DataCachingTest09().run();
+	}
+
+	public void run() {
+		log("replacing data for a token");
+		DataCachingClassLoader classLoader = getDataCachingLoader(CLASSPATH_JARONE);
+
+		log("make sure the token we are testing is not in the cache already");
+		if (classLoader.findInCache(TOKEN)!=null) fail("'"+TOKEN+"' should not already be in the cache");
+
+		log("replacing with no expected data should store the first version");
+		ByteBuffer versionOne = classLoader.replace(TOKEN, null, "version one");
+		if (versionOne==null) fail("replaceSharedData('"+TOKEN+"',null,...) has failed!");
+		if (!versionOne.isReadOnly()) fail("the data stored should be read-only");
+		readAndCheck(classLoader.findInCache(TOKEN), "version one");
+
+		log("replacing with no expected data should now fail");
+		if (classLoader.replace(TOKEN, null, "not stored")!=null) fail("replaceSharedData('"+TOKEN+"',null,...) should fail when data is stored");
+		readAndCheck(classLoader.findInCache(TOKEN), "version one");
+
+		log("replacing the latest version should succeed");
+		ByteBuffer versionTwo = classLoader.replace(TOKEN, versionOne, "version two");
+		if (versionTwo==null) fail("replaceSharedData('"+TOKEN+"',versionOne,...) has failed!");
+		readAndCheck(classLoader.findInCache(TOKEN), "version two");
+
+		log("replacing a version which is no longer the latest should fail");
+		if (classLoader.replace(TOKEN, versionOne, "not stored")!=null) fail("replaceSharedData('"+TOKEN+"',versionOne,...) should fail once versionOne is stale");
+		readAndCheck(classLoader.findInCache(TOKEN), "version two");
+
+		log("the data found for a token can be used as the expected data");
+		ByteBuffer found = classLoader.findInCache(new String[] { TOKEN })[0];
+		if (found==null) fail("should have found '"+TOKEN+"' but no data retrieved");
+		ByteBuffer versionThree = classLoader.replace(TOKEN, found, "version three");
+		if (versionThree==null) fail("replaceSharedData('"+TOKEN+"',found,...) has failed!");
+		readAndCheck(DataCachingClassLoader.newInputStream(versionThree), "version three");
+		readAndCheck(classLoader.findInCache(TOKEN), "version three");
+
+		log("replacing after another store should fail");
+		if (!classLoader.forceStore(TOKEN, "version four")) fail("storeSharedData('"+TOKEN+"',...) has failed!");
+		if (classLoader.replace(TOKEN, versionThree, "not stored")!=null) fail("replaceSharedData('"+TOKEN+"',versionThree,...) should fail after another store");
+		readAndCheck(classLoader.findInCache(TOKEN), "version four");
+
+		log("test successful");
+	}
+}